@@ -0,0 +1,131 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
+import tachyon.master.LocalTachyonCluster;
+
+/**
+ * Throughput of reading a cached file through the client streams. The local read maps the block
+ * files of the worker, while the remote reads fetch the blocks from the data server of the worker,
+ * like a client on another host would. Each operation reads the whole file. The local read and the
+ * remote scan go through {@link FileInStream}, which opens up to the given number of blocks ahead
+ * while it scans the file; the remote read reads one block stream after the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FileInStreamBenchmark {
+  private static final int BLOCK_SIZE_BYTES = 16 * Constants.MB;
+
+  @Param({"1", "64"})
+  public int mFileSizeMB;
+
+  @Param({"65536"})
+  public int mBufferSizeBytes;
+
+  @Param({"0", "1", "4"})
+  public int mReadAheadBlocks;
+
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private TachyonFile mFile = null;
+  private TachyonConf mLocalConf = null;
+  private TachyonConf mRemoteConf = null;
+  private TachyonConf mRemoteScanConf = null;
+  private byte[] mBuffer = null;
+
+  @Setup
+  public void before() throws IOException {
+    mLocalTachyonCluster = new LocalTachyonCluster(Constants.GB, Constants.MB, BLOCK_SIZE_BYTES);
+    mLocalTachyonCluster.start();
+    TachyonFS tfs = mLocalTachyonCluster.getClient();
+    int fileId =
+        TestUtils.createByteFile(tfs, "/file", WriteType.MUST_CACHE, mFileSizeMB * Constants.MB);
+    mFile = tfs.getFile(fileId);
+    mLocalConf = new TachyonConf(mLocalTachyonCluster.getMasterTachyonConf());
+    mLocalConf.set(Constants.USER_FILE_READ_AHEAD_BLOCKS, Integer.toString(mReadAheadBlocks));
+    mRemoteConf = new TachyonConf(mLocalTachyonCluster.getMasterTachyonConf());
+    mRemoteConf.set(Constants.USER_REMOTE_READ_BUFFER_SIZE_BYTE,
+        Integer.toString(mBufferSizeBytes));
+    mRemoteScanConf = new TachyonConf(mRemoteConf);
+    mRemoteScanConf.set(Constants.USER_FILE_READ_AHEAD_BLOCKS, Integer.toString(mReadAheadBlocks));
+    mBuffer = new byte[mBufferSizeBytes];
+  }
+
+  @TearDown
+  public void after() throws Exception {
+    mLocalTachyonCluster.stop();
+  }
+
+  private long readFully(InStream is) throws IOException {
+    long bytes = 0;
+    try {
+      int read;
+      while ((read = is.read(mBuffer)) != -1) {
+        bytes += read;
+      }
+    } finally {
+      is.close();
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  public long readLocal() throws IOException {
+    return readFully(new FileInStream(mFile, ReadType.NO_CACHE, mLocalConf));
+  }
+
+  @Benchmark
+  public long readRemoteScan() throws IOException {
+    // Read the blocks from the data server even though the worker is local
+    return readFully(new FileInStream(mFile, ReadType.NO_CACHE, mRemoteScanConf) {
+      @Override
+      BlockInStream openBlockInStream(int blockIndex) throws IOException {
+        return new RemoteBlockInStream(mFile, ReadType.NO_CACHE, blockIndex, mRemoteScanConf);
+      }
+    });
+  }
+
+  @Benchmark
+  public long readRemote() throws IOException {
+    long bytes = 0;
+    for (int k = 0; k < mFile.getNumberOfBlocks(); k ++) {
+      bytes += readFully(new RemoteBlockInStream(mFile, ReadType.NO_CACHE, k, mRemoteConf));
+    }
+    return bytes;
+  }
+}
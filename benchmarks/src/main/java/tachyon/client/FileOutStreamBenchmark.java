@@ -0,0 +1,107 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.TestUtils;
+import tachyon.master.LocalTachyonCluster;
+
+/**
+ * Throughput of writing a file through the client streams, to the local worker (MUST_CACHE), to
+ * the under file system (THROUGH) or to both (CACHE_THROUGH). Each operation creates, writes and
+ * completes one file, which is deleted before the next operation so the worker never evicts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FileOutStreamBenchmark {
+  private static final int BLOCK_SIZE_BYTES = 16 * Constants.MB;
+
+  @Param({"1", "64"})
+  public int mFileSizeMB;
+
+  @Param({"65536"})
+  public int mBufferSizeBytes;
+
+  @Param({"MUST_CACHE", "CACHE_THROUGH", "THROUGH"})
+  public WriteType mWriteType;
+
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private TachyonFS mTfs = null;
+  private byte[] mBuffer = null;
+  private int mFileNum = 0;
+  private TachyonURI mPath = null;
+
+  @Setup
+  public void before() throws IOException {
+    mLocalTachyonCluster = new LocalTachyonCluster(Constants.GB, Constants.MB, BLOCK_SIZE_BYTES);
+    mLocalTachyonCluster.start();
+    mTfs = mLocalTachyonCluster.getClient();
+    mBuffer = TestUtils.getIncreasingByteArray(mBufferSizeBytes);
+  }
+
+  @TearDown
+  public void after() throws Exception {
+    mLocalTachyonCluster.stop();
+  }
+
+  @Setup(Level.Invocation)
+  public void beforeWrite() {
+    mPath = new TachyonURI("/file_" + (mFileNum ++));
+  }
+
+  @TearDown(Level.Invocation)
+  public void afterWrite() throws IOException {
+    mTfs.delete(mPath, false);
+  }
+
+  @Benchmark
+  public void write() throws IOException {
+    int fileId = mTfs.createFile(mPath);
+    OutStream os = mTfs.getFile(fileId).getOutStream(mWriteType);
+    try {
+      long remaining = (long) mFileSizeMB * Constants.MB;
+      while (remaining > 0) {
+        int length = (int) Math.min(remaining, mBuffer.length);
+        os.write(mBuffer, 0, length);
+        remaining -= length;
+      }
+    } finally {
+      os.close();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.UnderFileSystem;
+import tachyon.conf.TachyonConf;
+
+/**
+ * Throughput of logging an operation to the {@link EditLog} and waiting until it is durable, as
+ * the master does for each metadata change. Run it with several threads (-t) to measure how many
+ * operations share a sync in group commit mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EditLogBenchmark {
+  @Param({"false", "true"})
+  public boolean mGroupCommit;
+
+  private String mFolder = null;
+  private TachyonConf mTachyonConf = null;
+  private EditLog mEditLog = null;
+
+  @Setup
+  public void before() throws IOException {
+    mFolder =
+        File.createTempFile("Tachyon", "").getAbsoluteFile() + "U" + System.currentTimeMillis();
+    new File(mFolder).mkdirs();
+    mTachyonConf = new TachyonConf();
+    mTachyonConf.set(Constants.MASTER_JOURNAL_GROUP_COMMIT_ENABLED,
+        Boolean.toString(mGroupCommit));
+    mEditLog = new EditLog(mFolder + "/log.data", false, 0, mTachyonConf);
+  }
+
+  @TearDown
+  public void after() throws IOException {
+    mEditLog.close();
+    UnderFileSystem.get(mFolder, mTachyonConf).delete(mFolder, true);
+  }
+
+  @Benchmark
+  public long appendFlush() {
+    long transactionId = mEditLog.addBlock(1, 0, Constants.MB, System.currentTimeMillis());
+    mEditLog.flush(transactionId);
+    return transactionId;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.security.UserGroup;
+import tachyon.security.authentication.TSetUserProcessor;
+import tachyon.thrift.ClientFileInfo;
+
+/**
+ * Throughput of the metadata operations of {@link MasterInfo}, called directly on the master of a
+ * {@link LocalTachyonCluster} whose namespace holds the given number of files in one folder. The
+ * files created by the createFile benchmark go to a separate folder, deleted after each iteration,
+ * so the namespace keeps its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MasterInfoBenchmark {
+  /** The state of each benchmark thread, which every benchmark takes to run as a user */
+  @State(Scope.Thread)
+  public static class Caller {
+    private int mNextFile = 0;
+
+    @Setup
+    public void before() throws IOException {
+      // MasterInfo reads the user of the call from the thread, as set by the thrift processor
+      TSetUserProcessor.setRemoteUser(UserGroup.getTachyonLoginUser());
+    }
+
+    int nextFile(int files) {
+      mNextFile = (mNextFile + 1) % files;
+      return mNextFile;
+    }
+  }
+
+  private static final int BATCH_SIZE = 1000;
+  private static final TachyonURI FOLDER = new TachyonURI("/folder");
+  private static final TachyonURI CREATE_FOLDER = new TachyonURI("/create");
+
+  @Param({"1000", "10000", "100000"})
+  public int mNamespaceSize;
+
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private MasterInfo mMasterInfo = null;
+  private TachyonURI[] mPaths = null;
+  private int mCreatedFiles = 0;
+
+  @Setup
+  public void before() throws Exception {
+    mLocalTachyonCluster = new LocalTachyonCluster(Constants.GB, Constants.MB, Constants.GB);
+    mLocalTachyonCluster.start();
+    mMasterInfo = mLocalTachyonCluster.getMasterInfo();
+    mPaths = new TachyonURI[mNamespaceSize];
+    for (int k = 0; k < mNamespaceSize; k ++) {
+      mPaths[k] = FOLDER.join("file_" + k);
+    }
+    for (int start = 0; start < mNamespaceSize; start += BATCH_SIZE) {
+      List<TachyonURI> batch = new ArrayList<TachyonURI>(BATCH_SIZE);
+      for (int k = start; k < Math.min(start + BATCH_SIZE, mNamespaceSize); k ++) {
+        batch.add(mPaths[k]);
+      }
+      mMasterInfo.createFiles(batch, Constants.MB, true);
+    }
+  }
+
+  @TearDown
+  public void after() throws Exception {
+    mLocalTachyonCluster.stop();
+  }
+
+  @TearDown(Level.Iteration)
+  public void afterIteration() throws Exception {
+    mMasterInfo.delete(CREATE_FOLDER, true);
+  }
+
+  @Benchmark
+  public int createFile(Caller caller) throws Exception {
+    int fileNum;
+    synchronized (this) {
+      fileNum = mCreatedFiles ++;
+    }
+    return mMasterInfo.createFile(CREATE_FOLDER.join("file_" + fileNum), Constants.MB);
+  }
+
+  @Benchmark
+  public ClientFileInfo getClientFileInfo(Caller caller) throws Exception {
+    return mMasterInfo.getClientFileInfo(mPaths[caller.nextFile(mNamespaceSize)]);
+  }
+
+  @Benchmark
+  public List<TachyonURI> ls(Caller caller) throws Exception {
+    return mMasterInfo.ls(FOLDER, false);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.TestUtils;
+import tachyon.util.CommonUtils;
+
+/**
+ * Throughput of {@link BlockHandlerLocal} reads and appends of one chunk, on a block file in the
+ * temporary folder. Reads copy the mapped chunk out, like the data server does when sending it.
+ * Appends walk through the block and wrap around at its end, so the file never outgrows it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BlockHandlerBenchmark {
+  private static final long BLOCK_SIZE_BYTES = 64 * Constants.MB;
+
+  @Param({"4096", "65536", "1048576"})
+  public int mChunkSizeBytes;
+
+  private File mBlockFile = null;
+  private BlockHandler mHandler = null;
+  private ByteBuffer mChunk = null;
+  private byte[] mReadBuffer = null;
+  private long mAppendOffset = 0;
+  private long mReadOffset = 0;
+
+  @Setup
+  public void before() throws IOException {
+    mBlockFile = File.createTempFile("BlockHandlerBenchmark", ".block");
+    mHandler = BlockHandler.get(mBlockFile.getAbsolutePath());
+    mChunk = TestUtils.getIncreasingByteBuffer(mChunkSizeBytes);
+    for (long offset = 0; offset < BLOCK_SIZE_BYTES; offset += mChunkSizeBytes) {
+      mChunk.rewind();
+      mHandler.append(offset, mChunk);
+    }
+    mReadBuffer = new byte[mChunkSizeBytes];
+  }
+
+  @TearDown
+  public void after() throws IOException {
+    mHandler.delete();
+    mHandler.close();
+  }
+
+  private long nextOffset(long offset) {
+    offset += mChunkSizeBytes;
+    return offset + mChunkSizeBytes > BLOCK_SIZE_BYTES ? 0 : offset;
+  }
+
+  @Benchmark
+  public int append() throws IOException {
+    mChunk.rewind();
+    int written = mHandler.append(mAppendOffset, mChunk);
+    mAppendOffset = nextOffset(mAppendOffset);
+    return written;
+  }
+
+  @Benchmark
+  public byte read() throws IOException {
+    ByteBuffer buf = mHandler.read(mReadOffset, mChunkSizeBytes);
+    buf.get(mReadBuffer);
+    CommonUtils.cleanDirectBuffer(buf);
+    mReadOffset = nextOffset(mReadOffset);
+    return mReadBuffer[mChunkSizeBytes - 1];
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.TestUtils;
+import tachyon.client.RemoteBlockReader;
+import tachyon.client.TachyonFS;
+import tachyon.client.WriteType;
+import tachyon.master.BlockInfo;
+import tachyon.master.LocalTachyonCluster;
+import tachyon.thrift.NetAddress;
+
+/**
+ * Throughput of reading block ranges from the data server of a {@link LocalTachyonCluster} worker,
+ * through the configured {@link RemoteBlockReader}, one range per request or a batch of ranges per
+ * request. The data server class is chosen with -Dtachyon.worker.data.server.class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DataServerBenchmark {
+  private static final int BLOCK_SIZE_BYTES = 16 * Constants.MB;
+  private static final int BATCH_SIZE = 16;
+
+  @Param({"4096", "65536", "1048576"})
+  public int mChunkSizeBytes;
+
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private NetAddress mWorkerAddress = null;
+  private RemoteBlockReader mReader = null;
+  private long mBlockId;
+  private long[] mBlockIds = null;
+  private long[] mLengths = null;
+  private long mOffset = 0;
+
+  @Setup
+  public void before() throws IOException {
+    mLocalTachyonCluster = new LocalTachyonCluster(Constants.GB, Constants.MB, BLOCK_SIZE_BYTES);
+    mLocalTachyonCluster.start();
+    TachyonFS tfs = mLocalTachyonCluster.getClient();
+    int fileId = TestUtils.createByteFile(tfs, "/file", WriteType.MUST_CACHE, BLOCK_SIZE_BYTES);
+    mBlockId = BlockInfo.computeBlockId(fileId, 0);
+    mWorkerAddress = mLocalTachyonCluster.getWorkerAddress();
+    mReader = RemoteBlockReader.Factory.createRemoteBlockReader(
+        mLocalTachyonCluster.getMasterTachyonConf());
+    mBlockIds = new long[BATCH_SIZE];
+    Arrays.fill(mBlockIds, mBlockId);
+    mLengths = new long[BATCH_SIZE];
+    Arrays.fill(mLengths, mChunkSizeBytes);
+  }
+
+  @TearDown
+  public void after() throws Exception {
+    mLocalTachyonCluster.stop();
+  }
+
+  /**
+   * @param count the number of chunks to read
+   * @return the offsets of the next chunks, which walk through the block
+   */
+  private synchronized long[] nextOffsets(int count) {
+    long[] offsets = new long[count];
+    for (int k = 0; k < count; k ++) {
+      if (mOffset + mChunkSizeBytes > BLOCK_SIZE_BYTES) {
+        mOffset = 0;
+      }
+      offsets[k] = mOffset;
+      mOffset += mChunkSizeBytes;
+    }
+    return offsets;
+  }
+
+  @Benchmark
+  public ByteBuffer readRange() throws IOException {
+    return mReader.readRemoteBlock(mWorkerAddress.mHost, mWorkerAddress.mSecondaryPort, mBlockId,
+        nextOffsets(1)[0], mChunkSizeBytes);
+  }
+
+  @Benchmark
+  public List<ByteBuffer> readRanges() throws IOException {
+    return mReader.readRemoteBlocks(mWorkerAddress.mHost, mWorkerAddress.mSecondaryPort,
+        mBlockIds, nextOffsets(BATCH_SIZE), mLengths);
+  }
+}
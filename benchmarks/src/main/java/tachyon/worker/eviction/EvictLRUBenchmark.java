@@ -0,0 +1,126 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.eviction;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tachyon.Constants;
+import tachyon.Pair;
+import tachyon.StorageLevelAlias;
+import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.BlockHandler;
+import tachyon.worker.hierarchy.BlockInfo;
+import tachyon.worker.hierarchy.StorageDir;
+import tachyon.worker.hierarchy.StorageTier;
+
+/**
+ * Throughput of selecting the blocks to evict with {@link EvictLRU}, from a full tier of several
+ * directories holding the given number of blocks each. The selection only reads the directories,
+ * so every operation sees the same blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EvictLRUBenchmark {
+  private static final long USER_ID = 1;
+  private static final int DIRS = 4;
+  private static final int BLOCK_SIZE_BYTES = Constants.KB;
+
+  @Param({"100", "1000"})
+  public int mBlocksPerDir;
+
+  /** The number of blocks to make room for */
+  @Param({"1", "16"})
+  public int mRequestBlocks;
+
+  private String mTachyonHome = null;
+  private StorageTier mStorageTier = null;
+  private StorageDir[] mStorageDirs = null;
+  private final Set<Integer> mPinList = new HashSet<Integer>();
+  private final EvictStrategy mEviction = new EvictLRU(true);
+
+  @Setup
+  public void before() throws IOException {
+    mTachyonHome =
+        File.createTempFile("Tachyon", "").getAbsoluteFile() + "U" + System.currentTimeMillis();
+    String[] dirPaths = new String[DIRS];
+    long[] dirCapacities = new long[DIRS];
+    for (int k = 0; k < DIRS; k ++) {
+      dirPaths[k] = mTachyonHome + "/ramdisk/dir" + k;
+      dirCapacities[k] = (long) mBlocksPerDir * BLOCK_SIZE_BYTES;
+    }
+    mStorageTier = new StorageTier(0, StorageLevelAlias.MEM, dirPaths, dirCapacities, "/data",
+        "/user", null, null, new TachyonConf());
+    mStorageTier.initialize();
+    mStorageDirs = mStorageTier.getStorageDirs();
+
+    ByteBuffer data = TestUtils.getIncreasingByteBuffer(BLOCK_SIZE_BYTES);
+    int fileId = 0;
+    for (int k = 0; k < mBlocksPerDir; k ++) {
+      for (StorageDir dir : mStorageDirs) {
+        data.rewind();
+        createBlockFile(dir, tachyon.master.BlockInfo.computeBlockId(++ fileId, 0), data);
+      }
+    }
+  }
+
+  @TearDown
+  public void after() throws IOException {
+    mStorageDirs[0].getUfs().delete(mTachyonHome, true);
+  }
+
+  private void createBlockFile(StorageDir dir, long blockId, ByteBuffer data) throws IOException {
+    dir.getUfs().mkdirs(dir.getUserTempPath(USER_ID), true);
+    BlockHandler handler = BlockHandler.get(dir.getUserTempFilePath(USER_ID, blockId));
+    dir.requestSpace(USER_ID, data.limit());
+    dir.updateTempBlockAllocatedBytes(USER_ID, blockId, data.limit());
+    try {
+      handler.append(0, data);
+    } finally {
+      handler.close();
+    }
+    dir.cacheBlock(USER_ID, blockId);
+  }
+
+  @Benchmark
+  public Pair<StorageDir, List<BlockInfo>> getDirCandidate() {
+    return mEviction.getDirCandidate(mStorageDirs, mPinList,
+        (long) mRequestBlocks * BLOCK_SIZE_BYTES);
+  }
+}
@@ -16,6 +16,7 @@
 package tachyon;
 
 import tachyon.client.RemoteBlockReader;
+import tachyon.client.RemoteBlockWriter;
 import tachyon.worker.DataServer;
 
 /**
@@ -65,6 +66,7 @@ public class Constants {
   /** Security - Authentication */
   public static final String TACHYON_SECURITY_AUTHENTICATION = "tachyon.security.authentication";
   public static final String TACHYON_SECURITY_USE_SSL = "tachyon.security.use.ssl";
+  public static final String TACHYON_SECURITY_NOSASL_USER = "tachyon.security.nosasl.user";
   /** Security - group Mapping */
   public static final String TACHYON_SECURITY_GROUP_MAPPING = "tachyon.security.group.mapping";
   public static final String TACHYON_SECURITY_GROUPS_CACHE_SECS =
@@ -81,8 +83,6 @@ public class Constants {
 
   public static final int DEFAULT_BLOCK_SIZE_BYTE = 512 * MB;
 
-  public static final int WORKER_BLOCKS_QUEUE_SIZE = 10000;
-
   public static final String LOGGER_TYPE = System.getProperty("tachyon.logger.type", "");
   public static final boolean DEBUG = Boolean.valueOf(System.getProperty("tachyon.debug", "false"));
 
@@ -139,11 +139,28 @@ public class Constants {
   public static final String MASTER_HEARTBEAT_INTERVAL_MS = "tachyon.master.heartbeat.interval.ms";
   public static final String MASTER_MAX_WORKER_THREADS = "tachyon.master.max.worker.threads";
   public static final String MASTER_MIN_WORKER_THREADS = "tachyon.master.min.worker.threads";
+  public static final String MASTER_RPC_SERVER_TYPE = "tachyon.master.rpc.server";
+  public static final String MASTER_RPC_SELECTOR_THREADS = "tachyon.master.rpc.selector.threads";
   public static final String MASTER_WORKER_TIMEOUT_MS = "tachyon.master.worker.timeout.ms";
   public static final String MASTER_WHITELIST = "tachyon.master.whitelist";
   public static final String MASTER_KEYTAB_KEY = "tachyon.master.keytab.file";
   public static final String MASTER_PRINCIPAL_KEY = "tachyon.master.principal";
   public static final String MASTER_RETRY_COUNT = "tachyon.master.retry";
+  public static final String MASTER_JOURNAL_GROUP_COMMIT_ENABLED =
+      "tachyon.master.journal.group.commit.enabled";
+  public static final String MASTER_JOURNAL_GROUP_COMMIT_MAX_BATCH_SIZE =
+      "tachyon.master.journal.group.commit.max.batch.size";
+  public static final String MASTER_JOURNAL_GROUP_COMMIT_MAX_WAIT_MS =
+      "tachyon.master.journal.group.commit.max.wait.ms";
+  public static final String MASTER_JOURNAL_FORMAT = "tachyon.master.journal.format";
+  public static final String MASTER_BLOCK_REPORT_THREADS = "tachyon.master.block.report.threads";
+  public static final String MASTER_UFS_LOCATION_CACHE_SIZE =
+      "tachyon.master.ufs.location.cache.size";
+  public static final String MASTER_UFS_LOCATION_CACHE_TTL_MS =
+      "tachyon.master.ufs.location.cache.ttl.ms";
+  public static final String MASTER_UFS_LOCATION_THREADS = "tachyon.master.ufs.location.threads";
+  public static final String MASTER_UFS_LOCATION_TIMEOUT_MS =
+      "tachyon.master.ufs.location.timeout.ms";
 
   public static final String WORKER_MEMORY_SIZE = "tachyon.worker.memory.size";
   public static final String WORKER_PORT = "tachyon.worker.port";
@@ -155,9 +172,14 @@ public class Constants {
   public static final String WORKER_USER_TIMEOUT_MS = "tachyon.worker.user.timeout.ms";
   public static final String WORKER_MAX_WORKER_THREADS = "tachyon.worker.max.worker.threads";
   public static final String WORKER_MIN_WORKER_THREADS = "tachyon.worker.min.worker.threads";
+  public static final String WORKER_RPC_SERVER_TYPE = "tachyon.worker.rpc.server";
+  public static final String WORKER_RPC_SELECTOR_THREADS = "tachyon.worker.rpc.selector.threads";
   public static final String WORKER_CHECKPOINT_THREADS = "tachyon.worker.checkpoint.threads";
   public static final String WORKER_PER_THREAD_CHECKPOINT_CAP_MB_SEC =
       "tachyon.worker.per.thread.checkpoint.cap.mb.sec";
+  public static final String WORKER_CHECKPOINT_CAP_MB_SEC = "tachyon.worker.checkpoint.cap.mb.sec";
+  public static final String WORKER_CHECKPOINT_CHUNK_SIZE_BYTE =
+      "tachyon.worker.checkpoint.chunk.size.byte";
   public static final String WORKER_NETTY_BOSS_THREADS =
       "tachyon.worker.network.netty.boss.threads";
   public static final String WORKER_NETTY_WORKER_THREADS =
@@ -173,8 +195,21 @@ public class Constants {
   public static final String WORKER_NETTY_SEND_BUFFER = "tachyon.worker.network.netty.buffer.send";
   public static final String WORKER_NETTY_RECEIVE_BUFFER =
       "tachyon.worker.network.netty.buffer.receive";
+  public static final String WORKER_NETTY_WRITE_THREADS =
+      "tachyon.worker.network.netty.write.threads";
+  public static final String WORKER_NETTY_WRITE_MAX_FRAME_BYTES =
+      "tachyon.worker.network.netty.write.frame.max.bytes";
   public static final String WORKER_EVICT_STRATEGY_TYPE = "tachyon.worker.evict.strategy";
+  public static final String WORKER_EVICT_LRUK_K = "tachyon.worker.evict.lruk.k";
   public static final String WORKER_ALLOCATE_STRATEGY_TYPE = "tachyon.worker.allocate.strategy";
+  public static final String WORKER_EVICTOR_ASYNC_ENABLED = "tachyon.worker.evictor.async.enabled";
+  public static final String WORKER_EVICTOR_HIGH_WATERMARK =
+      "tachyon.worker.evictor.high.watermark";
+  public static final String WORKER_EVICTOR_LOW_WATERMARK = "tachyon.worker.evictor.low.watermark";
+  public static final String WORKER_EVICTOR_INTERVAL_MS = "tachyon.worker.evictor.interval.ms";
+  public static final String WORKER_BLOCK_REPORT_FULL_INTERVAL_MS =
+      "tachyon.worker.block.report.full.interval.ms";
+  public static final String WORKER_BLOCK_TABLE_OFFHEAP = "tachyon.worker.block.table.offheap";
   public static final String WORKER_MAX_HIERARCHY_STORAGE_LEVEL =
       "tachyon.worker.hierarchystore.level.max";
   public static final String WORKER_KEYTAB_KEY = "tachyon.worker.keytab.file";
@@ -188,12 +223,34 @@ public class Constants {
       "tachyon.user.failed.space.request.limits";
   public static final String USER_QUOTA_UNIT_BYTES = "tachyon.user.quota.unit.bytes";
   public static final String USER_FILE_BUFFER_BYTES = "tachyon.user.file.buffer.bytes";
+  public static final String USER_FILE_WRITE_COMMIT_WINDOW =
+      "tachyon.user.file.write.commit.window";
+  public static final String USER_FILE_READ_AHEAD_BLOCKS = "tachyon.user.file.read.ahead.blocks";
+  public static final String USER_FILE_READ_RANGES_MERGE_GAP_BYTE =
+      "tachyon.user.file.read.ranges.merge.gap.byte";
   public static final String USER_HEARTBEAT_INTERVAL_MS = "tachyon.user.heartbeat.interval.ms";
   public static final String USER_DEFAULT_BLOCK_SIZE_BYTE = "tachyon.user.default.block.size.byte";
   public static final String USER_REMOTE_READ_BUFFER_SIZE_BYTE =
       "tachyon.user.remote.read.buffer.size.byte";
   public static final String USER_DEFAULT_WRITE_TYPE = "tachyon.user.file.writetype.default";
+  public static final String USER_LOCAL_READ_LEASE_MS = "tachyon.user.local.read.lease.ms";
+  public static final String USER_MASTER_CLIENT_POOL_SIZE =
+      "tachyon.user.master.client.pool.size";
+  public static final String USER_WORKER_CLIENT_POOL_SIZE =
+      "tachyon.user.worker.client.pool.size";
   public static final String USER_REMOTE_BLOCK_READER = "tachyon.user.remote.block.reader.class";
   public static final Class<? extends RemoteBlockReader> USER_REMOTE_BLOCK_READER_CLASS =
       tachyon.client.tcp.TCPRemoteBlockReader.class;
+  public static final String USER_REMOTE_BLOCK_WRITER = "tachyon.user.remote.block.writer.class";
+  public static final Class<? extends RemoteBlockWriter> USER_REMOTE_BLOCK_WRITER_CLASS =
+      tachyon.client.tcp.TCPRemoteBlockWriter.class;
+  public static final String USER_REMOTE_READ_CONNECTION_REUSE =
+      "tachyon.user.remote.read.connection.reuse";
+  public static final String USER_REMOTE_READ_MAX_IDLE_CONNECTIONS =
+      "tachyon.user.remote.read.connections.idle.max";
+  public static final String USER_REMOTE_READ_STREAMING = "tachyon.user.remote.read.streaming";
+  public static final String USER_REMOTE_READ_CHUNK_SIZE_BYTE =
+      "tachyon.user.remote.read.chunk.size.byte";
+  public static final String USER_UFS_LOAD_THREADS = "tachyon.user.ufs.load.threads";
+  public static final String USER_UFS_LOAD_BATCH_SIZE = "tachyon.user.ufs.load.batch.size";
 }
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+/**
+ * How the master and the worker serve their thrift RPCs. {@link #THREAD_POOL} is the default, it
+ * supports every authentication type, but each open client connection holds one server thread.
+ */
+public enum RpcServerType {
+  /**
+   * Uses a {@link org.apache.thrift.server.TThreadPoolServer}, one thread per connection
+   */
+  THREAD_POOL,
+
+  /**
+   * Uses a {@link org.apache.thrift.server.TThreadedSelectorServer}, a few selector threads
+   * multiplex all the connections and hand the requests to a bounded pool of handler threads. The
+   * connections must be framed, so SASL authentication is not supported: the master only runs it
+   * with the NOSASL authentication type.
+   */
+  SELECTOR
+}
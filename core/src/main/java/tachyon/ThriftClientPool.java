@@ -0,0 +1,146 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.apache.thrift.TServiceClient;
+
+/**
+ * A bounded pool of thrift clients connected to one server. Thrift clients are not thread safe, so
+ * a client is owned by one thread between {@link #acquire} and {@link #release}. Threads wait in
+ * {@link #acquire} when all the clients are in use.
+ *
+ * @param <C> the type of the thrift clients
+ */
+public abstract class ThriftClientPool<C extends TServiceClient> {
+  private final Semaphore mPermits;
+  /** Idle clients, the most recently used first */
+  private final LinkedList<C> mIdleClients = new LinkedList<C>();
+  /** Mapping from the clients in use to the generation they were opened in */
+  private final Map<C, Integer> mClientGenerations = new HashMap<C, Integer>();
+  /** Incremented by {@link #clear}, clients of older generations are closed when released */
+  private int mGeneration = 0;
+
+  /**
+   * @param maxClients the maximum number of clients open at a time
+   */
+  protected ThriftClientPool(int maxClients) {
+    mPermits = new Semaphore(Math.max(maxClients, 1), true);
+  }
+
+  /**
+   * Take a client from the pool, opening a new one if none is idle.
+   *
+   * @return a client owned by the caller until it is released
+   * @throws IOException if the thread is interrupted or a new client fails to open
+   */
+  public C acquire() throws IOException {
+    try {
+      mPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a client", e);
+    }
+    int generation;
+    synchronized (this) {
+      C client = mIdleClients.poll();
+      if (client != null) {
+        mClientGenerations.put(client, mGeneration);
+        return client;
+      }
+      generation = mGeneration;
+    }
+    C client;
+    try {
+      client = createClient();
+    } catch (IOException e) {
+      mPermits.release();
+      throw e;
+    } catch (RuntimeException e) {
+      mPermits.release();
+      throw e;
+    }
+    synchronized (this) {
+      mClientGenerations.put(client, generation);
+    }
+    return client;
+  }
+
+  /**
+   * Close the idle clients. The clients in use are closed when they are released.
+   */
+  public synchronized void clear() {
+    mGeneration ++;
+    for (C client : mIdleClients) {
+      closeClient(client);
+    }
+    mIdleClients.clear();
+  }
+
+  private void closeClient(C client) {
+    client.getInputProtocol().getTransport().close();
+    if (client.getOutputProtocol().getTransport() != client.getInputProtocol().getTransport()) {
+      client.getOutputProtocol().getTransport().close();
+    }
+  }
+
+  /**
+   * Open a new client to the server.
+   *
+   * @return the client, with its transport open
+   * @throws IOException
+   */
+  protected abstract C createClient() throws IOException;
+
+  /**
+   * Mark a client which failed as broken, it is closed instead of being reused when released.
+   *
+   * @param client the client, still owned by the caller
+   */
+  public void invalidate(C client) {
+    closeClient(client);
+  }
+
+  /**
+   * Return a client to the pool. Broken clients and clients opened before the last
+   * {@link #clear} are closed.
+   *
+   * @param client the client, null is ignored
+   */
+  public void release(C client) {
+    if (client == null) {
+      return;
+    }
+    synchronized (this) {
+      Integer generation = mClientGenerations.remove(client);
+      if (generation == null) {
+        // Not acquired from this pool, or released twice
+        return;
+      }
+      if (generation == mGeneration && client.getInputProtocol().getTransport().isOpen()) {
+        mIdleClients.addFirst(client);
+      } else {
+        closeClient(client);
+      }
+    }
+    mPermits.release();
+  }
+}
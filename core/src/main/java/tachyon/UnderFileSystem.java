@@ -18,6 +18,7 @@ package tachyon;
 import java.io.InputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.base.Preconditions;
@@ -160,6 +161,24 @@ public abstract class UnderFileSystem {
 
   public abstract List<String> getFileLocations(String path, long offset) throws IOException;
 
+  /**
+   * Gets the hosts of the blocks at several offsets of a file. Implementations which can look up
+   * all the blocks of a file at once should override this, the default asks for each offset.
+   * 
+   * @param path the file path
+   * @param offsets the offsets in the file
+   * @return the hosts of the block at each offset, in the order of the offsets
+   * @throws IOException
+   */
+  public List<List<String>> getFileLocations(String path, List<Long> offsets)
+      throws IOException {
+    List<List<String>> ret = new ArrayList<List<String>>(offsets.size());
+    for (long offset : offsets) {
+      ret.add(getFileLocations(path, offset));
+    }
+    return ret;
+  }
+
   public abstract long getFileSize(String path) throws IOException;
 
   public abstract long getModificationTimeMs(String path) throws IOException;
@@ -236,6 +236,28 @@ public class UnderFileSystemHdfs extends UnderFileSystem {
     return ret;
   }
 
+  @Override
+  public List<List<String>> getFileLocations(String path, List<Long> offsets)
+      throws IOException {
+    List<List<String>> ret = new ArrayList<List<String>>(offsets.size());
+    // One status and one block locations call for the whole file. A failure is thrown rather than
+    // returned as no locations, so that callers caching the result retry the lookup.
+    FileStatus fStatus = mFs.getFileStatus(new Path(path));
+    BlockLocation[] bLocations = mFs.getFileBlockLocations(fStatus, 0, fStatus.getLen());
+    for (long offset : offsets) {
+      List<String> hosts = new ArrayList<String>();
+      for (BlockLocation location : bLocations) {
+        if (offset >= location.getOffset()
+            && offset < location.getOffset() + location.getLength()) {
+          Collections.addAll(hosts, location.getHosts());
+          break;
+        }
+      }
+      ret.add(hosts);
+    }
+    return ret;
+  }
+
   @Override
   public long getFileSize(String path) throws IOException {
     int cnt = 0;
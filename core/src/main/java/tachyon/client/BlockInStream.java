@@ -81,4 +81,39 @@ public abstract class BlockInStream extends InStream {
     super(file, readType, tachyonConf);
     mBlockIndex = blockIndex;
   }
+
+  /**
+   * Starts fetching the beginning of the block, so that the first read does not wait for it. The
+   * read-ahead of {@link FileInStream} calls it in the background, before the stream is read.
+   *
+   * @throws IOException
+   */
+  void prefetch() throws IOException {
+    // A local block is mapped in memory already
+  }
+
+  /**
+   * Reads a range of the block, for a positional read of {@link TachyonFile} which opens a stream
+   * of each block for just one range. Subclasses may fetch the range without going through the
+   * position of the stream.
+   *
+   * @param pos the position of the range in the block
+   * @param b the buffer to read into
+   * @param off the offset in the buffer
+   * @param len the length of the range, which must not go past the end of the block
+   * @return the number of bytes read, less than len only if the block could not be read
+   * @throws IOException
+   */
+  int read(long pos, byte[] b, int off, int len) throws IOException {
+    seek(pos);
+    int bytesRead = 0;
+    while (bytesRead < len) {
+      int ret = read(b, off + bytesRead, len - bytesRead);
+      if (ret <= 0) {
+        break;
+      }
+      bytesRead += ret;
+    }
+    return bytesRead;
+  }
 }
@@ -17,13 +17,11 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 
 
-import com.google.common.primitives.Ints;
 import com.google.common.io.Closer;
 
 import org.slf4j.Logger;
@@ -36,26 +34,17 @@ import tachyon.util.CommonUtils;
 /**
  * <code>BlockOutStream</code> implementation of TachyonFile. This class is not client facing.
  */
-public class BlockOutStream extends OutStream {
+public class BlockOutStream extends BufferedBlockOutStream {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private final int mBlockIndex;
-  private final long mBlockCapacityByte;
-  private final long mBlockId;
-  private final long mBlockOffset;
   private final boolean mPin;
   private final Closer mCloser = Closer.create(); 
   private final String mLocalFilePath;
   private final RandomAccessFile mLocalFile;
   private final FileChannel mLocalFileChannel;
-  private final ByteBuffer mBuffer;
 
   private long mAvailableBytes = 0;
   private long mInFileBytes = 0;
-  private long mWrittenBytes = 0;
-
-  private boolean mCanWrite = false;
-  private boolean mClosed = false;
 
   /**
    * @param file the file the block belongs to
@@ -80,16 +69,8 @@ public class BlockOutStream extends OutStream {
    */
   BlockOutStream(TachyonFile file, WriteType opType, int blockIndex, long initialBytes,
       TachyonConf tachyonConf) throws IOException {
-    super(file, opType, tachyonConf);
-
-    if (!opType.isCache()) {
-      throw new IOException("BlockOutStream only support WriteType.CACHE");
-    }
+    super(file, opType, blockIndex, tachyonConf);
 
-    mBlockIndex = blockIndex;
-    mBlockCapacityByte = mFile.getBlockSizeByte();
-    mBlockId = mFile.getBlockId(mBlockIndex);
-    mBlockOffset = mBlockCapacityByte * blockIndex;
     mPin = mFile.needPin();
 
     mCanWrite = true;
@@ -108,13 +89,10 @@ public class BlockOutStream extends OutStream {
     CommonUtils.setLocalFileStickyBit(mLocalFilePath);
     LOG.info(mLocalFilePath + " was created!");
     mAvailableBytes += initialBytes;
-
-    long allocateBytes = mTachyonConf.getBytes(Constants.USER_FILE_BUFFER_BYTES,
-        Constants.MB) + 4L;
-    mBuffer = ByteBuffer.allocate(Ints.checkedCast(allocateBytes));
   }
 
-  private synchronized void appendCurrentBuffer(byte[] buf, int offset, int length)
+  @Override
+  protected synchronized void appendCurrentBuffer(byte[] buf, int offset, int length)
       throws IOException {
     if (mAvailableBytes < length) {
       long bytesRequested = mTachyonFS.requestSpace(mBlockId, length - mAvailableBytes);
@@ -144,19 +122,10 @@ public class BlockOutStream extends OutStream {
     }
   }
 
-  /**
-   * @return true if the stream can write and is not closed, otherwise false
-   */
-  public boolean canWrite() {
-    return !mClosed && mCanWrite;
-  }
-
   @Override
   public void close() throws IOException {
     if (!mClosed) {
-      if (mBuffer.position() > 0) {
-        appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
-      }
+      flushBuffer();
       mCloser.close();
       mTachyonFS.cacheBlock(mBlockId);
       mClosed = true;
@@ -167,82 +136,4 @@ public class BlockOutStream extends OutStream {
   public void flush() throws IOException {
     // Since this only writes to memory, this flush is not outside visible.
   }
-
-  /**
-   * @return the block id of the block
-   */
-  public long getBlockId() {
-    return mBlockId;
-  }
-
-  /**
-   * @return the block offset in the file.
-   */
-  public long getBlockOffset() {
-    return mBlockOffset;
-  }
-
-  /**
-   * @return the remaining space of the block, in bytes
-   */
-  public long getRemainingSpaceByte() {
-    return mBlockCapacityByte - mWrittenBytes;
-  }
-
-  @Override
-  public void write(byte[] b) throws IOException {
-    write(b, 0, b.length);
-  }
-
-  @Override
-  public void write(byte[] b, int off, int len) throws IOException {
-    if (b == null) {
-      throw new NullPointerException();
-    } else if ((off < 0) || (off > b.length) || (len < 0) || ((off + len) > b.length)
-        || ((off + len) < 0)) {
-      throw new IndexOutOfBoundsException(String.format("Buffer length (%d), offset(%d), len(%d)",
-          b.length, off, len));
-    }
-
-    if (!canWrite()) {
-      throw new IOException("Can not write cache.");
-    }
-    if (mWrittenBytes + len > mBlockCapacityByte) {
-      throw new IOException("Out of capacity.");
-    }
-
-    long userFileBufferBytes = mTachyonConf.getBytes(Constants.USER_FILE_BUFFER_BYTES,
-        Constants.MB);
-    if (mBuffer.position() + len >= userFileBufferBytes && mBuffer.position() > 0) {
-      appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
-      mBuffer.clear();
-    }
-
-    if (len >= userFileBufferBytes) {
-      appendCurrentBuffer(b, off, len);
-    } else {
-      mBuffer.put(b, off, len);
-    }
-
-    mWrittenBytes += len;
-  }
-
-  @Override
-  public void write(int b) throws IOException {
-    if (!canWrite()) {
-      throw new IOException("Can not write cache.");
-    }
-    if (mWrittenBytes + 1 > mBlockCapacityByte) {
-      throw new IOException("Out of capacity.");
-    }
-
-    if (mBuffer.position() >= mTachyonConf.getBytes(Constants.USER_FILE_BUFFER_BYTES,
-        Constants.MB)) {
-      appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
-      mBuffer.clear();
-    }
-
-    mBuffer.put((byte) (b & 0xFF));
-    mWrittenBytes ++;
-  }
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.google.common.primitives.Ints;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+
+/**
+ * <code>BufferedBlockOutStream</code> is the base class of the streams writing a block of a
+ * TachyonFile. Small writes are buffered, and data is appended to the block at most a buffer at a
+ * time, including the data of writes larger than the buffer. This class is not client facing.
+ */
+public abstract class BufferedBlockOutStream extends OutStream {
+  protected final int mBlockIndex;
+  protected final long mBlockCapacityByte;
+  protected final long mBlockId;
+  protected final long mBlockOffset;
+  protected final ByteBuffer mBuffer;
+
+  protected long mWrittenBytes = 0;
+
+  protected boolean mCanWrite = false;
+  protected boolean mClosed = false;
+
+  /**
+   * @param file the file the block belongs to
+   * @param opType the OutStream's write type
+   * @param blockIndex the index of the block in the file
+   * @param tachyonConf the TachyonConf instance for this file output stream.
+   * @throws IOException
+   */
+  BufferedBlockOutStream(TachyonFile file, WriteType opType, int blockIndex,
+      TachyonConf tachyonConf) throws IOException {
+    super(file, opType, tachyonConf);
+
+    if (!opType.isCache()) {
+      throw new IOException(getClass().getSimpleName() + " only support WriteType.CACHE");
+    }
+
+    mBlockIndex = blockIndex;
+    mBlockCapacityByte = mFile.getBlockSizeByte();
+    mBlockId = mFile.getBlockId(mBlockIndex);
+    mBlockOffset = mBlockCapacityByte * blockIndex;
+
+    long allocateBytes = mTachyonConf.getBytes(Constants.USER_FILE_BUFFER_BYTES, Constants.MB);
+    mBuffer = ByteBuffer.allocate(Ints.checkedCast(allocateBytes));
+  }
+
+  /**
+   * Append data to the block.
+   *
+   * @param buf the data
+   * @param offset the offset of the data in the array
+   * @param length the length of the data, never more than the capacity of the buffer
+   * @throws IOException
+   */
+  protected abstract void appendCurrentBuffer(byte[] buf, int offset, int length)
+      throws IOException;
+
+  /**
+   * Append the buffered data to the block and clear the buffer.
+   *
+   * @throws IOException
+   */
+  protected void flushBuffer() throws IOException {
+    if (mBuffer.position() > 0) {
+      appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
+      mBuffer.clear();
+    }
+  }
+
+  /**
+   * @return true if the stream can write and is not closed, otherwise false
+   */
+  public boolean canWrite() {
+    return !mClosed && mCanWrite;
+  }
+
+  /**
+   * @return the block id of the block
+   */
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  /**
+   * @return the block offset in the file.
+   */
+  public long getBlockOffset() {
+    return mBlockOffset;
+  }
+
+  /**
+   * @return the remaining space of the block, in bytes
+   */
+  public long getRemainingSpaceByte() {
+    return mBlockCapacityByte - mWrittenBytes;
+  }
+
+  @Override
+  public void write(byte[] b) throws IOException {
+    write(b, 0, b.length);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (b == null) {
+      throw new NullPointerException();
+    } else if ((off < 0) || (off > b.length) || (len < 0) || ((off + len) > b.length)
+        || ((off + len) < 0)) {
+      throw new IndexOutOfBoundsException(String.format("Buffer length (%d), offset(%d), len(%d)",
+          b.length, off, len));
+    }
+
+    if (!canWrite()) {
+      throw new IOException("Can not write cache.");
+    }
+    if (mWrittenBytes + len > mBlockCapacityByte) {
+      throw new IOException("Out of capacity.");
+    }
+
+    if (mBuffer.position() + len >= mBuffer.capacity()) {
+      flushBuffer();
+    }
+
+    if (len >= mBuffer.capacity()) {
+      for (int pos = 0; pos < len; pos += mBuffer.capacity()) {
+        appendCurrentBuffer(b, off + pos, Math.min(mBuffer.capacity(), len - pos));
+      }
+    } else {
+      mBuffer.put(b, off, len);
+    }
+
+    mWrittenBytes += len;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (!canWrite()) {
+      throw new IOException("Can not write cache.");
+    }
+    if (mWrittenBytes + 1 > mBlockCapacityByte) {
+      throw new IOException("Out of capacity.");
+    }
+
+    if (mBuffer.position() >= mBuffer.capacity()) {
+      flushBuffer();
+    }
+
+    mBuffer.put((byte) (b & 0xFF));
+    mWrittenBytes ++;
+  }
+}
@@ -16,21 +16,45 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
 import tachyon.conf.TachyonConf;
 
 /**
  * FileInStream implementation of TachyonFile.
+ *
+ * While the file is read sequentially, the next blocks are opened in the background on the
+ * executor of the client: their metadata is fetched, local blocks are locked and remote blocks
+ * start streaming their first chunk. The read-ahead grows by one block for each block read in a
+ * row, up to {@link Constants#USER_FILE_READ_AHEAD_BLOCKS}, and is dropped on a seek or skip to
+ * another block.
  */
 public class FileInStream extends InStream {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
   private final long mFileLength;
   private final long mBlockCapacity;
+  private final int mReadAheadBlocks;
 
   private long mCurrentPosition;
   private int mCurrentBlockIndex;
   private BlockInStream mCurrentBlockInStream;
   private long mCurrentBlockLeft;
 
+  // The number of blocks read in a row from their beginning
+  private int mSequentialBlocks = 0;
+  // The streams of the next blocks being opened in the background, by block index
+  private final Map<Integer, Future<BlockInStream>> mReadAheadStreams =
+      new HashMap<Integer, Future<BlockInStream>>();
+
   private boolean mClosed = false;
 
   private Object mUFSConf = null;
@@ -59,6 +83,7 @@ public class FileInStream extends InStream {
 
     mFileLength = file.length();
     mBlockCapacity = file.getBlockSizeByte();
+    mReadAheadBlocks = mTachyonConf.getInt(Constants.USER_FILE_READ_AHEAD_BLOCKS, 1);
 
     mCurrentPosition = 0;
     mCurrentBlockIndex = -1;
@@ -74,26 +99,123 @@ public class FileInStream extends InStream {
         mCurrentBlockInStream.close();
       }
 
-      mCurrentBlockIndex = getCurrentBlockIndex();
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
-          mTachyonConf);
+      int blockIndex = getCurrentBlockIndex();
+      if (blockIndex == mCurrentBlockIndex + 1) {
+        mSequentialBlocks ++;
+      } else {
+        mSequentialBlocks = 0;
+      }
+      mCurrentBlockIndex = blockIndex;
+      mCurrentBlockInStream = getBlockInStream(mCurrentBlockIndex);
       mCurrentBlockLeft = mBlockCapacity;
+      readAhead();
     }
   }
 
   @Override
   public void close() throws IOException {
-    if (!mClosed && mCurrentBlockInStream != null) {
-      mCurrentBlockInStream.close();
+    if (!mClosed) {
+      discardReadAhead();
+      if (mCurrentBlockInStream != null) {
+        mCurrentBlockInStream.close();
+      }
     }
 
     mClosed = true;
   }
 
+  /**
+   * Closes the streams opened ahead, in the background since they may still be opening.
+   */
+  private void discardReadAhead() {
+    for (final Future<BlockInStream> readAheadStream : mReadAheadStreams.values()) {
+      mTachyonFS.getReadExecutor().submit(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            readAheadStream.get().close();
+          } catch (ExecutionException ee) {
+            // The block failed to open, so there is nothing to close
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+          } catch (IOException ioe) {
+            LOG.warn("Failed to close a block stream opened ahead in file " + mFile.mFileId,
+                ioe);
+          }
+        }
+      });
+    }
+    mReadAheadStreams.clear();
+  }
+
+  /**
+   * Gets the stream of a block, taking the one opened ahead if there is one.
+   *
+   * @param blockIndex the index of the block
+   * @return the stream of the block
+   * @throws IOException
+   */
+  private BlockInStream getBlockInStream(int blockIndex) throws IOException {
+    Future<BlockInStream> readAheadStream = mReadAheadStreams.remove(blockIndex);
+    if (readAheadStream != null) {
+      try {
+        return readAheadStream.get();
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+        throw new IOException(ie);
+      } catch (ExecutionException ee) {
+        // Opening the block again reports the error, if it was not transient
+        LOG.warn("Failed to open block " + blockIndex + " of file " + mFile.mFileId + " ahead",
+            ee.getCause());
+      }
+    }
+    return openBlockInStream(blockIndex);
+  }
+
   private int getCurrentBlockIndex() {
     return (int) (mCurrentPosition / mBlockCapacity);
   }
 
+  /**
+   * Opens the stream of a block, from the local worker if it has the block.
+   *
+   * @param blockIndex the index of the block
+   * @return the stream of the block
+   * @throws IOException
+   */
+  BlockInStream openBlockInStream(int blockIndex) throws IOException {
+    return BlockInStream.get(mFile, mReadType, blockIndex, mUFSConf, mTachyonConf);
+  }
+
+  /**
+   * Opens the blocks after the current one in the background, as many as blocks were read in a
+   * row but at most the read-ahead configured.
+   */
+  private void readAhead() {
+    long lastBlockIndex = Math.min(mCurrentBlockIndex + Math.min(mSequentialBlocks,
+        mReadAheadBlocks), (mFileLength - 1) / mBlockCapacity);
+    for (int k = mCurrentBlockIndex + 1; k <= lastBlockIndex; k ++) {
+      if (mReadAheadStreams.containsKey(k)) {
+        continue;
+      }
+      final int blockIndex = k;
+      mReadAheadStreams.put(blockIndex,
+          mTachyonFS.getReadExecutor().submit(new Callable<BlockInStream>() {
+            @Override
+            public BlockInStream call() throws IOException {
+              BlockInStream is = openBlockInStream(blockIndex);
+              try {
+                is.prefetch();
+              } catch (IOException ioe) {
+                is.close();
+                throw ioe;
+              }
+              return is;
+            }
+          }));
+    }
+  }
+
   @Override
   public int read() throws IOException {
     if (mCurrentPosition >= mFileLength) {
@@ -161,8 +283,10 @@ public class FileInStream extends InStream {
       if (mCurrentBlockInStream != null) {
         mCurrentBlockInStream.close();
       }
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
-          mTachyonConf);
+      mCurrentBlockInStream = getBlockInStream(mCurrentBlockIndex);
+      // The reader jumped, so stop reading ahead until it reads whole blocks again
+      mSequentialBlocks = 0;
+      discardReadAhead();
     }
     mCurrentBlockInStream.seek(pos % mBlockCapacity);
     mCurrentPosition = pos;
@@ -190,8 +314,9 @@ public class FileInStream extends InStream {
       }
 
       mCurrentBlockIndex = tBlockIndex;
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
-          mTachyonConf);
+      mCurrentBlockInStream = getBlockInStream(mCurrentBlockIndex);
+      mSequentialBlocks = 0;
+      discardReadAhead();
       long shouldSkip = mCurrentPosition % mBlockCapacity;
       long skip = mCurrentBlockInStream.skip(shouldSkip);
       mCurrentBlockLeft = mBlockCapacity - skip;
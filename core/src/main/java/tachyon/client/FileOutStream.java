@@ -17,8 +17,10 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,23 +34,31 @@ import tachyon.util.CommonUtils;
  * <code>FileOutStream</code> implementation of TachyonFile. It can only be gotten by calling the
  * methods in <code>tachyon.client.TachyonFile</code>, but can not be initialized by the client
  * code.
+ *
+ * Each block is committed as soon as it is full, on the executor of the client, so the worker
+ * releases its temp space and readers see the block before the file is complete. At most
+ * {@link Constants#USER_FILE_WRITE_COMMIT_WINDOW} commits are pending once the next block starts,
+ * and each commit waits for the previous one since the master adds the blocks of a file in order.
  */
 public class FileOutStream extends OutStream {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private final long mBlockCapacityByte;
+  private final int mCommitWindow;
 
-  private BlockOutStream mCurrentBlockOutStream;
+  private OutStream mCurrentBlockOutStream;
   private long mCurrentBlockId;
   private long mCurrentBlockLeftByte;
-  private List<BlockOutStream> mPreviousBlockOutStreams;
+  // The commits of the finished blocks, oldest first
+  private final LinkedList<Future<Void>> mPendingCommits = new LinkedList<Future<Void>>();
   private long mCachedBytes;
 
   private OutputStream mCheckpointOutputStream = null;
   private String mUnderFsFile = null;
 
   private boolean mClosed = false;
-  private boolean mCancel = false;
+  // Read by the pending commits, which cancel their block instead once it is set
+  private volatile boolean mCancel = false;
 
   /**
    * @param file the output file
@@ -62,12 +72,12 @@ public class FileOutStream extends OutStream {
     super(file, opType, tachyonConf);
 
     mBlockCapacityByte = file.getBlockSizeByte();
+    mCommitWindow = mTachyonConf.getInt(Constants.USER_FILE_WRITE_COMMIT_WINDOW, 2);
 
     // TODO Support and test append.
     mCurrentBlockOutStream = null;
     mCurrentBlockId = -1;
     mCurrentBlockLeftByte = 0;
-    mPreviousBlockOutStreams = new ArrayList<BlockOutStream>();
     mCachedBytes = 0;
 
     if (mWriteType.isThrough()) {
@@ -91,10 +101,6 @@ public class FileOutStream extends OutStream {
   @Override
   public void close() throws IOException {
     if (!mClosed) {
-      if (mCurrentBlockOutStream != null) {
-        mPreviousBlockOutStreams.add(mCurrentBlockOutStream);
-      }
-
       Boolean canComplete = false;
       if (mWriteType.isThrough()) {
         if (mCancel) {
@@ -111,14 +117,13 @@ public class FileOutStream extends OutStream {
 
       if (mWriteType.isCache()) {
         try {
-          if (mCancel) {
-            for (BlockOutStream bos : mPreviousBlockOutStreams) {
-              bos.cancel();
-            }
-          } else {
-            for (BlockOutStream bos : mPreviousBlockOutStreams) {
-              bos.close();
-            }
+          if (mCurrentBlockOutStream != null) {
+            OutStream lastBlockOutStream = mCurrentBlockOutStream;
+            mCurrentBlockOutStream = null;
+            commitBlock(lastBlockOutStream);
+          }
+          waitForCommits(0);
+          if (!mCancel) {
             canComplete = true;
           }
         } catch (IOException ioe) {
@@ -142,6 +147,46 @@ public class FileOutStream extends OutStream {
     mClosed = true;
   }
 
+  /**
+   * Commits a full block, or cancels it if the stream is canceled. Without a commit window the
+   * block is committed right away, otherwise its commit is pending until {@link #waitForCommits}.
+   *
+   * @param bos the stream of the block
+   * @throws IOException when the block is committed right away and that fails
+   */
+  private void commitBlock(final OutStream bos) throws IOException {
+    if (mCommitWindow <= 0) {
+      if (mCancel) {
+        bos.cancel();
+      } else {
+        bos.close();
+      }
+      return;
+    }
+
+    final Future<Void> previous = mPendingCommits.peekLast();
+    mPendingCommits.add(mTachyonFS.getBlockCommitExecutor().submit(new Callable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        try {
+          if (previous != null) {
+            waitForCommit(previous);
+          }
+        } catch (IOException ioe) {
+          // The master would not take this block without the previous one
+          bos.cancel();
+          throw ioe;
+        }
+        if (mCancel) {
+          bos.cancel();
+        } else {
+          bos.close();
+        }
+        return null;
+      }
+    }));
+  }
+
   @Override
   public void flush() throws IOException {
     // TODO We only flush the checkpoint output stream. Flush for RAMFS block streams.
@@ -155,16 +200,26 @@ public class FileOutStream extends OutStream {
       if (mCurrentBlockLeftByte != 0) {
         throw new IOException("The current block still has space left, no need to get new block");
       }
-      mPreviousBlockOutStreams.add(mCurrentBlockOutStream);
+      if (mCurrentBlockOutStream != null) {
+        OutStream fullBlockOutStream = mCurrentBlockOutStream;
+        mCurrentBlockOutStream = null;
+        commitBlock(fullBlockOutStream);
+      }
     }
 
     if (mWriteType.isCache()) {
       mCurrentBlockId = mFile.getBlockIdBasedOnOffset(mCachedBytes);
       mCurrentBlockLeftByte = mBlockCapacityByte;
 
-      mCurrentBlockOutStream =
-          new BlockOutStream(mFile, mWriteType, (int) (mCachedBytes / mBlockCapacityByte),
-              mTachyonConf);
+      int blockIndex = (int) (mCachedBytes / mBlockCapacityByte);
+      if (mTachyonFS.hasLocalWorker()) {
+        mCurrentBlockOutStream = new BlockOutStream(mFile, mWriteType, blockIndex, mTachyonConf);
+      } else {
+        // Without a local worker, write the block to the worker through its data server
+        mCurrentBlockOutStream =
+            new RemoteBlockOutStream(mFile, mWriteType, blockIndex, mTachyonConf);
+      }
+      waitForCommits(mCommitWindow);
     }
   }
 
@@ -247,4 +302,30 @@ public class FileOutStream extends OutStream {
       mCheckpointOutputStream.write(b);
     }
   }
+
+  /**
+   * Waits for the oldest pending commits until at most the given number are left.
+   *
+   * @param maxPending the number of commits which may still be pending
+   * @throws IOException when one of the commits waited for failed
+   */
+  private void waitForCommits(int maxPending) throws IOException {
+    while (mPendingCommits.size() > maxPending) {
+      waitForCommit(mPendingCommits.removeFirst());
+    }
+  }
+
+  private static void waitForCommit(Future<Void> commit) throws IOException {
+    try {
+      commit.get();
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new IOException(ie);
+    } catch (ExecutionException ee) {
+      if (ee.getCause() instanceof IOException) {
+        throw (IOException) ee.getCause();
+      }
+      throw new IOException(ee.getCause());
+    }
+  }
 }
@@ -0,0 +1,360 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.NetAddress;
+
+/**
+ * Reads several ranges of a file at once, for {@link TachyonFile#readRanges}. The ranges are split
+ * at the block boundaries, and the parts of a block closer than
+ * {@link Constants#USER_FILE_READ_RANGES_MERGE_GAP_BYTE} are read as one extent. Local blocks are
+ * copied from the worker's block files. The extents of the other blocks are grouped by worker, and
+ * each worker gets one request for all its extents, sent in parallel to the other workers. The
+ * extents no worker could provide are read through the block streams, which fall back to the under
+ * file system.
+ */
+final class FileRangesReader {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The part of a range which is in one block */
+  private static final class Piece {
+    private final ByteBuffer mRangeBuffer;
+    private final int mRangeOffset;
+    private final long mBlockOffset;
+    private final int mLength;
+
+    Piece(ByteBuffer rangeBuffer, int rangeOffset, long blockOffset, int length) {
+      mRangeBuffer = rangeBuffer;
+      mRangeOffset = rangeOffset;
+      mBlockOffset = blockOffset;
+      mLength = length;
+    }
+  }
+
+  /** The bytes of a block read at once, covering one or more pieces */
+  private static final class Extent {
+    private final int mBlockIndex;
+    private final long mOffset;
+    private long mEnd;
+    private final List<Piece> mPieces = new ArrayList<Piece>();
+
+    Extent(int blockIndex, Piece piece) {
+      mBlockIndex = blockIndex;
+      mOffset = piece.mBlockOffset;
+      mEnd = piece.mBlockOffset + piece.mLength;
+      mPieces.add(piece);
+    }
+
+    void add(Piece piece) {
+      mEnd = Math.max(mEnd, piece.mBlockOffset + piece.mLength);
+      mPieces.add(piece);
+    }
+
+    /**
+     * Copies the pieces out of the data of the extent.
+     *
+     * @param data the data of the extent, from its position
+     */
+    void copy(ByteBuffer data) {
+      int start = data.position();
+      for (Piece piece : mPieces) {
+        ByteBuffer src = data.duplicate();
+        src.position(start + (int) (piece.mBlockOffset - mOffset));
+        src.get(piece.mRangeBuffer.array(), piece.mRangeOffset, piece.mLength);
+      }
+    }
+
+    long length() {
+      return mEnd - mOffset;
+    }
+  }
+
+  private static final Comparator<Piece> BLOCK_OFFSET_ORDER = new Comparator<Piece>() {
+    @Override
+    public int compare(Piece a, Piece b) {
+      return a.mBlockOffset < b.mBlockOffset ? -1 : (a.mBlockOffset == b.mBlockOffset ? 0 : 1);
+    }
+  };
+
+  private final TachyonFile mFile;
+  private final TachyonConf mTachyonConf;
+  private final long mMergeGapBytes;
+  private final boolean mReadLocal;
+
+  /**
+   * @param file the file to read
+   * @param tachyonConf the TachyonConf instance of the client
+   * @param readLocal false to read the local blocks from the data server of the worker too, like a
+   *        client on another host would
+   */
+  FileRangesReader(TachyonFile file, TachyonConf tachyonConf, boolean readLocal) {
+    mFile = file;
+    mTachyonConf = tachyonConf;
+    mMergeGapBytes =
+        tachyonConf.getBytes(Constants.USER_FILE_READ_RANGES_MERGE_GAP_BYTE, 64 * Constants.KB);
+    mReadLocal = readLocal;
+  }
+
+  /**
+   * Reads the extents of one block through a block stream.
+   */
+  private void readFromStream(int blockIndex, List<Extent> extents) throws IOException {
+    BlockInStream is = BlockInStream.get(mFile, ReadType.NO_CACHE, blockIndex, mFile.getUFSConf(),
+        mTachyonConf);
+    try {
+      for (Extent extent : extents) {
+        for (Piece piece : extent.mPieces) {
+          if (is.read(piece.mBlockOffset, piece.mRangeBuffer.array(), piece.mRangeOffset,
+              piece.mLength) != piece.mLength) {
+            throw new IOException("Failed to read block " + blockIndex + " of file "
+                + mFile.mFileId + " at " + piece.mBlockOffset);
+          }
+        }
+      }
+    } finally {
+      is.close();
+    }
+  }
+
+  /**
+   * Copies the extents of one block out of the worker's block file.
+   *
+   * @return false if the block is not on the local worker
+   */
+  private boolean readLocal(int blockIndex, List<Extent> extents) throws IOException {
+    TachyonByteBuffer buf = mFile.readLocalByteBuffer(blockIndex);
+    if (buf == null) {
+      return false;
+    }
+    try {
+      for (Extent extent : extents) {
+        ByteBuffer data = buf.mData.duplicate();
+        data.position((int) extent.mOffset);
+        extent.copy(data);
+      }
+    } finally {
+      buf.close();
+    }
+    return true;
+  }
+
+  /**
+   * Reads the given ranges of the file.
+   *
+   * @param offsets the offsets of the ranges in the file
+   * @param lengths the lengths of the ranges
+   * @return a buffer with the data of each range, in the order of the ranges
+   * @throws IOException
+   */
+  List<ByteBuffer> read(long[] offsets, int[] lengths) throws IOException {
+    if (offsets.length != lengths.length) {
+      throw new IllegalArgumentException("There are " + offsets.length + " offsets but "
+          + lengths.length + " lengths");
+    }
+    if (!mFile.isComplete()) {
+      throw new IOException("File " + mFile.getPath() + " is not ready to read");
+    }
+    long fileLength = mFile.length();
+    long blockSize = mFile.getBlockSizeByte();
+
+    // Split the ranges into the pieces of each block
+    List<ByteBuffer> buffers = new ArrayList<ByteBuffer>(offsets.length);
+    Map<Integer, List<Piece>> blockPieces = new TreeMap<Integer, List<Piece>>();
+    for (int k = 0; k < offsets.length; k ++) {
+      if (offsets[k] < 0 || lengths[k] < 0 || offsets[k] + lengths[k] > fileLength) {
+        throw new IOException("Range " + offsets[k] + "+" + lengths[k] + " is out of file "
+            + mFile.mFileId + " of length " + fileLength);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(lengths[k]);
+      buffers.add(buffer);
+      int rangeOffset = 0;
+      while (rangeOffset < lengths[k]) {
+        long pos = offsets[k] + rangeOffset;
+        int blockIndex = (int) (pos / blockSize);
+        long blockOffset = pos % blockSize;
+        int length = (int) Math.min(lengths[k] - rangeOffset, blockSize - blockOffset);
+        List<Piece> pieces = blockPieces.get(blockIndex);
+        if (pieces == null) {
+          pieces = new ArrayList<Piece>();
+          blockPieces.put(blockIndex, pieces);
+        }
+        pieces.add(new Piece(buffer, rangeOffset, blockOffset, length));
+        rangeOffset += length;
+      }
+    }
+
+    // Lock the local blocks with one RPC when there are several
+    int blockLockId = mFile.mTachyonFS.getBlockLockId();
+    List<Long> lockedBlockIds = new ArrayList<Long>();
+    if (mReadLocal && blockPieces.size() > 1) {
+      lockedBlockIds = mFile.lockBlocks(blockPieces.keySet(), blockLockId);
+    }
+    try {
+      readBlocks(blockPieces);
+    } finally {
+      mFile.unlockBlocks(lockedBlockIds, blockLockId);
+    }
+    return buffers;
+  }
+
+  /**
+   * Reads the pieces of each block.
+   */
+  private void readBlocks(Map<Integer, List<Piece>> blockPieces) throws IOException {
+    // Merge the close pieces of each block, then read the local blocks and group the others by
+    // the worker to read them from
+    Map<NetAddress, List<Extent>> workerExtents = new LinkedHashMap<NetAddress, List<Extent>>();
+    Map<Integer, List<Extent>> failedExtents = new TreeMap<Integer, List<Extent>>();
+    // The locations of all the blocks, fetched with one request once a block is not local
+    List<ClientBlockInfo> blockInfos = null;
+    for (Map.Entry<Integer, List<Piece>> entry : blockPieces.entrySet()) {
+      int blockIndex = entry.getKey();
+      List<Extent> extents = toExtents(blockIndex, entry.getValue());
+      if (mReadLocal && readLocal(blockIndex, extents)) {
+        continue;
+      }
+      if (blockInfos == null) {
+        blockInfos = mFile.mTachyonFS.getFileBlocks(mFile.mFileId);
+      }
+      NetAddress worker = null;
+      for (NetAddress location : blockInfos.get(blockIndex).getLocations()) {
+        // The data is not in the worker's memory if the port is -1
+        if (location.mSecondaryPort != -1) {
+          worker = location;
+          break;
+        }
+      }
+      if (worker == null) {
+        failedExtents.put(blockIndex, extents);
+        continue;
+      }
+      List<Extent> list = workerExtents.get(worker);
+      if (list == null) {
+        list = new ArrayList<Extent>();
+        workerExtents.put(worker, list);
+      }
+      list.addAll(extents);
+    }
+
+    readRemote(workerExtents, failedExtents);
+    for (Map.Entry<Integer, List<Extent>> entry : failedExtents.entrySet()) {
+      readFromStream(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Reads the extents from the workers, one request per worker. The extents a worker fails to
+   * provide are added to failedExtents.
+   */
+  private void readRemote(Map<NetAddress, List<Extent>> workerExtents,
+      Map<Integer, List<Extent>> failedExtents) throws IOException {
+    List<Map.Entry<NetAddress, List<Extent>>> entries =
+        new ArrayList<Map.Entry<NetAddress, List<Extent>>>(workerExtents.entrySet());
+    List<Future<List<ByteBuffer>>> results = new ArrayList<Future<List<ByteBuffer>>>();
+    // The calling thread sends the first request itself
+    for (int k = 1; k < entries.size(); k ++) {
+      results.add(mFile.mTachyonFS.getReadExecutor().submit(
+          readRemoteCall(entries.get(k).getKey(), entries.get(k).getValue())));
+    }
+
+    for (int k = 0; k < entries.size(); k ++) {
+      NetAddress worker = entries.get(k).getKey();
+      List<Extent> extents = entries.get(k).getValue();
+      List<ByteBuffer> data = null;
+      try {
+        data = k == 0 ? readRemoteCall(worker, extents).call() : results.get(k - 1).get();
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+        throw new IOException(ie);
+      } catch (ExecutionException ee) {
+        LOG.warn("Failed to read ranges of file " + mFile.mFileId + " from " + worker,
+            ee.getCause());
+      } catch (Exception e) {
+        LOG.warn("Failed to read ranges of file " + mFile.mFileId + " from " + worker, e);
+      }
+      for (int i = 0; i < extents.size(); i ++) {
+        Extent extent = extents.get(i);
+        ByteBuffer extentData = data == null ? null : data.get(i);
+        if (extentData != null && extentData.remaining() == extent.length()) {
+          extent.copy(extentData);
+          continue;
+        }
+        List<Extent> failed = failedExtents.get(extent.mBlockIndex);
+        if (failed == null) {
+          failed = new ArrayList<Extent>();
+          failedExtents.put(extent.mBlockIndex, failed);
+        }
+        failed.add(extent);
+      }
+    }
+  }
+
+  private Callable<List<ByteBuffer>> readRemoteCall(final NetAddress worker,
+      final List<Extent> extents) throws IOException {
+    final long[] blockIds = new long[extents.size()];
+    final long[] offsets = new long[extents.size()];
+    final long[] lengths = new long[extents.size()];
+    for (int k = 0; k < extents.size(); k ++) {
+      blockIds[k] = mFile.getBlockId(extents.get(k).mBlockIndex);
+      offsets[k] = extents.get(k).mOffset;
+      lengths[k] = extents.get(k).length();
+    }
+    return new Callable<List<ByteBuffer>>() {
+      @Override
+      public List<ByteBuffer> call() throws IOException {
+        return RemoteBlockReader.Factory.createRemoteBlockReader(mTachyonConf).readRemoteBlocks(
+            worker.mHost, worker.mSecondaryPort, blockIds, offsets, lengths);
+      }
+    };
+  }
+
+  /**
+   * Merges the pieces of a block which overlap or are at most the merge gap apart.
+   */
+  private List<Extent> toExtents(int blockIndex, List<Piece> pieces) {
+    Collections.sort(pieces, BLOCK_OFFSET_ORDER);
+    List<Extent> extents = new ArrayList<Extent>();
+    Extent current = null;
+    for (Piece piece : pieces) {
+      if (current != null && piece.mBlockOffset <= current.mEnd + mMergeGapBytes) {
+        current.add(piece);
+      } else {
+        current = new Extent(blockIndex, piece);
+        extents.add(current);
+      }
+    }
+    return extents;
+  }
+}
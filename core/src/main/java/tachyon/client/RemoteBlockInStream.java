@@ -98,6 +98,33 @@ public class RemoteBlockInStream extends BlockInStream {
    */
   private static final int MAX_REMOTE_READ_ATTEMPTS = 2;
 
+  /**
+   * If true, the block is streamed from the worker in chunks instead of being read into
+   * mCurrentBuffer one buffer at a time
+   */
+  private final boolean mStreaming;
+
+  /**
+   * The stream of the range of the block currently read from a worker, when streaming
+   */
+  private RemoteBlockReader.Stream mRemoteStream = null;
+
+  /**
+   * The position in the block of the next byte of mRemoteStream
+   */
+  private long mRemoteStreamPos;
+
+  /**
+   * The position in the block of the end of the range of mRemoteStream
+   */
+  private long mRemoteStreamEnd;
+
+  /**
+   * The first bytes of mRemoteStream, read by prefetch and not returned by read yet. They end at
+   * mRemoteStreamPos.
+   */
+  private ByteBuffer mPrefetchBuffer = null;
+
   /**
    * @param file the file the block belongs to
    * @param readType the InStream's read type
@@ -133,6 +160,22 @@ public class RemoteBlockInStream extends BlockInStream {
     }
 
     mUFSConf = ufsConf;
+    mStreaming = mTachyonConf.getBoolean(Constants.USER_REMOTE_READ_STREAMING, true);
+  }
+
+  /**
+   * Closes mRemoteStream, if it is open
+   */
+  private void closeRemoteStream() {
+    if (mRemoteStream != null) {
+      try {
+        mRemoteStream.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the remote stream of block " + mBlockInfo.blockId, e);
+      }
+      mRemoteStream = null;
+    }
+    mPrefetchBuffer = null;
   }
 
   /**
@@ -162,12 +205,53 @@ public class RemoteBlockInStream extends BlockInStream {
         mBlockOutStream.cancel();
       }
     }
+    closeRemoteStream();
     if (mCheckpointInputStream != null) {
       mCheckpointInputStream.close();
     }
     mClosed = true;
   }
 
+  @Override
+  void prefetch() throws IOException {
+    if (mAttemptReadFromWorkers) {
+      if (mStreaming) {
+        if (mPrefetchBuffer == null && updateRemoteStream()) {
+          prefetchRemoteStream();
+        }
+      } else {
+        updateCurrentBuffer();
+      }
+    }
+  }
+
+  /**
+   * Reads the first chunk of mRemoteStream into mPrefetchBuffer. The chunk is dropped if the
+   * stream fails, the next read opens a new stream.
+   */
+  private void prefetchRemoteStream() {
+    long chunkSize =
+        mTachyonConf.getBytes(Constants.USER_REMOTE_READ_CHUNK_SIZE_BYTE, 64 * Constants.KB);
+    byte[] chunk = new byte[(int) Math.min(chunkSize, mRemoteStreamEnd - mRemoteStreamPos)];
+    int length = 0;
+    try {
+      while (length < chunk.length) {
+        int readBytes = mRemoteStream.read(chunk, length, chunk.length - length);
+        if (readBytes == -1) {
+          break;
+        }
+        length += readBytes;
+      }
+    } catch (IOException e) {
+      LOG.warn("Failed to prefetch block " + mBlockInfo.blockId + " at position "
+          + mRemoteStreamPos, e);
+      closeRemoteStream();
+      return;
+    }
+    mPrefetchBuffer = ByteBuffer.wrap(chunk, 0, length);
+    mRemoteStreamPos += length;
+  }
+
   @Override
   public int read() throws IOException {
     byte[] b = new byte[1];
@@ -177,6 +261,19 @@ public class RemoteBlockInStream extends BlockInStream {
     return (int) b[0] & 0xFF;
   }
 
+  @Override
+  int read(long pos, byte[] b, int off, int len) throws IOException {
+    if (mAttemptReadFromWorkers && !mRecache) {
+      // Fetch exactly the range, instead of a buffer or a stream starting at the position
+      ByteBuffer buf = readRemoteByteBuffer(mTachyonFS, mBlockInfo, pos, len, mTachyonConf);
+      if (buf != null && buf.remaining() == len) {
+        buf.get(b, off, len);
+        return len;
+      }
+    }
+    return super.read(pos, b, off, len);
+  }
+
   @Override
   public int read(byte[] b) throws IOException {
     return read(b, 0, b.length);
@@ -198,9 +295,14 @@ public class RemoteBlockInStream extends BlockInStream {
     // read up to the end of the file
     len = (int) Math.min(len, mBlockInfo.length - mBlockPos);
     int bytesLeft = len;
+    if (mStreaming && mAttemptReadFromWorkers) {
+      int bytesRead = readRemoteStream(b, off, bytesLeft);
+      off += bytesRead;
+      bytesLeft -= bytesRead;
+    }
     // While we still have bytes to read, make sure the buffer is set to read the byte at mBlockPos.
     // If we fail to set mCurrentBuffer, we stream the rest from the underfs
-    while (bytesLeft > 0 && mAttemptReadFromWorkers && updateCurrentBuffer()) {
+    while (bytesLeft > 0 && !mStreaming && mAttemptReadFromWorkers && updateCurrentBuffer()) {
       int bytesToRead = (int) Math.min(bytesLeft, mCurrentBuffer.remaining());
       mCurrentBuffer.get(b, off, bytesToRead);
       if (mRecache) {
@@ -240,6 +342,60 @@ public class RemoteBlockInStream extends BlockInStream {
     return len;
   }
 
+  /**
+   * Reads up to len bytes at mBlockPos from the workers through mRemoteStream, advancing mBlockPos.
+   * A stream failing in the middle of the range is reopened, up to MAX_REMOTE_READ_ATTEMPTS
+   * times.
+   *
+   * @return the number of bytes read, less than len if the workers failed to provide the data
+   * @throws IOException
+   */
+  private int readRemoteStream(byte[] b, int off, int len) throws IOException {
+    int bytesRead = 0;
+    int failures = 0;
+    if (mPrefetchBuffer != null) {
+      if (mRemoteStreamPos - mPrefetchBuffer.remaining() == mBlockPos) {
+        bytesRead = Math.min(len, mPrefetchBuffer.remaining());
+        mPrefetchBuffer.get(b, off, bytesRead);
+        if (mRecache) {
+          mBlockOutStream.write(b, off, bytesRead);
+        }
+        mBlockPos += bytesRead;
+        if (!mPrefetchBuffer.hasRemaining()) {
+          mPrefetchBuffer = null;
+        }
+      } else {
+        // The stream was seeked away from the prefetched bytes
+        closeRemoteStream();
+      }
+    }
+    while (bytesRead < len && updateRemoteStream()) {
+      int readBytes;
+      try {
+        readBytes = mRemoteStream.read(b, off + bytesRead, len - bytesRead);
+        if (readBytes == -1) {
+          throw new IOException("Remote stream ended at " + mRemoteStreamPos + " instead of "
+              + mRemoteStreamEnd);
+        }
+      } catch (IOException e) {
+        LOG.error("Failed to stream block " + mBlockInfo.blockId + " at position "
+            + mRemoteStreamPos, e);
+        closeRemoteStream();
+        if (++ failures >= MAX_REMOTE_READ_ATTEMPTS) {
+          break;
+        }
+        continue;
+      }
+      if (mRecache) {
+        mBlockOutStream.write(b, off + bytesRead, readBytes);
+      }
+      bytesRead += readBytes;
+      mBlockPos += readBytes;
+      mRemoteStreamPos += readBytes;
+    }
+    return bytesRead;
+  }
+
   public static ByteBuffer readRemoteByteBuffer(TachyonFS tachyonFS, ClientBlockInfo blockInfo,
       long offset, long len, TachyonConf conf) {
     ByteBuffer buf = null;
@@ -292,6 +448,34 @@ public class RemoteBlockInStream extends BlockInStream {
         address.getHostName(), address.getPort(), blockId, offset, length);
   }
 
+  /**
+   * Opens a stream of the range of the block from one of the workers which have it.
+   *
+   * @return the stream, or null if no worker could provide the range
+   */
+  private RemoteBlockReader.Stream openRemoteStream(long offset, long len) {
+    RemoteBlockReader reader = RemoteBlockReader.Factory.createRemoteBlockReader(mTachyonConf);
+    for (NetAddress blockLocation : mBlockInfo.getLocations()) {
+      // The data is not in remote machine's memory if port == -1.
+      if (blockLocation.mSecondaryPort == -1) {
+        continue;
+      }
+      try {
+        RemoteBlockReader.Stream stream =
+            reader.openRemoteBlock(blockLocation.mHost, blockLocation.mSecondaryPort,
+                mBlockInfo.blockId, offset, len);
+        if (stream != null) {
+          return stream;
+        }
+      } catch (IOException e) {
+        LOG.error("Fail to open stream for block " + mBlockInfo.blockId + " from remote "
+            + blockLocation.mHost + ":" + blockLocation.mSecondaryPort + " with offset " + offset
+            + " and length " + len, e);
+      }
+    }
+    return null;
+  }
+
   @Override
   public void seek(long pos) throws IOException {
     if (pos < 0) {
@@ -393,4 +577,38 @@ public class RemoteBlockInStream extends BlockInStream {
     }
     return false;
   }
+
+  /**
+   * Makes sure mRemoteStream is set to read at mBlockPos. If it is already, we do nothing.
+   * Otherwise, we open a stream of the range of the block starting at mBlockPos, of at most the
+   * remote read buffer size.
+   *
+   * @return true if mRemoteStream was successfully set to read at mBlockPos, or false if no worker
+   *         could provide the data.
+   * @throws IOException
+   */
+  private boolean updateRemoteStream() throws IOException {
+    if (mRemoteStream != null && mRemoteStreamPos == mBlockPos
+        && mRemoteStreamPos < mRemoteStreamEnd) {
+      return true;
+    }
+    closeRemoteStream();
+
+    long bufferSize =
+        mTachyonConf.getBytes(Constants.USER_REMOTE_READ_BUFFER_SIZE_BYTE, Constants.MB);
+    long length = Math.min(bufferSize, mBlockInfo.length - mBlockPos);
+    LOG.info(String.format("Try to find remote worker and stream block %d from %d, with len %d",
+        mBlockInfo.blockId, mBlockPos, length));
+    for (int i = 0; i < MAX_REMOTE_READ_ATTEMPTS; i ++) {
+      mRemoteStream = openRemoteStream(mBlockPos, length);
+      if (mRemoteStream != null) {
+        mRemoteStreamPos = mBlockPos;
+        mRemoteStreamEnd = mBlockPos + length;
+        return true;
+      }
+      // The read failed, refresh the block info and try again
+      mBlockInfo = mFile.getClientBlockInfo(mBlockIndex);
+    }
+    return false;
+  }
 }
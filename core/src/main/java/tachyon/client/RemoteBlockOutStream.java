@@ -0,0 +1,104 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+
+/**
+ * <code>RemoteBlockOutStream</code> writes a block of a TachyonFile to the data server of a worker
+ * which is not local, so that clients on hosts without a worker can cache data. Writes are buffered
+ * and streamed to the worker a buffer at a time, the worker's acknowledgements are all checked
+ * before the block is cached. This class is not client facing.
+ */
+public class RemoteBlockOutStream extends BufferedBlockOutStream {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final InetSocketAddress mDataServerAddress;
+  private final RemoteBlockWriter mRemoteWriter;
+
+  /**
+   * @param file the file the block belongs to
+   * @param opType the OutStream's write type
+   * @param blockIndex the index of the block in the file
+   * @param tachyonConf the TachyonConf instance for this file output stream.
+   * @throws IOException
+   */
+  RemoteBlockOutStream(TachyonFile file, WriteType opType, int blockIndex,
+      TachyonConf tachyonConf) throws IOException {
+    super(file, opType, blockIndex, tachyonConf);
+
+    mDataServerAddress = mTachyonFS.getWorkerDataServerAddress();
+    mRemoteWriter = RemoteBlockWriter.Factory.createRemoteBlockWriter(tachyonConf);
+    mRemoteWriter.open(mDataServerAddress, mTachyonFS.getUserId(), mBlockId);
+    mCanWrite = true;
+    LOG.info("Writing block " + mBlockId + " to remote worker " + mDataServerAddress);
+  }
+
+  @Override
+  protected void appendCurrentBuffer(byte[] buf, int offset, int length) throws IOException {
+    try {
+      mRemoteWriter.write(buf, offset, length);
+    } catch (IOException e) {
+      mCanWrite = false;
+      throw e;
+    }
+  }
+
+  @Override
+  public void cancel() throws IOException {
+    if (!mClosed) {
+      // Let the worker store the writes in flight first, so that none lands after the cancel
+      try {
+        mRemoteWriter.flush();
+      } catch (IOException e) {
+        LOG.warn("Failed to write block " + mBlockId + " before canceling it: " + e.getMessage());
+      }
+      mRemoteWriter.close();
+      mClosed = true;
+      mTachyonFS.cancelBlock(mBlockId);
+      LOG.info(String.format("Canceled output of block. blockId(%d) worker(%s)", mBlockId,
+          mDataServerAddress));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!mClosed) {
+      flushBuffer();
+      try {
+        mRemoteWriter.flush();
+      } catch (IOException e) {
+        mCanWrite = false;
+        throw e;
+      }
+      mRemoteWriter.close();
+      mTachyonFS.cacheBlock(mBlockId);
+      mClosed = true;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    // The block is only visible once it is cached, so there is nothing to flush before close.
+  }
+}
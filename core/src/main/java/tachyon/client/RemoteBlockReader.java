@@ -15,8 +15,10 @@
 
 package tachyon.client;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import com.google.common.base.Throwables;
 
@@ -26,12 +28,29 @@ import tachyon.util.CommonUtils;
 
 public interface RemoteBlockReader {
 
+  /**
+   * A range of a remote block being received. Data is handed out as it arrives from the worker,
+   * so the whole range is never held in memory.
+   */
+  interface Stream extends Closeable {
+    /**
+     * Read the next bytes of the range, blocking until some are available.
+     *
+     * @param b the buffer to read into
+     * @param off the offset in the buffer
+     * @param len the maximum number of bytes to read
+     * @return the number of bytes read, or -1 at the end of the range
+     * @throws IOException
+     */
+    int read(byte[] b, int off, int len) throws IOException;
+  }
+
   class Factory {
     public static RemoteBlockReader createRemoteBlockReader(TachyonConf conf) {
       try {
         return CommonUtils.createNewClassInstance(conf.getClass(
-            Constants.USER_REMOTE_BLOCK_READER, Constants.USER_REMOTE_BLOCK_READER_CLASS), null,
-            null);
+            Constants.USER_REMOTE_BLOCK_READER, Constants.USER_REMOTE_BLOCK_READER_CLASS),
+            new Class[] {TachyonConf.class}, new Object[] {conf});
       } catch (Exception e) {
         throw Throwables.propagate(e);
       }
@@ -40,4 +59,33 @@ public interface RemoteBlockReader {
 
   public abstract ByteBuffer readRemoteBlock(String host, int port, long blockId, long offset,
       long length) throws IOException;
+
+  /**
+   * Start receiving a range of a remote block. The caller must close the returned stream.
+   *
+   * @param host the host of the worker's data server
+   * @param port the port of the worker's data server
+   * @param blockId the id of the block
+   * @param offset the offset of the range in the block
+   * @param length the length of the range
+   * @return the stream of the range, or null if the worker could not read the range
+   * @throws IOException
+   */
+  public abstract Stream openRemoteBlock(String host, int port, long blockId, long offset,
+      long length) throws IOException;
+
+  /**
+   * Read several ranges from the same worker. The i-th range is the given length of block
+   * blockIds[i] from offsets[i], a length of -1 meaning up to the end of the block.
+   *
+   * @param host the host of the worker's data server
+   * @param port the port of the worker's data server
+   * @param blockIds the ids of the blocks
+   * @param offsets the offsets of the ranges in their blocks
+   * @param lengths the lengths of the ranges
+   * @return the data of each range, an element is null if the worker could not read the range
+   * @throws IOException
+   */
+  public abstract List<ByteBuffer> readRemoteBlocks(String host, int port, long[] blockIds,
+      long[] offsets, long[] lengths) throws IOException;
 }
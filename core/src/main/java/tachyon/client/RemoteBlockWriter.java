@@ -0,0 +1,77 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import com.google.common.base.Throwables;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.util.CommonUtils;
+
+/**
+ * Writes a block to the data server of a worker, for clients without a local worker. The worker
+ * allocates the space of the block as data arrives, the block is then committed or cancelled
+ * through the worker client like a locally written block.
+ */
+public interface RemoteBlockWriter extends Closeable, Flushable {
+
+  class Factory {
+    public static RemoteBlockWriter createRemoteBlockWriter(TachyonConf conf) {
+      try {
+        return CommonUtils.createNewClassInstance(conf.getClass(
+            Constants.USER_REMOTE_BLOCK_WRITER, Constants.USER_REMOTE_BLOCK_WRITER_CLASS),
+            new Class[] {TachyonConf.class}, new Object[] {conf});
+      } catch (Exception e) {
+        throw Throwables.propagate(e);
+      }
+    }
+  }
+
+  /**
+   * Start writing a block to the data server.
+   *
+   * @param address the address of the worker's data server
+   * @param userId the id of the user writing the block
+   * @param blockId the id of the block
+   * @throws IOException
+   */
+  void open(InetSocketAddress address, long userId, long blockId) throws IOException;
+
+  /**
+   * Append data to the block. The data may not be stored by the worker yet when this returns, a
+   * failure to store it is reported by a later write or by {@link #flush()}.
+   *
+   * @param b the data
+   * @param off the offset of the data in the array
+   * @param len the length of the data
+   * @throws IOException if the worker failed to store data written so far, e.g. when it is out of
+   *         space
+   */
+  void write(byte[] b, int off, int len) throws IOException;
+
+  /**
+   * Wait until the worker stored all the data written so far.
+   *
+   * @throws IOException if the worker failed to store some of the data
+   */
+  @Override
+  void flush() throws IOException;
+}
@@ -19,11 +19,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -54,6 +56,9 @@ import tachyon.worker.WorkerClient;
 /**
  * Tachyon's user client API. It contains a MasterClient and several WorkerClients depending on how
  * many workers the client program is interacting with.
+ * 
+ * A TachyonFS is thread safe. Threads sharing it issue their RPCs concurrently, over the pooled
+ * connections of the MasterClient and WorkerClient.
  */
 public class TachyonFS extends AbstractTachyonFS {
 
@@ -134,9 +139,20 @@ public class TachyonFS extends AbstractTachyonFS {
     return new TachyonFS(tachyonConf);
   }
 
+  /** The lock ids of a block locked on the worker, guarded by its monitor */
+  private static final class BlockLocks {
+    private final Set<Integer> mLockIds = new HashSet<Integer>(4);
+    // The path of the block file, null until the worker locked the block
+    private String mBlockPath = null;
+  }
+
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final int mUserFailedSpaceRequestLimits;
   private final ExecutorService mExecutorService;
+  // Commits the finished blocks of the files being written, see FileOutStream.
+  private final ExecutorService mBlockCommitExecutor;
+  // Runs the background reads: the read-ahead of FileInStream and TachyonFile.readRanges.
+  private final ExecutorService mReadExecutor;
 
   // The RPC client talks to the system master.
   private final MasterClient mMasterClient;
@@ -149,16 +165,16 @@ public class TachyonFS extends AbstractTachyonFS {
   private final boolean mZookeeperMode;
   // Cached ClientFileInfo
   private final Map<String, ClientFileInfo> mPathToClientFileInfo =
-      new HashMap<String, ClientFileInfo>();
+      new ConcurrentHashMap<String, ClientFileInfo>();
   private final Map<Integer, ClientFileInfo> mIdToClientFileInfo =
-      new HashMap<Integer, ClientFileInfo>();
+      new ConcurrentHashMap<Integer, ClientFileInfo>();
 
   private UnderFileSystem mUnderFileSystem;
 
-  // All Blocks has been locked.
-  private final Map<Long, Set<Integer>> mLockedBlockIds = new HashMap<Long, Set<Integer>>();
-  // Mapping from block id to path of the block locked
-  private final Map<Long, String> mLockedBlockIdToPath = new HashMap<Long, String>();
+  // All Blocks has been locked. The worker is asked to lock or unlock a block under the monitor of
+  // its BlockLocks, which stays in the map until the worker replied.
+  private final ConcurrentMap<Long, BlockLocks> mLockedBlocks =
+      new ConcurrentHashMap<Long, BlockLocks>();
 
   // Each user facing block has a unique block lock id.
   private final AtomicInteger mBlockLockId = new AtomicInteger(0);
@@ -176,6 +192,10 @@ public class TachyonFS extends AbstractTachyonFS {
 
     mExecutorService =
         Executors.newFixedThreadPool(2, ThreadFactoryUtils.daemon("client-heartbeat-%d"));
+    mBlockCommitExecutor =
+        Executors.newCachedThreadPool(ThreadFactoryUtils.daemon("client-block-commit-%d"));
+    mReadExecutor =
+        Executors.newCachedThreadPool(ThreadFactoryUtils.daemon("client-read-%d"));
 
     mMasterClient =
         mCloser.register(new MasterClient(mMasterAddress, mExecutorService, mTachyonConf));
@@ -196,7 +216,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockId the local block's id
    * @throws IOException
    */
-  synchronized void accessLocalBlock(long blockId) throws IOException {
+  void accessLocalBlock(long blockId) throws IOException {
     if (mWorkerClient.isLocal()) {
       mWorkerClient.accessBlock(blockId);
     }
@@ -208,7 +228,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @throws IOException
    */
-  synchronized void addCheckpoint(int fid) throws IOException {
+  void addCheckpoint(int fid) throws IOException {
     mWorkerClient.addCheckpoint(fid);
   }
 
@@ -219,7 +239,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if succeed, false otherwise
    * @throws IOException
    */
-  synchronized boolean asyncCheckpoint(int fid) throws IOException {
+  boolean asyncCheckpoint(int fid) throws IOException {
     return mWorkerClient.asyncCheckpoint(fid);
   }
 
@@ -229,7 +249,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockId the block id
    * @throws IOException
    */
-  public synchronized void cacheBlock(long blockId) throws IOException {
+  public void cacheBlock(long blockId) throws IOException {
     mWorkerClient.cacheBlock(blockId);
   }
 
@@ -239,7 +259,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockId the block id
    * @throws IOException
    */
-  public synchronized void cancelBlock(long blockId) throws IOException {
+  public void cancelBlock(long blockId) throws IOException {
     mWorkerClient.cancelBlock(blockId);
   }
 
@@ -254,6 +274,8 @@ public class TachyonFS extends AbstractTachyonFS {
       mCloser.close();
     } finally {
       mExecutorService.shutdown();
+      mBlockCommitExecutor.shutdown();
+      mReadExecutor.shutdown();
     }
   }
 
@@ -263,7 +285,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @throws IOException
    */
-  synchronized void completeFile(int fid) throws IOException {
+  void completeFile(int fid) throws IOException {
     mMasterClient.user_completeFile(fid);
   }
 
@@ -304,7 +326,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the dependency's id
    * @throws IOException
    */
-  public synchronized int createDependency(List<String> parents, List<String> children,
+  public int createDependency(List<String> parents, List<String> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, int dependencyType, long childrenBlockSizeByte) throws IOException {
     return mMasterClient.user_createDependency(parents, children, commandPrefix, data, comment,
@@ -322,7 +344,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return The file id, which is globally unique.
    */
   @Override
-  public synchronized int createFile(TachyonURI path, TachyonURI ufsPath, long blockSizeByte,
+  public int createFile(TachyonURI path, TachyonURI ufsPath, long blockSizeByte,
       boolean recursive) throws IOException {
     validateUri(path);
     return mMasterClient.user_createFile(path.getPath(), ufsPath.toString(), blockSizeByte,
@@ -338,10 +360,49 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException If file already exists, or path is invalid.
    */
   @Deprecated
-  public synchronized int createFile(String path) throws IOException {
+  public int createFile(String path) throws IOException {
     return createFile(new TachyonURI(path));
   }
 
+  /**
+   * Creates several new files with one RPC. The master creates them under one namespace lock and
+   * syncs its journal once for all of them.
+   * 
+   * @param paths The paths of the files
+   * @param blockSizeByte The size of the blocks of the files in bytes
+   * @param recursive Creates necessary parent folders if true, not otherwise.
+   * @return The file ids, in the order of the paths
+   * @throws IOException If a file already exists or a path is invalid. The files before it in
+   *         the list are created.
+   */
+  public List<Integer> createFiles(List<TachyonURI> paths, long blockSizeByte, boolean recursive)
+      throws IOException {
+    return mMasterClient.user_createFileBatch(toPaths(paths), blockSizeByte, recursive);
+  }
+
+  /**
+   * Creates several new files which are already checkpointed in the under file system, with one
+   * RPC. The i-th file gets the i-th ufs path, length and block size.
+   * 
+   * @param paths The paths of the files
+   * @param ufsPaths The paths of the checkpoints of the files
+   * @param lengths The lengths of the files in bytes
+   * @param blockSizeBytes The sizes of the blocks of the files in bytes
+   * @param recursive Creates necessary parent folders if true, not otherwise.
+   * @return The file ids, in the order of the paths
+   * @throws IOException If a file already exists or a path is invalid. The files before it in
+   *         the list are created.
+   */
+  public List<Integer> createCheckpointedFiles(List<TachyonURI> paths, List<TachyonURI> ufsPaths,
+      List<Long> lengths, List<Long> blockSizeBytes, boolean recursive) throws IOException {
+    List<String> ufsPathStrings = new ArrayList<String>(ufsPaths.size());
+    for (TachyonURI ufsPath : ufsPaths) {
+      ufsPathStrings.add(ufsPath.toString());
+    }
+    return mMasterClient.user_createCheckpointedFileBatch(toPaths(paths), ufsPathStrings, lengths,
+        blockSizeBytes, recursive);
+  }
+
   /**
    * Create a RawTable and return its id
    * 
@@ -350,7 +411,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the id if succeed, -1 otherwise
    * @throws IOException
    */
-  public synchronized int createRawTable(TachyonURI path, int columns) throws IOException {
+  public int createRawTable(TachyonURI path, int columns) throws IOException {
     return createRawTable(path, columns, ByteBuffer.allocate(0));
   }
 
@@ -363,7 +424,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the id if succeed, -1 otherwise
    * @throws IOException
    */
-  public synchronized int createRawTable(TachyonURI path, int columns, ByteBuffer metadata)
+  public int createRawTable(TachyonURI path, int columns, ByteBuffer metadata)
       throws IOException {
     validateUri(path);
     int maxColumns = mTachyonConf.getInt(Constants.MAX_COLUMNS, 1000);
@@ -387,12 +448,25 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean delete(int fileId, TachyonURI path, boolean recursive)
+  public boolean delete(int fileId, TachyonURI path, boolean recursive)
       throws IOException {
     validateUri(path);
     return mMasterClient.user_delete(fileId, path.getPath(), recursive);
   }
 
+  /**
+   * Deletes several files or folders with one RPC.
+   * 
+   * @param paths The paths of the files / folders
+   * @param recursive If a path represents a non-empty folder, delete the folder recursively or not
+   * @return whether each path was deleted, in the order of the paths. A path which does not exist
+   *         counts as deleted.
+   * @throws IOException
+   */
+  public List<Boolean> delete(List<TachyonURI> paths, boolean recursive) throws IOException {
+    return mMasterClient.user_deleteBatch(toPaths(paths), recursive);
+  }
+
   /**
    * Delete the file denoted by the path.
    * 
@@ -403,7 +477,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Deprecated
-  public synchronized boolean delete(String path, boolean recursive) throws IOException {
+  public boolean delete(String path, boolean recursive) throws IOException {
     return delete(new TachyonURI(path), recursive);
   }
 
@@ -414,7 +488,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if it exists, false otherwise
    * @throws IOException
    */
-  public synchronized boolean exist(TachyonURI path) throws IOException {
+  public boolean exist(TachyonURI path) throws IOException {
     return getFileStatus(-1, path, false) != null;
   }
 
@@ -427,7 +501,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the block id if exists
    * @throws IOException if the file does not exist, or connection issue.
    */
-  public synchronized long getBlockId(int fileId, int blockIndex) throws IOException {
+  public long getBlockId(int fileId, int blockIndex) throws IOException {
     ClientFileInfo info = getFileStatus(fileId, true);
 
     if (info == null) {
@@ -441,10 +515,17 @@ public class TachyonFS extends AbstractTachyonFS {
     return mMasterClient.user_getBlockId(fileId, blockIndex);
   }
 
+  /**
+   * @return the executor committing the finished blocks of the files written by this client
+   */
+  ExecutorService getBlockCommitExecutor() {
+    return mBlockCommitExecutor;
+  }
+
   /**
    * @return a new block lock id
    */
-  synchronized int getBlockLockId() {
+  int getBlockLockId() {
     return mBlockLockId.getAndIncrement();
   }
 
@@ -455,7 +536,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientBlockInfo of the specified block
    * @throws IOException
    */
-  synchronized ClientBlockInfo getClientBlockInfo(long blockId) throws IOException {
+  ClientBlockInfo getClientBlockInfo(long blockId) throws IOException {
     return mMasterClient.user_getClientBlockInfo(blockId);
   }
 
@@ -466,7 +547,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientDependencyInfo of the specified dependency
    * @throws IOException
    */
-  public synchronized ClientDependencyInfo getClientDependencyInfo(int depId) throws IOException {
+  public ClientDependencyInfo getClientDependencyInfo(int depId) throws IOException {
     return mMasterClient.getClientDependencyInfo(depId);
   }
 
@@ -480,7 +561,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid file id.
    * @return TachyonFile of the file id, or null if the file does not exist.
    */
-  public synchronized TachyonFile getFile(int fid) throws IOException {
+  public TachyonFile getFile(int fid) throws IOException {
     return getFile(fid, true);
   }
 
@@ -490,7 +571,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * 
    * @return TachyonFile of the file id, or null if the file does not exist.
    */
-  public synchronized TachyonFile getFile(int fid, boolean useCachedMetadata) throws IOException {
+  public TachyonFile getFile(int fid, boolean useCachedMetadata) throws IOException {
     ClientFileInfo clientFileInfo = getFileStatus(fid, TachyonURI.EMPTY_URI, useCachedMetadata);
     if (clientFileInfo == null) {
       return null;
@@ -505,7 +586,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return TachyonFile of the path, or null if the file does not exist.
    * @throws IOException
    */
-  public synchronized TachyonFile getFile(TachyonURI path) throws IOException {
+  public TachyonFile getFile(TachyonURI path) throws IOException {
     validateUri(path);
     return getFile(path, false);
   }
@@ -518,7 +599,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Deprecated
-  public synchronized TachyonFile getFile(String path) throws IOException {
+  public TachyonFile getFile(String path) throws IOException {
     return getFile(new TachyonURI(path));
   }
 
@@ -527,7 +608,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * to the file's pin setting, or other dynamic properties.
    */
   @Deprecated
-  public synchronized TachyonFile getFile(String path, boolean useCachedMetadata)
+  public TachyonFile getFile(String path, boolean useCachedMetadata)
       throws IOException {
     return getFile(new TachyonURI(path), useCachedMetadata);
   }
@@ -536,7 +617,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * Get <code>TachyonFile</code> based on the path. If useCachedMetadata, this will not see changes
    * to the file's pin setting, or other dynamic properties.
    */
-  public synchronized TachyonFile getFile(TachyonURI path, boolean useCachedMetadata)
+  public TachyonFile getFile(TachyonURI path, boolean useCachedMetadata)
       throws IOException {
     validateUri(path);
     ClientFileInfo clientFileInfo = getFileStatus(-1, path, useCachedMetadata);
@@ -553,18 +634,29 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the list of the blocks' info
    * @throws IOException
    */
-  public synchronized List<ClientBlockInfo> getFileBlocks(int fid) throws IOException {
+  public List<ClientBlockInfo> getFileBlocks(int fid) throws IOException {
     // TODO Should read from mClientFileInfos if possible. Should add timeout to improve this.
     return mMasterClient.user_getFileBlocks(fid, "");
   }
 
+  /**
+   * Get all the blocks' info of several files with one RPC.
+   * 
+   * @param fileIds the file ids
+   * @return the list of the blocks' info of each file, in the order of the ids
+   * @throws IOException if any of the files does not exist
+   */
+  public List<List<ClientBlockInfo>> getFileBlocks(List<Integer> fileIds) throws IOException {
+    return mMasterClient.user_getFileBlocksBatch(fileIds);
+  }
+
   /**
    * Get file id by the path. It will check if the path exists.
    * 
    * @param path the path in Tachyon file system
    * @return the file id if exists, -1 otherwise
    */
-  public synchronized int getFileId(TachyonURI path) {
+  public int getFileId(TachyonURI path) {
     try {
       ClientFileInfo fileInfo = getFileStatus(-1, path, false);
       return fileInfo == null ? -1 : fileInfo.getId();
@@ -584,7 +676,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the clientFileInfo.
    * @throws IOException
    */
-  private synchronized <K> ClientFileInfo getFileStatus(Map<K, ClientFileInfo> cache, K key,
+  private <K> ClientFileInfo getFileStatus(Map<K, ClientFileInfo> cache, K key,
       int fileId, String path, boolean useCachedMetaData) throws IOException {
     ClientFileInfo info = null;
     if (useCachedMetaData) {
@@ -620,7 +712,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientFileInfo of the file. null if the file does not exist.
    * @throws IOException
    */
-  public synchronized ClientFileInfo getFileStatus(int fileId, TachyonURI path,
+  public ClientFileInfo getFileStatus(int fileId, TachyonURI path,
       boolean useCachedMetadata) throws IOException {
     if (fileId != -1) {
       return getFileStatus(mIdToClientFileInfo, Integer.valueOf(fileId), fileId,
@@ -645,11 +737,49 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientFileInfo of the file. null if the file does not exist.
    * @throws IOException
    */
-  public synchronized ClientFileInfo getFileStatus(int fileId, boolean useCachedMetadata)
+  public ClientFileInfo getFileStatus(int fileId, boolean useCachedMetadata)
       throws IOException {
     return getFileStatus(fileId, TachyonURI.EMPTY_URI, useCachedMetadata);
   }
 
+  /**
+   * Get the ClientFileInfo objects of several paths with one RPC. The infos are cached like the
+   * ones of {@link #getFileStatus(int, TachyonURI, boolean)}.
+   * 
+   * @param paths the paths of the files or folders
+   * @return the ClientFileInfo of each path, in the order of the paths. An element is null if its
+   *         file does not exist.
+   * @throws IOException
+   */
+  public List<ClientFileInfo> getFileStatus(List<TachyonURI> paths) throws IOException {
+    List<ClientFileInfo> infos = mMasterClient.getFileStatusBatch(toPaths(paths));
+    List<ClientFileInfo> ret = new ArrayList<ClientFileInfo>(infos.size());
+    for (int k = 0; k < infos.size(); k ++) {
+      ClientFileInfo info = infos.get(k);
+      if (info.getId() == -1) {
+        mPathToClientFileInfo.remove(paths.get(k).getPath());
+        ret.add(null);
+        continue;
+      }
+      mIdToClientFileInfo.put(info.getId(), info);
+      mPathToClientFileInfo.put(info.getPath(), info);
+      ret.add(info);
+    }
+    return ret;
+  }
+
+  /**
+   * Get the address of the data server of the worker this client talks to. The worker may not be
+   * local, its blocks are then written through the data server.
+   * 
+   * @return the address of the worker's data server
+   * @throws IOException
+   */
+  InetSocketAddress getWorkerDataServerAddress() throws IOException {
+    mWorkerClient.mustConnect();
+    return mWorkerClient.getDataServerAddress();
+  }
+
   /**
    * Get block's temporary path from worker with initial space allocated.
    * 
@@ -658,7 +788,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the temporary path of the block file
    * @throws IOException
    */
-  public synchronized String getLocalBlockTemporaryPath(long blockId, long initialBytes)
+  public String getLocalBlockTemporaryPath(long blockId, long initialBytes)
       throws IOException {
     String blockPath = mWorkerClient.requestBlockLocation(blockId, initialBytes);
 
@@ -688,7 +818,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the RawTable
    * @throws IOException
    */
-  public synchronized RawTable getRawTable(int id) throws IOException {
+  public RawTable getRawTable(int id) throws IOException {
     ClientRawTableInfo clientRawTableInfo = mMasterClient.user_getClientRawTableInfo(id, "");
     return new RawTable(this, clientRawTableInfo);
   }
@@ -700,18 +830,25 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the RawTable
    * @throws IOException
    */
-  public synchronized RawTable getRawTable(TachyonURI path) throws IOException {
+  public RawTable getRawTable(TachyonURI path) throws IOException {
     validateUri(path);
     ClientRawTableInfo clientRawTableInfo =
         mMasterClient.user_getClientRawTableInfo(-1, path.getPath());
     return new RawTable(this, clientRawTableInfo);
   }
 
+  /**
+   * @return the executor of the background reads of this client
+   */
+  ExecutorService getReadExecutor() {
+    return mReadExecutor;
+  }
+
   /**
    * @return the address of the UnderFileSystem
    * @throws IOException
    */
-  public synchronized String getUfsAddress() throws IOException {
+  public String getUfsAddress() throws IOException {
     return mMasterClient.user_getUfsAddress();
   }
 
@@ -719,10 +856,19 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return URI of the root of the filesystem
    */
   @Override
-  public synchronized TachyonURI getUri() {
+  public TachyonURI getUri() {
     return mRootUri;
   }
 
+  /**
+   * Returns the client of the worker. This is only used for testing.
+   * 
+   * @return the client of the worker
+   */
+  WorkerClient getWorkerClient() {
+    return mWorkerClient;
+  }
+
   /**
    * Returns the userId of the master client. This is only used for testing.
    * 
@@ -737,7 +883,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return all the works' info
    * @throws IOException
    */
-  public synchronized List<ClientWorkerInfo> getWorkersInfo() throws IOException {
+  public List<ClientWorkerInfo> getWorkersInfo() throws IOException {
     return mMasterClient.getWorkersInfo();
   }
 
@@ -745,14 +891,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if there is a local worker, false otherwise
    * @throws IOException
    */
-  public synchronized boolean hasLocalWorker() throws IOException {
+  public boolean hasLocalWorker() throws IOException {
     return mWorkerClient.isLocal();
   }
 
   /**
    * @return true if this client is connected to master, false otherwise
    */
-  public synchronized boolean isConnected() {
+  public boolean isConnected() {
     return mMasterClient.isConnected();
   }
 
@@ -760,7 +906,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @return true if the file is a directory, false otherwise
    */
-  synchronized boolean isDirectory(int fid) {
+  boolean isDirectory(int fid) {
     return mIdToClientFileInfo.get(fid).isFolder;
   }
 
@@ -773,7 +919,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized List<ClientFileInfo> listStatus(TachyonURI path) throws IOException {
+  public List<ClientFileInfo> listStatus(TachyonURI path) throws IOException {
     validateUri(path);
     return mMasterClient.listStatus(path.getPath());
   }
@@ -787,29 +933,112 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the path of the block file locked
    * @throws IOException
    */
-  synchronized String lockBlock(long blockId, int blockLockId) throws IOException {
+  String lockBlock(long blockId, int blockLockId) throws IOException {
     if (blockId <= 0 || blockLockId < 0) {
       return null;
     }
 
-    if (mLockedBlockIds.containsKey(blockId)) {
-      mLockedBlockIds.get(blockId).add(blockLockId);
-      return mLockedBlockIdToPath.get(blockId);
+    while (true) {
+      BlockLocks locks = mLockedBlocks.get(blockId);
+      if (locks == null) {
+        BlockLocks newLocks = new BlockLocks();
+        locks = mLockedBlocks.putIfAbsent(blockId, newLocks);
+        if (locks == null) {
+          locks = newLocks;
+        }
+      }
+      synchronized (locks) {
+        if (mLockedBlocks.get(blockId) != locks) {
+          // The block was unlocked on the worker meanwhile
+          continue;
+        }
+        if (locks.mBlockPath == null) {
+          String blockPath = null;
+          try {
+            if (mWorkerClient.isLocal()) {
+              blockPath = mWorkerClient.lockBlock(blockId);
+            }
+          } finally {
+            // The lock ids taken by lockBlocks keep the block until the batch is locked
+            if (blockPath == null && locks.mLockIds.isEmpty()) {
+              mLockedBlocks.remove(blockId, locks);
+            }
+          }
+          if (blockPath == null) {
+            return null;
+          }
+          locks.mBlockPath = blockPath;
+        }
+        locks.mLockIds.add(blockLockId);
+        return locks.mBlockPath;
+      }
     }
+  }
 
-    if (!mWorkerClient.isLocal()) {
-      return null;
+  /**
+   * Lock several blocks in the current TachyonFS, like {@link #lockBlock(long, int)} for each of
+   * them. The blocks not locked yet are locked on the worker with one RPC, so that a read of
+   * several blocks of a file does not lock them one RPC at a time.
+   * 
+   * @param blockIds The ids of the blocks to lock
+   * @param blockLockId The block lock id to lock the blocks with. <code>blockLockId</code> must be
+   *        non-negative.
+   * @return the path of each block file locked, null for a block which is not on the local worker
+   * @throws IOException
+   */
+  List<String> lockBlocks(List<Long> blockIds, int blockLockId) throws IOException {
+    // Take the lock id on the blocks not locked yet before locking them on the worker, so that they
+    // are not unlocked on the worker by another lock id meanwhile
+    List<Long> newBlockIds = new ArrayList<Long>();
+    List<BlockLocks> newLocks = new ArrayList<BlockLocks>();
+    if (blockLockId >= 0) {
+      for (long blockId : blockIds) {
+        if (blockId <= 0 || mLockedBlocks.containsKey(blockId)) {
+          continue;
+        }
+        BlockLocks locks = new BlockLocks();
+        locks.mLockIds.add(blockLockId);
+        if (mLockedBlocks.putIfAbsent(blockId, locks) == null) {
+          newBlockIds.add(blockId);
+          newLocks.add(locks);
+        }
+      }
+    }
+    List<String> blockPaths = null;
+    try {
+      if (!newBlockIds.isEmpty() && mWorkerClient.isLocal()) {
+        blockPaths = mWorkerClient.lockBlocks(newBlockIds);
+      }
+    } finally {
+      for (int k = 0; k < newBlockIds.size(); k ++) {
+        BlockLocks locks = newLocks.get(k);
+        synchronized (locks) {
+          if (locks.mBlockPath == null && blockPaths != null) {
+            locks.mBlockPath = blockPaths.get(k);
+          }
+          if (locks.mBlockPath == null) {
+            locks.mLockIds.remove(blockLockId);
+            if (locks.mLockIds.isEmpty()) {
+              mLockedBlocks.remove(newBlockIds.get(k), locks);
+            }
+          }
+        }
+      }
     }
-    String blockPath = mWorkerClient.lockBlock(blockId);
-
-    if (blockPath != null) {
-      Set<Integer> lockIds = new HashSet<Integer>(4);
-      lockIds.add(blockLockId);
-      mLockedBlockIds.put(blockId, lockIds);
-      mLockedBlockIdToPath.put(blockId, blockPath);
-      return blockPath;
+
+    List<String> ret = new ArrayList<String>(blockIds.size());
+    for (long blockId : blockIds) {
+      int index = newBlockIds.indexOf(blockId);
+      if (index >= 0) {
+        BlockLocks locks = newLocks.get(index);
+        synchronized (locks) {
+          ret.add(locks.mBlockPath);
+        }
+      } else {
+        ret.add(lockBlock(blockId, blockLockId));
+      }
     }
-    return null;
+    return ret;
   }
 
   /**
@@ -821,13 +1050,13 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean mkdirs(TachyonURI path, boolean recursive) throws IOException {
+  public boolean mkdirs(TachyonURI path, boolean recursive) throws IOException {
     validateUri(path);
     return mMasterClient.user_mkdirs(path.getPath(), recursive);
   }
 
   /** Alias for setPinned(fid, true). */
-  public synchronized void pinFile(int fid) throws IOException {
+  public void pinFile(int fid) throws IOException {
     setPinned(fid, true);
   }
 
@@ -843,7 +1072,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean freepath(int fileId, TachyonURI path, boolean recursive)
+  public boolean freepath(int fileId, TachyonURI path, boolean recursive)
       throws IOException {
     validateUri(path);
     return mMasterClient.user_freepath(fileId, path.getPath(), recursive);
@@ -863,7 +1092,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean setOwner(int fileId, TachyonURI path, String username,
+  public boolean setOwner(int fileId, TachyonURI path, String username,
       String groupname, boolean recursive) throws IOException {
     if (username == null && groupname == null) {
       throw new IOException("username == null && groupname == null");
@@ -885,7 +1114,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean setPermission(int fileId, TachyonURI path, short permission,
+  public boolean setPermission(int fileId, TachyonURI path, short permission,
       boolean recursive) throws IOException {
     validateUri(path);
     return mMasterClient.user_setPermission(fileId, path.getPath(), permission, recursive);
@@ -898,7 +1127,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if success, false otherwise
    * @throws IOException
    */
-  public synchronized boolean promoteBlock(long blockId) throws IOException {
+  public boolean promoteBlock(long blockId) throws IOException {
     if (mWorkerClient.isLocal()) {
       return mWorkerClient.promoteBlock(blockId);
     }
@@ -916,7 +1145,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean rename(int fileId, TachyonURI srcPath, TachyonURI dstPath)
+  public boolean rename(int fileId, TachyonURI srcPath, TachyonURI dstPath)
       throws IOException {
     validateUri(srcPath);
     validateUri(dstPath);
@@ -929,7 +1158,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fileId the lost file id
    * @throws IOException
    */
-  public synchronized void reportLostFile(int fileId) throws IOException {
+  public void reportLostFile(int fileId) throws IOException {
     mMasterClient.user_reportLostFile(fileId);
   }
 
@@ -939,7 +1168,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param depId the dependency id
    * @throws IOException
    */
-  public synchronized void requestFilesInDependency(int depId) throws IOException {
+  public void requestFilesInDependency(int depId) throws IOException {
     mMasterClient.user_requestFilesInDependency(depId);
   }
 
@@ -951,7 +1180,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the size bytes that allocated to the block, -1 if no local worker exists
    * @throws IOException
    */
-  public synchronized long requestSpace(long blockId, long requestSpaceBytes)
+  public long requestSpace(long blockId, long requestSpaceBytes)
       throws IOException {
 
     if (!hasLocalWorker()) {
@@ -977,7 +1206,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * Calling setPinned() on a folder will recursively set the "pinned" flag on all of that folder's
    * children. This may be an expensive operation for folders with many files/subfolders.
    */
-  public synchronized void setPinned(int fid, boolean pinned) throws IOException {
+  public void setPinned(int fid, boolean pinned) throws IOException {
     mMasterClient.user_setPinned(fid, pinned);
   }
 
@@ -998,31 +1227,38 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockLockId The block lock id of the block of unlock. <code>blockLockId</code> must be
    *        non-negative.
    */
-  synchronized boolean unlockBlock(long blockId, int blockLockId) throws IOException {
+  boolean unlockBlock(long blockId, int blockLockId) throws IOException {
     if (blockId <= 0 || blockLockId < 0) {
       return false;
     }
 
-    if (!mLockedBlockIds.containsKey(blockId)) {
-      return true;
-    }
-    Set<Integer> lockIds = mLockedBlockIds.get(blockId);
-    lockIds.remove(blockLockId);
-    if (!lockIds.isEmpty()) {
+    BlockLocks locks = mLockedBlocks.get(blockId);
+    if (locks == null) {
       return true;
     }
+    synchronized (locks) {
+      if (mLockedBlocks.get(blockId) != locks || locks.mBlockPath == null) {
+        return true;
+      }
+      locks.mLockIds.remove(blockLockId);
+      if (!locks.mLockIds.isEmpty()) {
+        return true;
+      }
 
-    if (!mWorkerClient.isLocal()) {
-      return false;
-    }
+      if (!mWorkerClient.isLocal()) {
+        return false;
+      }
 
-    mLockedBlockIdToPath.remove(blockId);
-    mLockedBlockIds.remove(blockId);
-    return mWorkerClient.unlockBlock(blockId);
+      try {
+        return mWorkerClient.unlockBlock(blockId);
+      } finally {
+        mLockedBlocks.remove(blockId, locks);
+      }
+    }
   }
 
   /** Alias for setPinned(fid, false). */
-  public synchronized void unpinFile(int fid) throws IOException {
+  public void unpinFile(int fid) throws IOException {
     setPinned(fid, false);
   }
 
@@ -1033,10 +1269,24 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param metadata the new meta data
    * @throws IOException
    */
-  public synchronized void updateRawTableMetadata(int id, ByteBuffer metadata) throws IOException {
+  public void updateRawTableMetadata(int id, ByteBuffer metadata) throws IOException {
     mMasterClient.user_updateRawTableMetadata(id, metadata);
   }
 
+  /**
+   * Validates the given uris and returns their paths.
+   * 
+   * @param uris The uris to validate
+   */
+  private List<String> toPaths(List<TachyonURI> uris) throws IOException {
+    List<String> ret = new ArrayList<String>(uris.size());
+    for (TachyonURI uri : uris) {
+      validateUri(uri);
+      ret.add(uri.getPath());
+    }
+    return ret;
+  }
+
   /**
    * Validates the given uri, throwing an IOException if the uri is invalid.
    * 
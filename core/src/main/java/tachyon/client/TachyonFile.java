@@ -22,6 +22,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -378,6 +379,105 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return mTachyonFS.promoteBlock(blockInfo.getBlockId());
   }
 
+  /**
+   * Reads up to len bytes of the file at the given position. Unlike reading an InStream, the read
+   * has no state: each block of the range is opened for the read only, so several threads may read
+   * the file concurrently. The blocks read are not cached.
+   * 
+   * @param position the position in the file
+   * @param b the buffer to read into
+   * @param off the offset in the buffer
+   * @param len the maximum number of bytes to read
+   * @return the number of bytes read, or -1 if the position is at or past the end of the file
+   * @throws IOException
+   */
+  public int read(long position, byte[] b, int off, int len) throws IOException {
+    if (b == null) {
+      throw new NullPointerException();
+    } else if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    } else if (position < 0) {
+      throw new IOException("Read position is negative: " + position);
+    }
+    if (!isComplete()) {
+      throw new IOException("File " + getPath() + " is not ready to read");
+    }
+
+    // The metadata of a complete file does not change anymore
+    ClientFileInfo info = getCachedFileStatus();
+    if (position >= info.getLength()) {
+      return -1;
+    }
+    len = (int) Math.min(len, info.getLength() - position);
+    // Lock the local blocks of a range over several blocks with one RPC
+    long blockSize = info.getBlockSizeByte();
+    List<Integer> blockIndexes = new ArrayList<Integer>();
+    for (long index = position / blockSize; index <= (position + len - 1) / blockSize; index ++) {
+      blockIndexes.add((int) index);
+    }
+    int blockLockId = mTachyonFS.getBlockLockId();
+    List<Long> lockedBlockIds =
+        blockIndexes.size() > 1 ? lockBlocks(blockIndexes, blockLockId) : new ArrayList<Long>();
+    try {
+      return readBlocks(info, position, b, off, len);
+    } finally {
+      unlockBlocks(lockedBlockIds, blockLockId);
+    }
+  }
+
+  /**
+   * Reads len bytes of the file at the given position, block after block, for the positional read.
+   */
+  private int readBlocks(ClientFileInfo info, long position, byte[] b, int off, int len)
+      throws IOException {
+    int bytesRead = 0;
+    while (bytesRead < len) {
+      long pos = position + bytesRead;
+      int blockIndex = (int) (pos / info.getBlockSizeByte());
+      long blockPos = pos % info.getBlockSizeByte();
+      int blockLen = (int) Math.min(len - bytesRead, info.getBlockSizeByte() - blockPos);
+      BlockInStream is =
+          BlockInStream.get(this, ReadType.NO_CACHE, blockIndex, getUFSConf(), mTachyonConf);
+      try {
+        int ret = is.read(blockPos, b, off + bytesRead, blockLen);
+        bytesRead += ret;
+        if (ret < blockLen) {
+          break;
+        }
+      } finally {
+        is.close();
+      }
+    }
+    if (bytesRead == 0 && len > 0) {
+      throw new IOException("Failed to read file " + mFileId + " at position " + position);
+    }
+    return bytesRead;
+  }
+
+  /**
+   * Locks the local blocks of the given indexes with one RPC, so that reading them afterwards does
+   * not lock each of them on the worker. The blocks locked are released by {@link #unlockBlocks}.
+   * 
+   * @param blockIndexes the indexes of the blocks in the file
+   * @param blockLockId the block lock id to lock them with
+   * @return the ids of the blocks locked
+   * @throws IOException
+   */
+  List<Long> lockBlocks(Collection<Integer> blockIndexes, int blockLockId) throws IOException {
+    List<Long> blockIds = new ArrayList<Long>(blockIndexes.size());
+    for (int blockIndex : blockIndexes) {
+      blockIds.add(getBlockId(blockIndex));
+    }
+    List<String> blockPaths = mTachyonFS.lockBlocks(blockIds, blockLockId);
+    List<Long> ret = new ArrayList<Long>(blockIds.size());
+    for (int k = 0; k < blockIds.size(); k ++) {
+      if (blockPaths.get(k) != null) {
+        ret.add(blockIds.get(k));
+      }
+    }
+    return ret;
+  }
+
   /**
    * Advanced API.
    * 
@@ -430,8 +530,8 @@ public class TachyonFile implements Comparable<TachyonFile> {
       throw new IOException("Length can not be negative except -1: " + len);
     }
 
-    ClientBlockInfo info = getClientBlockInfo(blockIndex);
-    long blockId = info.blockId;
+    // The block id comes from the cached file metadata, so a local read needs no master RPC
+    long blockId = getBlockId(blockIndex);
 
     int blockLockId = mTachyonFS.getBlockLockId();
     String localFileName = mTachyonFS.lockBlock(blockId, blockLockId);
@@ -476,6 +576,34 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return null;
   }
 
+  /**
+   * Reads several ranges of the file at once, such as the column chunks of a columnar file. Close
+   * ranges are fetched together, and the ranges on different workers are fetched in parallel, with
+   * one request per worker. Like the positional read, the read has no state and the blocks read are
+   * not cached.
+   * 
+   * @param offsets the offsets of the ranges in the file
+   * @param lengths the lengths of the ranges, which must not go past the end of the file
+   * @return a buffer with the data of each range, in the order of the ranges
+   * @throws IOException
+   */
+  public List<ByteBuffer> readRanges(long[] offsets, int[] lengths) throws IOException {
+    return new FileRangesReader(this, mTachyonConf, true).read(offsets, lengths);
+  }
+
+  /**
+   * Releases the blocks locked by {@link #lockBlocks}.
+   * 
+   * @param blockIds the ids of the blocks locked
+   * @param blockLockId the block lock id they were locked with
+   * @throws IOException
+   */
+  void unlockBlocks(List<Long> blockIds, int blockLockId) throws IOException {
+    for (long blockId : blockIds) {
+      mTachyonFS.unlockBlock(blockId, blockLockId);
+    }
+  }
+
   /**
    * Get the the whole block from remote workers.
    * 
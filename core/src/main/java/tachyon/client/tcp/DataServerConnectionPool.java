@@ -0,0 +1,131 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.tcp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+
+/**
+ * Keeps idle connections to the workers' data servers open, so that remote reads of the same JVM
+ * reuse them instead of paying a TCP connect and teardown per read. A connection is owned by one
+ * reader between {@link #acquire} and {@link #release}.
+ */
+final class DataServerConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static DataServerConnectionPool sPool = null;
+
+  /**
+   * Get the pool of the JVM, creating it with the given configuration on first use.
+   *
+   * @param conf the TachyonConf of the client
+   * @return the connection pool
+   */
+  static synchronized DataServerConnectionPool get(TachyonConf conf) {
+    if (sPool == null) {
+      sPool =
+          new DataServerConnectionPool(conf.getInt(
+              Constants.USER_REMOTE_READ_MAX_IDLE_CONNECTIONS, 4));
+    }
+    return sPool;
+  }
+
+  private final int mMaxIdlePerAddress;
+  private final ConcurrentMap<InetSocketAddress, BlockingQueue<SocketChannel>> mIdleChannels =
+      new ConcurrentHashMap<InetSocketAddress, BlockingQueue<SocketChannel>>();
+
+  private DataServerConnectionPool(int maxIdlePerAddress) {
+    mMaxIdlePerAddress = maxIdlePerAddress;
+  }
+
+  /**
+   * Take an idle connection to the data server.
+   *
+   * @param address the address of the data server
+   * @return an idle connection, or null if there is none
+   */
+  SocketChannel acquire(InetSocketAddress address) {
+    BlockingQueue<SocketChannel> idle = mIdleChannels.get(address);
+    if (idle == null) {
+      return null;
+    }
+    SocketChannel channel;
+    while ((channel = idle.poll()) != null) {
+      if (channel.isConnected()) {
+        return channel;
+      }
+      close(channel);
+    }
+    return null;
+  }
+
+  /**
+   * Close a connection which cannot be reused, e.g. after an error in the middle of a response.
+   *
+   * @param channel the connection
+   */
+  void close(SocketChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close connection to data server", e);
+    }
+  }
+
+  /**
+   * Open a new connection to the data server.
+   *
+   * @param address the address of the data server
+   * @return the connection
+   * @throws IOException
+   */
+  SocketChannel connect(InetSocketAddress address) throws IOException {
+    SocketChannel channel = SocketChannel.open(address);
+    channel.socket().setTcpNoDelay(true);
+    LOG.debug("Connected to data server {}", address);
+    return channel;
+  }
+
+  /**
+   * Return a connection with no request in flight, it is closed if enough connections to the data
+   * server are idle already.
+   *
+   * @param address the address of the data server
+   * @param channel the connection
+   */
+  void release(InetSocketAddress address, SocketChannel channel) {
+    BlockingQueue<SocketChannel> idle = mIdleChannels.get(address);
+    if (idle == null) {
+      mIdleChannels.putIfAbsent(address,
+          new LinkedBlockingQueue<SocketChannel>(Math.max(mMaxIdlePerAddress, 1)));
+      idle = mIdleChannels.get(address);
+    }
+    if (mMaxIdlePerAddress <= 0 || !idle.offer(channel)) {
+      close(channel);
+    }
+  }
+}
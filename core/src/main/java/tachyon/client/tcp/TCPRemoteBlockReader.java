@@ -19,21 +19,209 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.log4j.Logger;
 
+import com.google.common.base.Preconditions;
+
 import tachyon.Constants;
 import tachyon.client.RemoteBlockReader;
+import tachyon.conf.TachyonConf;
 import tachyon.worker.nio.DataServerMessage;
 
+/**
+ * Reads blocks from the workers' data servers over TCP. Unless connection reuse is disabled,
+ * requests are pipelined over persistent connections kept in a {@link DataServerConnectionPool}.
+ */
 public final class TCPRemoteBlockReader implements RemoteBlockReader {
 
   private static final Logger LOG = Logger.getLogger(Constants.LOGGER_TYPE);
 
+  /**
+   * Maximum number of requests in flight on a connection. It bounds the requests waiting in the
+   * socket buffers, a data server may not read a request before the previous response is sent.
+   */
+  private static final int MAX_PIPELINED_REQUESTS = 16;
+  /** Ids of pipelined requests, so that each response can be matched with its request */
+  private static final AtomicLong NEXT_REQUEST_ID = new AtomicLong(0);
+
+  private final boolean mReuseConnections;
+  private final DataServerConnectionPool mPool;
+  private final int mChunkSize;
+
+  public TCPRemoteBlockReader(TachyonConf conf) {
+    mReuseConnections = conf.getBoolean(Constants.USER_REMOTE_READ_CONNECTION_REUSE, true);
+    mPool = mReuseConnections ? DataServerConnectionPool.get(conf) : null;
+    mChunkSize =
+        (int) conf.getBytes(Constants.USER_REMOTE_READ_CHUNK_SIZE_BYTE, 64 * Constants.KB);
+  }
+
+  @Override
+  public RemoteBlockReader.Stream openRemoteBlock(String host, int port, long blockId,
+      long offset, long length) throws IOException {
+    InetSocketAddress address = new InetSocketAddress(host, port);
+    if (!mReuseConnections) {
+      return openStream(address, SocketChannel.open(address),
+          DataServerMessage.createBlockRequestMessage(blockId, offset, length));
+    }
+
+    DataServerMessage sendMsg =
+        DataServerMessage.createPipelinedBlockRequestMessage(NEXT_REQUEST_ID.getAndIncrement(),
+            blockId, offset, length);
+    SocketChannel socketChannel = mPool.acquire(address);
+    if (socketChannel != null) {
+      try {
+        return openStream(address, socketChannel, sendMsg);
+      } catch (IOException e) {
+        // The data server may have closed the idle connection, e.g. when the worker restarted.
+        LOG.debug("Failed to open a stream on a pooled connection to " + address
+            + ", reconnecting", e);
+        sendMsg =
+            DataServerMessage.createPipelinedBlockRequestMessage(
+                NEXT_REQUEST_ID.getAndIncrement(), blockId, offset, length);
+      }
+    }
+    return openStream(address, mPool.connect(address), sendMsg);
+  }
+
+  /**
+   * Send the request and receive the header of the response. On success the connection belongs
+   * to the returned stream, otherwise it is released or closed.
+   */
+  private RemoteBlockReader.Stream openStream(InetSocketAddress address,
+      SocketChannel socketChannel, DataServerMessage sendMsg) throws IOException {
+    boolean pipelined = sendMsg.isPipelined();
+    boolean success = false;
+    try {
+      while (!sendMsg.finishSending()) {
+        sendMsg.send(socketChannel);
+      }
+      DataServerMessage recvMsg = DataServerMessage.createBlockResponseHeaderMessage();
+      while (!recvMsg.isMessageReady()) {
+        if (recvMsg.recv(socketChannel) == -1) {
+          throw new IOException("Connection closed by data server " + address);
+        }
+      }
+      if (pipelined
+          && (!recvMsg.isPipelined() || recvMsg.getRequestId() != sendMsg.getRequestId())) {
+        throw new IOException("Unexpected response from data server " + address + " to request "
+            + sendMsg.getRequestId());
+      }
+      success = true;
+      if (recvMsg.getBlockId() < 0) {
+        LOG.info("Data " + sendMsg.getBlockId() + " is not in remote machine " + address);
+        if (pipelined) {
+          mPool.release(address, socketChannel);
+        } else {
+          socketChannel.close();
+        }
+        return null;
+      }
+      return new TCPRemoteBlockStream(address, socketChannel, pipelined ? mPool : null,
+          recvMsg.getLength(), mChunkSize);
+    } finally {
+      if (!success) {
+        socketChannel.close();
+      }
+    }
+  }
+
   @Override
   public ByteBuffer readRemoteBlock(String host, int port, long blockId, long offset, long length)
       throws IOException {
+    if (!mReuseConnections) {
+      return readRemoteBlockOneShot(new InetSocketAddress(host, port), blockId, offset, length);
+    }
+    return readRemoteBlocks(host, port, new long[] {blockId}, new long[] {offset},
+        new long[] {length}).get(0);
+  }
+
+  @Override
+  public List<ByteBuffer> readRemoteBlocks(String host, int port, long[] blockIds,
+      long[] offsets, long[] lengths) throws IOException {
+    Preconditions.checkArgument(
+        blockIds.length == offsets.length && blockIds.length == lengths.length,
+        "The block ids, offsets and lengths of the ranges do not match");
     InetSocketAddress address = new InetSocketAddress(host, port);
+    if (!mReuseConnections) {
+      List<ByteBuffer> result = new ArrayList<ByteBuffer>(blockIds.length);
+      for (int k = 0; k < blockIds.length; k ++) {
+        result.add(readRemoteBlockOneShot(address, blockIds[k], offsets[k], lengths[k]));
+      }
+      return result;
+    }
+
+    SocketChannel socketChannel = mPool.acquire(address);
+    if (socketChannel != null) {
+      try {
+        return readPipelined(address, socketChannel, blockIds, offsets, lengths);
+      } catch (IOException e) {
+        // The data server may have closed the idle connection, e.g. when the worker restarted.
+        LOG.debug("Failed to read from a pooled connection to " + address + ", reconnecting", e);
+      }
+    }
+    return readPipelined(address, mPool.connect(address), blockIds, offsets, lengths);
+  }
+
+  /**
+   * Read the ranges with pipelined requests on the given connection. The connection is returned
+   * to the pool if all the responses are received, otherwise it is closed.
+   */
+  private List<ByteBuffer> readPipelined(InetSocketAddress address, SocketChannel socketChannel,
+      long[] blockIds, long[] offsets, long[] lengths) throws IOException {
+    boolean reusable = false;
+    try {
+      long firstRequestId = NEXT_REQUEST_ID.getAndAdd(blockIds.length);
+      List<ByteBuffer> result = new ArrayList<ByteBuffer>(blockIds.length);
+      int sent = 0;
+      for (int received = 0; received < blockIds.length; received ++) {
+        while (sent < blockIds.length && sent - received < MAX_PIPELINED_REQUESTS) {
+          DataServerMessage sendMsg =
+              DataServerMessage.createPipelinedBlockRequestMessage(firstRequestId + sent,
+                  blockIds[sent], offsets[sent], lengths[sent]);
+          while (!sendMsg.finishSending()) {
+            sendMsg.send(socketChannel);
+          }
+          sent ++;
+        }
+
+        DataServerMessage recvMsg =
+            DataServerMessage.createBlockResponseMessage(false, blockIds[received], null);
+        while (!recvMsg.isMessageReady()) {
+          if (recvMsg.recv(socketChannel) == -1) {
+            throw new IOException("Connection closed by data server " + address);
+          }
+        }
+        if (!recvMsg.isPipelined() || recvMsg.getRequestId() != firstRequestId + received) {
+          throw new IOException("Unexpected response from data server " + address + " to request "
+              + (firstRequestId + received));
+        }
+        if (recvMsg.getBlockId() < 0) {
+          LOG.info("Data " + blockIds[received] + " is not in remote machine " + address);
+          result.add(null);
+        } else {
+          result.add(recvMsg.getReadOnlyData());
+        }
+      }
+      reusable = true;
+      return result;
+    } finally {
+      if (reusable) {
+        mPool.release(address, socketChannel);
+      } else {
+        mPool.close(socketChannel);
+      }
+    }
+  }
+
+  /**
+   * Read a range with a one-shot request on a new connection.
+   */
+  private ByteBuffer readRemoteBlockOneShot(InetSocketAddress address, long blockId, long offset,
+      long length) throws IOException {
     SocketChannel socketChannel = SocketChannel.open();
     try {
       socketChannel.connect(address);
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.tcp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import tachyon.client.RemoteBlockReader;
+
+/**
+ * Receives the data of a block response from a data server connection, one chunk at a time. The
+ * next chunk is only read from the socket once the previous one is consumed, so a slow reader
+ * pushes back on the data server through TCP flow control.
+ */
+final class TCPRemoteBlockStream implements RemoteBlockReader.Stream {
+  private final InetSocketAddress mAddress;
+  private final SocketChannel mSocketChannel;
+  /** The pool to return the connection to at the end of the range, null to close it */
+  private final DataServerConnectionPool mPool;
+  private final ByteBuffer mChunk;
+  /** Bytes of the range not received yet */
+  private long mRemainingBytes;
+  private boolean mClosed = false;
+
+  /**
+   * @param address the address of the data server
+   * @param socketChannel the connection, positioned right after the header of the response
+   * @param pool the pool to return the connection to at the end of the range, null to close it
+   * @param length the length of the response data
+   * @param chunkSize the size of the chunks to receive the data in
+   * @throws IOException
+   */
+  TCPRemoteBlockStream(InetSocketAddress address, SocketChannel socketChannel,
+      DataServerConnectionPool pool, long length, int chunkSize) throws IOException {
+    mAddress = address;
+    mSocketChannel = socketChannel;
+    mPool = pool;
+    mRemainingBytes = length;
+    mChunk = ByteBuffer.allocate((int) Math.min(chunkSize, Math.max(length, 1)));
+    mChunk.limit(0);
+    if (mRemainingBytes == 0) {
+      releaseConnection();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    if (mRemainingBytes > 0) {
+      // The rest of the response is still in flight, the connection cannot be reused.
+      mSocketChannel.close();
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (mClosed) {
+      throw new IOException("Stream from " + mAddress + " is closed");
+    }
+    if (!mChunk.hasRemaining()) {
+      if (mRemainingBytes == 0) {
+        return -1;
+      }
+      receiveChunk();
+    }
+    int bytesRead = Math.min(len, mChunk.remaining());
+    mChunk.get(b, off, bytesRead);
+    return bytesRead;
+  }
+
+  private void receiveChunk() throws IOException {
+    mChunk.clear();
+    mChunk.limit((int) Math.min(mChunk.capacity(), mRemainingBytes));
+    while (mChunk.position() == 0) {
+      if (mSocketChannel.read(mChunk) == -1) {
+        mClosed = true;
+        mSocketChannel.close();
+        throw new IOException("Connection closed by data server " + mAddress + " with "
+            + mRemainingBytes + " bytes left to receive");
+      }
+    }
+    mChunk.flip();
+    mRemainingBytes -= mChunk.remaining();
+    if (mRemainingBytes == 0) {
+      releaseConnection();
+    }
+  }
+
+  private void releaseConnection() throws IOException {
+    if (mPool != null) {
+      mPool.release(mAddress, mSocketChannel);
+    } else {
+      mSocketChannel.close();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client.tcp;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+
+import tachyon.client.RemoteBlockWriter;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.nio.DataServerMessage;
+
+/**
+ * Writes a block to a worker's data server over a blocking socket. Every write is sent as one
+ * write request without waiting for the previous ones to be acknowledged, up to
+ * {@link #MAX_PENDING_WRITES} requests. The acknowledgements come back in order and are checked
+ * as later writes need room, and all of them by {@link #flush()}.
+ */
+public final class TCPRemoteBlockWriter implements RemoteBlockWriter {
+  private static final int REQUEST_HEADER_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
+  private static final int RESPONSE_LENGTH = Shorts.BYTES + Longs.BYTES * 3;
+  /** Bounds the data sent but not yet stored, which the worker holds in memory */
+  private static final int MAX_PENDING_WRITES = 8;
+
+  private final ByteBuffer mRequestHeader = ByteBuffer.allocate(REQUEST_HEADER_LENGTH);
+  private final ByteBuffer mResponse = ByteBuffer.allocate(RESPONSE_LENGTH);
+  /** Lengths of the writes waiting for their acknowledgement, in the order they were sent */
+  private final Queue<Integer> mPendingLengths = new ArrayDeque<Integer>();
+
+  private InetSocketAddress mAddress;
+  private SocketChannel mSocketChannel = null;
+  private long mUserId;
+  private long mBlockId;
+  /** Bytes of the block written so far */
+  private long mWrittenBytes = 0;
+  /** Bytes of the block the worker acknowledged so far */
+  private long mAckedBytes = 0;
+
+  public TCPRemoteBlockWriter(TachyonConf conf) {}
+
+  @Override
+  public void close() throws IOException {
+    if (mSocketChannel != null) {
+      mSocketChannel.close();
+      mSocketChannel = null;
+    }
+    mPendingLengths.clear();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    checkOpen();
+    while (!mPendingLengths.isEmpty()) {
+      readResponse();
+    }
+  }
+
+  @Override
+  public void open(InetSocketAddress address, long userId, long blockId) throws IOException {
+    if (mSocketChannel != null) {
+      throw new IOException("Already writing block " + mBlockId + " to " + mAddress);
+    }
+    mAddress = address;
+    mUserId = userId;
+    mBlockId = blockId;
+    mWrittenBytes = 0;
+    mAckedBytes = 0;
+    mPendingLengths.clear();
+    mSocketChannel = SocketChannel.open(address);
+    mSocketChannel.socket().setTcpNoDelay(true);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    checkOpen();
+    if (len == 0) {
+      return;
+    }
+    while (mPendingLengths.size() >= MAX_PENDING_WRITES) {
+      readResponse();
+    }
+
+    mRequestHeader.clear();
+    mRequestHeader.putShort(DataServerMessage.DATA_SERVER_WRITE_REQUEST_MESSAGE);
+    mRequestHeader.putLong(mUserId);
+    mRequestHeader.putLong(mBlockId);
+    mRequestHeader.putLong(mWrittenBytes);
+    mRequestHeader.putLong(len);
+    mRequestHeader.flip();
+    ByteBuffer[] request = new ByteBuffer[] {mRequestHeader, ByteBuffer.wrap(b, off, len)};
+    while (request[1].hasRemaining()) {
+      mSocketChannel.write(request);
+    }
+    mPendingLengths.add(len);
+    mWrittenBytes += len;
+  }
+
+  private void checkOpen() throws IOException {
+    if (mSocketChannel == null) {
+      throw new IOException("The writer is not open");
+    }
+  }
+
+  /**
+   * Read the acknowledgement of the oldest pending write.
+   */
+  private void readResponse() throws IOException {
+    int len = mPendingLengths.remove();
+    mResponse.clear();
+    while (mResponse.hasRemaining()) {
+      if (mSocketChannel.read(mResponse) == -1) {
+        throw new IOException("Connection closed by data server " + mAddress);
+      }
+    }
+    mResponse.flip();
+    short type = mResponse.getShort();
+    long blockId = mResponse.getLong();
+    long offset = mResponse.getLong();
+    long length = mResponse.getLong();
+    if (type != DataServerMessage.DATA_SERVER_WRITE_RESPONSE_MESSAGE) {
+      throw new IOException("Unexpected response type " + type + " from data server " + mAddress);
+    }
+    if (blockId != mBlockId || offset != mAckedBytes || length != len) {
+      throw new IOException(String.format("Data server %s failed to write block %d at offset %d"
+          + " with length %d", mAddress, mBlockId, mAckedBytes, len));
+    }
+    mAckedBytes += len;
+  }
+}
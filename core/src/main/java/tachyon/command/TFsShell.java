@@ -32,6 +32,7 @@ import com.google.common.collect.Lists;
 import com.google.common.io.Closer;
 
 import tachyon.Constants;
+import tachyon.PrefixList;
 import tachyon.TachyonURI;
 import tachyon.client.InStream;
 import tachyon.client.OutStream;
@@ -45,6 +46,8 @@ import tachyon.master.permission.AclUtil;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.FileDoesNotExistException;
+import tachyon.util.UfsLoader;
+import tachyon.util.UfsUtils;
 
 /**
  * Class for handling command line inputs.
@@ -517,6 +520,8 @@ public class TFsShell implements Closeable {
     System.out.println("       [chownr <owner|owner:group> <file path|folder path>]");
     System.out.println("       [chgrp <group> <file path|folder path>]");
     System.out.println("       [chgrpr <group> <file path|folder path>]");
+    System.out.println("       [loadufs <path> <ufs path> [<exclude path prefixes> "
+        + "[<progress file>]]]");
   }
 
   /**
@@ -542,6 +547,35 @@ public class TFsShell implements Closeable {
     }
   }
 
+  /**
+   * Loads the files of an under file system directory into Tachyon, without their data. With a
+   * progress file, running the command again resumes an interrupted load.
+   *
+   * @param argv [] Array of arguments given by the user's input from the terminal
+   * @return 0 if command is successful, -1 if an error occurred.
+   * @throws IOException
+   */
+  public int loadufs(String[] argv) throws IOException {
+    if (argv.length < 3 || argv.length > 5) {
+      System.out.println("Usage: tfs loadufs <path> <ufs path> "
+          + "[<exclude path prefixes, separated by ;> [<progress file>]]");
+      return -1;
+    }
+    TachyonURI path = new TachyonURI(Utils.validatePath(argv[1], mTachyonConf));
+    TachyonURI ufsPath = new TachyonURI(argv[2]);
+    PrefixList excludePathPrefix = new PrefixList(argv.length >= 4 ? argv[3] : "", ";");
+    String progressFile = argv.length == 5 ? argv[4] : null;
+    TachyonFS tachyonClient = createFS(path);
+    UfsLoader.Report report = UfsUtils.loadUnderFs(tachyonClient, path, ufsPath,
+        excludePathPrefix, progressFile, mTachyonConf);
+    if (report == null) {
+      System.out.println(ufsPath + " is excluded.");
+    } else {
+      System.out.println(report);
+    }
+    return 0;
+  }
+
   public int report(String[] argv) throws IOException {
     if (argv.length != 2) {
       System.out.println("Usage: tfs report <path>");
@@ -799,6 +833,8 @@ public class TFsShell implements Closeable {
         exitCode = chgrp(argv);
       } else if (cmd.equals("chgrpr")) {
         exitCode = chgrpr(argv);
+      } else if (cmd.equals("loadufs")) {
+        exitCode = loadufs(argv);
       } else {
         printUsage();
         return -1;
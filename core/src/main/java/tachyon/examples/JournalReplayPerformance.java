@@ -0,0 +1,139 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.UnderFileSystem;
+import tachyon.Version;
+import tachyon.conf.TachyonConf;
+import tachyon.master.Journal;
+import tachyon.master.JournalFormat;
+import tachyon.master.MasterInfo;
+import tachyon.security.UserGroup;
+import tachyon.security.authentication.TSetUserProcessor;
+import tachyon.util.CommonUtils;
+
+/**
+ * Measures how fast a master replays its journal in each {@link JournalFormat}. For every format,
+ * a synthetic journal with the given number of files is generated in its own sub folder of the
+ * given folder, then a fresh master replays the edit log, writes an image from the replayed state
+ * and a second fresh master loads that image. The replay rates and file sizes are reported.
+ */
+public class JournalReplayPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String IMAGE_FILE = "image.data";
+  private static final String EDIT_LOG_FILE = "log.data";
+
+  private static String sFolder = null;
+  private static int sFiles = -1;
+  private static int sFilesPerFolder = -1;
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.JournalReplayPerformance "
+          + "<LocalJournalFolder> <Files> <FilesPerFolder>");
+      System.exit(-1);
+    }
+    sFolder = args[0];
+    sFiles = Integer.parseInt(args[1]);
+    sFilesPerFolder = Integer.parseInt(args[2]);
+
+    // The master is called directly rather than through thrift, so set the remote user the
+    // permission checks look up.
+    TSetUserProcessor.setRemoteUser(UserGroup.getTachyonLoginUser());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (JournalFormat format : JournalFormat.values()) {
+        run(format, executor);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    System.exit(0);
+  }
+
+  private static void run(JournalFormat format, ExecutorService executor) throws Exception {
+    TachyonConf conf = new TachyonConf();
+    conf.set(Constants.MASTER_JOURNAL_FORMAT, format.name());
+    String folder = CommonUtils.concat(sFolder, format.name().toLowerCase());
+    UnderFileSystem ufs = UnderFileSystem.get(folder, conf);
+    if (ufs.exists(folder)) {
+      ufs.delete(folder, true);
+    }
+    ufs.mkdirs(folder, true);
+
+    // Generate the synthetic journal through a live master.
+    Journal journal = new Journal(folder, IMAGE_FILE, EDIT_LOG_FILE, conf);
+    MasterInfo info = new MasterInfo(new InetSocketAddress(0), journal, executor, conf);
+    info.init();
+    for (int k = 0; k < sFiles; k ++) {
+      info.createFile(new TachyonURI("/folder_" + (k / sFilesPerFolder) + "/file_" + k), 64);
+    }
+    info.stop();
+    journal.close();
+    long logBytes = getEditLogBytes(ufs, folder);
+
+    // Replay the edit log.
+    journal = new Journal(folder, IMAGE_FILE, EDIT_LOG_FILE, conf);
+    info = new MasterInfo(new InetSocketAddress(0), journal, executor, conf);
+    long startMs = System.currentTimeMillis();
+    long lastTransactionId = journal.loadEditLog(info);
+    long replayMs = System.currentTimeMillis() - startMs;
+
+    // Write the replayed state as an image, and load it in another master.
+    String imagePath = CommonUtils.concat(folder, IMAGE_FILE);
+    journal.createImage(info, imagePath);
+    long imageBytes = ufs.getFileSize(imagePath);
+    info = new MasterInfo(new InetSocketAddress(0), journal, executor, conf);
+    startMs = System.currentTimeMillis();
+    journal.loadImage(info);
+    long imageLoadMs = System.currentTimeMillis() - startMs;
+    ufs.close();
+
+    String result =
+        format + " journal: replayed " + lastTransactionId + " operations (" + logBytes
+            + " bytes) in " + replayMs + " ms, " + perSecond(lastTransactionId, replayMs)
+            + " ops/s; loaded a " + imageBytes + " bytes image in " + imageLoadMs + " ms.";
+    LOG.info(result);
+    System.out.println(result);
+  }
+
+  private static long getEditLogBytes(UnderFileSystem ufs, String folder) throws IOException {
+    long bytes = ufs.getFileSize(CommonUtils.concat(folder, EDIT_LOG_FILE));
+    String completed = CommonUtils.concat(folder, "completed");
+    if (ufs.exists(completed)) {
+      for (String name : ufs.list(completed)) {
+        bytes += ufs.getFileSize(CommonUtils.concat(completed, name));
+      }
+    }
+    return bytes;
+  }
+
+  private static long perSecond(long count, long ms) {
+    return count * Constants.SECOND_MS / Math.max(ms, 1);
+  }
+}
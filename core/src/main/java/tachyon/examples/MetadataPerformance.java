@@ -0,0 +1,142 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.client.TachyonFS;
+import tachyon.conf.TachyonConf;
+import tachyon.util.CommonUtils;
+
+/**
+ * Measures master metadata throughput: N client threads each issue a number of metadata
+ * operations against a running master, and the aggregate operations per second are reported.
+ * Running it against the same master with different master settings (e.g. journal group commit
+ * on and off) gives a before / after comparison. GET_FILE_STATUS, LIST_STATUS and OPEN_FILE read
+ * the files written by a previous CREATE_FILE run with the same folder, threads and operations per
+ * thread. By default each thread has its own client; with a shared client all the threads use one
+ * TachyonFS, which measures how its RPCs scale with the number of threads.
+ */
+public class MetadataPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The metadata operations the benchmark knows how to drive. */
+  public enum Operation {
+    CREATE_FILE, GET_FILE_STATUS, LIST_STATUS, OPEN_FILE
+  }
+
+  private static TachyonURI sMasterAddress = null;
+  private static TachyonURI sFolder = null;
+  private static int sThreads = -1;
+  private static int sOpsPerThread = -1;
+  private static Operation sOperation = null;
+  private static final AtomicLong FAILED_OPS = new AtomicLong(0);
+
+  public static class Worker extends Thread {
+    private final int mWorkerId;
+    private final TachyonFS mTfs;
+
+    public Worker(int id, TachyonFS tfs) {
+      mWorkerId = id;
+      mTfs = tfs;
+      setName("metadata-performance-" + id);
+    }
+
+    @Override
+    public void run() {
+      for (int k = 0; k < sOpsPerThread; k ++) {
+        TachyonURI path = sFolder.join("worker_" + mWorkerId).join("file_" + k);
+        try {
+          switch (sOperation) {
+            case CREATE_FILE:
+              mTfs.createFile(path);
+              break;
+            case GET_FILE_STATUS:
+              if (mTfs.getFileStatus(-1, path) == null) {
+                throw new IOException(path + " does not exist");
+              }
+              break;
+            case LIST_STATUS:
+              mTfs.listStatus(path.getParent());
+              break;
+            case OPEN_FILE:
+              if (mTfs.getFile(path) == null) {
+                throw new IOException(path + " does not exist");
+              }
+              break;
+            default:
+              throw new IllegalStateException("Unknown operation " + sOperation);
+          }
+        } catch (IOException e) {
+          LOG.error("Operation " + sOperation + " on " + path + " failed", e);
+          FAILED_OPS.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length < 4) {
+      System.out.println("java -cp target/tachyon-" + tachyon.Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.MetadataPerformance "
+          + "<MasterAddress> <Folder> <Threads> <OpsPerThread> "
+          + "[CREATE_FILE|GET_FILE_STATUS|LIST_STATUS|OPEN_FILE] [SharedClient]");
+      System.exit(-1);
+    }
+
+    sMasterAddress = new TachyonURI(args[0]);
+    sFolder = new TachyonURI(args[1]);
+    sThreads = Integer.parseInt(args[2]);
+    sOpsPerThread = Integer.parseInt(args[3]);
+    sOperation = Operation.valueOf(Utils.option(args, 4, Operation.CREATE_FILE.toString()));
+    boolean sharedClient = Utils.option(args, 5, false);
+
+    TachyonFS[] clients = new TachyonFS[sharedClient ? 1 : sThreads];
+    for (int k = 0; k < clients.length; k ++) {
+      clients[k] = TachyonFS.get(sMasterAddress, new TachyonConf());
+    }
+
+    Worker[] workers = new Worker[sThreads];
+    for (int k = 0; k < sThreads; k ++) {
+      workers[k] = new Worker(k, clients[k % clients.length]);
+    }
+    long startTimeMs = CommonUtils.getCurrentMs();
+    for (Worker worker : workers) {
+      worker.start();
+    }
+    for (Worker worker : workers) {
+      worker.join();
+    }
+    long takenTimeMs = Math.max(1, CommonUtils.getCurrentMs() - startTimeMs);
+
+    for (TachyonFS client : clients) {
+      client.close();
+    }
+
+    long totalOps = (long) sThreads * sOpsPerThread;
+    double opsPerSec = 1000.0 * totalOps / takenTimeMs;
+    System.out.println(sOperation + ": " + totalOps + " operations (" + FAILED_OPS.get()
+        + " failed) from " + sThreads + " threads on " + clients.length + " clients in "
+        + takenTimeMs + " ms, " + opsPerSec + " ops/sec");
+    System.exit(FAILED_OPS.get() == 0 ? 0 : 1);
+  }
+}
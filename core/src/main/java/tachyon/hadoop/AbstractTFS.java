@@ -19,7 +19,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.BlockLocation;
@@ -60,6 +63,32 @@ abstract class AbstractTFS extends FileSystem {
   public static final String RECOMPUTE_PATH = "tachyon_recompute/";
 
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /** How long a listing and the blocks fetched for it are used, before they are fetched again */
+  private static final long LISTED_BLOCKS_TTL_MS = 10 * Constants.SECOND_MS;
+  /** The most folders whose listing is kept for getFileBlockLocations */
+  private static final int MAX_LISTED_FOLDERS = 64;
+
+  /** The blocks of a listed file, and when they were fetched */
+  private static final class ListedBlocks {
+    private final List<ClientBlockInfo> mBlocks;
+    private final long mFetchedMs;
+
+    ListedBlocks(List<ClientBlockInfo> blocks, long fetchedMs) {
+      mBlocks = blocks;
+      mFetchedMs = fetchedMs;
+    }
+  }
+
+  /** The complete files of a listed folder, and when the folder was listed */
+  private static final class ListedFolder {
+    private final List<Integer> mFileIds = new ArrayList<Integer>();
+    private final List<String> mPaths = new ArrayList<String>();
+    private final long mListedMs;
+
+    ListedFolder(long listedMs) {
+      mListedMs = listedMs;
+    }
+  }
 
   private String mUnderFSAddress;
 
@@ -68,6 +97,20 @@ abstract class AbstractTFS extends FileSystem {
   private TachyonFS mTFS = null;
   private String mTachyonHeader = null;
   private final TachyonConf mTachyonConf = new TachyonConf();
+  /**
+   * The complete files of the recently listed folders, recorded by listStatus without any RPC. Jobs
+   * list their input folder and then ask for the block locations of every file in it, so the
+   * first getFileBlockLocations on a file of a listed folder fetches the blocks of all of its files
+   * in one RPC. A plain listing never fetches any block.
+   */
+  private final Map<String, ListedFolder> mListedFolders =
+      new ConcurrentHashMap<String, ListedFolder>();
+  /**
+   * The blocks fetched for the other files of a listed folder. Each entry is used once by
+   * getFileBlockLocations, and only for LISTED_BLOCKS_TTL_MS so that the locations are not stale.
+   */
+  private final Map<String, ListedBlocks> mListedFileBlocks =
+      new ConcurrentHashMap<String, ListedBlocks>();
 
   @Override
   public FSDataOutputStream append(Path cPath, int bufferSize, Progressable progress)
@@ -262,15 +305,18 @@ abstract class AbstractTFS extends FileSystem {
     }
 
     TachyonURI path = new TachyonURI(Utils.getPathWithoutScheme(file.getPath()));
-    fromHdfsToTachyon(path);
-    int fileId = mTFS.getFileId(path);
+    List<ClientBlockInfo> blocks = getListedFileBlocks(path);
+    if (blocks == null) {
+      fromHdfsToTachyon(path);
+      int fileId = mTFS.getFileId(path);
 
-    if (fileId == -1) {
-      throw new FileNotFoundException("File does not exist: " + file.getPath());
+      if (fileId == -1) {
+        throw new FileNotFoundException("File does not exist: " + file.getPath());
+      }
+      blocks = mTFS.getFileBlocks(fileId);
     }
 
     List<BlockLocation> blockLocations = new ArrayList<BlockLocation>();
-    List<ClientBlockInfo> blocks = mTFS.getFileBlocks(fileId);
     for (int k = 0; k < blocks.size(); k ++) {
       ClientBlockInfo info = blocks.get(k);
       long offset = info.getOffset();
@@ -440,9 +486,93 @@ abstract class AbstractTFS extends FileSystem {
               new FsPermission((short)info.getPermission()), info.getOwner(),
               info.getGroup(), new Path(mTachyonHeader + info.getPath()));
     }
+    recordListedFolder(tPath, files);
+    return ret;
+  }
+
+  /**
+   * Returns the blocks of a file fetched for its listed folder. On the first file asked for since
+   * the folder was listed, fetches the blocks of all the complete files of the folder with one RPC.
+   * 
+   * @param path the path of the file
+   * @return the blocks of the file, or null if they have to be asked for this file alone
+   */
+  private List<ClientBlockInfo> getListedFileBlocks(TachyonURI path) {
+    long nowMs = System.currentTimeMillis();
+    ListedBlocks listed = mListedFileBlocks.remove(path.getPath());
+    if (listed != null && nowMs - listed.mFetchedMs <= LISTED_BLOCKS_TTL_MS) {
+      return listed.mBlocks;
+    }
+    TachyonURI parent = path.getParent();
+    if (parent == null) {
+      return null;
+    }
+    ListedFolder folder = mListedFolders.remove(parent.getPath());
+    if (folder == null || nowMs - folder.mListedMs > LISTED_BLOCKS_TTL_MS
+        || !folder.mPaths.contains(path.getPath())) {
+      return null;
+    }
+    dropExpired(nowMs);
+    List<List<ClientBlockInfo>> blocks;
+    try {
+      blocks = mTFS.getFileBlocks(folder.mFileIds);
+    } catch (IOException e) {
+      // A file was removed after the listing, getFileBlockLocations asks for each file instead.
+      LOG.debug("Failed to fetch the blocks of the listed folder " + parent, e);
+      return null;
+    }
+    List<ClientBlockInfo> ret = null;
+    for (int k = 0; k < folder.mPaths.size(); k ++) {
+      String filePath = folder.mPaths.get(k);
+      if (filePath.equals(path.getPath())) {
+        ret = blocks.get(k);
+      } else {
+        mListedFileBlocks.put(filePath, new ListedBlocks(blocks.get(k), nowMs));
+      }
+    }
     return ret;
   }
 
+  /**
+   * Drops the listed folders and the fetched blocks that are too old to be used.
+   */
+  private void dropExpired(long nowMs) {
+    Iterator<ListedFolder> folders = mListedFolders.values().iterator();
+    while (folders.hasNext()) {
+      if (nowMs - folders.next().mListedMs > LISTED_BLOCKS_TTL_MS) {
+        folders.remove();
+      }
+    }
+    Iterator<ListedBlocks> blocks = mListedFileBlocks.values().iterator();
+    while (blocks.hasNext()) {
+      if (nowMs - blocks.next().mFetchedMs > LISTED_BLOCKS_TTL_MS) {
+        blocks.remove();
+      }
+    }
+  }
+
+  /**
+   * Records the complete files of a listed folder, so that their blocks are fetched together if
+   * getFileBlockLocations is called on one of them.
+   */
+  private void recordListedFolder(TachyonURI folderPath, List<ClientFileInfo> files) {
+    long nowMs = System.currentTimeMillis();
+    dropExpired(nowMs);
+    if (mListedFolders.size() >= MAX_LISTED_FOLDERS) {
+      return;
+    }
+    ListedFolder folder = new ListedFolder(nowMs);
+    for (ClientFileInfo info : files) {
+      if (!info.isFolder && info.isComplete) {
+        folder.mFileIds.add(info.getId());
+        folder.mPaths.add(info.getPath());
+      }
+    }
+    if (!folder.mFileIds.isEmpty()) {
+      mListedFolders.put(folderPath.getPath(), folder);
+    }
+  }
+
   @Override
   public boolean mkdirs(Path cPath, FsPermission permission) throws IOException {
     LOG.info("mkdirs(" + cPath + ", " + permission + ")");
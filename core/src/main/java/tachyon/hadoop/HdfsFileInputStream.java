@@ -15,6 +15,7 @@
 
 package tachyon.hadoop;
 
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.IOException;
@@ -165,35 +166,31 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
   /**
    * Read upto the specified number of bytes, from a given position within a file, and return the
    * number of bytes read. This does not change the current offset of a file, and is thread-safe.
+   * The read goes through the stateless positional read of the Tachyon file, so concurrent reads
+   * do not wait for each other.
    */
   @Override
-  public synchronized int read(long position, byte[] buffer, int offset, int length)
-      throws IOException {
-    int ret = -1;
-    long oldPos = getPos();
-    if ((position < 0) || (position >= mTachyonFile.length())) {
-      return ret;
+  public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+    // Both reads below return -1 at the end of the file, without asking the master for its length
+    if (position < 0) {
+      return -1;
     }
 
     if (mTachyonFileInputStream != null) {
       try {
-        mTachyonFileInputStream.seek(position);
-        ret = mTachyonFileInputStream.read(buffer, offset, length);
-        return ret;
-      } finally {
-        mTachyonFileInputStream.seek(oldPos);
+        return mTachyonFile.read(position, buffer, offset, length);
+      } catch (IOException e) {
+        LOG.error(e.getMessage(), e);
       }
     }
 
-    try {
-      getHdfsInputStream(position);
-      ret = mHdfsInputStream.read(buffer, offset, length);
-      return ret;
-    } finally {
-      if (mHdfsInputStream != null) {
-        mHdfsInputStream.seek(oldPos);
-      }
+    FSDataInputStream hdfsInputStream;
+    synchronized (this) {
+      getHdfsInputStream();
+      hdfsInputStream = mHdfsInputStream;
     }
+    // The positional read of HDFS does not move the stream either
+    return hdfsInputStream.read(position, buffer, offset, length);
   }
 
   private int readFromHdfsBuffer() throws IOException {
@@ -217,7 +214,7 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
    */
   @Override
   public void readFully(long position, byte[] buffer) throws IOException {
-    throw new IOException("Not supported");
+    readFully(position, buffer, 0, buffer.length);
   }
 
   /**
@@ -226,7 +223,14 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
    */
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
-    throw new IOException("Not supported");
+    int bytesRead = 0;
+    while (bytesRead < length) {
+      int ret = read(position + bytesRead, buffer, offset + bytesRead, length - bytesRead);
+      if (ret < 0) {
+        throw new EOFException("End of file reached before reading fully: " + mHdfsPath);
+      }
+      bytesRead += ret;
+    }
   }
 
   /**
@@ -0,0 +1,799 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+
+import tachyon.Constants;
+
+/**
+ * Encoder and decoder of the {@link JournalFormat#BINARY} journal format.
+ *
+ * A binary file starts with the 4 byte magic "TJBF" and the varint format version, followed by
+ * records. Each record is the varint length of its body, the body, and the CRC32 of the body as a
+ * 4 byte int. The body of an operation is its varint type ordinal, its varlong transaction id and
+ * its fields. The body of an image element is its varint type ordinal and its fields.
+ *
+ * Every operation and element type has its own {@link Codec}, which writes the fields of the type
+ * in a fixed order without names or type tags, and reads them back straight into the typed values
+ * the replay code asks for. Integers are zigzag varints, strings, byte arrays and lists are
+ * prefixed by their varint length plus one, 0 standing for null.
+ *
+ * Type ordinals and the order of the fields are persisted, so new types must only be appended,
+ * and adding, removing or reordering the fields of a type requires a new format version.
+ */
+final class BinaryJournalCodec {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  static final byte[] MAGIC = {'T', 'J', 'B', 'F'};
+  static final int VERSION = 2;
+
+  /** Bodies larger than this can only come from a corrupted length. */
+  private static final int MAX_RECORD_SIZE = 256 * Constants.MB;
+
+  private static final TypeReference<List<Integer>> INT_LIST =
+      new TypeReference<List<Integer>>() {};
+
+  private static final Map<EditLogOperationType, Codec> OPERATION_CODECS =
+      new EnumMap<EditLogOperationType, Codec>(EditLogOperationType.class);
+  private static final Map<ImageElementType, Codec> ELEMENT_CODECS =
+      new EnumMap<ImageElementType, Codec>(ImageElementType.class);
+
+  /**
+   * Writes the fields of one operation or element type and reads them back, in the same order.
+   */
+  private abstract static class Codec {
+    /** The number of fields, to size the map of decoded values. */
+    private final int mFields;
+
+    Codec(int fields) {
+      mFields = fields;
+    }
+
+    abstract void write(DataOutputStream out, JsonObject obj) throws IOException;
+
+    abstract void read(DataInputStream in, Map<String, Object> values) throws IOException;
+
+    Map<String, Object> read(DataInputStream in) throws IOException {
+      Map<String, Object> values = new HashMap<String, Object>(mFields * 2);
+      read(in, values);
+      return values;
+    }
+  }
+
+  static {
+    OPERATION_CODECS.put(EditLogOperationType.ADD_BLOCK, new Codec(4) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeInt(out, op, "blockIndex");
+        writeLong(out, op, "blockLength");
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("blockIndex", readInt(in));
+        values.put("blockLength", readLong(in));
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.ADD_CHECKPOINT, new Codec(4) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeLong(out, op, "length");
+        writeString(out, op.getString("path"));
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("length", readLong(in));
+        values.put("path", readString(in));
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.CREATE_FILE, new Codec(9) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeBoolean(out, op, "recursive");
+        writeString(out, op.getString("path"));
+        writeBoolean(out, op, "directory");
+        writeLong(out, op, "blockSizeByte");
+        writeLong(out, op, "creationTimeMs");
+        writeString(out, op.getString("owner"));
+        writeString(out, op.getString("group"));
+        writeShort(out, op, "permission");
+        writeIntList(out, op.get("inodeIds", INT_LIST));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("recursive", in.readBoolean());
+        values.put("path", readString(in));
+        values.put("directory", in.readBoolean());
+        values.put("blockSizeByte", readLong(in));
+        values.put("creationTimeMs", readLong(in));
+        values.put("owner", readString(in));
+        values.put("group", readString(in));
+        values.put("permission", (short) readInt(in));
+        values.put("inodeIds", readIntList(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.COMPLETE_FILE, new Codec(2) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.SET_PINNED, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeBoolean(out, op, "pinned");
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("pinned", in.readBoolean());
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.RENAME, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeString(out, op.getString("dstPath"));
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("dstPath", readString(in));
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.DELETE, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeBoolean(out, op, "recursive");
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("recursive", in.readBoolean());
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.CREATE_RAW_TABLE, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "tableId");
+        writeInt(out, op, "columns");
+        writeBytes(out, op.getByteBuffer("metadata"));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("tableId", readInt(in));
+        values.put("columns", readInt(in));
+        values.put("metadata", readBytes(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.UPDATE_RAW_TABLE_METADATA, new Codec(2) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "tableId");
+        writeBytes(out, op.getByteBuffer("metadata"));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("tableId", readInt(in));
+        values.put("metadata", readBytes(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.CREATE_DEPENDENCY, new Codec(10) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeIntList(out, op.get("parents", INT_LIST));
+        writeIntList(out, op.get("children", INT_LIST));
+        writeString(out, op.getString("commandPrefix"));
+        writeBytesList(out, op.getByteBufferList("data"));
+        writeString(out, op.getString("comment"));
+        writeString(out, op.getString("framework"));
+        writeString(out, op.getString("frameworkVersion"));
+        writeDependencyType(out, op.get("dependencyType", DependencyType.class));
+        writeInt(out, op, "dependencyId");
+        writeLong(out, op, "creationTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("parents", readIntList(in));
+        values.put("children", readIntList(in));
+        values.put("commandPrefix", readString(in));
+        values.put("data", readBytesList(in));
+        values.put("comment", readString(in));
+        values.put("framework", readString(in));
+        values.put("frameworkVersion", readString(in));
+        values.put("dependencyType", readDependencyType(in));
+        values.put("dependencyId", readInt(in));
+        values.put("creationTimeMs", readLong(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.CHOWN, new Codec(5) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeBoolean(out, op, "recursive");
+        writeLong(out, op, "opTimeMs");
+        writeString(out, op.getString("owner"));
+        writeString(out, op.getString("group"));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("recursive", in.readBoolean());
+        values.put("opTimeMs", readLong(in));
+        values.put("owner", readString(in));
+        values.put("group", readString(in));
+      }
+    });
+    OPERATION_CODECS.put(EditLogOperationType.CHMOD, new Codec(4) {
+      @Override
+      void write(DataOutputStream out, JsonObject op) throws IOException {
+        writeInt(out, op, "fileId");
+        writeShort(out, op, "permission");
+        writeBoolean(out, op, "recursive");
+        writeLong(out, op, "opTimeMs");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("fileId", readInt(in));
+        values.put("permission", (short) readInt(in));
+        values.put("recursive", in.readBoolean());
+        values.put("opTimeMs", readLong(in));
+      }
+    });
+
+    ELEMENT_CODECS.put(ImageElementType.Version, new Codec(1) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeInt(out, ele, "version");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("version", readInt(in));
+      }
+    });
+    ELEMENT_CODECS.put(ImageElementType.Checkpoint, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeInt(out, ele, "inodeCounter");
+        writeLong(out, ele, "editTransactionCounter");
+        writeInt(out, ele, "dependencyCounter");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("inodeCounter", readInt(in));
+        values.put("editTransactionCounter", readLong(in));
+        values.put("dependencyCounter", readInt(in));
+      }
+    });
+    ELEMENT_CODECS.put(ImageElementType.InodeFile, new Codec(15) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeLong(out, ele, "creationTimeMs");
+        writeInt(out, ele, "id");
+        writeString(out, ele.getString("name"));
+        writeInt(out, ele, "parentId");
+        writeLong(out, ele, "blockSizeByte");
+        writeLong(out, ele, "length");
+        writeBoolean(out, ele, "complete");
+        writeBoolean(out, ele, "pin");
+        writeBoolean(out, ele, "cache");
+        writeString(out, ele.getString("ufsPath"));
+        writeInt(out, ele, "depId");
+        writeLong(out, ele, "lastModificationTimeMs");
+        writeString(out, ele.getString("owner"));
+        writeString(out, ele.getString("group"));
+        writeShort(out, ele, "permission");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("creationTimeMs", readLong(in));
+        values.put("id", readInt(in));
+        values.put("name", readString(in));
+        values.put("parentId", readInt(in));
+        values.put("blockSizeByte", readLong(in));
+        values.put("length", readLong(in));
+        values.put("complete", in.readBoolean());
+        values.put("pin", in.readBoolean());
+        values.put("cache", in.readBoolean());
+        values.put("ufsPath", readString(in));
+        values.put("depId", readInt(in));
+        values.put("lastModificationTimeMs", readLong(in));
+        values.put("owner", readString(in));
+        values.put("group", readString(in));
+        values.put("permission", (short) readInt(in));
+      }
+    });
+    ELEMENT_CODECS.put(ImageElementType.InodeFolder, new Codec(10) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeLong(out, ele, "creationTimeMs");
+        writeInt(out, ele, "id");
+        writeString(out, ele.getString("name"));
+        writeInt(out, ele, "parentId");
+        writeBoolean(out, ele, "pinned");
+        writeIntList(out, ele.get("childrenIds", INT_LIST));
+        writeLong(out, ele, "lastModificationTimeMs");
+        writeString(out, ele.getString("owner"));
+        writeString(out, ele.getString("group"));
+        writeShort(out, ele, "permission");
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("creationTimeMs", readLong(in));
+        values.put("id", readInt(in));
+        values.put("name", readString(in));
+        values.put("parentId", readInt(in));
+        values.put("pinned", in.readBoolean());
+        values.put("childrenIds", readIntList(in));
+        values.put("lastModificationTimeMs", readLong(in));
+        values.put("owner", readString(in));
+        values.put("group", readString(in));
+        values.put("permission", (short) readInt(in));
+      }
+    });
+    ELEMENT_CODECS.put(ImageElementType.RawTable, new Codec(3) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeIntList(out, ele.get("ids", INT_LIST));
+        writeIntList(out, ele.get("columns", INT_LIST));
+        writeBytesList(out, ele.getByteBufferList("data"));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("ids", readIntList(in));
+        values.put("columns", readIntList(in));
+        values.put("data", readBytesList(in));
+      }
+    });
+    ELEMENT_CODECS.put(ImageElementType.Dependency, new Codec(12) {
+      @Override
+      void write(DataOutputStream out, JsonObject ele) throws IOException {
+        writeInt(out, ele, "depID");
+        writeIntList(out, ele.get("parentFiles", INT_LIST));
+        writeIntList(out, ele.get("childrenFiles", INT_LIST));
+        writeString(out, ele.getString("commandPrefix"));
+        writeBytesList(out, ele.getByteBufferList("data"));
+        writeString(out, ele.getString("comment"));
+        writeString(out, ele.getString("framework"));
+        writeString(out, ele.getString("frameworkVersion"));
+        writeDependencyType(out, ele.get("depType", DependencyType.class));
+        writeIntList(out, ele.get("parentDeps", INT_LIST));
+        writeLong(out, ele, "creationTimeMs");
+        writeIntList(out, ele.get("unCheckpointedChildrenFiles", INT_LIST));
+      }
+
+      @Override
+      void read(DataInputStream in, Map<String, Object> values) throws IOException {
+        values.put("depID", readInt(in));
+        values.put("parentFiles", readIntList(in));
+        values.put("childrenFiles", readIntList(in));
+        values.put("commandPrefix", readString(in));
+        values.put("data", readBytesList(in));
+        values.put("comment", readString(in));
+        values.put("framework", readString(in));
+        values.put("frameworkVersion", readString(in));
+        values.put("depType", readDependencyType(in));
+        values.put("parentDeps", readIntList(in));
+        values.put("creationTimeMs", readLong(in));
+        values.put("unCheckpointedChildrenFiles", readIntList(in));
+      }
+    });
+  }
+
+  /**
+   * Write the file header.
+   *
+   * @param dos The target data output stream
+   * @throws IOException
+   */
+  static void writeHeader(DataOutputStream dos) throws IOException {
+    dos.write(MAGIC);
+    writeVarInt(dos, VERSION);
+  }
+
+  /**
+   * Read the format version following the magic, which the caller has already consumed.
+   *
+   * @param dis The source data input stream
+   * @throws IOException if the version is not supported
+   */
+  static void readVersion(DataInputStream dis) throws IOException {
+    int version = readVarInt(dis);
+    if (version != VERSION) {
+      throw new IOException("Unsupported binary journal format version " + version
+          + ". The system has version " + VERSION);
+    }
+  }
+
+  static void writeOperation(DataOutputStream dos, EditLogOperation op) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+    DataOutputStream out = new DataOutputStream(body);
+    writeVarInt(out, op.mType.ordinal());
+    writeVarLong(out, op.mTransId);
+    OPERATION_CODECS.get(op.mType).write(out, op);
+    writeRecord(dos, body);
+  }
+
+  static void writeElement(DataOutputStream dos, ImageElement ele) throws IOException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+    DataOutputStream out = new DataOutputStream(body);
+    writeVarInt(out, ele.mType.ordinal());
+    ELEMENT_CODECS.get(ele.mType).write(out, ele);
+    writeRecord(dos, body);
+  }
+
+  /**
+   * Read the next operation.
+   *
+   * @param dis The source data input stream, positioned after the header
+   * @return the operation, or null at the end of the file
+   * @throws IOException if a record is corrupted
+   */
+  static EditLogOperation readOperation(DataInputStream dis) throws IOException {
+    DataInputStream body = readRecord(dis);
+    if (body == null) {
+      return null;
+    }
+    EditLogOperationType type = readEnum(body, EditLogOperationType.values());
+    EditLogOperation op = new EditLogOperation(type, readVarLong(body));
+    op.mValues = OPERATION_CODECS.get(type).read(body);
+    return op;
+  }
+
+  /**
+   * Read the next image element.
+   *
+   * @param dis The source data input stream, positioned after the header
+   * @return the element, or null at the end of the file
+   * @throws IOException if a record is corrupted
+   */
+  static ImageElement readElement(DataInputStream dis) throws IOException {
+    DataInputStream body = readRecord(dis);
+    if (body == null) {
+      return null;
+    }
+    ImageElement ele = new ImageElement(readEnum(body, ImageElementType.values()));
+    ele.mValues = ELEMENT_CODECS.get(ele.mType).read(body);
+    return ele;
+  }
+
+  private static void writeRecord(DataOutputStream dos, ByteArrayOutputStream body)
+      throws IOException {
+    byte[] bytes = body.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    writeVarInt(dos, bytes.length);
+    dos.write(bytes);
+    dos.writeInt((int) crc.getValue());
+  }
+
+  /**
+   * Read and check the next record. A record cut short by the end of the file is the tail of a
+   * write that never completed, so it is dropped with a warning rather than failing the replay.
+   */
+  private static DataInputStream readRecord(DataInputStream dis) throws IOException {
+    int first = dis.read();
+    if (first == -1) {
+      return null;
+    }
+    byte[] bytes;
+    int checksum;
+    try {
+      int length = readVarInt(dis, first);
+      if (length < 0 || length > MAX_RECORD_SIZE) {
+        throw new IOException("Corrupted journal record with length " + length);
+      }
+      bytes = new byte[length];
+      dis.readFully(bytes);
+      checksum = dis.readInt();
+    } catch (EOFException e) {
+      LOG.warn("Ignoring the incomplete record at the end of the journal file");
+      return null;
+    }
+    CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    if ((int) crc.getValue() != checksum) {
+      throw new IOException("Corrupted journal record, checksum mismatch");
+    }
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  private static <T extends Enum<T>> T readEnum(DataInputStream in, T[] values)
+      throws IOException {
+    int ordinal = readVarInt(in);
+    if (ordinal < 0 || ordinal >= values.length) {
+      throw new IOException("Invalid type ordinal " + ordinal);
+    }
+    return values[ordinal];
+  }
+
+  private static void checkPresent(JsonObject obj, String name) throws IOException {
+    if (!obj.hasParameter(name)) {
+      throw new IOException("Missing parameter " + name + " in " + obj);
+    }
+  }
+
+  private static void writeBoolean(DataOutputStream out, JsonObject obj, String name)
+      throws IOException {
+    checkPresent(obj, name);
+    out.writeBoolean(obj.getBoolean(name));
+  }
+
+  private static void writeShort(DataOutputStream out, JsonObject obj, String name)
+      throws IOException {
+    checkPresent(obj, name);
+    writeVarInt(out, zigzag((int) obj.getShort(name)));
+  }
+
+  private static void writeInt(DataOutputStream out, JsonObject obj, String name)
+      throws IOException {
+    checkPresent(obj, name);
+    writeVarInt(out, zigzag((int) obj.getInt(name)));
+  }
+
+  private static void writeLong(DataOutputStream out, JsonObject obj, String name)
+      throws IOException {
+    checkPresent(obj, name);
+    writeVarLong(out, zigzag((long) obj.getLong(name)));
+  }
+
+  private static int readInt(DataInputStream in) throws IOException {
+    return unzigzag(readVarInt(in));
+  }
+
+  private static long readLong(DataInputStream in) throws IOException {
+    return unzigzag(readVarLong(in));
+  }
+
+  /** Writes the length of a nullable value plus one, 0 for null. */
+  private static void writeLength(DataOutputStream out, int length) throws IOException {
+    writeVarInt(out, length + 1);
+  }
+
+  /** Reads the length written by {@link #writeLength}, -1 for null. */
+  private static int readLength(DataInputStream in) throws IOException {
+    int length = readVarInt(in) - 1;
+    if (length < -1 || length > MAX_RECORD_SIZE) {
+      throw new IOException("Invalid length " + length);
+    }
+    return length;
+  }
+
+  private static void writeIntList(DataOutputStream out, List<Integer> list)
+      throws IOException {
+    if (list == null) {
+      writeLength(out, -1);
+      return;
+    }
+    writeLength(out, list.size());
+    for (int value : list) {
+      writeVarInt(out, zigzag(value));
+    }
+  }
+
+  private static List<Integer> readIntList(DataInputStream in) throws IOException {
+    int size = readLength(in);
+    if (size == -1) {
+      return null;
+    }
+    List<Integer> list = new ArrayList<Integer>(size);
+    for (int k = 0; k < size; k ++) {
+      list.add(readInt(in));
+    }
+    return list;
+  }
+
+  private static void writeBytes(DataOutputStream out, ByteBuffer buffer) throws IOException {
+    if (buffer == null) {
+      writeLength(out, -1);
+      return;
+    }
+    ByteBuffer bytes = buffer.duplicate();
+    writeLength(out, bytes.remaining());
+    if (bytes.hasArray()) {
+      out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    } else {
+      while (bytes.hasRemaining()) {
+        out.writeByte(bytes.get());
+      }
+    }
+  }
+
+  private static ByteBuffer readBytes(DataInputStream in) throws IOException {
+    int length = readLength(in);
+    if (length == -1) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private static void writeBytesList(DataOutputStream out, List<ByteBuffer> list)
+      throws IOException {
+    if (list == null) {
+      writeLength(out, -1);
+      return;
+    }
+    writeLength(out, list.size());
+    for (ByteBuffer buffer : list) {
+      writeBytes(out, buffer);
+    }
+  }
+
+  private static List<ByteBuffer> readBytesList(DataInputStream in) throws IOException {
+    int size = readLength(in);
+    if (size == -1) {
+      return null;
+    }
+    List<ByteBuffer> list = new ArrayList<ByteBuffer>(size);
+    for (int k = 0; k < size; k ++) {
+      list.add(readBytes(in));
+    }
+    return list;
+  }
+
+  /** Writes the value of the type, which is never 0, or 0 for null. */
+  private static void writeDependencyType(DataOutputStream out, DependencyType type)
+      throws IOException {
+    writeVarInt(out, type == null ? 0 : type.getValue());
+  }
+
+  private static DependencyType readDependencyType(DataInputStream in) throws IOException {
+    int value = readVarInt(in);
+    return value == 0 ? null : DependencyType.getDependencyType(value);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      writeLength(out, -1);
+      return;
+    }
+    byte[] bytes = value.getBytes(Charsets.UTF_8);
+    writeLength(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = readLength(in);
+    if (length == -1) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, Charsets.UTF_8);
+  }
+
+  private static int zigzag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static int unzigzag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  static void writeVarLong(DataOutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  static int readVarInt(DataInputStream in) throws IOException {
+    return readVarInt(in, in.readUnsignedByte());
+  }
+
+  private static int readVarInt(DataInputStream in, int first) throws IOException {
+    int value = first & 0x7F;
+    int b = first;
+    for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+      if (shift > 28) {
+        throw new IOException("Malformed varint");
+      }
+      b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+    }
+    return value;
+  }
+
+  static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varlong");
+  }
+
+  private BinaryJournalCodec() {}
+}
@@ -15,8 +15,6 @@
 
 package tachyon.master;
 
-import java.io.IOException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -25,11 +23,8 @@ import java.util.Map;
 import tachyon.Pair;
 import tachyon.StorageDirId;
 import tachyon.StorageLevelAlias;
-import tachyon.UnderFileSystem;
-import tachyon.conf.TachyonConf;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.NetAddress;
-import tachyon.util.NetworkUtils;
 
 /**
  * Block info on the master side.
@@ -104,17 +99,19 @@ public class BlockInfo {
   }
 
   /**
-   * Generate a ClientBlockInfo of the block, which is used for the thrift server.
+   * Generate a ClientBlockInfo of the block, which is used for the thrift server. The locations
+   * are the workers which have the block, the master fills in the under file system locations of a
+   * checkpointed block no worker has after releasing its locks.
    * 
    * @return the generated ClientBlockInfo
    */
-  public synchronized ClientBlockInfo generateClientBlockInfo(TachyonConf tachyonConf) {
+  public synchronized ClientBlockInfo generateClientBlockInfo() {
     ClientBlockInfo ret = new ClientBlockInfo();
 
     ret.blockId = mBlockId;
     ret.offset = mOffset;
     ret.length = mLength;
-    ret.locations = getLocations(tachyonConf);
+    ret.locations = getLocations();
 
     return ret;
   }
@@ -148,30 +145,8 @@ public class BlockInfo {
    * 
    * @return the net addresses of the locations
    */
-  public synchronized List<NetAddress> getLocations(TachyonConf tachyonConf) {
-    List<NetAddress> ret = new ArrayList<NetAddress>(mLocations.size());
-    ret.addAll(mLocations.values());
-    if (ret.isEmpty() && mInodeFile.hasCheckpointed()) {
-      UnderFileSystem ufs = UnderFileSystem.get(mInodeFile.getUfsPath(), tachyonConf);
-      List<String> locs = null;
-      try {
-        locs = ufs.getFileLocations(mInodeFile.getUfsPath(), mOffset);
-      } catch (IOException e) {
-        return ret;
-      }
-      if (locs != null) {
-        for (String loc : locs) {
-          String resolvedHost;
-          try {
-            resolvedHost = NetworkUtils.resolveHostName(loc);
-          } catch (UnknownHostException e) {
-            resolvedHost = loc;
-          }
-          ret.add(new NetAddress(resolvedHost, -1, -1));
-        }
-      }
-    }
-    return ret;
+  public synchronized List<NetAddress> getLocations() {
+    return new ArrayList<NetAddress>(mLocations.values());
   }
 
   /**
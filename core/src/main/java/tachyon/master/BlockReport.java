@@ -0,0 +1,204 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * The block changes a worker reports in one heartbeat. The block ids are sorted, so the blocks of
+ * a file are next to each other and the file's inode is locked once for all of them.
+ *
+ * A full report lists all the blocks of the worker as added blocks. The master removes the worker
+ * from the locations of the other blocks it knows on the worker, so the locations whose removal
+ * was never reported are dropped.
+ *
+ * On the wire a report is the varint flags, the removed block ids, then the varint number of
+ * StorageDirs followed by the varlong id and the added block ids of each of them. A list of block
+ * ids is its varint size followed by the varlong deltas between consecutive sorted ids, which
+ * take one or two bytes for the blocks of the same file instead of eight.
+ */
+public final class BlockReport {
+  private static final int FLAG_FULL = 1;
+
+  /** True if the added blocks are all the blocks of the worker */
+  private final boolean mFull;
+  /** Sorted ids of the blocks removed from the worker */
+  private final List<Long> mRemovedBlockIds;
+  /** Mapping from StorageDir id to the sorted ids of the blocks added to the StorageDir */
+  private final Map<Long, List<Long>> mAddedBlockIds;
+
+  /**
+   * @param full true if addedBlockIds holds all the blocks of the worker
+   * @param removedBlockIds ids of the blocks removed from the worker
+   * @param addedBlockIds mapping from StorageDir id to the ids of the blocks added to it
+   */
+  public BlockReport(boolean full, List<Long> removedBlockIds,
+      Map<Long, List<Long>> addedBlockIds) {
+    mFull = full;
+    mRemovedBlockIds = sort(removedBlockIds);
+    mAddedBlockIds = new HashMap<Long, List<Long>>(addedBlockIds.size());
+    for (Entry<Long, List<Long>> entry : addedBlockIds.entrySet()) {
+      if (!entry.getValue().isEmpty()) {
+        mAddedBlockIds.put(entry.getKey(), sort(entry.getValue()));
+      }
+    }
+  }
+
+  /**
+   * Decodes a report encoded by {@link #encode()}.
+   *
+   * @param buffer the encoded report
+   * @return the report
+   * @throws IOException if the report is malformed
+   */
+  public static BlockReport decode(ByteBuffer buffer) throws IOException {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+    int flags = BinaryJournalCodec.readVarInt(in);
+    List<Long> removedBlockIds = readBlockIds(in);
+    int dirs = readSize(in);
+    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>(dirs);
+    for (int k = 0; k < dirs; k ++) {
+      long storageDirId = BinaryJournalCodec.readVarLong(in);
+      addedBlockIds.put(storageDirId, readBlockIds(in));
+    }
+    if (in.available() > 0) {
+      throw new IOException("Unexpected " + in.available() + " bytes after the block report");
+    }
+    return new BlockReport((flags & FLAG_FULL) != 0, removedBlockIds, addedBlockIds);
+  }
+
+  private static List<Long> readBlockIds(DataInputStream in) throws IOException {
+    int size = readSize(in);
+    List<Long> blockIds = new ArrayList<Long>(size);
+    long blockId = 0;
+    for (int k = 0; k < size; k ++) {
+      blockId += BinaryJournalCodec.readVarLong(in);
+      blockIds.add(blockId);
+    }
+    return blockIds;
+  }
+
+  /** Reads a varint size, each element taking at least one of the remaining bytes. */
+  private static int readSize(DataInputStream in) throws IOException {
+    int size = BinaryJournalCodec.readVarInt(in);
+    if (size < 0 || size > in.available()) {
+      throw new IOException("Invalid size " + size + " in the block report");
+    }
+    return size;
+  }
+
+  private static List<Long> sort(List<Long> blockIds) {
+    List<Long> sorted = new ArrayList<Long>(blockIds);
+    Collections.sort(sorted);
+    return sorted;
+  }
+
+  private static void writeBlockIds(DataOutputStream out, List<Long> blockIds)
+      throws IOException {
+    BinaryJournalCodec.writeVarInt(out, blockIds.size());
+    long previous = 0;
+    for (long blockId : blockIds) {
+      BinaryJournalCodec.writeVarLong(out, blockId - previous);
+      previous = blockId;
+    }
+  }
+
+  /**
+   * @return the encoded report, to send in a worker heartbeat
+   */
+  public ByteBuffer encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      BinaryJournalCodec.writeVarInt(out, mFull ? FLAG_FULL : 0);
+      writeBlockIds(out, mRemovedBlockIds);
+      BinaryJournalCodec.writeVarInt(out, mAddedBlockIds.size());
+      for (Entry<Long, List<Long>> entry : mAddedBlockIds.entrySet()) {
+        BinaryJournalCodec.writeVarLong(out, entry.getKey());
+        writeBlockIds(out, entry.getValue());
+      }
+      out.flush();
+    } catch (IOException e) {
+      // Writing to memory does not fail
+      throw new IllegalStateException(e);
+    }
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  /**
+   * @return mapping from StorageDir id to the sorted ids of the blocks added to it
+   */
+  public Map<Long, List<Long>> getAddedBlockIds() {
+    return mAddedBlockIds;
+  }
+
+  /**
+   * @return the sorted ids of the removed blocks
+   */
+  public List<Long> getRemovedBlockIds() {
+    return mRemovedBlockIds;
+  }
+
+  /**
+   * Gets the blocks to remove the worker from. Those are the removed blocks and, for a full
+   * report, the blocks the master knows on the worker that the report does not list.
+   *
+   * @param workerBlockIds ids of the blocks the master knows on the worker
+   * @return the sorted ids of the blocks to remove the worker from
+   */
+  List<Long> getRemovedBlockIds(Set<Long> workerBlockIds) {
+    if (!mFull) {
+      return mRemovedBlockIds;
+    }
+    Set<Long> removedBlockIds = new HashSet<Long>(workerBlockIds);
+    for (List<Long> addedBlockIds : mAddedBlockIds.values()) {
+      for (long blockId : addedBlockIds) {
+        removedBlockIds.remove(blockId);
+      }
+    }
+    removedBlockIds.addAll(mRemovedBlockIds);
+    return sort(new ArrayList<Long>(removedBlockIds));
+  }
+
+  /**
+   * @return true if the report has no block change
+   */
+  public boolean isEmpty() {
+    return !mFull && mRemovedBlockIds.isEmpty() && mAddedBlockIds.isEmpty();
+  }
+
+  /**
+   * @return true if the added blocks are all the blocks of the worker
+   */
+  public boolean isFull() {
+    return mFull;
+  }
+}
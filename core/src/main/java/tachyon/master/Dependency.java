@@ -28,7 +28,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectWriter;
 
 import tachyon.Constants;
 import tachyon.conf.TachyonConf;
@@ -304,7 +303,7 @@ public class Dependency extends ImageWriter {
   }
 
   @Override
-  public synchronized void writeImage(ObjectWriter objWriter, DataOutputStream dos)
+  public synchronized void writeImage(JournalFormat format, DataOutputStream dos)
       throws IOException {
     ImageElement ele =
         new ImageElement(ImageElementType.Dependency).withParameter("depID", mId)
@@ -318,6 +317,6 @@ public class Dependency extends ImageWriter {
             .withParameter("parentDeps", mParentDependencies)
             .withParameter("creationTimeMs", mCreationTimeMs)
             .withParameter("unCheckpointedChildrenFiles", getUncheckpointedChildrenFiles());
-    writeElement(objWriter, dos, ele);
+    writeElement(format, dos, ele);
   }
 }
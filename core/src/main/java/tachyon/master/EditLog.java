@@ -15,20 +15,19 @@
 
 package tachyon.master;
 
-import java.io.DataInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Throwables;
 
 import tachyon.Constants;
@@ -106,112 +105,119 @@ public final class EditLog {
   public static void loadSingleLog(MasterInfo info, String path) throws IOException {
     UnderFileSystem ufs = UnderFileSystem.get(path, info.getTachyonConf());
 
-    DataInputStream is = new DataInputStream(ufs.open(path));
-    JsonParser parser = JsonObject.createObjectMapper().getFactory().createParser(is);
-
-    while (true) {
+    JournalReader reader = JournalReader.create(ufs.open(path));
+    try {
       EditLogOperation op;
-      try {
-        op = parser.readValueAs(EditLogOperation.class);
-        LOG.debug("Read operation: {}", op);
-      } catch (IOException e) {
-        // Unfortunately brittle, but Jackson rethrows EOF with this message.
-        if (e.getMessage().contains("end-of-input")) {
-          break;
-        } else {
-          throw e;
-        }
+      while ((op = reader.readOperation()) != null) {
+        replayOperation(info, op);
       }
+    } finally {
+      reader.close();
+    }
+    ufs.close();
+  }
 
-      sCurrentTId = op.mTransId;
-      try {
-        switch (op.mType) {
-          case ADD_BLOCK: {
-            info.opAddBlock(op.getInt("fileId"), op.getInt("blockIndex"),
-                op.getLong("blockLength"), op.getLong("opTimeMs"));
-            break;
-          }
-          case ADD_CHECKPOINT: {
-            info._addCheckpoint(-1, op.getInt("fileId"), op.getLong("length"),
-                new TachyonURI(op.getString("path")), op.getLong("opTimeMs"));
-            break;
-          }
-          case CREATE_FILE: {
-            info._createFile(op.getBoolean("recursive"), new TachyonURI(op.getString("path")), op
-                .getBoolean("directory"), op.getLong("blockSizeByte"),
-                op.getLong("creationTimeMs"), AclUtil.getAcl(op.getString("owner"),
-                    op.getString("group"), op.getShort("permission")));
-            break;
-          }
-          case COMPLETE_FILE: {
-            info._completeFile(op.get("fileId", Integer.class), op.getLong("opTimeMs"));
-            break;
-          }
-          case SET_PINNED: {
-            info._setPinned(op.getInt("fileId"), op.getBoolean("pinned"), op.getLong("opTimeMs"));
-            break;
-          }
-          case RENAME: {
-            info._rename(op.getInt("fileId"), new TachyonURI(op.getString("dstPath")),
-                op.getLong("opTimeMs"));
-            break;
-          }
-          case DELETE: {
-            info._delete(op.getInt("fileId"), op.getBoolean("recursive"), op.getLong("opTimeMs"));
-            break;
-          }
-          case CREATE_RAW_TABLE: {
-            info._createRawTable(op.getInt("tableId"), op.getInt("columns"),
-                op.getByteBuffer("metadata"));
-            break;
-          }
-          case UPDATE_RAW_TABLE_METADATA: {
-            info.updateRawTableMetadata(op.getInt("tableId"), op.getByteBuffer("metadata"));
-            break;
-          }
-          case CREATE_DEPENDENCY: {
-            info._createDependency(op.get("parents", new TypeReference<List<Integer>>() {}),
-                op.get("children", new TypeReference<List<Integer>>() {}),
-                op.getString("commandPrefix"), op.getByteBufferList("data"),
-                op.getString("comment"), op.getString("framework"),
-                op.getString("frameworkVersion"), op.get("dependencyType", DependencyType.class),
-                op.getInt("dependencyId"), op.getLong("creationTimeMs"));
-            break;
-          }
-          case CHMOD: {
-            info.setPermission(op.getInt("fileId"), op.getShort("permission"),
-                op.getBoolean("recursive"));
-            break;
-          }
-          case CHOWN: {
-            info.setOwner(op.getInt("fileId"), op.getString("owner"), op.getString("group"),
-                op.getBoolean("recursive"));
-            break;
-          }
-          default:
-            throw new IOException("Invalid op type " + op);
+  /**
+   * Apply one operation read from an edit log to the master info.
+   * 
+   * @param info The Master Info
+   * @param op The operation to replay
+   * @throws IOException
+   */
+  private static void replayOperation(MasterInfo info, EditLogOperation op) throws IOException {
+    sCurrentTId = op.mTransId;
+    // The replay methods expect the caller to hold the namespace and inode locks, holding the
+    // namespace lock in write mode covers all of them.
+    info.getNamespaceLock().writeLock().lock();
+    try {
+      switch (op.mType) {
+        case ADD_BLOCK: {
+          info.opAddBlock(op.getInt("fileId"), op.getInt("blockIndex"),
+              op.getLong("blockLength"), op.getLong("opTimeMs"));
+          break;
+        }
+        case ADD_CHECKPOINT: {
+          info._addCheckpoint(-1, op.getInt("fileId"), op.getLong("length"),
+              new TachyonURI(op.getString("path")), op.getLong("opTimeMs"));
+          break;
+        }
+        case CREATE_FILE: {
+          // Logs written before the inode ids were recorded replay with newly allocated ids.
+          List<Integer> inodeIds = op.get("inodeIds", new TypeReference<List<Integer>>() {});
+          info._createFile(op.getBoolean("recursive"), new TachyonURI(op.getString("path")), op
+              .getBoolean("directory"), op.getLong("blockSizeByte"),
+              op.getLong("creationTimeMs"), AclUtil.getAcl(op.getString("owner"),
+                  op.getString("group"), op.getShort("permission")),
+              inodeIds == null ? new ArrayList<Integer>() : inodeIds);
+          break;
+        }
+        case COMPLETE_FILE: {
+          info._completeFile(op.get("fileId", Integer.class), op.getLong("opTimeMs"));
+          break;
+        }
+        case SET_PINNED: {
+          info._setPinned(op.getInt("fileId"), op.getBoolean("pinned"), op.getLong("opTimeMs"));
+          break;
+        }
+        case RENAME: {
+          info._rename(op.getInt("fileId"), new TachyonURI(op.getString("dstPath")),
+              op.getLong("opTimeMs"));
+          break;
+        }
+        case DELETE: {
+          info._delete(op.getInt("fileId"), op.getBoolean("recursive"), op.getLong("opTimeMs"));
+          break;
+        }
+        case CREATE_RAW_TABLE: {
+          info._createRawTable(op.getInt("tableId"), op.getInt("columns"),
+              op.getByteBuffer("metadata"));
+          break;
+        }
+        case UPDATE_RAW_TABLE_METADATA: {
+          info.updateRawTableMetadata(op.getInt("tableId"), op.getByteBuffer("metadata"));
+          break;
         }
-      } catch (SuspectedFileSizeException e) {
-        throw new IOException(e);
-      } catch (BlockInfoException e) {
-        throw new IOException(e);
-      } catch (FileDoesNotExistException e) {
-        throw new IOException(e);
-      } catch (FileAlreadyExistException e) {
-        throw new IOException(e);
-      } catch (InvalidPathException e) {
-        throw new IOException(e);
-      } catch (TachyonException e) {
-        throw new IOException(e);
-      } catch (TableDoesNotExistException e) {
-        throw new IOException(e);
-      } catch (AccessControlException e) {
-        throw new IOException(e);
+        case CREATE_DEPENDENCY: {
+          info._createDependency(op.get("parents", new TypeReference<List<Integer>>() {}),
+              op.get("children", new TypeReference<List<Integer>>() {}),
+              op.getString("commandPrefix"), op.getByteBufferList("data"),
+              op.getString("comment"), op.getString("framework"),
+              op.getString("frameworkVersion"), op.get("dependencyType", DependencyType.class),
+              op.getInt("dependencyId"), op.getLong("creationTimeMs"));
+          break;
+        }
+        case CHMOD: {
+          info.setPermission(op.getInt("fileId"), op.getShort("permission"),
+              op.getBoolean("recursive"));
+          break;
+        }
+        case CHOWN: {
+          info.setOwner(op.getInt("fileId"), op.getString("owner"), op.getString("group"),
+              op.getBoolean("recursive"));
+          break;
+        }
+        default:
+          throw new IOException("Invalid op type " + op);
       }
+    } catch (SuspectedFileSizeException e) {
+      throw new IOException(e);
+    } catch (BlockInfoException e) {
+      throw new IOException(e);
+    } catch (FileDoesNotExistException e) {
+      throw new IOException(e);
+    } catch (FileAlreadyExistException e) {
+      throw new IOException(e);
+    } catch (InvalidPathException e) {
+      throw new IOException(e);
+    } catch (TachyonException e) {
+      throw new IOException(e);
+    } catch (TableDoesNotExistException e) {
+      throw new IOException(e);
+    } catch (AccessControlException e) {
+      throw new IOException(e);
+    } finally {
+      info.getNamespaceLock().writeLock().unlock();
     }
-
-    is.close();
-    ufs.close();
   }
 
   /**
@@ -243,8 +249,8 @@ public final class EditLog {
 
   private final String mPath;
 
-  /** Writer used to serialize Operations into the edit log. */
-  private final ObjectWriter mWriter;
+  /** The format operations are serialized in. */
+  private final JournalFormat mFormat;
 
   private UnderFileSystem mUfs;
 
@@ -265,6 +271,32 @@ public final class EditLog {
 
   private final TachyonConf mTachyonConf;
 
+  /**
+   * If true, operations are appended to an in-memory batch and a dedicated flusher thread syncs
+   * each batch to the under filesystem with a single sync. See {@link #flush(long)}.
+   */
+  private final boolean mGroupCommit;
+
+  /** The number of batched operations after which the flusher syncs without waiting further. */
+  private final int mGroupCommitMaxBatchSize;
+
+  /** How long the flusher waits for more operations to join a batch before syncing it. */
+  private final long mGroupCommitMaxWaitMs;
+
+  /** Operations serialized but not yet handed to the flusher, only used in group commit mode. */
+  private final ByteArrayOutputStream mBatch = new ByteArrayOutputStream();
+
+  private final DataOutputStream mBatchDos = new DataOutputStream(mBatch);
+
+  private int mBatchedOps = 0;
+
+  private Thread mFlusher = null;
+
+  private boolean mClosed = false;
+
+  /** The error hit by the flusher, rethrown to every caller waiting on a transaction. */
+  private RuntimeException mFlushError = null;
+
   /**
    * Create a new EditLog
    * 
@@ -313,18 +345,35 @@ public final class EditLog {
       if (mUfs.exists(path)) {
         mUfs.delete(path, true);
       }
+      mFormat = JournalFormat.fromConf(mTachyonConf);
       mOs = mUfs.create(path);
       mDos = new DataOutputStream(mOs);
-      LOG.info("Created file " + path);
+      mFormat.writeHeader(mDos);
+      LOG.info("Created file " + path + " in " + mFormat + " format");
       mFlushedTransactionId = transactionId;
       mTransactionId = transactionId;
-      mWriter = JsonObject.createObjectMapper().writer();
+      mGroupCommit =
+          mTachyonConf.getBoolean(Constants.MASTER_JOURNAL_GROUP_COMMIT_ENABLED, false);
+      mGroupCommitMaxBatchSize =
+          mTachyonConf.getInt(Constants.MASTER_JOURNAL_GROUP_COMMIT_MAX_BATCH_SIZE, 1024);
+      mGroupCommitMaxWaitMs =
+          mTachyonConf.getLong(Constants.MASTER_JOURNAL_GROUP_COMMIT_MAX_WAIT_MS, 0);
+      if (mGroupCommit) {
+        LOG.info("Edit log group commit enabled, max batch size " + mGroupCommitMaxBatchSize
+            + ", max wait " + mGroupCommitMaxWaitMs + " ms");
+        mFlusher = new Thread(new GroupCommitFlusher(), "edit-log-group-commit");
+        mFlusher.setDaemon(true);
+        mFlusher.start();
+      }
     } else {
       mPath = null;
       mUfs = null;
       mOs = null;
       mDos = null;
-      mWriter = null;
+      mFormat = null;
+      mGroupCommit = false;
+      mGroupCommitMaxBatchSize = 0;
+      mGroupCommitMaxWaitMs = 0;
     }
   }
 
@@ -352,9 +401,9 @@ public final class EditLog {
    * @param blockLength The length of the block to be added
    * @param opTimeMs The time of the addBlock operation, in milliseconds
    */
-  public synchronized void addBlock(int fileId, int blockIndex, long blockLength, long opTimeMs) {
+  public synchronized long addBlock(int fileId, int blockIndex, long blockLength, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -362,6 +411,7 @@ public final class EditLog {
             .withParameter("fileId", fileId).withParameter("blockIndex", blockIndex)
             .withParameter("blockLength", blockLength).withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -372,10 +422,10 @@ public final class EditLog {
    * @param checkpointPath The path of the checkpoint
    * @param opTimeMs The time of the addCheckpoint operation, in milliseconds
    */
-  public synchronized void addCheckpoint(int fileId, long length, TachyonURI checkpointPath,
+  public synchronized long addCheckpoint(int fileId, long length, TachyonURI checkpointPath,
       long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -383,21 +433,25 @@ public final class EditLog {
             .withParameter("fileId", fileId).withParameter("length", length)
             .withParameter("path", checkpointPath.toString()).withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
    * Close the log.
    */
-  public synchronized void close() {
+  public void close() {
     if (mInactive) {
       return;
     }
 
-    try {
-      _closeActiveStream();
-      mUfs.close();
-    } catch (IOException e) {
-      throw Throwables.propagate(e);
+    stopFlusher();
+    synchronized (this) {
+      try {
+        _closeActiveStream();
+        mUfs.close();
+      } catch (IOException e) {
+        throw Throwables.propagate(e);
+      }
     }
   }
 
@@ -407,15 +461,16 @@ public final class EditLog {
    * @param fileId The id of the file
    * @param opTimeMs The time of the completeFile operation, in milliseconds
    */
-  public synchronized void completeFile(int fileId, long opTimeMs) {
+  public synchronized long completeFile(int fileId, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
         new EditLogOperation(EditLogOperationType.COMPLETE_FILE, ++mTransactionId).withParameter(
             "fileId", fileId).withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -433,11 +488,11 @@ public final class EditLog {
    * @param depId The id of the dependency
    * @param creationTimeMs The create time of the dependency, in milliseconds
    */
-  public synchronized void createDependency(List<Integer> parents, List<Integer> children,
+  public synchronized long createDependency(List<Integer> parents, List<Integer> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, DependencyType dependencyType, int depId, long creationTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -450,6 +505,7 @@ public final class EditLog {
             .withParameter("dependencyType", dependencyType).withParameter("dependencyId", depId)
             .withParameter("creationTimeMs", creationTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -462,11 +518,12 @@ public final class EditLog {
    * @param blockSizeByte If it's a file, the block size for the Inode
    * @param creationTimeMs The time the file was created
    * @param acl the acl of the inode
+   * @param inodeIds The ids of the inodes the operation created, in creation order
    */
-  public synchronized void createFile(boolean recursive, TachyonURI path, boolean directory,
-      long blockSizeByte, long creationTimeMs, Acl acl) {
+  public synchronized long createFile(boolean recursive, TachyonURI path, boolean directory,
+      long blockSizeByte, long creationTimeMs, Acl acl, List<Integer> inodeIds) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -475,8 +532,10 @@ public final class EditLog {
             .withParameter("directory", directory).withParameter("blockSizeByte", blockSizeByte)
             .withParameter("creationTimeMs", creationTimeMs)
             .withParameter("owner", acl.getUserName()).withParameter("group", acl.getGroupName())
-            .withParameter("permission", acl.toShort());
+            .withParameter("permission", acl.toShort())
+            .withParameter("inodeIds", inodeIds);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -486,9 +545,9 @@ public final class EditLog {
    * @param columns The number of columns in the table
    * @param metadata Additional metadata about the table
    */
-  public synchronized void createRawTable(int tableId, int columns, ByteBuffer metadata) {
+  public synchronized long createRawTable(int tableId, int columns, ByteBuffer metadata) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -496,6 +555,7 @@ public final class EditLog {
             .withParameter("tableId", tableId).withParameter("columns", columns)
             .withParameter("metadata", Utils.byteBufferToBase64(metadata));
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -505,9 +565,9 @@ public final class EditLog {
    * @param recursive whether delete the file recursively or not.
    * @param opTimeMs The time of the delete operation, in milliseconds
    */
-  public synchronized void delete(int fileId, boolean recursive, long opTimeMs) {
+  public synchronized long delete(int fileId, boolean recursive, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -515,6 +575,7 @@ public final class EditLog {
             .withParameter("fileId", fileId).withParameter("recursive", recursive)
             .withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -546,6 +607,11 @@ public final class EditLog {
       return;
     }
 
+    if (mGroupCommit) {
+      flush(mTransactionId);
+      return;
+    }
+
     try {
       mDos.flush();
       if (mOs instanceof FSDataOutputStream) {
@@ -561,6 +627,48 @@ public final class EditLog {
     mFlushedTransactionId = mTransactionId;
   }
 
+  /**
+   * Block until the operation with the given transaction id, and every operation before it, is
+   * durable in the log. Unlike {@link #flush()}, callers should invoke this after releasing any
+   * namespace lock, so that in group commit mode many operations can share one sync.
+   * 
+   * @param transactionId The transaction id returned when the operation was logged
+   */
+  public void flush(long transactionId) {
+    if (mInactive) {
+      return;
+    }
+
+    if (!mGroupCommit) {
+      synchronized (this) {
+        if (mFlushedTransactionId < transactionId) {
+          flush();
+        }
+      }
+      return;
+    }
+
+    boolean interrupted = false;
+    synchronized (this) {
+      while (mFlushedTransactionId < transactionId) {
+        if (mFlushError != null) {
+          throw mFlushError;
+        }
+        if (mClosed && (mFlusher == null || !mFlusher.isAlive())) {
+          throw new IllegalStateException("Edit log " + mPath + " is closed");
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   /**
    * Get the current TransactionId and FlushedTransactionId
    * 
@@ -577,9 +685,9 @@ public final class EditLog {
    * @param dstPath The new path of the file
    * @param opTimeMs The time of the rename operation, in milliseconds
    */
-  public synchronized void rename(int fileId, TachyonURI dstPath, long opTimeMs) {
+  public synchronized long rename(int fileId, TachyonURI dstPath, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -587,6 +695,7 @@ public final class EditLog {
             .withParameter("fileId", fileId).withParameter("dstPath", dstPath.toString())
             .withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -613,6 +722,7 @@ public final class EditLog {
       LOG.info("Renamed " + path + " to " + newPath);
       mOs = mUfs.create(path);
       mDos = new DataOutputStream(mOs);
+      mFormat.writeHeader(mDos);
       LOG.info("Created new log file " + path);
     } catch (IOException e) {
       throw Throwables.propagate(e);
@@ -646,9 +756,9 @@ public final class EditLog {
    * @param pinned If true, the file is never evicted from memory
    * @param opTimeMs The time of the setPinned operation, in milliseconds
    */
-  public synchronized void setPinned(int fileId, boolean pinned, long opTimeMs) {
+  public synchronized long setPinned(int fileId, boolean pinned, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -656,6 +766,7 @@ public final class EditLog {
             .withParameter("fileId", fileId).withParameter("pinned", pinned)
             .withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 
   /**
@@ -664,9 +775,9 @@ public final class EditLog {
    * @param tableId The id of the raw table
    * @param metadata The new metadata of the raw table
    */
-  public synchronized void updateRawTableMetadata(int tableId, ByteBuffer metadata) {
+  public synchronized long updateRawTableMetadata(int tableId, ByteBuffer metadata) {
     if (mInactive) {
-      return;
+      return -1;
     }
 
     EditLogOperation operation =
@@ -674,17 +785,132 @@ public final class EditLog {
             .withParameter("tableId", tableId).withParameter("metadata",
                 Utils.byteBufferToBase64(metadata));
     writeOperation(operation);
+    return mTransactionId;
   }
 
   private void writeOperation(EditLogOperation operation) {
     try {
-      mWriter.writeValue(mDos, operation);
-      mDos.writeByte('\n');
+      if (mGroupCommit) {
+        if (mFlushError != null) {
+          throw mFlushError;
+        }
+        mFormat.writeOperation(mBatchDos, operation);
+        mBatchedOps ++;
+        // Wake up the flusher when a new batch starts, or when the batch should not wait any more.
+        if (mBatchedOps == 1 || mBatchedOps >= mGroupCommitMaxBatchSize) {
+          notifyAll();
+        }
+      } else {
+        mFormat.writeOperation(mDos, operation);
+      }
     } catch (IOException e) {
       throw Throwables.propagate(e);
     }
   }
 
+  /**
+   * Write a batch handed over by the flusher to the log and sync it. Only called by the flusher
+   * thread, which is the only writer of the underlying stream in group commit mode.
+   * 
+   * @param batch The serialized operations
+   * @throws IOException
+   */
+  private void syncBatch(byte[] batch) throws IOException {
+    mDos.write(batch);
+    mDos.flush();
+    if (mOs instanceof FSDataOutputStream) {
+      ((FSDataOutputStream) mOs).sync();
+    }
+    if (mDos.size() > mMaxLogSize) {
+      rotateEditLog(mPath);
+    }
+  }
+
+  /**
+   * Ask the flusher to sync what is left in the batch, and wait for it to exit.
+   */
+  private void stopFlusher() {
+    Thread flusher;
+    synchronized (this) {
+      mClosed = true;
+      notifyAll();
+      flusher = mFlusher;
+    }
+    if (flusher == null) {
+      return;
+    }
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (this) {
+      mFlusher = null;
+      notifyAll();
+    }
+  }
+
+  /**
+   * Syncs batches of operations for group commit. Waits until there is something to sync, lets
+   * the batch grow for at most the configured max wait (or until it reaches the max batch size),
+   * then writes and syncs the whole batch at once and wakes up the waiting callers.
+   */
+  private final class GroupCommitFlusher implements Runnable {
+    @Override
+    public void run() {
+      while (true) {
+        byte[] batch;
+        long lastTransactionId;
+        synchronized (EditLog.this) {
+          try {
+            while (mBatchedOps == 0 && !mClosed) {
+              EditLog.this.wait();
+            }
+            long deadlineMs = CommonUtils.getCurrentMs() + mGroupCommitMaxWaitMs;
+            long remainingMs = mGroupCommitMaxWaitMs;
+            while (!mClosed && mBatchedOps < mGroupCommitMaxBatchSize && remainingMs > 0) {
+              EditLog.this.wait(remainingMs);
+              remainingMs = deadlineMs - CommonUtils.getCurrentMs();
+            }
+          } catch (InterruptedException e) {
+            LOG.warn("Edit log flusher interrupted, syncing the remaining batch");
+            mClosed = true;
+          }
+          if (mBatchedOps == 0) {
+            return;
+          }
+          batch = mBatch.toByteArray();
+          mBatch.reset();
+          mBatchedOps = 0;
+          lastTransactionId = mTransactionId;
+        }
+
+        try {
+          syncBatch(batch);
+        } catch (IOException e) {
+          failFlusher(Throwables.propagate(e));
+          return;
+        } catch (RuntimeException e) {
+          failFlusher(e);
+          return;
+        }
+
+        synchronized (EditLog.this) {
+          mFlushedTransactionId = lastTransactionId;
+          EditLog.this.notifyAll();
+        }
+      }
+    }
+
+    private void failFlusher(RuntimeException e) {
+      LOG.error("Failed to sync edit log " + mPath, e);
+      synchronized (EditLog.this) {
+        mFlushError = e;
+        EditLog.this.notifyAll();
+      }
+    }
+  }
+
   /**
    * Log a chown operation. Do nothing if the edit log is inactive.
    * 
@@ -693,10 +919,10 @@ public final class EditLog {
    * @param groupname If it is null, the original groupname remains unchanged.
    * @param opTimeMs The time of the rename operation, in milliseconds
    */
-  public synchronized void chown(int fileId, String username, String groupname, boolean recursive,
+  public synchronized long chown(int fileId, String username, String groupname, boolean recursive,
       long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
     EditLogOperation operation = new EditLogOperation(EditLogOperationType.CHOWN, ++mTransactionId);
     operation.withParameter("fileId", fileId);
@@ -705,16 +931,18 @@ public final class EditLog {
     operation.withParameter("owner", username);
     operation.withParameter("group", groupname);
     writeOperation(operation);
+    return mTransactionId;
   }
 
-  public synchronized void chmod(int fileId, short permission, boolean recursive, long opTimeMs) {
+  public synchronized long chmod(int fileId, short permission, boolean recursive, long opTimeMs) {
     if (mInactive) {
-      return;
+      return -1;
     }
     EditLogOperation operation =
         new EditLogOperation(EditLogOperationType.CHMOD, ++mTransactionId)
             .withParameter("fileId", fileId).withParameter("permission", permission)
             .withParameter("recursive", recursive).withParameter("opTimeMs", opTimeMs);
     writeOperation(operation);
+    return mTransactionId;
   }
 }
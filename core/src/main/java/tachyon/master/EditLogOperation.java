@@ -49,7 +49,7 @@ class EditLogOperation extends JsonObject {
   @Override
   public String toString() {
     return Objects.toStringHelper(this).add("type", mType).add("transId", mTransId)
-        .add("parameters", mParameters).toString();
+        .add("parameters", getParameters()).toString();
   }
 
   @Override
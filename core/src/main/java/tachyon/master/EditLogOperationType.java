@@ -15,7 +15,10 @@
 
 package tachyon.master;
 
-/** Type of EditLog entry. */
+/**
+ * Type of EditLog entry. The ordinals are persisted by the binary journal format, new types must be
+ * appended.
+ */
 enum EditLogOperationType {
   ADD_BLOCK, ADD_CHECKPOINT, CREATE_FILE, COMPLETE_FILE, SET_PINNED, RENAME, DELETE,
   CREATE_RAW_TABLE, UPDATE_RAW_TABLE_METADATA, CREATE_DEPENDENCY, CHOWN, CHMOD
@@ -15,7 +15,7 @@
 
 package tachyon.master;
 
-import java.io.DataInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -23,9 +23,6 @@ import java.io.OutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.ObjectWriter;
-
 import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
@@ -53,10 +50,11 @@ public class Image {
       ufs.mkdirs(parentFolder, true);
     }
     OutputStream os = ufs.create(tPath);
-    DataOutputStream imageOs = new DataOutputStream(os);
-    ObjectWriter writer = JsonObject.createObjectMapper().writer();
+    DataOutputStream imageOs = new DataOutputStream(new BufferedOutputStream(os));
+    JournalFormat format = JournalFormat.fromConf(info.getTachyonConf());
 
-    info.writeImage(writer, imageOs);
+    format.writeHeader(imageOs);
+    info.writeImage(format, imageOs);
     imageOs.flush();
     imageOs.close();
 
@@ -83,11 +81,14 @@ public class Image {
       return;
     }
     LOG.info("Loading image " + path);
-    DataInputStream imageIs = new DataInputStream(ufs.open(path));
-    JsonParser parser = JsonObject.createObjectMapper().getFactory().createParser(imageIs);
+    JournalReader reader = JournalReader.create(ufs.open(path));
+    LOG.info("Image " + path + " is in " + reader.getFormat() + " format");
 
-    info.loadImage(parser, new TachyonURI(path));
-    imageIs.close();
+    try {
+      info.loadImage(reader, new TachyonURI(path));
+    } finally {
+      reader.close();
+    }
     ufs.close();
   }
 
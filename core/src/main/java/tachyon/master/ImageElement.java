@@ -45,7 +45,7 @@ class ImageElement extends JsonObject {
   @Override
   public String toString() {
     return Objects.toStringHelper(this).add("type", mType)
-        .add("parameters", mParameters).toString();
+        .add("parameters", getParameters()).toString();
   }
 
   @Override
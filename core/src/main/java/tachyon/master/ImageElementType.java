@@ -15,7 +15,10 @@
 
 package tachyon.master;
 
-/** Type of Image entry. */
+/**
+ * Type of Image entry. The ordinals are persisted by the binary journal format, new types must be
+ * appended.
+ */
 enum ImageElementType {
   Version, Checkpoint, InodeFile, InodeFolder, RawTable, Dependency,
 }
@@ -18,7 +18,6 @@ package tachyon.master;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Throwables;
 
 /**
@@ -26,25 +25,24 @@ import com.google.common.base.Throwables;
  */
 public abstract class ImageWriter {
   /**
-   * Write image to the specified DataOutputStream. Use the specified ObjectWriter.
+   * Write image to the specified DataOutputStream in the specified format.
    * 
-   * @param objWriter The used object writer
+   * @param format The format of the image
    * @param dos The target data output stream
    * @throws IOException
    */
-  abstract void writeImage(ObjectWriter objWriter, DataOutputStream dos) throws IOException;
+  abstract void writeImage(JournalFormat format, DataOutputStream dos) throws IOException;
 
   /**
-   * Write an ImageElement to the specified DataOutputStream. Use the specified ObjectWriter.
+   * Write an ImageElement to the specified DataOutputStream in the specified format.
    * 
-   * @param objWriter The used object writer
+   * @param format The format of the image
    * @param dos The target data output stream
    * @param ele The image element to be written
    */
-  protected void writeElement(ObjectWriter objWriter, DataOutputStream dos, ImageElement ele) {
+  protected void writeElement(JournalFormat format, DataOutputStream dos, ImageElement ele) {
     try {
-      objWriter.writeValue(dos, ele);
-      dos.writeByte('\n');
+      format.writeElement(dos, ele);
     } catch (IOException e) {
       throw Throwables.propagate(e);
     }
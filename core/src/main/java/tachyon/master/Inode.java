@@ -15,6 +15,8 @@
 
 package tachyon.master;
 
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 import tachyon.master.permission.Acl;
 import tachyon.master.permission.AclUtil;
 import tachyon.thrift.ClientFileInfo;
@@ -47,6 +49,12 @@ public abstract class Inode extends ImageWriter implements Comparable<Inode> {
 
   private long mLastModificationTimeMs;
 
+  /**
+   * Makes multi-step operations on this inode atomic. Inode locks are always acquired top-down
+   * along a path, or for a single inode by id while holding no other inode lock.
+   */
+  private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+
   /**
    * Create an inode.
    *
@@ -220,6 +228,35 @@ public abstract class Inode extends ImageWriter implements Comparable<Inode> {
         .toString();
   }
 
+  /**
+   * Acquire the read lock of the inode, taken on the ancestors of the inodes a path operation
+   * modifies
+   */
+  void lockRead() {
+    mLock.readLock().lock();
+  }
+
+  /**
+   * Release the read lock of the inode
+   */
+  void unlockRead() {
+    mLock.readLock().unlock();
+  }
+
+  /**
+   * Acquire the write lock of the inode, taken on the inodes a path operation modifies
+   */
+  void lockWrite() {
+    mLock.writeLock().lock();
+  }
+
+  /**
+   * Release the write lock of the inode
+   */
+  void unlockWrite() {
+    mLock.writeLock().unlock();
+  }
+
   /**
    * Get the acl of the inode
    *
@@ -20,10 +20,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.ObjectWriter;
 
 import tachyon.Pair;
-import tachyon.conf.TachyonConf;
 import tachyon.master.permission.Acl;
 import tachyon.master.permission.AclUtil;
 import tachyon.thrift.BlockInfoException;
@@ -234,13 +232,13 @@ public class InodeFile extends Inode {
    * @return a list of the worker's net address who caches the block
    * @throws BlockInfoException
    */
-  public synchronized List<NetAddress> getBlockLocations(int blockIndex, TachyonConf tachyonConf)
+  public synchronized List<NetAddress> getBlockLocations(int blockIndex)
       throws BlockInfoException {
     if (blockIndex < 0 || blockIndex > mBlocks.size()) {
       throw new BlockInfoException("BlockIndex is out of the boundry: " + blockIndex);
     }
 
-    return mBlocks.get(blockIndex).getLocations(tachyonConf);
+    return mBlocks.get(blockIndex).getLocations();
   }
 
   /**
@@ -265,17 +263,16 @@ public class InodeFile extends Inode {
    * Get a ClientBlockInfo of the specified block.
    * 
    * @param blockIndex The index of the block in the file
-   * @param tachyonConf The {@link tachyon.conf.TachyonConf} instance
    * @return the generated ClientBlockInfo
    * @throws BlockInfoException
    */
-  public synchronized ClientBlockInfo getClientBlockInfo(int blockIndex, TachyonConf tachyonConf)
+  public synchronized ClientBlockInfo getClientBlockInfo(int blockIndex)
       throws BlockInfoException {
     if (blockIndex < 0 || blockIndex >= mBlocks.size()) {
       throw new BlockInfoException("BlockIndex is out of the boundry: " + blockIndex);
     }
 
-    return mBlocks.get(blockIndex).generateClientBlockInfo(tachyonConf);
+    return mBlocks.get(blockIndex).generateClientBlockInfo();
   }
 
   /**
@@ -283,10 +280,10 @@ public class InodeFile extends Inode {
    * 
    * @return all blocks ClientBlockInfo
    */
-  public synchronized List<ClientBlockInfo> getClientBlockInfos(TachyonConf tachyonConf) {
+  public synchronized List<ClientBlockInfo> getClientBlockInfos() {
     List<ClientBlockInfo> ret = new ArrayList<ClientBlockInfo>(mBlocks.size());
     for (BlockInfo tInfo : mBlocks) {
-      ret.add(tInfo.generateClientBlockInfo(tachyonConf));
+      ret.add(tInfo.generateClientBlockInfo());
     }
     return ret;
   }
@@ -480,7 +477,7 @@ public class InodeFile extends Inode {
   }
 
   @Override
-  public synchronized void writeImage(ObjectWriter objWriter, DataOutputStream dos)
+  public synchronized void writeImage(JournalFormat format, DataOutputStream dos)
       throws IOException {
     ImageElement ele =
         new ImageElement(ImageElementType.InodeFile)
@@ -494,6 +491,6 @@ public class InodeFile extends Inode {
             .withParameter("owner", mAcl.getUserName()).withParameter("group", mAcl.getGroupName())
             .withParameter("permission", mAcl.toShort());
 
-    writeElement(objWriter, dos, ele);
+    writeElement(format, dos, ele);
   }
 }
@@ -26,9 +26,7 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.collect.ImmutableSet;
 
 import tachyon.Constants;
@@ -43,14 +41,14 @@ public class InodeFolder extends Inode {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   /**
-   * Create a new InodeFile from a JsonParser and an image Json element.
+   * Create a new InodeFolder from a JournalReader and an image element.
    *
-   * @param parser the JsonParser to get the next element
-   * @param ele the current InodeFolder's Json image element.
+   * @param reader the JournalReader to get the next element
+   * @param ele the current InodeFolder's image element.
    * @return the constructed InodeFolder.
    * @throws IOException
    */
-  static InodeFolder loadImage(JsonParser parser, ImageElement ele) throws IOException {
+  static InodeFolder loadImage(JournalReader reader, ImageElement ele) throws IOException {
     final long creationTimeMs = ele.getLong("creationTimeMs");
     final int fileId = ele.getInt("id");
     final boolean isPinned = ele.getBoolean("pinned");
@@ -64,11 +62,9 @@ public class InodeFolder extends Inode {
     int numberOfChildren = childrenIds.size();
     Inode[] children = new Inode[numberOfChildren];
     for (int k = 0; k < numberOfChildren; k ++) {
-      try {
-        ele = parser.readValueAs(ImageElement.class);
-        LOG.debug("Read Element: {}", ele);
-      } catch (IOException e) {
-        throw e;
+      ele = reader.readElement();
+      if (ele == null) {
+        throw new IOException("Unexpected end of image in the children of folder " + fileId);
       }
 
       switch (ele.mType) {
@@ -77,7 +73,7 @@ public class InodeFolder extends Inode {
           break;
         }
         case InodeFolder: {
-          children[k] = InodeFolder.loadImage(parser, ele);
+          children[k] = InodeFolder.loadImage(reader, ele);
           break;
         }
         default:
@@ -249,7 +245,7 @@ public class InodeFolder extends Inode {
    * @param dos The output stream to write the folder to
    */
   @Override
-  public void writeImage(ObjectWriter objWriter, DataOutputStream dos) throws IOException {
+  public void writeImage(JournalFormat format, DataOutputStream dos) throws IOException {
     ImageElement ele =
         new ImageElement(ImageElementType.InodeFolder)
             .withParameter("creationTimeMs", getCreationTimeMs()).withParameter("id", getId())
@@ -259,10 +255,10 @@ public class InodeFolder extends Inode {
             .withParameter("owner", mAcl.getUserName()).withParameter("group", mAcl.getGroupName())
             .withParameter("permission", mAcl.toShort());
 
-    writeElement(objWriter, dos, ele);
+    writeElement(format, dos, ele);
 
     for (Inode inode : getChildren()) {
-      inode.writeImage(objWriter, dos);
+      inode.writeImage(format, dos);
     }
   }
 }
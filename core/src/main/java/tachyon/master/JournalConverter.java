@@ -0,0 +1,145 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.UnderFileSystem;
+import tachyon.Version;
+import tachyon.conf.TachyonConf;
+import tachyon.util.CommonUtils;
+
+/**
+ * Converts the image and edit logs of a journal folder to another {@link JournalFormat}. The
+ * master must not be running on the journal while it is converted.
+ */
+public final class JournalConverter {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String IMAGE_FILE = "image.data";
+  private static final String EDIT_LOG_FILE = "log.data";
+  private static final String COMPLETED_FOLDER = "completed";
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.master.JournalConverter "
+          + "<SrcJournalFolder> <DstJournalFolder> <JSON|BINARY>");
+      System.exit(-1);
+    }
+
+    JournalFormat format = JournalFormat.valueOf(args[2].toUpperCase());
+    int files = convert(args[0], args[1], format, new TachyonConf());
+    System.out.println("Converted " + files + " journal files to " + format);
+    System.exit(0);
+  }
+
+  /**
+   * Convert every journal file of a journal folder.
+   *
+   * @param srcFolder The journal folder to read
+   * @param dstFolder The journal folder to write, it may be the same as srcFolder
+   * @param format The format to write
+   * @param conf The {@link tachyon.conf.TachyonConf} instance
+   * @return the number of converted files
+   * @throws IOException
+   */
+  public static int convert(String srcFolder, String dstFolder, JournalFormat format,
+      TachyonConf conf) throws IOException {
+    UnderFileSystem ufs = UnderFileSystem.get(srcFolder, conf);
+    int files = 0;
+    String src = CommonUtils.concat(srcFolder, IMAGE_FILE);
+    if (ufs.exists(src)) {
+      convertFile(src, CommonUtils.concat(dstFolder, IMAGE_FILE), format, true, conf);
+      files ++;
+    }
+    for (int k = 0;; k ++) {
+      String name = k + ".editLog";
+      src = CommonUtils.concat(srcFolder, COMPLETED_FOLDER, name);
+      if (!ufs.exists(src)) {
+        break;
+      }
+      convertFile(src, CommonUtils.concat(dstFolder, COMPLETED_FOLDER, name), format, false,
+          conf);
+      files ++;
+    }
+    src = CommonUtils.concat(srcFolder, EDIT_LOG_FILE);
+    if (ufs.exists(src)) {
+      convertFile(src, CommonUtils.concat(dstFolder, EDIT_LOG_FILE), format, false, conf);
+      files ++;
+    }
+    ufs.close();
+    return files;
+  }
+
+  /**
+   * Convert one image or edit log file. The converted file is written next to the destination
+   * and renamed over it once complete.
+   *
+   * @param src The file to read
+   * @param dst The file to write
+   * @param format The format to write
+   * @param image If true the file is an image, otherwise an edit log
+   * @param conf The {@link tachyon.conf.TachyonConf} instance
+   * @throws IOException
+   */
+  static void convertFile(String src, String dst, JournalFormat format, boolean image,
+      TachyonConf conf) throws IOException {
+    UnderFileSystem ufs = UnderFileSystem.get(dst, conf);
+    String parentFolder = dst.substring(0, dst.lastIndexOf(TachyonURI.SEPARATOR));
+    if (!ufs.exists(parentFolder)) {
+      ufs.mkdirs(parentFolder, true);
+    }
+    String tmp = dst + ".tmp";
+    JournalReader reader = JournalReader.create(UnderFileSystem.get(src, conf).open(src));
+    DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(ufs.create(tmp)));
+    int records = 0;
+    try {
+      format.writeHeader(dos);
+      if (image) {
+        ImageElement ele;
+        while ((ele = reader.readElement()) != null) {
+          format.writeElement(dos, ele);
+          records ++;
+        }
+      } else {
+        EditLogOperation op;
+        while ((op = reader.readOperation()) != null) {
+          format.writeOperation(dos, op);
+          records ++;
+        }
+      }
+    } finally {
+      reader.close();
+      dos.close();
+    }
+    if (ufs.exists(dst)) {
+      ufs.delete(dst, false);
+    }
+    ufs.rename(tmp, dst);
+    LOG.info("Converted " + records + " records of " + src + " from " + reader.getFormat()
+        + " to " + format + " in " + dst);
+  }
+
+  private JournalConverter() {}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+
+/**
+ * The on-disk format of the image and edit log files. Readers detect the format of a file from its
+ * first bytes (see {@link JournalReader#create(java.io.InputStream)}), so the configured format
+ * only decides how new files are written and a master can always replay files written in the other
+ * format.
+ */
+public enum JournalFormat {
+  /** One JSON object per line, the original format. Files have no header. */
+  JSON {
+    private final ObjectWriter mWriter = JsonObject.createObjectMapper().writer();
+
+    @Override
+    void writeHeader(DataOutputStream dos) {
+    }
+
+    @Override
+    void writeOperation(DataOutputStream dos, EditLogOperation op) throws IOException {
+      op.toJsonParameters();
+      mWriter.writeValue(dos, op);
+      dos.writeByte('\n');
+    }
+
+    @Override
+    void writeElement(DataOutputStream dos, ImageElement ele) throws IOException {
+      ele.toJsonParameters();
+      mWriter.writeValue(dos, ele);
+      dos.writeByte('\n');
+    }
+  },
+
+  /**
+   * Length-prefixed, CRC-checked binary records with varint-encoded values. Files start with a
+   * magic number and a format version, see {@link BinaryJournalCodec}.
+   */
+  BINARY {
+    @Override
+    void writeHeader(DataOutputStream dos) throws IOException {
+      BinaryJournalCodec.writeHeader(dos);
+    }
+
+    @Override
+    void writeOperation(DataOutputStream dos, EditLogOperation op) throws IOException {
+      BinaryJournalCodec.writeOperation(dos, op);
+    }
+
+    @Override
+    void writeElement(DataOutputStream dos, ImageElement ele) throws IOException {
+      BinaryJournalCodec.writeElement(dos, ele);
+    }
+  };
+
+  /**
+   * Get the format new journal files should be written in.
+   *
+   * @param conf The {@link tachyon.conf.TachyonConf} instance
+   * @return the configured format, JSON by default
+   */
+  public static JournalFormat fromConf(TachyonConf conf) {
+    return conf.getEnum(Constants.MASTER_JOURNAL_FORMAT, JSON);
+  }
+
+  /**
+   * Write the file header, if the format has one. Must be called once at the beginning of every
+   * new image or edit log file.
+   *
+   * @param dos The target data output stream
+   * @throws IOException
+   */
+  abstract void writeHeader(DataOutputStream dos) throws IOException;
+
+  /**
+   * Write an EditLogOperation to the specified DataOutputStream.
+   *
+   * @param dos The target data output stream
+   * @param op The operation to be written
+   * @throws IOException
+   */
+  abstract void writeOperation(DataOutputStream dos, EditLogOperation op) throws IOException;
+
+  /**
+   * Write an ImageElement to the specified DataOutputStream.
+   *
+   * @param dos The target data output stream
+   * @param ele The image element to be written
+   * @throws IOException
+   */
+  abstract void writeElement(DataOutputStream dos, ImageElement ele) throws IOException;
+}
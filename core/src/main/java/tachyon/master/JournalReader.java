@@ -0,0 +1,167 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import tachyon.Constants;
+
+/**
+ * Reads the operations of an edit log or the elements of an image, in whichever
+ * {@link JournalFormat} the file was written.
+ */
+abstract class JournalReader implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final int BUFFER_SIZE = 64 * Constants.KB;
+
+  /**
+   * Create a reader for the given stream, detecting the format from the first bytes. The reader
+   * owns the stream and closes it in {@link #close()}.
+   *
+   * @param is The stream of an image or edit log file
+   * @return the reader
+   * @throws IOException
+   */
+  static JournalReader create(InputStream is) throws IOException {
+    BufferedInputStream bis = new BufferedInputStream(is, BUFFER_SIZE);
+    byte[] magic = new byte[BinaryJournalCodec.MAGIC.length];
+    bis.mark(magic.length);
+    int read = 0;
+    while (read < magic.length) {
+      int n = bis.read(magic, read, magic.length - read);
+      if (n == -1) {
+        break;
+      }
+      read += n;
+    }
+    if (read == magic.length && Arrays.equals(magic, BinaryJournalCodec.MAGIC)) {
+      DataInputStream dis = new DataInputStream(bis);
+      BinaryJournalCodec.readVersion(dis);
+      return new BinaryReader(dis);
+    }
+    bis.reset();
+    return new JsonReader(bis);
+  }
+
+  /**
+   * @return the format of the file being read
+   */
+  abstract JournalFormat getFormat();
+
+  /**
+   * Read the next operation of an edit log.
+   *
+   * @return the operation, or null at the end of the file
+   * @throws IOException
+   */
+  abstract EditLogOperation readOperation() throws IOException;
+
+  /**
+   * Read the next element of an image.
+   *
+   * @return the element, or null at the end of the file
+   * @throws IOException
+   */
+  abstract ImageElement readElement() throws IOException;
+
+  private static final class JsonReader extends JournalReader {
+    private final InputStream mIs;
+    private final JsonParser mParser;
+
+    JsonReader(InputStream is) throws IOException {
+      mIs = is;
+      mParser = JsonObject.createObjectMapper().getFactory().createParser(is);
+    }
+
+    @Override
+    JournalFormat getFormat() {
+      return JournalFormat.JSON;
+    }
+
+    @Override
+    EditLogOperation readOperation() throws IOException {
+      return read(EditLogOperation.class);
+    }
+
+    @Override
+    ImageElement readElement() throws IOException {
+      return read(ImageElement.class);
+    }
+
+    private <T> T read(Class<T> clazz) throws IOException {
+      try {
+        T value = mParser.readValueAs(clazz);
+        LOG.debug("Read {}", value);
+        return value;
+      } catch (IOException e) {
+        // Unfortunately brittle, but Jackson rethrows EOF with this message.
+        if (e.getMessage().contains("end-of-input")) {
+          return null;
+        }
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      mParser.close();
+      mIs.close();
+    }
+  }
+
+  private static final class BinaryReader extends JournalReader {
+    private final DataInputStream mDis;
+
+    BinaryReader(DataInputStream dis) {
+      mDis = dis;
+    }
+
+    @Override
+    JournalFormat getFormat() {
+      return JournalFormat.BINARY;
+    }
+
+    @Override
+    EditLogOperation readOperation() throws IOException {
+      EditLogOperation op = BinaryJournalCodec.readOperation(mDis);
+      LOG.debug("Read {}", op);
+      return op;
+    }
+
+    @Override
+    ImageElement readElement() throws IOException {
+      ImageElement ele = BinaryJournalCodec.readElement(mDis);
+      LOG.debug("Read {}", ele);
+      return ele;
+    }
+
+    @Override
+    public void close() throws IOException {
+      mDis.close();
+    }
+  }
+}
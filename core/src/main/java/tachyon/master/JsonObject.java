@@ -29,6 +29,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
+import tachyon.io.Utils;
+
 /**
  * Base object for all Json objects in Tachyon.
  */
@@ -45,11 +47,71 @@ abstract class JsonObject {
 
   public Map<String, JsonNode> mParameters = Maps.newHashMap();
 
+  /**
+   * The parameters of an object read from a binary journal, already decoded to the typed values
+   * the getters return: Boolean, Short, Integer, Long, String, ByteBuffer, DependencyType, or
+   * lists of Integers or ByteBuffers. Null for objects built or read as JSON, which keep their
+   * parameters in mParameters.
+   */
+  Map<String, Object> mValues = null;
+
+  /**
+   * @param name the name of the parameter
+   * @return true if the parameter is set, even to null
+   */
+  boolean hasParameter(String name) {
+    if (mValues != null) {
+      return mValues.containsKey(name);
+    }
+    return mParameters.containsKey(name);
+  }
+
+  /**
+   * Moves the parameters decoded from a binary journal to mParameters, as JsonNodes, so that the
+   * object can be serialized as JSON.
+   */
+  void toJsonParameters() {
+    if (mValues == null) {
+      return;
+    }
+    for (Map.Entry<String, Object> entry : mValues.entrySet()) {
+      mParameters.put(entry.getKey(), toJsonNode(entry.getValue()));
+    }
+    mValues = null;
+  }
+
+  /** ByteBuffers are kept as base64 strings in JSON, like the writers of the journal do. */
+  private static JsonNode toJsonNode(Object value) {
+    if (value instanceof ByteBuffer) {
+      value = Utils.byteBufferToBase64((ByteBuffer) value);
+    } else if (value instanceof List) {
+      List<Object> list = Lists.newArrayList();
+      for (Object element : (List<?>) value) {
+        list.add(element instanceof ByteBuffer ? Utils.byteBufferToBase64((ByteBuffer) element)
+            : element);
+      }
+      value = list;
+    }
+    return OBJECT_MAPPER.convertValue(value, JsonNode.class);
+  }
+
+  /** The parameters, typed or as JsonNodes, for toString. */
+  Map<String, ?> getParameters() {
+    return mValues != null ? mValues : mParameters;
+  }
+
   /**
    * Generic parameter getter, useful for custom classes or enums. Use a more specific getter, like
    * getLong(), when available.
    */
   public <T> T get(String name, Class<T> clazz) {
+    if (mValues != null) {
+      Object value = mValues.get(name);
+      if (value == null || clazz.isInstance(value)) {
+        return clazz.cast(value);
+      }
+      return OBJECT_MAPPER.convertValue(value, clazz);
+    }
     return OBJECT_MAPPER.convertValue(mParameters.get(name), clazz);
   }
 
@@ -57,16 +119,31 @@ abstract class JsonObject {
    * Get the value for parameterized type class such as <code>List<Integer>/code>
    * using the help of <code>TypeReference</code>
    */
+  @SuppressWarnings("unchecked")
   public <T> T get(String name, TypeReference<T> typeReference) {
+    if (mValues != null) {
+      // The binary codec decodes each parameter to the type its readers ask for
+      return (T) mValues.get(name);
+    }
     return OBJECT_MAPPER.convertValue(mParameters.get(name), typeReference);
   }
 
   public Boolean getBoolean(String name) {
+    if (mValues != null) {
+      return (Boolean) mValues.get(name);
+    }
+    JsonNode node = mParameters.get(name);
+    if (node != null && node.isBoolean()) {
+      return node.booleanValue();
+    }
     return this.get(name, Boolean.class);
   }
 
   /** Deserializes a base64-encoded String as a ByteBuffer. */
   public ByteBuffer getByteBuffer(String name) {
+    if (mValues != null) {
+      return (ByteBuffer) mValues.get(name);
+    }
     String byteString = get(name, String.class);
     if (byteString == null) {
       return null;
@@ -76,7 +153,11 @@ abstract class JsonObject {
   }
 
   /** Deserializes a list of base64-encoded Strings as a list of ByteBuffers. */
+  @SuppressWarnings("unchecked")
   public List<ByteBuffer> getByteBufferList(String name) {
+    if (mValues != null) {
+      return (List<ByteBuffer>) mValues.get(name);
+    }
     List<String> byteStrings = get(name, new TypeReference<List<String>>() {});
     if (byteStrings == null) {
       return null;
@@ -90,6 +171,14 @@ abstract class JsonObject {
   }
 
   public Integer getInt(String name) {
+    if (mValues != null) {
+      Number value = (Number) mValues.get(name);
+      return value == null ? null : value.intValue();
+    }
+    JsonNode node = mParameters.get(name);
+    if (node != null && node.isNumber()) {
+      return node.intValue();
+    }
     return this.get(name, Number.class).intValue();
   }
 
@@ -98,6 +187,14 @@ abstract class JsonObject {
    * longs, as they may have been deserialized as integers if they were sufficiently small.
    */
   public Long getLong(String name) {
+    if (mValues != null) {
+      Number value = (Number) mValues.get(name);
+      return value == null ? null : value.longValue();
+    }
+    JsonNode node = mParameters.get(name);
+    if (node != null && node.isNumber()) {
+      return node.longValue();
+    }
     return this.get(name, Number.class).longValue();
   }
 
@@ -106,15 +203,31 @@ abstract class JsonObject {
    * shorts such as short permission (eg. 00777)
    */
   public Short getShort(String name) {
+    if (mValues != null) {
+      Number value = (Number) mValues.get(name);
+      return value == null ? null : value.shortValue();
+    }
+    JsonNode node = mParameters.get(name);
+    if (node != null && node.isNumber()) {
+      return node.shortValue();
+    }
     return this.get(name, Number.class).shortValue();
   }
 
   public String getString(String name) {
+    if (mValues != null) {
+      return (String) mValues.get(name);
+    }
+    JsonNode node = mParameters.get(name);
+    if (node != null && node.isTextual()) {
+      return node.textValue();
+    }
     return this.get(name, String.class);
   }
 
   /** Adds the given named parameter to the Json object. Value must be JSON-serializable. */
   public JsonObject withParameter(String name, Object value) {
+    toJsonParameters();
     mParameters.put(name, OBJECT_MAPPER.convertValue(value, JsonNode.class));
     return this;
   }
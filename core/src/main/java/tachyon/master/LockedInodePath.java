@@ -0,0 +1,97 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The inodes along a path, locked top-down from the root. The traversal stops at the first path
+ * component that does not exist, so only the existing prefix of the path is locked. Components at
+ * or below the write depth are write locked, the ones above it are read locked.
+ */
+final class LockedInodePath {
+  private final String[] mPathNames;
+  private final int mWriteDepth;
+  private final List<Inode> mInodes;
+
+  /**
+   * @param pathNames The path components, the first one being the root
+   * @param writeDepth The index of the first path component to be write locked
+   */
+  LockedInodePath(String[] pathNames, int writeDepth) {
+    mPathNames = pathNames;
+    mWriteDepth = writeDepth;
+    mInodes = new ArrayList<Inode>(pathNames.length);
+  }
+
+  /**
+   * Lock the next inode of the path. The caller must call this in path order, starting from the
+   * root.
+   *
+   * @param inode The inode of the next path component
+   */
+  void lockNext(Inode inode) {
+    if (mInodes.size() >= mWriteDepth) {
+      inode.lockWrite();
+    } else {
+      inode.lockRead();
+    }
+    mInodes.add(inode);
+  }
+
+  /**
+   * @return true if every component of the path exists
+   */
+  boolean fullPathExists() {
+    return mInodes.size() == mPathNames.length;
+  }
+
+  /**
+   * @return the inode of the full path, or null if it does not exist
+   */
+  Inode getInode() {
+    return fullPathExists() ? getDeepestInode() : null;
+  }
+
+  /**
+   * @return the inode of the deepest path component that exists
+   */
+  Inode getDeepestInode() {
+    return mInodes.get(mInodes.size() - 1);
+  }
+
+  /**
+   * @return the index of the deepest path component that exists
+   */
+  int getDeepestIndex() {
+    return mInodes.size() - 1;
+  }
+
+  /**
+   * Release all locks, bottom-up.
+   */
+  void unlock() {
+    for (int k = mInodes.size() - 1; k >= 0; k --) {
+      if (k >= mWriteDepth) {
+        mInodes.get(k).unlockWrite();
+      } else {
+        mInodes.get(k).unlockRead();
+      }
+    }
+    mInodes.clear();
+  }
+}
@@ -46,6 +46,7 @@ import tachyon.Constants;
 import tachyon.HeartbeatExecutor;
 import tachyon.HeartbeatThread;
 import tachyon.LeaderInquireClient;
+import tachyon.ThriftClientPool;
 import tachyon.TachyonURI;
 import tachyon.Version;
 import tachyon.conf.TachyonConf;
@@ -78,7 +79,8 @@ import tachyon.util.CommonUtils;
 /**
  * The master server client side.
  * 
- * Since MasterService.Client is not thread safe, this class has to guarantee thread safe.
+ * Since MasterService.Client is not thread safe, each RPC takes a client from a bounded pool of
+ * connections to the master, so that the threads sharing a MasterClient issue RPCs concurrently.
  */
 // TODO When TException happens, the caller can't really do anything about it.
 // when the other exceptions are thrown as a IOException, the caller can't do anything about it
@@ -87,9 +89,8 @@ public final class MasterClient implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private final boolean mUseZookeeper;
-  private MasterService.Client mClient = null;
-  private InetSocketAddress mMasterAddress = null;
-  private TProtocol mProtocol = null;
+  private final ThriftClientPool<MasterService.Client> mClientPool;
+  private volatile InetSocketAddress mMasterAddress = null;
   private volatile boolean mConnected;
   private volatile boolean mIsShutdown;
   private volatile long mUserId = -1;
@@ -107,6 +108,34 @@ public final class MasterClient implements Closeable {
     mConnected = false;
     mIsShutdown = false;
     mExecutorService = executorService;
+    mClientPool =
+        new ThriftClientPool<MasterService.Client>(mTachyonConf.getInt(
+            Constants.USER_MASTER_CLIENT_POOL_SIZE, 8)) {
+          @Override
+          protected MasterService.Client createClient() throws IOException {
+            TProtocol protocol = new TBinaryProtocol(createTransport());
+            try {
+              protocol.getTransport().open();
+            } catch (TTransportException e) {
+              throw new IOException("Failed to connect to master " + mMasterAddress, e);
+            }
+            return new MasterService.Client(protocol);
+          }
+        };
+  }
+
+  /**
+   * Take a client connected to the master from the pool, connecting to the master first if
+   * needed. The client must be returned with {@link ThriftClientPool#release}.
+   *
+   * @return the client
+   * @throws IOException
+   */
+  private MasterService.Client acquireClient() throws IOException {
+    if (!mConnected) {
+      connect();
+    }
+    return mClientPool.acquire();
   }
 
   /**
@@ -119,13 +148,12 @@ public final class MasterClient implements Closeable {
    * @throws SuspectedFileSizeException
    * @throws BlockInfoException
    */
-  public synchronized boolean addCheckpoint(long workerId, int fileId, long length,
+  public boolean addCheckpoint(long workerId, int fileId, long length,
       String checkpointPath) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.addCheckpoint(workerId, fileId, length, checkpointPath);
+        return client.addCheckpoint(workerId, fileId, length, checkpointPath);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (SuspectedFileSizeException e) {
@@ -135,6 +163,9 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
@@ -151,9 +182,7 @@ public final class MasterClient implements Closeable {
       mConnected = false;
     }
     try {
-      if (mProtocol != null) {
-        mProtocol.getTransport().close();
-      }
+      mClientPool.clear();
     } finally {
       if (mHeartbeat != null) {
         mHeartbeat.cancel(true);
@@ -184,10 +213,9 @@ public final class MasterClient implements Closeable {
       LOG.info("Tachyon client (version " + Version.VERSION + ") is trying to connect master @ "
           + mMasterAddress);
 
-      mProtocol = new TBinaryProtocol(createTransport());
-      mClient = new MasterService.Client(mProtocol);
+      MasterService.Client client;
       try {
-        mProtocol.getTransport().open();
+        client = mClientPool.acquire();
 
         HeartbeatExecutor heartBeater = new MasterClientHeartbeatExecutor(this);
 
@@ -197,9 +225,9 @@ public final class MasterClient implements Closeable {
         mHeartbeat =
             mExecutorService.submit(new HeartbeatThread(threadName, heartBeater,
                 interval / 2));
-      } catch (TTransportException e) {
+      } catch (IOException e) {
         lastException = e;
-        LOG.error("Failed to connect (" + retry.getRetryCount() + ") to master " + mMasterAddress 
+        LOG.error("Failed to connect (" + retry.getRetryCount() + ") to master " + mMasterAddress
             + " : " + e.getMessage());
         if (mHeartbeat != null) {
           mHeartbeat.cancel(true);
@@ -208,11 +236,14 @@ public final class MasterClient implements Closeable {
       }
 
       try {
-        mUserId = mClient.user_getUserId();
+        mUserId = client.user_getUserId();
       } catch (TException e) {
         lastException = e;
         LOG.error(e.getMessage(), e);
+        mClientPool.invalidate(client);
         continue;
+      } finally {
+        mClientPool.release(client);
       }
       LOG.info("User registered at the master " + mMasterAddress + " got UserId " + mUserId);
 
@@ -269,23 +300,25 @@ public final class MasterClient implements Closeable {
     return UserGroup.getTachyonLoginUser().getShortUserName();
   }
 
-  public synchronized ClientDependencyInfo getClientDependencyInfo(int did) throws IOException {
+  public ClientDependencyInfo getClientDependencyInfo(int did) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getClientDependencyInfo(did);
+        return client.user_getClientDependencyInfo(did);
       } catch (DependencyDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized ClientFileInfo getFileStatus(int fileId, String path) throws IOException {
+  public ClientFileInfo getFileStatus(int fileId, String path) throws IOException {
     if (path == null) {
       path = "";
     }
@@ -294,10 +327,33 @@ public final class MasterClient implements Closeable {
     }
 
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
+      try {
+        return client.getFileStatus(fileId, path);
+      } catch (InvalidPathException e) {
+        throw new IOException(e);
+      } catch (AccessControlException e) {
+        throw new IOException(e);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
+      }
+    }
+    return null;
+  }
+
+  public List<ClientFileInfo> getFileStatusBatch(List<String> paths) throws IOException {
+    for (String path : paths) {
+      parameterCheck(-1, path);
+    }
 
+    while (!mIsShutdown) {
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.getFileStatus(fileId, path);
+        return client.getFileStatusBatch(paths);
       } catch (InvalidPathException e) {
         throw new IOException(e);
       } catch (AccessControlException e) {
@@ -305,6 +361,9 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
@@ -327,9 +386,11 @@ public final class MasterClient implements Closeable {
     }
   }
 
-  public synchronized long getUserId() throws IOException {
+  public long getUserId() throws IOException {
     while (!mIsShutdown) {
-      connect();
+      if (!mConnected) {
+        connect();
+      }
 
       return mUserId;
     }
@@ -337,29 +398,31 @@ public final class MasterClient implements Closeable {
     return -1;
   }
 
-  public synchronized List<ClientWorkerInfo> getWorkersInfo() throws IOException {
+  public List<ClientWorkerInfo> getWorkersInfo() throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.getWorkersInfo();
+        return client.getWorkersInfo();
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized boolean isConnected() {
+  public boolean isConnected() {
     return mConnected;
   }
 
-  public synchronized List<ClientFileInfo> listStatus(String path) throws IOException {
+  public List<ClientFileInfo> listStatus(String path) throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.liststatus(path);
+        return client.liststatus(path);
       } catch (InvalidPathException e) {
         throw new IOException(e);
       } catch (FileDoesNotExistException e) {
@@ -369,12 +432,15 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  private synchronized void parameterCheck(int id, String path) throws IOException {
+  private void parameterCheck(int id, String path) throws IOException {
     if (path == null) {
       throw new NullPointerException("Paths may not be null; empty is the null state");
     }
@@ -383,35 +449,36 @@ public final class MasterClient implements Closeable {
     }
   }
 
-  public synchronized void shutdown() {
+  public void shutdown() {
     close();
     mIsShutdown = true;
   }
 
-  public synchronized void user_completeFile(int fId) throws IOException {
+  public void user_completeFile(int fId) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_completeFile(fId);
+        client.user_completeFile(fId);
         return;
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized int user_createDependency(List<String> parents, List<String> children,
+  public int user_createDependency(List<String> parents, List<String> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, int dependencyType, long childrenBlockSizeByte) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_createDependency(parents, children, commandPrefix, data, comment,
+        return client.user_createDependency(parents, children, commandPrefix, data, comment,
             framework, frameworkVersion, dependencyType, childrenBlockSizeByte);
       } catch (InvalidPathException e) {
         throw new IOException(e);
@@ -426,12 +493,15 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized int user_createFile(String path, String ufsPath, long blockSizeByte,
+  public int user_createFile(String path, String ufsPath, long blockSizeByte,
       boolean recursive) throws IOException {
     if (path == null || !path.startsWith(TachyonURI.SEPARATOR)) {
       throw new IOException("Illegal path parameter: " + path);
@@ -441,9 +511,9 @@ public final class MasterClient implements Closeable {
     }
 
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_createFile(path, ufsPath, blockSizeByte, recursive);
+        return client.user_createFile(path, ufsPath, blockSizeByte, recursive);
       } catch (FileAlreadyExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -459,38 +529,110 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized long user_createNewBlock(int fId) throws IOException {
+  public List<Integer> user_createCheckpointedFileBatch(List<String> paths,
+      List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive)
+      throws IOException {
+    for (String path : paths) {
+      parameterCheck(-1, path);
+    }
+
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
+      try {
+        return client.user_createCheckpointedFileBatch(paths, ufsPaths, lengths, blockSizeBytes,
+            recursive);
+      } catch (FileAlreadyExistException e) {
+        throw new IOException(e);
+      } catch (InvalidPathException e) {
+        throw new IOException(e);
+      } catch (BlockInfoException e) {
+        throw new IOException(e);
+      } catch (SuspectedFileSizeException e) {
+        throw new IOException(e);
+      } catch (TachyonException e) {
+        throw new IOException(e);
+      } catch (AccessControlException e) {
+        throw new IOException(e);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
+      }
+    }
+    return null;
+  }
+
+  public List<Integer> user_createFileBatch(List<String> paths, long blockSizeByte,
+      boolean recursive) throws IOException {
+    for (String path : paths) {
+      parameterCheck(-1, path);
+    }
 
+    while (!mIsShutdown) {
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_createNewBlock(fId);
+        return client.user_createFileBatch(paths, blockSizeByte, recursive);
+      } catch (FileAlreadyExistException e) {
+        throw new IOException(e);
+      } catch (InvalidPathException e) {
+        throw new IOException(e);
+      } catch (BlockInfoException e) {
+        throw new IOException(e);
+      } catch (SuspectedFileSizeException e) {
+        throw new IOException(e);
+      } catch (TachyonException e) {
+        throw new IOException(e);
+      } catch (AccessControlException e) {
+        throw new IOException(e);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
+      }
+    }
+    return null;
+  }
+
+  public long user_createNewBlock(int fId) throws IOException {
+    while (!mIsShutdown) {
+      MasterService.Client client = acquireClient();
+      try {
+        return client.user_createNewBlock(fId);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized int user_createRawTable(String path, int columns, ByteBuffer metadata)
+  public int user_createRawTable(String path, int columns, ByteBuffer metadata)
       throws IOException {
     if (metadata == null) {
       metadata = ByteBuffer.allocate(0);
     }
 
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_createRawTable(path, columns, metadata);
+        return client.user_createRawTable(path, columns, metadata);
       } catch (FileAlreadyExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -502,18 +644,20 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized boolean user_delete(int fileId, String path, boolean recursive)
+  public boolean user_delete(int fileId, String path, boolean recursive)
       throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_delete(fileId, path, recursive);
+        return client.user_delete(fileId, path, recursive);
       } catch (TachyonException e) {
         throw new IOException(e);
       } catch (AccessControlException e) {
@@ -521,32 +665,58 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
   }
 
-  public synchronized long user_getBlockId(int fId, int index) throws IOException {
+  public List<Boolean> user_deleteBatch(List<String> paths, boolean recursive)
+      throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getBlockId(fId, index);
+        return client.user_deleteBatch(paths, recursive);
+      } catch (TachyonException e) {
+        throw new IOException(e);
+      } catch (AccessControlException e) {
+        throw new IOException(e);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
+      }
+    }
+    return null;
+  }
+
+  public long user_getBlockId(int fId, int index) throws IOException {
+    while (!mIsShutdown) {
+      MasterService.Client client = acquireClient();
+      try {
+        return client.user_getBlockId(fId, index);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized ClientBlockInfo user_getClientBlockInfo(long blockId) throws IOException {
+  public ClientBlockInfo user_getClientBlockInfo(long blockId) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getClientBlockInfo(blockId);
+        return client.user_getClientBlockInfo(blockId);
       } catch (FileDoesNotExistException e) {
         throw new FileNotFoundException(e.getMessage());
       } catch (BlockInfoException e) {
@@ -554,20 +724,22 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized ClientRawTableInfo user_getClientRawTableInfo(int id, String path)
+  public ClientRawTableInfo user_getClientRawTableInfo(int id, String path)
       throws IOException {
     parameterCheck(id, path);
 
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        ClientRawTableInfo ret = mClient.user_getClientRawTableInfo(id, path);
+        ClientRawTableInfo ret = client.user_getClientRawTableInfo(id, path);
         ret.setMetadata(CommonUtils.generateNewByteBufferFromThriftRPCResults(ret.metadata));
         return ret;
       } catch (TableDoesNotExistException e) {
@@ -577,20 +749,43 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized List<ClientBlockInfo> user_getFileBlocks(int fileId, String path)
+  public List<ClientBlockInfo> user_getFileBlocks(int fileId, String path)
       throws IOException {
     parameterCheck(fileId, path);
 
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
+      try {
+        return client.user_getFileBlocks(fileId, path);
+      } catch (FileDoesNotExistException e) {
+        throw new IOException(e);
+      } catch (InvalidPathException e) {
+        throw new IOException(e);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
+      }
+    }
+    return null;
+  }
 
+  public List<List<ClientBlockInfo>> user_getFileBlocksBatch(List<Integer> fileIds)
+      throws IOException {
+    while (!mIsShutdown) {
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getFileBlocks(fileId, path);
+        return client.user_getFileBlocksBatch(fileIds);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -598,75 +793,88 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized int user_getRawTableId(String path) throws IOException {
+  public int user_getRawTableId(String path) throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getRawTableId(path);
+        return client.user_getRawTableId(path);
       } catch (InvalidPathException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized String user_getUfsAddress() throws IOException {
+  public String user_getUfsAddress() throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getUfsAddress();
+        return client.user_getUfsAddress();
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized NetAddress user_getWorker(boolean random, String hostname)
+  public NetAddress user_getWorker(boolean random, String hostname)
       throws NoWorkerException, IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_getWorker(random, hostname);
+        return client.user_getWorker(random, hostname);
       } catch (NoWorkerException e) {
         throw e;
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized void user_heartbeat() throws IOException {
+  public void user_heartbeat() throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_heartbeat();
+        client.user_heartbeat();
         return;
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized boolean user_mkdirs(String path, boolean recursive) throws IOException {
+  public boolean user_mkdirs(String path, boolean recursive) throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_mkdirs(path, recursive);
+        return client.user_mkdirs(path, recursive);
       } catch (FileAlreadyExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -678,20 +886,22 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
   }
 
-  public synchronized boolean user_rename(int fileId, String srcPath, String dstPath)
+  public boolean user_rename(int fileId, String srcPath, String dstPath)
       throws IOException {
     parameterCheck(fileId, srcPath);
 
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_rename(fileId, srcPath, dstPath);
+        return client.user_rename(fileId, srcPath, dstPath);
       } catch (FileAlreadyExistException e) {
         throw new IOException(e);
       } catch (FileDoesNotExistException e) {
@@ -703,49 +913,55 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
   }
 
-  public synchronized void user_reportLostFile(int fileId) throws IOException {
+  public void user_reportLostFile(int fileId) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_reportLostFile(fileId);
+        client.user_reportLostFile(fileId);
         return;
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized void user_requestFilesInDependency(int depId) throws IOException {
+  public void user_requestFilesInDependency(int depId) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_requestFilesInDependency(depId);
+        client.user_requestFilesInDependency(depId);
         return;
       } catch (DependencyDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized void user_setPinned(int id, boolean pinned) throws IOException {
+  public void user_setPinned(int id, boolean pinned) throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_setPinned(id, pinned);
+        client.user_setPinned(id, pinned);
         return;
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
@@ -754,17 +970,19 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized void user_updateRawTableMetadata(int id, ByteBuffer metadata)
+  public void user_updateRawTableMetadata(int id, ByteBuffer metadata)
       throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.user_updateRawTableMetadata(id, metadata);
+        client.user_updateRawTableMetadata(id, metadata);
         return;
       } catch (TableDoesNotExistException e) {
         throw new IOException(e);
@@ -773,34 +991,39 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized boolean user_freepath(int fileId, String path, boolean recursive)
+  public boolean user_freepath(int fileId, String path, boolean recursive)
       throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_freepath(fileId, path, recursive);
+        return client.user_freepath(fileId, path, recursive);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
   }
 
-  public synchronized void worker_cacheBlock(long workerId, long usedBytesOnTier, long storageDirId,
+  public void worker_cacheBlock(long workerId, long usedBytesOnTier, long storageDirId,
       long blockId, long length) throws IOException, FileDoesNotExistException,
       BlockInfoException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        mClient.worker_cacheBlock(workerId, usedBytesOnTier, storageDirId, blockId, length);
+        client.worker_cacheBlock(workerId, usedBytesOnTier, storageDirId, blockId, length);
         return;
       } catch (FileDoesNotExistException e) {
         throw e;
@@ -809,50 +1032,60 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
   }
 
-  public synchronized Set<Integer> worker_getPinIdList() throws IOException {
+  public Set<Integer> worker_getPinIdList() throws IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.worker_getPinIdList();
+        return client.worker_getPinIdList();
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
   }
 
-  public synchronized List<Integer> worker_getPriorityDependencyList() throws IOException {
+  public List<Integer> worker_getPriorityDependencyList() throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.worker_getPriorityDependencyList();
+        return client.worker_getPriorityDependencyList();
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return new ArrayList<Integer>();
   }
 
-  public synchronized Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers,
-      List<Long> removedBlockIds, Map<Long, List<Long>> addedBlockIds)
+  public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, BlockReport report)
       throws IOException {
+    ByteBuffer blockReport = report.encode();
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.worker_heartbeat(workerId, usedBytesOnTiers, removedBlockIds, addedBlockIds);
+        return client.worker_heartbeat(workerId, usedBytesOnTiers, blockReport);
       } catch (BlockInfoException e) {
         throw new IOException(e);
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return null;
@@ -869,14 +1102,13 @@ public final class MasterClient implements Closeable {
    * @throws BlockInfoException
    * @throws TException
    */
-  public synchronized long worker_register(NetAddress workerNetAddress,
+  public long worker_register(NetAddress workerNetAddress,
       List<Long> totalBytesOnTiers, List<Long> usedBytesOnTiers,
       Map<Long, List<Long>> currentBlockList) throws BlockInfoException, IOException {
     while (!mIsShutdown) {
-      connect();
-
+      MasterService.Client client = acquireClient();
       try {
-        long ret = mClient.worker_register(workerNetAddress, totalBytesOnTiers, usedBytesOnTiers,
+        long ret = client.worker_register(workerNetAddress, totalBytesOnTiers, usedBytesOnTiers,
             currentBlockList);
         LOG.info("Registered at the master " + mMasterAddress + " from worker " + workerNetAddress
             + " , got WorkerId " + ret);
@@ -886,17 +1118,20 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return -1;
   }
 
-  public synchronized boolean user_setOwner(int fileId, String path, String username,
+  public boolean user_setOwner(int fileId, String path, String username,
       String groupname, boolean recursive) throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_setOwner(fileId, path, username, groupname, recursive);
+        return client.user_setOwner(fileId, path, username, groupname, recursive);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -908,17 +1143,20 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
   }
 
-  public synchronized boolean user_setPermission(int fileId, String path, short permission,
+  public boolean user_setPermission(int fileId, String path, short permission,
       boolean recursive) throws IOException {
     while (!mIsShutdown) {
-      connect();
+      MasterService.Client client = acquireClient();
       try {
-        return mClient.user_setPermission(fileId, path, permission, recursive);
+        return client.user_setPermission(fileId, path, permission, recursive);
       } catch (FileDoesNotExistException e) {
         throw new IOException(e);
       } catch (InvalidPathException e) {
@@ -930,6 +1168,9 @@ public final class MasterClient implements Closeable {
       } catch (TException e) {
         LOG.error(e.getMessage(), e);
         mConnected = false;
+        mClientPool.invalidate(client);
+      } finally {
+        mClientPool.release(client);
       }
     }
     return false;
@@ -35,12 +35,14 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
@@ -64,6 +66,8 @@ import tachyon.master.permission.Acl;
 import tachyon.master.permission.AclEntry.AclPermission;
 import tachyon.master.permission.AclUtil;
 import tachyon.master.permission.FsPermissionChecker;
+import tachyon.metrics.Gauge;
+import tachyon.metrics.MetricsRegistry;
 import tachyon.security.UserGroup;
 import tachyon.security.authentication.TSetUserProcessor;
 import tachyon.thrift.AccessControlException;
@@ -85,6 +89,7 @@ import tachyon.thrift.TableColumnException;
 import tachyon.thrift.TableDoesNotExistException;
 import tachyon.thrift.TachyonException;
 import tachyon.util.CommonUtils;
+import tachyon.util.ThreadFactoryUtils;
 
 /**
  * A global view of filesystem in master.
@@ -114,6 +119,7 @@ public class MasterInfo extends ImageWriter {
         }
         for (long workerId : lostWorkers) {
           MasterWorkerInfo workerInfo = mWorkers.get(workerId);
+          workerInfo.markLost();
           mWorkerAddressToId.remove(workerInfo.getAddress());
           mWorkers.remove(workerId);
         }
@@ -126,7 +132,8 @@ public class MasterInfo extends ImageWriter {
         MasterWorkerInfo worker = mLostWorkers.poll();
 
         // TODO these two locks are not efficient. Since node failure is rare, this is fine for now.
-        synchronized (mRootLock) {
+        mNamespaceLock.writeLock().lock();
+        try {
           synchronized (mFileIdToDependency) {
             try {
               for (long blockId : worker.getBlocks()) {
@@ -136,7 +143,7 @@ public class MasterInfo extends ImageWriter {
                   int blockIndex = BlockInfo.computeBlockIndex(blockId);
                   tFile.removeLocation(blockIndex, worker.getId());
                   if (!tFile.hasCheckpointed()
-                      && tFile.getBlockLocations(blockIndex, mTachyonConf).size() == 0) {
+                      && tFile.getBlockLocations(blockIndex).size() == 0) {
                     LOG.info("Block " + blockId + " got lost from worker " + worker.getId() + " .");
                     int depId = tFile.getDependencyId();
                     if (depId == -1) {
@@ -162,6 +169,8 @@ public class MasterInfo extends ImageWriter {
               LOG.error(e.getMessage(), e);
             }
           }
+        } finally {
+          mNamespaceLock.writeLock().unlock();
         }
       }
 
@@ -186,7 +195,8 @@ public class MasterInfo extends ImageWriter {
         boolean hasLostFiles = false;
         boolean launched = false;
         List<String> cmds = new ArrayList<String>();
-        synchronized (mRootLock) {
+        mNamespaceLock.readLock().lock();
+        try {
           synchronized (mFileIdToDependency) {
             if (!mMustRecomputedDpendencies.isEmpty()) {
               List<Integer> recomputeList = new ArrayList<Integer>();
@@ -226,6 +236,8 @@ public class MasterInfo extends ImageWriter {
               }
             }
           }
+        } finally {
+          mNamespaceLock.readLock().unlock();
         }
 
         for (String cmd : cmds) {
@@ -265,10 +277,16 @@ public class MasterInfo extends ImageWriter {
 
   // Root Inode's id must be 1.
   private InodeFolder mRoot;
-  private final Object mRootLock = new Object();
 
-  // A map from file ID's to Inodes. All operations on it are currently synchronized on mRootLock.
-  private final Map<Integer, Inode> mFileIdToInodes = new HashMap<Integer, Inode>();
+  // The namespace lock. Operations on a single path or a single inode hold it in read mode and then
+  // lock the inodes they touch, top-down along the path (see lockPath). Operations that restructure
+  // or walk whole subtrees (rename, deleting folders, recursive permission and pin changes, image
+  // writing and journal replay) hold it in write mode and need no inode locks. Lock order is
+  // mNamespaceLock, then inode locks, then mFileIdToDependency and mWorkers.
+  private final ReentrantReadWriteLock mNamespaceLock = new ReentrantReadWriteLock();
+
+  // A map from file ID's to Inodes.
+  private final Map<Integer, Inode> mFileIdToInodes = new ConcurrentHashMap<Integer, Inode>();
   private final Map<Integer, Dependency> mFileIdToDependency = new HashMap<Integer, Dependency>();
   private final RawTables mRawTables;
 
@@ -295,6 +313,11 @@ public class MasterInfo extends ImageWriter {
   private final Journal mJournal;
 
   private final ExecutorService mExecutorService;
+  /** Applies the block reports of worker heartbeats, null to apply them in the heartbeat */
+  private final ExecutorService mBlockReportExecutor;
+  private final UfsBlockLocationCache mUfsBlockLocations;
+  /** The metrics of the master */
+  private final MetricsRegistry mMetrics = new MetricsRegistry();
   private Future<?> mHeartbeat;
   private Future<?> mRecompute;
 
@@ -303,12 +326,23 @@ public class MasterInfo extends ImageWriter {
   private final UserGroup mFsOwner;
   private final String mSupergroup;
   private boolean mPermissionEnabled;
+  /** The user of the requests not authenticated by SASL, the file system owner by default */
+  private final UserGroup mNoSaslUser;
 
   public MasterInfo(InetSocketAddress address, Journal journal, ExecutorService executorService,
       TachyonConf tachyonConf) throws IOException {
     mExecutorService = executorService;
     mTachyonConf = tachyonConf;
     mUFSDataFolder = mTachyonConf.get(Constants.UNDERFS_DATA_FOLDER, Constants.DEFAULT_DATA_FOLDER);
+    int blockReportThreads = mTachyonConf.getInt(Constants.MASTER_BLOCK_REPORT_THREADS, 2);
+    if (blockReportThreads > 0) {
+      mBlockReportExecutor =
+          Executors.newFixedThreadPool(blockReportThreads,
+              ThreadFactoryUtils.daemon("block-report-%d"));
+    } else {
+      mBlockReportExecutor = null;
+    }
+    mUfsBlockLocations = new UfsBlockLocationCache(mTachyonConf);
 
     mRawTables = new RawTables(mTachyonConf);
 
@@ -317,6 +351,8 @@ public class MasterInfo extends ImageWriter {
         Constants.FS_PERMISSIONS_SUPERGROUP_DEFAULT);
     mPermissionEnabled = tachyonConf.getBoolean(Constants.FS_PERMISSIONS_ENABLED_KEY,
         Constants.FS_PERMISSIONS_ENABLED_DEFAULT);
+    mNoSaslUser = UserGroup.createRemoteUser(tachyonConf.get(
+        Constants.TACHYON_SECURITY_NOSASL_USER, mFsOwner.getShortUserName()));
     mRoot = new InodeFolder("", mInodeCounter.incrementAndGet(), -1,System.currentTimeMillis(),
         AclUtil.getAcl(mFsOwner.getShortUserName(), mSupergroup, mTachyonConf, InodeType.FOLDER));
     mFileIdToInodes.put(mRoot.getId(), mRoot);
@@ -331,12 +367,15 @@ public class MasterInfo extends ImageWriter {
         new PrefixList(mTachyonConf.getList(Constants.MASTER_WHITELIST, ",",
             new LinkedList<String>()));
     mPinnedInodeFileIds = Collections.synchronizedSet(new HashSet<Integer>());
+    registerMetrics();
 
     mJournal.loadImage(this);
   }
 
   private UserGroup getRemoteUser() {
-    return TSetUserProcessor.getRemoteUser();
+    UserGroup user = TSetUserProcessor.getRemoteUser();
+    // Without SASL the clients are not authenticated, they act as the configured user
+    return user == null ? mNoSaslUser : user;
   }
 
   private FsPermissionChecker getPermissionChecker() throws AccessControlException {
@@ -345,7 +384,8 @@ public class MasterInfo extends ImageWriter {
   }
 
   /**
-   * Add a checkpoint to a file, inner method.
+   * Add a checkpoint to a file, inner method. The caller must hold mNamespaceLock and the write
+   * lock of the file.
    *
    * @param workerId The worker which submitted the request. -1 if the request is not from a worker.
    * @param fileId The file to add the checkpoint.
@@ -367,78 +407,76 @@ public class MasterInfo extends ImageWriter {
       tWorkerInfo.updateLastUpdatedTimeMs();
     }
 
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    Inode inode = mFileIdToInodes.get(fileId);
 
-      if (inode == null) {
-        throw new FileNotFoundException("File " + fileId + " does not exist.");
-      }
-      if (inode.isDirectory()) {
-        throw new FileNotFoundException("File " + fileId + " is a folder.");
-      }
+    if (inode == null) {
+      throw new FileNotFoundException("File " + fileId + " does not exist.");
+    }
+    if (inode.isDirectory()) {
+      throw new FileNotFoundException("File " + fileId + " is a folder.");
+    }
 
-      InodeFile tFile = (InodeFile) inode;
-      boolean needLog = false;
+    InodeFile tFile = (InodeFile) inode;
+    boolean needLog = false;
 
-      if (tFile.isComplete()) {
-        if (tFile.getLength() != length) {
-          throw new SuspectedFileSizeException(fileId + ". Original Size: " + tFile.getLength()
-              + ". New Size: " + length);
-        }
-      } else {
-        tFile.setLength(length);
-        needLog = true;
+    if (tFile.isComplete()) {
+      if (tFile.getLength() != length) {
+        throw new SuspectedFileSizeException(fileId + ". Original Size: " + tFile.getLength()
+            + ". New Size: " + length);
       }
+    } else {
+      tFile.setLength(length);
+      needLog = true;
+    }
 
-      if (!tFile.hasCheckpointed()) {
-        tFile.setUfsPath(checkpointPath.toString());
-        needLog = true;
+    if (!tFile.hasCheckpointed()) {
+      tFile.setUfsPath(checkpointPath.toString());
+      mUfsBlockLocations.invalidate(checkpointPath.toString());
+      needLog = true;
 
-        synchronized (mFileIdToDependency) {
-          int depId = tFile.getDependencyId();
-          if (depId != -1) {
-            Dependency dep = mFileIdToDependency.get(depId);
-            dep.childCheckpointed(tFile.getId());
-            if (dep.hasCheckpointed()) {
-              mUncheckpointedDependencies.remove(dep.mId);
-              mPriorityDependencies.remove(dep.mId);
-            }
+      synchronized (mFileIdToDependency) {
+        int depId = tFile.getDependencyId();
+        if (depId != -1) {
+          Dependency dep = mFileIdToDependency.get(depId);
+          dep.childCheckpointed(tFile.getId());
+          if (dep.hasCheckpointed()) {
+            mUncheckpointedDependencies.remove(dep.mId);
+            mPriorityDependencies.remove(dep.mId);
           }
         }
       }
-      addFile(fileId, tFile.getDependencyId());
-      tFile.setComplete();
+    }
+    addFile(fileId, tFile.getDependencyId());
+    tFile.setComplete();
 
-      if (needLog) {
-        tFile.setLastModificationTimeMs(opTimeMs);
-      }
-      return new Pair<Boolean, Boolean>(true, needLog);
+    if (needLog) {
+      tFile.setLastModificationTimeMs(opTimeMs);
     }
+    return new Pair<Boolean, Boolean>(true, needLog);
   }
 
   /**
-   * Completes the checkpointing of a file, inner method.
+   * Completes the checkpointing of a file, inner method. The caller must hold mNamespaceLock and
+   * the write lock of the file.
    *
    * @param fileId The id of the file
    * @param opTimeMs The time of the complete file operation, in milliseconds
    * @throws FileDoesNotExistException
    */
   void _completeFile(int fileId, long opTimeMs) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    Inode inode = mFileIdToInodes.get(fileId);
 
-      if (inode == null) {
-        throw new FileDoesNotExistException("File " + fileId + " does not exit.");
-      }
-      if (!inode.isFile()) {
-        throw new FileDoesNotExistException("File " + fileId + " is not a file.");
-      }
+    if (inode == null) {
+      throw new FileDoesNotExistException("File " + fileId + " does not exit.");
+    }
+    if (!inode.isFile()) {
+      throw new FileDoesNotExistException("File " + fileId + " is not a file.");
+    }
 
-      addFile(fileId, ((InodeFile) inode).getDependencyId());
+    addFile(fileId, ((InodeFile) inode).getDependencyId());
 
-      ((InodeFile) inode).setComplete();
-      inode.setLastModificationTimeMs(opTimeMs);
-    }
+    ((InodeFile) inode).setComplete();
+    inode.setLastModificationTimeMs(opTimeMs);
   }
 
   int _createDependency(List<Integer> parentsIds, List<Integer> childrenIds, String commandPrefix,
@@ -446,7 +484,8 @@ public class MasterInfo extends ImageWriter {
       DependencyType dependencyType, int dependencyId, long creationTimeMs)
       throws InvalidPathException, FileDoesNotExistException {
     Dependency dep = null;
-    synchronized (mRootLock) {
+    mNamespaceLock.writeLock().lock();
+    try {
       Set<Integer> parentDependencyIds = new HashSet<Integer>();
       for (int k = 0; k < parentsIds.size(); k ++) {
         int parentId = parentsIds.get(k);
@@ -477,6 +516,8 @@ public class MasterInfo extends ImageWriter {
           dep.childCheckpointed(inode.getId());
         }
       }
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
 
     synchronized (mFileIdToDependency) {
@@ -489,9 +530,10 @@ public class MasterInfo extends ImageWriter {
       }
     }
 
-    mJournal.getEditLog().createDependency(parentsIds, childrenIds, commandPrefix, data, comment,
-        framework, frameworkVersion, dependencyType, dependencyId, creationTimeMs);
-    mJournal.getEditLog().flush();
+    long transactionId = mJournal.getEditLog().createDependency(parentsIds, childrenIds,
+        commandPrefix, data, comment, framework, frameworkVersion, dependencyType, dependencyId,
+        creationTimeMs);
+    mJournal.getEditLog().flush(transactionId);
 
     LOG.info("Dependency created: " + dep);
 
@@ -500,7 +542,8 @@ public class MasterInfo extends ImageWriter {
 
   // TODO Make this API better.
   /**
-   * Internal API.
+   * Internal API. The caller must hold mNamespaceLock and the write lock of the deepest existing
+   * ancestor of the path.
    *
    * @param recursive If recursive is true and the filesystem tree is not filled in all the way to
    *        path yet, it fills in the missing components.
@@ -509,6 +552,8 @@ public class MasterInfo extends ImageWriter {
    * @param blockSizeByte If it's a file, the block size for the Inode
    * @param creationTimeMs The time the file was created
    * @param acl the acl of the inode
+   * @param inodeIds The ids of the created inodes, in creation order. When replaying the journal
+   *        these are the recorded ids, otherwise new ids are allocated and appended to the list.
    * @return the id of the inode created at the given path
    * @throws FileAlreadyExistException
    * @throws InvalidPathException
@@ -516,8 +561,8 @@ public class MasterInfo extends ImageWriter {
    * @throws TachyonException
    */
   int _createFile(boolean recursive, TachyonURI path, boolean directory, long blockSizeByte,
-      long creationTimeMs, Acl acl) throws FileAlreadyExistException, InvalidPathException,
-      BlockInfoException, AccessControlException, TachyonException {
+      long creationTimeMs, Acl acl, List<Integer> inodeIds) throws FileAlreadyExistException,
+      InvalidPathException, BlockInfoException, AccessControlException, TachyonException {
     if (path.isRoot()) {
       LOG.info("FileAlreadyExistException: " + path);
       throw new FileAlreadyExistException(path.toString());
@@ -535,88 +580,87 @@ public class MasterInfo extends ImageWriter {
     String[] parentPath = new String[pathNames.length - 1];
     System.arraycopy(pathNames, 0, parentPath, 0, parentPath.length);
 
-    synchronized (mRootLock) {
-      Pair<Inode, Integer> inodeTraversal = traverseToInode(parentPath);
-      // pathIndex is the index into pathNames where we start filling in the path from the inode.
-      int pathIndex = parentPath.length;
-      if (!traversalSucceeded(inodeTraversal)) {
-        // Then the path component at errorInd k doesn't exist. If it's not recursive, we throw an
-        // exception here. Otherwise we add the remaining path components to the list of components
-        // to create.
-        if (!recursive) {
-          final String msg =
-              "File " + path + " creation failed. Component " + inodeTraversal.getSecond() + "("
-                  + parentPath[inodeTraversal.getSecond()] + ") does not exist";
-          LOG.info("InvalidPathException: " + msg);
-          throw new InvalidPathException(msg);
-        } else {
-          // We will start filling in the path from inodeTraversal.getSecond()
-          pathIndex = inodeTraversal.getSecond();
-        }
+    Pair<Inode, Integer> inodeTraversal = traverseToInode(parentPath);
+    // pathIndex is the index into pathNames where we start filling in the path from the inode.
+    int pathIndex = parentPath.length;
+    if (!traversalSucceeded(inodeTraversal)) {
+      // Then the path component at errorInd k doesn't exist. If it's not recursive, we throw an
+      // exception here. Otherwise we add the remaining path components to the list of components
+      // to create.
+      if (!recursive) {
+        final String msg =
+            "File " + path + " creation failed. Component " + inodeTraversal.getSecond() + "("
+                + parentPath[inodeTraversal.getSecond()] + ") does not exist";
+        LOG.info("InvalidPathException: " + msg);
+        throw new InvalidPathException(msg);
+      } else {
+        // We will start filling in the path from inodeTraversal.getSecond()
+        pathIndex = inodeTraversal.getSecond();
       }
+    }
 
-      if (!inodeTraversal.getFirst().isDirectory()) {
-        throw new InvalidPathException("Could not traverse to parent folder of path " + path
-            + ". Component " + pathNames[pathIndex - 1] + " is not a directory.");
-      }
-
-      /**
-       * permission checker
-       */
-      checkAncestorAccess(path, AclPermission.WRITE);
-
-      InodeFolder currentInodeFolder = (InodeFolder) inodeTraversal.getFirst();
-      // Fill in the directories that were missing.
-      for (int k = pathIndex; k < parentPath.length; k ++) {
-        Inode dir =
-            new InodeFolder(pathNames[k], mInodeCounter.incrementAndGet(),
-                currentInodeFolder.getId(), creationTimeMs,
-                AclUtil.getAcl(acl.getUserName(), acl.getGroupName(), mTachyonConf,
-                InodeType.FOLDER));
-        dir.setPinned(currentInodeFolder.isPinned());
-        currentInodeFolder.addChild(dir);
-        currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
-        mFileIdToInodes.put(dir.getId(), dir);
-        currentInodeFolder = (InodeFolder) dir;
-      }
-
-      // Create the final path component. First we need to make sure that there isn't already a file
-      // here with that name. If there is an existing file that is a directory and we're creating a
-      // directory, we just return the existing directory's id.
-      Inode ret = currentInodeFolder.getChild(name);
-      if (ret != null) {
-        if (ret.isDirectory() && directory) {
-          return ret.getId();
-        }
-        LOG.info("FileAlreadyExistException: " + path);
-        throw new FileAlreadyExistException(path.toString());
-      }
+    if (!inodeTraversal.getFirst().isDirectory()) {
+      throw new InvalidPathException("Could not traverse to parent folder of path " + path
+          + ". Component " + pathNames[pathIndex - 1] + " is not a directory.");
+    }
 
-      if (directory) {
-        ret =
-            new InodeFolder(name, mInodeCounter.incrementAndGet(), currentInodeFolder.getId(),
-                creationTimeMs, acl);
-        ret.setPinned(currentInodeFolder.isPinned());
-      } else {
-        ret =
-            new InodeFile(name, mInodeCounter.incrementAndGet(), currentInodeFolder.getId(),
-                blockSizeByte, creationTimeMs, acl);
-        ret.setPinned(currentInodeFolder.isPinned());
-        if (ret.isPinned()) {
-          mPinnedInodeFileIds.add(ret.getId());
-        }
-        if (mWhitelist.inList(path.toString())) {
-          ((InodeFile) ret).setCache(true);
-        }
-      }
+    /**
+     * permission checker
+     */
+    checkAncestorAccess(path, AclPermission.WRITE);
 
-      mFileIdToInodes.put(ret.getId(), ret);
-      currentInodeFolder.addChild(ret);
+    InodeFolder currentInodeFolder = (InodeFolder) inodeTraversal.getFirst();
+    int createdInodes = 0;
+    // Fill in the directories that were missing.
+    for (int k = pathIndex; k < parentPath.length; k ++) {
+      Inode dir =
+          new InodeFolder(pathNames[k], nextInodeId(inodeIds, createdInodes ++),
+              currentInodeFolder.getId(), creationTimeMs,
+              AclUtil.getAcl(acl.getUserName(), acl.getGroupName(), mTachyonConf,
+              InodeType.FOLDER));
+      dir.setPinned(currentInodeFolder.isPinned());
+      currentInodeFolder.addChild(dir);
       currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
+      mFileIdToInodes.put(dir.getId(), dir);
+      currentInodeFolder = (InodeFolder) dir;
+    }
 
-      LOG.debug("createFile: File Created: {} parent: ", ret, currentInodeFolder);
-      return ret.getId();
+    // Create the final path component. First we need to make sure that there isn't already a file
+    // here with that name. If there is an existing file that is a directory and we're creating a
+    // directory, we just return the existing directory's id.
+    Inode ret = currentInodeFolder.getChild(name);
+    if (ret != null) {
+      if (ret.isDirectory() && directory) {
+        return ret.getId();
+      }
+      LOG.info("FileAlreadyExistException: " + path);
+      throw new FileAlreadyExistException(path.toString());
+    }
+
+    if (directory) {
+      ret =
+          new InodeFolder(name, nextInodeId(inodeIds, createdInodes ++), currentInodeFolder.getId(),
+              creationTimeMs, acl);
+      ret.setPinned(currentInodeFolder.isPinned());
+    } else {
+      ret =
+          new InodeFile(name, nextInodeId(inodeIds, createdInodes ++), currentInodeFolder.getId(),
+              blockSizeByte, creationTimeMs, acl);
+      ret.setPinned(currentInodeFolder.isPinned());
+      if (ret.isPinned()) {
+        mPinnedInodeFileIds.add(ret.getId());
+      }
+      if (mWhitelist.inList(path.toString())) {
+        ((InodeFile) ret).setCache(true);
+      }
     }
+
+    mFileIdToInodes.put(ret.getId(), ret);
+    currentInodeFolder.addChild(ret);
+    currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
+
+    LOG.debug("createFile: File Created: {} parent: ", ret, currentInodeFolder);
+    return ret.getId();
   }
 
   void _createRawTable(int tableId, int columns, ByteBuffer metadata) throws TachyonException {
@@ -629,7 +673,9 @@ public class MasterInfo extends ImageWriter {
   }
 
   /**
-   * Inner delete function. Return true if the file does not exist in the first place.
+   * Inner delete function. Return true if the file does not exist in the first place. The caller
+   * must hold mNamespaceLock in write mode, or in read mode together with the write locks of the
+   * file and its parent if the inode is a file.
    *
    * @param fileId The inode to delete
    * @param recursive True if the file and it's subdirectories should be deleted
@@ -639,79 +685,78 @@ public class MasterInfo extends ImageWriter {
    */
   boolean _delete(int fileId, boolean recursive, long opTimeMs)
       throws AccessControlException, TachyonException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-      if (inode == null) {
-        return true;
-      }
-
-      if (inode.isDirectory() && !recursive && ((InodeFolder) inode).getNumberOfChildren() > 0) {
-        // inode is nonempty, and we don't want to delete a nonempty directory unless recursive is
-        // true
-        return false;
-      }
-
-      if (inode.getId() == mRoot.getId()) {
-        // The root cannot be deleted.
-        return false;
-      }
+    Inode inode = mFileIdToInodes.get(fileId);
+    if (inode == null) {
+      return true;
+    }
 
-      checkPathAccess(getPath(inode), AclPermission.WRITE);
+    if (inode.isDirectory() && !recursive && ((InodeFolder) inode).getNumberOfChildren() > 0) {
+      // inode is nonempty, and we don't want to delete a nonempty directory unless recursive is
+      // true
+      return false;
+    }
 
-      List<Inode> delInodes = new ArrayList<Inode>();
-      delInodes.add(inode);
-      if (inode.isDirectory()) {
-        delInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode));
-      }
+    if (inode.getId() == mRoot.getId()) {
+      // The root cannot be deleted.
+      return false;
+    }
 
-      // We go through each inode, removing it from it's parent set and from mDelInodes. If it's a
-      // file, we deal with the checkpoints and blocks as well.
-      for (int i = delInodes.size() - 1; i >= 0; i --) {
-        Inode delInode = delInodes.get(i);
+    checkPathAccess(getPath(inode), AclPermission.WRITE);
 
-        if (delInode.isFile()) {
-          String checkpointPath = ((InodeFile) delInode).getUfsPath();
-          if (!checkpointPath.equals("")) {
-            UnderFileSystem ufs = UnderFileSystem.get(checkpointPath, mTachyonConf);
-            try {
-              if (!ufs.exists(checkpointPath)) {
-                LOG.warn("File does not exist the underfs: " + checkpointPath);
-              } else if (!ufs.delete(checkpointPath, true)) {
-                return false;
-              }
-            } catch (IOException e) {
-              throw new TachyonException(e.getMessage());
+    List<Inode> delInodes = new ArrayList<Inode>();
+    delInodes.add(inode);
+    if (inode.isDirectory()) {
+      delInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode));
+    }
+
+    // We go through each inode, removing it from it's parent set and from mDelInodes. If it's a
+    // file, we deal with the checkpoints and blocks as well.
+    for (int i = delInodes.size() - 1; i >= 0; i --) {
+      Inode delInode = delInodes.get(i);
+
+      if (delInode.isFile()) {
+        String checkpointPath = ((InodeFile) delInode).getUfsPath();
+        if (!checkpointPath.equals("")) {
+          mUfsBlockLocations.invalidate(checkpointPath);
+          UnderFileSystem ufs = UnderFileSystem.get(checkpointPath, mTachyonConf);
+          try {
+            if (!ufs.exists(checkpointPath)) {
+              LOG.warn("File does not exist the underfs: " + checkpointPath);
+            } else if (!ufs.delete(checkpointPath, true)) {
+              return false;
             }
+          } catch (IOException e) {
+            throw new TachyonException(e.getMessage());
           }
+        }
 
-          List<Pair<Long, Long>> blockIdWorkerIdList =
-              ((InodeFile) delInode).getBlockIdWorkerIdPairs();
-          synchronized (mWorkers) {
-            for (Pair<Long, Long> blockIdWorkerId : blockIdWorkerIdList) {
-              MasterWorkerInfo workerInfo = mWorkers.get(blockIdWorkerId.getSecond());
-              if (workerInfo != null) {
-                workerInfo.updateToRemovedBlock(true, blockIdWorkerId.getFirst());
-              }
+        List<Pair<Long, Long>> blockIdWorkerIdList =
+            ((InodeFile) delInode).getBlockIdWorkerIdPairs();
+        synchronized (mWorkers) {
+          for (Pair<Long, Long> blockIdWorkerId : blockIdWorkerIdList) {
+            MasterWorkerInfo workerInfo = mWorkers.get(blockIdWorkerId.getSecond());
+            if (workerInfo != null) {
+              workerInfo.updateToRemovedBlock(true, blockIdWorkerId.getFirst());
             }
           }
-
-          mPinnedInodeFileIds.remove(delInode.getId());
         }
 
-        InodeFolder parent = (InodeFolder) mFileIdToInodes.get(delInode.getParentId());
-        parent.removeChild(delInode);
-        parent.setLastModificationTimeMs(opTimeMs);
+        mPinnedInodeFileIds.remove(delInode.getId());
+      }
 
-        if (mRawTables.exist(delInode.getId()) && !mRawTables.delete(delInode.getId())) {
-          return false;
-        }
+      InodeFolder parent = (InodeFolder) mFileIdToInodes.get(delInode.getParentId());
+      parent.removeChild(delInode);
+      parent.setLastModificationTimeMs(opTimeMs);
 
-        mFileIdToInodes.remove(delInode.getId());
-        delInode.reverseId();
+      if (mRawTables.exist(delInode.getId()) && !mRawTables.delete(delInode.getId())) {
+        return false;
       }
 
-      return true;
+      mFileIdToInodes.remove(delInode.getId());
+      delInode.reverseId();
     }
+
+    return true;
   }
 
   /**
@@ -749,21 +794,19 @@ public class MasterInfo extends ImageWriter {
    */
   private List<TachyonURI> _ls(Inode inode, TachyonURI path, boolean recursive)
       throws InvalidPathException, FileDoesNotExistException {
-    synchronized (mRootLock) {
-      List<TachyonURI> ret = new ArrayList<TachyonURI>();
-      ret.add(path);
-      if (inode.isDirectory()) {
-        for (Inode child : ((InodeFolder) inode).getChildren()) {
-          TachyonURI childUri = path.join(child.getName());
-          if (recursive) {
-            ret.addAll(_ls(child, childUri, recursive));
-          } else {
-            ret.add(childUri);
-          }
+    List<TachyonURI> ret = new ArrayList<TachyonURI>();
+    ret.add(path);
+    if (inode.isDirectory()) {
+      for (Inode child : ((InodeFolder) inode).getChildren()) {
+        TachyonURI childUri = path.join(child.getName());
+        if (recursive) {
+          ret.addAll(_ls(child, childUri, recursive));
+        } else {
+          ret.add(childUri);
         }
       }
-      return ret;
     }
+    return ret;
   }
 
   /**
@@ -805,101 +848,102 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean _rename(int fileId, TachyonURI dstPath, long opTimeMs)
       throws FileDoesNotExistException, AccessControlException, InvalidPathException {
-    synchronized (mRootLock) {
-      TachyonURI srcPath = getPath(fileId);
-      if (srcPath.equals(dstPath)) {
-        return true;
-      }
-      if (srcPath.isRoot() || dstPath.isRoot()) {
-        return false;
-      }
-      /*
-       * To check 'w'permission or the existing src
-       */
-      checkPathAccess(srcPath, AclPermission.WRITE);
-      /*
-       * To check 'w' permission of parent for src and ancesstor dst directory
-       */
-      checkParentAccess(srcPath, AclPermission.WRITE);
-      checkAncestorAccess(dstPath, AclPermission.WRITE);
-
-      String[] srcComponents = CommonUtils.getPathComponents(srcPath.toString());
-      String[] dstComponents = CommonUtils.getPathComponents(dstPath.toString());
-      // We can't rename a path to one of its subpaths, so we check for that, by making sure
-      // srcComponents isn't a prefix of dstComponents.
-      if (srcComponents.length < dstComponents.length) {
-        boolean isPrefix = true;
-        for (int prefixInd = 0; prefixInd < srcComponents.length; prefixInd ++) {
-          if (!srcComponents[prefixInd].equals(dstComponents[prefixInd])) {
-            isPrefix = false;
-            break;
-          }
-        }
-        if (isPrefix) {
-          throw new InvalidPathException("Failed to rename: " + srcPath + " is a prefix of "
-              + dstPath);
+    TachyonURI srcPath = getPath(fileId);
+    if (srcPath.equals(dstPath)) {
+      return true;
+    }
+    if (srcPath.isRoot() || dstPath.isRoot()) {
+      return false;
+    }
+    /*
+     * To check 'w'permission or the existing src
+     */
+    checkPathAccess(srcPath, AclPermission.WRITE);
+    /*
+     * To check 'w' permission of parent for src and ancesstor dst directory
+     */
+    checkParentAccess(srcPath, AclPermission.WRITE);
+    checkAncestorAccess(dstPath, AclPermission.WRITE);
+
+    String[] srcComponents = CommonUtils.getPathComponents(srcPath.toString());
+    String[] dstComponents = CommonUtils.getPathComponents(dstPath.toString());
+    // We can't rename a path to one of its subpaths, so we check for that, by making sure
+    // srcComponents isn't a prefix of dstComponents.
+    if (srcComponents.length < dstComponents.length) {
+      boolean isPrefix = true;
+      for (int prefixInd = 0; prefixInd < srcComponents.length; prefixInd ++) {
+        if (!srcComponents[prefixInd].equals(dstComponents[prefixInd])) {
+          isPrefix = false;
+          break;
         }
       }
-
-      TachyonURI srcParent = srcPath.getParent();
-      TachyonURI dstParent = dstPath.getParent();
-
-      // We traverse down to the source and destinations' parent paths
-      Inode srcParentInode = getInode(srcParent);
-      if (srcParentInode == null || !srcParentInode.isDirectory()) {
-        return false;
+      if (isPrefix) {
+        throw new InvalidPathException("Failed to rename: " + srcPath + " is a prefix of "
+            + dstPath);
       }
+    }
 
-      Inode dstParentInode = getInode(dstParent);
-      if (dstParentInode == null || !dstParentInode.isDirectory()) {
-        return false;
-      }
+    TachyonURI srcParent = srcPath.getParent();
+    TachyonURI dstParent = dstPath.getParent();
 
-      // We make sure that the source path exists and the destination path doesn't
-      Inode srcInode =
-          ((InodeFolder) srcParentInode).getChild(srcComponents[srcComponents.length - 1]);
-      if (srcInode == null) {
-        return false;
-      }
-      if (((InodeFolder) dstParentInode)
-          .getChild(dstComponents[dstComponents.length - 1]) != null) {
-        return false;
-      }
+    // We traverse down to the source and destinations' parent paths
+    Inode srcParentInode = getInode(srcParent);
+    if (srcParentInode == null || !srcParentInode.isDirectory()) {
+      return false;
+    }
 
-      // Now we remove srcInode from it's parent and insert it into dstPath's parent
-      ((InodeFolder) srcParentInode).removeChild(srcInode);
-      srcParentInode.setLastModificationTimeMs(opTimeMs);
-      srcInode.setParentId(dstParentInode.getId());
-      srcInode.setName(dstComponents[dstComponents.length - 1]);
-      ((InodeFolder) dstParentInode).addChild(srcInode);
-      dstParentInode.setLastModificationTimeMs(opTimeMs);
-      return true;
+    Inode dstParentInode = getInode(dstParent);
+    if (dstParentInode == null || !dstParentInode.isDirectory()) {
+      return false;
+    }
+
+    // We make sure that the source path exists and the destination path doesn't
+    Inode srcInode =
+        ((InodeFolder) srcParentInode).getChild(srcComponents[srcComponents.length - 1]);
+    if (srcInode == null) {
+      return false;
     }
+    if (((InodeFolder) dstParentInode)
+        .getChild(dstComponents[dstComponents.length - 1]) != null) {
+      return false;
+    }
+
+    // Now we remove srcInode from it's parent and insert it into dstPath's parent
+    ((InodeFolder) srcParentInode).removeChild(srcInode);
+    srcParentInode.setLastModificationTimeMs(opTimeMs);
+    srcInode.setParentId(dstParentInode.getId());
+    srcInode.setName(dstComponents[dstComponents.length - 1]);
+    ((InodeFolder) dstParentInode).addChild(srcInode);
+    dstParentInode.setLastModificationTimeMs(opTimeMs);
+    return true;
   }
 
   void _setPinned(int fileId, boolean pinned, long opTimeMs) throws FileDoesNotExistException,
       AccessControlException {
     LOG.info("setPinned(" + fileId + ", " + pinned + ")");
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    Inode inode = mFileIdToInodes.get(fileId);
 
-      if (inode == null) {
-        throw new FileDoesNotExistException("Failed to find inode" + fileId);
-      }
+    if (inode == null) {
+      throw new FileDoesNotExistException("Failed to find inode" + fileId);
+    }
 
-      checkOwner(getPath(inode));
+    checkOwner(getPath(inode));
 
-      _recomputePinnedFiles(inode, Optional.of(pinned), opTimeMs);
-    }
+    _recomputePinnedFiles(inode, Optional.of(pinned), opTimeMs);
   }
 
-  private void addBlock(InodeFile tFile, BlockInfo blockInfo, long opTimeMs)
+  /**
+   * Add a block to a file and log it. The caller is responsible for flushing the returned
+   * transaction after releasing its locks.
+   *
+   * @return the transaction id of the logged operation
+   */
+  private long addBlock(InodeFile tFile, BlockInfo blockInfo, long opTimeMs)
       throws BlockInfoException {
     tFile.addBlock(blockInfo);
     tFile.setLastModificationTimeMs(opTimeMs);
-    mJournal.getEditLog().addBlock(tFile.getId(), blockInfo.mBlockIndex, blockInfo.mLength,
-        opTimeMs);
-    mJournal.getEditLog().flush();
+    return mJournal.getEditLog().addBlock(tFile.getId(), blockInfo.mBlockIndex,
+        blockInfo.mLength, opTimeMs);
   }
 
   /**
@@ -917,15 +961,22 @@ public class MasterInfo extends ImageWriter {
   public boolean addCheckpoint(long workerId, int fileId, long length, TachyonURI checkpointPath)
       throws FileNotFoundException, SuspectedFileSizeException, BlockInfoException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      Pair<Boolean, Boolean> ret =
-          _addCheckpoint(workerId, fileId, length, checkpointPath, opTimeMs);
+    long transactionId = -1;
+    Pair<Boolean, Boolean> ret;
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, true);
+    try {
+      ret = _addCheckpoint(workerId, fileId, length, checkpointPath, opTimeMs);
       if (ret.getSecond()) {
-        mJournal.getEditLog().addCheckpoint(fileId, length, checkpointPath, opTimeMs);
-        mJournal.getEditLog().flush();
+        transactionId =
+            mJournal.getEditLog().addCheckpoint(fileId, length, checkpointPath, opTimeMs);
       }
-      return ret.getFirst();
+    } finally {
+      unlockInode(lockedInode, true);
+      mNamespaceLock.readLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
+    return ret.getFirst();
   }
 
   /**
@@ -960,6 +1011,44 @@ public class MasterInfo extends ImageWriter {
     }
   }
 
+  /**
+   * Applies the pending block reports of the worker to the locations of the blocks, in the order
+   * the worker sent them. The blocks of a file are applied together, under one lock of its inode.
+   * A full report also removes the worker from the locations of the blocks it does not list.
+   *
+   * @param workerInfo the worker
+   */
+  private void applyBlockReports(MasterWorkerInfo workerInfo) {
+    synchronized (workerInfo.getBlockReportLock()) {
+      BlockReport report;
+      while ((report = workerInfo.pollBlockReport()) != null) {
+        List<Long> removedBlockIds = report.getRemovedBlockIds();
+        if (report.isFull()) {
+          removedBlockIds = report.getRemovedBlockIds(workerInfo.getBlocks());
+          LOG.debug("Full block report of worker {} removes {} blocks, {} of them not reported",
+              workerInfo.getId(), removedBlockIds.size(),
+              removedBlockIds.size() - report.getRemovedBlockIds().size());
+        }
+        int start = 0;
+        while (start < removedBlockIds.size()) {
+          int end = nextFileBlockIds(removedBlockIds, start);
+          updateBlockLocations(workerInfo, removedBlockIds.subList(start, end), false, -1);
+          start = end;
+        }
+        for (Entry<Long, List<Long>> addedBlocks : report.getAddedBlockIds().entrySet()) {
+          List<Long> addedBlockIds = addedBlocks.getValue();
+          start = 0;
+          while (start < addedBlockIds.size()) {
+            int end = nextFileBlockIds(addedBlockIds, start);
+            updateBlockLocations(workerInfo, addedBlockIds.subList(start, end), true,
+                addedBlocks.getKey());
+            start = end;
+          }
+        }
+      }
+    }
+  }
+
   /**
    * A worker cache a block in its memory.
    *
@@ -978,14 +1067,19 @@ public class MasterInfo extends ImageWriter {
         CommonUtils.parametersToString(workerId, usedBytesOnTier, blockId, length));
 
     MasterWorkerInfo tWorkerInfo = getWorkerInfo(workerId);
+    // Reports of earlier heartbeats may remove the block, apply them before adding it back.
+    applyBlockReports(tWorkerInfo);
     int storageLevelAliasValue = StorageDirId.getStorageLevelAliasValue(storageDirId);
-    tWorkerInfo.updateBlock(true, blockId);
     tWorkerInfo.updateUsedBytes(storageLevelAliasValue, usedBytesOnTier);
     tWorkerInfo.updateLastUpdatedTimeMs();
 
     int fileId = BlockInfo.computeInodeId(blockId);
     int blockIndex = BlockInfo.computeBlockIndex(blockId);
-    synchronized (mRootLock) {
+    long transactionId = -1;
+    int ret;
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, true);
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
 
       if (inode == null) {
@@ -997,17 +1091,30 @@ public class MasterInfo extends ImageWriter {
 
       InodeFile tFile = (InodeFile) inode;
       if (tFile.getNumberOfBlocks() <= blockIndex) {
-        addBlock(tFile, new BlockInfo(tFile, blockIndex, length), System.currentTimeMillis());
+        transactionId =
+            addBlock(tFile, new BlockInfo(tFile, blockIndex, length), System.currentTimeMillis());
       }
 
-      tFile.addLocation(blockIndex, workerId, tWorkerInfo.mWorkerAddress, storageDirId);
+      // Checked under the namespace lock, see updateBlockLocations
+      if (tWorkerInfo.isLost()) {
+        LOG.warn("Worker " + workerId + " is lost, not adding it to the locations of block "
+            + blockId);
+      } else {
+        tWorkerInfo.updateBlock(true, blockId);
+        tFile.addLocation(blockIndex, workerId, tWorkerInfo.mWorkerAddress, storageDirId);
+      }
 
       if (tFile.hasCheckpointed()) {
-        return -1;
+        ret = -1;
       } else {
-        return tFile.getDependencyId();
+        ret = tFile.getDependencyId();
       }
+    } finally {
+      unlockInode(lockedInode, true);
+      mNamespaceLock.readLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
+    return ret;
   }
 
   /**
@@ -1018,30 +1125,38 @@ public class MasterInfo extends ImageWriter {
    */
   public void completeFile(int fileId) throws FileDoesNotExistException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, true);
+    try {
       _completeFile(fileId, opTimeMs);
-      mJournal.getEditLog().completeFile(fileId, opTimeMs);
-      mJournal.getEditLog().flush();
+      transactionId = mJournal.getEditLog().completeFile(fileId, opTimeMs);
+    } finally {
+      unlockInode(lockedInode, true);
+      mNamespaceLock.readLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
   }
 
   public int createDependency(List<TachyonURI> parents, List<TachyonURI> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, DependencyType dependencyType) throws InvalidPathException,
       FileDoesNotExistException {
-    synchronized (mRootLock) {
+    List<Integer> parentsIdList;
+    List<Integer> childrenIdList;
+    mNamespaceLock.readLock().lock();
+    try {
       LOG.info("ParentList: " + CommonUtils.listToString(parents));
-      List<Integer> parentsIdList = getFilesIds(parents);
-      List<Integer> childrenIdList = getFilesIds(children);
-
-      int depId = mDependencyCounter.incrementAndGet();
-      long creationTimeMs = System.currentTimeMillis();
-      int ret =
-          _createDependency(parentsIdList, childrenIdList, commandPrefix, data, comment, framework,
-              frameworkVersion, dependencyType, depId, creationTimeMs);
-
-      return ret;
+      parentsIdList = getFilesIds(parents);
+      childrenIdList = getFilesIds(children);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
+
+    int depId = mDependencyCounter.incrementAndGet();
+    long creationTimeMs = System.currentTimeMillis();
+    return _createDependency(parentsIdList, childrenIdList, commandPrefix, data, comment,
+        framework, frameworkVersion, dependencyType, depId, creationTimeMs);
   }
 
   /**
@@ -1055,17 +1170,18 @@ public class MasterInfo extends ImageWriter {
   public int createFile(boolean recursive, TachyonURI path, boolean directory, long blockSizeByte)
       throws FileAlreadyExistException, InvalidPathException, BlockInfoException,
       AccessControlException, TachyonException {
-    long creationTimeMs = System.currentTimeMillis();
     Acl acl = AclUtil.getAcl(getRemoteUser().getShortUserName(),
         mSupergroup, mTachyonConf,
         directory ? InodeType.FOLDER : InodeType.FILE);
-    synchronized (mRootLock) {
-      int ret = _createFile(recursive, path, directory, blockSizeByte, creationTimeMs, acl);
-      mJournal.getEditLog().createFile(recursive, path, directory, blockSizeByte,
-          creationTimeMs, acl);
-      mJournal.getEditLog().flush();
-      return ret;
+    Pair<Integer, Long> ret;
+    mNamespaceLock.readLock().lock();
+    try {
+      ret = createFileAndLog(recursive, path, directory, blockSizeByte, acl);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
+    mJournal.getEditLog().flush(ret.getSecond());
+    return ret.getFirst();
   }
 
   public int createFile(TachyonURI path, long blockSizeByte) throws FileAlreadyExistException,
@@ -1079,6 +1195,137 @@ public class MasterInfo extends ImageWriter {
     return createFile(recursive, path, false, blockSizeByte);
   }
 
+  /**
+   * Create several files under one acquisition of the namespace lock, and wait for the journal
+   * once for all of them. Stops at the first file which fails, the files created before it are
+   * kept.
+   *
+   * @param paths the paths of the files
+   * @param blockSizeByte the block size of the files
+   * @param recursive whether to create the missing parent directories
+   * @return the ids of the files, in the order of the paths
+   * @throws FileAlreadyExistException
+   * @throws InvalidPathException
+   * @throws BlockInfoException
+   * @throws TachyonException
+   */
+  public List<Integer> createFiles(List<TachyonURI> paths, long blockSizeByte, boolean recursive)
+      throws FileAlreadyExistException, InvalidPathException, BlockInfoException,
+      AccessControlException, TachyonException {
+    Acl acl = AclUtil.getAcl(getRemoteUser().getShortUserName(), mSupergroup, mTachyonConf,
+        InodeType.FILE);
+    List<Integer> ret = new ArrayList<Integer>(paths.size());
+    long transactionId = -1;
+    mNamespaceLock.readLock().lock();
+    try {
+      for (TachyonURI path : paths) {
+        Pair<Integer, Long> created = createFileAndLog(recursive, path, false, blockSizeByte, acl);
+        ret.add(created.getFirst());
+        transactionId = created.getSecond();
+      }
+    } finally {
+      mNamespaceLock.readLock().unlock();
+      // The files created before a failure are journaled as well.
+      mJournal.getEditLog().flush(transactionId);
+    }
+    return ret;
+  }
+
+  /**
+   * Create several files which are already checkpointed in the under file system, like
+   * {@link #createFiles}. The i-th file gets the i-th ufs path, length and block size.
+   *
+   * @param paths the paths of the files
+   * @param ufsPaths the paths of the checkpoints of the files
+   * @param lengths the lengths of the files
+   * @param blockSizeBytes the block sizes of the files
+   * @param recursive if true, creates the missing parent folders
+   * @return the ids of the files, in the order of the paths
+   * @throws FileAlreadyExistException
+   * @throws InvalidPathException
+   * @throws BlockInfoException
+   * @throws SuspectedFileSizeException
+   * @throws AccessControlException
+   * @throws TachyonException
+   */
+  public List<Integer> createCheckpointedFiles(List<TachyonURI> paths, List<TachyonURI> ufsPaths,
+      List<Long> lengths, List<Long> blockSizeBytes, boolean recursive)
+      throws FileAlreadyExistException, InvalidPathException, BlockInfoException,
+      SuspectedFileSizeException, AccessControlException, TachyonException {
+    if (ufsPaths.size() != paths.size() || lengths.size() != paths.size()
+        || blockSizeBytes.size() != paths.size()) {
+      throw new TachyonException("Got " + paths.size() + " paths, " + ufsPaths.size()
+          + " ufs paths, " + lengths.size() + " lengths and " + blockSizeBytes.size()
+          + " block sizes");
+    }
+    Acl acl = AclUtil.getAcl(getRemoteUser().getShortUserName(), mSupergroup, mTachyonConf,
+        InodeType.FILE);
+    List<Integer> ret = new ArrayList<Integer>(paths.size());
+    long transactionId = -1;
+    mNamespaceLock.readLock().lock();
+    try {
+      for (int k = 0; k < paths.size(); k ++) {
+        Pair<Integer, Long> created =
+            createFileAndLog(recursive, paths.get(k), false, blockSizeBytes.get(k), acl);
+        int fileId = created.getFirst();
+        transactionId = created.getSecond();
+        long opTimeMs = System.currentTimeMillis();
+        Inode lockedInode = lockInode(fileId, true);
+        try {
+          if (_addCheckpoint(-1, fileId, lengths.get(k), ufsPaths.get(k), opTimeMs).getSecond()) {
+            transactionId = mJournal.getEditLog().addCheckpoint(fileId, lengths.get(k),
+                ufsPaths.get(k), opTimeMs);
+          }
+        } catch (FileNotFoundException e) {
+          // The file was deleted right after its creation
+          throw new TachyonException(e.getMessage());
+        } finally {
+          unlockInode(lockedInode, true);
+        }
+        ret.add(fileId);
+      }
+    } finally {
+      mNamespaceLock.readLock().unlock();
+      // The files created before a failure are journaled as well.
+      mJournal.getEditLog().flush(transactionId);
+    }
+    return ret;
+  }
+
+  /**
+   * Create a file and write it to the journal, without waiting for the journal to be flushed. The
+   * caller must hold the read lock of the namespace.
+   *
+   * @return the id of the file and the transaction id of its journal entry
+   */
+  private Pair<Integer, Long> createFileAndLog(boolean recursive, TachyonURI path,
+      boolean directory, long blockSizeByte, Acl acl) throws FileAlreadyExistException,
+      InvalidPathException, BlockInfoException, AccessControlException, TachyonException {
+    long creationTimeMs = System.currentTimeMillis();
+    String[] pathNames = CommonUtils.getPathComponents(path.toString());
+    // Creations in different folders run in parallel, so the journal records the inode ids for the
+    // replay to reproduce them regardless of the order in which they were allocated.
+    List<Integer> inodeIds = new ArrayList<Integer>();
+    // Write lock the parent of the new inode, or the deepest existing ancestor if missing
+    // directories have to be created as well. Creations in different folders don't contend.
+    int writeDepth = Math.max(0, pathNames.length - 2);
+    LockedInodePath lockedPath = lockPath(pathNames, writeDepth);
+    while (lockedPath.getDeepestIndex() < writeDepth) {
+      writeDepth = lockedPath.getDeepestIndex();
+      lockedPath.unlock();
+      lockedPath = lockPath(pathNames, writeDepth);
+    }
+    try {
+      int ret = _createFile(recursive, path, directory, blockSizeByte, creationTimeMs, acl,
+          inodeIds);
+      long transactionId = mJournal.getEditLog().createFile(recursive, path, directory,
+          blockSizeByte, creationTimeMs, acl, inodeIds);
+      return new Pair<Integer, Long>(ret, transactionId);
+    } finally {
+      lockedPath.unlock();
+    }
+  }
+
   /**
    * Creates a new block for the given file.
    *
@@ -1087,7 +1334,9 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException
    */
   public long createNewBlock(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, true);
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
 
       if (inode == null) {
@@ -1098,6 +1347,9 @@ public class MasterInfo extends ImageWriter {
       }
 
       return ((InodeFile) inode).getNewBlockId();
+    } finally {
+      unlockInode(lockedInode, true);
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1148,13 +1400,9 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean delete(int fileId, boolean recursive)
       throws TachyonException, AccessControlException {
-    long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      boolean ret = _delete(fileId, recursive, opTimeMs);
-      mJournal.getEditLog().delete(fileId, recursive, opTimeMs);
-      mJournal.getEditLog().flush();
-      return ret;
-    }
+    Pair<Boolean, Long> ret = deleteAndLog(null, fileId, recursive);
+    mJournal.getEditLog().flush(ret.getSecond());
+    return ret.getFirst();
   }
 
   /**
@@ -1168,22 +1416,108 @@ public class MasterInfo extends ImageWriter {
   public boolean delete(TachyonURI path, boolean recursive)
       throws TachyonException, AccessControlException {
     LOG.info("delete(" + path + ")");
-    synchronized (mRootLock) {
-      Inode inode = null;
+    Pair<Boolean, Long> ret = deleteAndLog(path, -1, recursive);
+    mJournal.getEditLog().flush(ret.getSecond());
+    return ret.getFirst();
+  }
+
+  /**
+   * Delete several files, waiting for the journal once for all of them. The files are deleted in
+   * order, a failure stops the batch after the journal is flushed for the files deleted before it.
+   *
+   * @param paths the files to be deleted
+   * @param recursive whether to delete the files recursively or not
+   * @return whether each file was deleted, in the order of the paths
+   * @throws TachyonException
+   */
+  public List<Boolean> delete(List<TachyonURI> paths, boolean recursive)
+      throws TachyonException, AccessControlException {
+    List<Boolean> ret = new ArrayList<Boolean>(paths.size());
+    long transactionId = -1;
+    try {
+      for (TachyonURI path : paths) {
+        Pair<Boolean, Long> deleted = deleteAndLog(path, -1, recursive);
+        ret.add(deleted.getFirst());
+        transactionId = Math.max(transactionId, deleted.getSecond());
+      }
+    } finally {
+      mJournal.getEditLog().flush(transactionId);
+    }
+    return ret;
+  }
+
+  /**
+   * Delete a file and write it to the journal, without waiting for the journal to be flushed. A
+   * path is resolved under the same namespace lock hold as the deletion, so that a concurrent
+   * rename cannot make it delete another file.
+   *
+   * @param path the path of the file, or null to delete the file by its id
+   * @param fileId the id of the file, used if the path is null
+   * @param recursive whether delete the file recursively or not
+   * @return whether the file was deleted and the transaction id of its journal entry, -1 if no
+   *         entry was written
+   */
+  private Pair<Boolean, Long> deleteAndLog(TachyonURI path, int fileId, boolean recursive)
+      throws TachyonException, AccessControlException {
+    long opTimeMs = System.currentTimeMillis();
+    boolean ret = false;
+    long transactionId = -1;
+    boolean deleted = false;
+    mNamespaceLock.readLock().lock();
+    try {
+      if (path != null) {
+        Inode inode = getInode(path);
+        if (inode == null) {
+          return new Pair<Boolean, Long>(true, -1L);
+        }
+        fileId = inode.getId();
+      }
+      // Deleting a single file only changes the file and its parent, so it does not need to block
+      // the whole namespace.
+      Inode inode = mFileIdToInodes.get(fileId);
+      if (inode == null || inode.isFile()) {
+        Inode parent = inode == null ? null : lockInode(inode.getParentId(), true);
+        Inode lockedInode = inode == null ? null : lockInode(fileId, true);
+        try {
+          ret = _delete(fileId, recursive, opTimeMs);
+          transactionId = mJournal.getEditLog().delete(fileId, recursive, opTimeMs);
+          deleted = true;
+        } finally {
+          unlockInode(lockedInode, true);
+          unlockInode(parent, true);
+        }
+      }
+    } catch (InvalidPathException e) {
+      return new Pair<Boolean, Long>(false, -1L);
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+    if (!deleted) {
+      mNamespaceLock.writeLock().lock();
       try {
-        inode = getInode(path);
+        if (path != null) {
+          // The path may have changed while the namespace was unlocked
+          Inode inode = getInode(path);
+          if (inode == null) {
+            return new Pair<Boolean, Long>(true, -1L);
+          }
+          fileId = inode.getId();
+        }
+        ret = _delete(fileId, recursive, opTimeMs);
+        transactionId = mJournal.getEditLog().delete(fileId, recursive, opTimeMs);
       } catch (InvalidPathException e) {
-        return false;
-      }
-      if (inode == null) {
-        return true;
+        return new Pair<Boolean, Long>(false, -1L);
+      } finally {
+        mNamespaceLock.writeLock().unlock();
       }
-      return delete(inode.getId(), recursive);
     }
+    return new Pair<Boolean, Long>(ret, transactionId);
   }
 
   public long getBlockIdBasedOnOffset(int fileId, long offset) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, false);
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
@@ -1193,6 +1527,9 @@ public class MasterInfo extends ImageWriter {
       }
 
       return ((InodeFile) inode).getBlockIdBasedOnOffset(offset);
+    } finally {
+      unlockInode(lockedInode, false);
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1243,17 +1580,24 @@ public class MasterInfo extends ImageWriter {
   public ClientBlockInfo getClientBlockInfo(long blockId) throws FileDoesNotExistException,
       BlockInfoException {
     int fileId = BlockInfo.computeInodeId(blockId);
-    synchronized (mRootLock) {
+    InodeFile file;
+    ClientBlockInfo ret;
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fileId, false);
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null || inode.isDirectory()) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
       }
-      ClientBlockInfo ret =
-          ((InodeFile) inode)
-              .getClientBlockInfo(BlockInfo.computeBlockIndex(blockId), mTachyonConf);
-      LOG.debug("getClientBlockInfo: {} : {}", blockId, ret);
-      return ret;
+      file = (InodeFile) inode;
+      ret = file.getClientBlockInfo(BlockInfo.computeBlockIndex(blockId));
+    } finally {
+      unlockInode(lockedInode, false);
+      mNamespaceLock.readLock().unlock();
     }
+    fillUfsLocations(file, Collections.singletonList(ret));
+    LOG.debug("getClientBlockInfo: {} : {}", blockId, ret);
+    return ret;
   }
 
   /**
@@ -1282,7 +1626,9 @@ public class MasterInfo extends ImageWriter {
    * @return the file info
    */
   public ClientFileInfo getClientFileInfo(int fid) throws AccessControlException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    Inode lockedInode = lockInode(fid, false);
+    try {
       Inode inode = mFileIdToInodes.get(fid);
       if (inode == null) {
         ClientFileInfo info = new ClientFileInfo();
@@ -1291,6 +1637,9 @@ public class MasterInfo extends ImageWriter {
       }
       checkPathAccess(getPath(inode), AclPermission.READ);
       return inode.generateClientFileInfo(getPath(inode).toString());
+    } finally {
+      unlockInode(lockedInode, false);
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1303,8 +1652,45 @@ public class MasterInfo extends ImageWriter {
    */
   public ClientFileInfo getClientFileInfo(TachyonURI path)
       throws AccessControlException, InvalidPathException {
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
+    mNamespaceLock.readLock().lock();
+    try {
+      return getClientFileInfoLocked(path);
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Get the file infos of several paths under one acquisition of the namespace lock.
+   *
+   * @param paths The paths of the files
+   * @return the file infos, in the order of the paths. The id is -1 if a path does not exist.
+   * @throws InvalidPathException
+   */
+  public List<ClientFileInfo> getClientFileInfos(List<TachyonURI> paths)
+      throws AccessControlException, InvalidPathException {
+    List<ClientFileInfo> ret = new ArrayList<ClientFileInfo>(paths.size());
+    mNamespaceLock.readLock().lock();
+    try {
+      for (TachyonURI path : paths) {
+        ret.add(getClientFileInfoLocked(path));
+      }
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+    return ret;
+  }
+
+  /**
+   * Get the file info for the file at the given path. The caller must hold the read lock of the
+   * namespace.
+   */
+  private ClientFileInfo getClientFileInfoLocked(TachyonURI path)
+      throws AccessControlException, InvalidPathException {
+    String[] pathNames = CommonUtils.getPathComponents(path.toString());
+    LockedInodePath lockedPath = lockPath(pathNames, pathNames.length);
+    try {
+      Inode inode = lockedPath.getInode();
       if (inode == null) {
         ClientFileInfo info = new ClientFileInfo();
         info.id = -1;
@@ -1312,6 +1698,8 @@ public class MasterInfo extends ImageWriter {
       }
       checkPathAccess(path, AclPermission.READ);
       return inode.generateClientFileInfo(path.toString());
+    } finally {
+      lockedPath.unlock();
     }
   }
 
@@ -1323,12 +1711,15 @@ public class MasterInfo extends ImageWriter {
    * @throws TableDoesNotExistException
    */
   public ClientRawTableInfo getClientRawTableInfo(int id) throws TableDoesNotExistException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(id);
       if (inode == null || !inode.isDirectory()) {
         throw new TableDoesNotExistException("Table " + id + " does not exist.");
       }
       return _getClientRawTableInfo(getPath(inode), inode);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1342,12 +1733,15 @@ public class MasterInfo extends ImageWriter {
    */
   public ClientRawTableInfo getClientRawTableInfo(TachyonURI path)
       throws TableDoesNotExistException, InvalidPathException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
         throw new TableDoesNotExistException("Table " + path + " does not exist.");
       }
       return _getClientRawTableInfo(path, inode);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1377,15 +1771,53 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException
    */
   public List<ClientBlockInfo> getFileBlocks(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-      if (inode == null || inode.isDirectory()) {
-        throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
+    return getFileBlocks(Collections.singletonList(fileId)).get(0);
+  }
+
+  /**
+   * Get the block infos of several files under one acquisition of the namespace lock. Throws an
+   * exception if any of the ids names a directory or does not exist.
+   *
+   * @param fileIds The ids of the files to look up
+   * @return the block infos of each file, in the order of the ids
+   * @throws FileDoesNotExistException
+   */
+  public List<List<ClientBlockInfo>> getFileBlocks(List<Integer> fileIds)
+      throws FileDoesNotExistException {
+    List<InodeFile> files = new ArrayList<InodeFile>(fileIds.size());
+    List<List<ClientBlockInfo>> ret = new ArrayList<List<ClientBlockInfo>>(fileIds.size());
+    mNamespaceLock.readLock().lock();
+    try {
+      for (int fileId : fileIds) {
+        Inode lockedInode = lockInode(fileId, false);
+        try {
+          Inode inode = mFileIdToInodes.get(fileId);
+          if (inode == null || inode.isDirectory()) {
+            throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
+          }
+          files.add((InodeFile) inode);
+          ret.add(((InodeFile) inode).getClientBlockInfos());
+        } finally {
+          unlockInode(lockedInode, false);
+        }
+      }
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+
+    // Starts loading the locations of all the files before waiting for any of them
+    for (int k = 0; k < files.size(); k ++) {
+      InodeFile file = files.get(k);
+      if (file.hasCheckpointed()) {
+        mUfsBlockLocations.prefetch(file.getUfsPath(), file.getLength(), file.getBlockSizeByte(),
+            ret.get(k));
       }
-      List<ClientBlockInfo> ret = ((InodeFile) inode).getClientBlockInfos(mTachyonConf);
-      LOG.debug("getFileLocations: {} {}", fileId, ret);
-      return ret;
     }
+    for (int k = 0; k < files.size(); k ++) {
+      fillUfsLocations(files.get(k), ret.get(k));
+      LOG.debug("getFileLocations: {} {}", fileIds.get(k), ret.get(k));
+    }
+    return ret;
   }
 
   /**
@@ -1400,12 +1832,32 @@ public class MasterInfo extends ImageWriter {
   public List<ClientBlockInfo> getFileBlocks(TachyonURI path) throws FileDoesNotExistException,
       InvalidPathException {
     LOG.info("getFileLocations: " + path);
-    synchronized (mRootLock) {
+    int fileId;
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
         throw new FileDoesNotExistException(path.toString());
       }
-      return getFileBlocks(inode.getId());
+      fileId = inode.getId();
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+    return getFileBlocks(fileId);
+  }
+
+  /**
+   * Fills in the under file system locations of the blocks of a checkpointed file which no worker
+   * has. The locations may have to be loaded from the under file system, so this must not be called
+   * while holding the namespace lock or an inode lock.
+   *
+   * @param file the file of the blocks
+   * @param blocks the blocks to fill in
+   */
+  private void fillUfsLocations(InodeFile file, List<ClientBlockInfo> blocks) {
+    String ufsPath = file.getUfsPath();
+    if (!ufsPath.isEmpty()) {
+      mUfsBlockLocations.fillLocations(ufsPath, file.getLength(), file.getBlockSizeByte(), blocks);
     }
   }
 
@@ -1439,21 +1891,30 @@ public class MasterInfo extends ImageWriter {
   public List<ClientFileInfo> getFilesInfo(TachyonURI path) throws FileDoesNotExistException,
       InvalidPathException, AccessControlException {
     List<ClientFileInfo> ret = new ArrayList<ClientFileInfo>();
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
-      if (inode == null) {
-        throw new FileDoesNotExistException(path.toString());
-      }
+    String[] pathNames = CommonUtils.getPathComponents(path.toString());
+    mNamespaceLock.readLock().lock();
+    try {
+      LockedInodePath lockedPath = lockPath(pathNames, pathNames.length);
+      try {
+        Inode inode = lockedPath.getInode();
+        if (inode == null) {
+          throw new FileDoesNotExistException(path.toString());
+        }
 
-      checkPathAccess(path, AclPermission.READ);
+        checkPathAccess(path, AclPermission.READ);
 
-      if (inode.isDirectory()) {
-        for (Inode child : ((InodeFolder) inode).getChildren()) {
-          ret.add(child.generateClientFileInfo(CommonUtils.concat(path, child.getName())));
+        if (inode.isDirectory()) {
+          for (Inode child : ((InodeFolder) inode).getChildren()) {
+            ret.add(child.generateClientFileInfo(CommonUtils.concat(path, child.getName())));
+          }
+        } else {
+          ret.add(inode.generateClientFileInfo(path.toString()));
         }
-      } else {
-        ret.add(inode.generateClientFileInfo(path.toString()));
+      } finally {
+        lockedPath.unlock();
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
     return ret;
   }
@@ -1498,7 +1959,8 @@ public class MasterInfo extends ImageWriter {
     LOG.info("getInMemoryFiles()");
     Queue<Pair<InodeFolder, TachyonURI>> nodesQueue =
         new LinkedList<Pair<InodeFolder, TachyonURI>>();
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       // TODO: Verify we want to use absolute path.
       nodesQueue
           .add(new Pair<InodeFolder, TachyonURI>(mRoot, new TachyonURI(TachyonURI.SEPARATOR)));
@@ -1517,6 +1979,8 @@ public class MasterInfo extends ImageWriter {
           }
         }
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
     return ret;
   }
@@ -1551,16 +2015,14 @@ public class MasterInfo extends ImageWriter {
    * @return a list of the children inodes.
    */
   private List<Inode> getInodeChildrenRecursive(InodeFolder inodeFolder) {
-    synchronized (mRootLock) {
-      List<Inode> ret = new ArrayList<Inode>();
-      for (Inode i : inodeFolder.getChildren()) {
-        ret.add(i);
-        if (i.isDirectory()) {
-          ret.addAll(getInodeChildrenRecursive((InodeFolder) i));
-        }
+    List<Inode> ret = new ArrayList<Inode>();
+    for (Inode i : inodeFolder.getChildren()) {
+      ret.add(i);
+      if (i.isDirectory()) {
+        ret.addAll(getInodeChildrenRecursive((InodeFolder) i));
       }
-      return ret;
     }
+    return ret;
   }
 
   /**
@@ -1581,6 +2043,47 @@ public class MasterInfo extends ImageWriter {
     return mMasterAddress;
   }
 
+  /**
+   * Get the metrics of the master.
+   *
+   * @return the metrics registry of the master
+   */
+  public MetricsRegistry getMetrics() {
+    return mMetrics;
+  }
+
+  /**
+   * Get the namespace lock. The edit log holds it in write mode while replaying operations.
+   *
+   * @return the namespace lock
+   */
+  ReadWriteLock getNamespaceLock() {
+    return mNamespaceLock;
+  }
+
+  /**
+   * Get the id of the next inode created by a createFile operation.
+   *
+   * @param inodeIds The ids of the inodes created by the operation, see
+   *        {@link #_createFile(boolean, TachyonURI, boolean, long, long, Acl, List)}
+   * @param index The index of the inode among the inodes created by the operation
+   * @return the inode id
+   */
+  private int nextInodeId(List<Integer> inodeIds, int index) {
+    if (index < inodeIds.size()) {
+      int id = inodeIds.get(index);
+      // Keep the counter ahead of the replayed ids, so that new ids never collide with them.
+      int current = mInodeCounter.get();
+      while (current < id && !mInodeCounter.compareAndSet(current, id)) {
+        current = mInodeCounter.get();
+      }
+      return id;
+    }
+    int id = mInodeCounter.incrementAndGet();
+    inodeIds.add(id);
+    return id;
+  }
+
   /**
    * Get a new user id
    *
@@ -1618,15 +2121,13 @@ public class MasterInfo extends ImageWriter {
    * @return the path of the inode
    */
   private TachyonURI getPath(Inode inode) {
-    synchronized (mRootLock) {
-      if (inode.getId() == 1) {
-        return new TachyonURI(TachyonURI.SEPARATOR);
-      }
-      if (inode.getParentId() == 1) {
-        return new TachyonURI(TachyonURI.SEPARATOR + inode.getName());
-      }
-      return getPath(mFileIdToInodes.get(inode.getParentId())).join(inode.getName());
+    if (inode.getId() == 1) {
+      return new TachyonURI(TachyonURI.SEPARATOR);
+    }
+    if (inode.getParentId() == 1) {
+      return new TachyonURI(TachyonURI.SEPARATOR + inode.getName());
     }
+    return getPath(mFileIdToInodes.get(inode.getParentId())).join(inode.getName());
   }
 
   /**
@@ -1637,12 +2138,15 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException raise if the file does not exist.
    */
   public TachyonURI getPath(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist");
       }
       return getPath(inode);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -1660,7 +2164,7 @@ public class MasterInfo extends ImageWriter {
   /**
    * Creates a list of high priority dependencies, which don't yet have checkpoints.
    *
-   * @return the list of dependency ids
+   * @return the list of dependency ids, highest priority first
    */
   public List<Integer> getPriorityDependencyList() {
     synchronized (mFileIdToDependency) {
@@ -1691,6 +2195,8 @@ public class MasterInfo extends ImageWriter {
 
       List<Integer> ret = new ArrayList<Integer>(mPriorityDependencies.size());
       ret.addAll(mPriorityDependencies);
+      // The latest dependencies first
+      Collections.sort(ret, Collections.reverseOrder());
       return ret;
     }
   }
@@ -1902,6 +2408,58 @@ public class MasterInfo extends ImageWriter {
     mRecompute = mExecutorService.submit(new RecomputationScheduler());
   }
 
+  private void registerMetrics() {
+    mMetrics.register("capacity.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getCapacityBytes();
+      }
+    });
+    mMetrics.register("used.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getUsedBytes();
+      }
+    });
+    mMetrics.register("workers", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return getWorkerCount();
+      }
+    });
+    mMetrics.register("inodes", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return mFileIdToInodes.size();
+      }
+    });
+    mMetrics.register("dependencies.uncheckpointed", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        synchronized (mFileIdToDependency) {
+          return mUncheckpointedDependencies.size();
+        }
+      }
+    });
+  }
+
+  /**
+   * Get the end of the run of block ids starting at the given index which belong to the same file.
+   *
+   * @param sortedBlockIds sorted block ids
+   * @param start the index of the first block id of the run
+   * @return the index after the last block id of the run
+   */
+  private int nextFileBlockIds(List<Long> sortedBlockIds, int start) {
+    int fileId = BlockInfo.computeInodeId(sortedBlockIds.get(start));
+    int end = start + 1;
+    while (end < sortedBlockIds.size()
+        && BlockInfo.computeInodeId(sortedBlockIds.get(end)) == fileId) {
+      end ++;
+    }
+    return end;
+  }
+
   /**
    * Get the id of the file at the given path. If recursive, it scans the subdirectories as well.
    *
@@ -1914,7 +2472,8 @@ public class MasterInfo extends ImageWriter {
   public List<Integer> listFiles(TachyonURI path, boolean recursive) throws InvalidPathException,
       FileDoesNotExistException {
     List<Integer> ret = new ArrayList<Integer>();
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
         throw new FileDoesNotExistException(path.toString());
@@ -1939,84 +2498,143 @@ public class MasterInfo extends ImageWriter {
           ret.add(child.getId());
         }
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
 
     return ret;
   }
 
   /**
-   * Load the image from <code>parser</code>, which is created based on the <code>path</code>.
+   * Load the image from <code>reader</code>, which is created based on the <code>path</code>.
    * Assume this blocks the whole MasterInfo.
    *
-   * @param parser the JsonParser to load the image
+   * @param reader the JournalReader to load the image
    * @param path the file to load the image
    * @throws IOException
    */
-  public void loadImage(JsonParser parser, TachyonURI path) throws IOException {
-    while (true) {
+  void loadImage(JournalReader reader, TachyonURI path) throws IOException {
+    mNamespaceLock.writeLock().lock();
+    try {
       ImageElement ele;
-      try {
-        ele = parser.readValueAs(ImageElement.class);
-        LOG.debug("Read Element: {}", ele);
-      } catch (IOException e) {
-        // Unfortunately brittle, but Jackson rethrows EOF with this message.
-        if (e.getMessage().contains("end-of-input")) {
-          break;
-        } else {
-          throw e;
-        }
-      }
+      while ((ele = reader.readElement()) != null) {
+
+        switch (ele.mType) {
+          case Version: {
+            if (ele.getInt("version") != Constants.JOURNAL_VERSION) {
+              throw new IOException("Image " + path + " has journal version "
+                  + ele.getInt("version") + ". The system has version "
+                  + Constants.JOURNAL_VERSION);
+            }
+            break;
+          }
+          case Checkpoint: {
+            mInodeCounter.set(ele.getInt("inodeCounter"));
+            mCheckpointInfo.updateEditTransactionCounter(ele.getLong("editTransactionCounter"));
+            mCheckpointInfo.updateDependencyCounter(ele.getInt("dependencyCounter"));
+            break;
+          }
+          case Dependency: {
+            Dependency dep = Dependency.loadImage(ele, mTachyonConf);
 
-      switch (ele.mType) {
-        case Version: {
-          if (ele.getInt("version") != Constants.JOURNAL_VERSION) {
-            throw new IOException("Image " + path + " has journal version " + ele.getInt("version")
-                + ". The system has version " + Constants.JOURNAL_VERSION);
+            mFileIdToDependency.put(dep.mId, dep);
+            if (!dep.hasCheckpointed()) {
+              mUncheckpointedDependencies.add(dep.mId);
+            }
+            for (int parentDependencyId : dep.mParentDependencies) {
+              mFileIdToDependency.get(parentDependencyId).addChildrenDependency(dep.mId);
+            }
+            break;
           }
-          break;
-        }
-        case Checkpoint: {
-          mInodeCounter.set(ele.getInt("inodeCounter"));
-          mCheckpointInfo.updateEditTransactionCounter(ele.getLong("editTransactionCounter"));
-          mCheckpointInfo.updateDependencyCounter(ele.getInt("dependencyCounter"));
-          break;
-        }
-        case Dependency: {
-          Dependency dep = Dependency.loadImage(ele, mTachyonConf);
+          case InodeFile: {
+            // This element should not be loaded here. It should be loaded by InodeFolder.
+            throw new IOException("Invalid element type " + ele);
+          }
+          case InodeFolder: {
+            Inode inode = InodeFolder.loadImage(reader, ele);
+            addToInodeMap(inode, mFileIdToInodes);
+            recomputePinnedFiles(inode, Optional.<Boolean>absent());
+
+            if (inode.getId() != 1) {
+              throw new IOException("Invalid element type " + ele);
+            }
+            mRoot = (InodeFolder) inode;
 
-          mFileIdToDependency.put(dep.mId, dep);
-          if (!dep.hasCheckpointed()) {
-            mUncheckpointedDependencies.add(dep.mId);
+            break;
           }
-          for (int parentDependencyId : dep.mParentDependencies) {
-            mFileIdToDependency.get(parentDependencyId).addChildrenDependency(dep.mId);
+          case RawTable: {
+            mRawTables.loadImage(ele);
+            break;
           }
-          break;
-        }
-        case InodeFile: {
-          // This element should not be loaded here. It should be loaded by InodeFolder.
-          throw new IOException("Invalid element type " + ele);
+          default:
+            throw new IOException("Invalid element type " + ele);
         }
-        case InodeFolder: {
-          Inode inode = InodeFolder.loadImage(parser, ele);
-          addToInodeMap(inode, mFileIdToInodes);
-          recomputePinnedFiles(inode, Optional.<Boolean>absent());
+      }
+    } finally {
+      mNamespaceLock.writeLock().unlock();
+    }
+  }
 
-          if (inode.getId() != 1) {
-            throw new IOException("Invalid element type " + ele);
-          }
-          mRoot = (InodeFolder) inode;
+  /**
+   * Lock the inode with the given id. The caller must hold mNamespaceLock, and the only other inode
+   * locks it may hold are the ones of the ancestors of this inode.
+   *
+   * @param fileId The id of the inode to lock
+   * @param write If true, write lock the inode, otherwise read lock it
+   * @return the locked inode, or null if it does not exist
+   */
+  private Inode lockInode(int fileId, boolean write) {
+    Inode inode = mFileIdToInodes.get(fileId);
+    if (inode != null) {
+      if (write) {
+        inode.lockWrite();
+      } else {
+        inode.lockRead();
+      }
+    }
+    return inode;
+  }
 
-          break;
-        }
-        case RawTable: {
-          mRawTables.loadImage(ele);
-          break;
-        }
-        default:
-          throw new IOException("Invalid element type " + ele);
+  /**
+   * Lock the inodes along the given path, top-down from the root. The traversal stops at the first
+   * path component that does not exist. The caller must hold mNamespaceLock and must unlock the
+   * returned path.
+   *
+   * @param pathNames The path components of the path to lock
+   * @param writeDepth The index of the first path component to write lock
+   * @return the locked path
+   * @throws InvalidPathException if the path is invalid or one of its ancestors is a file
+   */
+  private LockedInodePath lockPath(String[] pathNames, int writeDepth)
+      throws InvalidPathException {
+    if (pathNames == null || pathNames.length == 0) {
+      throw new InvalidPathException("passed-in pathNames is null or empty");
+    }
+    if (pathNames.length == 1 && !pathNames[0].equals("")) {
+      final String msg = "File name starts with " + pathNames[0];
+      LOG.info("InvalidPathException: " + msg);
+      throw new InvalidPathException(msg);
+    }
+
+    LockedInodePath lockedPath = new LockedInodePath(pathNames, writeDepth);
+    Inode current = mRoot;
+    lockedPath.lockNext(current);
+    for (int k = 1; k < pathNames.length; k ++) {
+      Inode next = ((InodeFolder) current).getChild(pathNames[k]);
+      if (next == null) {
+        break;
+      }
+      lockedPath.lockNext(next);
+      if (!next.isDirectory() && k < pathNames.length - 1) {
+        lockedPath.unlock();
+        final String msg =
+            "Traversal failed. Component " + k + "(" + next.getName() + ") is a file";
+        LOG.info("InvalidPathException: " + msg);
+        throw new InvalidPathException(msg);
       }
+      current = next;
     }
+    return lockedPath;
   }
 
   /**
@@ -2030,12 +2648,15 @@ public class MasterInfo extends ImageWriter {
    */
   public List<TachyonURI> ls(TachyonURI path, boolean recursive) throws InvalidPathException,
       FileDoesNotExistException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
         throw new FileDoesNotExistException(path.toString());
       }
       return _ls(inode, path, recursive);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -2069,19 +2690,17 @@ public class MasterInfo extends ImageWriter {
    */
   void opAddBlock(int fileId, int blockIndex, long blockLength, long opTimeMs)
       throws FileDoesNotExistException, BlockInfoException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-
-      if (inode == null) {
-        throw new FileDoesNotExistException("File " + fileId + " does not exist.");
-      }
-      if (inode.isDirectory()) {
-        throw new FileDoesNotExistException("File " + fileId + " is a folder.");
-      }
+    Inode inode = mFileIdToInodes.get(fileId);
 
-      addBlock((InodeFile) inode, new BlockInfo((InodeFile) inode, blockIndex, blockLength),
-          opTimeMs);
+    if (inode == null) {
+      throw new FileDoesNotExistException("File " + fileId + " does not exist.");
     }
+    if (inode.isDirectory()) {
+      throw new FileDoesNotExistException("File " + fileId + " is a folder.");
+    }
+
+    addBlock((InodeFile) inode, new BlockInfo((InodeFile) inode, blockIndex, blockLength),
+        opTimeMs);
   }
 
   /**
@@ -2124,6 +2743,7 @@ public class MasterInfo extends ImageWriter {
       }
       if (id != 0 && mWorkers.containsKey(id)) {
         MasterWorkerInfo tWorkerInfo = mWorkers.get(id);
+        tWorkerInfo.markLost();
         mWorkers.remove(id);
         mLostWorkers.add(tWorkerInfo);
         LOG.warn("The worker with id " + id + " has been removed.");
@@ -2144,20 +2764,28 @@ public class MasterInfo extends ImageWriter {
       LOG.info("registerWorker(): " + tWorkerInfo);
     }
 
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       for (Entry<Long, List<Long>> blockIds : currentBlockIds.entrySet()) {
         long storageDirId = blockIds.getKey();
         for (long blockId : blockIds.getValue()) {
           int fileId = BlockInfo.computeInodeId(blockId);
           int blockIndex = BlockInfo.computeBlockIndex(blockId);
-          Inode inode = mFileIdToInodes.get(fileId);
-          if (inode != null && inode.isFile()) {
-            ((InodeFile) inode).addLocation(blockIndex, id, workerAddress, storageDirId);
-          } else {
-            LOG.warn("registerWorker failed to add fileId " + fileId + " blockIndex " + blockIndex);
+          Inode inode = lockInode(fileId, true);
+          try {
+            if (inode != null && inode.isFile()) {
+              ((InodeFile) inode).addLocation(blockIndex, id, workerAddress, storageDirId);
+            } else {
+              LOG.warn("registerWorker failed to add fileId " + fileId + " blockIndex "
+                  + blockIndex);
+            }
+          } finally {
+            unlockInode(inode, true);
           }
         }
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
 
     return id;
@@ -2175,12 +2803,17 @@ public class MasterInfo extends ImageWriter {
   public boolean rename(int fileId, TachyonURI dstPath) throws FileDoesNotExistException,
       FileAlreadyExistException, AccessControlException, InvalidPathException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      boolean ret = _rename(fileId, dstPath, opTimeMs);
-      mJournal.getEditLog().rename(fileId, dstPath, opTimeMs);
-      mJournal.getEditLog().flush();
-      return ret;
+    boolean ret;
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
+      ret = _rename(fileId, dstPath, opTimeMs);
+      transactionId = mJournal.getEditLog().rename(fileId, dstPath, opTimeMs);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
+    return ret;
   }
 
   /**
@@ -2194,13 +2827,22 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean rename(TachyonURI srcPath, TachyonURI dstPath) throws FileDoesNotExistException,
       FileAlreadyExistException, AccessControlException, InvalidPathException {
-    synchronized (mRootLock) {
+    long opTimeMs = System.currentTimeMillis();
+    boolean ret;
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       Inode inode = getInode(srcPath);
       if (inode == null) {
         throw new FileDoesNotExistException("Failed to rename: " + srcPath + " does not exist");
       }
-      return rename(inode.getId(), dstPath);
+      ret = _rename(inode.getId(), dstPath, opTimeMs);
+      transactionId = mJournal.getEditLog().rename(inode.getId(), dstPath, opTimeMs);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
+    return ret;
   }
 
   /**
@@ -2215,32 +2857,18 @@ public class MasterInfo extends ImageWriter {
   public boolean setOwner(int fileId,String username, String groupname,
       boolean recursive) throws FileDoesNotExistException, AccessControlException,
       TachyonException {
-    long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
       }
-      if (recursive) {
-        if (!inode.isDirectory()) {
-          throw new AccessControlException("Failed to recursive setOwner on a file: "
-                                           + getPath(inode));
-        }
-        Queue<Inode> queue = new LinkedList<Inode>();
-        queue.addAll(((InodeFolder) inode).getChildren());
-
-        while (!queue.isEmpty()) {
-          Inode qinode = queue.poll();
-          if (qinode.isDirectory()) {
-            queue.addAll(((InodeFolder) qinode).getChildren());
-          }
-          _setOwner(qinode, username, groupname);
-        }
-      }
-      _setOwner(inode, username, groupname);
+      transactionId = setOwnerAndLog(inode, username, groupname, recursive);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
-    mJournal.getEditLog().chown(fileId, username, groupname, recursive, opTimeMs);
-    mJournal.getEditLog().flush();
+    mJournal.getEditLog().flush(transactionId);
     return true;
   }
 
@@ -2250,13 +2878,48 @@ public class MasterInfo extends ImageWriter {
   public boolean setOwner(TachyonURI path, String username, String groupname,
       boolean recursive) throws FileDoesNotExistException, InvalidPathException,
       AccessControlException, TachyonException {
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
         throw new FileDoesNotExistException("Failed to setOwner: " + path + " does not exist");
       }
-      return setOwner(inode.getId(), username, groupname, recursive);
+      transactionId = setOwnerAndLog(inode, username, groupname, recursive);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
+    return true;
+  }
+
+  /**
+   * Set the owner of an inode and write it to the journal, without waiting for the journal to be
+   * flushed. The caller must hold mNamespaceLock in write mode.
+   *
+   * @return the transaction id of the journal entry
+   */
+  private long setOwnerAndLog(Inode inode, String username, String groupname, boolean recursive)
+      throws AccessControlException {
+    long opTimeMs = System.currentTimeMillis();
+    if (recursive) {
+      if (!inode.isDirectory()) {
+        throw new AccessControlException("Failed to recursive setOwner on a file: "
+                                         + getPath(inode));
+      }
+      Queue<Inode> queue = new LinkedList<Inode>();
+      queue.addAll(((InodeFolder) inode).getChildren());
+
+      while (!queue.isEmpty()) {
+        Inode qinode = queue.poll();
+        if (qinode.isDirectory()) {
+          queue.addAll(((InodeFolder) qinode).getChildren());
+        }
+        _setOwner(qinode, username, groupname);
+      }
+    }
+    _setOwner(inode, username, groupname);
+    return mJournal.getEditLog().chown(inode.getId(), username, groupname, recursive, opTimeMs);
   }
 
   public void _setOwner(Inode inode, String username, String groupname)
@@ -2282,32 +2945,18 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean setPermission(int fileId, short permission,boolean recursive)
       throws FileDoesNotExistException, AccessControlException, TachyonException {
-    long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
       }
-      if (recursive) {
-        if (!inode.isDirectory()) {
-          throw new AccessControlException("Failed to recursive setPermission on a file: "
-                                           + getPath(inode));
-        }
-        Queue<Inode> queue = new LinkedList<Inode>();
-        queue.addAll(((InodeFolder) inode).getChildren());
-
-        while (!queue.isEmpty()) {
-          Inode qinode = queue.poll();
-          if (qinode.isDirectory()) {
-            queue.addAll(((InodeFolder) qinode).getChildren());
-          }
-          _setPermission(qinode, permission);
-        }
-      }
-      _setPermission(inode, permission);
+      transactionId = setPermissionAndLog(inode, permission, recursive);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
-    mJournal.getEditLog().chmod(fileId, permission, recursive, opTimeMs);
-    mJournal.getEditLog().flush();
+    mJournal.getEditLog().flush(transactionId);
     return true;
   }
 
@@ -2322,13 +2971,49 @@ public class MasterInfo extends ImageWriter {
   public boolean setPermission(TachyonURI path, short permission,boolean recursive)
       throws FileDoesNotExistException, InvalidPathException, AccessControlException,
       TachyonException {
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       Inode inode = getInode(path);
       if (inode == null) {
-        throw new FileDoesNotExistException("Failed to setPermission: " + path + " does not exist");
+        throw new FileDoesNotExistException("Failed to setPermission: " + path
+            + " does not exist");
+      }
+      transactionId = setPermissionAndLog(inode, permission, recursive);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
+    }
+    mJournal.getEditLog().flush(transactionId);
+    return true;
+  }
+
+  /**
+   * Set the permission of an inode and write it to the journal, without waiting for the journal
+   * to be flushed. The caller must hold mNamespaceLock in write mode.
+   *
+   * @return the transaction id of the journal entry
+   */
+  private long setPermissionAndLog(Inode inode, short permission, boolean recursive)
+      throws AccessControlException {
+    long opTimeMs = System.currentTimeMillis();
+    if (recursive) {
+      if (!inode.isDirectory()) {
+        throw new AccessControlException("Failed to recursive setPermission on a file: "
+                                         + getPath(inode));
+      }
+      Queue<Inode> queue = new LinkedList<Inode>();
+      queue.addAll(((InodeFolder) inode).getChildren());
+
+      while (!queue.isEmpty()) {
+        Inode qinode = queue.poll();
+        if (qinode.isDirectory()) {
+          queue.addAll(((InodeFolder) qinode).getChildren());
+        }
+        _setPermission(qinode, permission);
       }
-      return setPermission(inode.getId(), permission, recursive);
     }
+    _setPermission(inode, permission);
+    return mJournal.getEditLog().chmod(inode.getId(), permission, recursive, opTimeMs);
   }
 
   public void _setPermission(Inode inode, short permission) throws AccessControlException {
@@ -2343,7 +3028,8 @@ public class MasterInfo extends ImageWriter {
    * @param fileId The id of the file to be recovered
    */
   public void reportLostFile(int fileId) {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         LOG.warn("Tachyon does not have file " + fileId);
@@ -2365,6 +3051,8 @@ public class MasterInfo extends ImageWriter {
           }
         }
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -2391,11 +3079,15 @@ public class MasterInfo extends ImageWriter {
   public void setPinned(int fileId, boolean pinned) throws AccessControlException,
       FileDoesNotExistException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.writeLock().lock();
+    try {
       _setPinned(fileId, pinned, opTimeMs);
-      mJournal.getEditLog().setPinned(fileId, pinned, opTimeMs);
-      mJournal.getEditLog().flush();
+      transactionId = mJournal.getEditLog().setPinned(fileId, pinned, opTimeMs);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
   }
 
   /**
@@ -2408,7 +3100,8 @@ public class MasterInfo extends ImageWriter {
    */
   boolean freepath(int fileId, boolean recursive) throws TachyonException {
     LOG.info("free(" + fileId + ")");
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null) {
         LOG.error("File " + fileId + " does not exist");
@@ -2449,6 +3142,8 @@ public class MasterInfo extends ImageWriter {
           }
         }
       }
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
     return true;
   }
@@ -2463,7 +3158,8 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean freepath(TachyonURI path, boolean recursive) throws TachyonException {
     LOG.info("free(" + path + ")");
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = null;
       try {
         inode = getInode(path);
@@ -2474,6 +3170,8 @@ public class MasterInfo extends ImageWriter {
         return true;
       }
       return freepath(inode.getId(), recursive);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -2487,6 +3185,10 @@ public class MasterInfo extends ImageWriter {
     if (mRecompute != null) {
       mRecompute.cancel(true);
     }
+    if (mBlockReportExecutor != null) {
+      mBlockReportExecutor.shutdownNow();
+    }
+    mUfsBlockLocations.stop();
   }
 
   /**
@@ -2508,7 +3210,8 @@ public class MasterInfo extends ImageWriter {
    * @throws InvalidPathException
    */
   private Pair<Inode, Integer> traverseToInode(String[] pathNames) throws InvalidPathException {
-    synchronized (mRootLock) {
+    mNamespaceLock.readLock().lock();
+    try {
       if (pathNames == null || pathNames.length == 0) {
         throw new InvalidPathException("passed-in pathNames is null or empty");
       }
@@ -2548,6 +3251,81 @@ public class MasterInfo extends ImageWriter {
         }
       }
       return ret;
+    } finally {
+      mNamespaceLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Release the lock taken by {@link #lockInode(int, boolean)}.
+   *
+   * @param inode The locked inode, may be null
+   * @param write Whether the inode was write locked
+   */
+  private void unlockInode(Inode inode, boolean write) {
+    if (inode != null) {
+      if (write) {
+        inode.unlockWrite();
+      } else {
+        inode.unlockRead();
+      }
+    }
+  }
+
+  /**
+   * Adds or removes the worker from the locations of blocks of the same file, holding the inode of
+   * the file for all of them. Reports of a worker which is lost in the meantime are dropped.
+   *
+   * A lost worker is marked before its locations are removed under the namespace write lock. The
+   * mark is checked and the locations are updated under the namespace read lock, so either the
+   * report sees the mark, or the locations it adds are removed with the other blocks of the lost
+   * worker.
+   *
+   * @param workerInfo the worker
+   * @param blockIds ids of blocks of the same file
+   * @param add true to add the worker to the locations, false to remove it
+   * @param storageDirId the id of the StorageDir containing the added blocks
+   */
+  private void updateBlockLocations(MasterWorkerInfo workerInfo, List<Long> blockIds, boolean add,
+      long storageDirId) {
+    long workerId = workerInfo.getId();
+    int fileId = BlockInfo.computeInodeId(blockIds.get(0));
+    mNamespaceLock.readLock().lock();
+    Inode inode = lockInode(fileId, true);
+    try {
+      if (workerInfo.isLost()) {
+        LOG.debug("Drop block report of lost worker {}", workerId);
+        return;
+      }
+      if (!add) {
+        workerInfo.updateBlocks(false, blockIds);
+      }
+      if (inode == null) {
+        if (add) {
+          LOG.error("File " + fileId + " does not exist");
+        }
+      } else if (inode.isFile()) {
+        List<BlockInfo> blockInfoList = ((InodeFile) inode).getBlockList();
+        List<Long> addedBlockIds = new ArrayList<Long>(blockIds.size());
+        for (long blockId : blockIds) {
+          int blockIndex = BlockInfo.computeBlockIndex(blockId);
+          if (blockInfoList.size() <= blockIndex) {
+            LOG.error("BlockInfo not found! blockIndex:" + blockIndex);
+          } else if (add) {
+            blockInfoList.get(blockIndex).addLocation(workerId, workerInfo.getAddress(),
+                storageDirId);
+            addedBlockIds.add(blockId);
+          } else {
+            blockInfoList.get(blockIndex).removeLocation(workerId);
+            LOG.debug("File {} with block {} was evicted from worker {} ", fileId, blockIndex,
+                workerId);
+          }
+        }
+        workerInfo.updateBlocks(true, addedBlockIds);
+      }
+    } finally {
+      unlockInode(inode, true);
+      mNamespaceLock.readLock().unlock();
     }
   }
 
@@ -2561,7 +3339,9 @@ public class MasterInfo extends ImageWriter {
    */
   public void updateRawTableMetadata(int tableId, ByteBuffer metadata)
       throws TableDoesNotExistException, TachyonException {
-    synchronized (mRootLock) {
+    long transactionId;
+    mNamespaceLock.readLock().lock();
+    try {
       Inode inode = mFileIdToInodes.get(tableId);
 
       if (inode == null || !inode.isDirectory() || !mRawTables.exist(tableId)) {
@@ -2570,9 +3350,11 @@ public class MasterInfo extends ImageWriter {
 
       mRawTables.updateMetadata(tableId, metadata);
 
-      mJournal.getEditLog().updateRawTableMetadata(tableId, metadata);
-      mJournal.getEditLog().flush();
+      transactionId = mJournal.getEditLog().updateRawTableMetadata(tableId, metadata);
+    } finally {
+      mNamespaceLock.readLock().unlock();
     }
+    mJournal.getEditLog().flush(transactionId);
   }
 
   /**
@@ -2581,68 +3363,61 @@ public class MasterInfo extends ImageWriter {
    *
    * @param workerId The id of the worker to deal with
    * @param usedBytesOnTiers Used bytes on each storage tier
-   * @param removedBlockIds The list of removed block ids
-   * @param addedBlockIds Mapping from id of the StorageDir and id list of blocks evicted in
+   * @param report The blocks removed from and added to the worker
    * @return a command specifying an action to take
    * @throws BlockInfoException
    */
-  public Command workerHeartbeat(long workerId, List<Long> usedBytesOnTiers,
-      List<Long> removedBlockIds, Map<Long, List<Long>> addedBlockIds) throws BlockInfoException {
+  public Command workerHeartbeat(long workerId, List<Long> usedBytesOnTiers, BlockReport report)
+      throws BlockInfoException {
     LOG.debug("WorkerId: {}", workerId);
-    synchronized (mRootLock) {
-      synchronized (mWorkers) {
-        MasterWorkerInfo tWorkerInfo = mWorkers.get(workerId);
+    MasterWorkerInfo workerInfo;
+    List<Long> toRemovedBlocks;
+    synchronized (mWorkers) {
+      MasterWorkerInfo tWorkerInfo = mWorkers.get(workerId);
 
-        if (tWorkerInfo == null) {
-          LOG.info("worker_heartbeat(): Does not contain worker with ID " + workerId
-              + " . Send command to let it re-register.");
-          return new Command(CommandType.Register, new ArrayList<Long>());
-        }
+      if (tWorkerInfo == null) {
+        LOG.info("worker_heartbeat(): Does not contain worker with ID " + workerId
+            + " . Send command to let it re-register.");
+        return new Command(CommandType.Register, new ArrayList<Long>());
+      }
 
-        tWorkerInfo.updateUsedBytes(usedBytesOnTiers);
-        tWorkerInfo.updateBlocks(false, removedBlockIds);
-        tWorkerInfo.updateToRemovedBlocks(false, removedBlockIds);
-        tWorkerInfo.updateLastUpdatedTimeMs();
+      tWorkerInfo.updateUsedBytes(usedBytesOnTiers);
+      tWorkerInfo.updateToRemovedBlocks(false, report.getRemovedBlockIds());
+      tWorkerInfo.updateLastUpdatedTimeMs();
+      toRemovedBlocks = tWorkerInfo.getToRemovedBlocks();
+      workerInfo = tWorkerInfo;
+    }
 
-        for (long blockId : removedBlockIds) {
-          int fileId = BlockInfo.computeInodeId(blockId);
-          int blockIndex = BlockInfo.computeBlockIndex(blockId);
-          Inode inode = mFileIdToInodes.get(fileId);
-          if (inode == null) {
-            LOG.error("File " + fileId + " does not exist");
-          } else if (inode.isFile()) {
-            ((InodeFile) inode).removeLocation(blockIndex, workerId);
-            LOG.debug("File {} with block {} was evicted from worker {} ", fileId, blockIndex,
-                workerId);
+    // The block locations are updated out of the heartbeat by the block report executor, so the
+    // cost of a heartbeat does not depend on the number of blocks it reports.
+    if (!report.isEmpty()) {
+      workerInfo.addBlockReport(report);
+      if (mBlockReportExecutor == null) {
+        applyBlockReports(workerInfo);
+      } else {
+        final MasterWorkerInfo reportingWorker = workerInfo;
+        mBlockReportExecutor.submit(new Runnable() {
+          @Override
+          public void run() {
+            applyBlockReports(reportingWorker);
           }
-        }
+        });
+      }
+    }
 
-        for (Entry<Long, List<Long>> addedBlocks : addedBlockIds.entrySet()) {
-          long storageDirId = addedBlocks.getKey();
-          for (long blockId : addedBlocks.getValue()) {
-            int fileId = BlockInfo.computeInodeId(blockId);
-            int blockIndex = BlockInfo.computeBlockIndex(blockId);
-            Inode inode = mFileIdToInodes.get(fileId);
-            if (inode == null) {
-              LOG.error("File " + fileId + " does not exist");
-            } else if (inode.isFile()) {
-              List<BlockInfo> blockInfoList = ((InodeFile) inode).getBlockList();
-              NetAddress workerAddress = mWorkers.get(workerId).getAddress();
-              if (blockInfoList.size() <= blockIndex) {
-                throw new BlockInfoException("BlockInfo not found! blockIndex:" + blockIndex);
-              } else {
-                BlockInfo blockInfo = blockInfoList.get(blockIndex);
-                blockInfo.addLocation(workerId, workerAddress, storageDirId);
-              }
-            }
-          }
-        }
+    if (toRemovedBlocks.size() != 0) {
+      return new Command(CommandType.Free, toRemovedBlocks);
+    }
 
-        List<Long> toRemovedBlocks = tWorkerInfo.getToRemovedBlocks();
-        if (toRemovedBlocks.size() != 0) {
-          return new Command(CommandType.Free, toRemovedBlocks);
-        }
+    // The priority dependencies are pushed to the worker when they change, so that its checkpoint
+    // threads don't poll the master for them.
+    List<Integer> priorityDependencies = getPriorityDependencyList();
+    if (workerInfo.updatePriorityDependencies(priorityDependencies)) {
+      List<Long> depIds = new ArrayList<Long>(priorityDependencies.size());
+      for (int depId : priorityDependencies) {
+        depIds.add((long) depId);
       }
+      return new Command(CommandType.Checkpoint, depIds);
     }
 
     return new Command(CommandType.Nothing, new ArrayList<Long>());
@@ -2651,26 +3426,27 @@ public class MasterInfo extends ImageWriter {
   /**
    * Create an image of the dependencies and filesystem tree.
    *
-   * @param objWriter The used object writer
+   * @param format The format of the image
    * @param dos The target data output stream
    * @throws IOException
    */
   @Override
-  public void writeImage(ObjectWriter objWriter, DataOutputStream dos) throws IOException {
+  public void writeImage(JournalFormat format, DataOutputStream dos) throws IOException {
     ImageElement ele =
         new ImageElement(ImageElementType.Version).withParameter("version",
             Constants.JOURNAL_VERSION);
 
-    writeElement(objWriter, dos, ele);
+    writeElement(format, dos, ele);
 
-    synchronized (mRootLock) {
+    mNamespaceLock.writeLock().lock();
+    try {
       synchronized (mFileIdToDependency) {
         for (Dependency dep : mFileIdToDependency.values()) {
-          dep.writeImage(objWriter, dos);
+          dep.writeImage(format, dos);
         }
       }
-      mRoot.writeImage(objWriter, dos);
-      mRawTables.writeImage(objWriter, dos);
+      mRoot.writeImage(format, dos);
+      mRawTables.writeImage(format, dos);
 
       ele =
           new ImageElement(ImageElementType.Checkpoint)
@@ -2678,7 +3454,9 @@ public class MasterInfo extends ImageWriter {
               .withParameter("editTransactionCounter", mCheckpointInfo.getEditTransactionCounter())
               .withParameter("dependencyCounter", mCheckpointInfo.getDependencyCounter());
 
-      writeElement(objWriter, dos, ele);
+      writeElement(format, dos, ele);
+    } finally {
+      mNamespaceLock.writeLock().unlock();
     }
   }
 
@@ -85,6 +85,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.getClientFileInfo(new TachyonURI(path));
   }
 
+  @Override
+  public List<ClientFileInfo> getFileStatusBatch(List<String> paths)
+      throws InvalidPathException, AccessControlException, TException {
+    return mMasterInfo.getClientFileInfos(toUris(paths));
+  }
+
   @Override
   public List<ClientWorkerInfo> getWorkersInfo() throws TException {
     return mMasterInfo.getWorkersInfo();
@@ -146,6 +152,23 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.createFile(new TachyonURI(path), blockSizeByte, recursive);
   }
 
+  @Override
+  public List<Integer> user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths,
+      List<Long> lengths, List<Long> blockSizeBytes, boolean recursive)
+      throws FileAlreadyExistException, InvalidPathException, BlockInfoException,
+      SuspectedFileSizeException, TachyonException, AccessControlException, TException {
+    return mMasterInfo.createCheckpointedFiles(toUris(paths), toUris(ufsPaths), lengths,
+        blockSizeBytes, recursive);
+  }
+
+  @Override
+  public List<Integer> user_createFileBatch(List<String> paths, long blockSizeByte,
+      boolean recursive) throws FileAlreadyExistException, InvalidPathException,
+      BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException,
+      TException {
+    return mMasterInfo.createFiles(toUris(paths), blockSizeByte, recursive);
+  }
+
   @Override
   public long user_createNewBlock(int fileId) throws FileDoesNotExistException, TException {
     return mMasterInfo.createNewBlock(fileId);
@@ -168,6 +191,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.delete(new TachyonURI(path), recursive);
   }
 
+  @Override
+  public List<Boolean> user_deleteBatch(List<String> paths, boolean recursive)
+      throws TachyonException, AccessControlException, TException {
+    return mMasterInfo.delete(toUris(paths), recursive);
+  }
+
   @Override
   public long user_getBlockId(int fileId, int index) throws FileDoesNotExistException, TException {
     return BlockInfo.computeBlockId(fileId, index);
@@ -207,6 +236,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     return ret;
   }
 
+  @Override
+  public List<List<ClientBlockInfo>> user_getFileBlocksBatch(List<Integer> fileIds)
+      throws FileDoesNotExistException, InvalidPathException, TException {
+    return mMasterInfo.getFileBlocks(fileIds);
+  }
+
   @Override
   public int user_getRawTableId(String path) throws InvalidPathException, TException {
     return mMasterInfo.getRawTableId(new TachyonURI(path));
@@ -315,9 +350,15 @@ public class MasterServiceHandler implements MasterService.Iface {
 
   @Override
   public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers,
-      List<Long> removedBlockIds, Map<Long, List<Long>> addedBlockIds)
-      throws BlockInfoException, TException {
-    return mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, removedBlockIds, addedBlockIds);
+      ByteBuffer blockReport) throws BlockInfoException, TException {
+    BlockReport report;
+    try {
+      report = BlockReport.decode(blockReport);
+    } catch (IOException e) {
+      throw new BlockInfoException("Malformed block report of worker " + workerId + ": "
+          + e.getMessage());
+    }
+    return mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, report);
   }
 
   @Override
@@ -347,4 +388,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     }
     return mMasterInfo.setOwner(new TachyonURI(path), username, groupname, recursive);
   }
+
+  private static List<TachyonURI> toUris(List<String> paths) {
+    List<TachyonURI> ret = new ArrayList<TachyonURI>(paths.size());
+    for (String path : paths) {
+      ret.add(new TachyonURI(path));
+    }
+    return ret;
+  }
 }
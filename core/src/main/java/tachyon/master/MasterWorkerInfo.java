@@ -19,7 +19,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import tachyon.Constants;
 import tachyon.thrift.ClientWorkerInfo;
@@ -50,6 +52,15 @@ public class MasterWorkerInfo {
   private List<Long> mTotalBytesOnTiers;
   /** Used bytes on each storage tier **/
   private List<Long> mUsedBytesOnTiers;
+  /** Block reports of the worker not applied to the file metadata yet, oldest first **/
+  private final Queue<BlockReport> mPendingBlockReports =
+      new ConcurrentLinkedQueue<BlockReport>();
+  /** Held while applying the block reports, so that they are applied in order **/
+  private final Object mBlockReportLock = new Object();
+  /** The priority dependencies last sent to the worker **/
+  private List<Integer> mPriorityDependencies = new ArrayList<Integer>();
+  /** True once the worker is lost, its blocks are not added to the file metadata anymore **/
+  private boolean mLost = false;
 
   public MasterWorkerInfo(long id, NetAddress address, List<Long> totalBytesOnTiers,
       long capacityBytes) {
@@ -65,6 +76,15 @@ public class MasterWorkerInfo {
     mLastUpdatedTimeMs = System.currentTimeMillis();
   }
 
+  /**
+   * Queues a block report of the worker, to be applied after the reports queued before it.
+   *
+   * @param report the block report
+   */
+  void addBlockReport(BlockReport report) {
+    mPendingBlockReports.add(report);
+  }
+
   /**
    * @return Generated {@link tachyon.thrift.ClientWorkerInfo} for this worker
    */
@@ -81,6 +101,13 @@ public class MasterWorkerInfo {
     return ret;
   }
 
+  /**
+   * @return the lock to hold while applying the block reports of the worker
+   */
+  Object getBlockReportLock() {
+    return mBlockReportLock;
+  }
+
   /**
    * @return the worker's address.
    */
@@ -179,6 +206,29 @@ public class MasterWorkerInfo {
     return sb.toString();
   }
 
+  /**
+   * @return true if the worker is lost
+   */
+  public synchronized boolean isLost() {
+    return mLost;
+  }
+
+  /**
+   * Marks the worker as lost, before its blocks are removed from the file metadata.
+   */
+  public synchronized void markLost() {
+    mLost = true;
+  }
+
+  /**
+   * Removes the oldest block report of the worker not applied yet.
+   *
+   * @return the block report, or null if all of them are applied
+   */
+  BlockReport pollBlockReport() {
+    return mPendingBlockReports.poll();
+  }
+
   /**
    * Adds or removes a block from the worker
    * 
@@ -242,6 +292,21 @@ public class MasterWorkerInfo {
     }
   }
 
+  /**
+   * Records the priority dependencies to send to the worker, if they changed since the last ones
+   * sent.
+   *
+   * @param priorityDependencies the ids of the priority dependencies, highest priority first
+   * @return true if the worker has to be sent the new priority dependencies, false otherwise
+   */
+  public synchronized boolean updatePriorityDependencies(List<Integer> priorityDependencies) {
+    if (mPriorityDependencies.equals(priorityDependencies)) {
+      return false;
+    }
+    mPriorityDependencies = priorityDependencies;
+    return true;
+  }
+
   /**
    * Set the used space of the worker in bytes.
    * 
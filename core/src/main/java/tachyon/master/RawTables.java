@@ -25,7 +25,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectWriter;
 
 import tachyon.Constants;
 import tachyon.Pair;
@@ -184,7 +183,7 @@ public class RawTables extends ImageWriter {
   }
 
   @Override
-  public synchronized void writeImage(ObjectWriter objWriter, DataOutputStream dos)
+  public synchronized void writeImage(JournalFormat format, DataOutputStream dos)
       throws IOException {
     List<Integer> ids = new ArrayList<Integer>();
     List<Integer> columns = new ArrayList<Integer>();
@@ -200,6 +199,6 @@ public class RawTables extends ImageWriter {
             .withParameter("columns", columns)
             .withParameter("data", Utils.byteBufferListToBase64(data));
 
-    writeElement(objWriter, dos, ele);
+    writeElement(format, dos, ele);
   }
 }
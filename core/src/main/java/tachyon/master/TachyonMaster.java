@@ -17,14 +17,13 @@ package tachyon.master;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.apache.thrift.TProcessorFactory;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
@@ -35,15 +34,20 @@ import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.LeaderSelectorClient;
+import tachyon.RpcServerType;
 import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
 import tachyon.UnderFileSystemHdfs;
 import tachyon.Version;
 import tachyon.conf.TachyonConf;
+import tachyon.metrics.InstrumentedProcessorFactory;
+import tachyon.metrics.JmxReporter;
 import tachyon.security.authentication.AuthenticationFactory;
+import tachyon.thrift.MasterService;
 import tachyon.util.CommonUtils;
 import tachyon.util.NetworkUtils;
 import tachyon.util.ThreadFactoryUtils;
+import tachyon.util.ThriftUtils;
 import tachyon.web.UIWebServer;
 
 /**
@@ -67,7 +71,9 @@ public class TachyonMaster {
   private MasterInfo mMasterInfo;
   private InetSocketAddress mMasterAddress;
   private UIWebServer mWebServer;
-  private TServerSocket mServerTServerSocket;
+  /** Exports the metrics of the master over JMX */
+  private JmxReporter mJmxReporter;
+  private TServerTransport mServerTServerSocket;
   private TServer mMasterServiceServer;
   private MasterServiceHandler mMasterServiceHandler;
   private Journal mJournal;
@@ -76,6 +82,7 @@ public class TachyonMaster {
 
   private int mMaxWorkerThreads;
   private int mMinWorkerThreads;
+  private RpcServerType mRpcServerType;
   private boolean mZookeeperMode = false;
   private final ExecutorService mExecutorService = Executors.newFixedThreadPool(2,
       ThreadFactoryUtils.daemon("heartbeat-master-%d"));
@@ -111,6 +118,19 @@ public class TachyonMaster {
         mTachyonConf.getInt(Constants.MASTER_MAX_WORKER_THREADS,
             Constants.DEFAULT_MASTER_MAX_WORKER_THREADS);
 
+    mRpcServerType = mTachyonConf.getEnum(Constants.MASTER_RPC_SERVER_TYPE,
+        RpcServerType.THREAD_POOL);
+    String authType = mTachyonConf.get(Constants.TACHYON_SECURITY_AUTHENTICATION,
+        AuthenticationFactory.AuthTypes.SIMPLE.getAuthName());
+    if (mRpcServerType == RpcServerType.SELECTOR
+        && !authType.equalsIgnoreCase(AuthenticationFactory.AuthTypes.NOSASL.getAuthName())) {
+      // The non-blocking thrift servers cannot run the SASL handshake
+      LOG.warn("The " + RpcServerType.SELECTOR + " rpc server cannot authenticate clients with "
+          + "SASL, using the " + RpcServerType.THREAD_POOL + " rpc server for the " + authType
+          + " authentication type");
+      mRpcServerType = RpcServerType.THREAD_POOL;
+    }
+
     try {
       // Extract the port from the generated socket.
       // When running tests, its great to use port '0' so the system will figure out what port to
@@ -128,6 +148,8 @@ public class TachyonMaster {
           "Tachyon was not formatted! The journal folder is " + journalFolder);
       mJournal = new Journal(journalFolder, "image.data", "log.data", mTachyonConf);
       mMasterInfo = new MasterInfo(mMasterAddress, mJournal, mExecutorService, mTachyonConf);
+      mJmxReporter = new JmxReporter(mMasterInfo.getMetrics(), "Master",
+          NetworkUtils.getFqdnHost(mMasterAddress) + ":" + mPort);
 
       if (mZookeeperMode) {
         // InetSocketAddress.toString causes test issues, so build the string by hand
@@ -149,10 +171,13 @@ public class TachyonMaster {
     }
   }
 
-  private TServerSocket createTServerSocket(InetSocketAddress address) throws TTransportException {
+  private TServerTransport createTServerSocket(InetSocketAddress address)
+      throws TTransportException {
     if (mTachyonConf.getBoolean(Constants.TACHYON_SECURITY_USE_SSL, false)) {
       // TODO: ssl
       throw new UnsupportedOperationException("SSL is not supported now");
+    } else if (mRpcServerType == RpcServerType.SELECTOR) {
+      return ThriftUtils.createServerTransport(mRpcServerType, address);
     } else {
       return AuthenticationFactory.createTServerSocket(address);
     }
@@ -247,6 +272,8 @@ public class TachyonMaster {
     // auth thrift RPC
     mMasterServiceServer = createMasterServiceServer();
 
+    mJmxReporter.start();
+
     mIsStarted = true;
   }
 
@@ -254,16 +281,19 @@ public class TachyonMaster {
     AuthenticationFactory factory = new AuthenticationFactory(mTachyonConf);
     // processor
     mMasterServiceHandler = new MasterServiceHandler(mMasterInfo);
-    TProcessorFactory processorFactory = factory.getAuthProcFactory(mMasterServiceHandler);
+    Set<String> methodNames = new MasterService.Processor<MasterService.Iface>(
+        mMasterServiceHandler).getProcessMapView().keySet();
+    TProcessorFactory processorFactory = new InstrumentedProcessorFactory(
+        factory.getAuthProcFactory(mMasterServiceHandler), methodNames, mMasterInfo.getMetrics());
 
     // transport
     TTransportFactory tTransportFactory = factory.getAuthTransFactory();
 
     // create server
-    return new TThreadPoolServer(new TThreadPoolServer.Args(mServerTServerSocket)
-        .maxWorkerThreads(mMaxWorkerThreads).minWorkerThreads(mMinWorkerThreads)
-        .processorFactory(processorFactory).transportFactory(tTransportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true)));
+    int selectorThreads = mTachyonConf.getInt(Constants.MASTER_RPC_SELECTOR_THREADS, 2);
+    return ThriftUtils.createServer(mRpcServerType, mServerTServerSocket, processorFactory,
+        tTransportFactory, mMinWorkerThreads, mMaxWorkerThreads, selectorThreads,
+        "master-rpc-%d");
 
   }
 
@@ -327,6 +357,7 @@ public class TachyonMaster {
 
   public void stop() throws Exception {
     if (mIsStarted) {
+      mJmxReporter.stop();
       mWebServer.shutdownWebServer();
       mMasterInfo.stop();
       mMasterServiceServer.stop();
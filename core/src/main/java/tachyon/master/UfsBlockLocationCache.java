@@ -0,0 +1,216 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.UnderFileSystem;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.NetAddress;
+import tachyon.util.NetworkUtils;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Caches the under file system locations of the blocks of checkpointed files, which clients get
+ * for the blocks no worker holds. The first lookup of a file loads the locations of all its blocks
+ * on a loader thread, so a slow under file system only delays the callers waiting for that file.
+ * Lookups must not be made while holding the namespace lock or an inode lock.
+ */
+final class UfsBlockLocationCache {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final TachyonConf mTachyonConf;
+  private final ExecutorService mLoaders;
+  /** Mapping from the ufs path of a file to the locations of its blocks, keyed by block offset */
+  private final Cache<String, Future<Map<Long, List<NetAddress>>>> mLocations;
+  private final long mTimeoutMs;
+
+  /**
+   * @param tachyonConf the configuration of the master
+   */
+  UfsBlockLocationCache(TachyonConf tachyonConf) {
+    mTachyonConf = tachyonConf;
+    mLoaders =
+        Executors.newFixedThreadPool(
+            mTachyonConf.getInt(Constants.MASTER_UFS_LOCATION_THREADS, 4),
+            ThreadFactoryUtils.daemon("ufs-location-%d"));
+    long ttlMs =
+        mTachyonConf.getLong(Constants.MASTER_UFS_LOCATION_CACHE_TTL_MS, 10 * Constants.MINUTE_MS);
+    mLocations = CacheBuilder.newBuilder()
+        .maximumSize(mTachyonConf.getLong(Constants.MASTER_UFS_LOCATION_CACHE_SIZE, 10000))
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).build();
+    mTimeoutMs = mTachyonConf.getLong(Constants.MASTER_UFS_LOCATION_TIMEOUT_MS, 5000);
+  }
+
+  /**
+   * Sets the under file system locations of the given blocks which have no location yet. Waits at
+   * most the configured timeout for the locations of a file which is not cached, the blocks keep no
+   * location if the load takes longer, and get them from the cache once it is done.
+   *
+   * @param ufsPath the path of the file in the under file system
+   * @param fileLength the length of the file
+   * @param blockSizeByte the block size of the file
+   * @param blocks the blocks of the file to fill in
+   */
+  void fillLocations(String ufsPath, long fileLength, long blockSizeByte,
+      List<ClientBlockInfo> blocks) {
+    if (!hasMissingLocations(blocks)) {
+      return;
+    }
+
+    Map<Long, List<NetAddress>> locations = getLocations(ufsPath, fileLength, blockSizeByte);
+    if (locations == null) {
+      return;
+    }
+    for (ClientBlockInfo block : blocks) {
+      List<NetAddress> blockLocations = locations.get(block.getOffset());
+      if (block.getLocationsSize() == 0 && blockLocations != null) {
+        block.setLocations(new ArrayList<NetAddress>(blockLocations));
+      }
+    }
+  }
+
+  /**
+   * Starts loading the locations of a file which is not cached without waiting for them, if some
+   * of the given blocks have no location, so the files of a batch lookup are loaded concurrently.
+   *
+   * @param ufsPath the path of the file in the under file system
+   * @param fileLength the length of the file
+   * @param blockSizeByte the block size of the file
+   * @param blocks the blocks of the file which will be filled in
+   */
+  void prefetch(String ufsPath, long fileLength, long blockSizeByte,
+      List<ClientBlockInfo> blocks) {
+    if (hasMissingLocations(blocks)) {
+      getFuture(ufsPath, fileLength, blockSizeByte);
+    }
+  }
+
+  /**
+   * Drops the cached locations of a file, after it is checkpointed again or deleted.
+   *
+   * @param ufsPath the path of the file in the under file system
+   */
+  void invalidate(String ufsPath) {
+    if (!ufsPath.isEmpty()) {
+      mLocations.invalidate(ufsPath);
+    }
+  }
+
+  /**
+   * Stops the loader threads.
+   */
+  void stop() {
+    mLoaders.shutdownNow();
+  }
+
+  private static boolean hasMissingLocations(List<ClientBlockInfo> blocks) {
+    for (ClientBlockInfo block : blocks) {
+      if (block.getLocationsSize() == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Map<Long, List<NetAddress>> getLocations(String ufsPath, long fileLength,
+      long blockSizeByte) {
+    Future<Map<Long, List<NetAddress>>> future = getFuture(ufsPath, fileLength, blockSizeByte);
+    if (future == null) {
+      return null;
+    }
+    try {
+      return future.get(mTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Looking up the locations of " + ufsPath + " takes more than " + mTimeoutMs + "ms");
+    } catch (ExecutionException e) {
+      LOG.error("Failed to look up the locations of " + ufsPath, e.getCause());
+      // Retries on the next lookup
+      mLocations.asMap().remove(ufsPath, future);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private Future<Map<Long, List<NetAddress>>> getFuture(final String ufsPath,
+      final long fileLength, final long blockSizeByte) {
+    try {
+      return mLocations.get(ufsPath, new Callable<Future<Map<Long, List<NetAddress>>>>() {
+        @Override
+        public Future<Map<Long, List<NetAddress>>> call() {
+          return mLoaders.submit(new Callable<Map<Long, List<NetAddress>>>() {
+            @Override
+            public Map<Long, List<NetAddress>> call() throws Exception {
+              return load(ufsPath, fileLength, blockSizeByte);
+            }
+          });
+        }
+      });
+    } catch (ExecutionException e) {
+      LOG.error("Failed to look up the locations of " + ufsPath, e.getCause());
+      return null;
+    }
+  }
+
+  private Map<Long, List<NetAddress>> load(String ufsPath, long fileLength, long blockSizeByte)
+      throws Exception {
+    List<Long> offsets = new ArrayList<Long>();
+    for (long offset = 0; offset < fileLength; offset += blockSizeByte) {
+      offsets.add(offset);
+    }
+    UnderFileSystem ufs = UnderFileSystem.get(ufsPath, mTachyonConf);
+    List<List<String>> hosts = ufs.getFileLocations(ufsPath, offsets);
+    Map<Long, List<NetAddress>> ret = new HashMap<Long, List<NetAddress>>(offsets.size());
+    for (int k = 0; k < offsets.size(); k ++) {
+      List<String> blockHosts = hosts.get(k);
+      if (blockHosts == null) {
+        blockHosts = new ArrayList<String>();
+      }
+      List<NetAddress> locations = new ArrayList<NetAddress>(blockHosts.size());
+      for (String host : blockHosts) {
+        String resolvedHost;
+        try {
+          resolvedHost = NetworkUtils.resolveHostName(host);
+        } catch (UnknownHostException e) {
+          resolvedHost = host;
+        }
+        locations.add(new NetAddress(resolvedHost, -1, -1));
+      }
+      ret.put(offsets.get(k), locations);
+    }
+    return ret;
+  }
+}
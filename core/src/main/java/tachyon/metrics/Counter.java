@@ -0,0 +1,56 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter which threads can increment concurrently without contending on the same cache line.
+ * The count is striped over cells picked by thread id, and summed when read.
+ */
+public final class Counter {
+  /** Longs between two cells, so that each cell sits on its own cache line */
+  private static final int PADDING = 8;
+
+  private final AtomicLongArray mCells = new AtomicLongArray(Stripes.COUNT * PADDING);
+
+  /**
+   * Increments the counter by one.
+   */
+  public void inc() {
+    inc(1);
+  }
+
+  /**
+   * Increments the counter.
+   *
+   * @param n the amount to add, may be negative
+   */
+  public void inc(long n) {
+    mCells.addAndGet(Stripes.index() * PADDING, n);
+  }
+
+  /**
+   * @return the current count
+   */
+  public long getCount() {
+    long count = 0;
+    for (int k = 0; k < Stripes.COUNT; k ++) {
+      count += mCells.get(k * PADDING);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The distribution of non-negative values, such as latencies in microseconds or sizes in bytes.
+ * Values are counted in power of two buckets, striped by thread like {@link Counter}, so that an
+ * update is a couple of uncontended atomic increments. Percentiles are interpolated within their
+ * bucket, which bounds their error to the width of the bucket.
+ */
+public final class Histogram {
+  /**
+   * A consistent view of the distribution at some point in time.
+   */
+  public static final class Snapshot {
+    private final long[] mBuckets;
+    private final long mCount;
+    private final long mSum;
+    private final long mMax;
+
+    private Snapshot(long[] buckets, long sum, long max) {
+      long count = 0;
+      for (long bucket : buckets) {
+        count += bucket;
+      }
+      mBuckets = buckets;
+      mCount = count;
+      mSum = sum;
+      mMax = max;
+    }
+
+    /**
+     * @return the number of values
+     */
+    public long getCount() {
+      return mCount;
+    }
+
+    /**
+     * @return the largest value, 0 if there is none
+     */
+    public long getMax() {
+      return mMax;
+    }
+
+    /**
+     * @return the mean of the values, 0 if there is none
+     */
+    public double getMean() {
+      return mCount == 0 ? 0 : (double) mSum / mCount;
+    }
+
+    /**
+     * @param quantile the quantile, between 0 and 1
+     * @return the estimated value at the quantile, 0 if there is no value
+     */
+    public long getPercentile(double quantile) {
+      double rank = quantile * mCount;
+      long seen = 0;
+      for (int b = 0; b < BUCKETS; b ++) {
+        if (mBuckets[b] > 0 && seen + mBuckets[b] >= rank) {
+          long lower = getLowerBound(b);
+          long upper = Math.min(getUpperBound(b), mMax);
+          if (upper <= lower) {
+            return lower;
+          }
+          return lower + (long) ((upper - lower) * ((rank - seen) / mBuckets[b]));
+        }
+        seen += mBuckets[b];
+      }
+      return mMax;
+    }
+  }
+
+  /** Bucket 0 holds 0, bucket b > 0 holds the values in [2^(b-1), 2^b - 1] */
+  private static final int BUCKETS = 64;
+
+  private final AtomicLongArray mBuckets = new AtomicLongArray(Stripes.COUNT * BUCKETS);
+  private final Counter mSum = new Counter();
+  private final AtomicLong mMax = new AtomicLong(0);
+
+  private static int getBucket(long value) {
+    return BUCKETS - Long.numberOfLeadingZeros(value);
+  }
+
+  private static long getLowerBound(int bucket) {
+    return bucket == 0 ? 0 : 1L << (bucket - 1);
+  }
+
+  private static long getUpperBound(int bucket) {
+    return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+  }
+
+  /**
+   * @return a snapshot of the distribution
+   */
+  public Snapshot getSnapshot() {
+    long[] buckets = new long[BUCKETS];
+    for (int s = 0; s < Stripes.COUNT; s ++) {
+      for (int b = 0; b < BUCKETS; b ++) {
+        buckets[b] += mBuckets.get(s * BUCKETS + b);
+      }
+    }
+    return new Snapshot(buckets, mSum.getCount(), mMax.get());
+  }
+
+  /**
+   * Adds a value to the distribution.
+   *
+   * @param value the value, negative values are counted as 0
+   */
+  public void update(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    mBuckets.incrementAndGet(Stripes.index() * BUCKETS + getBucket(value));
+    mSum.inc(value);
+    long max = mMax.get();
+    while (value > max && !mMax.compareAndSet(max, value)) {
+      max = mMax.get();
+    }
+  }
+}
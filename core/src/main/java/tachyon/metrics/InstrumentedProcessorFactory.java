@@ -0,0 +1,98 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.TProcessorFactory;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.transport.TTransport;
+
+/**
+ * Wraps the processors of a thrift service to record the latency of each call, from reading the
+ * request header to writing the response, in the histogram "rpc.[method].latency.us". The calls
+ * of methods the service does not define are recorded together in "rpc.unknown.latency.us".
+ */
+public final class InstrumentedProcessorFactory extends TProcessorFactory {
+  /** Records the name of the method read from the request and when the request arrived */
+  private static final class MethodNameProtocol extends TProtocolDecorator {
+    private String mMethodName = null;
+    private long mStartNs = 0;
+
+    MethodNameProtocol(TProtocol protocol) {
+      super(protocol);
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+      // Blocks until the client sends its next call on a persistent connection
+      TMessage message = super.readMessageBegin();
+      mStartNs = System.nanoTime();
+      mMethodName = message.name;
+      return message;
+    }
+  }
+
+  private final TProcessorFactory mFactory;
+  /** From the method names of the service to their latency histogram, not modified once built */
+  private final Map<String, Histogram> mLatencies = new HashMap<String, Histogram>();
+  /** Latency of the calls to methods the service does not define */
+  private final Histogram mUnknownLatency;
+
+  /**
+   * @param factory the factory of the processors to instrument
+   * @param methodNames the names of the methods of the service
+   * @param registry the registry of the latency histograms
+   */
+  public InstrumentedProcessorFactory(TProcessorFactory factory, Collection<String> methodNames,
+      MetricsRegistry registry) {
+    super(null);
+    mFactory = factory;
+    for (String methodName : methodNames) {
+      mLatencies.put(methodName, registry.histogram("rpc." + methodName + ".latency.us"));
+    }
+    mUnknownLatency = registry.histogram("rpc.unknown.latency.us");
+  }
+
+  @Override
+  public TProcessor getProcessor(TTransport trans) {
+    final TProcessor processor = mFactory.getProcessor(trans);
+    return new TProcessor() {
+      @Override
+      public boolean process(TProtocol in, TProtocol out) throws TException {
+        MethodNameProtocol namedIn = new MethodNameProtocol(in);
+        try {
+          return processor.process(namedIn, out);
+        } finally {
+          if (namedIn.mMethodName != null) {
+            getLatency(namedIn.mMethodName).update((System.nanoTime() - namedIn.mStartNs) / 1000);
+          }
+        }
+      }
+    };
+  }
+
+  private Histogram getLatency(String methodName) {
+    Histogram latency = mLatencies.get(methodName);
+    return latency == null ? mUnknownLatency : latency;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+
+/**
+ * Exports the metrics of a {@link MetricsRegistry} as the read-only attributes of an MBean. The
+ * attributes are the names returned by {@link MetricsRegistry#getValues()}, and are read from the
+ * registry on each JMX request.
+ */
+public final class JmxReporter implements DynamicMBean {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final MetricsRegistry mRegistry;
+  private final ObjectName mName;
+  private boolean mStarted = false;
+
+  /**
+   * @param registry the metrics to export
+   * @param type the type of the process, such as "Master" or "Worker"
+   * @param address the address of the process, which tells apart the processes of a JVM
+   */
+  public JmxReporter(MetricsRegistry registry, String type, String address) {
+    mRegistry = registry;
+    try {
+      mName = new ObjectName("tachyon:type=" + type + ",address=" + ObjectName.quote(address));
+    } catch (JMException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Registers the MBean to the platform MBean server. Failures are logged, as the metrics are not
+   * needed to run Tachyon.
+   */
+  public synchronized void start() {
+    if (mStarted) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this, mName);
+      mStarted = true;
+    } catch (JMException e) {
+      LOG.warn("Failed to register the metrics MBean " + mName + " : " + e.getMessage());
+    }
+  }
+
+  /**
+   * Unregisters the MBean from the platform MBean server.
+   */
+  public synchronized void stop() {
+    if (!mStarted) {
+      return;
+    }
+    mStarted = false;
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      server.unregisterMBean(mName);
+    } catch (JMException e) {
+      LOG.warn("Failed to unregister the metrics MBean " + mName + " : " + e.getMessage());
+    }
+  }
+
+  /**
+   * @return the name of the MBean
+   */
+  public ObjectName getName() {
+    return mName;
+  }
+
+  @Override
+  public Object getAttribute(String attribute) throws AttributeNotFoundException {
+    Number value = mRegistry.getValues().get(attribute);
+    if (value == null) {
+      throw new AttributeNotFoundException(attribute);
+    }
+    return value;
+  }
+
+  @Override
+  public AttributeList getAttributes(String[] attributes) {
+    Map<String, Number> values = mRegistry.getValues();
+    AttributeList list = new AttributeList();
+    for (String attribute : attributes) {
+      Number value = values.get(attribute);
+      if (value != null) {
+        list.add(new Attribute(attribute, value));
+      }
+    }
+    return list;
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+    for (Map.Entry<String, Number> entry : mRegistry.getValues().entrySet()) {
+      attributes.add(new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(),
+          entry.getKey(), true, false, false));
+    }
+    return new MBeanInfo(getClass().getName(), "Tachyon metrics",
+        attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null,
+        new MBeanOperationInfo[0], null);
+  }
+
+  @Override
+  public Object invoke(String actionName, Object[] params, String[] signature) {
+    throw new UnsupportedOperationException("The metrics have no operation: " + actionName);
+  }
+
+  @Override
+  public void setAttribute(Attribute attribute) {
+    throw new UnsupportedOperationException("The metrics are read-only: " + attribute.getName());
+  }
+
+  @Override
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+}
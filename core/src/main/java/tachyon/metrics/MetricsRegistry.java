@@ -0,0 +1,103 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The named metrics of a master or a worker. Counters and histograms are created on first use, so
+ * that code on hot paths can look them up once and keep them in a field. Metric names are dotted
+ * and lower case, like configuration keys, and end with their unit when they have one.
+ */
+public final class MetricsRegistry {
+  private final ConcurrentMap<String, Counter> mCounters = new ConcurrentHashMap<String, Counter>();
+  private final ConcurrentMap<String, Gauge<?>> mGauges =
+      new ConcurrentHashMap<String, Gauge<?>>();
+  private final ConcurrentMap<String, Histogram> mHistograms =
+      new ConcurrentHashMap<String, Histogram>();
+
+  /**
+   * Gets the counter of the given name, creating it if needed.
+   *
+   * @param name the name of the counter
+   * @return the counter
+   */
+  public Counter counter(String name) {
+    Counter counter = mCounters.get(name);
+    if (counter == null) {
+      mCounters.putIfAbsent(name, new Counter());
+      counter = mCounters.get(name);
+    }
+    return counter;
+  }
+
+  /**
+   * Gets the histogram of the given name, creating it if needed.
+   *
+   * @param name the name of the histogram
+   * @return the histogram
+   */
+  public Histogram histogram(String name) {
+    Histogram histogram = mHistograms.get(name);
+    if (histogram == null) {
+      mHistograms.putIfAbsent(name, new Histogram());
+      histogram = mHistograms.get(name);
+    }
+    return histogram;
+  }
+
+  /**
+   * Registers a gauge, replacing the one registered before under the same name.
+   *
+   * @param name the name of the gauge
+   * @param gauge the gauge
+   */
+  public void register(String name, Gauge<?> gauge) {
+    mGauges.put(name, gauge);
+  }
+
+  /**
+   * Gets the current values of all the metrics. A histogram is reported as its count, mean, max
+   * and percentiles, under its name followed by ".count", ".mean", ".max", ".p50", ".p95" and
+   * ".p99".
+   *
+   * @return the values by metric name, sorted by name
+   */
+  public SortedMap<String, Number> getValues() {
+    SortedMap<String, Number> values = new TreeMap<String, Number>();
+    for (Map.Entry<String, Counter> entry : mCounters.entrySet()) {
+      values.put(entry.getKey(), entry.getValue().getCount());
+    }
+    for (Map.Entry<String, Gauge<?>> entry : mGauges.entrySet()) {
+      values.put(entry.getKey(), entry.getValue().getValue());
+    }
+    for (Map.Entry<String, Histogram> entry : mHistograms.entrySet()) {
+      Histogram.Snapshot snapshot = entry.getValue().getSnapshot();
+      String name = entry.getKey();
+      values.put(name + ".count", snapshot.getCount());
+      values.put(name + ".mean", snapshot.getMean());
+      values.put(name + ".max", snapshot.getMax());
+      values.put(name + ".p50", snapshot.getPercentile(0.5));
+      values.put(name + ".p95", snapshot.getPercentile(0.95));
+      values.put(name + ".p99", snapshot.getPercentile(0.99));
+    }
+    return values;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+/**
+ * Picks the stripe a thread updates in the striped metrics.
+ */
+final class Stripes {
+  private static final int MAX_COUNT = 64;
+
+  /** The number of stripes, a power of two at least the number of processors */
+  static final int COUNT;
+
+  static {
+    int count = 1;
+    while (count < Runtime.getRuntime().availableProcessors() && count < MAX_COUNT) {
+      count <<= 1;
+    }
+    COUNT = count;
+  }
+
+  /**
+   * @return the stripe of the current thread
+   */
+  static int index() {
+    return (int) (Thread.currentThread().getId() & (COUNT - 1));
+  }
+
+  private Stripes() {}
+}
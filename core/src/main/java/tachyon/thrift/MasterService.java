@@ -58,15 +58,14 @@ public class MasterService {
     /**
      * Heart beat between worker and master, worker update used Tachyon space in bytes, removed
      * blocks and added blocks in each storage directory by eviction and promotion to master, and
-     * return the command from master to worker. addedBlockIds maps from id of storage directory
-     * to the blocks added in it.
+     * return the command from master to worker. blockReport is a tachyon.master.BlockReport
+     * encoded with varint deltas of the sorted block ids.
      * 
      * @param workerId
      * @param usedBytesOnTiers
-     * @param removedBlockIds
-     * @param addedBlockIds
+     * @param blockReport
      */
-    public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds) throws BlockInfoException, org.apache.thrift.TException;
+    public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport) throws BlockInfoException, org.apache.thrift.TException;
 
     /**
      * Update information of the block newly cached to master, including used Tachyon space size in
@@ -137,6 +136,53 @@ public class MasterService {
      */
     public boolean user_delete(int fileId, String path, boolean recursive) throws TachyonException, AccessControlException, org.apache.thrift.TException;
 
+    /**
+     * Get the status of several files under one namespace lock. The i-th element describes the
+     * i-th path, with id -1 if that path does not exist.
+     * 
+     * @param paths
+     */
+    public List<ClientFileInfo> getFileStatusBatch(List<String> paths) throws InvalidPathException, AccessControlException, org.apache.thrift.TException;
+
+    /**
+     * Get the blocks of several files under one namespace lock, in the order of fileIds.
+     * 
+     * @param fileIds
+     */
+    public List<List<ClientBlockInfo>> user_getFileBlocksBatch(List<Integer> fileIds) throws FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException;
+
+    /**
+     * Create several files under one namespace lock and one journal flush. Stops at the first
+     * failure, the files created before it are kept.
+     * 
+     * @param paths
+     * @param blockSizeByte
+     * @param recursive
+     */
+    public List<Integer> user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException;
+
+    /**
+     * Delete several files with one journal flush. The i-th element tells whether the i-th path
+     * was deleted.
+     * 
+     * @param paths
+     * @param recursive
+     */
+    public List<Boolean> user_deleteBatch(List<String> paths, boolean recursive) throws TachyonException, AccessControlException, org.apache.thrift.TException;
+
+    /**
+     * Create several files which are already checkpointed in the under file system, under one
+     * namespace lock and one journal flush. The i-th file has the i-th ufs path, length and block
+     * size. Stops at the first failure, the files created before it are kept.
+     * 
+     * @param paths
+     * @param ufsPaths
+     * @param lengths
+     * @param blockSizeBytes
+     * @param recursive
+     */
+    public List<Integer> user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive) throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException;
+
     public boolean user_rename(int fileId, String srcPath, String dstPath) throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException;
 
     public void user_setPinned(int fileId, boolean pinned) throws FileDoesNotExistException, AccessControlException, org.apache.thrift.TException;
@@ -197,7 +243,7 @@ public class MasterService {
 
     public void worker_register(NetAddress workerNetAddress, List<Long> totalBytesOnTiers, List<Long> usedBytesOnTiers, Map<Long,List<Long>> currentBlocks, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
-    public void worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+    public void worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void worker_cacheBlock(long workerId, long usedBytesOnTier, long storageDirId, long blockId, long length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
@@ -233,6 +279,16 @@ public class MasterService {
 
     public void user_delete(int fileId, String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getFileStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void user_getFileBlocksBatch(List<Integer> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void user_deleteBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void user_rename(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void user_setPinned(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -397,19 +453,18 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "worker_register failed: unknown result");
     }
 
-    public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds) throws BlockInfoException, org.apache.thrift.TException
+    public Command worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport) throws BlockInfoException, org.apache.thrift.TException
     {
-      send_worker_heartbeat(workerId, usedBytesOnTiers, removedBlockIds, addedBlockIds);
+      send_worker_heartbeat(workerId, usedBytesOnTiers, blockReport);
       return recv_worker_heartbeat();
     }
 
-    public void send_worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds) throws org.apache.thrift.TException
+    public void send_worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport) throws org.apache.thrift.TException
     {
       worker_heartbeat_args args = new worker_heartbeat_args();
       args.setWorkerId(workerId);
       args.setUsedBytesOnTiers(usedBytesOnTiers);
-      args.setRemovedBlockIds(removedBlockIds);
-      args.setAddedBlockIds(addedBlockIds);
+      args.setBlockReport(blockReport);
       sendBase("worker_heartbeat", args);
     }
 
@@ -907,6 +962,182 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_delete failed: unknown result");
     }
 
+    public List<ClientFileInfo> getFileStatusBatch(List<String> paths) throws InvalidPathException, AccessControlException, org.apache.thrift.TException
+    {
+      send_getFileStatusBatch(paths);
+      return recv_getFileStatusBatch();
+    }
+
+    public void send_getFileStatusBatch(List<String> paths) throws org.apache.thrift.TException
+    {
+      getFileStatusBatch_args args = new getFileStatusBatch_args();
+      args.setPaths(paths);
+      sendBase("getFileStatusBatch", args);
+    }
+
+    public List<ClientFileInfo> recv_getFileStatusBatch() throws InvalidPathException, AccessControlException, org.apache.thrift.TException
+    {
+      getFileStatusBatch_result result = new getFileStatusBatch_result();
+      receiveBase(result, "getFileStatusBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.eI != null) {
+        throw result.eI;
+      }
+      if (result.eA != null) {
+        throw result.eA;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileStatusBatch failed: unknown result");
+    }
+
+    public List<List<ClientBlockInfo>> user_getFileBlocksBatch(List<Integer> fileIds) throws FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException
+    {
+      send_user_getFileBlocksBatch(fileIds);
+      return recv_user_getFileBlocksBatch();
+    }
+
+    public void send_user_getFileBlocksBatch(List<Integer> fileIds) throws org.apache.thrift.TException
+    {
+      user_getFileBlocksBatch_args args = new user_getFileBlocksBatch_args();
+      args.setFileIds(fileIds);
+      sendBase("user_getFileBlocksBatch", args);
+    }
+
+    public List<List<ClientBlockInfo>> recv_user_getFileBlocksBatch() throws FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException
+    {
+      user_getFileBlocksBatch_result result = new user_getFileBlocksBatch_result();
+      receiveBase(result, "user_getFileBlocksBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.eF != null) {
+        throw result.eF;
+      }
+      if (result.eI != null) {
+        throw result.eI;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_getFileBlocksBatch failed: unknown result");
+    }
+
+    public List<Integer> user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      send_user_createFileBatch(paths, blockSizeByte, recursive);
+      return recv_user_createFileBatch();
+    }
+
+    public void send_user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws org.apache.thrift.TException
+    {
+      user_createFileBatch_args args = new user_createFileBatch_args();
+      args.setPaths(paths);
+      args.setBlockSizeByte(blockSizeByte);
+      args.setRecursive(recursive);
+      sendBase("user_createFileBatch", args);
+    }
+
+    public List<Integer> recv_user_createFileBatch() throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      user_createFileBatch_result result = new user_createFileBatch_result();
+      receiveBase(result, "user_createFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.eR != null) {
+        throw result.eR;
+      }
+      if (result.eI != null) {
+        throw result.eI;
+      }
+      if (result.eB != null) {
+        throw result.eB;
+      }
+      if (result.eS != null) {
+        throw result.eS;
+      }
+      if (result.eT != null) {
+        throw result.eT;
+      }
+      if (result.eAC != null) {
+        throw result.eAC;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_createFileBatch failed: unknown result");
+    }
+
+    public List<Boolean> user_deleteBatch(List<String> paths, boolean recursive) throws TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      send_user_deleteBatch(paths, recursive);
+      return recv_user_deleteBatch();
+    }
+
+    public void send_user_deleteBatch(List<String> paths, boolean recursive) throws org.apache.thrift.TException
+    {
+      user_deleteBatch_args args = new user_deleteBatch_args();
+      args.setPaths(paths);
+      args.setRecursive(recursive);
+      sendBase("user_deleteBatch", args);
+    }
+
+    public List<Boolean> recv_user_deleteBatch() throws TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      user_deleteBatch_result result = new user_deleteBatch_result();
+      receiveBase(result, "user_deleteBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      if (result.eAC != null) {
+        throw result.eAC;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_deleteBatch failed: unknown result");
+    }
+
+    public List<Integer> user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive) throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      send_user_createCheckpointedFileBatch(paths, ufsPaths, lengths, blockSizeBytes, recursive);
+      return recv_user_createCheckpointedFileBatch();
+    }
+
+    public void send_user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive) throws org.apache.thrift.TException
+    {
+      user_createCheckpointedFileBatch_args args = new user_createCheckpointedFileBatch_args();
+      args.setPaths(paths);
+      args.setUfsPaths(ufsPaths);
+      args.setLengths(lengths);
+      args.setBlockSizeBytes(blockSizeBytes);
+      args.setRecursive(recursive);
+      sendBase("user_createCheckpointedFileBatch", args);
+    }
+
+    public List<Integer> recv_user_createCheckpointedFileBatch() throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException
+    {
+      user_createCheckpointedFileBatch_result result = new user_createCheckpointedFileBatch_result();
+      receiveBase(result, "user_createCheckpointedFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.eR != null) {
+        throw result.eR;
+      }
+      if (result.eI != null) {
+        throw result.eI;
+      }
+      if (result.eB != null) {
+        throw result.eB;
+      }
+      if (result.eS != null) {
+        throw result.eS;
+      }
+      if (result.eT != null) {
+        throw result.eT;
+      }
+      if (result.eAC != null) {
+        throw result.eAC;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_createCheckpointedFileBatch failed: unknown result");
+    }
+
     public boolean user_rename(int fileId, String srcPath, String dstPath) throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException
     {
       send_user_rename(fileId, srcPath, dstPath);
@@ -1434,9 +1665,9 @@ public class MasterService {
       }
     }
 
-    public void worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void worker_heartbeat(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      worker_heartbeat_call method_call = new worker_heartbeat_call(workerId, usedBytesOnTiers, removedBlockIds, addedBlockIds, resultHandler, this, ___protocolFactory, ___transport);
+      worker_heartbeat_call method_call = new worker_heartbeat_call(workerId, usedBytesOnTiers, blockReport, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -1444,14 +1675,12 @@ public class MasterService {
     public static class worker_heartbeat_call extends org.apache.thrift.async.TAsyncMethodCall {
       private long workerId;
       private List<Long> usedBytesOnTiers;
-      private List<Long> removedBlockIds;
-      private Map<Long,List<Long>> addedBlockIds;
-      public worker_heartbeat_call(long workerId, List<Long> usedBytesOnTiers, List<Long> removedBlockIds, Map<Long,List<Long>> addedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private ByteBuffer blockReport;
+      public worker_heartbeat_call(long workerId, List<Long> usedBytesOnTiers, ByteBuffer blockReport, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.workerId = workerId;
         this.usedBytesOnTiers = usedBytesOnTiers;
-        this.removedBlockIds = removedBlockIds;
-        this.addedBlockIds = addedBlockIds;
+        this.blockReport = blockReport;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
@@ -1459,8 +1688,7 @@ public class MasterService {
         worker_heartbeat_args args = new worker_heartbeat_args();
         args.setWorkerId(workerId);
         args.setUsedBytesOnTiers(usedBytesOnTiers);
-        args.setRemovedBlockIds(removedBlockIds);
-        args.setAddedBlockIds(addedBlockIds);
+        args.setBlockReport(blockReport);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -2073,223 +2301,404 @@ public class MasterService {
       }
     }
 
-    public void user_rename(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void getFileStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_rename_call method_call = new user_rename_call(fileId, srcPath, dstPath, resultHandler, this, ___protocolFactory, ___transport);
+      getFileStatusBatch_call method_call = new getFileStatusBatch_call(paths, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_rename_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private int fileId;
-      private String srcPath;
-      private String dstPath;
-      public user_rename_call(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getFileStatusBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      public getFileStatusBatch_call(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.fileId = fileId;
-        this.srcPath = srcPath;
-        this.dstPath = dstPath;
+        this.paths = paths;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_rename", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_rename_args args = new user_rename_args();
-        args.setFileId(fileId);
-        args.setSrcPath(srcPath);
-        args.setDstPath(dstPath);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getFileStatusBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getFileStatusBatch_args args = new getFileStatusBatch_args();
+        args.setPaths(paths);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException {
+      public List<ClientFileInfo> getResult() throws InvalidPathException, AccessControlException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_user_rename();
+        return (new Client(prot)).recv_getFileStatusBatch();
       }
     }
 
-    public void user_setPinned(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void user_getFileBlocksBatch(List<Integer> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_setPinned_call method_call = new user_setPinned_call(fileId, pinned, resultHandler, this, ___protocolFactory, ___transport);
+      user_getFileBlocksBatch_call method_call = new user_getFileBlocksBatch_call(fileIds, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_setPinned_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private int fileId;
-      private boolean pinned;
-      public user_setPinned_call(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class user_getFileBlocksBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Integer> fileIds;
+      public user_getFileBlocksBatch_call(List<Integer> fileIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.fileId = fileId;
-        this.pinned = pinned;
+        this.fileIds = fileIds;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setPinned", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_setPinned_args args = new user_setPinned_args();
-        args.setFileId(fileId);
-        args.setPinned(pinned);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_getFileBlocksBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_getFileBlocksBatch_args args = new user_getFileBlocksBatch_args();
+        args.setFileIds(fileIds);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public void getResult() throws FileDoesNotExistException, AccessControlException, org.apache.thrift.TException {
+      public List<List<ClientBlockInfo>> getResult() throws FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        (new Client(prot)).recv_user_setPinned();
+        return (new Client(prot)).recv_user_getFileBlocksBatch();
       }
     }
 
-    public void user_mkdirs(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_mkdirs_call method_call = new user_mkdirs_call(path, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      user_createFileBatch_call method_call = new user_createFileBatch_call(paths, blockSizeByte, recursive, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_mkdirs_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String path;
+    public static class user_createFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private long blockSizeByte;
       private boolean recursive;
-      public user_mkdirs_call(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      public user_createFileBatch_call(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.path = path;
+        this.paths = paths;
+        this.blockSizeByte = blockSizeByte;
         this.recursive = recursive;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_mkdirs", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_mkdirs_args args = new user_mkdirs_args();
-        args.setPath(path);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_createFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_createFileBatch_args args = new user_createFileBatch_args();
+        args.setPaths(paths);
+        args.setBlockSizeByte(blockSizeByte);
         args.setRecursive(recursive);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws FileAlreadyExistException, InvalidPathException, TachyonException, AccessControlException, org.apache.thrift.TException {
+      public List<Integer> getResult() throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_user_mkdirs();
+        return (new Client(prot)).recv_user_createFileBatch();
       }
     }
 
-    public void user_createRawTable(String path, int columns, ByteBuffer metadata, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void user_deleteBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_createRawTable_call method_call = new user_createRawTable_call(path, columns, metadata, resultHandler, this, ___protocolFactory, ___transport);
+      user_deleteBatch_call method_call = new user_deleteBatch_call(paths, recursive, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_createRawTable_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private String path;
-      private int columns;
-      private ByteBuffer metadata;
-      public user_createRawTable_call(String path, int columns, ByteBuffer metadata, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class user_deleteBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private boolean recursive;
+      public user_deleteBatch_call(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.path = path;
-        this.columns = columns;
-        this.metadata = metadata;
+        this.paths = paths;
+        this.recursive = recursive;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_createRawTable", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_createRawTable_args args = new user_createRawTable_args();
-        args.setPath(path);
-        args.setColumns(columns);
-        args.setMetadata(metadata);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_deleteBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_deleteBatch_args args = new user_deleteBatch_args();
+        args.setPaths(paths);
+        args.setRecursive(recursive);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public int getResult() throws FileAlreadyExistException, InvalidPathException, TableColumnException, TachyonException, org.apache.thrift.TException {
+      public List<Boolean> getResult() throws TachyonException, AccessControlException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_user_createRawTable();
+        return (new Client(prot)).recv_user_deleteBatch();
       }
     }
 
-    public void user_setPermission(int fileId, String path, int permission, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void user_createCheckpointedFileBatch(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_setPermission_call method_call = new user_setPermission_call(fileId, path, permission, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      user_createCheckpointedFileBatch_call method_call = new user_createCheckpointedFileBatch_call(paths, ufsPaths, lengths, blockSizeBytes, recursive, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_setPermission_call extends org.apache.thrift.async.TAsyncMethodCall {
-      private int fileId;
-      private String path;
-      private int permission;
+    public static class user_createCheckpointedFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private List<String> ufsPaths;
+      private List<Long> lengths;
+      private List<Long> blockSizeBytes;
       private boolean recursive;
-      public user_setPermission_call(int fileId, String path, int permission, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      public user_createCheckpointedFileBatch_call(List<String> paths, List<String> ufsPaths, List<Long> lengths, List<Long> blockSizeBytes, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.fileId = fileId;
-        this.path = path;
-        this.permission = permission;
+        this.paths = paths;
+        this.ufsPaths = ufsPaths;
+        this.lengths = lengths;
+        this.blockSizeBytes = blockSizeBytes;
         this.recursive = recursive;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setPermission", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_setPermission_args args = new user_setPermission_args();
-        args.setFileId(fileId);
-        args.setPath(path);
-        args.setPermission(permission);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_createCheckpointedFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_createCheckpointedFileBatch_args args = new user_createCheckpointedFileBatch_args();
+        args.setPaths(paths);
+        args.setUfsPaths(ufsPaths);
+        args.setLengths(lengths);
+        args.setBlockSizeBytes(blockSizeBytes);
         args.setRecursive(recursive);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public boolean getResult() throws TachyonException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException {
+      public List<Integer> getResult() throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, AccessControlException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_user_setPermission();
+        return (new Client(prot)).recv_user_createCheckpointedFileBatch();
       }
     }
 
-    public void user_setOwner(int fileId, String path, String username, String groupname, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+    public void user_rename(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      user_setOwner_call method_call = new user_setOwner_call(fileId, path, username, groupname, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      user_rename_call method_call = new user_rename_call(fileId, srcPath, dstPath, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class user_setOwner_call extends org.apache.thrift.async.TAsyncMethodCall {
+    public static class user_rename_call extends org.apache.thrift.async.TAsyncMethodCall {
       private int fileId;
-      private String path;
-      private String username;
-      private String groupname;
-      private boolean recursive;
-      public user_setOwner_call(int fileId, String path, String username, String groupname, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private String srcPath;
+      private String dstPath;
+      public user_rename_call(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.fileId = fileId;
-        this.path = path;
-        this.username = username;
-        this.groupname = groupname;
-        this.recursive = recursive;
+        this.srcPath = srcPath;
+        this.dstPath = dstPath;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setOwner", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        user_setOwner_args args = new user_setOwner_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_rename", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_rename_args args = new user_rename_args();
         args.setFileId(fileId);
-        args.setPath(path);
-        args.setUsername(username);
-        args.setGroupname(groupname);
-        args.setRecursive(recursive);
+        args.setSrcPath(srcPath);
+        args.setDstPath(dstPath);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_rename();
+      }
+    }
+
+    public void user_setPinned(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_setPinned_call method_call = new user_setPinned_call(fileId, pinned, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_setPinned_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int fileId;
+      private boolean pinned;
+      public user_setPinned_call(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileId = fileId;
+        this.pinned = pinned;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setPinned", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_setPinned_args args = new user_setPinned_args();
+        args.setFileId(fileId);
+        args.setPinned(pinned);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws FileDoesNotExistException, AccessControlException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_user_setPinned();
+      }
+    }
+
+    public void user_mkdirs(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_mkdirs_call method_call = new user_mkdirs_call(path, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_mkdirs_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private boolean recursive;
+      public user_mkdirs_call(String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_mkdirs", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_mkdirs_args args = new user_mkdirs_args();
+        args.setPath(path);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws FileAlreadyExistException, InvalidPathException, TachyonException, AccessControlException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_mkdirs();
+      }
+    }
+
+    public void user_createRawTable(String path, int columns, ByteBuffer metadata, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_createRawTable_call method_call = new user_createRawTable_call(path, columns, metadata, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_createRawTable_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private int columns;
+      private ByteBuffer metadata;
+      public user_createRawTable_call(String path, int columns, ByteBuffer metadata, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.columns = columns;
+        this.metadata = metadata;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_createRawTable", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_createRawTable_args args = new user_createRawTable_args();
+        args.setPath(path);
+        args.setColumns(columns);
+        args.setMetadata(metadata);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws FileAlreadyExistException, InvalidPathException, TableColumnException, TachyonException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_createRawTable();
+      }
+    }
+
+    public void user_setPermission(int fileId, String path, int permission, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_setPermission_call method_call = new user_setPermission_call(fileId, path, permission, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_setPermission_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int fileId;
+      private String path;
+      private int permission;
+      private boolean recursive;
+      public user_setPermission_call(int fileId, String path, int permission, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileId = fileId;
+        this.path = path;
+        this.permission = permission;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setPermission", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_setPermission_args args = new user_setPermission_args();
+        args.setFileId(fileId);
+        args.setPath(path);
+        args.setPermission(permission);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws TachyonException, FileDoesNotExistException, InvalidPathException, AccessControlException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_setPermission();
+      }
+    }
+
+    public void user_setOwner(int fileId, String path, String username, String groupname, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_setOwner_call method_call = new user_setOwner_call(fileId, path, username, groupname, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_setOwner_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int fileId;
+      private String path;
+      private String username;
+      private String groupname;
+      private boolean recursive;
+      public user_setOwner_call(int fileId, String path, String username, String groupname, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileId = fileId;
+        this.path = path;
+        this.username = username;
+        this.groupname = groupname;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_setOwner", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_setOwner_args args = new user_setOwner_args();
+        args.setFileId(fileId);
+        args.setPath(path);
+        args.setUsername(username);
+        args.setGroupname(groupname);
+        args.setRecursive(recursive);
         args.write(prot);
         prot.writeMessageEnd();
       }
@@ -2537,6 +2946,11 @@ public class MasterService {
       processMap.put("user_getClientBlockInfo", new user_getClientBlockInfo());
       processMap.put("user_getFileBlocks", new user_getFileBlocks());
       processMap.put("user_delete", new user_delete());
+      processMap.put("getFileStatusBatch", new getFileStatusBatch());
+      processMap.put("user_getFileBlocksBatch", new user_getFileBlocksBatch());
+      processMap.put("user_createFileBatch", new user_createFileBatch());
+      processMap.put("user_deleteBatch", new user_deleteBatch());
+      processMap.put("user_createCheckpointedFileBatch", new user_createCheckpointedFileBatch());
       processMap.put("user_rename", new user_rename());
       processMap.put("user_setPinned", new user_setPinned());
       processMap.put("user_mkdirs", new user_mkdirs());
@@ -2670,7 +3084,7 @@ public class MasterService {
       public worker_heartbeat_result getResult(I iface, worker_heartbeat_args args) throws org.apache.thrift.TException {
         worker_heartbeat_result result = new worker_heartbeat_result();
         try {
-          result.success = iface.worker_heartbeat(args.workerId, args.usedBytesOnTiers, args.removedBlockIds, args.addedBlockIds);
+          result.success = iface.worker_heartbeat(args.workerId, args.usedBytesOnTiers, args.blockReport);
         } catch (BlockInfoException e) {
           result.e = e;
         }
@@ -3108,85 +3522,83 @@ public class MasterService {
       }
     }
 
-    public static class user_rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_rename_args> {
-      public user_rename() {
-        super("user_rename");
+    public static class getFileStatusBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileStatusBatch_args> {
+      public getFileStatusBatch() {
+        super("getFileStatusBatch");
       }
 
-      public user_rename_args getEmptyArgsInstance() {
-        return new user_rename_args();
+      public getFileStatusBatch_args getEmptyArgsInstance() {
+        return new getFileStatusBatch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public user_rename_result getResult(I iface, user_rename_args args) throws org.apache.thrift.TException {
-        user_rename_result result = new user_rename_result();
+      public getFileStatusBatch_result getResult(I iface, getFileStatusBatch_args args) throws org.apache.thrift.TException {
+        getFileStatusBatch_result result = new getFileStatusBatch_result();
         try {
-          result.success = iface.user_rename(args.fileId, args.srcPath, args.dstPath);
-          result.setSuccessIsSet(true);
-        } catch (FileAlreadyExistException eA) {
-          result.eA = eA;
-        } catch (FileDoesNotExistException eF) {
-          result.eF = eF;
+          result.success = iface.getFileStatusBatch(args.paths);
         } catch (InvalidPathException eI) {
           result.eI = eI;
-        } catch (AccessControlException eAC) {
-          result.eAC = eAC;
+        } catch (AccessControlException eA) {
+          result.eA = eA;
         }
         return result;
       }
     }
 
-    public static class user_setPinned<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_setPinned_args> {
-      public user_setPinned() {
-        super("user_setPinned");
+    public static class user_getFileBlocksBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_getFileBlocksBatch_args> {
+      public user_getFileBlocksBatch() {
+        super("user_getFileBlocksBatch");
       }
 
-      public user_setPinned_args getEmptyArgsInstance() {
-        return new user_setPinned_args();
+      public user_getFileBlocksBatch_args getEmptyArgsInstance() {
+        return new user_getFileBlocksBatch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public user_setPinned_result getResult(I iface, user_setPinned_args args) throws org.apache.thrift.TException {
-        user_setPinned_result result = new user_setPinned_result();
+      public user_getFileBlocksBatch_result getResult(I iface, user_getFileBlocksBatch_args args) throws org.apache.thrift.TException {
+        user_getFileBlocksBatch_result result = new user_getFileBlocksBatch_result();
         try {
-          iface.user_setPinned(args.fileId, args.pinned);
+          result.success = iface.user_getFileBlocksBatch(args.fileIds);
         } catch (FileDoesNotExistException eF) {
           result.eF = eF;
-        } catch (AccessControlException eA) {
-          result.eA = eA;
+        } catch (InvalidPathException eI) {
+          result.eI = eI;
         }
         return result;
       }
     }
 
-    public static class user_mkdirs<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_mkdirs_args> {
-      public user_mkdirs() {
-        super("user_mkdirs");
+    public static class user_createFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createFileBatch_args> {
+      public user_createFileBatch() {
+        super("user_createFileBatch");
       }
 
-      public user_mkdirs_args getEmptyArgsInstance() {
-        return new user_mkdirs_args();
+      public user_createFileBatch_args getEmptyArgsInstance() {
+        return new user_createFileBatch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public user_mkdirs_result getResult(I iface, user_mkdirs_args args) throws org.apache.thrift.TException {
-        user_mkdirs_result result = new user_mkdirs_result();
+      public user_createFileBatch_result getResult(I iface, user_createFileBatch_args args) throws org.apache.thrift.TException {
+        user_createFileBatch_result result = new user_createFileBatch_result();
         try {
-          result.success = iface.user_mkdirs(args.path, args.recursive);
-          result.setSuccessIsSet(true);
+          result.success = iface.user_createFileBatch(args.paths, args.blockSizeByte, args.recursive);
         } catch (FileAlreadyExistException eR) {
           result.eR = eR;
         } catch (InvalidPathException eI) {
           result.eI = eI;
+        } catch (BlockInfoException eB) {
+          result.eB = eB;
+        } catch (SuspectedFileSizeException eS) {
+          result.eS = eS;
         } catch (TachyonException eT) {
           result.eT = eT;
         } catch (AccessControlException eAC) {
@@ -3196,34 +3608,182 @@ public class MasterService {
       }
     }
 
-    public static class user_createRawTable<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createRawTable_args> {
-      public user_createRawTable() {
-        super("user_createRawTable");
+    public static class user_deleteBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_deleteBatch_args> {
+      public user_deleteBatch() {
+        super("user_deleteBatch");
       }
 
-      public user_createRawTable_args getEmptyArgsInstance() {
-        return new user_createRawTable_args();
+      public user_deleteBatch_args getEmptyArgsInstance() {
+        return new user_deleteBatch_args();
       }
 
       protected boolean isOneway() {
         return false;
       }
 
-      public user_createRawTable_result getResult(I iface, user_createRawTable_args args) throws org.apache.thrift.TException {
-        user_createRawTable_result result = new user_createRawTable_result();
+      public user_deleteBatch_result getResult(I iface, user_deleteBatch_args args) throws org.apache.thrift.TException {
+        user_deleteBatch_result result = new user_deleteBatch_result();
         try {
-          result.success = iface.user_createRawTable(args.path, args.columns, args.metadata);
-          result.setSuccessIsSet(true);
-        } catch (FileAlreadyExistException eR) {
-          result.eR = eR;
-        } catch (InvalidPathException eI) {
-          result.eI = eI;
-        } catch (TableColumnException eT) {
-          result.eT = eT;
-        } catch (TachyonException eTa) {
-          result.eTa = eTa;
-        }
-        return result;
+          result.success = iface.user_deleteBatch(args.paths, args.recursive);
+        } catch (TachyonException e) {
+          result.e = e;
+        } catch (AccessControlException eAC) {
+          result.eAC = eAC;
+        }
+        return result;
+      }
+    }
+
+    public static class user_createCheckpointedFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createCheckpointedFileBatch_args> {
+      public user_createCheckpointedFileBatch() {
+        super("user_createCheckpointedFileBatch");
+      }
+
+      public user_createCheckpointedFileBatch_args getEmptyArgsInstance() {
+        return new user_createCheckpointedFileBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_createCheckpointedFileBatch_result getResult(I iface, user_createCheckpointedFileBatch_args args) throws org.apache.thrift.TException {
+        user_createCheckpointedFileBatch_result result = new user_createCheckpointedFileBatch_result();
+        try {
+          result.success = iface.user_createCheckpointedFileBatch(args.paths, args.ufsPaths, args.lengths, args.blockSizeBytes, args.recursive);
+        } catch (FileAlreadyExistException eR) {
+          result.eR = eR;
+        } catch (InvalidPathException eI) {
+          result.eI = eI;
+        } catch (BlockInfoException eB) {
+          result.eB = eB;
+        } catch (SuspectedFileSizeException eS) {
+          result.eS = eS;
+        } catch (TachyonException eT) {
+          result.eT = eT;
+        } catch (AccessControlException eAC) {
+          result.eAC = eAC;
+        }
+        return result;
+      }
+    }
+
+    public static class user_rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_rename_args> {
+      public user_rename() {
+        super("user_rename");
+      }
+
+      public user_rename_args getEmptyArgsInstance() {
+        return new user_rename_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_rename_result getResult(I iface, user_rename_args args) throws org.apache.thrift.TException {
+        user_rename_result result = new user_rename_result();
+        try {
+          result.success = iface.user_rename(args.fileId, args.srcPath, args.dstPath);
+          result.setSuccessIsSet(true);
+        } catch (FileAlreadyExistException eA) {
+          result.eA = eA;
+        } catch (FileDoesNotExistException eF) {
+          result.eF = eF;
+        } catch (InvalidPathException eI) {
+          result.eI = eI;
+        } catch (AccessControlException eAC) {
+          result.eAC = eAC;
+        }
+        return result;
+      }
+    }
+
+    public static class user_setPinned<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_setPinned_args> {
+      public user_setPinned() {
+        super("user_setPinned");
+      }
+
+      public user_setPinned_args getEmptyArgsInstance() {
+        return new user_setPinned_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_setPinned_result getResult(I iface, user_setPinned_args args) throws org.apache.thrift.TException {
+        user_setPinned_result result = new user_setPinned_result();
+        try {
+          iface.user_setPinned(args.fileId, args.pinned);
+        } catch (FileDoesNotExistException eF) {
+          result.eF = eF;
+        } catch (AccessControlException eA) {
+          result.eA = eA;
+        }
+        return result;
+      }
+    }
+
+    public static class user_mkdirs<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_mkdirs_args> {
+      public user_mkdirs() {
+        super("user_mkdirs");
+      }
+
+      public user_mkdirs_args getEmptyArgsInstance() {
+        return new user_mkdirs_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_mkdirs_result getResult(I iface, user_mkdirs_args args) throws org.apache.thrift.TException {
+        user_mkdirs_result result = new user_mkdirs_result();
+        try {
+          result.success = iface.user_mkdirs(args.path, args.recursive);
+          result.setSuccessIsSet(true);
+        } catch (FileAlreadyExistException eR) {
+          result.eR = eR;
+        } catch (InvalidPathException eI) {
+          result.eI = eI;
+        } catch (TachyonException eT) {
+          result.eT = eT;
+        } catch (AccessControlException eAC) {
+          result.eAC = eAC;
+        }
+        return result;
+      }
+    }
+
+    public static class user_createRawTable<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createRawTable_args> {
+      public user_createRawTable() {
+        super("user_createRawTable");
+      }
+
+      public user_createRawTable_args getEmptyArgsInstance() {
+        return new user_createRawTable_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_createRawTable_result getResult(I iface, user_createRawTable_args args) throws org.apache.thrift.TException {
+        user_createRawTable_result result = new user_createRawTable_result();
+        try {
+          result.success = iface.user_createRawTable(args.path, args.columns, args.metadata);
+          result.setSuccessIsSet(true);
+        } catch (FileAlreadyExistException eR) {
+          result.eR = eR;
+        } catch (InvalidPathException eI) {
+          result.eI = eI;
+        } catch (TableColumnException eT) {
+          result.eT = eT;
+        } catch (TachyonException eTa) {
+          result.eTa = eTa;
+        }
+        return result;
       }
     }
 
@@ -3466,6 +4026,11 @@ public class MasterService {
       processMap.put("user_getClientBlockInfo", new user_getClientBlockInfo());
       processMap.put("user_getFileBlocks", new user_getFileBlocks());
       processMap.put("user_delete", new user_delete());
+      processMap.put("getFileStatusBatch", new getFileStatusBatch());
+      processMap.put("user_getFileBlocksBatch", new user_getFileBlocksBatch());
+      processMap.put("user_createFileBatch", new user_createFileBatch());
+      processMap.put("user_deleteBatch", new user_deleteBatch());
+      processMap.put("user_createCheckpointedFileBatch", new user_createCheckpointedFileBatch());
       processMap.put("user_rename", new user_rename());
       processMap.put("user_setPinned", new user_setPinned());
       processMap.put("user_mkdirs", new user_mkdirs());
@@ -3778,7 +4343,7 @@ public class MasterService {
       }
 
       public void start(I iface, worker_heartbeat_args args, org.apache.thrift.async.AsyncMethodCallback<Command> resultHandler) throws TException {
-        iface.worker_heartbeat(args.workerId, args.usedBytesOnTiers, args.removedBlockIds, args.addedBlockIds,resultHandler);
+        iface.worker_heartbeat(args.workerId, args.usedBytesOnTiers, args.blockReport,resultHandler);
       }
     }
 
@@ -4805,22 +5370,21 @@ public class MasterService {
       }
     }
 
-    public static class user_rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_rename_args, Boolean> {
-      public user_rename() {
-        super("user_rename");
+    public static class getFileStatusBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileStatusBatch_args, List<ClientFileInfo>> {
+      public getFileStatusBatch() {
+        super("getFileStatusBatch");
       }
 
-      public user_rename_args getEmptyArgsInstance() {
-        return new user_rename_args();
+      public getFileStatusBatch_args getEmptyArgsInstance() {
+        return new getFileStatusBatch_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<ClientFileInfo>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            user_rename_result result = new user_rename_result();
+        return new AsyncMethodCallback<List<ClientFileInfo>>() { 
+          public void onComplete(List<ClientFileInfo> o) {
+            getFileStatusBatch_result result = new getFileStatusBatch_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -4832,25 +5396,15 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_rename_result result = new user_rename_result();
-            if (e instanceof FileAlreadyExistException) {
-                        result.eA = (FileAlreadyExistException) e;
-                        result.setEAIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof FileDoesNotExistException) {
-                        result.eF = (FileDoesNotExistException) e;
-                        result.setEFIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof InvalidPathException) {
+            getFileStatusBatch_result result = new getFileStatusBatch_result();
+            if (e instanceof InvalidPathException) {
                         result.eI = (InvalidPathException) e;
                         result.setEIIsSet(true);
                         msg = result;
             }
             else             if (e instanceof AccessControlException) {
-                        result.eAC = (AccessControlException) e;
-                        result.setEACIsSet(true);
+                        result.eA = (AccessControlException) e;
+                        result.setEAIsSet(true);
                         msg = result;
             }
              else 
@@ -4873,25 +5427,26 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_rename_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.user_rename(args.fileId, args.srcPath, args.dstPath,resultHandler);
+      public void start(I iface, getFileStatusBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<ClientFileInfo>> resultHandler) throws TException {
+        iface.getFileStatusBatch(args.paths,resultHandler);
       }
     }
 
-    public static class user_setPinned<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setPinned_args, Void> {
-      public user_setPinned() {
-        super("user_setPinned");
+    public static class user_getFileBlocksBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getFileBlocksBatch_args, List<List<ClientBlockInfo>>> {
+      public user_getFileBlocksBatch() {
+        super("user_getFileBlocksBatch");
       }
 
-      public user_setPinned_args getEmptyArgsInstance() {
-        return new user_setPinned_args();
+      public user_getFileBlocksBatch_args getEmptyArgsInstance() {
+        return new user_getFileBlocksBatch_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<List<ClientBlockInfo>>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            user_setPinned_result result = new user_setPinned_result();
+        return new AsyncMethodCallback<List<List<ClientBlockInfo>>>() { 
+          public void onComplete(List<List<ClientBlockInfo>> o) {
+            user_getFileBlocksBatch_result result = new user_getFileBlocksBatch_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -4903,15 +5458,15 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_setPinned_result result = new user_setPinned_result();
+            user_getFileBlocksBatch_result result = new user_getFileBlocksBatch_result();
             if (e instanceof FileDoesNotExistException) {
                         result.eF = (FileDoesNotExistException) e;
                         result.setEFIsSet(true);
                         msg = result;
             }
-            else             if (e instanceof AccessControlException) {
-                        result.eA = (AccessControlException) e;
-                        result.setEAIsSet(true);
+            else             if (e instanceof InvalidPathException) {
+                        result.eI = (InvalidPathException) e;
+                        result.setEIIsSet(true);
                         msg = result;
             }
              else 
@@ -4934,27 +5489,26 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_setPinned_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.user_setPinned(args.fileId, args.pinned,resultHandler);
+      public void start(I iface, user_getFileBlocksBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<List<ClientBlockInfo>>> resultHandler) throws TException {
+        iface.user_getFileBlocksBatch(args.fileIds,resultHandler);
       }
     }
 
-    public static class user_mkdirs<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_mkdirs_args, Boolean> {
-      public user_mkdirs() {
-        super("user_mkdirs");
+    public static class user_createFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createFileBatch_args, List<Integer>> {
+      public user_createFileBatch() {
+        super("user_createFileBatch");
       }
 
-      public user_mkdirs_args getEmptyArgsInstance() {
-        return new user_mkdirs_args();
+      public user_createFileBatch_args getEmptyArgsInstance() {
+        return new user_createFileBatch_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<Integer>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            user_mkdirs_result result = new user_mkdirs_result();
+        return new AsyncMethodCallback<List<Integer>>() { 
+          public void onComplete(List<Integer> o) {
+            user_createFileBatch_result result = new user_createFileBatch_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -4966,7 +5520,7 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_mkdirs_result result = new user_mkdirs_result();
+            user_createFileBatch_result result = new user_createFileBatch_result();
             if (e instanceof FileAlreadyExistException) {
                         result.eR = (FileAlreadyExistException) e;
                         result.setERIsSet(true);
@@ -4977,6 +5531,16 @@ public class MasterService {
                         result.setEIIsSet(true);
                         msg = result;
             }
+            else             if (e instanceof BlockInfoException) {
+                        result.eB = (BlockInfoException) e;
+                        result.setEBIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof SuspectedFileSizeException) {
+                        result.eS = (SuspectedFileSizeException) e;
+                        result.setESIsSet(true);
+                        msg = result;
+            }
             else             if (e instanceof TachyonException) {
                         result.eT = (TachyonException) e;
                         result.setETIsSet(true);
@@ -5007,27 +5571,26 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_mkdirs_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.user_mkdirs(args.path, args.recursive,resultHandler);
+      public void start(I iface, user_createFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<Integer>> resultHandler) throws TException {
+        iface.user_createFileBatch(args.paths, args.blockSizeByte, args.recursive,resultHandler);
       }
     }
 
-    public static class user_createRawTable<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createRawTable_args, Integer> {
-      public user_createRawTable() {
-        super("user_createRawTable");
+    public static class user_deleteBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_deleteBatch_args, List<Boolean>> {
+      public user_deleteBatch() {
+        super("user_deleteBatch");
       }
 
-      public user_createRawTable_args getEmptyArgsInstance() {
-        return new user_createRawTable_args();
+      public user_deleteBatch_args getEmptyArgsInstance() {
+        return new user_deleteBatch_args();
       }
 
-      public AsyncMethodCallback<Integer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<Boolean>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Integer>() { 
-          public void onComplete(Integer o) {
-            user_createRawTable_result result = new user_createRawTable_result();
+        return new AsyncMethodCallback<List<Boolean>>() { 
+          public void onComplete(List<Boolean> o) {
+            user_deleteBatch_result result = new user_deleteBatch_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5039,25 +5602,15 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_createRawTable_result result = new user_createRawTable_result();
-            if (e instanceof FileAlreadyExistException) {
-                        result.eR = (FileAlreadyExistException) e;
-                        result.setERIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof InvalidPathException) {
-                        result.eI = (InvalidPathException) e;
-                        result.setEIIsSet(true);
+            user_deleteBatch_result result = new user_deleteBatch_result();
+            if (e instanceof TachyonException) {
+                        result.e = (TachyonException) e;
+                        result.setEIsSet(true);
                         msg = result;
             }
-            else             if (e instanceof TableColumnException) {
-                        result.eT = (TableColumnException) e;
-                        result.setETIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof TachyonException) {
-                        result.eTa = (TachyonException) e;
-                        result.setETaIsSet(true);
+            else             if (e instanceof AccessControlException) {
+                        result.eAC = (AccessControlException) e;
+                        result.setEACIsSet(true);
                         msg = result;
             }
              else 
@@ -5080,27 +5633,26 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_createRawTable_args args, org.apache.thrift.async.AsyncMethodCallback<Integer> resultHandler) throws TException {
-        iface.user_createRawTable(args.path, args.columns, args.metadata,resultHandler);
+      public void start(I iface, user_deleteBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<Boolean>> resultHandler) throws TException {
+        iface.user_deleteBatch(args.paths, args.recursive,resultHandler);
       }
     }
 
-    public static class user_setPermission<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setPermission_args, Boolean> {
-      public user_setPermission() {
-        super("user_setPermission");
+    public static class user_createCheckpointedFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createCheckpointedFileBatch_args, List<Integer>> {
+      public user_createCheckpointedFileBatch() {
+        super("user_createCheckpointedFileBatch");
       }
 
-      public user_setPermission_args getEmptyArgsInstance() {
-        return new user_setPermission_args();
+      public user_createCheckpointedFileBatch_args getEmptyArgsInstance() {
+        return new user_createCheckpointedFileBatch_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<Integer>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            user_setPermission_result result = new user_setPermission_result();
+        return new AsyncMethodCallback<List<Integer>>() { 
+          public void onComplete(List<Integer> o) {
+            user_createCheckpointedFileBatch_result result = new user_createCheckpointedFileBatch_result();
             result.success = o;
-            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5112,15 +5664,10 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_setPermission_result result = new user_setPermission_result();
-            if (e instanceof TachyonException) {
-                        result.eA = (TachyonException) e;
-                        result.setEAIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof FileDoesNotExistException) {
-                        result.eF = (FileDoesNotExistException) e;
-                        result.setEFIsSet(true);
+            user_createCheckpointedFileBatch_result result = new user_createCheckpointedFileBatch_result();
+            if (e instanceof FileAlreadyExistException) {
+                        result.eR = (FileAlreadyExistException) e;
+                        result.setERIsSet(true);
                         msg = result;
             }
             else             if (e instanceof InvalidPathException) {
@@ -5128,6 +5675,21 @@ public class MasterService {
                         result.setEIIsSet(true);
                         msg = result;
             }
+            else             if (e instanceof BlockInfoException) {
+                        result.eB = (BlockInfoException) e;
+                        result.setEBIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof SuspectedFileSizeException) {
+                        result.eS = (SuspectedFileSizeException) e;
+                        result.setESIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof TachyonException) {
+                        result.eT = (TachyonException) e;
+                        result.setETIsSet(true);
+                        msg = result;
+            }
             else             if (e instanceof AccessControlException) {
                         result.eAC = (AccessControlException) e;
                         result.setEACIsSet(true);
@@ -5153,25 +5715,25 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_setPermission_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.user_setPermission(args.fileId, args.path, args.permission, args.recursive,resultHandler);
+      public void start(I iface, user_createCheckpointedFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<List<Integer>> resultHandler) throws TException {
+        iface.user_createCheckpointedFileBatch(args.paths, args.ufsPaths, args.lengths, args.blockSizeBytes, args.recursive,resultHandler);
       }
     }
 
-    public static class user_setOwner<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setOwner_args, Boolean> {
-      public user_setOwner() {
-        super("user_setOwner");
+    public static class user_rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_rename_args, Boolean> {
+      public user_rename() {
+        super("user_rename");
       }
 
-      public user_setOwner_args getEmptyArgsInstance() {
-        return new user_setOwner_args();
+      public user_rename_args getEmptyArgsInstance() {
+        return new user_rename_args();
       }
 
       public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Boolean>() { 
           public void onComplete(Boolean o) {
-            user_setOwner_result result = new user_setOwner_result();
+            user_rename_result result = new user_rename_result();
             result.success = o;
             result.setSuccessIsSet(true);
             try {
@@ -5185,9 +5747,9 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_setOwner_result result = new user_setOwner_result();
-            if (e instanceof TachyonException) {
-                        result.eA = (TachyonException) e;
+            user_rename_result result = new user_rename_result();
+            if (e instanceof FileAlreadyExistException) {
+                        result.eA = (FileAlreadyExistException) e;
                         result.setEAIsSet(true);
                         msg = result;
             }
@@ -5226,27 +5788,25 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_setOwner_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.user_setOwner(args.fileId, args.path, args.username, args.groupname, args.recursive,resultHandler);
+      public void start(I iface, user_rename_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.user_rename(args.fileId, args.srcPath, args.dstPath,resultHandler);
       }
     }
 
-    public static class user_getRawTableId<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getRawTableId_args, Integer> {
-      public user_getRawTableId() {
-        super("user_getRawTableId");
+    public static class user_setPinned<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setPinned_args, Void> {
+      public user_setPinned() {
+        super("user_setPinned");
       }
 
-      public user_getRawTableId_args getEmptyArgsInstance() {
-        return new user_getRawTableId_args();
+      public user_setPinned_args getEmptyArgsInstance() {
+        return new user_setPinned_args();
       }
 
-      public AsyncMethodCallback<Integer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Integer>() { 
-          public void onComplete(Integer o) {
-            user_getRawTableId_result result = new user_getRawTableId_result();
-            result.success = o;
-            result.setSuccessIsSet(true);
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            user_setPinned_result result = new user_setPinned_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5258,10 +5818,15 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_getRawTableId_result result = new user_getRawTableId_result();
-            if (e instanceof InvalidPathException) {
-                        result.e = (InvalidPathException) e;
-                        result.setEIsSet(true);
+            user_setPinned_result result = new user_setPinned_result();
+            if (e instanceof FileDoesNotExistException) {
+                        result.eF = (FileDoesNotExistException) e;
+                        result.setEFIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof AccessControlException) {
+                        result.eA = (AccessControlException) e;
+                        result.setEAIsSet(true);
                         msg = result;
             }
              else 
@@ -5284,26 +5849,27 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_getRawTableId_args args, org.apache.thrift.async.AsyncMethodCallback<Integer> resultHandler) throws TException {
-        iface.user_getRawTableId(args.path,resultHandler);
+      public void start(I iface, user_setPinned_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.user_setPinned(args.fileId, args.pinned,resultHandler);
       }
     }
 
-    public static class user_getClientRawTableInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getClientRawTableInfo_args, ClientRawTableInfo> {
-      public user_getClientRawTableInfo() {
-        super("user_getClientRawTableInfo");
+    public static class user_mkdirs<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_mkdirs_args, Boolean> {
+      public user_mkdirs() {
+        super("user_mkdirs");
       }
 
-      public user_getClientRawTableInfo_args getEmptyArgsInstance() {
-        return new user_getClientRawTableInfo_args();
+      public user_mkdirs_args getEmptyArgsInstance() {
+        return new user_mkdirs_args();
       }
 
-      public AsyncMethodCallback<ClientRawTableInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<ClientRawTableInfo>() { 
-          public void onComplete(ClientRawTableInfo o) {
-            user_getClientRawTableInfo_result result = new user_getClientRawTableInfo_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            user_mkdirs_result result = new user_mkdirs_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5315,16 +5881,26 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_getClientRawTableInfo_result result = new user_getClientRawTableInfo_result();
-            if (e instanceof TableDoesNotExistException) {
-                        result.eT = (TableDoesNotExistException) e;
-                        result.setETIsSet(true);
+            user_mkdirs_result result = new user_mkdirs_result();
+            if (e instanceof FileAlreadyExistException) {
+                        result.eR = (FileAlreadyExistException) e;
+                        result.setERIsSet(true);
                         msg = result;
             }
             else             if (e instanceof InvalidPathException) {
                         result.eI = (InvalidPathException) e;
                         result.setEIIsSet(true);
                         msg = result;
+            }
+            else             if (e instanceof TachyonException) {
+                        result.eT = (TachyonException) e;
+                        result.setETIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof AccessControlException) {
+                        result.eAC = (AccessControlException) e;
+                        result.setEACIsSet(true);
+                        msg = result;
             }
              else 
             {
@@ -5346,25 +5922,27 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_getClientRawTableInfo_args args, org.apache.thrift.async.AsyncMethodCallback<ClientRawTableInfo> resultHandler) throws TException {
-        iface.user_getClientRawTableInfo(args.id, args.path,resultHandler);
+      public void start(I iface, user_mkdirs_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.user_mkdirs(args.path, args.recursive,resultHandler);
       }
     }
 
-    public static class user_updateRawTableMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_updateRawTableMetadata_args, Void> {
-      public user_updateRawTableMetadata() {
-        super("user_updateRawTableMetadata");
+    public static class user_createRawTable<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createRawTable_args, Integer> {
+      public user_createRawTable() {
+        super("user_createRawTable");
       }
 
-      public user_updateRawTableMetadata_args getEmptyArgsInstance() {
-        return new user_updateRawTableMetadata_args();
+      public user_createRawTable_args getEmptyArgsInstance() {
+        return new user_createRawTable_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Integer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            user_updateRawTableMetadata_result result = new user_updateRawTableMetadata_result();
+        return new AsyncMethodCallback<Integer>() { 
+          public void onComplete(Integer o) {
+            user_createRawTable_result result = new user_createRawTable_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5376,9 +5954,19 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_updateRawTableMetadata_result result = new user_updateRawTableMetadata_result();
-            if (e instanceof TableDoesNotExistException) {
-                        result.eT = (TableDoesNotExistException) e;
+            user_createRawTable_result result = new user_createRawTable_result();
+            if (e instanceof FileAlreadyExistException) {
+                        result.eR = (FileAlreadyExistException) e;
+                        result.setERIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidPathException) {
+                        result.eI = (InvalidPathException) e;
+                        result.setEIIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof TableColumnException) {
+                        result.eT = (TableColumnException) e;
                         result.setETIsSet(true);
                         msg = result;
             }
@@ -5407,26 +5995,27 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_updateRawTableMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.user_updateRawTableMetadata(args.tableId, args.metadata,resultHandler);
+      public void start(I iface, user_createRawTable_args args, org.apache.thrift.async.AsyncMethodCallback<Integer> resultHandler) throws TException {
+        iface.user_createRawTable(args.path, args.columns, args.metadata,resultHandler);
       }
     }
 
-    public static class user_getUfsAddress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getUfsAddress_args, String> {
-      public user_getUfsAddress() {
-        super("user_getUfsAddress");
+    public static class user_setPermission<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setPermission_args, Boolean> {
+      public user_setPermission() {
+        super("user_setPermission");
       }
 
-      public user_getUfsAddress_args getEmptyArgsInstance() {
-        return new user_getUfsAddress_args();
+      public user_setPermission_args getEmptyArgsInstance() {
+        return new user_setPermission_args();
       }
 
-      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<String>() { 
-          public void onComplete(String o) {
-            user_getUfsAddress_result result = new user_getUfsAddress_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            user_setPermission_result result = new user_setPermission_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5438,7 +6027,28 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_getUfsAddress_result result = new user_getUfsAddress_result();
+            user_setPermission_result result = new user_setPermission_result();
+            if (e instanceof TachyonException) {
+                        result.eA = (TachyonException) e;
+                        result.setEAIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof FileDoesNotExistException) {
+                        result.eF = (FileDoesNotExistException) e;
+                        result.setEFIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidPathException) {
+                        result.eI = (InvalidPathException) e;
+                        result.setEIIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof AccessControlException) {
+                        result.eAC = (AccessControlException) e;
+                        result.setEACIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -5458,25 +6068,27 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_getUfsAddress_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
-        iface.user_getUfsAddress(resultHandler);
+      public void start(I iface, user_setPermission_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.user_setPermission(args.fileId, args.path, args.permission, args.recursive,resultHandler);
       }
     }
 
-    public static class user_heartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_heartbeat_args, Void> {
-      public user_heartbeat() {
-        super("user_heartbeat");
+    public static class user_setOwner<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_setOwner_args, Boolean> {
+      public user_setOwner() {
+        super("user_setOwner");
       }
 
-      public user_heartbeat_args getEmptyArgsInstance() {
-        return new user_heartbeat_args();
+      public user_setOwner_args getEmptyArgsInstance() {
+        return new user_setOwner_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            user_heartbeat_result result = new user_heartbeat_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            user_setOwner_result result = new user_setOwner_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5488,7 +6100,28 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_heartbeat_result result = new user_heartbeat_result();
+            user_setOwner_result result = new user_setOwner_result();
+            if (e instanceof TachyonException) {
+                        result.eA = (TachyonException) e;
+                        result.setEAIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof FileDoesNotExistException) {
+                        result.eF = (FileDoesNotExistException) e;
+                        result.setEFIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidPathException) {
+                        result.eI = (InvalidPathException) e;
+                        result.setEIIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof AccessControlException) {
+                        result.eAC = (AccessControlException) e;
+                        result.setEACIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -5508,25 +6141,25 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_heartbeat_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.user_heartbeat(resultHandler);
+      public void start(I iface, user_setOwner_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.user_setOwner(args.fileId, args.path, args.username, args.groupname, args.recursive,resultHandler);
       }
     }
 
-    public static class user_freepath<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_freepath_args, Boolean> {
-      public user_freepath() {
-        super("user_freepath");
+    public static class user_getRawTableId<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getRawTableId_args, Integer> {
+      public user_getRawTableId() {
+        super("user_getRawTableId");
       }
 
-      public user_freepath_args getEmptyArgsInstance() {
-        return new user_freepath_args();
+      public user_getRawTableId_args getEmptyArgsInstance() {
+        return new user_getRawTableId_args();
       }
 
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Integer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            user_freepath_result result = new user_freepath_result();
+        return new AsyncMethodCallback<Integer>() { 
+          public void onComplete(Integer o) {
+            user_getRawTableId_result result = new user_getRawTableId_result();
             result.success = o;
             result.setSuccessIsSet(true);
             try {
@@ -5540,9 +6173,9 @@ public class MasterService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            user_freepath_result result = new user_freepath_result();
-            if (e instanceof FileDoesNotExistException) {
-                        result.e = (FileDoesNotExistException) e;
+            user_getRawTableId_result result = new user_getRawTableId_result();
+            if (e instanceof InvalidPathException) {
+                        result.e = (InvalidPathException) e;
                         result.setEIsSet(true);
                         msg = result;
             }
@@ -5566,247 +6199,529 @@ public class MasterService {
         return false;
       }
 
-      public void start(I iface, user_freepath_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.user_freepath(args.fileId, args.path, args.recursive,resultHandler);
+      public void start(I iface, user_getRawTableId_args args, org.apache.thrift.async.AsyncMethodCallback<Integer> resultHandler) throws TException {
+        iface.user_getRawTableId(args.path,resultHandler);
       }
     }
 
-  }
-
-  public static class addCheckpoint_args implements org.apache.thrift.TBase<addCheckpoint_args, addCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_args");
-
-    private static final org.apache.thrift.protocol.TField WORKER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("workerId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)2);
-    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I64, (short)3);
-    private static final org.apache.thrift.protocol.TField CHECKPOINT_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("checkpointPath", org.apache.thrift.protocol.TType.STRING, (short)4);
-
-    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
-    static {
-      schemes.put(StandardScheme.class, new addCheckpoint_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addCheckpoint_argsTupleSchemeFactory());
-    }
-
-    public long workerId; // required
-    public int fileId; // required
-    public long length; // required
-    public String checkpointPath; // required
-
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      WORKER_ID((short)1, "workerId"),
-      FILE_ID((short)2, "fileId"),
-      LENGTH((short)3, "length"),
-      CHECKPOINT_PATH((short)4, "checkpointPath");
-
-      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+    public static class user_getClientRawTableInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getClientRawTableInfo_args, ClientRawTableInfo> {
+      public user_getClientRawTableInfo() {
+        super("user_getClientRawTableInfo");
+      }
 
-      static {
-        for (_Fields field : EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
+      public user_getClientRawTableInfo_args getEmptyArgsInstance() {
+        return new user_getClientRawTableInfo_args();
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 1: // WORKER_ID
-            return WORKER_ID;
-          case 2: // FILE_ID
-            return FILE_ID;
-          case 3: // LENGTH
-            return LENGTH;
-          case 4: // CHECKPOINT_PATH
-            return CHECKPOINT_PATH;
-          default:
-            return null;
-        }
+      public AsyncMethodCallback<ClientRawTableInfo> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ClientRawTableInfo>() { 
+          public void onComplete(ClientRawTableInfo o) {
+            user_getClientRawTableInfo_result result = new user_getClientRawTableInfo_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_getClientRawTableInfo_result result = new user_getClientRawTableInfo_result();
+            if (e instanceof TableDoesNotExistException) {
+                        result.eT = (TableDoesNotExistException) e;
+                        result.setETIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidPathException) {
+                        result.eI = (InvalidPathException) e;
+                        result.setEIIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+      protected boolean isOneway() {
+        return false;
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      public static _Fields findByName(String name) {
-        return byName.get(name);
+      public void start(I iface, user_getClientRawTableInfo_args args, org.apache.thrift.async.AsyncMethodCallback<ClientRawTableInfo> resultHandler) throws TException {
+        iface.user_getClientRawTableInfo(args.id, args.path,resultHandler);
       }
+    }
 
-      private final short _thriftId;
-      private final String _fieldName;
+    public static class user_updateRawTableMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_updateRawTableMetadata_args, Void> {
+      public user_updateRawTableMetadata() {
+        super("user_updateRawTableMetadata");
+      }
 
-      _Fields(short thriftId, String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
+      public user_updateRawTableMetadata_args getEmptyArgsInstance() {
+        return new user_updateRawTableMetadata_args();
       }
 
-      public short getThriftFieldId() {
-        return _thriftId;
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            user_updateRawTableMetadata_result result = new user_updateRawTableMetadata_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_updateRawTableMetadata_result result = new user_updateRawTableMetadata_result();
+            if (e instanceof TableDoesNotExistException) {
+                        result.eT = (TableDoesNotExistException) e;
+                        result.setETIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof TachyonException) {
+                        result.eTa = (TachyonException) e;
+                        result.setETaIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
       }
 
-      public String getFieldName() {
-        return _fieldName;
+      protected boolean isOneway() {
+        return false;
       }
-    }
 
-    // isset id assignments
-    private static final int __WORKERID_ISSET_ID = 0;
-    private static final int __FILEID_ISSET_ID = 1;
-    private static final int __LENGTH_ISSET_ID = 2;
-    private byte __isset_bitfield = 0;
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.WORKER_ID, new org.apache.thrift.meta_data.FieldMetaData("workerId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.CHECKPOINT_PATH, new org.apache.thrift.meta_data.FieldMetaData("checkpointPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_args.class, metaDataMap);
+      public void start(I iface, user_updateRawTableMetadata_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.user_updateRawTableMetadata(args.tableId, args.metadata,resultHandler);
+      }
     }
 
-    public addCheckpoint_args() {
-    }
+    public static class user_getUfsAddress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getUfsAddress_args, String> {
+      public user_getUfsAddress() {
+        super("user_getUfsAddress");
+      }
 
-    public addCheckpoint_args(
-      long workerId,
-      int fileId,
-      long length,
-      String checkpointPath)
-    {
-      this();
-      this.workerId = workerId;
-      setWorkerIdIsSet(true);
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.length = length;
-      setLengthIsSet(true);
-      this.checkpointPath = checkpointPath;
-    }
+      public user_getUfsAddress_args getEmptyArgsInstance() {
+        return new user_getUfsAddress_args();
+      }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public addCheckpoint_args(addCheckpoint_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.workerId = other.workerId;
-      this.fileId = other.fileId;
-      this.length = other.length;
-      if (other.isSetCheckpointPath()) {
-        this.checkpointPath = other.checkpointPath;
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            user_getUfsAddress_result result = new user_getUfsAddress_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_getUfsAddress_result result = new user_getUfsAddress_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
       }
-    }
 
-    public addCheckpoint_args deepCopy() {
-      return new addCheckpoint_args(this);
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    @Override
-    public void clear() {
-      setWorkerIdIsSet(false);
-      this.workerId = 0;
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      setLengthIsSet(false);
-      this.length = 0;
-      this.checkpointPath = null;
+      public void start(I iface, user_getUfsAddress_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.user_getUfsAddress(resultHandler);
+      }
     }
 
-    public long getWorkerId() {
-      return this.workerId;
-    }
+    public static class user_heartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_heartbeat_args, Void> {
+      public user_heartbeat() {
+        super("user_heartbeat");
+      }
 
-    public addCheckpoint_args setWorkerId(long workerId) {
-      this.workerId = workerId;
-      setWorkerIdIsSet(true);
-      return this;
-    }
+      public user_heartbeat_args getEmptyArgsInstance() {
+        return new user_heartbeat_args();
+      }
 
-    public void unsetWorkerId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WORKERID_ISSET_ID);
-    }
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            user_heartbeat_result result = new user_heartbeat_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_heartbeat_result result = new user_heartbeat_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
 
-    /** Returns true if field workerId is set (has been assigned a value) and false otherwise */
-    public boolean isSetWorkerId() {
-      return EncodingUtils.testBit(__isset_bitfield, __WORKERID_ISSET_ID);
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    public void setWorkerIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WORKERID_ISSET_ID, value);
+      public void start(I iface, user_heartbeat_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.user_heartbeat(resultHandler);
+      }
     }
 
-    public int getFileId() {
-      return this.fileId;
-    }
+    public static class user_freepath<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_freepath_args, Boolean> {
+      public user_freepath() {
+        super("user_freepath");
+      }
 
-    public addCheckpoint_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
-    }
+      public user_freepath_args getEmptyArgsInstance() {
+        return new user_freepath_args();
+      }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
-    }
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            user_freepath_result result = new user_freepath_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_freepath_result result = new user_freepath_result();
+            if (e instanceof FileDoesNotExistException) {
+                        result.e = (FileDoesNotExistException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+      public void start(I iface, user_freepath_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.user_freepath(args.fileId, args.path, args.recursive,resultHandler);
+      }
     }
 
-    public long getLength() {
-      return this.length;
-    }
+  }
 
-    public addCheckpoint_args setLength(long length) {
-      this.length = length;
-      setLengthIsSet(true);
-      return this;
-    }
+  public static class addCheckpoint_args implements org.apache.thrift.TBase<addCheckpoint_args, addCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_args");
 
-    public void unsetLength() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
-    }
+    private static final org.apache.thrift.protocol.TField WORKER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("workerId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField CHECKPOINT_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("checkpointPath", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    /** Returns true if field length is set (has been assigned a value) and false otherwise */
-    public boolean isSetLength() {
-      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new addCheckpoint_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addCheckpoint_argsTupleSchemeFactory());
     }
 
-    public void setLengthIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
-    }
+    public long workerId; // required
+    public int fileId; // required
+    public long length; // required
+    public String checkpointPath; // required
 
-    public String getCheckpointPath() {
-      return this.checkpointPath;
-    }
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      WORKER_ID((short)1, "workerId"),
+      FILE_ID((short)2, "fileId"),
+      LENGTH((short)3, "length"),
+      CHECKPOINT_PATH((short)4, "checkpointPath");
 
-    public addCheckpoint_args setCheckpointPath(String checkpointPath) {
-      this.checkpointPath = checkpointPath;
-      return this;
-    }
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
-    public void unsetCheckpointPath() {
-      this.checkpointPath = null;
-    }
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // WORKER_ID
+            return WORKER_ID;
+          case 2: // FILE_ID
+            return FILE_ID;
+          case 3: // LENGTH
+            return LENGTH;
+          case 4: // CHECKPOINT_PATH
+            return CHECKPOINT_PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __WORKERID_ISSET_ID = 0;
+    private static final int __FILEID_ISSET_ID = 1;
+    private static final int __LENGTH_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.WORKER_ID, new org.apache.thrift.meta_data.FieldMetaData("workerId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.CHECKPOINT_PATH, new org.apache.thrift.meta_data.FieldMetaData("checkpointPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_args.class, metaDataMap);
+    }
+
+    public addCheckpoint_args() {
+    }
+
+    public addCheckpoint_args(
+      long workerId,
+      int fileId,
+      long length,
+      String checkpointPath)
+    {
+      this();
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
+      this.checkpointPath = checkpointPath;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addCheckpoint_args(addCheckpoint_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.workerId = other.workerId;
+      this.fileId = other.fileId;
+      this.length = other.length;
+      if (other.isSetCheckpointPath()) {
+        this.checkpointPath = other.checkpointPath;
+      }
+    }
+
+    public addCheckpoint_args deepCopy() {
+      return new addCheckpoint_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setWorkerIdIsSet(false);
+      this.workerId = 0;
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      setLengthIsSet(false);
+      this.length = 0;
+      this.checkpointPath = null;
+    }
+
+    public long getWorkerId() {
+      return this.workerId;
+    }
+
+    public addCheckpoint_args setWorkerId(long workerId) {
+      this.workerId = workerId;
+      setWorkerIdIsSet(true);
+      return this;
+    }
+
+    public void unsetWorkerId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    /** Returns true if field workerId is set (has been assigned a value) and false otherwise */
+    public boolean isSetWorkerId() {
+      return EncodingUtils.testBit(__isset_bitfield, __WORKERID_ISSET_ID);
+    }
+
+    public void setWorkerIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WORKERID_ISSET_ID, value);
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public addCheckpoint_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public long getLength() {
+      return this.length;
+    }
+
+    public addCheckpoint_args setLength(long length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
+    public String getCheckpointPath() {
+      return this.checkpointPath;
+    }
+
+    public addCheckpoint_args setCheckpointPath(String checkpointPath) {
+      this.checkpointPath = checkpointPath;
+      return this;
+    }
+
+    public void unsetCheckpointPath() {
+      this.checkpointPath = null;
+    }
 
     /** Returns true if field checkpointPath is set (has been assigned a value) and false otherwise */
     public boolean isSetCheckpointPath() {
@@ -9909,8 +10824,7 @@ public class MasterService {
 
     private static final org.apache.thrift.protocol.TField WORKER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("workerId", org.apache.thrift.protocol.TType.I64, (short)1);
     private static final org.apache.thrift.protocol.TField USED_BYTES_ON_TIERS_FIELD_DESC = new org.apache.thrift.protocol.TField("usedBytesOnTiers", org.apache.thrift.protocol.TType.LIST, (short)2);
-    private static final org.apache.thrift.protocol.TField REMOVED_BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("removedBlockIds", org.apache.thrift.protocol.TType.LIST, (short)3);
-    private static final org.apache.thrift.protocol.TField ADDED_BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("addedBlockIds", org.apache.thrift.protocol.TType.MAP, (short)4);
+    private static final org.apache.thrift.protocol.TField BLOCK_REPORT_FIELD_DESC = new org.apache.thrift.protocol.TField("blockReport", org.apache.thrift.protocol.TType.STRING, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
@@ -9920,15 +10834,13 @@ public class MasterService {
 
     public long workerId; // required
     public List<Long> usedBytesOnTiers; // required
-    public List<Long> removedBlockIds; // required
-    public Map<Long,List<Long>> addedBlockIds; // required
+    public ByteBuffer blockReport; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       WORKER_ID((short)1, "workerId"),
       USED_BYTES_ON_TIERS((short)2, "usedBytesOnTiers"),
-      REMOVED_BLOCK_IDS((short)3, "removedBlockIds"),
-      ADDED_BLOCK_IDS((short)4, "addedBlockIds");
+      BLOCK_REPORT((short)3, "blockReport");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9947,10 +10859,8 @@ public class MasterService {
             return WORKER_ID;
           case 2: // USED_BYTES_ON_TIERS
             return USED_BYTES_ON_TIERS;
-          case 3: // REMOVED_BLOCK_IDS
-            return REMOVED_BLOCK_IDS;
-          case 4: // ADDED_BLOCK_IDS
-            return ADDED_BLOCK_IDS;
+          case 3: // BLOCK_REPORT
+            return BLOCK_REPORT;
           default:
             return null;
         }
@@ -10001,14 +10911,8 @@ public class MasterService {
       tmpMap.put(_Fields.USED_BYTES_ON_TIERS, new org.apache.thrift.meta_data.FieldMetaData("usedBytesOnTiers", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
               new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
-      tmpMap.put(_Fields.REMOVED_BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("removedBlockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
-      tmpMap.put(_Fields.ADDED_BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("addedBlockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64), 
-              new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-                  new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)))));
+      tmpMap.put(_Fields.BLOCK_REPORT, new org.apache.thrift.meta_data.FieldMetaData("blockReport", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(worker_heartbeat_args.class, metaDataMap);
     }
@@ -10019,15 +10923,13 @@ public class MasterService {
     public worker_heartbeat_args(
       long workerId,
       List<Long> usedBytesOnTiers,
-      List<Long> removedBlockIds,
-      Map<Long,List<Long>> addedBlockIds)
+      ByteBuffer blockReport)
     {
       this();
       this.workerId = workerId;
       setWorkerIdIsSet(true);
       this.usedBytesOnTiers = usedBytesOnTiers;
-      this.removedBlockIds = removedBlockIds;
-      this.addedBlockIds = addedBlockIds;
+      this.blockReport = blockReport;
     }
 
     /**
@@ -10040,24 +10942,9 @@ public class MasterService {
         List<Long> __this__usedBytesOnTiers = new ArrayList<Long>(other.usedBytesOnTiers);
         this.usedBytesOnTiers = __this__usedBytesOnTiers;
       }
-      if (other.isSetRemovedBlockIds()) {
-        List<Long> __this__removedBlockIds = new ArrayList<Long>(other.removedBlockIds);
-        this.removedBlockIds = __this__removedBlockIds;
-      }
-      if (other.isSetAddedBlockIds()) {
-        Map<Long,List<Long>> __this__addedBlockIds = new HashMap<Long,List<Long>>(other.addedBlockIds.size());
-        for (Map.Entry<Long, List<Long>> other_element : other.addedBlockIds.entrySet()) {
-
-          Long other_element_key = other_element.getKey();
-          List<Long> other_element_value = other_element.getValue();
-
-          Long __this__addedBlockIds_copy_key = other_element_key;
-
-          List<Long> __this__addedBlockIds_copy_value = new ArrayList<Long>(other_element_value);
-
-          __this__addedBlockIds.put(__this__addedBlockIds_copy_key, __this__addedBlockIds_copy_value);
-        }
-        this.addedBlockIds = __this__addedBlockIds;
+      if (other.isSetBlockReport()) {
+        this.blockReport = org.apache.thrift.TBaseHelper.copyBinary(other.blockReport);
+;
       }
     }
 
@@ -10070,8 +10957,7 @@ public class MasterService {
       setWorkerIdIsSet(false);
       this.workerId = 0;
       this.usedBytesOnTiers = null;
-      this.removedBlockIds = null;
-      this.addedBlockIds = null;
+      this.blockReport = null;
     }
 
     public long getWorkerId() {
@@ -10136,77 +11022,37 @@ public class MasterService {
       }
     }
 
-    public int getRemovedBlockIdsSize() {
-      return (this.removedBlockIds == null) ? 0 : this.removedBlockIds.size();
-    }
-
-    public java.util.Iterator<Long> getRemovedBlockIdsIterator() {
-      return (this.removedBlockIds == null) ? null : this.removedBlockIds.iterator();
+    public byte[] getBlockReport() {
+      setBlockReport(org.apache.thrift.TBaseHelper.rightSize(blockReport));
+      return blockReport == null ? null : blockReport.array();
     }
 
-    public void addToRemovedBlockIds(long elem) {
-      if (this.removedBlockIds == null) {
-        this.removedBlockIds = new ArrayList<Long>();
-      }
-      this.removedBlockIds.add(elem);
-    }
-
-    public List<Long> getRemovedBlockIds() {
-      return this.removedBlockIds;
+    public ByteBuffer bufferForBlockReport() {
+      return blockReport;
     }
 
-    public worker_heartbeat_args setRemovedBlockIds(List<Long> removedBlockIds) {
-      this.removedBlockIds = removedBlockIds;
+    public worker_heartbeat_args setBlockReport(byte[] blockReport) {
+      setBlockReport(blockReport == null ? (ByteBuffer)null : ByteBuffer.wrap(blockReport));
       return this;
     }
 
-    public void unsetRemovedBlockIds() {
-      this.removedBlockIds = null;
-    }
-
-    /** Returns true if field removedBlockIds is set (has been assigned a value) and false otherwise */
-    public boolean isSetRemovedBlockIds() {
-      return this.removedBlockIds != null;
-    }
-
-    public void setRemovedBlockIdsIsSet(boolean value) {
-      if (!value) {
-        this.removedBlockIds = null;
-      }
-    }
-
-    public int getAddedBlockIdsSize() {
-      return (this.addedBlockIds == null) ? 0 : this.addedBlockIds.size();
-    }
-
-    public void putToAddedBlockIds(long key, List<Long> val) {
-      if (this.addedBlockIds == null) {
-        this.addedBlockIds = new HashMap<Long,List<Long>>();
-      }
-      this.addedBlockIds.put(key, val);
-    }
-
-    public Map<Long,List<Long>> getAddedBlockIds() {
-      return this.addedBlockIds;
-    }
-
-    public worker_heartbeat_args setAddedBlockIds(Map<Long,List<Long>> addedBlockIds) {
-      this.addedBlockIds = addedBlockIds;
+    public worker_heartbeat_args setBlockReport(ByteBuffer blockReport) {
+      this.blockReport = blockReport;
       return this;
     }
 
-    public void unsetAddedBlockIds() {
-      this.addedBlockIds = null;
+    public void unsetBlockReport() {
+      this.blockReport = null;
     }
 
-    /** Returns true if field addedBlockIds is set (has been assigned a value) and false otherwise */
-    public boolean isSetAddedBlockIds() {
-      return this.addedBlockIds != null;
+    /** Returns true if field blockReport is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockReport() {
+      return this.blockReport != null;
     }
 
-    public void setAddedBlockIdsIsSet(boolean value) {
+    public void setBlockReportIsSet(boolean value) {
       if (!value) {
-        this.addedBlockIds = null;
+        this.blockReport = null;
       }
     }
 
@@ -10228,19 +11074,11 @@ public class MasterService {
         }
         break;
 
-      case REMOVED_BLOCK_IDS:
-        if (value == null) {
-          unsetRemovedBlockIds();
-        } else {
-          setRemovedBlockIds((List<Long>)value);
-        }
-        break;
-
-      case ADDED_BLOCK_IDS:
+      case BLOCK_REPORT:
         if (value == null) {
-          unsetAddedBlockIds();
+          unsetBlockReport();
         } else {
-          setAddedBlockIds((Map<Long,List<Long>>)value);
+          setBlockReport((ByteBuffer)value);
         }
         break;
 
@@ -10255,11 +11093,8 @@ public class MasterService {
       case USED_BYTES_ON_TIERS:
         return getUsedBytesOnTiers();
 
-      case REMOVED_BLOCK_IDS:
-        return getRemovedBlockIds();
-
-      case ADDED_BLOCK_IDS:
-        return getAddedBlockIds();
+      case BLOCK_REPORT:
+        return getBlockReport();
 
       }
       throw new IllegalStateException();
@@ -10276,10 +11111,8 @@ public class MasterService {
         return isSetWorkerId();
       case USED_BYTES_ON_TIERS:
         return isSetUsedBytesOnTiers();
-      case REMOVED_BLOCK_IDS:
-        return isSetRemovedBlockIds();
-      case ADDED_BLOCK_IDS:
-        return isSetAddedBlockIds();
+      case BLOCK_REPORT:
+        return isSetBlockReport();
       }
       throw new IllegalStateException();
     }
@@ -10315,21 +11148,12 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_removedBlockIds = true && this.isSetRemovedBlockIds();
-      boolean that_present_removedBlockIds = true && that.isSetRemovedBlockIds();
-      if (this_present_removedBlockIds || that_present_removedBlockIds) {
-        if (!(this_present_removedBlockIds && that_present_removedBlockIds))
+      boolean this_present_blockReport = true && this.isSetBlockReport();
+      boolean that_present_blockReport = true && that.isSetBlockReport();
+      if (this_present_blockReport || that_present_blockReport) {
+        if (!(this_present_blockReport && that_present_blockReport))
           return false;
-        if (!this.removedBlockIds.equals(that.removedBlockIds))
-          return false;
-      }
-
-      boolean this_present_addedBlockIds = true && this.isSetAddedBlockIds();
-      boolean that_present_addedBlockIds = true && that.isSetAddedBlockIds();
-      if (this_present_addedBlockIds || that_present_addedBlockIds) {
-        if (!(this_present_addedBlockIds && that_present_addedBlockIds))
-          return false;
-        if (!this.addedBlockIds.equals(that.addedBlockIds))
+        if (!this.blockReport.equals(that.blockReport))
           return false;
       }
 
@@ -10369,22 +11193,12 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRemovedBlockIds()).compareTo(other.isSetRemovedBlockIds());
+      lastComparison = Boolean.valueOf(isSetBlockReport()).compareTo(other.isSetBlockReport());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRemovedBlockIds()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.removedBlockIds, other.removedBlockIds);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetAddedBlockIds()).compareTo(other.isSetAddedBlockIds());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetAddedBlockIds()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.addedBlockIds, other.addedBlockIds);
+      if (isSetBlockReport()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockReport, other.blockReport);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10421,19 +11235,11 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("removedBlockIds:");
-      if (this.removedBlockIds == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.removedBlockIds);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("addedBlockIds:");
-      if (this.addedBlockIds == null) {
+      sb.append("blockReport:");
+      if (this.blockReport == null) {
         sb.append("null");
       } else {
-        sb.append(this.addedBlockIds);
+        org.apache.thrift.TBaseHelper.toString(this.blockReport, sb);
       }
       first = false;
       sb.append(")");
@@ -10507,50 +11313,10 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // REMOVED_BLOCK_IDS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list101 = iprot.readListBegin();
-                  struct.removedBlockIds = new ArrayList<Long>(_list101.size);
-                  for (int _i102 = 0; _i102 < _list101.size; ++_i102)
-                  {
-                    long _elem103;
-                    _elem103 = iprot.readI64();
-                    struct.removedBlockIds.add(_elem103);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setRemovedBlockIdsIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // ADDED_BLOCK_IDS
-              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
-                {
-                  org.apache.thrift.protocol.TMap _map104 = iprot.readMapBegin();
-                  struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map104.size);
-                  for (int _i105 = 0; _i105 < _map104.size; ++_i105)
-                  {
-                    long _key106;
-                    List<Long> _val107;
-                    _key106 = iprot.readI64();
-                    {
-                      org.apache.thrift.protocol.TList _list108 = iprot.readListBegin();
-                      _val107 = new ArrayList<Long>(_list108.size);
-                      for (int _i109 = 0; _i109 < _list108.size; ++_i109)
-                      {
-                        long _elem110;
-                        _elem110 = iprot.readI64();
-                        _val107.add(_elem110);
-                      }
-                      iprot.readListEnd();
-                    }
-                    struct.addedBlockIds.put(_key106, _val107);
-                  }
-                  iprot.readMapEnd();
-                }
-                struct.setAddedBlockIdsIsSet(true);
+            case 3: // BLOCK_REPORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.blockReport = iprot.readBinary();
+                struct.setBlockReportIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10585,36 +11351,9 @@ public class MasterService {
           }
           oprot.writeFieldEnd();
         }
-        if (struct.removedBlockIds != null) {
-          oprot.writeFieldBegin(REMOVED_BLOCK_IDS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.removedBlockIds.size()));
-            for (long _iter112 : struct.removedBlockIds)
-            {
-              oprot.writeI64(_iter112);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.addedBlockIds != null) {
-          oprot.writeFieldBegin(ADDED_BLOCK_IDS_FIELD_DESC);
-          {
-            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, struct.addedBlockIds.size()));
-            for (Map.Entry<Long, List<Long>> _iter113 : struct.addedBlockIds.entrySet())
-            {
-              oprot.writeI64(_iter113.getKey());
-              {
-                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter113.getValue().size()));
-                for (long _iter114 : _iter113.getValue())
-                {
-                  oprot.writeI64(_iter114);
-                }
-                oprot.writeListEnd();
-              }
-            }
-            oprot.writeMapEnd();
-          }
+        if (struct.blockReport != null) {
+          oprot.writeFieldBegin(BLOCK_REPORT_FIELD_DESC);
+          oprot.writeBinary(struct.blockReport);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10641,13 +11380,10 @@ public class MasterService {
         if (struct.isSetUsedBytesOnTiers()) {
           optionals.set(1);
         }
-        if (struct.isSetRemovedBlockIds()) {
+        if (struct.isSetBlockReport()) {
           optionals.set(2);
         }
-        if (struct.isSetAddedBlockIds()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetWorkerId()) {
           oprot.writeI64(struct.workerId);
         }
@@ -10660,37 +11396,15 @@ public class MasterService {
             }
           }
         }
-        if (struct.isSetRemovedBlockIds()) {
-          {
-            oprot.writeI32(struct.removedBlockIds.size());
-            for (long _iter116 : struct.removedBlockIds)
-            {
-              oprot.writeI64(_iter116);
-            }
-          }
-        }
-        if (struct.isSetAddedBlockIds()) {
-          {
-            oprot.writeI32(struct.addedBlockIds.size());
-            for (Map.Entry<Long, List<Long>> _iter117 : struct.addedBlockIds.entrySet())
-            {
-              oprot.writeI64(_iter117.getKey());
-              {
-                oprot.writeI32(_iter117.getValue().size());
-                for (long _iter118 : _iter117.getValue())
-                {
-                  oprot.writeI64(_iter118);
-                }
-              }
-            }
-          }
+        if (struct.isSetBlockReport()) {
+          oprot.writeBinary(struct.blockReport);
         }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, worker_heartbeat_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.workerId = iprot.readI64();
           struct.setWorkerIdIsSet(true);
@@ -10709,47 +11423,15 @@ public class MasterService {
           struct.setUsedBytesOnTiersIsSet(true);
         }
         if (incoming.get(2)) {
-          {
-            org.apache.thrift.protocol.TList _list122 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            struct.removedBlockIds = new ArrayList<Long>(_list122.size);
-            for (int _i123 = 0; _i123 < _list122.size; ++_i123)
-            {
-              long _elem124;
-              _elem124 = iprot.readI64();
-              struct.removedBlockIds.add(_elem124);
-            }
-          }
-          struct.setRemovedBlockIdsIsSet(true);
-        }
-        if (incoming.get(3)) {
-          {
-            org.apache.thrift.protocol.TMap _map125 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
-            struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map125.size);
-            for (int _i126 = 0; _i126 < _map125.size; ++_i126)
-            {
-              long _key127;
-              List<Long> _val128;
-              _key127 = iprot.readI64();
-              {
-                org.apache.thrift.protocol.TList _list129 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-                _val128 = new ArrayList<Long>(_list129.size);
-                for (int _i130 = 0; _i130 < _list129.size; ++_i130)
-                {
-                  long _elem131;
-                  _elem131 = iprot.readI64();
-                  _val128.add(_elem131);
-                }
-              }
-              struct.addedBlockIds.put(_key127, _val128);
-            }
-          }
-          struct.setAddedBlockIdsIsSet(true);
+          struct.blockReport = iprot.readBinary();
+          struct.setBlockReportIsSet(true);
         }
       }
     }
 
   }
 
+
   public static class worker_heartbeat_result implements org.apache.thrift.TBase<worker_heartbeat_result, worker_heartbeat_result._Fields>, java.io.Serializable, Cloneable, Comparable<worker_heartbeat_result>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("worker_heartbeat_result");
 
@@ -14032,222 +14714,5809 @@ public class MasterService {
       if (this.data == null) {
         this.data = new ArrayList<ByteBuffer>();
       }
-      this.data.add(elem);
-    }
-
-    public List<ByteBuffer> getData() {
-      return this.data;
+      this.data.add(elem);
+    }
+
+    public List<ByteBuffer> getData() {
+      return this.data;
+    }
+
+    public user_createDependency_args setData(List<ByteBuffer> data) {
+      this.data = data;
+      return this;
+    }
+
+    public void unsetData() {
+      this.data = null;
+    }
+
+    /** Returns true if field data is set (has been assigned a value) and false otherwise */
+    public boolean isSetData() {
+      return this.data != null;
+    }
+
+    public void setDataIsSet(boolean value) {
+      if (!value) {
+        this.data = null;
+      }
+    }
+
+    public String getComment() {
+      return this.comment;
+    }
+
+    public user_createDependency_args setComment(String comment) {
+      this.comment = comment;
+      return this;
+    }
+
+    public void unsetComment() {
+      this.comment = null;
+    }
+
+    /** Returns true if field comment is set (has been assigned a value) and false otherwise */
+    public boolean isSetComment() {
+      return this.comment != null;
+    }
+
+    public void setCommentIsSet(boolean value) {
+      if (!value) {
+        this.comment = null;
+      }
+    }
+
+    public String getFramework() {
+      return this.framework;
+    }
+
+    public user_createDependency_args setFramework(String framework) {
+      this.framework = framework;
+      return this;
+    }
+
+    public void unsetFramework() {
+      this.framework = null;
+    }
+
+    /** Returns true if field framework is set (has been assigned a value) and false otherwise */
+    public boolean isSetFramework() {
+      return this.framework != null;
+    }
+
+    public void setFrameworkIsSet(boolean value) {
+      if (!value) {
+        this.framework = null;
+      }
+    }
+
+    public String getFrameworkVersion() {
+      return this.frameworkVersion;
+    }
+
+    public user_createDependency_args setFrameworkVersion(String frameworkVersion) {
+      this.frameworkVersion = frameworkVersion;
+      return this;
+    }
+
+    public void unsetFrameworkVersion() {
+      this.frameworkVersion = null;
+    }
+
+    /** Returns true if field frameworkVersion is set (has been assigned a value) and false otherwise */
+    public boolean isSetFrameworkVersion() {
+      return this.frameworkVersion != null;
+    }
+
+    public void setFrameworkVersionIsSet(boolean value) {
+      if (!value) {
+        this.frameworkVersion = null;
+      }
+    }
+
+    public int getDependencyType() {
+      return this.dependencyType;
+    }
+
+    public user_createDependency_args setDependencyType(int dependencyType) {
+      this.dependencyType = dependencyType;
+      setDependencyTypeIsSet(true);
+      return this;
+    }
+
+    public void unsetDependencyType() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID);
+    }
+
+    /** Returns true if field dependencyType is set (has been assigned a value) and false otherwise */
+    public boolean isSetDependencyType() {
+      return EncodingUtils.testBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID);
+    }
+
+    public void setDependencyTypeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID, value);
+    }
+
+    public long getChildrenBlockSizeByte() {
+      return this.childrenBlockSizeByte;
+    }
+
+    public user_createDependency_args setChildrenBlockSizeByte(long childrenBlockSizeByte) {
+      this.childrenBlockSizeByte = childrenBlockSizeByte;
+      setChildrenBlockSizeByteIsSet(true);
+      return this;
+    }
+
+    public void unsetChildrenBlockSizeByte() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    /** Returns true if field childrenBlockSizeByte is set (has been assigned a value) and false otherwise */
+    public boolean isSetChildrenBlockSizeByte() {
+      return EncodingUtils.testBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    public void setChildrenBlockSizeByteIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PARENTS:
+        if (value == null) {
+          unsetParents();
+        } else {
+          setParents((List<String>)value);
+        }
+        break;
+
+      case CHILDREN:
+        if (value == null) {
+          unsetChildren();
+        } else {
+          setChildren((List<String>)value);
+        }
+        break;
+
+      case COMMAND_PREFIX:
+        if (value == null) {
+          unsetCommandPrefix();
+        } else {
+          setCommandPrefix((String)value);
+        }
+        break;
+
+      case DATA:
+        if (value == null) {
+          unsetData();
+        } else {
+          setData((List<ByteBuffer>)value);
+        }
+        break;
+
+      case COMMENT:
+        if (value == null) {
+          unsetComment();
+        } else {
+          setComment((String)value);
+        }
+        break;
+
+      case FRAMEWORK:
+        if (value == null) {
+          unsetFramework();
+        } else {
+          setFramework((String)value);
+        }
+        break;
+
+      case FRAMEWORK_VERSION:
+        if (value == null) {
+          unsetFrameworkVersion();
+        } else {
+          setFrameworkVersion((String)value);
+        }
+        break;
+
+      case DEPENDENCY_TYPE:
+        if (value == null) {
+          unsetDependencyType();
+        } else {
+          setDependencyType((Integer)value);
+        }
+        break;
+
+      case CHILDREN_BLOCK_SIZE_BYTE:
+        if (value == null) {
+          unsetChildrenBlockSizeByte();
+        } else {
+          setChildrenBlockSizeByte((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PARENTS:
+        return getParents();
+
+      case CHILDREN:
+        return getChildren();
+
+      case COMMAND_PREFIX:
+        return getCommandPrefix();
+
+      case DATA:
+        return getData();
+
+      case COMMENT:
+        return getComment();
+
+      case FRAMEWORK:
+        return getFramework();
+
+      case FRAMEWORK_VERSION:
+        return getFrameworkVersion();
+
+      case DEPENDENCY_TYPE:
+        return Integer.valueOf(getDependencyType());
+
+      case CHILDREN_BLOCK_SIZE_BYTE:
+        return Long.valueOf(getChildrenBlockSizeByte());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PARENTS:
+        return isSetParents();
+      case CHILDREN:
+        return isSetChildren();
+      case COMMAND_PREFIX:
+        return isSetCommandPrefix();
+      case DATA:
+        return isSetData();
+      case COMMENT:
+        return isSetComment();
+      case FRAMEWORK:
+        return isSetFramework();
+      case FRAMEWORK_VERSION:
+        return isSetFrameworkVersion();
+      case DEPENDENCY_TYPE:
+        return isSetDependencyType();
+      case CHILDREN_BLOCK_SIZE_BYTE:
+        return isSetChildrenBlockSizeByte();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createDependency_args)
+        return this.equals((user_createDependency_args)that);
+      return false;
+    }
+
+    public boolean equals(user_createDependency_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_parents = true && this.isSetParents();
+      boolean that_present_parents = true && that.isSetParents();
+      if (this_present_parents || that_present_parents) {
+        if (!(this_present_parents && that_present_parents))
+          return false;
+        if (!this.parents.equals(that.parents))
+          return false;
+      }
+
+      boolean this_present_children = true && this.isSetChildren();
+      boolean that_present_children = true && that.isSetChildren();
+      if (this_present_children || that_present_children) {
+        if (!(this_present_children && that_present_children))
+          return false;
+        if (!this.children.equals(that.children))
+          return false;
+      }
+
+      boolean this_present_commandPrefix = true && this.isSetCommandPrefix();
+      boolean that_present_commandPrefix = true && that.isSetCommandPrefix();
+      if (this_present_commandPrefix || that_present_commandPrefix) {
+        if (!(this_present_commandPrefix && that_present_commandPrefix))
+          return false;
+        if (!this.commandPrefix.equals(that.commandPrefix))
+          return false;
+      }
+
+      boolean this_present_data = true && this.isSetData();
+      boolean that_present_data = true && that.isSetData();
+      if (this_present_data || that_present_data) {
+        if (!(this_present_data && that_present_data))
+          return false;
+        if (!this.data.equals(that.data))
+          return false;
+      }
+
+      boolean this_present_comment = true && this.isSetComment();
+      boolean that_present_comment = true && that.isSetComment();
+      if (this_present_comment || that_present_comment) {
+        if (!(this_present_comment && that_present_comment))
+          return false;
+        if (!this.comment.equals(that.comment))
+          return false;
+      }
+
+      boolean this_present_framework = true && this.isSetFramework();
+      boolean that_present_framework = true && that.isSetFramework();
+      if (this_present_framework || that_present_framework) {
+        if (!(this_present_framework && that_present_framework))
+          return false;
+        if (!this.framework.equals(that.framework))
+          return false;
+      }
+
+      boolean this_present_frameworkVersion = true && this.isSetFrameworkVersion();
+      boolean that_present_frameworkVersion = true && that.isSetFrameworkVersion();
+      if (this_present_frameworkVersion || that_present_frameworkVersion) {
+        if (!(this_present_frameworkVersion && that_present_frameworkVersion))
+          return false;
+        if (!this.frameworkVersion.equals(that.frameworkVersion))
+          return false;
+      }
+
+      boolean this_present_dependencyType = true;
+      boolean that_present_dependencyType = true;
+      if (this_present_dependencyType || that_present_dependencyType) {
+        if (!(this_present_dependencyType && that_present_dependencyType))
+          return false;
+        if (this.dependencyType != that.dependencyType)
+          return false;
+      }
+
+      boolean this_present_childrenBlockSizeByte = true;
+      boolean that_present_childrenBlockSizeByte = true;
+      if (this_present_childrenBlockSizeByte || that_present_childrenBlockSizeByte) {
+        if (!(this_present_childrenBlockSizeByte && that_present_childrenBlockSizeByte))
+          return false;
+        if (this.childrenBlockSizeByte != that.childrenBlockSizeByte)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createDependency_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetParents()).compareTo(other.isSetParents());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParents()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.parents, other.parents);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetChildren()).compareTo(other.isSetChildren());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChildren()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.children, other.children);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCommandPrefix()).compareTo(other.isSetCommandPrefix());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCommandPrefix()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.commandPrefix, other.commandPrefix);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetComment()).compareTo(other.isSetComment());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetComment()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.comment, other.comment);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFramework()).compareTo(other.isSetFramework());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFramework()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.framework, other.framework);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFrameworkVersion()).compareTo(other.isSetFrameworkVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFrameworkVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.frameworkVersion, other.frameworkVersion);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDependencyType()).compareTo(other.isSetDependencyType());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDependencyType()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dependencyType, other.dependencyType);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetChildrenBlockSizeByte()).compareTo(other.isSetChildrenBlockSizeByte());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChildrenBlockSizeByte()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childrenBlockSizeByte, other.childrenBlockSizeByte);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createDependency_args(");
+      boolean first = true;
+
+      sb.append("parents:");
+      if (this.parents == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.parents);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("children:");
+      if (this.children == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.children);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("commandPrefix:");
+      if (this.commandPrefix == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.commandPrefix);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("data:");
+      if (this.data == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.data);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("comment:");
+      if (this.comment == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.comment);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("framework:");
+      if (this.framework == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.framework);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("frameworkVersion:");
+      if (this.frameworkVersion == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.frameworkVersion);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("dependencyType:");
+      sb.append(this.dependencyType);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("childrenBlockSizeByte:");
+      sb.append(this.childrenBlockSizeByte);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createDependency_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createDependency_argsStandardScheme getScheme() {
+        return new user_createDependency_argsStandardScheme();
+      }
+    }
+
+    private static class user_createDependency_argsStandardScheme extends StandardScheme<user_createDependency_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createDependency_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PARENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list148 = iprot.readListBegin();
+                  struct.parents = new ArrayList<String>(_list148.size);
+                  for (int _i149 = 0; _i149 < _list148.size; ++_i149)
+                  {
+                    String _elem150;
+                    _elem150 = iprot.readString();
+                    struct.parents.add(_elem150);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setParentsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHILDREN
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list151 = iprot.readListBegin();
+                  struct.children = new ArrayList<String>(_list151.size);
+                  for (int _i152 = 0; _i152 < _list151.size; ++_i152)
+                  {
+                    String _elem153;
+                    _elem153 = iprot.readString();
+                    struct.children.add(_elem153);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setChildrenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // COMMAND_PREFIX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.commandPrefix = iprot.readString();
+                struct.setCommandPrefixIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list154 = iprot.readListBegin();
+                  struct.data = new ArrayList<ByteBuffer>(_list154.size);
+                  for (int _i155 = 0; _i155 < _list154.size; ++_i155)
+                  {
+                    ByteBuffer _elem156;
+                    _elem156 = iprot.readBinary();
+                    struct.data.add(_elem156);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setDataIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // COMMENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.comment = iprot.readString();
+                struct.setCommentIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // FRAMEWORK
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.framework = iprot.readString();
+                struct.setFrameworkIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 7: // FRAMEWORK_VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.frameworkVersion = iprot.readString();
+                struct.setFrameworkVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 8: // DEPENDENCY_TYPE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.dependencyType = iprot.readI32();
+                struct.setDependencyTypeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // CHILDREN_BLOCK_SIZE_BYTE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.childrenBlockSizeByte = iprot.readI64();
+                struct.setChildrenBlockSizeByteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createDependency_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.parents != null) {
+          oprot.writeFieldBegin(PARENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.parents.size()));
+            for (String _iter157 : struct.parents)
+            {
+              oprot.writeString(_iter157);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.children != null) {
+          oprot.writeFieldBegin(CHILDREN_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.children.size()));
+            for (String _iter158 : struct.children)
+            {
+              oprot.writeString(_iter158);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.commandPrefix != null) {
+          oprot.writeFieldBegin(COMMAND_PREFIX_FIELD_DESC);
+          oprot.writeString(struct.commandPrefix);
+          oprot.writeFieldEnd();
+        }
+        if (struct.data != null) {
+          oprot.writeFieldBegin(DATA_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.data.size()));
+            for (ByteBuffer _iter159 : struct.data)
+            {
+              oprot.writeBinary(_iter159);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.comment != null) {
+          oprot.writeFieldBegin(COMMENT_FIELD_DESC);
+          oprot.writeString(struct.comment);
+          oprot.writeFieldEnd();
+        }
+        if (struct.framework != null) {
+          oprot.writeFieldBegin(FRAMEWORK_FIELD_DESC);
+          oprot.writeString(struct.framework);
+          oprot.writeFieldEnd();
+        }
+        if (struct.frameworkVersion != null) {
+          oprot.writeFieldBegin(FRAMEWORK_VERSION_FIELD_DESC);
+          oprot.writeString(struct.frameworkVersion);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(DEPENDENCY_TYPE_FIELD_DESC);
+        oprot.writeI32(struct.dependencyType);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(CHILDREN_BLOCK_SIZE_BYTE_FIELD_DESC);
+        oprot.writeI64(struct.childrenBlockSizeByte);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createDependency_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createDependency_argsTupleScheme getScheme() {
+        return new user_createDependency_argsTupleScheme();
+      }
+    }
+
+    private static class user_createDependency_argsTupleScheme extends TupleScheme<user_createDependency_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createDependency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetParents()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChildren()) {
+          optionals.set(1);
+        }
+        if (struct.isSetCommandPrefix()) {
+          optionals.set(2);
+        }
+        if (struct.isSetData()) {
+          optionals.set(3);
+        }
+        if (struct.isSetComment()) {
+          optionals.set(4);
+        }
+        if (struct.isSetFramework()) {
+          optionals.set(5);
+        }
+        if (struct.isSetFrameworkVersion()) {
+          optionals.set(6);
+        }
+        if (struct.isSetDependencyType()) {
+          optionals.set(7);
+        }
+        if (struct.isSetChildrenBlockSizeByte()) {
+          optionals.set(8);
+        }
+        oprot.writeBitSet(optionals, 9);
+        if (struct.isSetParents()) {
+          {
+            oprot.writeI32(struct.parents.size());
+            for (String _iter160 : struct.parents)
+            {
+              oprot.writeString(_iter160);
+            }
+          }
+        }
+        if (struct.isSetChildren()) {
+          {
+            oprot.writeI32(struct.children.size());
+            for (String _iter161 : struct.children)
+            {
+              oprot.writeString(_iter161);
+            }
+          }
+        }
+        if (struct.isSetCommandPrefix()) {
+          oprot.writeString(struct.commandPrefix);
+        }
+        if (struct.isSetData()) {
+          {
+            oprot.writeI32(struct.data.size());
+            for (ByteBuffer _iter162 : struct.data)
+            {
+              oprot.writeBinary(_iter162);
+            }
+          }
+        }
+        if (struct.isSetComment()) {
+          oprot.writeString(struct.comment);
+        }
+        if (struct.isSetFramework()) {
+          oprot.writeString(struct.framework);
+        }
+        if (struct.isSetFrameworkVersion()) {
+          oprot.writeString(struct.frameworkVersion);
+        }
+        if (struct.isSetDependencyType()) {
+          oprot.writeI32(struct.dependencyType);
+        }
+        if (struct.isSetChildrenBlockSizeByte()) {
+          oprot.writeI64(struct.childrenBlockSizeByte);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createDependency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(9);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list163 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.parents = new ArrayList<String>(_list163.size);
+            for (int _i164 = 0; _i164 < _list163.size; ++_i164)
+            {
+              String _elem165;
+              _elem165 = iprot.readString();
+              struct.parents.add(_elem165);
+            }
+          }
+          struct.setParentsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list166 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.children = new ArrayList<String>(_list166.size);
+            for (int _i167 = 0; _i167 < _list166.size; ++_i167)
+            {
+              String _elem168;
+              _elem168 = iprot.readString();
+              struct.children.add(_elem168);
+            }
+          }
+          struct.setChildrenIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.commandPrefix = iprot.readString();
+          struct.setCommandPrefixIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list169 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.data = new ArrayList<ByteBuffer>(_list169.size);
+            for (int _i170 = 0; _i170 < _list169.size; ++_i170)
+            {
+              ByteBuffer _elem171;
+              _elem171 = iprot.readBinary();
+              struct.data.add(_elem171);
+            }
+          }
+          struct.setDataIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.comment = iprot.readString();
+          struct.setCommentIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.framework = iprot.readString();
+          struct.setFrameworkIsSet(true);
+        }
+        if (incoming.get(6)) {
+          struct.frameworkVersion = iprot.readString();
+          struct.setFrameworkVersionIsSet(true);
+        }
+        if (incoming.get(7)) {
+          struct.dependencyType = iprot.readI32();
+          struct.setDependencyTypeIsSet(true);
+        }
+        if (incoming.get(8)) {
+          struct.childrenBlockSizeByte = iprot.readI64();
+          struct.setChildrenBlockSizeByteIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createDependency_result implements org.apache.thrift.TBase<user_createDependency_result, user_createDependency_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createDependency_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createDependency_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_A_FIELD_DESC = new org.apache.thrift.protocol.TField("eA", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createDependency_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createDependency_resultTupleSchemeFactory());
+    }
+
+    public int success; // required
+    public InvalidPathException eI; // required
+    public FileDoesNotExistException eF; // required
+    public FileAlreadyExistException eA; // required
+    public BlockInfoException eB; // required
+    public TachyonException eT; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E_I((short)1, "eI"),
+      E_F((short)2, "eF"),
+      E_A((short)3, "eA"),
+      E_B((short)4, "eB"),
+      E_T((short)5, "eT");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E_I
+            return E_I;
+          case 2: // E_F
+            return E_F;
+          case 3: // E_A
+            return E_A;
+          case 4: // E_B
+            return E_B;
+          case 5: // E_T
+            return E_T;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_A, new org.apache.thrift.meta_data.FieldMetaData("eA", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createDependency_result.class, metaDataMap);
+    }
+
+    public user_createDependency_result() {
+    }
+
+    public user_createDependency_result(
+      int success,
+      InvalidPathException eI,
+      FileDoesNotExistException eF,
+      FileAlreadyExistException eA,
+      BlockInfoException eB,
+      TachyonException eT)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.eI = eI;
+      this.eF = eF;
+      this.eA = eA;
+      this.eB = eB;
+      this.eT = eT;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createDependency_result(user_createDependency_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+      if (other.isSetEF()) {
+        this.eF = new FileDoesNotExistException(other.eF);
+      }
+      if (other.isSetEA()) {
+        this.eA = new FileAlreadyExistException(other.eA);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
+      }
+      if (other.isSetET()) {
+        this.eT = new TachyonException(other.eT);
+      }
+    }
+
+    public user_createDependency_result deepCopy() {
+      return new user_createDependency_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.eI = null;
+      this.eF = null;
+      this.eA = null;
+      this.eB = null;
+      this.eT = null;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public user_createDependency_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public InvalidPathException getEI() {
+      return this.eI;
+    }
+
+    public user_createDependency_result setEI(InvalidPathException eI) {
+      this.eI = eI;
+      return this;
+    }
+
+    public void unsetEI() {
+      this.eI = null;
+    }
+
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
+    }
+
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
+    }
+
+    public FileDoesNotExistException getEF() {
+      return this.eF;
+    }
+
+    public user_createDependency_result setEF(FileDoesNotExistException eF) {
+      this.eF = eF;
+      return this;
+    }
+
+    public void unsetEF() {
+      this.eF = null;
+    }
+
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
+    }
+
+    public void setEFIsSet(boolean value) {
+      if (!value) {
+        this.eF = null;
+      }
+    }
+
+    public FileAlreadyExistException getEA() {
+      return this.eA;
+    }
+
+    public user_createDependency_result setEA(FileAlreadyExistException eA) {
+      this.eA = eA;
+      return this;
+    }
+
+    public void unsetEA() {
+      this.eA = null;
+    }
+
+    /** Returns true if field eA is set (has been assigned a value) and false otherwise */
+    public boolean isSetEA() {
+      return this.eA != null;
+    }
+
+    public void setEAIsSet(boolean value) {
+      if (!value) {
+        this.eA = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public user_createDependency_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
+      }
+    }
+
+    public TachyonException getET() {
+      return this.eT;
+    }
+
+    public user_createDependency_result setET(TachyonException eT) {
+      this.eT = eT;
+      return this;
+    }
+
+    public void unsetET() {
+      this.eT = null;
+    }
+
+    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
+    public boolean isSetET() {
+      return this.eT != null;
+    }
+
+    public void setETIsSet(boolean value) {
+      if (!value) {
+        this.eT = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
+        }
+        break;
+
+      case E_F:
+        if (value == null) {
+          unsetEF();
+        } else {
+          setEF((FileDoesNotExistException)value);
+        }
+        break;
+
+      case E_A:
+        if (value == null) {
+          unsetEA();
+        } else {
+          setEA((FileAlreadyExistException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
+        }
+        break;
+
+      case E_T:
+        if (value == null) {
+          unsetET();
+        } else {
+          setET((TachyonException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(getSuccess());
+
+      case E_I:
+        return getEI();
+
+      case E_F:
+        return getEF();
+
+      case E_A:
+        return getEA();
+
+      case E_B:
+        return getEB();
+
+      case E_T:
+        return getET();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E_I:
+        return isSetEI();
+      case E_F:
+        return isSetEF();
+      case E_A:
+        return isSetEA();
+      case E_B:
+        return isSetEB();
+      case E_T:
+        return isSetET();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createDependency_result)
+        return this.equals((user_createDependency_result)that);
+      return false;
+    }
+
+    public boolean equals(user_createDependency_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
+          return false;
+      }
+
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
+          return false;
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
+      boolean this_present_eA = true && this.isSetEA();
+      boolean that_present_eA = true && that.isSetEA();
+      if (this_present_eA || that_present_eA) {
+        if (!(this_present_eA && that_present_eA))
+          return false;
+        if (!this.eA.equals(that.eA))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
+          return false;
+      }
+
+      boolean this_present_eT = true && this.isSetET();
+      boolean that_present_eT = true && that.isSetET();
+      if (this_present_eT || that_present_eT) {
+        if (!(this_present_eT && that_present_eT))
+          return false;
+        if (!this.eT.equals(that.eT))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createDependency_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEA()).compareTo(other.isSetEA());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEA()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eA, other.eA);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetET()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createDependency_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eF:");
+      if (this.eF == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eF);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eA:");
+      if (this.eA == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eA);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eT:");
+      if (this.eT == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eT);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createDependency_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createDependency_resultStandardScheme getScheme() {
+        return new user_createDependency_resultStandardScheme();
+      }
+    }
+
+    private static class user_createDependency_resultStandardScheme extends StandardScheme<user_createDependency_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createDependency_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_F
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eF = new FileDoesNotExistException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E_A
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eA = new FileAlreadyExistException();
+                struct.eA.read(iprot);
+                struct.setEAIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // E_T
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eT = new TachyonException();
+                struct.eT.read(iprot);
+                struct.setETIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createDependency_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eA != null) {
+          oprot.writeFieldBegin(E_A_FIELD_DESC);
+          struct.eA.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eT != null) {
+          oprot.writeFieldBegin(E_T_FIELD_DESC);
+          struct.eT.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createDependency_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createDependency_resultTupleScheme getScheme() {
+        return new user_createDependency_resultTupleScheme();
+      }
+    }
+
+    private static class user_createDependency_resultTupleScheme extends TupleScheme<user_createDependency_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createDependency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEI()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEF()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEA()) {
+          optionals.set(3);
+        }
+        if (struct.isSetEB()) {
+          optionals.set(4);
+        }
+        if (struct.isSetET()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
+        }
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
+        }
+        if (struct.isSetEA()) {
+          struct.eA.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
+        }
+        if (struct.isSetET()) {
+          struct.eT.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createDependency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(6);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eF = new FileDoesNotExistException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.eA = new FileAlreadyExistException();
+          struct.eA.read(iprot);
+          struct.setEAIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.eT = new TachyonException();
+          struct.eT.read(iprot);
+          struct.setETIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_getClientDependencyInfo_args implements org.apache.thrift.TBase<user_getClientDependencyInfo_args, user_getClientDependencyInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientDependencyInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientDependencyInfo_args");
+
+    private static final org.apache.thrift.protocol.TField DEPENDENCY_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("dependencyId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_getClientDependencyInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientDependencyInfo_argsTupleSchemeFactory());
+    }
+
+    public int dependencyId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DEPENDENCY_ID((short)1, "dependencyId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DEPENDENCY_ID
+            return DEPENDENCY_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DEPENDENCYID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DEPENDENCY_ID, new org.apache.thrift.meta_data.FieldMetaData("dependencyId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientDependencyInfo_args.class, metaDataMap);
+    }
+
+    public user_getClientDependencyInfo_args() {
+    }
+
+    public user_getClientDependencyInfo_args(
+      int dependencyId)
+    {
+      this();
+      this.dependencyId = dependencyId;
+      setDependencyIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getClientDependencyInfo_args(user_getClientDependencyInfo_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.dependencyId = other.dependencyId;
+    }
+
+    public user_getClientDependencyInfo_args deepCopy() {
+      return new user_getClientDependencyInfo_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setDependencyIdIsSet(false);
+      this.dependencyId = 0;
+    }
+
+    public int getDependencyId() {
+      return this.dependencyId;
+    }
+
+    public user_getClientDependencyInfo_args setDependencyId(int dependencyId) {
+      this.dependencyId = dependencyId;
+      setDependencyIdIsSet(true);
+      return this;
+    }
+
+    public void unsetDependencyId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID);
+    }
+
+    /** Returns true if field dependencyId is set (has been assigned a value) and false otherwise */
+    public boolean isSetDependencyId() {
+      return EncodingUtils.testBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID);
+    }
+
+    public void setDependencyIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DEPENDENCY_ID:
+        if (value == null) {
+          unsetDependencyId();
+        } else {
+          setDependencyId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DEPENDENCY_ID:
+        return Integer.valueOf(getDependencyId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DEPENDENCY_ID:
+        return isSetDependencyId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getClientDependencyInfo_args)
+        return this.equals((user_getClientDependencyInfo_args)that);
+      return false;
+    }
+
+    public boolean equals(user_getClientDependencyInfo_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_dependencyId = true;
+      boolean that_present_dependencyId = true;
+      if (this_present_dependencyId || that_present_dependencyId) {
+        if (!(this_present_dependencyId && that_present_dependencyId))
+          return false;
+        if (this.dependencyId != that.dependencyId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_getClientDependencyInfo_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetDependencyId()).compareTo(other.isSetDependencyId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDependencyId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dependencyId, other.dependencyId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_getClientDependencyInfo_args(");
+      boolean first = true;
+
+      sb.append("dependencyId:");
+      sb.append(this.dependencyId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_getClientDependencyInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getClientDependencyInfo_argsStandardScheme getScheme() {
+        return new user_getClientDependencyInfo_argsStandardScheme();
+      }
+    }
+
+    private static class user_getClientDependencyInfo_argsStandardScheme extends StandardScheme<user_getClientDependencyInfo_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DEPENDENCY_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.dependencyId = iprot.readI32();
+                struct.setDependencyIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DEPENDENCY_ID_FIELD_DESC);
+        oprot.writeI32(struct.dependencyId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_getClientDependencyInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getClientDependencyInfo_argsTupleScheme getScheme() {
+        return new user_getClientDependencyInfo_argsTupleScheme();
+      }
+    }
+
+    private static class user_getClientDependencyInfo_argsTupleScheme extends TupleScheme<user_getClientDependencyInfo_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetDependencyId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetDependencyId()) {
+          oprot.writeI32(struct.dependencyId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.dependencyId = iprot.readI32();
+          struct.setDependencyIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_getClientDependencyInfo_result implements org.apache.thrift.TBase<user_getClientDependencyInfo_result, user_getClientDependencyInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientDependencyInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientDependencyInfo_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_getClientDependencyInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientDependencyInfo_resultTupleSchemeFactory());
+    }
+
+    public ClientDependencyInfo success; // required
+    public DependencyDoesNotExistException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientDependencyInfo.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientDependencyInfo_result.class, metaDataMap);
+    }
+
+    public user_getClientDependencyInfo_result() {
+    }
+
+    public user_getClientDependencyInfo_result(
+      ClientDependencyInfo success,
+      DependencyDoesNotExistException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getClientDependencyInfo_result(user_getClientDependencyInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientDependencyInfo(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new DependencyDoesNotExistException(other.e);
+      }
+    }
+
+    public user_getClientDependencyInfo_result deepCopy() {
+      return new user_getClientDependencyInfo_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public ClientDependencyInfo getSuccess() {
+      return this.success;
+    }
+
+    public user_getClientDependencyInfo_result setSuccess(ClientDependencyInfo success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public DependencyDoesNotExistException getE() {
+      return this.e;
+    }
+
+    public user_getClientDependencyInfo_result setE(DependencyDoesNotExistException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ClientDependencyInfo)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((DependencyDoesNotExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getClientDependencyInfo_result)
+        return this.equals((user_getClientDependencyInfo_result)that);
+      return false;
+    }
+
+    public boolean equals(user_getClientDependencyInfo_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_getClientDependencyInfo_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_getClientDependencyInfo_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_getClientDependencyInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getClientDependencyInfo_resultStandardScheme getScheme() {
+        return new user_getClientDependencyInfo_resultStandardScheme();
+      }
+    }
+
+    private static class user_getClientDependencyInfo_resultStandardScheme extends StandardScheme<user_getClientDependencyInfo_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ClientDependencyInfo();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new DependencyDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_getClientDependencyInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getClientDependencyInfo_resultTupleScheme getScheme() {
+        return new user_getClientDependencyInfo_resultTupleScheme();
+      }
+    }
+
+    private static class user_getClientDependencyInfo_resultTupleScheme extends TupleScheme<user_getClientDependencyInfo_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new ClientDependencyInfo();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new DependencyDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_reportLostFile_args implements org.apache.thrift.TBase<user_reportLostFile_args, user_reportLostFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_reportLostFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_reportLostFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_reportLostFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_reportLostFile_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_reportLostFile_args.class, metaDataMap);
+    }
+
+    public user_reportLostFile_args() {
+    }
+
+    public user_reportLostFile_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_reportLostFile_args(user_reportLostFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public user_reportLostFile_args deepCopy() {
+      return new user_reportLostFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public user_reportLostFile_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_reportLostFile_args)
+        return this.equals((user_reportLostFile_args)that);
+      return false;
+    }
+
+    public boolean equals(user_reportLostFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_reportLostFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_reportLostFile_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_reportLostFile_argsStandardSchemeFactory implements SchemeFactory {
+      public user_reportLostFile_argsStandardScheme getScheme() {
+        return new user_reportLostFile_argsStandardScheme();
+      }
+    }
+
+    private static class user_reportLostFile_argsStandardScheme extends StandardScheme<user_reportLostFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_reportLostFile_argsTupleSchemeFactory implements SchemeFactory {
+      public user_reportLostFile_argsTupleScheme getScheme() {
+        return new user_reportLostFile_argsTupleScheme();
+      }
+    }
+
+    private static class user_reportLostFile_argsTupleScheme extends TupleScheme<user_reportLostFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_reportLostFile_result implements org.apache.thrift.TBase<user_reportLostFile_result, user_reportLostFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_reportLostFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_reportLostFile_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_reportLostFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_reportLostFile_resultTupleSchemeFactory());
+    }
+
+    public FileDoesNotExistException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_reportLostFile_result.class, metaDataMap);
+    }
+
+    public user_reportLostFile_result() {
+    }
+
+    public user_reportLostFile_result(
+      FileDoesNotExistException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_reportLostFile_result(user_reportLostFile_result other) {
+      if (other.isSetE()) {
+        this.e = new FileDoesNotExistException(other.e);
+      }
+    }
+
+    public user_reportLostFile_result deepCopy() {
+      return new user_reportLostFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public FileDoesNotExistException getE() {
+      return this.e;
+    }
+
+    public user_reportLostFile_result setE(FileDoesNotExistException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((FileDoesNotExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_reportLostFile_result)
+        return this.equals((user_reportLostFile_result)that);
+      return false;
+    }
+
+    public boolean equals(user_reportLostFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_reportLostFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_reportLostFile_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_reportLostFile_resultStandardSchemeFactory implements SchemeFactory {
+      public user_reportLostFile_resultStandardScheme getScheme() {
+        return new user_reportLostFile_resultStandardScheme();
+      }
+    }
+
+    private static class user_reportLostFile_resultStandardScheme extends StandardScheme<user_reportLostFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new FileDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_reportLostFile_resultTupleSchemeFactory implements SchemeFactory {
+      public user_reportLostFile_resultTupleScheme getScheme() {
+        return new user_reportLostFile_resultTupleScheme();
+      }
+    }
+
+    private static class user_reportLostFile_resultTupleScheme extends TupleScheme<user_reportLostFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new FileDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_requestFilesInDependency_args implements org.apache.thrift.TBase<user_requestFilesInDependency_args, user_requestFilesInDependency_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_requestFilesInDependency_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_requestFilesInDependency_args");
+
+    private static final org.apache.thrift.protocol.TField DEP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("depId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_requestFilesInDependency_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_requestFilesInDependency_argsTupleSchemeFactory());
+    }
+
+    public int depId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      DEP_ID((short)1, "depId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // DEP_ID
+            return DEP_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __DEPID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.DEP_ID, new org.apache.thrift.meta_data.FieldMetaData("depId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_requestFilesInDependency_args.class, metaDataMap);
+    }
+
+    public user_requestFilesInDependency_args() {
+    }
+
+    public user_requestFilesInDependency_args(
+      int depId)
+    {
+      this();
+      this.depId = depId;
+      setDepIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_requestFilesInDependency_args(user_requestFilesInDependency_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.depId = other.depId;
+    }
+
+    public user_requestFilesInDependency_args deepCopy() {
+      return new user_requestFilesInDependency_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setDepIdIsSet(false);
+      this.depId = 0;
+    }
+
+    public int getDepId() {
+      return this.depId;
+    }
+
+    public user_requestFilesInDependency_args setDepId(int depId) {
+      this.depId = depId;
+      setDepIdIsSet(true);
+      return this;
+    }
+
+    public void unsetDepId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPID_ISSET_ID);
+    }
+
+    /** Returns true if field depId is set (has been assigned a value) and false otherwise */
+    public boolean isSetDepId() {
+      return EncodingUtils.testBit(__isset_bitfield, __DEPID_ISSET_ID);
+    }
+
+    public void setDepIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case DEP_ID:
+        if (value == null) {
+          unsetDepId();
+        } else {
+          setDepId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case DEP_ID:
+        return Integer.valueOf(getDepId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case DEP_ID:
+        return isSetDepId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_requestFilesInDependency_args)
+        return this.equals((user_requestFilesInDependency_args)that);
+      return false;
+    }
+
+    public boolean equals(user_requestFilesInDependency_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_depId = true;
+      boolean that_present_depId = true;
+      if (this_present_depId || that_present_depId) {
+        if (!(this_present_depId && that_present_depId))
+          return false;
+        if (this.depId != that.depId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_requestFilesInDependency_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetDepId()).compareTo(other.isSetDepId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDepId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.depId, other.depId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_requestFilesInDependency_args(");
+      boolean first = true;
+
+      sb.append("depId:");
+      sb.append(this.depId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_requestFilesInDependency_argsStandardSchemeFactory implements SchemeFactory {
+      public user_requestFilesInDependency_argsStandardScheme getScheme() {
+        return new user_requestFilesInDependency_argsStandardScheme();
+      }
+    }
+
+    private static class user_requestFilesInDependency_argsStandardScheme extends StandardScheme<user_requestFilesInDependency_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // DEP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.depId = iprot.readI32();
+                struct.setDepIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(DEP_ID_FIELD_DESC);
+        oprot.writeI32(struct.depId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_requestFilesInDependency_argsTupleSchemeFactory implements SchemeFactory {
+      public user_requestFilesInDependency_argsTupleScheme getScheme() {
+        return new user_requestFilesInDependency_argsTupleScheme();
+      }
+    }
+
+    private static class user_requestFilesInDependency_argsTupleScheme extends TupleScheme<user_requestFilesInDependency_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetDepId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetDepId()) {
+          oprot.writeI32(struct.depId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.depId = iprot.readI32();
+          struct.setDepIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_requestFilesInDependency_result implements org.apache.thrift.TBase<user_requestFilesInDependency_result, user_requestFilesInDependency_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_requestFilesInDependency_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_requestFilesInDependency_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_requestFilesInDependency_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_requestFilesInDependency_resultTupleSchemeFactory());
+    }
+
+    public DependencyDoesNotExistException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_requestFilesInDependency_result.class, metaDataMap);
+    }
+
+    public user_requestFilesInDependency_result() {
+    }
+
+    public user_requestFilesInDependency_result(
+      DependencyDoesNotExistException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_requestFilesInDependency_result(user_requestFilesInDependency_result other) {
+      if (other.isSetE()) {
+        this.e = new DependencyDoesNotExistException(other.e);
+      }
+    }
+
+    public user_requestFilesInDependency_result deepCopy() {
+      return new user_requestFilesInDependency_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public DependencyDoesNotExistException getE() {
+      return this.e;
+    }
+
+    public user_requestFilesInDependency_result setE(DependencyDoesNotExistException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((DependencyDoesNotExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_requestFilesInDependency_result)
+        return this.equals((user_requestFilesInDependency_result)that);
+      return false;
+    }
+
+    public boolean equals(user_requestFilesInDependency_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_requestFilesInDependency_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_requestFilesInDependency_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_requestFilesInDependency_resultStandardSchemeFactory implements SchemeFactory {
+      public user_requestFilesInDependency_resultStandardScheme getScheme() {
+        return new user_requestFilesInDependency_resultStandardScheme();
+      }
+    }
+
+    private static class user_requestFilesInDependency_resultStandardScheme extends StandardScheme<user_requestFilesInDependency_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new DependencyDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_requestFilesInDependency_resultTupleSchemeFactory implements SchemeFactory {
+      public user_requestFilesInDependency_resultTupleScheme getScheme() {
+        return new user_requestFilesInDependency_resultTupleScheme();
+      }
+    }
+
+    private static class user_requestFilesInDependency_resultTupleScheme extends TupleScheme<user_requestFilesInDependency_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new DependencyDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createFile_args implements org.apache.thrift.TBase<user_createFile_args, user_createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFile_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_BYTE_FIELD_DESC = new org.apache.thrift.protocol.TField("blockSizeByte", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFile_argsTupleSchemeFactory());
+    }
+
+    public String path; // required
+    public String ufsPath; // required
+    public long blockSizeByte; // required
+    public boolean recursive; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      PATH((short)1, "path"),
+      UFS_PATH((short)2, "ufsPath"),
+      BLOCK_SIZE_BYTE((short)3, "blockSizeByte"),
+      RECURSIVE((short)4, "recursive");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // UFS_PATH
+            return UFS_PATH;
+          case 3: // BLOCK_SIZE_BYTE
+            return BLOCK_SIZE_BYTE;
+          case 4: // RECURSIVE
+            return RECURSIVE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __BLOCKSIZEBYTE_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_SIZE_BYTE, new org.apache.thrift.meta_data.FieldMetaData("blockSizeByte", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFile_args.class, metaDataMap);
+    }
+
+    public user_createFile_args() {
+    }
+
+    public user_createFile_args(
+      String path,
+      String ufsPath,
+      long blockSizeByte,
+      boolean recursive)
+    {
+      this();
+      this.path = path;
+      this.ufsPath = ufsPath;
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createFile_args(user_createFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetUfsPath()) {
+        this.ufsPath = other.ufsPath;
+      }
+      this.blockSizeByte = other.blockSizeByte;
+      this.recursive = other.recursive;
+    }
+
+    public user_createFile_args deepCopy() {
+      return new user_createFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.ufsPath = null;
+      setBlockSizeByteIsSet(false);
+      this.blockSizeByte = 0;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public user_createFile_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public String getUfsPath() {
+      return this.ufsPath;
+    }
+
+    public user_createFile_args setUfsPath(String ufsPath) {
+      this.ufsPath = ufsPath;
+      return this;
+    }
+
+    public void unsetUfsPath() {
+      this.ufsPath = null;
+    }
+
+    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPath() {
+      return this.ufsPath != null;
+    }
+
+    public void setUfsPathIsSet(boolean value) {
+      if (!value) {
+        this.ufsPath = null;
+      }
+    }
+
+    public long getBlockSizeByte() {
+      return this.blockSizeByte;
+    }
+
+    public user_createFile_args setBlockSizeByte(long blockSizeByte) {
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockSizeByte() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    /** Returns true if field blockSizeByte is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockSizeByte() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    public void setBlockSizeByteIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID, value);
+    }
+
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    public user_createFile_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case UFS_PATH:
+        if (value == null) {
+          unsetUfsPath();
+        } else {
+          setUfsPath((String)value);
+        }
+        break;
+
+      case BLOCK_SIZE_BYTE:
+        if (value == null) {
+          unsetBlockSizeByte();
+        } else {
+          setBlockSizeByte((Long)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case UFS_PATH:
+        return getUfsPath();
+
+      case BLOCK_SIZE_BYTE:
+        return Long.valueOf(getBlockSizeByte());
+
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case UFS_PATH:
+        return isSetUfsPath();
+      case BLOCK_SIZE_BYTE:
+        return isSetBlockSizeByte();
+      case RECURSIVE:
+        return isSetRecursive();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createFile_args)
+        return this.equals((user_createFile_args)that);
+      return false;
+    }
+
+    public boolean equals(user_createFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_ufsPath = true && this.isSetUfsPath();
+      boolean that_present_ufsPath = true && that.isSetUfsPath();
+      if (this_present_ufsPath || that_present_ufsPath) {
+        if (!(this_present_ufsPath && that_present_ufsPath))
+          return false;
+        if (!this.ufsPath.equals(that.ufsPath))
+          return false;
+      }
+
+      boolean this_present_blockSizeByte = true;
+      boolean that_present_blockSizeByte = true;
+      if (this_present_blockSizeByte || that_present_blockSizeByte) {
+        if (!(this_present_blockSizeByte && that_present_blockSizeByte))
+          return false;
+        if (this.blockSizeByte != that.blockSizeByte)
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUfsPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockSizeByte()).compareTo(other.isSetBlockSizeByte());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockSizeByte()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockSizeByte, other.blockSizeByte);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createFile_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ufsPath:");
+      if (this.ufsPath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ufsPath);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockSizeByte:");
+      sb.append(this.blockSizeByte);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createFile_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createFile_argsStandardScheme getScheme() {
+        return new user_createFile_argsStandardScheme();
+      }
+    }
+
+    private static class user_createFile_argsStandardScheme extends StandardScheme<user_createFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // UFS_PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.ufsPath = iprot.readString();
+                struct.setUfsPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BLOCK_SIZE_BYTE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockSizeByte = iprot.readI64();
+                struct.setBlockSizeByteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ufsPath != null) {
+          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
+          oprot.writeString(struct.ufsPath);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(BLOCK_SIZE_BYTE_FIELD_DESC);
+        oprot.writeI64(struct.blockSizeByte);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createFile_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createFile_argsTupleScheme getScheme() {
+        return new user_createFile_argsTupleScheme();
+      }
+    }
+
+    private static class user_createFile_argsTupleScheme extends TupleScheme<user_createFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetUfsPath()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBlockSizeByte()) {
+          optionals.set(2);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetUfsPath()) {
+          oprot.writeString(struct.ufsPath);
+        }
+        if (struct.isSetBlockSizeByte()) {
+          oprot.writeI64(struct.blockSizeByte);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ufsPath = iprot.readString();
+          struct.setUfsPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.blockSizeByte = iprot.readI64();
+          struct.setBlockSizeByteIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createFile_result implements org.apache.thrift.TBase<user_createFile_result, user_createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField E_R_FIELD_DESC = new org.apache.thrift.protocol.TField("eR", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)6);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFile_resultTupleSchemeFactory());
+    }
+
+    public int success; // required
+    public FileAlreadyExistException eR; // required
+    public InvalidPathException eI; // required
+    public BlockInfoException eB; // required
+    public SuspectedFileSizeException eS; // required
+    public TachyonException eT; // required
+    public AccessControlException eAC; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E_R((short)1, "eR"),
+      E_I((short)2, "eI"),
+      E_B((short)3, "eB"),
+      E_S((short)4, "eS"),
+      E_T((short)5, "eT"),
+      E_AC((short)6, "eAC");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E_R
+            return E_R;
+          case 2: // E_I
+            return E_I;
+          case 3: // E_B
+            return E_B;
+          case 4: // E_S
+            return E_S;
+          case 5: // E_T
+            return E_T;
+          case 6: // E_AC
+            return E_AC;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.E_R, new org.apache.thrift.meta_data.FieldMetaData("eR", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFile_result.class, metaDataMap);
+    }
+
+    public user_createFile_result() {
+    }
+
+    public user_createFile_result(
+      int success,
+      FileAlreadyExistException eR,
+      InvalidPathException eI,
+      BlockInfoException eB,
+      SuspectedFileSizeException eS,
+      TachyonException eT,
+      AccessControlException eAC)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.eR = eR;
+      this.eI = eI;
+      this.eB = eB;
+      this.eS = eS;
+      this.eT = eT;
+      this.eAC = eAC;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createFile_result(user_createFile_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetER()) {
+        this.eR = new FileAlreadyExistException(other.eR);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
+      }
+      if (other.isSetES()) {
+        this.eS = new SuspectedFileSizeException(other.eS);
+      }
+      if (other.isSetET()) {
+        this.eT = new TachyonException(other.eT);
+      }
+      if (other.isSetEAC()) {
+        this.eAC = new AccessControlException(other.eAC);
+      }
+    }
+
+    public user_createFile_result deepCopy() {
+      return new user_createFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.eR = null;
+      this.eI = null;
+      this.eB = null;
+      this.eS = null;
+      this.eT = null;
+      this.eAC = null;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public user_createFile_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public FileAlreadyExistException getER() {
+      return this.eR;
+    }
+
+    public user_createFile_result setER(FileAlreadyExistException eR) {
+      this.eR = eR;
+      return this;
+    }
+
+    public void unsetER() {
+      this.eR = null;
+    }
+
+    /** Returns true if field eR is set (has been assigned a value) and false otherwise */
+    public boolean isSetER() {
+      return this.eR != null;
+    }
+
+    public void setERIsSet(boolean value) {
+      if (!value) {
+        this.eR = null;
+      }
+    }
+
+    public InvalidPathException getEI() {
+      return this.eI;
+    }
+
+    public user_createFile_result setEI(InvalidPathException eI) {
+      this.eI = eI;
+      return this;
+    }
+
+    public void unsetEI() {
+      this.eI = null;
+    }
+
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
+    }
+
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public user_createFile_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
+      }
+    }
+
+    public SuspectedFileSizeException getES() {
+      return this.eS;
+    }
+
+    public user_createFile_result setES(SuspectedFileSizeException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
+    }
+
+    public TachyonException getET() {
+      return this.eT;
+    }
+
+    public user_createFile_result setET(TachyonException eT) {
+      this.eT = eT;
+      return this;
+    }
+
+    public void unsetET() {
+      this.eT = null;
+    }
+
+    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
+    public boolean isSetET() {
+      return this.eT != null;
+    }
+
+    public void setETIsSet(boolean value) {
+      if (!value) {
+        this.eT = null;
+      }
+    }
+
+    public AccessControlException getEAC() {
+      return this.eAC;
+    }
+
+    public user_createFile_result setEAC(AccessControlException eAC) {
+      this.eAC = eAC;
+      return this;
+    }
+
+    public void unsetEAC() {
+      this.eAC = null;
+    }
+
+    /** Returns true if field eAC is set (has been assigned a value) and false otherwise */
+    public boolean isSetEAC() {
+      return this.eAC != null;
+    }
+
+    public void setEACIsSet(boolean value) {
+      if (!value) {
+        this.eAC = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Integer)value);
+        }
+        break;
+
+      case E_R:
+        if (value == null) {
+          unsetER();
+        } else {
+          setER((FileAlreadyExistException)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
+        }
+        break;
+
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((SuspectedFileSizeException)value);
+        }
+        break;
+
+      case E_T:
+        if (value == null) {
+          unsetET();
+        } else {
+          setET((TachyonException)value);
+        }
+        break;
+
+      case E_AC:
+        if (value == null) {
+          unsetEAC();
+        } else {
+          setEAC((AccessControlException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Integer.valueOf(getSuccess());
+
+      case E_R:
+        return getER();
+
+      case E_I:
+        return getEI();
+
+      case E_B:
+        return getEB();
+
+      case E_S:
+        return getES();
+
+      case E_T:
+        return getET();
+
+      case E_AC:
+        return getEAC();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E_R:
+        return isSetER();
+      case E_I:
+        return isSetEI();
+      case E_B:
+        return isSetEB();
+      case E_S:
+        return isSetES();
+      case E_T:
+        return isSetET();
+      case E_AC:
+        return isSetEAC();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createFile_result)
+        return this.equals((user_createFile_result)that);
+      return false;
+    }
+
+    public boolean equals(user_createFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_eR = true && this.isSetER();
+      boolean that_present_eR = true && that.isSetER();
+      if (this_present_eR || that_present_eR) {
+        if (!(this_present_eR && that_present_eR))
+          return false;
+        if (!this.eR.equals(that.eR))
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
+          return false;
+      }
+
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
+          return false;
+      }
+
+      boolean this_present_eT = true && this.isSetET();
+      boolean that_present_eT = true && that.isSetET();
+      if (this_present_eT || that_present_eT) {
+        if (!(this_present_eT && that_present_eT))
+          return false;
+        if (!this.eT.equals(that.eT))
+          return false;
+      }
+
+      boolean this_present_eAC = true && this.isSetEAC();
+      boolean that_present_eAC = true && that.isSetEAC();
+      if (this_present_eAC || that_present_eAC) {
+        if (!(this_present_eAC && that_present_eAC))
+          return false;
+        if (!this.eAC.equals(that.eAC))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetER()).compareTo(other.isSetER());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetER()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eR, other.eR);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetET()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEAC()).compareTo(other.isSetEAC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEAC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eAC, other.eAC);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eR:");
+      if (this.eR == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eR);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eT:");
+      if (this.eT == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eT);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eAC:");
+      if (this.eAC == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eAC);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createFile_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createFile_resultStandardScheme getScheme() {
+        return new user_createFile_resultStandardScheme();
+      }
+    }
+
+    private static class user_createFile_resultStandardScheme extends StandardScheme<user_createFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E_R
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eR = new FileAlreadyExistException();
+                struct.eR.read(iprot);
+                struct.setERIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new SuspectedFileSizeException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // E_T
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eT = new TachyonException();
+                struct.eT.read(iprot);
+                struct.setETIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // E_AC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eAC = new AccessControlException();
+                struct.eAC.read(iprot);
+                struct.setEACIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eR != null) {
+          oprot.writeFieldBegin(E_R_FIELD_DESC);
+          struct.eR.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eT != null) {
+          oprot.writeFieldBegin(E_T_FIELD_DESC);
+          struct.eT.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eAC != null) {
+          oprot.writeFieldBegin(E_AC_FIELD_DESC);
+          struct.eAC.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createFile_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createFile_resultTupleScheme getScheme() {
+        return new user_createFile_resultTupleScheme();
+      }
+    }
+
+    private static class user_createFile_resultTupleScheme extends TupleScheme<user_createFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetER()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEI()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEB()) {
+          optionals.set(3);
+        }
+        if (struct.isSetES()) {
+          optionals.set(4);
+        }
+        if (struct.isSetET()) {
+          optionals.set(5);
+        }
+        if (struct.isSetEAC()) {
+          optionals.set(6);
+        }
+        oprot.writeBitSet(optionals, 7);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+        if (struct.isSetER()) {
+          struct.eR.write(oprot);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
+        }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
+        }
+        if (struct.isSetET()) {
+          struct.eT.write(oprot);
+        }
+        if (struct.isSetEAC()) {
+          struct.eAC.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(7);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eR = new FileAlreadyExistException();
+          struct.eR.read(iprot);
+          struct.setERIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.eS = new SuspectedFileSizeException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.eT = new TachyonException();
+          struct.eT.read(iprot);
+          struct.setETIsSet(true);
+        }
+        if (incoming.get(6)) {
+          struct.eAC = new AccessControlException();
+          struct.eAC.read(iprot);
+          struct.setEACIsSet(true);
+        }
+      }
     }
 
-    public user_createDependency_args setData(List<ByteBuffer> data) {
-      this.data = data;
-      return this;
-    }
-
-    public void unsetData() {
-      this.data = null;
-    }
+  }
 
-    /** Returns true if field data is set (has been assigned a value) and false otherwise */
-    public boolean isSetData() {
-      return this.data != null;
-    }
+  public static class user_createNewBlock_args implements org.apache.thrift.TBase<user_createNewBlock_args, user_createNewBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_args");
 
-    public void setDataIsSet(boolean value) {
-      if (!value) {
-        this.data = null;
-      }
-    }
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    public String getComment() {
-      return this.comment;
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createNewBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createNewBlock_argsTupleSchemeFactory());
     }
 
-    public user_createDependency_args setComment(String comment) {
-      this.comment = comment;
-      return this;
-    }
+    public int fileId; // required
 
-    public void unsetComment() {
-      this.comment = null;
-    }
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
 
-    /** Returns true if field comment is set (has been assigned a value) and false otherwise */
-    public boolean isSetComment() {
-      return this.comment != null;
-    }
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
-    public void setCommentIsSet(boolean value) {
-      if (!value) {
-        this.comment = null;
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
       }
-    }
-
-    public String getFramework() {
-      return this.framework;
-    }
-
-    public user_createDependency_args setFramework(String framework) {
-      this.framework = framework;
-      return this;
-    }
-
-    public void unsetFramework() {
-      this.framework = null;
-    }
 
-    /** Returns true if field framework is set (has been assigned a value) and false otherwise */
-    public boolean isSetFramework() {
-      return this.framework != null;
-    }
-
-    public void setFrameworkIsSet(boolean value) {
-      if (!value) {
-        this.framework = null;
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
       }
-    }
-
-    public String getFrameworkVersion() {
-      return this.frameworkVersion;
-    }
 
-    public user_createDependency_args setFrameworkVersion(String frameworkVersion) {
-      this.frameworkVersion = frameworkVersion;
-      return this;
-    }
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
 
-    public void unsetFrameworkVersion() {
-      this.frameworkVersion = null;
-    }
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
 
-    /** Returns true if field frameworkVersion is set (has been assigned a value) and false otherwise */
-    public boolean isSetFrameworkVersion() {
-      return this.frameworkVersion != null;
-    }
+      private final short _thriftId;
+      private final String _fieldName;
 
-    public void setFrameworkVersionIsSet(boolean value) {
-      if (!value) {
-        this.frameworkVersion = null;
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
       }
-    }
-
-    public int getDependencyType() {
-      return this.dependencyType;
-    }
 
-    public user_createDependency_args setDependencyType(int dependencyType) {
-      this.dependencyType = dependencyType;
-      setDependencyTypeIsSet(true);
-      return this;
-    }
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
 
-    public void unsetDependencyType() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID);
+      public String getFieldName() {
+        return _fieldName;
+      }
     }
 
-    /** Returns true if field dependencyType is set (has been assigned a value) and false otherwise */
-    public boolean isSetDependencyType() {
-      return EncodingUtils.testBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID);
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_args.class, metaDataMap);
     }
 
-    public void setDependencyTypeIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPENDENCYTYPE_ISSET_ID, value);
+    public user_createNewBlock_args() {
     }
 
-    public long getChildrenBlockSizeByte() {
-      return this.childrenBlockSizeByte;
+    public user_createNewBlock_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
     }
 
-    public user_createDependency_args setChildrenBlockSizeByte(long childrenBlockSizeByte) {
-      this.childrenBlockSizeByte = childrenBlockSizeByte;
-      setChildrenBlockSizeByteIsSet(true);
-      return this;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createNewBlock_args(user_createNewBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
     }
 
-    public void unsetChildrenBlockSizeByte() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID);
+    public user_createNewBlock_args deepCopy() {
+      return new user_createNewBlock_args(this);
     }
 
-    /** Returns true if field childrenBlockSizeByte is set (has been assigned a value) and false otherwise */
-    public boolean isSetChildrenBlockSizeByte() {
-      return EncodingUtils.testBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID);
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
     }
 
-    public void setChildrenBlockSizeByteIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CHILDRENBLOCKSIZEBYTE_ISSET_ID, value);
+    public int getFileId() {
+      return this.fileId;
     }
 
-    public void setFieldValue(_Fields field, Object value) {
-      switch (field) {
-      case PARENTS:
-        if (value == null) {
-          unsetParents();
-        } else {
-          setParents((List<String>)value);
-        }
-        break;
-
-      case CHILDREN:
-        if (value == null) {
-          unsetChildren();
-        } else {
-          setChildren((List<String>)value);
-        }
-        break;
-
-      case COMMAND_PREFIX:
-        if (value == null) {
-          unsetCommandPrefix();
-        } else {
-          setCommandPrefix((String)value);
-        }
-        break;
-
-      case DATA:
-        if (value == null) {
-          unsetData();
-        } else {
-          setData((List<ByteBuffer>)value);
-        }
-        break;
-
-      case COMMENT:
-        if (value == null) {
-          unsetComment();
-        } else {
-          setComment((String)value);
-        }
-        break;
-
-      case FRAMEWORK:
-        if (value == null) {
-          unsetFramework();
-        } else {
-          setFramework((String)value);
-        }
-        break;
+    public user_createNewBlock_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
 
-      case FRAMEWORK_VERSION:
-        if (value == null) {
-          unsetFrameworkVersion();
-        } else {
-          setFrameworkVersion((String)value);
-        }
-        break;
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
 
-      case DEPENDENCY_TYPE:
-        if (value == null) {
-          unsetDependencyType();
-        } else {
-          setDependencyType((Integer)value);
-        }
-        break;
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
 
-      case CHILDREN_BLOCK_SIZE_BYTE:
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
         if (value == null) {
-          unsetChildrenBlockSizeByte();
+          unsetFileId();
         } else {
-          setChildrenBlockSizeByte((Long)value);
+          setFileId((Integer)value);
         }
         break;
 
@@ -14256,32 +20525,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PARENTS:
-        return getParents();
-
-      case CHILDREN:
-        return getChildren();
-
-      case COMMAND_PREFIX:
-        return getCommandPrefix();
-
-      case DATA:
-        return getData();
-
-      case COMMENT:
-        return getComment();
-
-      case FRAMEWORK:
-        return getFramework();
-
-      case FRAMEWORK_VERSION:
-        return getFrameworkVersion();
-
-      case DEPENDENCY_TYPE:
-        return Integer.valueOf(getDependencyType());
-
-      case CHILDREN_BLOCK_SIZE_BYTE:
-        return Long.valueOf(getChildrenBlockSizeByte());
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
 
       }
       throw new IllegalStateException();
@@ -14294,24 +20539,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case PARENTS:
-        return isSetParents();
-      case CHILDREN:
-        return isSetChildren();
-      case COMMAND_PREFIX:
-        return isSetCommandPrefix();
-      case DATA:
-        return isSetData();
-      case COMMENT:
-        return isSetComment();
-      case FRAMEWORK:
-        return isSetFramework();
-      case FRAMEWORK_VERSION:
-        return isSetFrameworkVersion();
-      case DEPENDENCY_TYPE:
-        return isSetDependencyType();
-      case CHILDREN_BLOCK_SIZE_BYTE:
-        return isSetChildrenBlockSizeByte();
+      case FILE_ID:
+        return isSetFileId();
       }
       throw new IllegalStateException();
     }
@@ -14320,93 +20549,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createDependency_args)
-        return this.equals((user_createDependency_args)that);
+      if (that instanceof user_createNewBlock_args)
+        return this.equals((user_createNewBlock_args)that);
       return false;
     }
 
-    public boolean equals(user_createDependency_args that) {
+    public boolean equals(user_createNewBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_parents = true && this.isSetParents();
-      boolean that_present_parents = true && that.isSetParents();
-      if (this_present_parents || that_present_parents) {
-        if (!(this_present_parents && that_present_parents))
-          return false;
-        if (!this.parents.equals(that.parents))
-          return false;
-      }
-
-      boolean this_present_children = true && this.isSetChildren();
-      boolean that_present_children = true && that.isSetChildren();
-      if (this_present_children || that_present_children) {
-        if (!(this_present_children && that_present_children))
-          return false;
-        if (!this.children.equals(that.children))
-          return false;
-      }
-
-      boolean this_present_commandPrefix = true && this.isSetCommandPrefix();
-      boolean that_present_commandPrefix = true && that.isSetCommandPrefix();
-      if (this_present_commandPrefix || that_present_commandPrefix) {
-        if (!(this_present_commandPrefix && that_present_commandPrefix))
-          return false;
-        if (!this.commandPrefix.equals(that.commandPrefix))
-          return false;
-      }
-
-      boolean this_present_data = true && this.isSetData();
-      boolean that_present_data = true && that.isSetData();
-      if (this_present_data || that_present_data) {
-        if (!(this_present_data && that_present_data))
-          return false;
-        if (!this.data.equals(that.data))
-          return false;
-      }
-
-      boolean this_present_comment = true && this.isSetComment();
-      boolean that_present_comment = true && that.isSetComment();
-      if (this_present_comment || that_present_comment) {
-        if (!(this_present_comment && that_present_comment))
-          return false;
-        if (!this.comment.equals(that.comment))
-          return false;
-      }
-
-      boolean this_present_framework = true && this.isSetFramework();
-      boolean that_present_framework = true && that.isSetFramework();
-      if (this_present_framework || that_present_framework) {
-        if (!(this_present_framework && that_present_framework))
-          return false;
-        if (!this.framework.equals(that.framework))
-          return false;
-      }
-
-      boolean this_present_frameworkVersion = true && this.isSetFrameworkVersion();
-      boolean that_present_frameworkVersion = true && that.isSetFrameworkVersion();
-      if (this_present_frameworkVersion || that_present_frameworkVersion) {
-        if (!(this_present_frameworkVersion && that_present_frameworkVersion))
-          return false;
-        if (!this.frameworkVersion.equals(that.frameworkVersion))
-          return false;
-      }
-
-      boolean this_present_dependencyType = true;
-      boolean that_present_dependencyType = true;
-      if (this_present_dependencyType || that_present_dependencyType) {
-        if (!(this_present_dependencyType && that_present_dependencyType))
-          return false;
-        if (this.dependencyType != that.dependencyType)
-          return false;
-      }
-
-      boolean this_present_childrenBlockSizeByte = true;
-      boolean that_present_childrenBlockSizeByte = true;
-      if (this_present_childrenBlockSizeByte || that_present_childrenBlockSizeByte) {
-        if (!(this_present_childrenBlockSizeByte && that_present_childrenBlockSizeByte))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (this.childrenBlockSizeByte != that.childrenBlockSizeByte)
+        if (this.fileId != that.fileId)
           return false;
       }
 
@@ -14419,99 +20576,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createDependency_args other) {
+    public int compareTo(user_createNewBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetParents()).compareTo(other.isSetParents());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParents()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.parents, other.parents);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetChildren()).compareTo(other.isSetChildren());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetChildren()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.children, other.children);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetCommandPrefix()).compareTo(other.isSetCommandPrefix());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetCommandPrefix()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.commandPrefix, other.commandPrefix);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetData()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetComment()).compareTo(other.isSetComment());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetComment()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.comment, other.comment);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetFramework()).compareTo(other.isSetFramework());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFramework()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.framework, other.framework);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetFrameworkVersion()).compareTo(other.isSetFrameworkVersion());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFrameworkVersion()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.frameworkVersion, other.frameworkVersion);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetDependencyType()).compareTo(other.isSetDependencyType());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetDependencyType()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dependencyType, other.dependencyType);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetChildrenBlockSizeByte()).compareTo(other.isSetChildrenBlockSizeByte());
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetChildrenBlockSizeByte()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.childrenBlockSizeByte, other.childrenBlockSizeByte);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14533,71 +20610,11 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createDependency_args(");
+      StringBuilder sb = new StringBuilder("user_createNewBlock_args(");
       boolean first = true;
 
-      sb.append("parents:");
-      if (this.parents == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.parents);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("children:");
-      if (this.children == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.children);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("commandPrefix:");
-      if (this.commandPrefix == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.commandPrefix);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("data:");
-      if (this.data == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.data);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("comment:");
-      if (this.comment == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.comment);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("framework:");
-      if (this.framework == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.framework);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("frameworkVersion:");
-      if (this.frameworkVersion == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.frameworkVersion);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("dependencyType:");
-      sb.append(this.dependencyType);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("childrenBlockSizeByte:");
-      sb.append(this.childrenBlockSizeByte);
+      sb.append("fileId:");
+      sb.append(this.fileId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -14626,15 +20643,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createDependency_argsStandardSchemeFactory implements SchemeFactory {
-      public user_createDependency_argsStandardScheme getScheme() {
-        return new user_createDependency_argsStandardScheme();
+    private static class user_createNewBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_argsStandardScheme getScheme() {
+        return new user_createNewBlock_argsStandardScheme();
       }
     }
 
-    private static class user_createDependency_argsStandardScheme extends StandardScheme<user_createDependency_args> {
+    private static class user_createNewBlock_argsStandardScheme extends StandardScheme<user_createNewBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createDependency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14644,104 +20661,10 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PARENTS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list148 = iprot.readListBegin();
-                  struct.parents = new ArrayList<String>(_list148.size);
-                  for (int _i149 = 0; _i149 < _list148.size; ++_i149)
-                  {
-                    String _elem150;
-                    _elem150 = iprot.readString();
-                    struct.parents.add(_elem150);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setParentsIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // CHILDREN
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list151 = iprot.readListBegin();
-                  struct.children = new ArrayList<String>(_list151.size);
-                  for (int _i152 = 0; _i152 < _list151.size; ++_i152)
-                  {
-                    String _elem153;
-                    _elem153 = iprot.readString();
-                    struct.children.add(_elem153);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setChildrenIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // COMMAND_PREFIX
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.commandPrefix = iprot.readString();
-                struct.setCommandPrefixIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // DATA
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list154 = iprot.readListBegin();
-                  struct.data = new ArrayList<ByteBuffer>(_list154.size);
-                  for (int _i155 = 0; _i155 < _list154.size; ++_i155)
-                  {
-                    ByteBuffer _elem156;
-                    _elem156 = iprot.readBinary();
-                    struct.data.add(_elem156);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setDataIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 5: // COMMENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.comment = iprot.readString();
-                struct.setCommentIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 6: // FRAMEWORK
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.framework = iprot.readString();
-                struct.setFrameworkIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 7: // FRAMEWORK_VERSION
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.frameworkVersion = iprot.readString();
-                struct.setFrameworkVersionIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 8: // DEPENDENCY_TYPE
+            case 1: // FILE_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.dependencyType = iprot.readI32();
-                struct.setDependencyTypeIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 9: // CHILDREN_BLOCK_SIZE_BYTE
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.childrenBlockSizeByte = iprot.readI64();
-                struct.setChildrenBlockSizeByteIsSet(true);
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14749,79 +20672,20 @@ public class MasterService {
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
-          iprot.readFieldEnd();
-        }
-        iprot.readStructEnd();
-
-        // check for required fields of primitive type, which can't be checked in the validate method
-        struct.validate();
-      }
-
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createDependency_args struct) throws org.apache.thrift.TException {
-        struct.validate();
-
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.parents != null) {
-          oprot.writeFieldBegin(PARENTS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.parents.size()));
-            for (String _iter157 : struct.parents)
-            {
-              oprot.writeString(_iter157);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.children != null) {
-          oprot.writeFieldBegin(CHILDREN_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.children.size()));
-            for (String _iter158 : struct.children)
-            {
-              oprot.writeString(_iter158);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.commandPrefix != null) {
-          oprot.writeFieldBegin(COMMAND_PREFIX_FIELD_DESC);
-          oprot.writeString(struct.commandPrefix);
-          oprot.writeFieldEnd();
-        }
-        if (struct.data != null) {
-          oprot.writeFieldBegin(DATA_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.data.size()));
-            for (ByteBuffer _iter159 : struct.data)
-            {
-              oprot.writeBinary(_iter159);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.comment != null) {
-          oprot.writeFieldBegin(COMMENT_FIELD_DESC);
-          oprot.writeString(struct.comment);
-          oprot.writeFieldEnd();
-        }
-        if (struct.framework != null) {
-          oprot.writeFieldBegin(FRAMEWORK_FIELD_DESC);
-          oprot.writeString(struct.framework);
-          oprot.writeFieldEnd();
-        }
-        if (struct.frameworkVersion != null) {
-          oprot.writeFieldBegin(FRAMEWORK_VERSION_FIELD_DESC);
-          oprot.writeString(struct.frameworkVersion);
-          oprot.writeFieldEnd();
-        }
-        oprot.writeFieldBegin(DEPENDENCY_TYPE_FIELD_DESC);
-        oprot.writeI32(struct.dependencyType);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(CHILDREN_BLOCK_SIZE_BYTE_FIELD_DESC);
-        oprot.writeI64(struct.childrenBlockSizeByte);
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -14829,196 +20693,59 @@ public class MasterService {
 
     }
 
-    private static class user_createDependency_argsTupleSchemeFactory implements SchemeFactory {
-      public user_createDependency_argsTupleScheme getScheme() {
-        return new user_createDependency_argsTupleScheme();
+    private static class user_createNewBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_argsTupleScheme getScheme() {
+        return new user_createNewBlock_argsTupleScheme();
       }
     }
 
-    private static class user_createDependency_argsTupleScheme extends TupleScheme<user_createDependency_args> {
+    private static class user_createNewBlock_argsTupleScheme extends TupleScheme<user_createNewBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createDependency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetParents()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        if (struct.isSetChildren()) {
-          optionals.set(1);
-        }
-        if (struct.isSetCommandPrefix()) {
-          optionals.set(2);
-        }
-        if (struct.isSetData()) {
-          optionals.set(3);
-        }
-        if (struct.isSetComment()) {
-          optionals.set(4);
-        }
-        if (struct.isSetFramework()) {
-          optionals.set(5);
-        }
-        if (struct.isSetFrameworkVersion()) {
-          optionals.set(6);
-        }
-        if (struct.isSetDependencyType()) {
-          optionals.set(7);
-        }
-        if (struct.isSetChildrenBlockSizeByte()) {
-          optionals.set(8);
-        }
-        oprot.writeBitSet(optionals, 9);
-        if (struct.isSetParents()) {
-          {
-            oprot.writeI32(struct.parents.size());
-            for (String _iter160 : struct.parents)
-            {
-              oprot.writeString(_iter160);
-            }
-          }
-        }
-        if (struct.isSetChildren()) {
-          {
-            oprot.writeI32(struct.children.size());
-            for (String _iter161 : struct.children)
-            {
-              oprot.writeString(_iter161);
-            }
-          }
-        }
-        if (struct.isSetCommandPrefix()) {
-          oprot.writeString(struct.commandPrefix);
-        }
-        if (struct.isSetData()) {
-          {
-            oprot.writeI32(struct.data.size());
-            for (ByteBuffer _iter162 : struct.data)
-            {
-              oprot.writeBinary(_iter162);
-            }
-          }
-        }
-        if (struct.isSetComment()) {
-          oprot.writeString(struct.comment);
-        }
-        if (struct.isSetFramework()) {
-          oprot.writeString(struct.framework);
-        }
-        if (struct.isSetFrameworkVersion()) {
-          oprot.writeString(struct.frameworkVersion);
-        }
-        if (struct.isSetDependencyType()) {
-          oprot.writeI32(struct.dependencyType);
-        }
-        if (struct.isSetChildrenBlockSizeByte()) {
-          oprot.writeI64(struct.childrenBlockSizeByte);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createDependency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(9);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list163 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.parents = new ArrayList<String>(_list163.size);
-            for (int _i164 = 0; _i164 < _list163.size; ++_i164)
-            {
-              String _elem165;
-              _elem165 = iprot.readString();
-              struct.parents.add(_elem165);
-            }
-          }
-          struct.setParentsIsSet(true);
-        }
-        if (incoming.get(1)) {
-          {
-            org.apache.thrift.protocol.TList _list166 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.children = new ArrayList<String>(_list166.size);
-            for (int _i167 = 0; _i167 < _list166.size; ++_i167)
-            {
-              String _elem168;
-              _elem168 = iprot.readString();
-              struct.children.add(_elem168);
-            }
-          }
-          struct.setChildrenIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.commandPrefix = iprot.readString();
-          struct.setCommandPrefixIsSet(true);
-        }
-        if (incoming.get(3)) {
-          {
-            org.apache.thrift.protocol.TList _list169 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.data = new ArrayList<ByteBuffer>(_list169.size);
-            for (int _i170 = 0; _i170 < _list169.size; ++_i170)
-            {
-              ByteBuffer _elem171;
-              _elem171 = iprot.readBinary();
-              struct.data.add(_elem171);
-            }
-          }
-          struct.setDataIsSet(true);
-        }
-        if (incoming.get(4)) {
-          struct.comment = iprot.readString();
-          struct.setCommentIsSet(true);
-        }
-        if (incoming.get(5)) {
-          struct.framework = iprot.readString();
-          struct.setFrameworkIsSet(true);
-        }
-        if (incoming.get(6)) {
-          struct.frameworkVersion = iprot.readString();
-          struct.setFrameworkVersionIsSet(true);
-        }
-        if (incoming.get(7)) {
-          struct.dependencyType = iprot.readI32();
-          struct.setDependencyTypeIsSet(true);
-        }
-        if (incoming.get(8)) {
-          struct.childrenBlockSizeByte = iprot.readI64();
-          struct.setChildrenBlockSizeByteIsSet(true);
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_createDependency_result implements org.apache.thrift.TBase<user_createDependency_result, user_createDependency_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createDependency_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createDependency_result");
+  public static class user_createNewBlock_result implements org.apache.thrift.TBase<user_createNewBlock_result, user_createNewBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField E_A_FIELD_DESC = new org.apache.thrift.protocol.TField("eA", org.apache.thrift.protocol.TType.STRUCT, (short)3);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)4);
-    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createDependency_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createDependency_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createNewBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createNewBlock_resultTupleSchemeFactory());
     }
 
-    public int success; // required
-    public InvalidPathException eI; // required
-    public FileDoesNotExistException eF; // required
-    public FileAlreadyExistException eA; // required
-    public BlockInfoException eB; // required
-    public TachyonException eT; // required
+    public long success; // required
+    public FileDoesNotExistException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_I((short)1, "eI"),
-      E_F((short)2, "eF"),
-      E_A((short)3, "eA"),
-      E_B((short)4, "eB"),
-      E_T((short)5, "eT");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15035,16 +20762,8 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_I
-            return E_I;
-          case 2: // E_F
-            return E_F;
-          case 3: // E_A
-            return E_A;
-          case 4: // E_B
-            return E_B;
-          case 5: // E_T
-            return E_T;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -15091,85 +20810,53 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_A, new org.apache.thrift.meta_data.FieldMetaData("eA", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createDependency_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_result.class, metaDataMap);
     }
 
-    public user_createDependency_result() {
+    public user_createNewBlock_result() {
     }
 
-    public user_createDependency_result(
-      int success,
-      InvalidPathException eI,
-      FileDoesNotExistException eF,
-      FileAlreadyExistException eA,
-      BlockInfoException eB,
-      TachyonException eT)
+    public user_createNewBlock_result(
+      long success,
+      FileDoesNotExistException e)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
-      this.eI = eI;
-      this.eF = eF;
-      this.eA = eA;
-      this.eB = eB;
-      this.eT = eT;
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createDependency_result(user_createDependency_result other) {
+    public user_createNewBlock_result(user_createNewBlock_result other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetEI()) {
-        this.eI = new InvalidPathException(other.eI);
-      }
-      if (other.isSetEF()) {
-        this.eF = new FileDoesNotExistException(other.eF);
-      }
-      if (other.isSetEA()) {
-        this.eA = new FileAlreadyExistException(other.eA);
-      }
-      if (other.isSetEB()) {
-        this.eB = new BlockInfoException(other.eB);
-      }
-      if (other.isSetET()) {
-        this.eT = new TachyonException(other.eT);
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new FileDoesNotExistException(other.e);
       }
     }
 
-    public user_createDependency_result deepCopy() {
-      return new user_createDependency_result(this);
+    public user_createNewBlock_result deepCopy() {
+      return new user_createNewBlock_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
       this.success = 0;
-      this.eI = null;
-      this.eF = null;
-      this.eA = null;
-      this.eB = null;
-      this.eT = null;
+      this.e = null;
     }
 
-    public int getSuccess() {
+    public long getSuccess() {
       return this.success;
     }
 
-    public user_createDependency_result setSuccess(int success) {
+    public user_createNewBlock_result setSuccess(long success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -15188,123 +20875,27 @@ public class MasterService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public InvalidPathException getEI() {
-      return this.eI;
-    }
-
-    public user_createDependency_result setEI(InvalidPathException eI) {
-      this.eI = eI;
-      return this;
-    }
-
-    public void unsetEI() {
-      this.eI = null;
-    }
-
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
-    }
-
-    public void setEIIsSet(boolean value) {
-      if (!value) {
-        this.eI = null;
-      }
-    }
-
-    public FileDoesNotExistException getEF() {
-      return this.eF;
-    }
-
-    public user_createDependency_result setEF(FileDoesNotExistException eF) {
-      this.eF = eF;
-      return this;
-    }
-
-    public void unsetEF() {
-      this.eF = null;
-    }
-
-    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
-    public boolean isSetEF() {
-      return this.eF != null;
-    }
-
-    public void setEFIsSet(boolean value) {
-      if (!value) {
-        this.eF = null;
-      }
-    }
-
-    public FileAlreadyExistException getEA() {
-      return this.eA;
-    }
-
-    public user_createDependency_result setEA(FileAlreadyExistException eA) {
-      this.eA = eA;
-      return this;
-    }
-
-    public void unsetEA() {
-      this.eA = null;
-    }
-
-    /** Returns true if field eA is set (has been assigned a value) and false otherwise */
-    public boolean isSetEA() {
-      return this.eA != null;
-    }
-
-    public void setEAIsSet(boolean value) {
-      if (!value) {
-        this.eA = null;
-      }
-    }
-
-    public BlockInfoException getEB() {
-      return this.eB;
-    }
-
-    public user_createDependency_result setEB(BlockInfoException eB) {
-      this.eB = eB;
-      return this;
-    }
-
-    public void unsetEB() {
-      this.eB = null;
-    }
-
-    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
-    public boolean isSetEB() {
-      return this.eB != null;
-    }
-
-    public void setEBIsSet(boolean value) {
-      if (!value) {
-        this.eB = null;
-      }
-    }
-
-    public TachyonException getET() {
-      return this.eT;
+    public FileDoesNotExistException getE() {
+      return this.e;
     }
 
-    public user_createDependency_result setET(TachyonException eT) {
-      this.eT = eT;
+    public user_createNewBlock_result setE(FileDoesNotExistException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetET() {
-      this.eT = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
-    public boolean isSetET() {
-      return this.eT != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setETIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.eT = null;
+        this.e = null;
       }
     }
 
@@ -15314,47 +20905,15 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Integer)value);
-        }
-        break;
-
-      case E_I:
-        if (value == null) {
-          unsetEI();
-        } else {
-          setEI((InvalidPathException)value);
-        }
-        break;
-
-      case E_F:
-        if (value == null) {
-          unsetEF();
-        } else {
-          setEF((FileDoesNotExistException)value);
-        }
-        break;
-
-      case E_A:
-        if (value == null) {
-          unsetEA();
-        } else {
-          setEA((FileAlreadyExistException)value);
-        }
-        break;
-
-      case E_B:
-        if (value == null) {
-          unsetEB();
-        } else {
-          setEB((BlockInfoException)value);
+          setSuccess((Long)value);
         }
         break;
 
-      case E_T:
+      case E:
         if (value == null) {
-          unsetET();
+          unsetE();
         } else {
-          setET((TachyonException)value);
+          setE((FileDoesNotExistException)value);
         }
         break;
 
@@ -15364,22 +20923,10 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Integer.valueOf(getSuccess());
-
-      case E_I:
-        return getEI();
-
-      case E_F:
-        return getEF();
-
-      case E_A:
-        return getEA();
-
-      case E_B:
-        return getEB();
+        return Long.valueOf(getSuccess());
 
-      case E_T:
-        return getET();
+      case E:
+        return getE();
 
       }
       throw new IllegalStateException();
@@ -15394,16 +20941,8 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_I:
-        return isSetEI();
-      case E_F:
-        return isSetEF();
-      case E_A:
-        return isSetEA();
-      case E_B:
-        return isSetEB();
-      case E_T:
-        return isSetET();
+      case E:
+        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -15412,12 +20951,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createDependency_result)
-        return this.equals((user_createDependency_result)that);
+      if (that instanceof user_createNewBlock_result)
+        return this.equals((user_createNewBlock_result)that);
       return false;
     }
 
-    public boolean equals(user_createDependency_result that) {
+    public boolean equals(user_createNewBlock_result that) {
       if (that == null)
         return false;
 
@@ -15430,48 +20969,12 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eI = true && this.isSetEI();
-      boolean that_present_eI = true && that.isSetEI();
-      if (this_present_eI || that_present_eI) {
-        if (!(this_present_eI && that_present_eI))
-          return false;
-        if (!this.eI.equals(that.eI))
-          return false;
-      }
-
-      boolean this_present_eF = true && this.isSetEF();
-      boolean that_present_eF = true && that.isSetEF();
-      if (this_present_eF || that_present_eF) {
-        if (!(this_present_eF && that_present_eF))
-          return false;
-        if (!this.eF.equals(that.eF))
-          return false;
-      }
-
-      boolean this_present_eA = true && this.isSetEA();
-      boolean that_present_eA = true && that.isSetEA();
-      if (this_present_eA || that_present_eA) {
-        if (!(this_present_eA && that_present_eA))
-          return false;
-        if (!this.eA.equals(that.eA))
-          return false;
-      }
-
-      boolean this_present_eB = true && this.isSetEB();
-      boolean that_present_eB = true && that.isSetEB();
-      if (this_present_eB || that_present_eB) {
-        if (!(this_present_eB && that_present_eB))
-          return false;
-        if (!this.eB.equals(that.eB))
-          return false;
-      }
-
-      boolean this_present_eT = true && this.isSetET();
-      boolean that_present_eT = true && that.isSetET();
-      if (this_present_eT || that_present_eT) {
-        if (!(this_present_eT && that_present_eT))
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
           return false;
-        if (!this.eT.equals(that.eT))
+        if (!this.e.equals(that.e))
           return false;
       }
 
@@ -15484,7 +20987,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createDependency_result other) {
+    public int compareTo(user_createNewBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15501,52 +21004,12 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEF()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEA()).compareTo(other.isSetEA());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEA()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eA, other.eA);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEB()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetET()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -15568,50 +21031,18 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createDependency_result(");
+      StringBuilder sb = new StringBuilder("user_createNewBlock_result(");
       boolean first = true;
 
       sb.append("success:");
       sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eI);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eF:");
-      if (this.eF == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eF);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eA:");
-      if (this.eA == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eA);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eB:");
-      if (this.eB == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eB);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eT:");
-      if (this.eT == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.eT);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -15641,15 +21072,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createDependency_resultStandardSchemeFactory implements SchemeFactory {
-      public user_createDependency_resultStandardScheme getScheme() {
-        return new user_createDependency_resultStandardScheme();
+    private static class user_createNewBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_resultStandardScheme getScheme() {
+        return new user_createNewBlock_resultStandardScheme();
       }
     }
 
-    private static class user_createDependency_resultStandardScheme extends StandardScheme<user_createDependency_result> {
+    private static class user_createNewBlock_resultStandardScheme extends StandardScheme<user_createNewBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createDependency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15660,54 +21091,18 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_I
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // E_F
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eF = new FileDoesNotExistException();
-                struct.eF.read(iprot);
-                struct.setEFIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // E_A
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eA = new FileAlreadyExistException();
-                struct.eA.read(iprot);
-                struct.setEAIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // E_B
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eB = new BlockInfoException();
-                struct.eB.read(iprot);
-                struct.setEBIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 5: // E_T
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eT = new TachyonException();
-                struct.eT.read(iprot);
-                struct.setETIsSet(true);
+                struct.e = new FileDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -15723,38 +21118,18 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createDependency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eI != null) {
-          oprot.writeFieldBegin(E_I_FIELD_DESC);
-          struct.eI.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eF != null) {
-          oprot.writeFieldBegin(E_F_FIELD_DESC);
-          struct.eF.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eA != null) {
-          oprot.writeFieldBegin(E_A_FIELD_DESC);
-          struct.eA.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eB != null) {
-          oprot.writeFieldBegin(E_B_FIELD_DESC);
-          struct.eB.write(oprot);
+          oprot.writeI64(struct.success);
           oprot.writeFieldEnd();
         }
-        if (struct.eT != null) {
-          oprot.writeFieldBegin(E_T_FIELD_DESC);
-          struct.eT.write(oprot);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -15763,111 +21138,67 @@ public class MasterService {
 
     }
 
-    private static class user_createDependency_resultTupleSchemeFactory implements SchemeFactory {
-      public user_createDependency_resultTupleScheme getScheme() {
-        return new user_createDependency_resultTupleScheme();
+    private static class user_createNewBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_resultTupleScheme getScheme() {
+        return new user_createNewBlock_resultTupleScheme();
       }
     }
 
-    private static class user_createDependency_resultTupleScheme extends TupleScheme<user_createDependency_result> {
+    private static class user_createNewBlock_resultTupleScheme extends TupleScheme<user_createNewBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createDependency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEI()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetEF()) {
-          optionals.set(2);
-        }
-        if (struct.isSetEA()) {
-          optionals.set(3);
-        }
-        if (struct.isSetEB()) {
-          optionals.set(4);
-        }
-        if (struct.isSetET()) {
-          optionals.set(5);
-        }
-        oprot.writeBitSet(optionals, 6);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
-        }
-        if (struct.isSetEI()) {
-          struct.eI.write(oprot);
-        }
-        if (struct.isSetEF()) {
-          struct.eF.write(oprot);
-        }
-        if (struct.isSetEA()) {
-          struct.eA.write(oprot);
-        }
-        if (struct.isSetEB()) {
-          struct.eB.write(oprot);
+          oprot.writeI64(struct.success);
         }
-        if (struct.isSetET()) {
-          struct.eT.write(oprot);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createDependency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(6);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI32();
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.eF = new FileDoesNotExistException();
-          struct.eF.read(iprot);
-          struct.setEFIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.eA = new FileAlreadyExistException();
-          struct.eA.read(iprot);
-          struct.setEAIsSet(true);
-        }
-        if (incoming.get(4)) {
-          struct.eB = new BlockInfoException();
-          struct.eB.read(iprot);
-          struct.setEBIsSet(true);
-        }
-        if (incoming.get(5)) {
-          struct.eT = new TachyonException();
-          struct.eT.read(iprot);
-          struct.setETIsSet(true);
+          struct.e = new FileDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getClientDependencyInfo_args implements org.apache.thrift.TBase<user_getClientDependencyInfo_args, user_getClientDependencyInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientDependencyInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientDependencyInfo_args");
+  public static class user_completeFile_args implements org.apache.thrift.TBase<user_completeFile_args, user_completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_args");
 
-    private static final org.apache.thrift.protocol.TField DEPENDENCY_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("dependencyId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientDependencyInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientDependencyInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_completeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_completeFile_argsTupleSchemeFactory());
     }
 
-    public int dependencyId; // required
+    public int fileId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      DEPENDENCY_ID((short)1, "dependencyId");
+      FILE_ID((short)1, "fileId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -15882,8 +21213,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // DEPENDENCY_ID
-            return DEPENDENCY_ID;
+          case 1: // FILE_ID
+            return FILE_ID;
           default:
             return null;
         }
@@ -15924,76 +21255,76 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __DEPENDENCYID_ISSET_ID = 0;
+    private static final int __FILEID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.DEPENDENCY_ID, new org.apache.thrift.meta_data.FieldMetaData("dependencyId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientDependencyInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_args.class, metaDataMap);
     }
 
-    public user_getClientDependencyInfo_args() {
+    public user_completeFile_args() {
     }
 
-    public user_getClientDependencyInfo_args(
-      int dependencyId)
+    public user_completeFile_args(
+      int fileId)
     {
       this();
-      this.dependencyId = dependencyId;
-      setDependencyIdIsSet(true);
+      this.fileId = fileId;
+      setFileIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientDependencyInfo_args(user_getClientDependencyInfo_args other) {
+    public user_completeFile_args(user_completeFile_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.dependencyId = other.dependencyId;
+      this.fileId = other.fileId;
     }
 
-    public user_getClientDependencyInfo_args deepCopy() {
-      return new user_getClientDependencyInfo_args(this);
+    public user_completeFile_args deepCopy() {
+      return new user_completeFile_args(this);
     }
 
     @Override
     public void clear() {
-      setDependencyIdIsSet(false);
-      this.dependencyId = 0;
+      setFileIdIsSet(false);
+      this.fileId = 0;
     }
 
-    public int getDependencyId() {
-      return this.dependencyId;
+    public int getFileId() {
+      return this.fileId;
     }
 
-    public user_getClientDependencyInfo_args setDependencyId(int dependencyId) {
-      this.dependencyId = dependencyId;
-      setDependencyIdIsSet(true);
+    public user_completeFile_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
       return this;
     }
 
-    public void unsetDependencyId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID);
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    /** Returns true if field dependencyId is set (has been assigned a value) and false otherwise */
-    public boolean isSetDependencyId() {
-      return EncodingUtils.testBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID);
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    public void setDependencyIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPENDENCYID_ISSET_ID, value);
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case DEPENDENCY_ID:
+      case FILE_ID:
         if (value == null) {
-          unsetDependencyId();
+          unsetFileId();
         } else {
-          setDependencyId((Integer)value);
+          setFileId((Integer)value);
         }
         break;
 
@@ -16002,8 +21333,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case DEPENDENCY_ID:
-        return Integer.valueOf(getDependencyId());
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
 
       }
       throw new IllegalStateException();
@@ -16016,8 +21347,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case DEPENDENCY_ID:
-        return isSetDependencyId();
+      case FILE_ID:
+        return isSetFileId();
       }
       throw new IllegalStateException();
     }
@@ -16026,21 +21357,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getClientDependencyInfo_args)
-        return this.equals((user_getClientDependencyInfo_args)that);
+      if (that instanceof user_completeFile_args)
+        return this.equals((user_completeFile_args)that);
       return false;
     }
 
-    public boolean equals(user_getClientDependencyInfo_args that) {
+    public boolean equals(user_completeFile_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_dependencyId = true;
-      boolean that_present_dependencyId = true;
-      if (this_present_dependencyId || that_present_dependencyId) {
-        if (!(this_present_dependencyId && that_present_dependencyId))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (this.dependencyId != that.dependencyId)
+        if (this.fileId != that.fileId)
           return false;
       }
 
@@ -16053,19 +21384,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientDependencyInfo_args other) {
+    public int compareTo(user_completeFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetDependencyId()).compareTo(other.isSetDependencyId());
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDependencyId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.dependencyId, other.dependencyId);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -16087,11 +21418,11 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientDependencyInfo_args(");
+      StringBuilder sb = new StringBuilder("user_completeFile_args(");
       boolean first = true;
 
-      sb.append("dependencyId:");
-      sb.append(this.dependencyId);
+      sb.append("fileId:");
+      sb.append(this.fileId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -16120,15 +21451,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientDependencyInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getClientDependencyInfo_argsStandardScheme getScheme() {
-        return new user_getClientDependencyInfo_argsStandardScheme();
+    private static class user_completeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public user_completeFile_argsStandardScheme getScheme() {
+        return new user_completeFile_argsStandardScheme();
       }
     }
 
-    private static class user_getClientDependencyInfo_argsStandardScheme extends StandardScheme<user_getClientDependencyInfo_args> {
+    private static class user_completeFile_argsStandardScheme extends StandardScheme<user_completeFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16138,10 +21469,10 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // DEPENDENCY_ID
+            case 1: // FILE_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.dependencyId = iprot.readI32();
-                struct.setDependencyIdIsSet(true);
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -16157,12 +21488,12 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(DEPENDENCY_ID_FIELD_DESC);
-        oprot.writeI32(struct.dependencyId);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -16170,58 +21501,55 @@ public class MasterService {
 
     }
 
-    private static class user_getClientDependencyInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getClientDependencyInfo_argsTupleScheme getScheme() {
-        return new user_getClientDependencyInfo_argsTupleScheme();
+    private static class user_completeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public user_completeFile_argsTupleScheme getScheme() {
+        return new user_completeFile_argsTupleScheme();
       }
     }
 
-    private static class user_getClientDependencyInfo_argsTupleScheme extends TupleScheme<user_getClientDependencyInfo_args> {
+    private static class user_completeFile_argsTupleScheme extends TupleScheme<user_completeFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetDependencyId()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetDependencyId()) {
-          oprot.writeI32(struct.dependencyId);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.dependencyId = iprot.readI32();
-          struct.setDependencyIdIsSet(true);
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getClientDependencyInfo_result implements org.apache.thrift.TBase<user_getClientDependencyInfo_result, user_getClientDependencyInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientDependencyInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientDependencyInfo_result");
+  public static class user_completeFile_result implements org.apache.thrift.TBase<user_completeFile_result, user_completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientDependencyInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientDependencyInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_completeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_completeFile_resultTupleSchemeFactory());
     }
 
-    public ClientDependencyInfo success; // required
-    public DependencyDoesNotExistException e; // required
+    public FileDoesNotExistException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -16237,8 +21565,6 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -16284,77 +21610,45 @@ public class MasterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientDependencyInfo.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientDependencyInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_result.class, metaDataMap);
     }
 
-    public user_getClientDependencyInfo_result() {
+    public user_completeFile_result() {
     }
 
-    public user_getClientDependencyInfo_result(
-      ClientDependencyInfo success,
-      DependencyDoesNotExistException e)
+    public user_completeFile_result(
+      FileDoesNotExistException e)
     {
       this();
-      this.success = success;
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientDependencyInfo_result(user_getClientDependencyInfo_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new ClientDependencyInfo(other.success);
-      }
+    public user_completeFile_result(user_completeFile_result other) {
       if (other.isSetE()) {
-        this.e = new DependencyDoesNotExistException(other.e);
+        this.e = new FileDoesNotExistException(other.e);
       }
     }
 
-    public user_getClientDependencyInfo_result deepCopy() {
-      return new user_getClientDependencyInfo_result(this);
+    public user_completeFile_result deepCopy() {
+      return new user_completeFile_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.e = null;
     }
 
-    public ClientDependencyInfo getSuccess() {
-      return this.success;
-    }
-
-    public user_getClientDependencyInfo_result setSuccess(ClientDependencyInfo success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
-    public DependencyDoesNotExistException getE() {
+    public FileDoesNotExistException getE() {
       return this.e;
     }
 
-    public user_getClientDependencyInfo_result setE(DependencyDoesNotExistException e) {
+    public user_completeFile_result setE(FileDoesNotExistException e) {
       this.e = e;
       return this;
     }
@@ -16376,19 +21670,11 @@ public class MasterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((ClientDependencyInfo)value);
-        }
-        break;
-
       case E:
         if (value == null) {
           unsetE();
         } else {
-          setE((DependencyDoesNotExistException)value);
+          setE((FileDoesNotExistException)value);
         }
         break;
 
@@ -16397,9 +21683,6 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case E:
         return getE();
 
@@ -16414,8 +21697,6 @@ public class MasterService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -16426,23 +21707,14 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getClientDependencyInfo_result)
-        return this.equals((user_getClientDependencyInfo_result)that);
-      return false;
-    }
-
-    public boolean equals(user_getClientDependencyInfo_result that) {
-      if (that == null)
-        return false;
-
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
+      if (that instanceof user_completeFile_result)
+        return this.equals((user_completeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(user_completeFile_result that) {
+      if (that == null)
+        return false;
 
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
@@ -16462,23 +21734,13 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientDependencyInfo_result other) {
+    public int compareTo(user_completeFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -16506,17 +21768,9 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientDependencyInfo_result(");
+      StringBuilder sb = new StringBuilder("user_completeFile_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -16531,9 +21785,6 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -16552,15 +21803,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientDependencyInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getClientDependencyInfo_resultStandardScheme getScheme() {
-        return new user_getClientDependencyInfo_resultStandardScheme();
+    private static class user_completeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public user_completeFile_resultStandardScheme getScheme() {
+        return new user_completeFile_resultStandardScheme();
       }
     }
 
-    private static class user_getClientDependencyInfo_resultStandardScheme extends StandardScheme<user_getClientDependencyInfo_result> {
+    private static class user_completeFile_resultStandardScheme extends StandardScheme<user_completeFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16570,18 +21821,9 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ClientDependencyInfo();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new DependencyDoesNotExistException();
+                struct.e = new FileDoesNotExistException();
                 struct.e.read(iprot);
                 struct.setEIsSet(true);
               } else { 
@@ -16599,15 +21841,10 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -16619,44 +21856,33 @@ public class MasterService {
 
     }
 
-    private static class user_getClientDependencyInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getClientDependencyInfo_resultTupleScheme getScheme() {
-        return new user_getClientDependencyInfo_resultTupleScheme();
+    private static class user_completeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public user_completeFile_resultTupleScheme getScheme() {
+        return new user_completeFile_resultTupleScheme();
       }
     }
 
-    private static class user_getClientDependencyInfo_resultTupleScheme extends TupleScheme<user_getClientDependencyInfo_result> {
+    private static class user_completeFile_resultTupleScheme extends TupleScheme<user_completeFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientDependencyInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new ClientDependencyInfo();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.e = new DependencyDoesNotExistException();
+          struct.e = new FileDoesNotExistException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
@@ -16665,22 +21891,20 @@ public class MasterService {
 
   }
 
-  public static class user_reportLostFile_args implements org.apache.thrift.TBase<user_reportLostFile_args, user_reportLostFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_reportLostFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_reportLostFile_args");
+  public static class user_getUserId_args implements org.apache.thrift.TBase<user_getUserId_args, user_getUserId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_reportLostFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_reportLostFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getUserId_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getUserId_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -16695,8 +21919,6 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
           default:
             return null;
         }
@@ -16735,89 +21957,37 @@ public class MasterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_reportLostFile_args.class, metaDataMap);
-    }
-
-    public user_reportLostFile_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_args.class, metaDataMap);
     }
 
-    public user_reportLostFile_args(
-      int fileId)
-    {
-      this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public user_getUserId_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_reportLostFile_args(user_reportLostFile_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+    public user_getUserId_args(user_getUserId_args other) {
     }
 
-    public user_reportLostFile_args deepCopy() {
-      return new user_reportLostFile_args(this);
+    public user_getUserId_args deepCopy() {
+      return new user_getUserId_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-    }
-
-    public int getFileId() {
-      return this.fileId;
-    }
-
-    public user_reportLostFile_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
-    }
-
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
-    }
-
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
-    }
-
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
       }
       throw new IllegalStateException();
     }
@@ -16829,8 +21999,6 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
       }
       throw new IllegalStateException();
     }
@@ -16839,24 +22007,15 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_reportLostFile_args)
-        return this.equals((user_reportLostFile_args)that);
+      if (that instanceof user_getUserId_args)
+        return this.equals((user_getUserId_args)that);
       return false;
     }
 
-    public boolean equals(user_reportLostFile_args that) {
+    public boolean equals(user_getUserId_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
-
       return true;
     }
 
@@ -16866,23 +22025,13 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_reportLostFile_args other) {
+    public int compareTo(user_getUserId_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -16900,12 +22049,9 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_reportLostFile_args(");
+      StringBuilder sb = new StringBuilder("user_getUserId_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -16925,23 +22071,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_reportLostFile_argsStandardSchemeFactory implements SchemeFactory {
-      public user_reportLostFile_argsStandardScheme getScheme() {
-        return new user_reportLostFile_argsStandardScheme();
+    private static class user_getUserId_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getUserId_argsStandardScheme getScheme() {
+        return new user_getUserId_argsStandardScheme();
       }
     }
 
-    private static class user_reportLostFile_argsStandardScheme extends StandardScheme<user_reportLostFile_args> {
+    private static class user_getUserId_argsStandardScheme extends StandardScheme<user_getUserId_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16951,14 +22095,6 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -16970,69 +22106,53 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_reportLostFile_argsTupleSchemeFactory implements SchemeFactory {
-      public user_reportLostFile_argsTupleScheme getScheme() {
-        return new user_reportLostFile_argsTupleScheme();
+    private static class user_getUserId_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getUserId_argsTupleScheme getScheme() {
+        return new user_getUserId_argsTupleScheme();
       }
     }
 
-    private static class user_reportLostFile_argsTupleScheme extends TupleScheme<user_reportLostFile_args> {
+    private static class user_getUserId_argsTupleScheme extends TupleScheme<user_getUserId_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class user_reportLostFile_result implements org.apache.thrift.TBase<user_reportLostFile_result, user_reportLostFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_reportLostFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_reportLostFile_result");
+  public static class user_getUserId_result implements org.apache.thrift.TBase<user_getUserId_result, user_getUserId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_result");
 
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_reportLostFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_reportLostFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getUserId_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getUserId_resultTupleSchemeFactory());
     }
 
-    public FileDoesNotExistException e; // required
+    public long success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -17047,8 +22167,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // E
-            return E;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -17089,74 +22209,76 @@ public class MasterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_reportLostFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_result.class, metaDataMap);
     }
 
-    public user_reportLostFile_result() {
+    public user_getUserId_result() {
     }
 
-    public user_reportLostFile_result(
-      FileDoesNotExistException e)
+    public user_getUserId_result(
+      long success)
     {
       this();
-      this.e = e;
+      this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_reportLostFile_result(user_reportLostFile_result other) {
-      if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
-      }
+    public user_getUserId_result(user_getUserId_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public user_reportLostFile_result deepCopy() {
-      return new user_reportLostFile_result(this);
+    public user_getUserId_result deepCopy() {
+      return new user_getUserId_result(this);
     }
 
     @Override
     public void clear() {
-      this.e = null;
+      setSuccessIsSet(false);
+      this.success = 0;
     }
 
-    public FileDoesNotExistException getE() {
-      return this.e;
+    public long getSuccess() {
+      return this.success;
     }
 
-    public user_reportLostFile_result setE(FileDoesNotExistException e) {
-      this.e = e;
+    public user_getUserId_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((FileDoesNotExistException)value);
+          setSuccess((Long)value);
         }
         break;
 
@@ -17165,8 +22287,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case E:
-        return getE();
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
 
       }
       throw new IllegalStateException();
@@ -17179,8 +22301,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case E:
-        return isSetE();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -17189,21 +22311,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_reportLostFile_result)
-        return this.equals((user_reportLostFile_result)that);
+      if (that instanceof user_getUserId_result)
+        return this.equals((user_getUserId_result)that);
       return false;
     }
 
-    public boolean equals(user_reportLostFile_result that) {
+    public boolean equals(user_getUserId_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.e.equals(that.e))
+        if (this.success != that.success)
           return false;
       }
 
@@ -17216,19 +22338,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_reportLostFile_result other) {
+    public int compareTo(user_getUserId_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -17250,15 +22372,11 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_reportLostFile_result(");
+      StringBuilder sb = new StringBuilder("user_getUserId_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
+      sb.append("success:");
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -17279,21 +22397,23 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_reportLostFile_resultStandardSchemeFactory implements SchemeFactory {
-      public user_reportLostFile_resultStandardScheme getScheme() {
-        return new user_reportLostFile_resultStandardScheme();
+    private static class user_getUserId_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getUserId_resultStandardScheme getScheme() {
+        return new user_getUserId_resultStandardScheme();
       }
     }
 
-    private static class user_reportLostFile_resultStandardScheme extends StandardScheme<user_reportLostFile_result> {
+    private static class user_getUserId_resultStandardScheme extends StandardScheme<user_getUserId_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17303,11 +22423,10 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -17323,13 +22442,13 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -17338,57 +22457,59 @@ public class MasterService {
 
     }
 
-    private static class user_reportLostFile_resultTupleSchemeFactory implements SchemeFactory {
-      public user_reportLostFile_resultTupleScheme getScheme() {
-        return new user_reportLostFile_resultTupleScheme();
+    private static class user_getUserId_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getUserId_resultTupleScheme getScheme() {
+        return new user_getUserId_resultTupleScheme();
       }
     }
 
-    private static class user_reportLostFile_resultTupleScheme extends TupleScheme<user_reportLostFile_result> {
+    private static class user_getUserId_resultTupleScheme extends TupleScheme<user_getUserId_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_reportLostFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.e = new FileDoesNotExistException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_requestFilesInDependency_args implements org.apache.thrift.TBase<user_requestFilesInDependency_args, user_requestFilesInDependency_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_requestFilesInDependency_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_requestFilesInDependency_args");
+  public static class user_getBlockId_args implements org.apache.thrift.TBase<user_getBlockId_args, user_getBlockId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_args");
 
-    private static final org.apache.thrift.protocol.TField DEP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("depId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("index", org.apache.thrift.protocol.TType.I32, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_requestFilesInDependency_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_requestFilesInDependency_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getBlockId_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getBlockId_argsTupleSchemeFactory());
     }
 
-    public int depId; // required
+    public int fileId; // required
+    public int index; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      DEP_ID((short)1, "depId");
+      FILE_ID((short)1, "fileId"),
+      INDEX((short)2, "index");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -17403,8 +22524,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // DEP_ID
-            return DEP_ID;
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // INDEX
+            return INDEX;
           default:
             return null;
         }
@@ -17445,76 +22568,116 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __DEPID_ISSET_ID = 0;
+    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __INDEX_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.DEP_ID, new org.apache.thrift.meta_data.FieldMetaData("depId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.INDEX, new org.apache.thrift.meta_data.FieldMetaData("index", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_requestFilesInDependency_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_args.class, metaDataMap);
     }
 
-    public user_requestFilesInDependency_args() {
+    public user_getBlockId_args() {
     }
 
-    public user_requestFilesInDependency_args(
-      int depId)
+    public user_getBlockId_args(
+      int fileId,
+      int index)
     {
       this();
-      this.depId = depId;
-      setDepIdIsSet(true);
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.index = index;
+      setIndexIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_requestFilesInDependency_args(user_requestFilesInDependency_args other) {
+    public user_getBlockId_args(user_getBlockId_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.depId = other.depId;
+      this.fileId = other.fileId;
+      this.index = other.index;
     }
 
-    public user_requestFilesInDependency_args deepCopy() {
-      return new user_requestFilesInDependency_args(this);
+    public user_getBlockId_args deepCopy() {
+      return new user_getBlockId_args(this);
     }
 
     @Override
     public void clear() {
-      setDepIdIsSet(false);
-      this.depId = 0;
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      setIndexIsSet(false);
+      this.index = 0;
     }
 
-    public int getDepId() {
-      return this.depId;
+    public int getFileId() {
+      return this.fileId;
     }
 
-    public user_requestFilesInDependency_args setDepId(int depId) {
-      this.depId = depId;
-      setDepIdIsSet(true);
+    public user_getBlockId_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public int getIndex() {
+      return this.index;
+    }
+
+    public user_getBlockId_args setIndex(int index) {
+      this.index = index;
+      setIndexIsSet(true);
       return this;
     }
 
-    public void unsetDepId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEPID_ISSET_ID);
+    public void unsetIndex() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INDEX_ISSET_ID);
     }
 
-    /** Returns true if field depId is set (has been assigned a value) and false otherwise */
-    public boolean isSetDepId() {
-      return EncodingUtils.testBit(__isset_bitfield, __DEPID_ISSET_ID);
+    /** Returns true if field index is set (has been assigned a value) and false otherwise */
+    public boolean isSetIndex() {
+      return EncodingUtils.testBit(__isset_bitfield, __INDEX_ISSET_ID);
     }
 
-    public void setDepIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEPID_ISSET_ID, value);
+    public void setIndexIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INDEX_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case DEP_ID:
+      case FILE_ID:
         if (value == null) {
-          unsetDepId();
+          unsetFileId();
         } else {
-          setDepId((Integer)value);
+          setFileId((Integer)value);
+        }
+        break;
+
+      case INDEX:
+        if (value == null) {
+          unsetIndex();
+        } else {
+          setIndex((Integer)value);
         }
         break;
 
@@ -17523,8 +22686,11 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case DEP_ID:
-        return Integer.valueOf(getDepId());
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      case INDEX:
+        return Integer.valueOf(getIndex());
 
       }
       throw new IllegalStateException();
@@ -17537,8 +22703,10 @@ public class MasterService {
       }
 
       switch (field) {
-      case DEP_ID:
-        return isSetDepId();
+      case FILE_ID:
+        return isSetFileId();
+      case INDEX:
+        return isSetIndex();
       }
       throw new IllegalStateException();
     }
@@ -17547,21 +22715,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_requestFilesInDependency_args)
-        return this.equals((user_requestFilesInDependency_args)that);
+      if (that instanceof user_getBlockId_args)
+        return this.equals((user_getBlockId_args)that);
       return false;
     }
 
-    public boolean equals(user_requestFilesInDependency_args that) {
+    public boolean equals(user_getBlockId_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_depId = true;
-      boolean that_present_depId = true;
-      if (this_present_depId || that_present_depId) {
-        if (!(this_present_depId && that_present_depId))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (this.depId != that.depId)
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_index = true;
+      boolean that_present_index = true;
+      if (this_present_index || that_present_index) {
+        if (!(this_present_index && that_present_index))
+          return false;
+        if (this.index != that.index)
           return false;
       }
 
@@ -17574,19 +22751,29 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_requestFilesInDependency_args other) {
+    public int compareTo(user_getBlockId_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetDepId()).compareTo(other.isSetDepId());
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDepId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.depId, other.depId);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIndex()).compareTo(other.isSetIndex());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIndex()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.index, other.index);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -17608,11 +22795,15 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_requestFilesInDependency_args(");
+      StringBuilder sb = new StringBuilder("user_getBlockId_args(");
       boolean first = true;
 
-      sb.append("depId:");
-      sb.append(this.depId);
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("index:");
+      sb.append(this.index);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -17641,15 +22832,15 @@ public class MasterService {
       }
     }
 
-    private static class user_requestFilesInDependency_argsStandardSchemeFactory implements SchemeFactory {
-      public user_requestFilesInDependency_argsStandardScheme getScheme() {
-        return new user_requestFilesInDependency_argsStandardScheme();
+    private static class user_getBlockId_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getBlockId_argsStandardScheme getScheme() {
+        return new user_getBlockId_argsStandardScheme();
       }
     }
 
-    private static class user_requestFilesInDependency_argsStandardScheme extends StandardScheme<user_requestFilesInDependency_args> {
+    private static class user_getBlockId_argsStandardScheme extends StandardScheme<user_getBlockId_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17659,10 +22850,18 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // DEP_ID
+            case 1: // FILE_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.depId = iprot.readI32();
-                struct.setDepIdIsSet(true);
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // INDEX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.index = iprot.readI32();
+                struct.setIndexIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -17678,12 +22877,15 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(DEP_ID_FIELD_DESC);
-        oprot.writeI32(struct.depId);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(INDEX_FIELD_DESC);
+        oprot.writeI32(struct.index);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -17691,55 +22893,68 @@ public class MasterService {
 
     }
 
-    private static class user_requestFilesInDependency_argsTupleSchemeFactory implements SchemeFactory {
-      public user_requestFilesInDependency_argsTupleScheme getScheme() {
-        return new user_requestFilesInDependency_argsTupleScheme();
+    private static class user_getBlockId_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getBlockId_argsTupleScheme getScheme() {
+        return new user_getBlockId_argsTupleScheme();
       }
     }
 
-    private static class user_requestFilesInDependency_argsTupleScheme extends TupleScheme<user_requestFilesInDependency_args> {
+    private static class user_getBlockId_argsTupleScheme extends TupleScheme<user_getBlockId_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetDepId()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetDepId()) {
-          oprot.writeI32(struct.depId);
+        if (struct.isSetIndex()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+        if (struct.isSetIndex()) {
+          oprot.writeI32(struct.index);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.depId = iprot.readI32();
-          struct.setDepIdIsSet(true);
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.index = iprot.readI32();
+          struct.setIndexIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_requestFilesInDependency_result implements org.apache.thrift.TBase<user_requestFilesInDependency_result, user_requestFilesInDependency_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_requestFilesInDependency_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_requestFilesInDependency_result");
+  public static class user_getBlockId_result implements org.apache.thrift.TBase<user_getBlockId_result, user_getBlockId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_requestFilesInDependency_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_requestFilesInDependency_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getBlockId_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getBlockId_resultTupleSchemeFactory());
     }
 
-    public DependencyDoesNotExistException e; // required
+    public long success; // required
+    public FileDoesNotExistException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -17755,6 +22970,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -17797,48 +23014,82 @@ public class MasterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_requestFilesInDependency_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_result.class, metaDataMap);
     }
 
-    public user_requestFilesInDependency_result() {
+    public user_getBlockId_result() {
     }
 
-    public user_requestFilesInDependency_result(
-      DependencyDoesNotExistException e)
+    public user_getBlockId_result(
+      long success,
+      FileDoesNotExistException e)
     {
       this();
+      this.success = success;
+      setSuccessIsSet(true);
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_requestFilesInDependency_result(user_requestFilesInDependency_result other) {
+    public user_getBlockId_result(user_getBlockId_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetE()) {
-        this.e = new DependencyDoesNotExistException(other.e);
+        this.e = new FileDoesNotExistException(other.e);
       }
     }
 
-    public user_requestFilesInDependency_result deepCopy() {
-      return new user_requestFilesInDependency_result(this);
+    public user_getBlockId_result deepCopy() {
+      return new user_getBlockId_result(this);
     }
 
     @Override
     public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
       this.e = null;
     }
 
-    public DependencyDoesNotExistException getE() {
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public user_getBlockId_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public FileDoesNotExistException getE() {
       return this.e;
     }
 
-    public user_requestFilesInDependency_result setE(DependencyDoesNotExistException e) {
+    public user_getBlockId_result setE(FileDoesNotExistException e) {
       this.e = e;
       return this;
     }
@@ -17860,11 +23111,19 @@ public class MasterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
         } else {
-          setE((DependencyDoesNotExistException)value);
+          setE((FileDoesNotExistException)value);
         }
         break;
 
@@ -17873,6 +23132,9 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
       case E:
         return getE();
 
@@ -17887,6 +23149,8 @@ public class MasterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -17897,15 +23161,24 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_requestFilesInDependency_result)
-        return this.equals((user_requestFilesInDependency_result)that);
+      if (that instanceof user_getBlockId_result)
+        return this.equals((user_getBlockId_result)that);
       return false;
     }
 
-    public boolean equals(user_requestFilesInDependency_result that) {
+    public boolean equals(user_getBlockId_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -17924,13 +23197,23 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_requestFilesInDependency_result other) {
+    public int compareTo(user_getBlockId_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -17958,9 +23241,13 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_requestFilesInDependency_result(");
+      StringBuilder sb = new StringBuilder("user_getBlockId_result(");
       boolean first = true;
 
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -17987,21 +23274,23 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_requestFilesInDependency_resultStandardSchemeFactory implements SchemeFactory {
-      public user_requestFilesInDependency_resultStandardScheme getScheme() {
-        return new user_requestFilesInDependency_resultStandardScheme();
+    private static class user_getBlockId_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getBlockId_resultStandardScheme getScheme() {
+        return new user_getBlockId_resultStandardScheme();
       }
     }
 
-    private static class user_requestFilesInDependency_resultStandardScheme extends StandardScheme<user_requestFilesInDependency_result> {
+    private static class user_getBlockId_resultStandardScheme extends StandardScheme<user_getBlockId_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18011,9 +23300,17 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new DependencyDoesNotExistException();
+                struct.e = new FileDoesNotExistException();
                 struct.e.read(iprot);
                 struct.setEIsSet(true);
               } else { 
@@ -18031,10 +23328,15 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -18046,33 +23348,43 @@ public class MasterService {
 
     }
 
-    private static class user_requestFilesInDependency_resultTupleSchemeFactory implements SchemeFactory {
-      public user_requestFilesInDependency_resultTupleScheme getScheme() {
-        return new user_requestFilesInDependency_resultTupleScheme();
+    private static class user_getBlockId_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getBlockId_resultTupleScheme getScheme() {
+        return new user_getBlockId_resultTupleScheme();
       }
     }
 
-    private static class user_requestFilesInDependency_resultTupleScheme extends TupleScheme<user_requestFilesInDependency_result> {
+    private static class user_getBlockId_resultTupleScheme extends TupleScheme<user_getBlockId_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_requestFilesInDependency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.e = new DependencyDoesNotExistException();
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new FileDoesNotExistException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
@@ -18081,31 +23393,25 @@ public class MasterService {
 
   }
 
-  public static class user_createFile_args implements org.apache.thrift.TBase<user_createFile_args, user_createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFile_args");
+  public static class user_getWorker_args implements org.apache.thrift.TBase<user_getWorker_args, user_getWorker_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField UFS_PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPath", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_BYTE_FIELD_DESC = new org.apache.thrift.protocol.TField("blockSizeByte", org.apache.thrift.protocol.TType.I64, (short)3);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)4);
+    private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField("random", org.apache.thrift.protocol.TType.BOOL, (short)1);
+    private static final org.apache.thrift.protocol.TField HOST_FIELD_DESC = new org.apache.thrift.protocol.TField("host", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getWorker_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getWorker_argsTupleSchemeFactory());
     }
 
-    public String path; // required
-    public String ufsPath; // required
-    public long blockSizeByte; // required
-    public boolean recursive; // required
+    public boolean random; // required
+    public String host; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      PATH((short)1, "path"),
-      UFS_PATH((short)2, "ufsPath"),
-      BLOCK_SIZE_BYTE((short)3, "blockSizeByte"),
-      RECURSIVE((short)4, "recursive");
+      RANDOM((short)1, "random"),
+      HOST((short)2, "host");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -18120,14 +23426,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
-          case 2: // UFS_PATH
-            return UFS_PATH;
-          case 3: // BLOCK_SIZE_BYTE
-            return BLOCK_SIZE_BYTE;
-          case 4: // RECURSIVE
-            return RECURSIVE;
+          case 1: // RANDOM
+            return RANDOM;
+          case 2: // HOST
+            return HOST;
           default:
             return null;
         }
@@ -18168,196 +23470,116 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __BLOCKSIZEBYTE_ISSET_ID = 0;
-    private static final int __RECURSIVE_ISSET_ID = 1;
+    private static final int __RANDOM_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.UFS_PATH, new org.apache.thrift.meta_data.FieldMetaData("ufsPath", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.BLOCK_SIZE_BYTE, new org.apache.thrift.meta_data.FieldMetaData("blockSizeByte", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData("random", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.HOST, new org.apache.thrift.meta_data.FieldMetaData("host", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_args.class, metaDataMap);
     }
 
-    public user_createFile_args() {
+    public user_getWorker_args() {
     }
 
-    public user_createFile_args(
-      String path,
-      String ufsPath,
-      long blockSizeByte,
-      boolean recursive)
+    public user_getWorker_args(
+      boolean random,
+      String host)
     {
       this();
-      this.path = path;
-      this.ufsPath = ufsPath;
-      this.blockSizeByte = blockSizeByte;
-      setBlockSizeByteIsSet(true);
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+      this.random = random;
+      setRandomIsSet(true);
+      this.host = host;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createFile_args(user_createFile_args other) {
+    public user_getWorker_args(user_getWorker_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      if (other.isSetUfsPath()) {
-        this.ufsPath = other.ufsPath;
+      this.random = other.random;
+      if (other.isSetHost()) {
+        this.host = other.host;
       }
-      this.blockSizeByte = other.blockSizeByte;
-      this.recursive = other.recursive;
     }
 
-    public user_createFile_args deepCopy() {
-      return new user_createFile_args(this);
+    public user_getWorker_args deepCopy() {
+      return new user_getWorker_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
-      this.ufsPath = null;
-      setBlockSizeByteIsSet(false);
-      this.blockSizeByte = 0;
-      setRecursiveIsSet(false);
-      this.recursive = false;
-    }
-
-    public String getPath() {
-      return this.path;
-    }
-
-    public user_createFile_args setPath(String path) {
-      this.path = path;
-      return this;
-    }
-
-    public void unsetPath() {
-      this.path = null;
-    }
-
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
-    }
-
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
-    }
-
-    public String getUfsPath() {
-      return this.ufsPath;
-    }
-
-    public user_createFile_args setUfsPath(String ufsPath) {
-      this.ufsPath = ufsPath;
-      return this;
-    }
-
-    public void unsetUfsPath() {
-      this.ufsPath = null;
-    }
-
-    /** Returns true if field ufsPath is set (has been assigned a value) and false otherwise */
-    public boolean isSetUfsPath() {
-      return this.ufsPath != null;
-    }
-
-    public void setUfsPathIsSet(boolean value) {
-      if (!value) {
-        this.ufsPath = null;
-      }
+      setRandomIsSet(false);
+      this.random = false;
+      this.host = null;
     }
 
-    public long getBlockSizeByte() {
-      return this.blockSizeByte;
+    public boolean isRandom() {
+      return this.random;
     }
 
-    public user_createFile_args setBlockSizeByte(long blockSizeByte) {
-      this.blockSizeByte = blockSizeByte;
-      setBlockSizeByteIsSet(true);
+    public user_getWorker_args setRandom(boolean random) {
+      this.random = random;
+      setRandomIsSet(true);
       return this;
     }
 
-    public void unsetBlockSizeByte() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    public void unsetRandom() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RANDOM_ISSET_ID);
     }
 
-    /** Returns true if field blockSizeByte is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockSizeByte() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    /** Returns true if field random is set (has been assigned a value) and false otherwise */
+    public boolean isSetRandom() {
+      return EncodingUtils.testBit(__isset_bitfield, __RANDOM_ISSET_ID);
     }
 
-    public void setBlockSizeByteIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID, value);
+    public void setRandomIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RANDOM_ISSET_ID, value);
     }
 
-    public boolean isRecursive() {
-      return this.recursive;
+    public String getHost() {
+      return this.host;
     }
 
-    public user_createFile_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public user_getWorker_args setHost(String host) {
+      this.host = host;
       return this;
     }
 
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    public void unsetHost() {
+      this.host = null;
     }
 
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    /** Returns true if field host is set (has been assigned a value) and false otherwise */
+    public boolean isSetHost() {
+      return this.host != null;
     }
 
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    public void setHostIsSet(boolean value) {
+      if (!value) {
+        this.host = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
-        if (value == null) {
-          unsetPath();
-        } else {
-          setPath((String)value);
-        }
-        break;
-
-      case UFS_PATH:
-        if (value == null) {
-          unsetUfsPath();
-        } else {
-          setUfsPath((String)value);
-        }
-        break;
-
-      case BLOCK_SIZE_BYTE:
+      case RANDOM:
         if (value == null) {
-          unsetBlockSizeByte();
+          unsetRandom();
         } else {
-          setBlockSizeByte((Long)value);
+          setRandom((Boolean)value);
         }
         break;
 
-      case RECURSIVE:
+      case HOST:
         if (value == null) {
-          unsetRecursive();
+          unsetHost();
         } else {
-          setRecursive((Boolean)value);
+          setHost((String)value);
         }
         break;
 
@@ -18366,17 +23588,11 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
-
-      case UFS_PATH:
-        return getUfsPath();
-
-      case BLOCK_SIZE_BYTE:
-        return Long.valueOf(getBlockSizeByte());
+      case RANDOM:
+        return Boolean.valueOf(isRandom());
 
-      case RECURSIVE:
-        return Boolean.valueOf(isRecursive());
+      case HOST:
+        return getHost();
 
       }
       throw new IllegalStateException();
@@ -18389,14 +23605,10 @@ public class MasterService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
-      case UFS_PATH:
-        return isSetUfsPath();
-      case BLOCK_SIZE_BYTE:
-        return isSetBlockSizeByte();
-      case RECURSIVE:
-        return isSetRecursive();
+      case RANDOM:
+        return isSetRandom();
+      case HOST:
+        return isSetHost();
       }
       throw new IllegalStateException();
     }
@@ -18405,48 +23617,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createFile_args)
-        return this.equals((user_createFile_args)that);
+      if (that instanceof user_getWorker_args)
+        return this.equals((user_getWorker_args)that);
       return false;
     }
 
-    public boolean equals(user_createFile_args that) {
+    public boolean equals(user_getWorker_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
-          return false;
-        if (!this.path.equals(that.path))
-          return false;
-      }
-
-      boolean this_present_ufsPath = true && this.isSetUfsPath();
-      boolean that_present_ufsPath = true && that.isSetUfsPath();
-      if (this_present_ufsPath || that_present_ufsPath) {
-        if (!(this_present_ufsPath && that_present_ufsPath))
-          return false;
-        if (!this.ufsPath.equals(that.ufsPath))
-          return false;
-      }
-
-      boolean this_present_blockSizeByte = true;
-      boolean that_present_blockSizeByte = true;
-      if (this_present_blockSizeByte || that_present_blockSizeByte) {
-        if (!(this_present_blockSizeByte && that_present_blockSizeByte))
+      boolean this_present_random = true;
+      boolean that_present_random = true;
+      if (this_present_random || that_present_random) {
+        if (!(this_present_random && that_present_random))
           return false;
-        if (this.blockSizeByte != that.blockSizeByte)
+        if (this.random != that.random)
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
+      boolean this_present_host = true && this.isSetHost();
+      boolean that_present_host = true && that.isSetHost();
+      if (this_present_host || that_present_host) {
+        if (!(this_present_host && that_present_host))
           return false;
-        if (this.recursive != that.recursive)
+        if (!this.host.equals(that.host))
           return false;
       }
 
@@ -18459,49 +23653,29 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createFile_args other) {
+    public int compareTo(user_getWorker_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetUfsPath()).compareTo(other.isSetUfsPath());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUfsPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPath, other.ufsPath);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetBlockSizeByte()).compareTo(other.isSetBlockSizeByte());
+      lastComparison = Boolean.valueOf(isSetRandom()).compareTo(other.isSetRandom());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockSizeByte()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockSizeByte, other.blockSizeByte);
+      if (isSetRandom()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.random, other.random);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      lastComparison = Boolean.valueOf(isSetHost()).compareTo(other.isSetHost());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+      if (isSetHost()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.host, other.host);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -18523,32 +23697,20 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createFile_args(");
+      StringBuilder sb = new StringBuilder("user_getWorker_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.path);
-      }
+      sb.append("random:");
+      sb.append(this.random);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("ufsPath:");
-      if (this.ufsPath == null) {
+      sb.append("host:");
+      if (this.host == null) {
         sb.append("null");
       } else {
-        sb.append(this.ufsPath);
+        sb.append(this.host);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("blockSizeByte:");
-      sb.append(this.blockSizeByte);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -18576,15 +23738,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createFile_argsStandardSchemeFactory implements SchemeFactory {
-      public user_createFile_argsStandardScheme getScheme() {
-        return new user_createFile_argsStandardScheme();
+    private static class user_getWorker_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getWorker_argsStandardScheme getScheme() {
+        return new user_getWorker_argsStandardScheme();
       }
     }
 
-    private static class user_createFile_argsStandardScheme extends StandardScheme<user_createFile_args> {
+    private static class user_getWorker_argsStandardScheme extends StandardScheme<user_getWorker_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18594,34 +23756,18 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // RANDOM
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.random = iprot.readBool();
+                struct.setRandomIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // UFS_PATH
+            case 2: // HOST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.ufsPath = iprot.readString();
-                struct.setUfsPathIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // BLOCK_SIZE_BYTE
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockSizeByte = iprot.readI64();
-                struct.setBlockSizeByteIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+                struct.host = iprot.readString();
+                struct.setHostIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -18637,130 +23783,87 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ufsPath != null) {
-          oprot.writeFieldBegin(UFS_PATH_FIELD_DESC);
-          oprot.writeString(struct.ufsPath);
+        oprot.writeFieldBegin(RANDOM_FIELD_DESC);
+        oprot.writeBool(struct.random);
+        oprot.writeFieldEnd();
+        if (struct.host != null) {
+          oprot.writeFieldBegin(HOST_FIELD_DESC);
+          oprot.writeString(struct.host);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(BLOCK_SIZE_BYTE_FIELD_DESC);
-        oprot.writeI64(struct.blockSizeByte);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_createFile_argsTupleSchemeFactory implements SchemeFactory {
-      public user_createFile_argsTupleScheme getScheme() {
-        return new user_createFile_argsTupleScheme();
+    private static class user_getWorker_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getWorker_argsTupleScheme getScheme() {
+        return new user_getWorker_argsTupleScheme();
       }
     }
 
-    private static class user_createFile_argsTupleScheme extends TupleScheme<user_createFile_args> {
+    private static class user_getWorker_argsTupleScheme extends TupleScheme<user_getWorker_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetRandom()) {
           optionals.set(0);
         }
-        if (struct.isSetUfsPath()) {
+        if (struct.isSetHost()) {
           optionals.set(1);
         }
-        if (struct.isSetBlockSizeByte()) {
-          optionals.set(2);
-        }
-        if (struct.isSetRecursive()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
-        }
-        if (struct.isSetUfsPath()) {
-          oprot.writeString(struct.ufsPath);
-        }
-        if (struct.isSetBlockSizeByte()) {
-          oprot.writeI64(struct.blockSizeByte);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRandom()) {
+          oprot.writeBool(struct.random);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
+        if (struct.isSetHost()) {
+          oprot.writeString(struct.host);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.random = iprot.readBool();
+          struct.setRandomIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ufsPath = iprot.readString();
-          struct.setUfsPathIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.blockSizeByte = iprot.readI64();
-          struct.setBlockSizeByteIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
+          struct.host = iprot.readString();
+          struct.setHostIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_createFile_result implements org.apache.thrift.TBase<user_createFile_result, user_createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFile_result");
+  public static class user_getWorker_result implements org.apache.thrift.TBase<user_getWorker_result, user_getWorker_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
-    private static final org.apache.thrift.protocol.TField E_R_FIELD_DESC = new org.apache.thrift.protocol.TField("eR", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
-    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)4);
-    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
-    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)6);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getWorker_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getWorker_resultTupleSchemeFactory());
     }
 
-    public int success; // required
-    public FileAlreadyExistException eR; // required
-    public InvalidPathException eI; // required
-    public BlockInfoException eB; // required
-    public SuspectedFileSizeException eS; // required
-    public TachyonException eT; // required
-    public AccessControlException eAC; // required
+    public NetAddress success; // required
+    public NoWorkerException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_R((short)1, "eR"),
-      E_I((short)2, "eI"),
-      E_B((short)3, "eB"),
-      E_S((short)4, "eS"),
-      E_T((short)5, "eT"),
-      E_AC((short)6, "eAC");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -18777,18 +23880,8 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_R
-            return E_R;
-          case 2: // E_I
-            return E_I;
-          case 3: // E_B
-            return E_B;
-          case 4: // E_S
-            return E_S;
-          case 5: // E_T
-            return E_T;
-          case 6: // E_AC
-            return E_AC;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -18820,267 +23913,105 @@ public class MasterService {
       }
 
       public short getThriftFieldId() {
-        return _thriftId;
-      }
-
-      public String getFieldName() {
-        return _fieldName;
-      }
-    }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.E_R, new org.apache.thrift.meta_data.FieldMetaData("eR", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFile_result.class, metaDataMap);
-    }
-
-    public user_createFile_result() {
-    }
-
-    public user_createFile_result(
-      int success,
-      FileAlreadyExistException eR,
-      InvalidPathException eI,
-      BlockInfoException eB,
-      SuspectedFileSizeException eS,
-      TachyonException eT,
-      AccessControlException eAC)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
-      this.eR = eR;
-      this.eI = eI;
-      this.eB = eB;
-      this.eS = eS;
-      this.eT = eT;
-      this.eAC = eAC;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public user_createFile_result(user_createFile_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetER()) {
-        this.eR = new FileAlreadyExistException(other.eR);
-      }
-      if (other.isSetEI()) {
-        this.eI = new InvalidPathException(other.eI);
-      }
-      if (other.isSetEB()) {
-        this.eB = new BlockInfoException(other.eB);
-      }
-      if (other.isSetES()) {
-        this.eS = new SuspectedFileSizeException(other.eS);
-      }
-      if (other.isSetET()) {
-        this.eT = new TachyonException(other.eT);
-      }
-      if (other.isSetEAC()) {
-        this.eAC = new AccessControlException(other.eAC);
-      }
-    }
-
-    public user_createFile_result deepCopy() {
-      return new user_createFile_result(this);
-    }
-
-    @Override
-    public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-      this.eR = null;
-      this.eI = null;
-      this.eB = null;
-      this.eS = null;
-      this.eT = null;
-      this.eAC = null;
-    }
-
-    public int getSuccess() {
-      return this.success;
-    }
-
-    public user_createFile_result setSuccess(int success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public FileAlreadyExistException getER() {
-      return this.eR;
-    }
-
-    public user_createFile_result setER(FileAlreadyExistException eR) {
-      this.eR = eR;
-      return this;
-    }
-
-    public void unsetER() {
-      this.eR = null;
-    }
-
-    /** Returns true if field eR is set (has been assigned a value) and false otherwise */
-    public boolean isSetER() {
-      return this.eR != null;
-    }
-
-    public void setERIsSet(boolean value) {
-      if (!value) {
-        this.eR = null;
-      }
-    }
-
-    public InvalidPathException getEI() {
-      return this.eI;
-    }
-
-    public user_createFile_result setEI(InvalidPathException eI) {
-      this.eI = eI;
-      return this;
-    }
-
-    public void unsetEI() {
-      this.eI = null;
-    }
-
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
-    }
-
-    public void setEIIsSet(boolean value) {
-      if (!value) {
-        this.eI = null;
+        return _thriftId;
       }
-    }
 
-    public BlockInfoException getEB() {
-      return this.eB;
+      public String getFieldName() {
+        return _fieldName;
+      }
     }
 
-    public user_createFile_result setEB(BlockInfoException eB) {
-      this.eB = eB;
-      return this;
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NetAddress.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_result.class, metaDataMap);
     }
 
-    public void unsetEB() {
-      this.eB = null;
+    public user_getWorker_result() {
     }
 
-    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
-    public boolean isSetEB() {
-      return this.eB != null;
+    public user_getWorker_result(
+      NetAddress success,
+      NoWorkerException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
     }
 
-    public void setEBIsSet(boolean value) {
-      if (!value) {
-        this.eB = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getWorker_result(user_getWorker_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new NetAddress(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new NoWorkerException(other.e);
       }
     }
 
-    public SuspectedFileSizeException getES() {
-      return this.eS;
-    }
-
-    public user_createFile_result setES(SuspectedFileSizeException eS) {
-      this.eS = eS;
-      return this;
-    }
-
-    public void unsetES() {
-      this.eS = null;
-    }
-
-    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
-    public boolean isSetES() {
-      return this.eS != null;
+    public user_getWorker_result deepCopy() {
+      return new user_getWorker_result(this);
     }
 
-    public void setESIsSet(boolean value) {
-      if (!value) {
-        this.eS = null;
-      }
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
     }
 
-    public TachyonException getET() {
-      return this.eT;
+    public NetAddress getSuccess() {
+      return this.success;
     }
 
-    public user_createFile_result setET(TachyonException eT) {
-      this.eT = eT;
+    public user_getWorker_result setSuccess(NetAddress success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetET() {
-      this.eT = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
-    public boolean isSetET() {
-      return this.eT != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setETIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.eT = null;
+        this.success = null;
       }
     }
 
-    public AccessControlException getEAC() {
-      return this.eAC;
+    public NoWorkerException getE() {
+      return this.e;
     }
 
-    public user_createFile_result setEAC(AccessControlException eAC) {
-      this.eAC = eAC;
+    public user_getWorker_result setE(NoWorkerException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetEAC() {
-      this.eAC = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field eAC is set (has been assigned a value) and false otherwise */
-    public boolean isSetEAC() {
-      return this.eAC != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setEACIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.eAC = null;
+        this.e = null;
       }
     }
 
@@ -19090,55 +24021,15 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Integer)value);
-        }
-        break;
-
-      case E_R:
-        if (value == null) {
-          unsetER();
-        } else {
-          setER((FileAlreadyExistException)value);
-        }
-        break;
-
-      case E_I:
-        if (value == null) {
-          unsetEI();
-        } else {
-          setEI((InvalidPathException)value);
-        }
-        break;
-
-      case E_B:
-        if (value == null) {
-          unsetEB();
-        } else {
-          setEB((BlockInfoException)value);
-        }
-        break;
-
-      case E_S:
-        if (value == null) {
-          unsetES();
-        } else {
-          setES((SuspectedFileSizeException)value);
-        }
-        break;
-
-      case E_T:
-        if (value == null) {
-          unsetET();
-        } else {
-          setET((TachyonException)value);
+          setSuccess((NetAddress)value);
         }
         break;
 
-      case E_AC:
+      case E:
         if (value == null) {
-          unsetEAC();
+          unsetE();
         } else {
-          setEAC((AccessControlException)value);
+          setE((NoWorkerException)value);
         }
         break;
 
@@ -19148,25 +24039,10 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Integer.valueOf(getSuccess());
-
-      case E_R:
-        return getER();
-
-      case E_I:
-        return getEI();
-
-      case E_B:
-        return getEB();
-
-      case E_S:
-        return getES();
-
-      case E_T:
-        return getET();
+        return getSuccess();
 
-      case E_AC:
-        return getEAC();
+      case E:
+        return getE();
 
       }
       throw new IllegalStateException();
@@ -19181,95 +24057,40 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_R:
-        return isSetER();
-      case E_I:
-        return isSetEI();
-      case E_B:
-        return isSetEB();
-      case E_S:
-        return isSetES();
-      case E_T:
-        return isSetET();
-      case E_AC:
-        return isSetEAC();
-      }
-      throw new IllegalStateException();
-    }
-
-    @Override
-    public boolean equals(Object that) {
-      if (that == null)
-        return false;
-      if (that instanceof user_createFile_result)
-        return this.equals((user_createFile_result)that);
-      return false;
-    }
-
-    public boolean equals(user_createFile_result that) {
-      if (that == null)
-        return false;
-
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_eR = true && this.isSetER();
-      boolean that_present_eR = true && that.isSetER();
-      if (this_present_eR || that_present_eR) {
-        if (!(this_present_eR && that_present_eR))
-          return false;
-        if (!this.eR.equals(that.eR))
-          return false;
-      }
-
-      boolean this_present_eI = true && this.isSetEI();
-      boolean that_present_eI = true && that.isSetEI();
-      if (this_present_eI || that_present_eI) {
-        if (!(this_present_eI && that_present_eI))
-          return false;
-        if (!this.eI.equals(that.eI))
-          return false;
-      }
-
-      boolean this_present_eB = true && this.isSetEB();
-      boolean that_present_eB = true && that.isSetEB();
-      if (this_present_eB || that_present_eB) {
-        if (!(this_present_eB && that_present_eB))
-          return false;
-        if (!this.eB.equals(that.eB))
-          return false;
-      }
-
-      boolean this_present_eS = true && this.isSetES();
-      boolean that_present_eS = true && that.isSetES();
-      if (this_present_eS || that_present_eS) {
-        if (!(this_present_eS && that_present_eS))
-          return false;
-        if (!this.eS.equals(that.eS))
-          return false;
+      case E:
+        return isSetE();
       }
+      throw new IllegalStateException();
+    }
 
-      boolean this_present_eT = true && this.isSetET();
-      boolean that_present_eT = true && that.isSetET();
-      if (this_present_eT || that_present_eT) {
-        if (!(this_present_eT && that_present_eT))
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getWorker_result)
+        return this.equals((user_getWorker_result)that);
+      return false;
+    }
+
+    public boolean equals(user_getWorker_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.eT.equals(that.eT))
+        if (!this.success.equals(that.success))
           return false;
       }
 
-      boolean this_present_eAC = true && this.isSetEAC();
-      boolean that_present_eAC = true && that.isSetEAC();
-      if (this_present_eAC || that_present_eAC) {
-        if (!(this_present_eAC && that_present_eAC))
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
           return false;
-        if (!this.eAC.equals(that.eAC))
+        if (!this.e.equals(that.e))
           return false;
       }
 
@@ -19282,7 +24103,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createFile_result other) {
+    public int compareTo(user_getWorker_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19299,62 +24120,12 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetER()).compareTo(other.isSetER());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetER()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eR, other.eR);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEB()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetES()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetET()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEAC()).compareTo(other.isSetEAC());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEAC()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eAC, other.eAC);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -19376,58 +24147,22 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createFile_result(");
+      StringBuilder sb = new StringBuilder("user_getWorker_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eR:");
-      if (this.eR == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eR);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eI);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eB:");
-      if (this.eB == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eB);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eS:");
-      if (this.eS == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eS);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eT:");
-      if (this.eT == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.eT);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eAC:");
-      if (this.eAC == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.eAC);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -19437,6 +24172,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -19449,23 +24187,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_createFile_resultStandardSchemeFactory implements SchemeFactory {
-      public user_createFile_resultStandardScheme getScheme() {
-        return new user_createFile_resultStandardScheme();
+    private static class user_getWorker_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getWorker_resultStandardScheme getScheme() {
+        return new user_getWorker_resultStandardScheme();
       }
     }
 
-    private static class user_createFile_resultStandardScheme extends StandardScheme<user_createFile_result> {
+    private static class user_getWorker_resultStandardScheme extends StandardScheme<user_getWorker_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19476,115 +24212,46 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E_R
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eR = new FileAlreadyExistException();
-                struct.eR.read(iprot);
-                struct.setERIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // E_I
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // E_B
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eB = new BlockInfoException();
-                struct.eB.read(iprot);
-                struct.setEBIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // E_S
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eS = new SuspectedFileSizeException();
-                struct.eS.read(iprot);
-                struct.setESIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 5: // E_T
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eT = new TachyonException();
-                struct.eT.read(iprot);
-                struct.setETIsSet(true);
+                struct.success = new NetAddress();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 6: // E_AC
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eAC = new AccessControlException();
-                struct.eAC.read(iprot);
-                struct.setEACIsSet(true);
+                struct.e = new NoWorkerException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
-              break;
-            default:
-              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-          }
-          iprot.readFieldEnd();
-        }
-        iprot.readStructEnd();
-
-        // check for required fields of primitive type, which can't be checked in the validate method
-        struct.validate();
-      }
-
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFile_result struct) throws org.apache.thrift.TException {
-        struct.validate();
-
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eR != null) {
-          oprot.writeFieldBegin(E_R_FIELD_DESC);
-          struct.eR.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eI != null) {
-          oprot.writeFieldBegin(E_I_FIELD_DESC);
-          struct.eI.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eB != null) {
-          oprot.writeFieldBegin(E_B_FIELD_DESC);
-          struct.eB.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eS != null) {
-          oprot.writeFieldBegin(E_S_FIELD_DESC);
-          struct.eS.write(oprot);
-          oprot.writeFieldEnd();
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
         }
-        if (struct.eT != null) {
-          oprot.writeFieldBegin(E_T_FIELD_DESC);
-          struct.eT.write(oprot);
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eAC != null) {
-          oprot.writeFieldBegin(E_AC_FIELD_DESC);
-          struct.eAC.write(oprot);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -19593,122 +24260,71 @@ public class MasterService {
 
     }
 
-    private static class user_createFile_resultTupleSchemeFactory implements SchemeFactory {
-      public user_createFile_resultTupleScheme getScheme() {
-        return new user_createFile_resultTupleScheme();
+    private static class user_getWorker_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getWorker_resultTupleScheme getScheme() {
+        return new user_getWorker_resultTupleScheme();
       }
     }
 
-    private static class user_createFile_resultTupleScheme extends TupleScheme<user_createFile_result> {
+    private static class user_getWorker_resultTupleScheme extends TupleScheme<user_getWorker_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetER()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetEI()) {
-          optionals.set(2);
-        }
-        if (struct.isSetEB()) {
-          optionals.set(3);
-        }
-        if (struct.isSetES()) {
-          optionals.set(4);
-        }
-        if (struct.isSetET()) {
-          optionals.set(5);
-        }
-        if (struct.isSetEAC()) {
-          optionals.set(6);
-        }
-        oprot.writeBitSet(optionals, 7);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
-        }
-        if (struct.isSetER()) {
-          struct.eR.write(oprot);
-        }
-        if (struct.isSetEI()) {
-          struct.eI.write(oprot);
-        }
-        if (struct.isSetEB()) {
-          struct.eB.write(oprot);
-        }
-        if (struct.isSetES()) {
-          struct.eS.write(oprot);
-        }
-        if (struct.isSetET()) {
-          struct.eT.write(oprot);
+          struct.success.write(oprot);
         }
-        if (struct.isSetEAC()) {
-          struct.eAC.write(oprot);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(7);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI32();
+          struct.success = new NetAddress();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eR = new FileAlreadyExistException();
-          struct.eR.read(iprot);
-          struct.setERIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.eB = new BlockInfoException();
-          struct.eB.read(iprot);
-          struct.setEBIsSet(true);
-        }
-        if (incoming.get(4)) {
-          struct.eS = new SuspectedFileSizeException();
-          struct.eS.read(iprot);
-          struct.setESIsSet(true);
-        }
-        if (incoming.get(5)) {
-          struct.eT = new TachyonException();
-          struct.eT.read(iprot);
-          struct.setETIsSet(true);
-        }
-        if (incoming.get(6)) {
-          struct.eAC = new AccessControlException();
-          struct.eAC.read(iprot);
-          struct.setEACIsSet(true);
+          struct.e = new NoWorkerException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_createNewBlock_args implements org.apache.thrift.TBase<user_createNewBlock_args, user_createNewBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_args");
+  public static class getFileStatus_args implements org.apache.thrift.TBase<getFileStatus_args, getFileStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createNewBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createNewBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatus_argsTupleSchemeFactory());
     }
 
     public int fileId; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+      FILE_ID((short)1, "fileId"),
+      PATH((short)2, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -19725,6 +24341,8 @@ public class MasterService {
         switch(fieldId) {
           case 1: // FILE_ID
             return FILE_ID;
+          case 2: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -19772,44 +24390,52 @@ public class MasterService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_args.class, metaDataMap);
     }
 
-    public user_createNewBlock_args() {
+    public getFileStatus_args() {
     }
 
-    public user_createNewBlock_args(
-      int fileId)
+    public getFileStatus_args(
+      int fileId,
+      String path)
     {
       this();
       this.fileId = fileId;
       setFileIdIsSet(true);
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createNewBlock_args(user_createNewBlock_args other) {
+    public getFileStatus_args(getFileStatus_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public user_createNewBlock_args deepCopy() {
-      return new user_createNewBlock_args(this);
+    public getFileStatus_args deepCopy() {
+      return new getFileStatus_args(this);
     }
 
     @Override
     public void clear() {
       setFileIdIsSet(false);
       this.fileId = 0;
+      this.path = null;
     }
 
     public int getFileId() {
       return this.fileId;
     }
 
-    public user_createNewBlock_args setFileId(int fileId) {
+    public getFileStatus_args setFileId(int fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -19828,6 +24454,30 @@ public class MasterService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
+    public String getPath() {
+      return this.path;
+    }
+
+    public getFileStatus_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case FILE_ID:
@@ -19838,6 +24488,14 @@ public class MasterService {
         }
         break;
 
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
       }
     }
 
@@ -19846,6 +24504,9 @@ public class MasterService {
       case FILE_ID:
         return Integer.valueOf(getFileId());
 
+      case PATH:
+        return getPath();
+
       }
       throw new IllegalStateException();
     }
@@ -19859,6 +24520,8 @@ public class MasterService {
       switch (field) {
       case FILE_ID:
         return isSetFileId();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -19867,12 +24530,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createNewBlock_args)
-        return this.equals((user_createNewBlock_args)that);
+      if (that instanceof getFileStatus_args)
+        return this.equals((getFileStatus_args)that);
       return false;
     }
 
-    public boolean equals(user_createNewBlock_args that) {
+    public boolean equals(getFileStatus_args that) {
       if (that == null)
         return false;
 
@@ -19885,6 +24548,15 @@ public class MasterService {
           return false;
       }
 
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
       return true;
     }
 
@@ -19894,7 +24566,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createNewBlock_args other) {
+    public int compareTo(getFileStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19911,6 +24583,16 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -19928,12 +24610,20 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createNewBlock_args(");
+      StringBuilder sb = new StringBuilder("getFileStatus_args(");
       boolean first = true;
 
       sb.append("fileId:");
       sb.append(this.fileId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -19961,15 +24651,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createNewBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_argsStandardScheme getScheme() {
-        return new user_createNewBlock_argsStandardScheme();
+    private static class getFileStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileStatus_argsStandardScheme getScheme() {
+        return new getFileStatus_argsStandardScheme();
       }
     }
 
-    private static class user_createNewBlock_argsStandardScheme extends StandardScheme<user_createNewBlock_args> {
+    private static class getFileStatus_argsStandardScheme extends StandardScheme<getFileStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19987,6 +24677,14 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -19998,72 +24696,90 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
         oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_createNewBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_argsTupleScheme getScheme() {
-        return new user_createNewBlock_argsTupleScheme();
+    private static class getFileStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileStatus_argsTupleScheme getScheme() {
+        return new getFileStatus_argsTupleScheme();
       }
     }
 
-    private static class user_createNewBlock_argsTupleScheme extends TupleScheme<user_createNewBlock_args> {
+    private static class getFileStatus_argsTupleScheme extends TupleScheme<getFileStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetFileId()) {
           oprot.writeI32(struct.fileId);
         }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI32();
           struct.setFileIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_createNewBlock_result implements org.apache.thrift.TBase<user_createNewBlock_result, user_createNewBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_result");
+  public static class getFileStatus_result implements org.apache.thrift.TBase<getFileStatus_result, getFileStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_A_FIELD_DESC = new org.apache.thrift.protocol.TField("eA", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createNewBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createNewBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatus_resultTupleSchemeFactory());
     }
 
-    public long success; // required
-    public FileDoesNotExistException e; // required
+    public ClientFileInfo success; // required
+    public InvalidPathException eI; // required
+    public AccessControlException eA; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E_I((short)1, "eI"),
+      E_A((short)2, "eA");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20080,8 +24796,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
+          case 1: // E_I
+            return E_I;
+          case 2: // E_A
+            return E_A;
           default:
             return null;
         }
@@ -20122,98 +24840,128 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientFileInfo.class)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_A, new org.apache.thrift.meta_data.FieldMetaData("eA", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_result.class, metaDataMap);
     }
 
-    public user_createNewBlock_result() {
+    public getFileStatus_result() {
     }
 
-    public user_createNewBlock_result(
-      long success,
-      FileDoesNotExistException e)
+    public getFileStatus_result(
+      ClientFileInfo success,
+      InvalidPathException eI,
+      AccessControlException eA)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
+      this.eI = eI;
+      this.eA = eA;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createNewBlock_result(user_createNewBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
+    public getFileStatus_result(getFileStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientFileInfo(other.success);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+      if (other.isSetEA()) {
+        this.eA = new AccessControlException(other.eA);
       }
     }
 
-    public user_createNewBlock_result deepCopy() {
-      return new user_createNewBlock_result(this);
+    public getFileStatus_result deepCopy() {
+      return new getFileStatus_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-      this.e = null;
+      this.success = null;
+      this.eI = null;
+      this.eA = null;
     }
 
-    public long getSuccess() {
+    public ClientFileInfo getSuccess() {
       return this.success;
     }
 
-    public user_createNewBlock_result setSuccess(long success) {
+    public getFileStatus_result setSuccess(ClientFileInfo success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
-    public FileDoesNotExistException getE() {
-      return this.e;
+    public InvalidPathException getEI() {
+      return this.eI;
     }
 
-    public user_createNewBlock_result setE(FileDoesNotExistException e) {
-      this.e = e;
+    public getFileStatus_result setEI(InvalidPathException eI) {
+      this.eI = eI;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetEI() {
+      this.eI = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setEIIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.eI = null;
+      }
+    }
+
+    public AccessControlException getEA() {
+      return this.eA;
+    }
+
+    public getFileStatus_result setEA(AccessControlException eA) {
+      this.eA = eA;
+      return this;
+    }
+
+    public void unsetEA() {
+      this.eA = null;
+    }
+
+    /** Returns true if field eA is set (has been assigned a value) and false otherwise */
+    public boolean isSetEA() {
+      return this.eA != null;
+    }
+
+    public void setEAIsSet(boolean value) {
+      if (!value) {
+        this.eA = null;
       }
     }
 
@@ -20223,15 +24971,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((ClientFileInfo)value);
         }
         break;
 
-      case E:
+      case E_I:
         if (value == null) {
-          unsetE();
+          unsetEI();
         } else {
-          setE((FileDoesNotExistException)value);
+          setEI((InvalidPathException)value);
+        }
+        break;
+
+      case E_A:
+        if (value == null) {
+          unsetEA();
+        } else {
+          setEA((AccessControlException)value);
         }
         break;
 
@@ -20241,10 +24997,13 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return getSuccess();
 
-      case E:
-        return getE();
+      case E_I:
+        return getEI();
+
+      case E_A:
+        return getEA();
 
       }
       throw new IllegalStateException();
@@ -20259,8 +25018,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
+      case E_I:
+        return isSetEI();
+      case E_A:
+        return isSetEA();
       }
       throw new IllegalStateException();
     }
@@ -20269,30 +25030,39 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createNewBlock_result)
-        return this.equals((user_createNewBlock_result)that);
+      if (that instanceof getFileStatus_result)
+        return this.equals((getFileStatus_result)that);
       return false;
     }
 
-    public boolean equals(user_createNewBlock_result that) {
+    public boolean equals(getFileStatus_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
           return false;
-        if (!this.e.equals(that.e))
+        if (!this.eI.equals(that.eI))
+          return false;
+      }
+
+      boolean this_present_eA = true && this.isSetEA();
+      boolean that_present_eA = true && that.isSetEA();
+      if (this_present_eA || that_present_eA) {
+        if (!(this_present_eA && that_present_eA))
+          return false;
+        if (!this.eA.equals(that.eA))
           return false;
       }
 
@@ -20305,7 +25075,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createNewBlock_result other) {
+    public int compareTo(getFileStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -20322,12 +25092,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEA()).compareTo(other.isSetEA());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEA()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eA, other.eA);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -20346,21 +25126,33 @@ public class MasterService {
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
       }
-
-    @Override
-    public String toString() {
-      StringBuilder sb = new StringBuilder("user_createNewBlock_result(");
-      boolean first = true;
-
-      sb.append("success:");
-      sb.append(this.success);
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getFileStatus_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("eA:");
+      if (this.eA == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.eA);
       }
       first = false;
       sb.append(")");
@@ -20370,6 +25162,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -20382,23 +25177,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_createNewBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_resultStandardScheme getScheme() {
-        return new user_createNewBlock_resultStandardScheme();
+    private static class getFileStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileStatus_resultStandardScheme getScheme() {
+        return new getFileStatus_resultStandardScheme();
       }
     }
 
-    private static class user_createNewBlock_resultStandardScheme extends StandardScheme<user_createNewBlock_result> {
+    private static class getFileStatus_resultStandardScheme extends StandardScheme<getFileStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20409,18 +25202,28 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ClientFileInfo();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
+            case 1: // E_I
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_A
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eA = new AccessControlException();
+                struct.eA.read(iprot);
+                struct.setEAIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -20436,18 +25239,23 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eA != null) {
+          oprot.writeFieldBegin(E_A_FIELD_DESC);
+          struct.eA.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -20456,67 +25264,79 @@ public class MasterService {
 
     }
 
-    private static class user_createNewBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_resultTupleScheme getScheme() {
-        return new user_createNewBlock_resultTupleScheme();
+    private static class getFileStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileStatus_resultTupleScheme getScheme() {
+        return new getFileStatus_resultTupleScheme();
       }
     }
 
-    private static class user_createNewBlock_resultTupleScheme extends TupleScheme<user_createNewBlock_result> {
+    private static class getFileStatus_resultTupleScheme extends TupleScheme<getFileStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetEI()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetEA()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
         }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
+        }
+        if (struct.isSetEA()) {
+          struct.eA.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new ClientFileInfo();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e = new FileDoesNotExistException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eA = new AccessControlException();
+          struct.eA.read(iprot);
+          struct.setEAIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_completeFile_args implements org.apache.thrift.TBase<user_completeFile_args, user_completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_args");
+  public static class user_getClientBlockInfo_args implements org.apache.thrift.TBase<user_getClientBlockInfo_args, user_getClientBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_completeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_completeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfo_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
+    public long blockId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+      BLOCK_ID((short)1, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20531,8 +25351,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // BLOCK_ID
+            return BLOCK_ID;
           default:
             return null;
         }
@@ -20573,76 +25393,76 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_args.class, metaDataMap);
     }
 
-    public user_completeFile_args() {
+    public user_getClientBlockInfo_args() {
     }
 
-    public user_completeFile_args(
-      int fileId)
+    public user_getClientBlockInfo_args(
+      long blockId)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_completeFile_args(user_completeFile_args other) {
+    public user_getClientBlockInfo_args(user_getClientBlockInfo_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+      this.blockId = other.blockId;
     }
 
-    public user_completeFile_args deepCopy() {
-      return new user_completeFile_args(this);
+    public user_getClientBlockInfo_args deepCopy() {
+      return new user_getClientBlockInfo_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public long getBlockId() {
+      return this.blockId;
     }
 
-    public user_completeFile_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public user_getClientBlockInfo_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case BLOCK_ID:
         if (value == null) {
-          unsetFileId();
+          unsetBlockId();
         } else {
-          setFileId((Integer)value);
+          setBlockId((Long)value);
         }
         break;
 
@@ -20651,8 +25471,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
 
       }
       throw new IllegalStateException();
@@ -20665,8 +25485,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case BLOCK_ID:
+        return isSetBlockId();
       }
       throw new IllegalStateException();
     }
@@ -20675,21 +25495,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_completeFile_args)
-        return this.equals((user_completeFile_args)that);
+      if (that instanceof user_getClientBlockInfo_args)
+        return this.equals((user_getClientBlockInfo_args)that);
       return false;
     }
 
-    public boolean equals(user_completeFile_args that) {
+    public boolean equals(user_getClientBlockInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
           return false;
-        if (this.fileId != that.fileId)
+        if (this.blockId != that.blockId)
           return false;
       }
 
@@ -20702,19 +25522,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_completeFile_args other) {
+    public int compareTo(user_getClientBlockInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -20736,11 +25556,11 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_completeFile_args(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("blockId:");
+      sb.append(this.blockId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -20769,15 +25589,15 @@ public class MasterService {
       }
     }
 
-    private static class user_completeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public user_completeFile_argsStandardScheme getScheme() {
-        return new user_completeFile_argsStandardScheme();
+    private static class user_getClientBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_argsStandardScheme getScheme() {
+        return new user_getClientBlockInfo_argsStandardScheme();
       }
     }
 
-    private static class user_completeFile_argsStandardScheme extends StandardScheme<user_completeFile_args> {
+    private static class user_getClientBlockInfo_argsStandardScheme extends StandardScheme<user_getClientBlockInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20787,10 +25607,10 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -20806,12 +25626,12 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -20819,56 +25639,62 @@ public class MasterService {
 
     }
 
-    private static class user_completeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public user_completeFile_argsTupleScheme getScheme() {
-        return new user_completeFile_argsTupleScheme();
+    private static class user_getClientBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_argsTupleScheme getScheme() {
+        return new user_getClientBlockInfo_argsTupleScheme();
       }
     }
 
-    private static class user_completeFile_argsTupleScheme extends TupleScheme<user_completeFile_args> {
+    private static class user_getClientBlockInfo_argsTupleScheme extends TupleScheme<user_getClientBlockInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetBlockId()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_completeFile_result implements org.apache.thrift.TBase<user_completeFile_result, user_completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_result");
+  public static class user_getClientBlockInfo_result implements org.apache.thrift.TBase<user_getClientBlockInfo_result, user_getClientBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_result");
 
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_completeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_completeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfo_resultTupleSchemeFactory());
     }
 
-    public FileDoesNotExistException e; // required
+    public ClientBlockInfo success; // required
+    public FileDoesNotExistException eF; // required
+    public BlockInfoException eB; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E((short)1, "e");
+      SUCCESS((short)0, "success"),
+      E_F((short)1, "eF"),
+      E_B((short)2, "eB");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20883,8 +25709,12 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // E
-            return E;
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E_F
+            return E_F;
+          case 2: // E_B
+            return E_B;
           default:
             return null;
         }
@@ -20928,71 +25758,151 @@ public class MasterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class)));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_result.class, metaDataMap);
     }
 
-    public user_completeFile_result() {
+    public user_getClientBlockInfo_result() {
     }
 
-    public user_completeFile_result(
-      FileDoesNotExistException e)
+    public user_getClientBlockInfo_result(
+      ClientBlockInfo success,
+      FileDoesNotExistException eF,
+      BlockInfoException eB)
     {
       this();
-      this.e = e;
+      this.success = success;
+      this.eF = eF;
+      this.eB = eB;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_completeFile_result(user_completeFile_result other) {
-      if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
+    public user_getClientBlockInfo_result(user_getClientBlockInfo_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientBlockInfo(other.success);
+      }
+      if (other.isSetEF()) {
+        this.eF = new FileDoesNotExistException(other.eF);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
       }
     }
 
-    public user_completeFile_result deepCopy() {
-      return new user_completeFile_result(this);
+    public user_getClientBlockInfo_result deepCopy() {
+      return new user_getClientBlockInfo_result(this);
     }
 
     @Override
     public void clear() {
-      this.e = null;
+      this.success = null;
+      this.eF = null;
+      this.eB = null;
     }
 
-    public FileDoesNotExistException getE() {
-      return this.e;
+    public ClientBlockInfo getSuccess() {
+      return this.success;
     }
 
-    public user_completeFile_result setE(FileDoesNotExistException e) {
-      this.e = e;
+    public user_getClientBlockInfo_result setSuccess(ClientBlockInfo success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
+      }
+    }
+
+    public FileDoesNotExistException getEF() {
+      return this.eF;
+    }
+
+    public user_getClientBlockInfo_result setEF(FileDoesNotExistException eF) {
+      this.eF = eF;
+      return this;
+    }
+
+    public void unsetEF() {
+      this.eF = null;
+    }
+
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
+    }
+
+    public void setEFIsSet(boolean value) {
+      if (!value) {
+        this.eF = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public user_getClientBlockInfo_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E:
+      case SUCCESS:
         if (value == null) {
-          unsetE();
+          unsetSuccess();
         } else {
-          setE((FileDoesNotExistException)value);
+          setSuccess((ClientBlockInfo)value);
+        }
+        break;
+
+      case E_F:
+        if (value == null) {
+          unsetEF();
+        } else {
+          setEF((FileDoesNotExistException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
         }
         break;
 
@@ -21001,8 +25911,14 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case E:
-        return getE();
+      case SUCCESS:
+        return getSuccess();
+
+      case E_F:
+        return getEF();
+
+      case E_B:
+        return getEB();
 
       }
       throw new IllegalStateException();
@@ -21015,8 +25931,12 @@ public class MasterService {
       }
 
       switch (field) {
-      case E:
-        return isSetE();
+      case SUCCESS:
+        return isSetSuccess();
+      case E_F:
+        return isSetEF();
+      case E_B:
+        return isSetEB();
       }
       throw new IllegalStateException();
     }
@@ -21025,21 +25945,39 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_completeFile_result)
-        return this.equals((user_completeFile_result)that);
+      if (that instanceof user_getClientBlockInfo_result)
+        return this.equals((user_getClientBlockInfo_result)that);
       return false;
     }
 
-    public boolean equals(user_completeFile_result that) {
+    public boolean equals(user_getClientBlockInfo_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.e.equals(that.e))
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
+          return false;
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
           return false;
       }
 
@@ -21052,19 +25990,39 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_completeFile_result other) {
+    public int compareTo(user_getClientBlockInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -21086,14 +26044,30 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_completeFile_result(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_result(");
       boolean first = true;
 
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eF:");
+      if (this.eF == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eF);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
       }
       first = false;
       sb.append(")");
@@ -21103,6 +26077,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -21121,15 +26098,15 @@ public class MasterService {
       }
     }
 
-    private static class user_completeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public user_completeFile_resultStandardScheme getScheme() {
-        return new user_completeFile_resultStandardScheme();
+    private static class user_getClientBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_resultStandardScheme getScheme() {
+        return new user_getClientBlockInfo_resultStandardScheme();
       }
     }
 
-    private static class user_completeFile_resultStandardScheme extends StandardScheme<user_completeFile_result> {
+    private static class user_getClientBlockInfo_resultStandardScheme extends StandardScheme<user_getClientBlockInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21139,11 +26116,29 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.success = new ClientBlockInfo();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E_F
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eF = new FileDoesNotExistException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -21159,13 +26154,23 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -21174,55 +26179,82 @@ public class MasterService {
 
     }
 
-    private static class user_completeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public user_completeFile_resultTupleScheme getScheme() {
-        return new user_completeFile_resultTupleScheme();
+    private static class user_getClientBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_resultTupleScheme getScheme() {
+        return new user_getClientBlockInfo_resultTupleScheme();
       }
     }
 
-    private static class user_completeFile_resultTupleScheme extends TupleScheme<user_completeFile_result> {
+    private static class user_getClientBlockInfo_resultTupleScheme extends TupleScheme<user_getClientBlockInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetEF()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEB()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.e = new FileDoesNotExistException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.success = new ClientBlockInfo();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eF = new FileDoesNotExistException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getUserId_args implements org.apache.thrift.TBase<user_getUserId_args, user_getUserId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_args");
+  public static class user_getFileBlocks_args implements org.apache.thrift.TBase<user_getFileBlocks_args, user_getFileBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_args");
 
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getUserId_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getUserId_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocks_argsTupleSchemeFactory());
     }
 
+    public int fileId; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      FILE_ID((short)1, "fileId"),
+      PATH((short)2, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21237,6 +26269,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -21275,37 +26311,132 @@ public class MasterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_args.class, metaDataMap);
     }
 
-    public user_getUserId_args() {
+    public user_getFileBlocks_args() {
+    }
+
+    public user_getFileBlocks_args(
+      int fileId,
+      String path)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getUserId_args(user_getUserId_args other) {
+    public user_getFileBlocks_args(user_getFileBlocks_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public user_getUserId_args deepCopy() {
-      return new user_getUserId_args(this);
+    public user_getFileBlocks_args deepCopy() {
+      return new user_getFileBlocks_args(this);
     }
 
     @Override
     public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      this.path = null;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public user_getFileBlocks_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public user_getFileBlocks_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
       }
     }
 
-    public Object getFieldValue(_Fields field) {
-      switch (field) {
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      case PATH:
+        return getPath();
+
       }
       throw new IllegalStateException();
     }
@@ -21317,6 +26448,10 @@ public class MasterService {
       }
 
       switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -21325,15 +26460,33 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getUserId_args)
-        return this.equals((user_getUserId_args)that);
+      if (that instanceof user_getFileBlocks_args)
+        return this.equals((user_getFileBlocks_args)that);
       return false;
     }
 
-    public boolean equals(user_getUserId_args that) {
+    public boolean equals(user_getFileBlocks_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
       return true;
     }
 
@@ -21343,13 +26496,33 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getUserId_args other) {
+    public int compareTo(user_getFileBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -21367,9 +26540,20 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getUserId_args(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocks_args(");
       boolean first = true;
 
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -21389,21 +26573,23 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getUserId_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getUserId_argsStandardScheme getScheme() {
-        return new user_getUserId_argsStandardScheme();
+    private static class user_getFileBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_argsStandardScheme getScheme() {
+        return new user_getFileBlocks_argsStandardScheme();
       }
     }
 
-    private static class user_getUserId_argsStandardScheme extends StandardScheme<user_getUserId_args> {
+    private static class user_getFileBlocks_argsStandardScheme extends StandardScheme<user_getFileBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21413,6 +26599,22 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -21424,53 +26626,90 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getUserId_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getUserId_argsTupleScheme getScheme() {
-        return new user_getUserId_argsTupleScheme();
+    private static class user_getFileBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_argsTupleScheme getScheme() {
+        return new user_getFileBlocks_argsTupleScheme();
       }
     }
 
-    private static class user_getUserId_argsTupleScheme extends TupleScheme<user_getUserId_args> {
+    private static class user_getFileBlocks_argsTupleScheme extends TupleScheme<user_getFileBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getUserId_result implements org.apache.thrift.TBase<user_getUserId_result, user_getUserId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_result");
+  public static class user_getFileBlocks_result implements org.apache.thrift.TBase<user_getFileBlocks_result, user_getFileBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getUserId_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getUserId_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocks_resultTupleSchemeFactory());
     }
 
-    public long success; // required
+    public List<ClientBlockInfo> success; // required
+    public FileDoesNotExistException eF; // required
+    public InvalidPathException eI; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E_F((short)1, "eF"),
+      E_I((short)2, "eI");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21487,6 +26726,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E_F
+            return E_F;
+          case 2: // E_I
+            return E_I;
           default:
             return null;
         }
@@ -21521,73 +26764,155 @@ public class MasterService {
         return _thriftId;
       }
 
-      public String getFieldName() {
-        return _fieldName;
-      }
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class))));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_result.class, metaDataMap);
+    }
+
+    public user_getFileBlocks_result() {
+    }
+
+    public user_getFileBlocks_result(
+      List<ClientBlockInfo> success,
+      FileDoesNotExistException eF,
+      InvalidPathException eI)
+    {
+      this();
+      this.success = success;
+      this.eF = eF;
+      this.eI = eI;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getFileBlocks_result(user_getFileBlocks_result other) {
+      if (other.isSetSuccess()) {
+        List<ClientBlockInfo> __this__success = new ArrayList<ClientBlockInfo>(other.success.size());
+        for (ClientBlockInfo other_element : other.success) {
+          __this__success.add(new ClientBlockInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetEF()) {
+        this.eF = new FileDoesNotExistException(other.eF);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+    }
+
+    public user_getFileBlocks_result deepCopy() {
+      return new user_getFileBlocks_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.eF = null;
+      this.eI = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ClientBlockInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ClientBlockInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ClientBlockInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ClientBlockInfo> getSuccess() {
+      return this.success;
+    }
+
+    public user_getFileBlocks_result setSuccess(List<ClientBlockInfo> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_result.class, metaDataMap);
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
-    public user_getUserId_result() {
+    public FileDoesNotExistException getEF() {
+      return this.eF;
     }
 
-    public user_getUserId_result(
-      long success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public user_getFileBlocks_result setEF(FileDoesNotExistException eF) {
+      this.eF = eF;
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public user_getUserId_result(user_getUserId_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public void unsetEF() {
+      this.eF = null;
     }
 
-    public user_getUserId_result deepCopy() {
-      return new user_getUserId_result(this);
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
     }
 
-    @Override
-    public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+    public void setEFIsSet(boolean value) {
+      if (!value) {
+        this.eF = null;
+      }
     }
 
-    public long getSuccess() {
-      return this.success;
+    public InvalidPathException getEI() {
+      return this.eI;
     }
 
-    public user_getUserId_result setSuccess(long success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public user_getFileBlocks_result setEI(InvalidPathException eI) {
+      this.eI = eI;
       return this;
     }
 
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    public void unsetEI() {
+      this.eI = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -21596,7 +26921,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((List<ClientBlockInfo>)value);
+        }
+        break;
+
+      case E_F:
+        if (value == null) {
+          unsetEF();
+        } else {
+          setEF((FileDoesNotExistException)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
         }
         break;
 
@@ -21606,7 +26947,13 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return getSuccess();
+
+      case E_F:
+        return getEF();
+
+      case E_I:
+        return getEI();
 
       }
       throw new IllegalStateException();
@@ -21621,6 +26968,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E_F:
+        return isSetEF();
+      case E_I:
+        return isSetEI();
       }
       throw new IllegalStateException();
     }
@@ -21629,21 +26980,39 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getUserId_result)
-        return this.equals((user_getUserId_result)that);
+      if (that instanceof user_getFileBlocks_result)
+        return this.equals((user_getFileBlocks_result)that);
       return false;
     }
 
-    public boolean equals(user_getUserId_result that) {
+    public boolean equals(user_getFileBlocks_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
+          return false;
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
           return false;
       }
 
@@ -21656,7 +27025,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getUserId_result other) {
+    public int compareTo(user_getFileBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -21673,6 +27042,26 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -21690,11 +27079,31 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getUserId_result(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocks_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eF:");
+      if (this.eF == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eF);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -21715,23 +27124,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getUserId_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getUserId_resultStandardScheme getScheme() {
-        return new user_getUserId_resultStandardScheme();
+    private static class user_getFileBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_resultStandardScheme getScheme() {
+        return new user_getFileBlocks_resultStandardScheme();
       }
     }
 
-    private static class user_getUserId_resultStandardScheme extends StandardScheme<user_getUserId_result> {
+    private static class user_getFileBlocks_resultStandardScheme extends StandardScheme<user_getFileBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21742,31 +27149,77 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list172 = iprot.readListBegin();
+                  struct.success = new ArrayList<ClientBlockInfo>(_list172.size);
+                  for (int _i173 = 0; _i173 < _list172.size; ++_i173)
+                  {
+                    ClientBlockInfo _elem174;
+                    _elem174 = new ClientBlockInfo();
+                    _elem174.read(iprot);
+                    struct.success.add(_elem174);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E_F
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eF = new FileDoesNotExistException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
           iprot.readFieldEnd();
         }
-        iprot.readStructEnd();
-
-        // check for required fields of primitive type, which can't be checked in the validate method
-        struct.validate();
-      }
-
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_result struct) throws org.apache.thrift.TException {
-        struct.validate();
-
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ClientBlockInfo _iter175 : struct.success)
+            {
+              _iter175.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -21775,59 +27228,100 @@ public class MasterService {
 
     }
 
-    private static class user_getUserId_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getUserId_resultTupleScheme getScheme() {
-        return new user_getUserId_resultTupleScheme();
+    private static class user_getFileBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_resultTupleScheme getScheme() {
+        return new user_getFileBlocks_resultTupleScheme();
       }
     }
 
-    private static class user_getUserId_resultTupleScheme extends TupleScheme<user_getUserId_result> {
+    private static class user_getFileBlocks_resultTupleScheme extends TupleScheme<user_getFileBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEF()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEI()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ClientBlockInfo _iter176 : struct.success)
+            {
+              _iter176.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          {
+            org.apache.thrift.protocol.TList _list177 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ClientBlockInfo>(_list177.size);
+            for (int _i178 = 0; _i178 < _list177.size; ++_i178)
+            {
+              ClientBlockInfo _elem179;
+              _elem179 = new ClientBlockInfo();
+              _elem179.read(iprot);
+              struct.success.add(_elem179);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.eF = new FileDoesNotExistException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getBlockId_args implements org.apache.thrift.TBase<user_getBlockId_args, user_getBlockId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_args");
+  public static class user_delete_args implements org.apache.thrift.TBase<user_delete_args, user_delete_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("index", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getBlockId_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getBlockId_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_delete_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_delete_argsTupleSchemeFactory());
     }
 
     public int fileId; // required
-    public int index; // required
+    public String path; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       FILE_ID((short)1, "fileId"),
-      INDEX((short)2, "index");
+      PATH((short)2, "path"),
+      RECURSIVE((short)3, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21844,8 +27338,10 @@ public class MasterService {
         switch(fieldId) {
           case 1: // FILE_ID
             return FILE_ID;
-          case 2: // INDEX
-            return INDEX;
+          case 2: // PATH
+            return PATH;
+          case 3: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -21887,59 +27383,67 @@ public class MasterService {
 
     // isset id assignments
     private static final int __FILEID_ISSET_ID = 0;
-    private static final int __INDEX_ISSET_ID = 1;
+    private static final int __RECURSIVE_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.INDEX, new org.apache.thrift.meta_data.FieldMetaData("index", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_args.class, metaDataMap);
     }
 
-    public user_getBlockId_args() {
+    public user_delete_args() {
     }
 
-    public user_getBlockId_args(
+    public user_delete_args(
       int fileId,
-      int index)
+      String path,
+      boolean recursive)
     {
       this();
       this.fileId = fileId;
       setFileIdIsSet(true);
-      this.index = index;
-      setIndexIsSet(true);
+      this.path = path;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getBlockId_args(user_getBlockId_args other) {
+    public user_delete_args(user_delete_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
-      this.index = other.index;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.recursive = other.recursive;
     }
 
-    public user_getBlockId_args deepCopy() {
-      return new user_getBlockId_args(this);
+    public user_delete_args deepCopy() {
+      return new user_delete_args(this);
     }
 
     @Override
     public void clear() {
       setFileIdIsSet(false);
       this.fileId = 0;
-      setIndexIsSet(false);
-      this.index = 0;
+      this.path = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     public int getFileId() {
       return this.fileId;
     }
 
-    public user_getBlockId_args setFileId(int fileId) {
+    public user_delete_args setFileId(int fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -21958,27 +27462,51 @@ public class MasterService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
     }
 
-    public int getIndex() {
-      return this.index;
+    public String getPath() {
+      return this.path;
     }
 
-    public user_getBlockId_args setIndex(int index) {
-      this.index = index;
-      setIndexIsSet(true);
+    public user_delete_args setPath(String path) {
+      this.path = path;
       return this;
     }
 
-    public void unsetIndex() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INDEX_ISSET_ID);
+    public void unsetPath() {
+      this.path = null;
     }
 
-    /** Returns true if field index is set (has been assigned a value) and false otherwise */
-    public boolean isSetIndex() {
-      return EncodingUtils.testBit(__isset_bitfield, __INDEX_ISSET_ID);
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
     }
 
-    public void setIndexIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INDEX_ISSET_ID, value);
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    public user_delete_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -21991,11 +27519,19 @@ public class MasterService {
         }
         break;
 
-      case INDEX:
+      case PATH:
         if (value == null) {
-          unsetIndex();
+          unsetPath();
         } else {
-          setIndex((Integer)value);
+          setPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -22007,8 +27543,11 @@ public class MasterService {
       case FILE_ID:
         return Integer.valueOf(getFileId());
 
-      case INDEX:
-        return Integer.valueOf(getIndex());
+      case PATH:
+        return getPath();
+
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
 
       }
       throw new IllegalStateException();
@@ -22023,8 +27562,10 @@ public class MasterService {
       switch (field) {
       case FILE_ID:
         return isSetFileId();
-      case INDEX:
-        return isSetIndex();
+      case PATH:
+        return isSetPath();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -22033,12 +27574,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getBlockId_args)
-        return this.equals((user_getBlockId_args)that);
+      if (that instanceof user_delete_args)
+        return this.equals((user_delete_args)that);
       return false;
     }
 
-    public boolean equals(user_getBlockId_args that) {
+    public boolean equals(user_delete_args that) {
       if (that == null)
         return false;
 
@@ -22051,12 +27592,21 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_index = true;
-      boolean that_present_index = true;
-      if (this_present_index || that_present_index) {
-        if (!(this_present_index && that_present_index))
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
           return false;
-        if (this.index != that.index)
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -22069,7 +27619,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getBlockId_args other) {
+    public int compareTo(user_delete_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -22086,12 +27636,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetIndex()).compareTo(other.isSetIndex());
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIndex()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.index, other.index);
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -22113,15 +27673,23 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getBlockId_args(");
+      StringBuilder sb = new StringBuilder("user_delete_args(");
       boolean first = true;
 
       sb.append("fileId:");
       sb.append(this.fileId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("index:");
-      sb.append(this.index);
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -22150,15 +27718,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getBlockId_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getBlockId_argsStandardScheme getScheme() {
-        return new user_getBlockId_argsStandardScheme();
+    private static class user_delete_argsStandardSchemeFactory implements SchemeFactory {
+      public user_delete_argsStandardScheme getScheme() {
+        return new user_delete_argsStandardScheme();
       }
     }
 
-    private static class user_getBlockId_argsStandardScheme extends StandardScheme<user_getBlockId_args> {
+    private static class user_delete_argsStandardScheme extends StandardScheme<user_delete_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -22176,10 +27744,18 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // INDEX
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.index = iprot.readI32();
-                struct.setIndexIsSet(true);
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -22195,15 +27771,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
         oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(INDEX_FIELD_DESC);
-        oprot.writeI32(struct.index);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -22211,69 +27792,82 @@ public class MasterService {
 
     }
 
-    private static class user_getBlockId_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getBlockId_argsTupleScheme getScheme() {
-        return new user_getBlockId_argsTupleScheme();
+    private static class user_delete_argsTupleSchemeFactory implements SchemeFactory {
+      public user_delete_argsTupleScheme getScheme() {
+        return new user_delete_argsTupleScheme();
       }
     }
 
-    private static class user_getBlockId_argsTupleScheme extends TupleScheme<user_getBlockId_args> {
+    private static class user_delete_argsTupleScheme extends TupleScheme<user_delete_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        if (struct.isSetIndex()) {
+        if (struct.isSetPath()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRecursive()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetFileId()) {
           oprot.writeI32(struct.fileId);
         }
-        if (struct.isSetIndex()) {
-          oprot.writeI32(struct.index);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI32();
           struct.setFileIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.index = iprot.readI32();
-          struct.setIndexIsSet(true);
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getBlockId_result implements org.apache.thrift.TBase<user_getBlockId_result, user_getBlockId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_result");
+  public static class user_delete_result implements org.apache.thrift.TBase<user_delete_result, user_delete_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getBlockId_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getBlockId_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_delete_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_delete_resultTupleSchemeFactory());
     }
 
-    public long success; // required
-    public FileDoesNotExistException e; // required
+    public boolean success; // required
+    public TachyonException e; // required
+    public AccessControlException eAC; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E((short)1, "e"),
+      E_AC((short)2, "eAC");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22292,6 +27886,8 @@ public class MasterService {
             return SUCCESS;
           case 1: // E
             return E;
+          case 2: // E_AC
+            return E_AC;
           default:
             return null;
         }
@@ -22338,53 +27934,61 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_result.class, metaDataMap);
     }
 
-    public user_getBlockId_result() {
+    public user_delete_result() {
     }
 
-    public user_getBlockId_result(
-      long success,
-      FileDoesNotExistException e)
+    public user_delete_result(
+      boolean success,
+      TachyonException e,
+      AccessControlException eAC)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
       this.e = e;
+      this.eAC = eAC;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getBlockId_result(user_getBlockId_result other) {
+    public user_delete_result(user_delete_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
+        this.e = new TachyonException(other.e);
+      }
+      if (other.isSetEAC()) {
+        this.eAC = new AccessControlException(other.eAC);
       }
     }
 
-    public user_getBlockId_result deepCopy() {
-      return new user_getBlockId_result(this);
+    public user_delete_result deepCopy() {
+      return new user_delete_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
-      this.success = 0;
+      this.success = false;
       this.e = null;
+      this.eAC = null;
     }
 
-    public long getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public user_getBlockId_result setSuccess(long success) {
+    public user_delete_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -22403,11 +28007,11 @@ public class MasterService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public FileDoesNotExistException getE() {
+    public TachyonException getE() {
       return this.e;
     }
 
-    public user_getBlockId_result setE(FileDoesNotExistException e) {
+    public user_delete_result setE(TachyonException e) {
       this.e = e;
       return this;
     }
@@ -22427,13 +28031,37 @@ public class MasterService {
       }
     }
 
+    public AccessControlException getEAC() {
+      return this.eAC;
+    }
+
+    public user_delete_result setEAC(AccessControlException eAC) {
+      this.eAC = eAC;
+      return this;
+    }
+
+    public void unsetEAC() {
+      this.eAC = null;
+    }
+
+    /** Returns true if field eAC is set (has been assigned a value) and false otherwise */
+    public boolean isSetEAC() {
+      return this.eAC != null;
+    }
+
+    public void setEACIsSet(boolean value) {
+      if (!value) {
+        this.eAC = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -22441,7 +28069,15 @@ public class MasterService {
         if (value == null) {
           unsetE();
         } else {
-          setE((FileDoesNotExistException)value);
+          setE((TachyonException)value);
+        }
+        break;
+
+      case E_AC:
+        if (value == null) {
+          unsetEAC();
+        } else {
+          setEAC((AccessControlException)value);
         }
         break;
 
@@ -22451,11 +28087,14 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return Boolean.valueOf(isSuccess());
 
       case E:
         return getE();
 
+      case E_AC:
+        return getEAC();
+
       }
       throw new IllegalStateException();
     }
@@ -22471,6 +28110,8 @@ public class MasterService {
         return isSetSuccess();
       case E:
         return isSetE();
+      case E_AC:
+        return isSetEAC();
       }
       throw new IllegalStateException();
     }
@@ -22479,12 +28120,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getBlockId_result)
-        return this.equals((user_getBlockId_result)that);
+      if (that instanceof user_delete_result)
+        return this.equals((user_delete_result)that);
       return false;
     }
 
-    public boolean equals(user_getBlockId_result that) {
+    public boolean equals(user_delete_result that) {
       if (that == null)
         return false;
 
@@ -22506,6 +28147,15 @@ public class MasterService {
           return false;
       }
 
+      boolean this_present_eAC = true && this.isSetEAC();
+      boolean that_present_eAC = true && that.isSetEAC();
+      if (this_present_eAC || that_present_eAC) {
+        if (!(this_present_eAC && that_present_eAC))
+          return false;
+        if (!this.eAC.equals(that.eAC))
+          return false;
+      }
+
       return true;
     }
 
@@ -22515,7 +28165,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getBlockId_result other) {
+    public int compareTo(user_delete_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -22542,6 +28192,16 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetEAC()).compareTo(other.isSetEAC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEAC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eAC, other.eAC);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -22559,7 +28219,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getBlockId_result(");
+      StringBuilder sb = new StringBuilder("user_delete_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -22573,6 +28233,14 @@ public class MasterService {
         sb.append(this.e);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("eAC:");
+      if (this.eAC == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eAC);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -22600,15 +28268,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getBlockId_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getBlockId_resultStandardScheme getScheme() {
-        return new user_getBlockId_resultStandardScheme();
+    private static class user_delete_resultStandardSchemeFactory implements SchemeFactory {
+      public user_delete_resultStandardScheme getScheme() {
+        return new user_delete_resultStandardScheme();
       }
     }
 
-    private static class user_getBlockId_resultStandardScheme extends StandardScheme<user_getBlockId_result> {
+    private static class user_delete_resultStandardScheme extends StandardScheme<user_delete_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -22619,8 +28287,8 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -22628,13 +28296,22 @@ public class MasterService {
               break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
+                struct.e = new TachyonException();
                 struct.e.read(iprot);
                 struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // E_AC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eAC = new AccessControlException();
+                struct.eAC.read(iprot);
+                struct.setEACIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -22646,13 +28323,13 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.e != null) {
@@ -22660,22 +28337,27 @@ public class MasterService {
           struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.eAC != null) {
+          oprot.writeFieldBegin(E_AC_FIELD_DESC);
+          struct.eAC.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getBlockId_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getBlockId_resultTupleScheme getScheme() {
-        return new user_getBlockId_resultTupleScheme();
+    private static class user_delete_resultTupleSchemeFactory implements SchemeFactory {
+      public user_delete_resultTupleScheme getScheme() {
+        return new user_delete_resultTupleScheme();
       }
     }
 
-    private static class user_getBlockId_resultTupleScheme extends TupleScheme<user_getBlockId_result> {
+    private static class user_delete_resultTupleScheme extends TupleScheme<user_delete_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -22684,52 +28366,60 @@ public class MasterService {
         if (struct.isSetE()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetEAC()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
+        if (struct.isSetEAC()) {
+          struct.eAC.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e = new FileDoesNotExistException();
+          struct.e = new TachyonException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.eAC = new AccessControlException();
+          struct.eAC.read(iprot);
+          struct.setEACIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getWorker_args implements org.apache.thrift.TBase<user_getWorker_args, user_getWorker_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_args");
+  public static class getFileStatusBatch_args implements org.apache.thrift.TBase<getFileStatusBatch_args, getFileStatusBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatusBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatusBatch_args");
 
-    private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField("random", org.apache.thrift.protocol.TType.BOOL, (short)1);
-    private static final org.apache.thrift.protocol.TField HOST_FIELD_DESC = new org.apache.thrift.protocol.TField("host", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getWorker_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getWorker_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatusBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatusBatch_argsTupleSchemeFactory());
     }
 
-    public boolean random; // required
-    public String host; // required
+    public List<String> paths; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RANDOM((short)1, "random"),
-      HOST((short)2, "host");
+      PATHS((short)1, "paths");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22744,10 +28434,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RANDOM
-            return RANDOM;
-          case 2: // HOST
-            return HOST;
+          case 1: // PATHS
+            return PATHS;
           default:
             return null;
         }
@@ -22788,116 +28476,91 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __RANDOM_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData("random", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.HOST, new org.apache.thrift.meta_data.FieldMetaData("host", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatusBatch_args.class, metaDataMap);
     }
 
-    public user_getWorker_args() {
+    public getFileStatusBatch_args() {
     }
 
-    public user_getWorker_args(
-      boolean random,
-      String host)
+    public getFileStatusBatch_args(
+      List<String> paths)
     {
       this();
-      this.random = random;
-      setRandomIsSet(true);
-      this.host = host;
+      this.paths = paths;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getWorker_args(user_getWorker_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.random = other.random;
-      if (other.isSetHost()) {
-        this.host = other.host;
+    public getFileStatusBatch_args(getFileStatusBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
     }
 
-    public user_getWorker_args deepCopy() {
-      return new user_getWorker_args(this);
+    public getFileStatusBatch_args deepCopy() {
+      return new getFileStatusBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setRandomIsSet(false);
-      this.random = false;
-      this.host = null;
-    }
-
-    public boolean isRandom() {
-      return this.random;
-    }
-
-    public user_getWorker_args setRandom(boolean random) {
-      this.random = random;
-      setRandomIsSet(true);
-      return this;
+      this.paths = null;
     }
 
-    public void unsetRandom() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RANDOM_ISSET_ID);
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /** Returns true if field random is set (has been assigned a value) and false otherwise */
-    public boolean isSetRandom() {
-      return EncodingUtils.testBit(__isset_bitfield, __RANDOM_ISSET_ID);
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void setRandomIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RANDOM_ISSET_ID, value);
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
     }
 
-    public String getHost() {
-      return this.host;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
-    public user_getWorker_args setHost(String host) {
-      this.host = host;
+    public getFileStatusBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetHost() {
-      this.host = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field host is set (has been assigned a value) and false otherwise */
-    public boolean isSetHost() {
-      return this.host != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setHostIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.host = null;
+        this.paths = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case RANDOM:
-        if (value == null) {
-          unsetRandom();
-        } else {
-          setRandom((Boolean)value);
-        }
-        break;
-
-      case HOST:
+      case PATHS:
         if (value == null) {
-          unsetHost();
+          unsetPaths();
         } else {
-          setHost((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -22906,11 +28569,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case RANDOM:
-        return Boolean.valueOf(isRandom());
-
-      case HOST:
-        return getHost();
+      case PATHS:
+        return getPaths();
 
       }
       throw new IllegalStateException();
@@ -22923,10 +28583,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case RANDOM:
-        return isSetRandom();
-      case HOST:
-        return isSetHost();
+      case PATHS:
+        return isSetPaths();
       }
       throw new IllegalStateException();
     }
@@ -22935,30 +28593,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getWorker_args)
-        return this.equals((user_getWorker_args)that);
+      if (that instanceof getFileStatusBatch_args)
+        return this.equals((getFileStatusBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_getWorker_args that) {
+    public boolean equals(getFileStatusBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_random = true;
-      boolean that_present_random = true;
-      if (this_present_random || that_present_random) {
-        if (!(this_present_random && that_present_random))
-          return false;
-        if (this.random != that.random)
-          return false;
-      }
-
-      boolean this_present_host = true && this.isSetHost();
-      boolean that_present_host = true && that.isSetHost();
-      if (this_present_host || that_present_host) {
-        if (!(this_present_host && that_present_host))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.host.equals(that.host))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -22971,29 +28620,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getWorker_args other) {
+    public int compareTo(getFileStatusBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRandom()).compareTo(other.isSetRandom());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRandom()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.random, other.random);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetHost()).compareTo(other.isSetHost());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetHost()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.host, other.host);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -23015,18 +28654,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getWorker_args(");
+      StringBuilder sb = new StringBuilder("getFileStatusBatch_args(");
       boolean first = true;
 
-      sb.append("random:");
-      sb.append(this.random);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("host:");
-      if (this.host == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.host);
+        sb.append(this.paths);
       }
       first = false;
       sb.append(")");
@@ -23048,23 +28683,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getWorker_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getWorker_argsStandardScheme getScheme() {
-        return new user_getWorker_argsStandardScheme();
+    private static class getFileStatusBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_argsStandardScheme getScheme() {
+        return new getFileStatusBatch_argsStandardScheme();
       }
     }
 
-    private static class user_getWorker_argsStandardScheme extends StandardScheme<user_getWorker_args> {
+    private static class getFileStatusBatch_argsStandardScheme extends StandardScheme<getFileStatusBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23074,18 +28707,20 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RANDOM
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.random = iprot.readBool();
-                struct.setRandomIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // HOST
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.host = iprot.readString();
-                struct.setHostIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list180 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list180.size);
+                  for (int _i181 = 0; _i181 < _list180.size; ++_i181)
+                  {
+                    String _elem182;
+                    _elem182 = iprot.readString();
+                    struct.paths.add(_elem182);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -23101,16 +28736,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(RANDOM_FIELD_DESC);
-        oprot.writeBool(struct.random);
-        oprot.writeFieldEnd();
-        if (struct.host != null) {
-          oprot.writeFieldBegin(HOST_FIELD_DESC);
-          oprot.writeString(struct.host);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter183 : struct.paths)
+            {
+              oprot.writeString(_iter183);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -23119,69 +28758,77 @@ public class MasterService {
 
     }
 
-    private static class user_getWorker_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getWorker_argsTupleScheme getScheme() {
-        return new user_getWorker_argsTupleScheme();
+    private static class getFileStatusBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_argsTupleScheme getScheme() {
+        return new getFileStatusBatch_argsTupleScheme();
       }
     }
 
-    private static class user_getWorker_argsTupleScheme extends TupleScheme<user_getWorker_args> {
+    private static class getFileStatusBatch_argsTupleScheme extends TupleScheme<getFileStatusBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRandom()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetHost()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetRandom()) {
-          oprot.writeBool(struct.random);
-        }
-        if (struct.isSetHost()) {
-          oprot.writeString(struct.host);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter184 : struct.paths)
+            {
+              oprot.writeString(_iter184);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.random = iprot.readBool();
-          struct.setRandomIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.host = iprot.readString();
-          struct.setHostIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list185 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list185.size);
+            for (int _i186 = 0; _i186 < _list185.size; ++_i186)
+            {
+              String _elem187;
+              _elem187 = iprot.readString();
+              struct.paths.add(_elem187);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getWorker_result implements org.apache.thrift.TBase<user_getWorker_result, user_getWorker_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_result");
+  public static class getFileStatusBatch_result implements org.apache.thrift.TBase<getFileStatusBatch_result, getFileStatusBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatusBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatusBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_A_FIELD_DESC = new org.apache.thrift.protocol.TField("eA", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getWorker_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getWorker_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatusBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatusBatch_resultTupleSchemeFactory());
     }
 
-    public NetAddress success; // required
-    public NoWorkerException e; // required
+    public List<ClientFileInfo> success; // required
+    public InvalidPathException eI; // required
+    public AccessControlException eA; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E_I((short)1, "eI"),
+      E_A((short)2, "eA");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -23198,8 +28845,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
+          case 1: // E_I
+            return E_I;
+          case 2: // E_A
+            return E_A;
           default:
             return null;
         }
@@ -23244,52 +28893,80 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NetAddress.class)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientFileInfo.class))));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_A, new org.apache.thrift.meta_data.FieldMetaData("eA", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatusBatch_result.class, metaDataMap);
     }
 
-    public user_getWorker_result() {
+    public getFileStatusBatch_result() {
     }
 
-    public user_getWorker_result(
-      NetAddress success,
-      NoWorkerException e)
+    public getFileStatusBatch_result(
+      List<ClientFileInfo> success,
+      InvalidPathException eI,
+      AccessControlException eA)
     {
       this();
       this.success = success;
-      this.e = e;
+      this.eI = eI;
+      this.eA = eA;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getWorker_result(user_getWorker_result other) {
+    public getFileStatusBatch_result(getFileStatusBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new NetAddress(other.success);
+        List<ClientFileInfo> __this__success = new ArrayList<ClientFileInfo>(other.success.size());
+        for (ClientFileInfo other_element : other.success) {
+          __this__success.add(new ClientFileInfo(other_element));
+        }
+        this.success = __this__success;
       }
-      if (other.isSetE()) {
-        this.e = new NoWorkerException(other.e);
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+      if (other.isSetEA()) {
+        this.eA = new AccessControlException(other.eA);
       }
     }
 
-    public user_getWorker_result deepCopy() {
-      return new user_getWorker_result(this);
+    public getFileStatusBatch_result deepCopy() {
+      return new getFileStatusBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.e = null;
+      this.eI = null;
+      this.eA = null;
     }
 
-    public NetAddress getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ClientFileInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ClientFileInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ClientFileInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ClientFileInfo> getSuccess() {
       return this.success;
     }
 
-    public user_getWorker_result setSuccess(NetAddress success) {
+    public getFileStatusBatch_result setSuccess(List<ClientFileInfo> success) {
       this.success = success;
       return this;
     }
@@ -23309,27 +28986,51 @@ public class MasterService {
       }
     }
 
-    public NoWorkerException getE() {
-      return this.e;
+    public InvalidPathException getEI() {
+      return this.eI;
     }
 
-    public user_getWorker_result setE(NoWorkerException e) {
-      this.e = e;
+    public getFileStatusBatch_result setEI(InvalidPathException eI) {
+      this.eI = eI;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetEI() {
+      this.eI = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setEIIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.eI = null;
+      }
+    }
+
+    public AccessControlException getEA() {
+      return this.eA;
+    }
+
+    public getFileStatusBatch_result setEA(AccessControlException eA) {
+      this.eA = eA;
+      return this;
+    }
+
+    public void unsetEA() {
+      this.eA = null;
+    }
+
+    /** Returns true if field eA is set (has been assigned a value) and false otherwise */
+    public boolean isSetEA() {
+      return this.eA != null;
+    }
+
+    public void setEAIsSet(boolean value) {
+      if (!value) {
+        this.eA = null;
       }
     }
 
@@ -23339,15 +29040,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((NetAddress)value);
+          setSuccess((List<ClientFileInfo>)value);
         }
         break;
 
-      case E:
+      case E_I:
         if (value == null) {
-          unsetE();
+          unsetEI();
         } else {
-          setE((NoWorkerException)value);
+          setEI((InvalidPathException)value);
+        }
+        break;
+
+      case E_A:
+        if (value == null) {
+          unsetEA();
+        } else {
+          setEA((AccessControlException)value);
         }
         break;
 
@@ -23359,8 +29068,11 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
-      case E:
-        return getE();
+      case E_I:
+        return getEI();
+
+      case E_A:
+        return getEA();
 
       }
       throw new IllegalStateException();
@@ -23375,8 +29087,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
+      case E_I:
+        return isSetEI();
+      case E_A:
+        return isSetEA();
       }
       throw new IllegalStateException();
     }
@@ -23385,12 +29099,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getWorker_result)
-        return this.equals((user_getWorker_result)that);
+      if (that instanceof getFileStatusBatch_result)
+        return this.equals((getFileStatusBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_getWorker_result that) {
+    public boolean equals(getFileStatusBatch_result that) {
       if (that == null)
         return false;
 
@@ -23403,12 +29117,21 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
           return false;
-        if (!this.e.equals(that.e))
+        if (!this.eI.equals(that.eI))
+          return false;
+      }
+
+      boolean this_present_eA = true && this.isSetEA();
+      boolean that_present_eA = true && that.isSetEA();
+      if (this_present_eA || that_present_eA) {
+        if (!(this_present_eA && that_present_eA))
+          return false;
+        if (!this.eA.equals(that.eA))
           return false;
       }
 
@@ -23421,7 +29144,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getWorker_result other) {
+    public int compareTo(getFileStatusBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -23438,12 +29161,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEA()).compareTo(other.isSetEA());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEA()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eA, other.eA);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -23465,7 +29198,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getWorker_result(");
+      StringBuilder sb = new StringBuilder("getFileStatusBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -23476,11 +29209,19 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("eI:");
+      if (this.eI == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.eI);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eA:");
+      if (this.eA == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eA);
       }
       first = false;
       sb.append(")");
@@ -23490,9 +29231,6 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -23511,15 +29249,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getWorker_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getWorker_resultStandardScheme getScheme() {
-        return new user_getWorker_resultStandardScheme();
+    private static class getFileStatusBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_resultStandardScheme getScheme() {
+        return new getFileStatusBatch_resultStandardScheme();
       }
     }
 
-    private static class user_getWorker_resultStandardScheme extends StandardScheme<user_getWorker_result> {
+    private static class getFileStatusBatch_resultStandardScheme extends StandardScheme<getFileStatusBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23530,19 +29268,38 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new NetAddress();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list188 = iprot.readListBegin();
+                  struct.success = new ArrayList<ClientFileInfo>(_list188.size);
+                  for (int _i189 = 0; _i189 < _list188.size; ++_i189)
+                  {
+                    ClientFileInfo _elem190;
+                    _elem190 = new ClientFileInfo();
+                    _elem190.read(iprot);
+                    struct.success.add(_elem190);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
+            case 1: // E_I
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new NoWorkerException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_A
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eA = new AccessControlException();
+                struct.eA.read(iprot);
+                struct.setEAIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -23558,18 +29315,30 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ClientFileInfo _iter191 : struct.success)
+            {
+              _iter191.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eA != null) {
+          oprot.writeFieldBegin(E_A_FIELD_DESC);
+          struct.eA.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -23578,71 +29347,94 @@ public class MasterService {
 
     }
 
-    private static class user_getWorker_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getWorker_resultTupleScheme getScheme() {
-        return new user_getWorker_resultTupleScheme();
+    private static class getFileStatusBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_resultTupleScheme getScheme() {
+        return new getFileStatusBatch_resultTupleScheme();
       }
     }
 
-    private static class user_getWorker_resultTupleScheme extends TupleScheme<user_getWorker_result> {
+    private static class getFileStatusBatch_resultTupleScheme extends TupleScheme<getFileStatusBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetEI()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetEA()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ClientFileInfo _iter192 : struct.success)
+            {
+              _iter192.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
         }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetEA()) {
+          struct.eA.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = new NetAddress();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list193 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ClientFileInfo>(_list193.size);
+            for (int _i194 = 0; _i194 < _list193.size; ++_i194)
+            {
+              ClientFileInfo _elem195;
+              _elem195 = new ClientFileInfo();
+              _elem195.read(iprot);
+              struct.success.add(_elem195);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e = new NoWorkerException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eA = new AccessControlException();
+          struct.eA.read(iprot);
+          struct.setEAIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileStatus_args implements org.apache.thrift.TBase<getFileStatus_args, getFileStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_args");
+  public static class user_getFileBlocksBatch_args implements org.apache.thrift.TBase<user_getFileBlocksBatch_args, user_getFileBlocksBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocksBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocksBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField FILE_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("fileIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocksBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocksBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public String path; // required
+    public List<Integer> fileIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path");
+      FILE_IDS((short)1, "fileIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -23657,10 +29449,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // PATH
-            return PATH;
+          case 1: // FILE_IDS
+            return FILE_IDS;
           default:
             return null;
         }
@@ -23701,116 +29491,91 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.FILE_IDS, new org.apache.thrift.meta_data.FieldMetaData("fileIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocksBatch_args.class, metaDataMap);
     }
 
-    public getFileStatus_args() {
+    public user_getFileBlocksBatch_args() {
     }
 
-    public getFileStatus_args(
-      int fileId,
-      String path)
+    public user_getFileBlocksBatch_args(
+      List<Integer> fileIds)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.path = path;
+      this.fileIds = fileIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileStatus_args(getFileStatus_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public user_getFileBlocksBatch_args(user_getFileBlocksBatch_args other) {
+      if (other.isSetFileIds()) {
+        List<Integer> __this__fileIds = new ArrayList<Integer>(other.fileIds);
+        this.fileIds = __this__fileIds;
       }
     }
 
-    public getFileStatus_args deepCopy() {
-      return new getFileStatus_args(this);
+    public user_getFileBlocksBatch_args deepCopy() {
+      return new user_getFileBlocksBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      this.path = null;
-    }
-
-    public int getFileId() {
-      return this.fileId;
-    }
-
-    public getFileStatus_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
+      this.fileIds = null;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public int getFileIdsSize() {
+      return (this.fileIds == null) ? 0 : this.fileIds.size();
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public java.util.Iterator<Integer> getFileIdsIterator() {
+      return (this.fileIds == null) ? null : this.fileIds.iterator();
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void addToFileIds(int elem) {
+      if (this.fileIds == null) {
+        this.fileIds = new ArrayList<Integer>();
+      }
+      this.fileIds.add(elem);
     }
 
-    public String getPath() {
-      return this.path;
+    public List<Integer> getFileIds() {
+      return this.fileIds;
     }
 
-    public getFileStatus_args setPath(String path) {
-      this.path = path;
+    public user_getFileBlocksBatch_args setFileIds(List<Integer> fileIds) {
+      this.fileIds = fileIds;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetFileIds() {
+      this.fileIds = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field fileIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileIds() {
+      return this.fileIds != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setFileIdsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.fileIds = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case FILE_IDS:
         if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
-      case PATH:
-        if (value == null) {
-          unsetPath();
+          unsetFileIds();
         } else {
-          setPath((String)value);
+          setFileIds((List<Integer>)value);
         }
         break;
 
@@ -23819,11 +29584,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
-      case PATH:
-        return getPath();
+      case FILE_IDS:
+        return getFileIds();
 
       }
       throw new IllegalStateException();
@@ -23836,10 +29598,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case PATH:
-        return isSetPath();
+      case FILE_IDS:
+        return isSetFileIds();
       }
       throw new IllegalStateException();
     }
@@ -23848,30 +29608,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileStatus_args)
-        return this.equals((getFileStatus_args)that);
+      if (that instanceof user_getFileBlocksBatch_args)
+        return this.equals((user_getFileBlocksBatch_args)that);
       return false;
     }
 
-    public boolean equals(getFileStatus_args that) {
+    public boolean equals(user_getFileBlocksBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
-
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_fileIds = true && this.isSetFileIds();
+      boolean that_present_fileIds = true && that.isSetFileIds();
+      if (this_present_fileIds || that_present_fileIds) {
+        if (!(this_present_fileIds && that_present_fileIds))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.fileIds.equals(that.fileIds))
           return false;
       }
 
@@ -23884,29 +29635,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(getFileStatus_args other) {
+    public int compareTo(user_getFileBlocksBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetFileIds()).compareTo(other.isSetFileIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetFileIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileIds, other.fileIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -23928,18 +29669,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileStatus_args(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocksBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("fileIds:");
+      if (this.fileIds == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.fileIds);
       }
       first = false;
       sb.append(")");
@@ -23961,23 +29698,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileStatus_argsStandardScheme getScheme() {
-        return new getFileStatus_argsStandardScheme();
+    private static class user_getFileBlocksBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocksBatch_argsStandardScheme getScheme() {
+        return new user_getFileBlocksBatch_argsStandardScheme();
       }
     }
 
-    private static class getFileStatus_argsStandardScheme extends StandardScheme<getFileStatus_args> {
+    private static class user_getFileBlocksBatch_argsStandardScheme extends StandardScheme<user_getFileBlocksBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocksBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23987,18 +29722,20 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // FILE_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list196 = iprot.readListBegin();
+                  struct.fileIds = new ArrayList<Integer>(_list196.size);
+                  for (int _i197 = 0; _i197 < _list196.size; ++_i197)
+                  {
+                    int _elem198;
+                    _elem198 = iprot.readI32();
+                    struct.fileIds.add(_elem198);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFileIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -24014,16 +29751,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocksBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.fileIds != null) {
+          oprot.writeFieldBegin(FILE_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.fileIds.size()));
+            for (int _iter199 : struct.fileIds)
+            {
+              oprot.writeI32(_iter199);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -24032,72 +29773,77 @@ public class MasterService {
 
     }
 
-    private static class getFileStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileStatus_argsTupleScheme getScheme() {
-        return new getFileStatus_argsTupleScheme();
+    private static class user_getFileBlocksBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocksBatch_argsTupleScheme getScheme() {
+        return new user_getFileBlocksBatch_argsTupleScheme();
       }
     }
 
-    private static class getFileStatus_argsTupleScheme extends TupleScheme<getFileStatus_args> {
+    private static class user_getFileBlocksBatch_argsTupleScheme extends TupleScheme<user_getFileBlocksBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocksBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetFileIds()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
-        }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileIds()) {
+          {
+            oprot.writeI32(struct.fileIds.size());
+            for (int _iter200 : struct.fileIds)
+            {
+              oprot.writeI32(_iter200);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocksBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list201 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.fileIds = new ArrayList<Integer>(_list201.size);
+            for (int _i202 = 0; _i202 < _list201.size; ++_i202)
+            {
+              int _elem203;
+              _elem203 = iprot.readI32();
+              struct.fileIds.add(_elem203);
+            }
+          }
+          struct.setFileIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileStatus_result implements org.apache.thrift.TBase<getFileStatus_result, getFileStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_result");
+  public static class user_getFileBlocksBatch_result implements org.apache.thrift.TBase<user_getFileBlocksBatch_result, user_getFileBlocksBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocksBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocksBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_A_FIELD_DESC = new org.apache.thrift.protocol.TField("eA", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocksBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocksBatch_resultTupleSchemeFactory());
     }
 
-    public ClientFileInfo success; // required
+    public List<List<ClientBlockInfo>> success; // required
+    public FileDoesNotExistException eF; // required
     public InvalidPathException eI; // required
-    public AccessControlException eA; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_I((short)1, "eI"),
-      E_A((short)2, "eA");
+      E_F((short)1, "eF"),
+      E_I((short)2, "eI");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -24114,10 +29860,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_I
+          case 1: // E_F
+            return E_F;
+          case 2: // E_I
             return E_I;
-          case 2: // E_A
-            return E_A;
           default:
             return null;
         }
@@ -24162,60 +29908,85 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientFileInfo.class)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+                  new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class)))));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_A, new org.apache.thrift.meta_data.FieldMetaData("eA", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocksBatch_result.class, metaDataMap);
     }
 
-    public getFileStatus_result() {
+    public user_getFileBlocksBatch_result() {
     }
 
-    public getFileStatus_result(
-      ClientFileInfo success,
-      InvalidPathException eI,
-      AccessControlException eA)
+    public user_getFileBlocksBatch_result(
+      List<List<ClientBlockInfo>> success,
+      FileDoesNotExistException eF,
+      InvalidPathException eI)
     {
       this();
       this.success = success;
+      this.eF = eF;
       this.eI = eI;
-      this.eA = eA;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileStatus_result(getFileStatus_result other) {
+    public user_getFileBlocksBatch_result(user_getFileBlocksBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ClientFileInfo(other.success);
+        List<List<ClientBlockInfo>> __this__success = new ArrayList<List<ClientBlockInfo>>(other.success.size());
+        for (List<ClientBlockInfo> other_element : other.success) {
+          List<ClientBlockInfo> __this__success_copy = new ArrayList<ClientBlockInfo>(other_element.size());
+          for (ClientBlockInfo other_element_element : other_element) {
+            __this__success_copy.add(new ClientBlockInfo(other_element_element));
+          }
+          __this__success.add(__this__success_copy);
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetEF()) {
+        this.eF = new FileDoesNotExistException(other.eF);
       }
       if (other.isSetEI()) {
         this.eI = new InvalidPathException(other.eI);
       }
-      if (other.isSetEA()) {
-        this.eA = new AccessControlException(other.eA);
-      }
     }
 
-    public getFileStatus_result deepCopy() {
-      return new getFileStatus_result(this);
+    public user_getFileBlocksBatch_result deepCopy() {
+      return new user_getFileBlocksBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
+      this.eF = null;
       this.eI = null;
-      this.eA = null;
     }
 
-    public ClientFileInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<List<ClientBlockInfo>> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(List<ClientBlockInfo> elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<List<ClientBlockInfo>>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<List<ClientBlockInfo>> getSuccess() {
       return this.success;
     }
 
-    public getFileStatus_result setSuccess(ClientFileInfo success) {
+    public user_getFileBlocksBatch_result setSuccess(List<List<ClientBlockInfo>> success) {
       this.success = success;
       return this;
     }
@@ -24235,51 +30006,51 @@ public class MasterService {
       }
     }
 
-    public InvalidPathException getEI() {
-      return this.eI;
+    public FileDoesNotExistException getEF() {
+      return this.eF;
     }
 
-    public getFileStatus_result setEI(InvalidPathException eI) {
-      this.eI = eI;
+    public user_getFileBlocksBatch_result setEF(FileDoesNotExistException eF) {
+      this.eF = eF;
       return this;
     }
 
-    public void unsetEI() {
-      this.eI = null;
+    public void unsetEF() {
+      this.eF = null;
     }
 
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
     }
 
-    public void setEIIsSet(boolean value) {
+    public void setEFIsSet(boolean value) {
       if (!value) {
-        this.eI = null;
+        this.eF = null;
       }
     }
 
-    public AccessControlException getEA() {
-      return this.eA;
+    public InvalidPathException getEI() {
+      return this.eI;
     }
 
-    public getFileStatus_result setEA(AccessControlException eA) {
-      this.eA = eA;
+    public user_getFileBlocksBatch_result setEI(InvalidPathException eI) {
+      this.eI = eI;
       return this;
     }
 
-    public void unsetEA() {
-      this.eA = null;
+    public void unsetEI() {
+      this.eI = null;
     }
 
-    /** Returns true if field eA is set (has been assigned a value) and false otherwise */
-    public boolean isSetEA() {
-      return this.eA != null;
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
     }
 
-    public void setEAIsSet(boolean value) {
+    public void setEIIsSet(boolean value) {
       if (!value) {
-        this.eA = null;
+        this.eI = null;
       }
     }
 
@@ -24289,23 +30060,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ClientFileInfo)value);
+          setSuccess((List<List<ClientBlockInfo>>)value);
         }
         break;
 
-      case E_I:
+      case E_F:
         if (value == null) {
-          unsetEI();
+          unsetEF();
         } else {
-          setEI((InvalidPathException)value);
+          setEF((FileDoesNotExistException)value);
         }
         break;
 
-      case E_A:
+      case E_I:
         if (value == null) {
-          unsetEA();
+          unsetEI();
         } else {
-          setEA((AccessControlException)value);
+          setEI((InvalidPathException)value);
         }
         break;
 
@@ -24317,12 +30088,12 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
+      case E_F:
+        return getEF();
+
       case E_I:
         return getEI();
 
-      case E_A:
-        return getEA();
-
       }
       throw new IllegalStateException();
     }
@@ -24336,10 +30107,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E_F:
+        return isSetEF();
       case E_I:
         return isSetEI();
-      case E_A:
-        return isSetEA();
       }
       throw new IllegalStateException();
     }
@@ -24348,12 +30119,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileStatus_result)
-        return this.equals((getFileStatus_result)that);
+      if (that instanceof user_getFileBlocksBatch_result)
+        return this.equals((user_getFileBlocksBatch_result)that);
       return false;
     }
 
-    public boolean equals(getFileStatus_result that) {
+    public boolean equals(user_getFileBlocksBatch_result that) {
       if (that == null)
         return false;
 
@@ -24366,6 +30137,15 @@ public class MasterService {
           return false;
       }
 
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
+          return false;
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
       boolean this_present_eI = true && this.isSetEI();
       boolean that_present_eI = true && that.isSetEI();
       if (this_present_eI || that_present_eI) {
@@ -24375,15 +30155,6 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eA = true && this.isSetEA();
-      boolean that_present_eA = true && that.isSetEA();
-      if (this_present_eA || that_present_eA) {
-        if (!(this_present_eA && that_present_eA))
-          return false;
-        if (!this.eA.equals(that.eA))
-          return false;
-      }
-
       return true;
     }
 
@@ -24393,7 +30164,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(getFileStatus_result other) {
+    public int compareTo(user_getFileBlocksBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -24410,22 +30181,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEA()).compareTo(other.isSetEA());
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEA()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eA, other.eA);
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -24447,7 +30218,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileStatus_result(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocksBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -24458,19 +30229,19 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
+      sb.append("eF:");
+      if (this.eF == null) {
         sb.append("null");
       } else {
-        sb.append(this.eI);
+        sb.append(this.eF);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eA:");
-      if (this.eA == null) {
+      sb.append("eI:");
+      if (this.eI == null) {
         sb.append("null");
       } else {
-        sb.append(this.eA);
+        sb.append(this.eI);
       }
       first = false;
       sb.append(")");
@@ -24480,9 +30251,6 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -24501,15 +30269,15 @@ public class MasterService {
       }
     }
 
-    private static class getFileStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileStatus_resultStandardScheme getScheme() {
-        return new getFileStatus_resultStandardScheme();
+    private static class user_getFileBlocksBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocksBatch_resultStandardScheme getScheme() {
+        return new user_getFileBlocksBatch_resultStandardScheme();
       }
     }
 
-    private static class getFileStatus_resultStandardScheme extends StandardScheme<getFileStatus_result> {
+    private static class user_getFileBlocksBatch_resultStandardScheme extends StandardScheme<user_getFileBlocksBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocksBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -24520,28 +30288,48 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ClientFileInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list204 = iprot.readListBegin();
+                  struct.success = new ArrayList<List<ClientBlockInfo>>(_list204.size);
+                  for (int _i205 = 0; _i205 < _list204.size; ++_i205)
+                  {
+                    List<ClientBlockInfo> _elem206;
+                    {
+                      org.apache.thrift.protocol.TList _list207 = iprot.readListBegin();
+                      _elem206 = new ArrayList<ClientBlockInfo>(_list207.size);
+                      for (int _i208 = 0; _i208 < _list207.size; ++_i208)
+                      {
+                        ClientBlockInfo _elem209;
+                        _elem209 = new ClientBlockInfo();
+                        _elem209.read(iprot);
+                        _elem206.add(_elem209);
+                      }
+                      iprot.readListEnd();
+                    }
+                    struct.success.add(_elem206);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_I
+            case 1: // E_F
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
+                struct.eF = new FileDoesNotExistException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_A
+            case 2: // E_I
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eA = new AccessControlException();
-                struct.eA.read(iprot);
-                struct.setEAIsSet(true);
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -24557,13 +30345,32 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocksBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.LIST, struct.success.size()));
+            for (List<ClientBlockInfo> _iter210 : struct.success)
+            {
+              {
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, _iter210.size()));
+                for (ClientBlockInfo _iter211 : _iter210)
+                {
+                  _iter211.write(oprot);
+                }
+                oprot.writeListEnd();
+              }
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.eI != null) {
@@ -24571,90 +30378,121 @@ public class MasterService {
           struct.eI.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eA != null) {
-          oprot.writeFieldBegin(E_A_FIELD_DESC);
-          struct.eA.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileStatus_resultTupleScheme getScheme() {
-        return new getFileStatus_resultTupleScheme();
+    private static class user_getFileBlocksBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocksBatch_resultTupleScheme getScheme() {
+        return new user_getFileBlocksBatch_resultTupleScheme();
       }
     }
 
-    private static class getFileStatus_resultTupleScheme extends TupleScheme<getFileStatus_result> {
+    private static class user_getFileBlocksBatch_resultTupleScheme extends TupleScheme<user_getFileBlocksBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocksBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEI()) {
+        if (struct.isSetEF()) {
           optionals.set(1);
         }
-        if (struct.isSetEA()) {
+        if (struct.isSetEI()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (List<ClientBlockInfo> _iter212 : struct.success)
+            {
+              {
+                oprot.writeI32(_iter212.size());
+                for (ClientBlockInfo _iter213 : _iter212)
+                {
+                  _iter213.write(oprot);
+                }
+              }
+            }
+          }
+        }
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
         }
         if (struct.isSetEI()) {
           struct.eI.write(oprot);
         }
-        if (struct.isSetEA()) {
-          struct.eA.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocksBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = new ClientFileInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list214 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+            struct.success = new ArrayList<List<ClientBlockInfo>>(_list214.size);
+            for (int _i215 = 0; _i215 < _list214.size; ++_i215)
+            {
+              List<ClientBlockInfo> _elem216;
+              {
+                org.apache.thrift.protocol.TList _list217 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+                _elem216 = new ArrayList<ClientBlockInfo>(_list217.size);
+                for (int _i218 = 0; _i218 < _list217.size; ++_i218)
+                {
+                  ClientBlockInfo _elem219;
+                  _elem219 = new ClientBlockInfo();
+                  _elem219.read(iprot);
+                  _elem216.add(_elem219);
+                }
+              }
+              struct.success.add(_elem216);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
+          struct.eF = new FileDoesNotExistException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.eA = new AccessControlException();
-          struct.eA.read(iprot);
-          struct.setEAIsSet(true);
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getClientBlockInfo_args implements org.apache.thrift.TBase<user_getClientBlockInfo_args, user_getClientBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_args");
+  public static class user_createFileBatch_args implements org.apache.thrift.TBase<user_createFileBatch_args, user_createFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFileBatch_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_BYTE_FIELD_DESC = new org.apache.thrift.protocol.TField("blockSizeByte", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientBlockInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientBlockInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFileBatch_argsTupleSchemeFactory());
     }
 
-    public long blockId; // required
+    public List<String> paths; // required
+    public long blockSizeByte; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId");
+      PATHS((short)1, "paths"),
+      BLOCK_SIZE_BYTE((short)2, "blockSizeByte"),
+      RECURSIVE((short)3, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -24669,8 +30507,12 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
+          case 1: // PATHS
+            return PATHS;
+          case 2: // BLOCK_SIZE_BYTE
+            return BLOCK_SIZE_BYTE;
+          case 3: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -24711,76 +30553,173 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __BLOCKSIZEBYTE_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.BLOCK_SIZE_BYTE, new org.apache.thrift.meta_data.FieldMetaData("blockSizeByte", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFileBatch_args.class, metaDataMap);
     }
 
-    public user_getClientBlockInfo_args() {
+    public user_createFileBatch_args() {
     }
 
-    public user_getClientBlockInfo_args(
-      long blockId)
+    public user_createFileBatch_args(
+      List<String> paths,
+      long blockSizeByte,
+      boolean recursive)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+      this.paths = paths;
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientBlockInfo_args(user_getClientBlockInfo_args other) {
+    public user_createFileBatch_args(user_createFileBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      this.blockSizeByte = other.blockSizeByte;
+      this.recursive = other.recursive;
     }
 
-    public user_getClientBlockInfo_args deepCopy() {
-      return new user_getClientBlockInfo_args(this);
+    public user_createFileBatch_args deepCopy() {
+      return new user_createFileBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
+      this.paths = null;
+      setBlockSizeByteIsSet(false);
+      this.blockSizeByte = 0;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
-    public long getBlockId() {
-      return this.blockId;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    public user_getClientBlockInfo_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public user_createFileBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public long getBlockSizeByte() {
+      return this.blockSizeByte;
+    }
+
+    public user_createFileBatch_args setBlockSizeByte(long blockSizeByte) {
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockSizeByte() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    /** Returns true if field blockSizeByte is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockSizeByte() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    }
+
+    public void setBlockSizeByteIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID, value);
+    }
+
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    public user_createFileBatch_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case BLOCK_ID:
+      case PATHS:
         if (value == null) {
-          unsetBlockId();
+          unsetPaths();
         } else {
-          setBlockId((Long)value);
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case BLOCK_SIZE_BYTE:
+        if (value == null) {
+          unsetBlockSizeByte();
+        } else {
+          setBlockSizeByte((Long)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -24789,8 +30728,14 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
+      case PATHS:
+        return getPaths();
+
+      case BLOCK_SIZE_BYTE:
+        return Long.valueOf(getBlockSizeByte());
+
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
 
       }
       throw new IllegalStateException();
@@ -24803,8 +30748,12 @@ public class MasterService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
+      case PATHS:
+        return isSetPaths();
+      case BLOCK_SIZE_BYTE:
+        return isSetBlockSizeByte();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -24813,21 +30762,39 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getClientBlockInfo_args)
-        return this.equals((user_getClientBlockInfo_args)that);
+      if (that instanceof user_createFileBatch_args)
+        return this.equals((user_createFileBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_getClientBlockInfo_args that) {
+    public boolean equals(user_createFileBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (this.blockId != that.blockId)
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_blockSizeByte = true;
+      boolean that_present_blockSizeByte = true;
+      if (this_present_blockSizeByte || that_present_blockSizeByte) {
+        if (!(this_present_blockSizeByte && that_present_blockSizeByte))
+          return false;
+        if (this.blockSizeByte != that.blockSizeByte)
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -24840,19 +30807,39 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientBlockInfo_args other) {
+    public int compareTo(user_createFileBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockSizeByte()).compareTo(other.isSetBlockSizeByte());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockSizeByte()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockSizeByte, other.blockSizeByte);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -24874,11 +30861,23 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_args(");
+      StringBuilder sb = new StringBuilder("user_createFileBatch_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockSizeByte:");
+      sb.append(this.blockSizeByte);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -24907,15 +30906,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_argsStandardScheme getScheme() {
-        return new user_getClientBlockInfo_argsStandardScheme();
+    private static class user_createFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_argsStandardScheme getScheme() {
+        return new user_createFileBatch_argsStandardScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_argsStandardScheme extends StandardScheme<user_getClientBlockInfo_args> {
+    private static class user_createFileBatch_argsStandardScheme extends StandardScheme<user_createFileBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -24925,10 +30924,36 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list220 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list220.size);
+                  for (int _i221 = 0; _i221 < _list220.size; ++_i221)
+                  {
+                    String _elem222;
+                    _elem222 = iprot.readString();
+                    struct.paths.add(_elem222);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_SIZE_BYTE
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.blockSizeByte = iprot.readI64();
+                struct.setBlockSizeByteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -24944,12 +30969,27 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter223 : struct.paths)
+            {
+              oprot.writeString(_iter223);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(BLOCK_SIZE_BYTE_FIELD_DESC);
+        oprot.writeI64(struct.blockSizeByte);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -24957,62 +30997,109 @@ public class MasterService {
 
     }
 
-    private static class user_getClientBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_argsTupleScheme getScheme() {
-        return new user_getClientBlockInfo_argsTupleScheme();
+    private static class user_createFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_argsTupleScheme getScheme() {
+        return new user_createFileBatch_argsTupleScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_argsTupleScheme extends TupleScheme<user_getClientBlockInfo_args> {
+    private static class user_createFileBatch_argsTupleScheme extends TupleScheme<user_createFileBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetBlockSizeByte()) {
+          optionals.set(1);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter224 : struct.paths)
+            {
+              oprot.writeString(_iter224);
+            }
+          }
+        }
+        if (struct.isSetBlockSizeByte()) {
+          oprot.writeI64(struct.blockSizeByte);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list225 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list225.size);
+            for (int _i226 = 0; _i226 < _list225.size; ++_i226)
+            {
+              String _elem227;
+              _elem227 = iprot.readString();
+              struct.paths.add(_elem227);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockSizeByte = iprot.readI64();
+          struct.setBlockSizeByteIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getClientBlockInfo_result implements org.apache.thrift.TBase<user_getClientBlockInfo_result, user_getClientBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_result");
+  public static class user_createFileBatch_result implements org.apache.thrift.TBase<user_createFileBatch_result, user_createFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFileBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_R_FIELD_DESC = new org.apache.thrift.protocol.TField("eR", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)6);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientBlockInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientBlockInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFileBatch_resultTupleSchemeFactory());
     }
 
-    public ClientBlockInfo success; // required
-    public FileDoesNotExistException eF; // required
+    public List<Integer> success; // required
+    public FileAlreadyExistException eR; // required
+    public InvalidPathException eI; // required
     public BlockInfoException eB; // required
+    public SuspectedFileSizeException eS; // required
+    public TachyonException eT; // required
+    public AccessControlException eAC; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_F((short)1, "eF"),
-      E_B((short)2, "eB");
+      E_R((short)1, "eR"),
+      E_I((short)2, "eI"),
+      E_B((short)3, "eB"),
+      E_S((short)4, "eS"),
+      E_T((short)5, "eT"),
+      E_AC((short)6, "eAC");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -25029,10 +31116,18 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_F
-            return E_F;
-          case 2: // E_B
+          case 1: // E_R
+            return E_R;
+          case 2: // E_I
+            return E_I;
+          case 3: // E_B
             return E_B;
+          case 4: // E_S
+            return E_S;
+          case 5: // E_T
+            return E_T;
+          case 6: // E_AC
+            return E_AC;
           default:
             return null;
         }
@@ -25077,60 +31172,109 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class)));
-      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      tmpMap.put(_Fields.E_R, new org.apache.thrift.meta_data.FieldMetaData("eR", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFileBatch_result.class, metaDataMap);
     }
 
-    public user_getClientBlockInfo_result() {
+    public user_createFileBatch_result() {
     }
 
-    public user_getClientBlockInfo_result(
-      ClientBlockInfo success,
-      FileDoesNotExistException eF,
-      BlockInfoException eB)
+    public user_createFileBatch_result(
+      List<Integer> success,
+      FileAlreadyExistException eR,
+      InvalidPathException eI,
+      BlockInfoException eB,
+      SuspectedFileSizeException eS,
+      TachyonException eT,
+      AccessControlException eAC)
     {
       this();
       this.success = success;
-      this.eF = eF;
+      this.eR = eR;
+      this.eI = eI;
       this.eB = eB;
+      this.eS = eS;
+      this.eT = eT;
+      this.eAC = eAC;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientBlockInfo_result(user_getClientBlockInfo_result other) {
+    public user_createFileBatch_result(user_createFileBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ClientBlockInfo(other.success);
+        List<Integer> __this__success = new ArrayList<Integer>(other.success);
+        this.success = __this__success;
       }
-      if (other.isSetEF()) {
-        this.eF = new FileDoesNotExistException(other.eF);
+      if (other.isSetER()) {
+        this.eR = new FileAlreadyExistException(other.eR);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
       }
       if (other.isSetEB()) {
         this.eB = new BlockInfoException(other.eB);
       }
+      if (other.isSetES()) {
+        this.eS = new SuspectedFileSizeException(other.eS);
+      }
+      if (other.isSetET()) {
+        this.eT = new TachyonException(other.eT);
+      }
+      if (other.isSetEAC()) {
+        this.eAC = new AccessControlException(other.eAC);
+      }
     }
 
-    public user_getClientBlockInfo_result deepCopy() {
-      return new user_getClientBlockInfo_result(this);
+    public user_createFileBatch_result deepCopy() {
+      return new user_createFileBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.eF = null;
+      this.eR = null;
+      this.eI = null;
       this.eB = null;
+      this.eS = null;
+      this.eT = null;
+      this.eAC = null;
     }
 
-    public ClientBlockInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Integer> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(int elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Integer>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Integer> getSuccess() {
       return this.success;
     }
 
-    public user_getClientBlockInfo_result setSuccess(ClientBlockInfo success) {
+    public user_createFileBatch_result setSuccess(List<Integer> success) {
       this.success = success;
       return this;
     }
@@ -25150,51 +31294,147 @@ public class MasterService {
       }
     }
 
-    public FileDoesNotExistException getEF() {
-      return this.eF;
+    public FileAlreadyExistException getER() {
+      return this.eR;
+    }
+
+    public user_createFileBatch_result setER(FileAlreadyExistException eR) {
+      this.eR = eR;
+      return this;
+    }
+
+    public void unsetER() {
+      this.eR = null;
+    }
+
+    /** Returns true if field eR is set (has been assigned a value) and false otherwise */
+    public boolean isSetER() {
+      return this.eR != null;
+    }
+
+    public void setERIsSet(boolean value) {
+      if (!value) {
+        this.eR = null;
+      }
+    }
+
+    public InvalidPathException getEI() {
+      return this.eI;
+    }
+
+    public user_createFileBatch_result setEI(InvalidPathException eI) {
+      this.eI = eI;
+      return this;
+    }
+
+    public void unsetEI() {
+      this.eI = null;
+    }
+
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
+    }
+
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public user_createFileBatch_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
+      }
+    }
+
+    public SuspectedFileSizeException getES() {
+      return this.eS;
+    }
+
+    public user_createFileBatch_result setES(SuspectedFileSizeException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
+    }
+
+    public TachyonException getET() {
+      return this.eT;
     }
 
-    public user_getClientBlockInfo_result setEF(FileDoesNotExistException eF) {
-      this.eF = eF;
+    public user_createFileBatch_result setET(TachyonException eT) {
+      this.eT = eT;
       return this;
     }
 
-    public void unsetEF() {
-      this.eF = null;
+    public void unsetET() {
+      this.eT = null;
     }
 
-    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
-    public boolean isSetEF() {
-      return this.eF != null;
+    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
+    public boolean isSetET() {
+      return this.eT != null;
     }
 
-    public void setEFIsSet(boolean value) {
+    public void setETIsSet(boolean value) {
       if (!value) {
-        this.eF = null;
+        this.eT = null;
       }
     }
 
-    public BlockInfoException getEB() {
-      return this.eB;
+    public AccessControlException getEAC() {
+      return this.eAC;
     }
 
-    public user_getClientBlockInfo_result setEB(BlockInfoException eB) {
-      this.eB = eB;
+    public user_createFileBatch_result setEAC(AccessControlException eAC) {
+      this.eAC = eAC;
       return this;
     }
 
-    public void unsetEB() {
-      this.eB = null;
+    public void unsetEAC() {
+      this.eAC = null;
     }
 
-    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
-    public boolean isSetEB() {
-      return this.eB != null;
+    /** Returns true if field eAC is set (has been assigned a value) and false otherwise */
+    public boolean isSetEAC() {
+      return this.eAC != null;
     }
 
-    public void setEBIsSet(boolean value) {
+    public void setEACIsSet(boolean value) {
       if (!value) {
-        this.eB = null;
+        this.eAC = null;
       }
     }
 
@@ -25204,15 +31444,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ClientBlockInfo)value);
+          setSuccess((List<Integer>)value);
         }
         break;
 
-      case E_F:
+      case E_R:
         if (value == null) {
-          unsetEF();
+          unsetER();
         } else {
-          setEF((FileDoesNotExistException)value);
+          setER((FileAlreadyExistException)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
         }
         break;
 
@@ -25224,6 +31472,30 @@ public class MasterService {
         }
         break;
 
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((SuspectedFileSizeException)value);
+        }
+        break;
+
+      case E_T:
+        if (value == null) {
+          unsetET();
+        } else {
+          setET((TachyonException)value);
+        }
+        break;
+
+      case E_AC:
+        if (value == null) {
+          unsetEAC();
+        } else {
+          setEAC((AccessControlException)value);
+        }
+        break;
+
       }
     }
 
@@ -25232,12 +31504,24 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
-      case E_F:
-        return getEF();
+      case E_R:
+        return getER();
+
+      case E_I:
+        return getEI();
 
       case E_B:
         return getEB();
 
+      case E_S:
+        return getES();
+
+      case E_T:
+        return getET();
+
+      case E_AC:
+        return getEAC();
+
       }
       throw new IllegalStateException();
     }
@@ -25251,10 +31535,18 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_F:
-        return isSetEF();
+      case E_R:
+        return isSetER();
+      case E_I:
+        return isSetEI();
       case E_B:
         return isSetEB();
+      case E_S:
+        return isSetES();
+      case E_T:
+        return isSetET();
+      case E_AC:
+        return isSetEAC();
       }
       throw new IllegalStateException();
     }
@@ -25263,12 +31555,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getClientBlockInfo_result)
-        return this.equals((user_getClientBlockInfo_result)that);
+      if (that instanceof user_createFileBatch_result)
+        return this.equals((user_createFileBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_getClientBlockInfo_result that) {
+    public boolean equals(user_createFileBatch_result that) {
       if (that == null)
         return false;
 
@@ -25281,12 +31573,21 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eF = true && this.isSetEF();
-      boolean that_present_eF = true && that.isSetEF();
-      if (this_present_eF || that_present_eF) {
-        if (!(this_present_eF && that_present_eF))
+      boolean this_present_eR = true && this.isSetER();
+      boolean that_present_eR = true && that.isSetER();
+      if (this_present_eR || that_present_eR) {
+        if (!(this_present_eR && that_present_eR))
           return false;
-        if (!this.eF.equals(that.eF))
+        if (!this.eR.equals(that.eR))
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
           return false;
       }
 
@@ -25299,6 +31600,33 @@ public class MasterService {
           return false;
       }
 
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
+          return false;
+      }
+
+      boolean this_present_eT = true && this.isSetET();
+      boolean that_present_eT = true && that.isSetET();
+      if (this_present_eT || that_present_eT) {
+        if (!(this_present_eT && that_present_eT))
+          return false;
+        if (!this.eT.equals(that.eT))
+          return false;
+      }
+
+      boolean this_present_eAC = true && this.isSetEAC();
+      boolean that_present_eAC = true && that.isSetEAC();
+      if (this_present_eAC || that_present_eAC) {
+        if (!(this_present_eAC && that_present_eAC))
+          return false;
+        if (!this.eAC.equals(that.eAC))
+          return false;
+      }
+
       return true;
     }
 
@@ -25308,7 +31636,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientBlockInfo_result other) {
+    public int compareTo(user_createFileBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -25325,12 +31653,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      lastComparison = Boolean.valueOf(isSetER()).compareTo(other.isSetER());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEF()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+      if (isSetER()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eR, other.eR);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -25345,6 +31683,36 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetET()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEAC()).compareTo(other.isSetEAC());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEAC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eAC, other.eAC);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -25362,7 +31730,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_result(");
+      StringBuilder sb = new StringBuilder("user_createFileBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -25373,11 +31741,19 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eF:");
-      if (this.eF == null) {
+      sb.append("eR:");
+      if (this.eR == null) {
         sb.append("null");
       } else {
-        sb.append(this.eF);
+        sb.append(this.eR);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -25388,6 +31764,30 @@ public class MasterService {
         sb.append(this.eB);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eT:");
+      if (this.eT == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eT);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eAC:");
+      if (this.eAC == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eAC);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -25395,9 +31795,6 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -25416,15 +31813,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_resultStandardScheme getScheme() {
-        return new user_getClientBlockInfo_resultStandardScheme();
+    private static class user_createFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_resultStandardScheme getScheme() {
+        return new user_createFileBatch_resultStandardScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_resultStandardScheme extends StandardScheme<user_getClientBlockInfo_result> {
+    private static class user_createFileBatch_resultStandardScheme extends StandardScheme<user_createFileBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -25435,24 +31832,42 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ClientBlockInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list228 = iprot.readListBegin();
+                  struct.success = new ArrayList<Integer>(_list228.size);
+                  for (int _i229 = 0; _i229 < _list228.size; ++_i229)
+                  {
+                    int _elem230;
+                    _elem230 = iprot.readI32();
+                    struct.success.add(_elem230);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_F
+            case 1: // E_R
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eF = new FileDoesNotExistException();
-                struct.eF.read(iprot);
-                struct.setEFIsSet(true);
+                struct.eR = new FileAlreadyExistException();
+                struct.eR.read(iprot);
+                struct.setERIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_B
+            case 2: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E_B
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.eB = new BlockInfoException();
                 struct.eB.read(iprot);
@@ -25461,6 +31876,33 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 4: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new SuspectedFileSizeException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // E_T
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eT = new TachyonException();
+                struct.eT.read(iprot);
+                struct.setETIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // E_AC
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eAC = new AccessControlException();
+                struct.eAC.read(iprot);
+                struct.setEACIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -25472,18 +31914,30 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.success.size()));
+            for (int _iter231 : struct.success)
+            {
+              oprot.writeI32(_iter231);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.eF != null) {
-          oprot.writeFieldBegin(E_F_FIELD_DESC);
-          struct.eF.write(oprot);
+        if (struct.eR != null) {
+          oprot.writeFieldBegin(E_R_FIELD_DESC);
+          struct.eR.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.eB != null) {
@@ -25491,88 +31945,161 @@ public class MasterService {
           struct.eB.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eT != null) {
+          oprot.writeFieldBegin(E_T_FIELD_DESC);
+          struct.eT.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eAC != null) {
+          oprot.writeFieldBegin(E_AC_FIELD_DESC);
+          struct.eAC.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getClientBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_resultTupleScheme getScheme() {
-        return new user_getClientBlockInfo_resultTupleScheme();
+    private static class user_createFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_resultTupleScheme getScheme() {
+        return new user_createFileBatch_resultTupleScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_resultTupleScheme extends TupleScheme<user_getClientBlockInfo_result> {
+    private static class user_createFileBatch_resultTupleScheme extends TupleScheme<user_createFileBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEF()) {
+        if (struct.isSetER()) {
           optionals.set(1);
         }
-        if (struct.isSetEB()) {
+        if (struct.isSetEI()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetEB()) {
+          optionals.set(3);
+        }
+        if (struct.isSetES()) {
+          optionals.set(4);
+        }
+        if (struct.isSetET()) {
+          optionals.set(5);
+        }
+        if (struct.isSetEAC()) {
+          optionals.set(6);
+        }
+        oprot.writeBitSet(optionals, 7);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (int _iter232 : struct.success)
+            {
+              oprot.writeI32(_iter232);
+            }
+          }
         }
-        if (struct.isSetEF()) {
-          struct.eF.write(oprot);
+        if (struct.isSetER()) {
+          struct.eR.write(oprot);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
         }
         if (struct.isSetEB()) {
           struct.eB.write(oprot);
         }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
+        }
+        if (struct.isSetET()) {
+          struct.eT.write(oprot);
+        }
+        if (struct.isSetEAC()) {
+          struct.eAC.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(7);
         if (incoming.get(0)) {
-          struct.success = new ClientBlockInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list233 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new ArrayList<Integer>(_list233.size);
+            for (int _i234 = 0; _i234 < _list233.size; ++_i234)
+            {
+              int _elem235;
+              _elem235 = iprot.readI32();
+              struct.success.add(_elem235);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eF = new FileDoesNotExistException();
-          struct.eF.read(iprot);
-          struct.setEFIsSet(true);
+          struct.eR = new FileAlreadyExistException();
+          struct.eR.read(iprot);
+          struct.setERIsSet(true);
         }
         if (incoming.get(2)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(3)) {
           struct.eB = new BlockInfoException();
           struct.eB.read(iprot);
           struct.setEBIsSet(true);
         }
+        if (incoming.get(4)) {
+          struct.eS = new SuspectedFileSizeException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.eT = new TachyonException();
+          struct.eT.read(iprot);
+          struct.setETIsSet(true);
+        }
+        if (incoming.get(6)) {
+          struct.eAC = new AccessControlException();
+          struct.eAC.read(iprot);
+          struct.setEACIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getFileBlocks_args implements org.apache.thrift.TBase<user_getFileBlocks_args, user_getFileBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_args");
+  public static class user_deleteBatch_args implements org.apache.thrift.TBase<user_deleteBatch_args, user_deleteBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_deleteBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_deleteBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getFileBlocks_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getFileBlocks_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_deleteBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_deleteBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public String path; // required
+    public List<String> paths; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path");
+      PATHS((short)1, "paths"),
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -25587,10 +32114,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // PATH
-            return PATH;
+          case 1: // PATHS
+            return PATHS;
+          case 2: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -25631,116 +32158,133 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_deleteBatch_args.class, metaDataMap);
     }
 
-    public user_getFileBlocks_args() {
+    public user_deleteBatch_args() {
     }
 
-    public user_getFileBlocks_args(
-      int fileId,
-      String path)
+    public user_deleteBatch_args(
+      List<String> paths,
+      boolean recursive)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.path = path;
+      this.paths = paths;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getFileBlocks_args(user_getFileBlocks_args other) {
+    public user_deleteBatch_args(user_deleteBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      if (other.isSetPath()) {
-        this.path = other.path;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
+      this.recursive = other.recursive;
     }
 
-    public user_getFileBlocks_args deepCopy() {
-      return new user_getFileBlocks_args(this);
+    public user_deleteBatch_args deepCopy() {
+      return new user_deleteBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      this.path = null;
+      this.paths = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    public user_getFileBlocks_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public user_deleteBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
     }
 
-    public String getPath() {
-      return this.path;
+    public boolean isRecursive() {
+      return this.recursive;
     }
 
-    public user_getFileBlocks_args setPath(String path) {
-      this.path = path;
+    public user_deleteBatch_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
     }
 
-    public void setPathIsSet(boolean value) {
-      if (!value) {
-        this.path = null;
-      }
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATHS:
         if (value == null) {
-          unsetFileId();
+          unsetPaths();
         } else {
-          setFileId((Integer)value);
+          setPaths((List<String>)value);
         }
         break;
 
-      case PATH:
+      case RECURSIVE:
         if (value == null) {
-          unsetPath();
+          unsetRecursive();
         } else {
-          setPath((String)value);
+          setRecursive((Boolean)value);
         }
         break;
 
@@ -25749,11 +32293,11 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case PATHS:
+        return getPaths();
 
-      case PATH:
-        return getPath();
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
 
       }
       throw new IllegalStateException();
@@ -25766,10 +32310,10 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case PATH:
-        return isSetPath();
+      case PATHS:
+        return isSetPaths();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -25778,30 +32322,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getFileBlocks_args)
-        return this.equals((user_getFileBlocks_args)that);
+      if (that instanceof user_deleteBatch_args)
+        return this.equals((user_deleteBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_getFileBlocks_args that) {
+    public boolean equals(user_deleteBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
           return false;
-        if (!this.path.equals(that.path))
+        if (this.recursive != that.recursive)
           return false;
       }
 
@@ -25814,29 +32358,29 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getFileBlocks_args other) {
+    public int compareTo(user_deleteBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -25858,20 +32402,20 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getFileBlocks_args(");
+      StringBuilder sb = new StringBuilder("user_deleteBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.paths);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -25899,15 +32443,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getFileBlocks_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_argsStandardScheme getScheme() {
-        return new user_getFileBlocks_argsStandardScheme();
+    private static class user_deleteBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_argsStandardScheme getScheme() {
+        return new user_deleteBatch_argsStandardScheme();
       }
     }
 
-    private static class user_getFileBlocks_argsStandardScheme extends StandardScheme<user_getFileBlocks_args> {
+    private static class user_deleteBatch_argsStandardScheme extends StandardScheme<user_deleteBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -25917,18 +32461,28 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list236 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list236.size);
+                  for (int _i237 = 0; _i237 < _list236.size; ++_i237)
+                  {
+                    String _elem238;
+                    _elem238 = iprot.readString();
+                    struct.paths.add(_elem238);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -25944,90 +32498,112 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter239 : struct.paths)
+            {
+              oprot.writeString(_iter239);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getFileBlocks_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_argsTupleScheme getScheme() {
-        return new user_getFileBlocks_argsTupleScheme();
+    private static class user_deleteBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_argsTupleScheme getScheme() {
+        return new user_deleteBatch_argsTupleScheme();
       }
     }
 
-    private static class user_getFileBlocks_argsTupleScheme extends TupleScheme<user_getFileBlocks_args> {
+    private static class user_deleteBatch_argsTupleScheme extends TupleScheme<user_deleteBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
+        if (struct.isSetRecursive()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter240 : struct.paths)
+            {
+              oprot.writeString(_iter240);
+            }
+          }
         }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list241 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list241.size);
+            for (int _i242 = 0; _i242 < _list241.size; ++_i242)
+            {
+              String _elem243;
+              _elem243 = iprot.readString();
+              struct.paths.add(_elem243);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getFileBlocks_result implements org.apache.thrift.TBase<user_getFileBlocks_result, user_getFileBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_result");
+  public static class user_deleteBatch_result implements org.apache.thrift.TBase<user_deleteBatch_result, user_deleteBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_deleteBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_deleteBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
-    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getFileBlocks_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getFileBlocks_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_deleteBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_deleteBatch_resultTupleSchemeFactory());
     }
 
-    public List<ClientBlockInfo> success; // required
-    public FileDoesNotExistException eF; // required
-    public InvalidPathException eI; // required
+    public List<Boolean> success; // required
+    public TachyonException e; // required
+    public AccessControlException eAC; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_F((short)1, "eF"),
-      E_I((short)2, "eI");
+      E((short)1, "e"),
+      E_AC((short)2, "eAC");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -26044,10 +32620,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_F
-            return E_F;
-          case 2: // E_I
-            return E_I;
+          case 1: // E
+            return E;
+          case 2: // E_AC
+            return E_AC;
           default:
             return null;
         }
@@ -26093,79 +32669,76 @@ public class MasterService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class))));
-      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_deleteBatch_result.class, metaDataMap);
     }
 
-    public user_getFileBlocks_result() {
+    public user_deleteBatch_result() {
     }
 
-    public user_getFileBlocks_result(
-      List<ClientBlockInfo> success,
-      FileDoesNotExistException eF,
-      InvalidPathException eI)
+    public user_deleteBatch_result(
+      List<Boolean> success,
+      TachyonException e,
+      AccessControlException eAC)
     {
       this();
       this.success = success;
-      this.eF = eF;
-      this.eI = eI;
+      this.e = e;
+      this.eAC = eAC;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getFileBlocks_result(user_getFileBlocks_result other) {
+    public user_deleteBatch_result(user_deleteBatch_result other) {
       if (other.isSetSuccess()) {
-        List<ClientBlockInfo> __this__success = new ArrayList<ClientBlockInfo>(other.success.size());
-        for (ClientBlockInfo other_element : other.success) {
-          __this__success.add(new ClientBlockInfo(other_element));
-        }
+        List<Boolean> __this__success = new ArrayList<Boolean>(other.success);
         this.success = __this__success;
       }
-      if (other.isSetEF()) {
-        this.eF = new FileDoesNotExistException(other.eF);
+      if (other.isSetE()) {
+        this.e = new TachyonException(other.e);
       }
-      if (other.isSetEI()) {
-        this.eI = new InvalidPathException(other.eI);
+      if (other.isSetEAC()) {
+        this.eAC = new AccessControlException(other.eAC);
       }
     }
 
-    public user_getFileBlocks_result deepCopy() {
-      return new user_getFileBlocks_result(this);
+    public user_deleteBatch_result deepCopy() {
+      return new user_deleteBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.eF = null;
-      this.eI = null;
+      this.e = null;
+      this.eAC = null;
     }
 
     public int getSuccessSize() {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<ClientBlockInfo> getSuccessIterator() {
+    public java.util.Iterator<Boolean> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(ClientBlockInfo elem) {
+    public void addToSuccess(boolean elem) {
       if (this.success == null) {
-        this.success = new ArrayList<ClientBlockInfo>();
+        this.success = new ArrayList<Boolean>();
       }
       this.success.add(elem);
     }
 
-    public List<ClientBlockInfo> getSuccess() {
+    public List<Boolean> getSuccess() {
       return this.success;
     }
 
-    public user_getFileBlocks_result setSuccess(List<ClientBlockInfo> success) {
+    public user_deleteBatch_result setSuccess(List<Boolean> success) {
       this.success = success;
       return this;
     }
@@ -26185,51 +32758,51 @@ public class MasterService {
       }
     }
 
-    public FileDoesNotExistException getEF() {
-      return this.eF;
+    public TachyonException getE() {
+      return this.e;
     }
 
-    public user_getFileBlocks_result setEF(FileDoesNotExistException eF) {
-      this.eF = eF;
+    public user_deleteBatch_result setE(TachyonException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetEF() {
-      this.eF = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
-    public boolean isSetEF() {
-      return this.eF != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setEFIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.eF = null;
+        this.e = null;
       }
     }
 
-    public InvalidPathException getEI() {
-      return this.eI;
+    public AccessControlException getEAC() {
+      return this.eAC;
     }
 
-    public user_getFileBlocks_result setEI(InvalidPathException eI) {
-      this.eI = eI;
+    public user_deleteBatch_result setEAC(AccessControlException eAC) {
+      this.eAC = eAC;
       return this;
     }
 
-    public void unsetEI() {
-      this.eI = null;
+    public void unsetEAC() {
+      this.eAC = null;
     }
 
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
+    /** Returns true if field eAC is set (has been assigned a value) and false otherwise */
+    public boolean isSetEAC() {
+      return this.eAC != null;
     }
 
-    public void setEIIsSet(boolean value) {
+    public void setEACIsSet(boolean value) {
       if (!value) {
-        this.eI = null;
+        this.eAC = null;
       }
     }
 
@@ -26239,23 +32812,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<ClientBlockInfo>)value);
+          setSuccess((List<Boolean>)value);
         }
         break;
 
-      case E_F:
+      case E:
         if (value == null) {
-          unsetEF();
+          unsetE();
         } else {
-          setEF((FileDoesNotExistException)value);
+          setE((TachyonException)value);
         }
         break;
 
-      case E_I:
+      case E_AC:
         if (value == null) {
-          unsetEI();
+          unsetEAC();
         } else {
-          setEI((InvalidPathException)value);
+          setEAC((AccessControlException)value);
         }
         break;
 
@@ -26267,11 +32840,11 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
-      case E_F:
-        return getEF();
+      case E:
+        return getE();
 
-      case E_I:
-        return getEI();
+      case E_AC:
+        return getEAC();
 
       }
       throw new IllegalStateException();
@@ -26286,10 +32859,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_F:
-        return isSetEF();
-      case E_I:
-        return isSetEI();
+      case E:
+        return isSetE();
+      case E_AC:
+        return isSetEAC();
       }
       throw new IllegalStateException();
     }
@@ -26298,12 +32871,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getFileBlocks_result)
-        return this.equals((user_getFileBlocks_result)that);
+      if (that instanceof user_deleteBatch_result)
+        return this.equals((user_deleteBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_getFileBlocks_result that) {
+    public boolean equals(user_deleteBatch_result that) {
       if (that == null)
         return false;
 
@@ -26316,21 +32889,21 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eF = true && this.isSetEF();
-      boolean that_present_eF = true && that.isSetEF();
-      if (this_present_eF || that_present_eF) {
-        if (!(this_present_eF && that_present_eF))
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
           return false;
-        if (!this.eF.equals(that.eF))
+        if (!this.e.equals(that.e))
           return false;
       }
 
-      boolean this_present_eI = true && this.isSetEI();
-      boolean that_present_eI = true && that.isSetEI();
-      if (this_present_eI || that_present_eI) {
-        if (!(this_present_eI && that_present_eI))
+      boolean this_present_eAC = true && this.isSetEAC();
+      boolean that_present_eAC = true && that.isSetEAC();
+      if (this_present_eAC || that_present_eAC) {
+        if (!(this_present_eAC && that_present_eAC))
           return false;
-        if (!this.eI.equals(that.eI))
+        if (!this.eAC.equals(that.eAC))
           return false;
       }
 
@@ -26343,7 +32916,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getFileBlocks_result other) {
+    public int compareTo(user_deleteBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -26360,22 +32933,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEF()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      lastComparison = Boolean.valueOf(isSetEAC()).compareTo(other.isSetEAC());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+      if (isSetEAC()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eAC, other.eAC);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -26397,7 +32970,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getFileBlocks_result(");
+      StringBuilder sb = new StringBuilder("user_deleteBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -26408,19 +32981,19 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eF:");
-      if (this.eF == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.eF);
+        sb.append(this.e);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
+      sb.append("eAC:");
+      if (this.eAC == null) {
         sb.append("null");
       } else {
-        sb.append(this.eI);
+        sb.append(this.eAC);
       }
       first = false;
       sb.append(")");
@@ -26448,15 +33021,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getFileBlocks_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_resultStandardScheme getScheme() {
-        return new user_getFileBlocks_resultStandardScheme();
+    private static class user_deleteBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_resultStandardScheme getScheme() {
+        return new user_deleteBatch_resultStandardScheme();
       }
     }
 
-    private static class user_getFileBlocks_resultStandardScheme extends StandardScheme<user_getFileBlocks_result> {
+    private static class user_deleteBatch_resultStandardScheme extends StandardScheme<user_deleteBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -26469,14 +33042,13 @@ public class MasterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list172 = iprot.readListBegin();
-                  struct.success = new ArrayList<ClientBlockInfo>(_list172.size);
-                  for (int _i173 = 0; _i173 < _list172.size; ++_i173)
+                  org.apache.thrift.protocol.TList _list244 = iprot.readListBegin();
+                  struct.success = new ArrayList<Boolean>(_list244.size);
+                  for (int _i245 = 0; _i245 < _list244.size; ++_i245)
                   {
-                    ClientBlockInfo _elem174;
-                    _elem174 = new ClientBlockInfo();
-                    _elem174.read(iprot);
-                    struct.success.add(_elem174);
+                    boolean _elem246;
+                    _elem246 = iprot.readBool();
+                    struct.success.add(_elem246);
                   }
                   iprot.readListEnd();
                 }
@@ -26485,20 +33057,20 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_F
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eF = new FileDoesNotExistException();
-                struct.eF.read(iprot);
-                struct.setEFIsSet(true);
+                struct.e = new TachyonException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_I
+            case 2: // E_AC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
+                struct.eAC = new AccessControlException();
+                struct.eAC.read(iprot);
+                struct.setEACIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -26514,30 +33086,30 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ClientBlockInfo _iter175 : struct.success)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.BOOL, struct.success.size()));
+            for (boolean _iter247 : struct.success)
             {
-              _iter175.write(oprot);
+              oprot.writeBool(_iter247);
             }
             oprot.writeListEnd();
           }
           oprot.writeFieldEnd();
         }
-        if (struct.eF != null) {
-          oprot.writeFieldBegin(E_F_FIELD_DESC);
-          struct.eF.write(oprot);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eI != null) {
-          oprot.writeFieldBegin(E_I_FIELD_DESC);
-          struct.eI.write(oprot);
+        if (struct.eAC != null) {
+          oprot.writeFieldBegin(E_AC_FIELD_DESC);
+          struct.eAC.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -26546,100 +33118,105 @@ public class MasterService {
 
     }
 
-    private static class user_getFileBlocks_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_resultTupleScheme getScheme() {
-        return new user_getFileBlocks_resultTupleScheme();
+    private static class user_deleteBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_resultTupleScheme getScheme() {
+        return new user_deleteBatch_resultTupleScheme();
       }
     }
 
-    private static class user_getFileBlocks_resultTupleScheme extends TupleScheme<user_getFileBlocks_result> {
+    private static class user_deleteBatch_resultTupleScheme extends TupleScheme<user_deleteBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEF()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetEI()) {
+        if (struct.isSetEAC()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ClientBlockInfo _iter176 : struct.success)
+            for (boolean _iter248 : struct.success)
             {
-              _iter176.write(oprot);
+              oprot.writeBool(_iter248);
             }
           }
         }
-        if (struct.isSetEF()) {
-          struct.eF.write(oprot);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
-        if (struct.isSetEI()) {
-          struct.eI.write(oprot);
+        if (struct.isSetEAC()) {
+          struct.eAC.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list177 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ClientBlockInfo>(_list177.size);
-            for (int _i178 = 0; _i178 < _list177.size; ++_i178)
+            org.apache.thrift.protocol.TList _list249 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.BOOL, iprot.readI32());
+            struct.success = new ArrayList<Boolean>(_list249.size);
+            for (int _i250 = 0; _i250 < _list249.size; ++_i250)
             {
-              ClientBlockInfo _elem179;
-              _elem179 = new ClientBlockInfo();
-              _elem179.read(iprot);
-              struct.success.add(_elem179);
+              boolean _elem251;
+              _elem251 = iprot.readBool();
+              struct.success.add(_elem251);
             }
           }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eF = new FileDoesNotExistException();
-          struct.eF.read(iprot);
-          struct.setEFIsSet(true);
+          struct.e = new TachyonException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
+          struct.eAC = new AccessControlException();
+          struct.eAC.read(iprot);
+          struct.setEACIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_delete_args implements org.apache.thrift.TBase<user_delete_args, user_delete_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_args");
+  public static class user_createCheckpointedFileBatch_args implements org.apache.thrift.TBase<user_createCheckpointedFileBatch_args, user_createCheckpointedFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createCheckpointedFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createCheckpointedFileBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField UFS_PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("ufsPaths", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTHS_FIELD_DESC = new org.apache.thrift.protocol.TField("lengths", org.apache.thrift.protocol.TType.LIST, (short)3);
+    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("blockSizeBytes", org.apache.thrift.protocol.TType.LIST, (short)4);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)5);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_delete_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_delete_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createCheckpointedFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createCheckpointedFileBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public String path; // required
+    public List<String> paths; // required
+    public List<String> ufsPaths; // required
+    public List<Long> lengths; // required
+    public List<Long> blockSizeBytes; // required
     public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path"),
-      RECURSIVE((short)3, "recursive");
+      PATHS((short)1, "paths"),
+      UFS_PATHS((short)2, "ufsPaths"),
+      LENGTHS((short)3, "lengths"),
+      BLOCK_SIZE_BYTES((short)4, "blockSizeBytes"),
+      RECURSIVE((short)5, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -26654,11 +33231,15 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // PATH
-            return PATH;
-          case 3: // RECURSIVE
+          case 1: // PATHS
+            return PATHS;
+          case 2: // UFS_PATHS
+            return UFS_PATHS;
+          case 3: // LENGTHS
+            return LENGTHS;
+          case 4: // BLOCK_SIZE_BYTES
+            return BLOCK_SIZE_BYTES;
+          case 5: // RECURSIVE
             return RECURSIVE;
           default:
             return null;
@@ -26694,113 +33275,245 @@ public class MasterService {
         return _thriftId;
       }
 
-      public String getFieldName() {
-        return _fieldName;
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.UFS_PATHS, new org.apache.thrift.meta_data.FieldMetaData("ufsPaths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.LENGTHS, new org.apache.thrift.meta_data.FieldMetaData("lengths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      tmpMap.put(_Fields.BLOCK_SIZE_BYTES, new org.apache.thrift.meta_data.FieldMetaData("blockSizeBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createCheckpointedFileBatch_args.class, metaDataMap);
+    }
+
+    public user_createCheckpointedFileBatch_args() {
+    }
+
+    public user_createCheckpointedFileBatch_args(
+      List<String> paths,
+      List<String> ufsPaths,
+      List<Long> lengths,
+      List<Long> blockSizeBytes,
+      boolean recursive)
+    {
+      this();
+      this.paths = paths;
+      this.ufsPaths = ufsPaths;
+      this.lengths = lengths;
+      this.blockSizeBytes = blockSizeBytes;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createCheckpointedFileBatch_args(user_createCheckpointedFileBatch_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      if (other.isSetUfsPaths()) {
+        List<String> __this__ufsPaths = new ArrayList<String>(other.ufsPaths);
+        this.ufsPaths = __this__ufsPaths;
+      }
+      if (other.isSetLengths()) {
+        List<Long> __this__lengths = new ArrayList<Long>(other.lengths);
+        this.lengths = __this__lengths;
+      }
+      if (other.isSetBlockSizeBytes()) {
+        List<Long> __this__blockSizeBytes = new ArrayList<Long>(other.blockSizeBytes);
+        this.blockSizeBytes = __this__blockSizeBytes;
+      }
+      this.recursive = other.recursive;
+    }
+
+    public user_createCheckpointedFileBatch_args deepCopy() {
+      return new user_createCheckpointedFileBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.paths = null;
+      this.ufsPaths = null;
+      this.lengths = null;
+      this.blockSizeBytes = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+    }
+
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
+    }
+
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
+    }
+
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
+    }
+
+    public List<String> getPaths() {
+      return this.paths;
+    }
+
+    public user_createCheckpointedFileBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
+    }
+
+    public void unsetPaths() {
+      this.paths = null;
+    }
+
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
+    }
+
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
+    }
+
+    public int getUfsPathsSize() {
+      return (this.ufsPaths == null) ? 0 : this.ufsPaths.size();
+    }
+
+    public java.util.Iterator<String> getUfsPathsIterator() {
+      return (this.ufsPaths == null) ? null : this.ufsPaths.iterator();
+    }
+
+    public void addToUfsPaths(String elem) {
+      if (this.ufsPaths == null) {
+        this.ufsPaths = new ArrayList<String>();
+      }
+      this.ufsPaths.add(elem);
+    }
+
+    public List<String> getUfsPaths() {
+      return this.ufsPaths;
+    }
+
+    public user_createCheckpointedFileBatch_args setUfsPaths(List<String> ufsPaths) {
+      this.ufsPaths = ufsPaths;
+      return this;
+    }
+
+    public void unsetUfsPaths() {
+      this.ufsPaths = null;
+    }
+
+    /** Returns true if field ufsPaths is set (has been assigned a value) and false otherwise */
+    public boolean isSetUfsPaths() {
+      return this.ufsPaths != null;
+    }
+
+    public void setUfsPathsIsSet(boolean value) {
+      if (!value) {
+        this.ufsPaths = null;
       }
     }
 
-    // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private static final int __RECURSIVE_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_args.class, metaDataMap);
+    public int getLengthsSize() {
+      return (this.lengths == null) ? 0 : this.lengths.size();
     }
 
-    public user_delete_args() {
+    public java.util.Iterator<Long> getLengthsIterator() {
+      return (this.lengths == null) ? null : this.lengths.iterator();
     }
 
-    public user_delete_args(
-      int fileId,
-      String path,
-      boolean recursive)
-    {
-      this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
+    public void addToLengths(long elem) {
+      if (this.lengths == null) {
+        this.lengths = new ArrayList<Long>();
+      }
+      this.lengths.add(elem);
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public user_delete_args(user_delete_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      if (other.isSetPath()) {
-        this.path = other.path;
-      }
-      this.recursive = other.recursive;
+    public List<Long> getLengths() {
+      return this.lengths;
     }
 
-    public user_delete_args deepCopy() {
-      return new user_delete_args(this);
+    public user_createCheckpointedFileBatch_args setLengths(List<Long> lengths) {
+      this.lengths = lengths;
+      return this;
     }
 
-    @Override
-    public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
+    public void unsetLengths() {
+      this.lengths = null;
     }
 
-    public int getFileId() {
-      return this.fileId;
+    /** Returns true if field lengths is set (has been assigned a value) and false otherwise */
+    public boolean isSetLengths() {
+      return this.lengths != null;
     }
 
-    public user_delete_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
+    public void setLengthsIsSet(boolean value) {
+      if (!value) {
+        this.lengths = null;
+      }
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public int getBlockSizeBytesSize() {
+      return (this.blockSizeBytes == null) ? 0 : this.blockSizeBytes.size();
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public java.util.Iterator<Long> getBlockSizeBytesIterator() {
+      return (this.blockSizeBytes == null) ? null : this.blockSizeBytes.iterator();
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void addToBlockSizeBytes(long elem) {
+      if (this.blockSizeBytes == null) {
+        this.blockSizeBytes = new ArrayList<Long>();
+      }
+      this.blockSizeBytes.add(elem);
     }
 
-    public String getPath() {
-      return this.path;
+    public List<Long> getBlockSizeBytes() {
+      return this.blockSizeBytes;
     }
 
-    public user_delete_args setPath(String path) {
-      this.path = path;
+    public user_createCheckpointedFileBatch_args setBlockSizeBytes(List<Long> blockSizeBytes) {
+      this.blockSizeBytes = blockSizeBytes;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetBlockSizeBytes() {
+      this.blockSizeBytes = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field blockSizeBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockSizeBytes() {
+      return this.blockSizeBytes != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setBlockSizeBytesIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.blockSizeBytes = null;
       }
     }
 
@@ -26808,7 +33521,7 @@ public class MasterService {
       return this.recursive;
     }
 
-    public user_delete_args setRecursive(boolean recursive) {
+    public user_createCheckpointedFileBatch_args setRecursive(boolean recursive) {
       this.recursive = recursive;
       setRecursiveIsSet(true);
       return this;
@@ -26829,19 +33542,35 @@ public class MasterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case PATHS:
         if (value == null) {
-          unsetFileId();
+          unsetPaths();
         } else {
-          setFileId((Integer)value);
+          setPaths((List<String>)value);
         }
         break;
 
-      case PATH:
+      case UFS_PATHS:
         if (value == null) {
-          unsetPath();
+          unsetUfsPaths();
         } else {
-          setPath((String)value);
+          setUfsPaths((List<String>)value);
+        }
+        break;
+
+      case LENGTHS:
+        if (value == null) {
+          unsetLengths();
+        } else {
+          setLengths((List<Long>)value);
+        }
+        break;
+
+      case BLOCK_SIZE_BYTES:
+        if (value == null) {
+          unsetBlockSizeBytes();
+        } else {
+          setBlockSizeBytes((List<Long>)value);
         }
         break;
 
@@ -26858,11 +33587,17 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case PATHS:
+        return getPaths();
 
-      case PATH:
-        return getPath();
+      case UFS_PATHS:
+        return getUfsPaths();
+
+      case LENGTHS:
+        return getLengths();
+
+      case BLOCK_SIZE_BYTES:
+        return getBlockSizeBytes();
 
       case RECURSIVE:
         return Boolean.valueOf(isRecursive());
@@ -26878,10 +33613,14 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case PATH:
-        return isSetPath();
+      case PATHS:
+        return isSetPaths();
+      case UFS_PATHS:
+        return isSetUfsPaths();
+      case LENGTHS:
+        return isSetLengths();
+      case BLOCK_SIZE_BYTES:
+        return isSetBlockSizeBytes();
       case RECURSIVE:
         return isSetRecursive();
       }
@@ -26892,30 +33631,48 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_delete_args)
-        return this.equals((user_delete_args)that);
+      if (that instanceof user_createCheckpointedFileBatch_args)
+        return this.equals((user_createCheckpointedFileBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_delete_args that) {
+    public boolean equals(user_createCheckpointedFileBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_ufsPaths = true && this.isSetUfsPaths();
+      boolean that_present_ufsPaths = true && that.isSetUfsPaths();
+      if (this_present_ufsPaths || that_present_ufsPaths) {
+        if (!(this_present_ufsPaths && that_present_ufsPaths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.ufsPaths.equals(that.ufsPaths))
+          return false;
+      }
+
+      boolean this_present_lengths = true && this.isSetLengths();
+      boolean that_present_lengths = true && that.isSetLengths();
+      if (this_present_lengths || that_present_lengths) {
+        if (!(this_present_lengths && that_present_lengths))
+          return false;
+        if (!this.lengths.equals(that.lengths))
+          return false;
+      }
+
+      boolean this_present_blockSizeBytes = true && this.isSetBlockSizeBytes();
+      boolean that_present_blockSizeBytes = true && that.isSetBlockSizeBytes();
+      if (this_present_blockSizeBytes || that_present_blockSizeBytes) {
+        if (!(this_present_blockSizeBytes && that_present_blockSizeBytes))
+          return false;
+        if (!this.blockSizeBytes.equals(that.blockSizeBytes))
           return false;
       }
 
@@ -26937,29 +33694,49 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_delete_args other) {
+    public int compareTo(user_createCheckpointedFileBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetUfsPaths()).compareTo(other.isSetUfsPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetUfsPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ufsPaths, other.ufsPaths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLengths()).compareTo(other.isSetLengths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLengths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lengths, other.lengths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockSizeBytes()).compareTo(other.isSetBlockSizeBytes());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockSizeBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockSizeBytes, other.blockSizeBytes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -26991,18 +33768,38 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_delete_args(");
+      StringBuilder sb = new StringBuilder("user_createCheckpointedFileBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("ufsPaths:");
+      if (this.ufsPaths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.ufsPaths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("lengths:");
+      if (this.lengths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.lengths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockSizeBytes:");
+      if (this.blockSizeBytes == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockSizeBytes);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -27036,15 +33833,15 @@ public class MasterService {
       }
     }
 
-    private static class user_delete_argsStandardSchemeFactory implements SchemeFactory {
-      public user_delete_argsStandardScheme getScheme() {
-        return new user_delete_argsStandardScheme();
+    private static class user_createCheckpointedFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createCheckpointedFileBatch_argsStandardScheme getScheme() {
+        return new user_createCheckpointedFileBatch_argsStandardScheme();
       }
     }
 
-    private static class user_delete_argsStandardScheme extends StandardScheme<user_delete_args> {
+    private static class user_createCheckpointedFileBatch_argsStandardScheme extends StandardScheme<user_createCheckpointedFileBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createCheckpointedFileBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -27054,23 +33851,79 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list250 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list250.size);
+                  for (int _i251 = 0; _i251 < _list250.size; ++_i251)
+                  {
+                    String _elem252;
+                    _elem252 = iprot.readString();
+                    struct.paths.add(_elem252);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 2: // UFS_PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list253 = iprot.readListBegin();
+                  struct.ufsPaths = new ArrayList<String>(_list253.size);
+                  for (int _i254 = 0; _i254 < _list253.size; ++_i254)
+                  {
+                    String _elem255;
+                    _elem255 = iprot.readString();
+                    struct.ufsPaths.add(_elem255);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setUfsPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // RECURSIVE
+            case 3: // LENGTHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list256 = iprot.readListBegin();
+                  struct.lengths = new ArrayList<Long>(_list256.size);
+                  for (int _i257 = 0; _i257 < _list256.size; ++_i257)
+                  {
+                    long _elem258;
+                    _elem258 = iprot.readI64();
+                    struct.lengths.add(_elem258);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setLengthsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // BLOCK_SIZE_BYTES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list259 = iprot.readListBegin();
+                  struct.blockSizeBytes = new ArrayList<Long>(_list259.size);
+                  for (int _i260 = 0; _i260 < _list259.size; ++_i260)
+                  {
+                    long _elem261;
+                    _elem261 = iprot.readI64();
+                    struct.blockSizeBytes.add(_elem261);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockSizeBytesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // RECURSIVE
               if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
                 struct.recursive = iprot.readBool();
                 struct.setRecursiveIsSet(true);
@@ -27089,16 +33942,56 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createCheckpointedFileBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter262 : struct.paths)
+            {
+              oprot.writeString(_iter262);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.ufsPaths != null) {
+          oprot.writeFieldBegin(UFS_PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.ufsPaths.size()));
+            for (String _iter263 : struct.ufsPaths)
+            {
+              oprot.writeString(_iter263);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.lengths != null) {
+          oprot.writeFieldBegin(LENGTHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.lengths.size()));
+            for (long _iter264 : struct.lengths)
+            {
+              oprot.writeI64(_iter264);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.blockSizeBytes != null) {
+          oprot.writeFieldBegin(BLOCK_SIZE_BYTES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockSizeBytes.size()));
+            for (long _iter265 : struct.blockSizeBytes)
+            {
+              oprot.writeI64(_iter265);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
@@ -27110,33 +34003,69 @@ public class MasterService {
 
     }
 
-    private static class user_delete_argsTupleSchemeFactory implements SchemeFactory {
-      public user_delete_argsTupleScheme getScheme() {
-        return new user_delete_argsTupleScheme();
+    private static class user_createCheckpointedFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createCheckpointedFileBatch_argsTupleScheme getScheme() {
+        return new user_createCheckpointedFileBatch_argsTupleScheme();
       }
     }
 
-    private static class user_delete_argsTupleScheme extends TupleScheme<user_delete_args> {
+    private static class user_createCheckpointedFileBatch_argsTupleScheme extends TupleScheme<user_createCheckpointedFileBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createCheckpointedFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
-          optionals.set(1);
+        if (struct.isSetUfsPaths()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLengths()) {
+          optionals.set(2);
+        }
+        if (struct.isSetBlockSizeBytes()) {
+          optionals.set(3);
         }
         if (struct.isSetRecursive()) {
-          optionals.set(2);
+          optionals.set(4);
         }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter266 : struct.paths)
+            {
+              oprot.writeString(_iter266);
+            }
+          }
         }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetUfsPaths()) {
+          {
+            oprot.writeI32(struct.ufsPaths.size());
+            for (String _iter267 : struct.ufsPaths)
+            {
+              oprot.writeString(_iter267);
+            }
+          }
+        }
+        if (struct.isSetLengths()) {
+          {
+            oprot.writeI32(struct.lengths.size());
+            for (long _iter268 : struct.lengths)
+            {
+              oprot.writeI64(_iter268);
+            }
+          }
+        }
+        if (struct.isSetBlockSizeBytes()) {
+          {
+            oprot.writeI32(struct.blockSizeBytes.size());
+            for (long _iter269 : struct.blockSizeBytes)
+            {
+              oprot.writeI64(_iter269);
+            }
+          }
         }
         if (struct.isSetRecursive()) {
           oprot.writeBool(struct.recursive);
@@ -27144,18 +34073,62 @@ public class MasterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createCheckpointedFileBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list270 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list270.size);
+            for (int _i271 = 0; _i271 < _list270.size; ++_i271)
+            {
+              String _elem272;
+              _elem272 = iprot.readString();
+              struct.paths.add(_elem272);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list273 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.ufsPaths = new ArrayList<String>(_list273.size);
+            for (int _i274 = 0; _i274 < _list273.size; ++_i274)
+            {
+              String _elem275;
+              _elem275 = iprot.readString();
+              struct.ufsPaths.add(_elem275);
+            }
+          }
+          struct.setUfsPathsIsSet(true);
         }
         if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list276 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.lengths = new ArrayList<Long>(_list276.size);
+            for (int _i277 = 0; _i277 < _list276.size; ++_i277)
+            {
+              long _elem278;
+              _elem278 = iprot.readI64();
+              struct.lengths.add(_elem278);
+            }
+          }
+          struct.setLengthsIsSet(true);
+        }
+        if (incoming.get(3)) {
+          {
+            org.apache.thrift.protocol.TList _list279 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockSizeBytes = new ArrayList<Long>(_list279.size);
+            for (int _i280 = 0; _i280 < _list279.size; ++_i280)
+            {
+              long _elem281;
+              _elem281 = iprot.readI64();
+              struct.blockSizeBytes.add(_elem281);
+            }
+          }
+          struct.setBlockSizeBytesIsSet(true);
+        }
+        if (incoming.get(4)) {
           struct.recursive = iprot.readBool();
           struct.setRecursiveIsSet(true);
         }
@@ -27164,28 +34137,40 @@ public class MasterService {
 
   }
 
-  public static class user_delete_result implements org.apache.thrift.TBase<user_delete_result, user_delete_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_result");
+  public static class user_createCheckpointedFileBatch_result implements org.apache.thrift.TBase<user_createCheckpointedFileBatch_result, user_createCheckpointedFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createCheckpointedFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createCheckpointedFileBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_R_FIELD_DESC = new org.apache.thrift.protocol.TField("eR", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField E_T_FIELD_DESC = new org.apache.thrift.protocol.TField("eT", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+    private static final org.apache.thrift.protocol.TField E_AC_FIELD_DESC = new org.apache.thrift.protocol.TField("eAC", org.apache.thrift.protocol.TType.STRUCT, (short)6);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_delete_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_delete_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createCheckpointedFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createCheckpointedFileBatch_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public TachyonException e; // required
+    public List<Integer> success; // required
+    public FileAlreadyExistException eR; // required
+    public InvalidPathException eI; // required
+    public BlockInfoException eB; // required
+    public SuspectedFileSizeException eS; // required
+    public TachyonException eT; // required
     public AccessControlException eAC; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e"),
-      E_AC((short)2, "eAC");
+      E_R((short)1, "eR"),
+      E_I((short)2, "eI"),
+      E_B((short)3, "eB"),
+      E_S((short)4, "eS"),
+      E_T((short)5, "eT"),
+      E_AC((short)6, "eAC");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -27202,9 +34187,17 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
-          case 2: // E_AC
+          case 1: // E_R
+            return E_R;
+          case 2: // E_I
+            return E_I;
+          case 3: // E_B
+            return E_B;
+          case 4: // E_S
+            return E_S;
+          case 5: // E_T
+            return E_T;
+          case 6: // E_AC
             return E_AC;
           default:
             return null;
@@ -27246,106 +34239,249 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      tmpMap.put(_Fields.E_R, new org.apache.thrift.meta_data.FieldMetaData("eR", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_T, new org.apache.thrift.meta_data.FieldMetaData("eT", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       tmpMap.put(_Fields.E_AC, new org.apache.thrift.meta_data.FieldMetaData("eAC", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createCheckpointedFileBatch_result.class, metaDataMap);
     }
 
-    public user_delete_result() {
+    public user_createCheckpointedFileBatch_result() {
     }
 
-    public user_delete_result(
-      boolean success,
-      TachyonException e,
+    public user_createCheckpointedFileBatch_result(
+      List<Integer> success,
+      FileAlreadyExistException eR,
+      InvalidPathException eI,
+      BlockInfoException eB,
+      SuspectedFileSizeException eS,
+      TachyonException eT,
       AccessControlException eAC)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
+      this.eR = eR;
+      this.eI = eI;
+      this.eB = eB;
+      this.eS = eS;
+      this.eT = eT;
       this.eAC = eAC;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public user_delete_result(user_delete_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new TachyonException(other.e);
-      }
-      if (other.isSetEAC()) {
-        this.eAC = new AccessControlException(other.eAC);
-      }
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createCheckpointedFileBatch_result(user_createCheckpointedFileBatch_result other) {
+      if (other.isSetSuccess()) {
+        List<Integer> __this__success = new ArrayList<Integer>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetER()) {
+        this.eR = new FileAlreadyExistException(other.eR);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
+      }
+      if (other.isSetES()) {
+        this.eS = new SuspectedFileSizeException(other.eS);
+      }
+      if (other.isSetET()) {
+        this.eT = new TachyonException(other.eT);
+      }
+      if (other.isSetEAC()) {
+        this.eAC = new AccessControlException(other.eAC);
+      }
+    }
+
+    public user_createCheckpointedFileBatch_result deepCopy() {
+      return new user_createCheckpointedFileBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.eR = null;
+      this.eI = null;
+      this.eB = null;
+      this.eS = null;
+      this.eT = null;
+      this.eAC = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Integer> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(int elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Integer>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Integer> getSuccess() {
+      return this.success;
+    }
+
+    public user_createCheckpointedFileBatch_result setSuccess(List<Integer> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public FileAlreadyExistException getER() {
+      return this.eR;
+    }
+
+    public user_createCheckpointedFileBatch_result setER(FileAlreadyExistException eR) {
+      this.eR = eR;
+      return this;
+    }
+
+    public void unsetER() {
+      this.eR = null;
+    }
+
+    /** Returns true if field eR is set (has been assigned a value) and false otherwise */
+    public boolean isSetER() {
+      return this.eR != null;
+    }
+
+    public void setERIsSet(boolean value) {
+      if (!value) {
+        this.eR = null;
+      }
+    }
+
+    public InvalidPathException getEI() {
+      return this.eI;
+    }
+
+    public user_createCheckpointedFileBatch_result setEI(InvalidPathException eI) {
+      this.eI = eI;
+      return this;
+    }
+
+    public void unsetEI() {
+      this.eI = null;
+    }
+
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
+    }
+
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
     }
 
-    public user_delete_result deepCopy() {
-      return new user_delete_result(this);
+    public user_createCheckpointedFileBatch_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
     }
 
-    @Override
-    public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
-      this.eAC = null;
+    public void unsetEB() {
+      this.eB = null;
     }
 
-    public boolean isSuccess() {
-      return this.success;
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
     }
 
-    public user_delete_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
+      }
+    }
+
+    public SuspectedFileSizeException getES() {
+      return this.eS;
+    }
+
+    public user_createCheckpointedFileBatch_result setES(SuspectedFileSizeException eS) {
+      this.eS = eS;
       return this;
     }
 
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    public void unsetES() {
+      this.eS = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
     }
 
-    public TachyonException getE() {
-      return this.e;
+    public TachyonException getET() {
+      return this.eT;
     }
 
-    public user_delete_result setE(TachyonException e) {
-      this.e = e;
+    public user_createCheckpointedFileBatch_result setET(TachyonException eT) {
+      this.eT = eT;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetET() {
+      this.eT = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field eT is set (has been assigned a value) and false otherwise */
+    public boolean isSetET() {
+      return this.eT != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setETIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.eT = null;
       }
     }
 
@@ -27353,7 +34489,7 @@ public class MasterService {
       return this.eAC;
     }
 
-    public user_delete_result setEAC(AccessControlException eAC) {
+    public user_createCheckpointedFileBatch_result setEAC(AccessControlException eAC) {
       this.eAC = eAC;
       return this;
     }
@@ -27379,15 +34515,47 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((List<Integer>)value);
         }
         break;
 
-      case E:
+      case E_R:
         if (value == null) {
-          unsetE();
+          unsetER();
         } else {
-          setE((TachyonException)value);
+          setER((FileAlreadyExistException)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
+        }
+        break;
+
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((SuspectedFileSizeException)value);
+        }
+        break;
+
+      case E_T:
+        if (value == null) {
+          unsetET();
+        } else {
+          setET((TachyonException)value);
         }
         break;
 
@@ -27405,10 +34573,22 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
-      case E:
-        return getE();
+      case E_R:
+        return getER();
+
+      case E_I:
+        return getEI();
+
+      case E_B:
+        return getEB();
+
+      case E_S:
+        return getES();
+
+      case E_T:
+        return getET();
 
       case E_AC:
         return getEAC();
@@ -27426,8 +34606,16 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
+      case E_R:
+        return isSetER();
+      case E_I:
+        return isSetEI();
+      case E_B:
+        return isSetEB();
+      case E_S:
+        return isSetES();
+      case E_T:
+        return isSetET();
       case E_AC:
         return isSetEAC();
       }
@@ -27438,30 +34626,66 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_delete_result)
-        return this.equals((user_delete_result)that);
+      if (that instanceof user_createCheckpointedFileBatch_result)
+        return this.equals((user_createCheckpointedFileBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_delete_result that) {
+    public boolean equals(user_createCheckpointedFileBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_eR = true && this.isSetER();
+      boolean that_present_eR = true && that.isSetER();
+      if (this_present_eR || that_present_eR) {
+        if (!(this_present_eR && that_present_eR))
           return false;
-        if (!this.e.equals(that.e))
+        if (!this.eR.equals(that.eR))
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
+          return false;
+      }
+
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
+          return false;
+      }
+
+      boolean this_present_eT = true && this.isSetET();
+      boolean that_present_eT = true && that.isSetET();
+      if (this_present_eT || that_present_eT) {
+        if (!(this_present_eT && that_present_eT))
+          return false;
+        if (!this.eT.equals(that.eT))
           return false;
       }
 
@@ -27473,39 +34697,79 @@ public class MasterService {
         if (!this.eAC.equals(that.eAC))
           return false;
       }
-
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      return 0;
-    }
-
-    @Override
-    public int compareTo(user_delete_result other) {
-      if (!getClass().equals(other.getClass())) {
-        return getClass().getName().compareTo(other.getClass().getName());
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createCheckpointedFileBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetER()).compareTo(other.isSetER());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetER()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eR, other.eR);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
       }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetET()).compareTo(other.isSetET());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetET()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eT, other.eT);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -27537,18 +34801,54 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_delete_result(");
+      StringBuilder sb = new StringBuilder("user_createCheckpointedFileBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("eR:");
+      if (this.eR == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.eR);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eT:");
+      if (this.eT == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eT);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -27578,23 +34878,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_delete_resultStandardSchemeFactory implements SchemeFactory {
-      public user_delete_resultStandardScheme getScheme() {
-        return new user_delete_resultStandardScheme();
+    private static class user_createCheckpointedFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createCheckpointedFileBatch_resultStandardScheme getScheme() {
+        return new user_createCheckpointedFileBatch_resultStandardScheme();
       }
     }
 
-    private static class user_delete_resultStandardScheme extends StandardScheme<user_delete_result> {
+    private static class user_createCheckpointedFileBatch_resultStandardScheme extends StandardScheme<user_createCheckpointedFileBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createCheckpointedFileBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -27605,23 +34903,69 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list282 = iprot.readListBegin();
+                  struct.success = new ArrayList<Integer>(_list282.size);
+                  for (int _i283 = 0; _i283 < _list282.size; ++_i283)
+                  {
+                    int _elem284;
+                    _elem284 = iprot.readI32();
+                    struct.success.add(_elem284);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
+            case 1: // E_R
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new TachyonException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.eR = new FileAlreadyExistException();
+                struct.eR.read(iprot);
+                struct.setERIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_AC
+            case 2: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new SuspectedFileSizeException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // E_T
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eT = new TachyonException();
+                struct.eT.read(iprot);
+                struct.setETIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // E_AC
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.eAC = new AccessControlException();
                 struct.eAC.read(iprot);
@@ -27641,18 +34985,45 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createCheckpointedFileBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.success.size()));
+            for (int _iter285 : struct.success)
+            {
+              oprot.writeI32(_iter285);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.eR != null) {
+          oprot.writeFieldBegin(E_R_FIELD_DESC);
+          struct.eR.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eT != null) {
+          oprot.writeFieldBegin(E_T_FIELD_DESC);
+          struct.eT.write(oprot);
           oprot.writeFieldEnd();
         }
         if (struct.eAC != null) {
@@ -27666,33 +35037,63 @@ public class MasterService {
 
     }
 
-    private static class user_delete_resultTupleSchemeFactory implements SchemeFactory {
-      public user_delete_resultTupleScheme getScheme() {
-        return new user_delete_resultTupleScheme();
+    private static class user_createCheckpointedFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createCheckpointedFileBatch_resultTupleScheme getScheme() {
+        return new user_createCheckpointedFileBatch_resultTupleScheme();
       }
     }
 
-    private static class user_delete_resultTupleScheme extends TupleScheme<user_delete_result> {
+    private static class user_createCheckpointedFileBatch_resultTupleScheme extends TupleScheme<user_createCheckpointedFileBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createCheckpointedFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetER()) {
           optionals.set(1);
         }
-        if (struct.isSetEAC()) {
+        if (struct.isSetEI()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetEB()) {
+          optionals.set(3);
+        }
+        if (struct.isSetES()) {
+          optionals.set(4);
+        }
+        if (struct.isSetET()) {
+          optionals.set(5);
+        }
+        if (struct.isSetEAC()) {
+          optionals.set(6);
+        }
+        oprot.writeBitSet(optionals, 7);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (int _iter286 : struct.success)
+            {
+              oprot.writeI32(_iter286);
+            }
+          }
         }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetER()) {
+          struct.eR.write(oprot);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
+        }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
+        }
+        if (struct.isSetET()) {
+          struct.eT.write(oprot);
         }
         if (struct.isSetEAC()) {
           struct.eAC.write(oprot);
@@ -27700,19 +35101,48 @@ public class MasterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createCheckpointedFileBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(7);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          {
+            org.apache.thrift.protocol.TList _list287 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new ArrayList<Integer>(_list287.size);
+            for (int _i288 = 0; _i288 < _list287.size; ++_i288)
+            {
+              int _elem289;
+              _elem289 = iprot.readI32();
+              struct.success.add(_elem289);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e = new TachyonException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.eR = new FileAlreadyExistException();
+          struct.eR.read(iprot);
+          struct.setERIsSet(true);
         }
         if (incoming.get(2)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.eS = new SuspectedFileSizeException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.eT = new TachyonException();
+          struct.eT.read(iprot);
+          struct.setETIsSet(true);
+        }
+        if (incoming.get(6)) {
           struct.eAC = new AccessControlException();
           struct.eAC.read(iprot);
           struct.setEACIsSet(true);
@@ -86,6 +86,16 @@ public class WorkerService {
      * 
      * @param blockId
      */
+    /**
+     * Lock several blocks in one call, like lockBlock for each of them. The path of each block file
+     * locked is returned in the order of the blocks, with an empty string for a block whose file is
+     * not found.
+     * 
+     * @param userId
+     * @param blockIds
+     */
+    public List<String> lockBlocks(long userId, List<Long> blockIds) throws org.apache.thrift.TException;
+
     public boolean promoteBlock(long blockId) throws org.apache.thrift.TException;
 
     /**
@@ -122,6 +132,17 @@ public class WorkerService {
      */
     public boolean unlockBlock(long blockId, long userId) throws org.apache.thrift.TException;
 
+    /**
+     * Heartbeat of a user which reports its block accesses and unlocks in one call: updates the
+     * access time of the accessed blocks, unlocks the unlocked blocks for the user, and keeps the
+     * user's temporary folder like userHeartbeat.
+     * 
+     * @param userId
+     * @param accessedBlockIds
+     * @param unlockedBlockIds
+     */
+    public void userBlockReport(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds) throws org.apache.thrift.TException;
+
     /**
      * Local user send heartbeat to local worker to keep its temporary folder.
      * 
@@ -147,6 +168,8 @@ public class WorkerService {
 
     public void lockBlock(long blockId, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void lockBlocks(long userId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void requestBlockLocation(long userId, long blockId, long initialBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -155,6 +178,8 @@ public class WorkerService {
 
     public void unlockBlock(long blockId, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void userBlockReport(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void userHeartbeat(long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -356,6 +381,30 @@ public class WorkerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlock failed: unknown result");
     }
 
+    public List<String> lockBlocks(long userId, List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      send_lockBlocks(userId, blockIds);
+      return recv_lockBlocks();
+    }
+
+    public void send_lockBlocks(long userId, List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      lockBlocks_args args = new lockBlocks_args();
+      args.setUserId(userId);
+      args.setBlockIds(blockIds);
+      sendBase("lockBlocks", args);
+    }
+
+    public List<String> recv_lockBlocks() throws org.apache.thrift.TException
+    {
+      lockBlocks_result result = new lockBlocks_result();
+      receiveBase(result, "lockBlocks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlocks failed: unknown result");
+    }
+
     public boolean promoteBlock(long blockId) throws org.apache.thrift.TException
     {
       send_promoteBlock(blockId);
@@ -462,6 +511,28 @@ public class WorkerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "unlockBlock failed: unknown result");
     }
 
+    public void userBlockReport(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds) throws org.apache.thrift.TException
+    {
+      send_userBlockReport(userId, accessedBlockIds, unlockedBlockIds);
+      recv_userBlockReport();
+    }
+
+    public void send_userBlockReport(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds) throws org.apache.thrift.TException
+    {
+      userBlockReport_args args = new userBlockReport_args();
+      args.setUserId(userId);
+      args.setAccessedBlockIds(accessedBlockIds);
+      args.setUnlockedBlockIds(unlockedBlockIds);
+      sendBase("userBlockReport", args);
+    }
+
+    public void recv_userBlockReport() throws org.apache.thrift.TException
+    {
+      userBlockReport_result result = new userBlockReport_result();
+      receiveBase(result, "userBlockReport");
+      return;
+    }
+
     public void userHeartbeat(long userId) throws org.apache.thrift.TException
     {
       send_userHeartbeat(userId);
@@ -736,6 +807,41 @@ public class WorkerService {
       }
     }
 
+    public void lockBlocks(long userId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      lockBlocks_call method_call = new lockBlocks_call(userId, blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class lockBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long userId;
+      private List<Long> blockIds;
+      public lockBlocks_call(long userId, List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.userId = userId;
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("lockBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        lockBlocks_args args = new lockBlocks_args();
+        args.setUserId(userId);
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_lockBlocks();
+      }
+    }
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       promoteBlock_call method_call = new promoteBlock_call(blockId, resultHandler, this, ___protocolFactory, ___transport);
@@ -879,6 +985,44 @@ public class WorkerService {
       }
     }
 
+    public void userBlockReport(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      userBlockReport_call method_call = new userBlockReport_call(userId, accessedBlockIds, unlockedBlockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class userBlockReport_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long userId;
+      private List<Long> accessedBlockIds;
+      private List<Long> unlockedBlockIds;
+      public userBlockReport_call(long userId, List<Long> accessedBlockIds, List<Long> unlockedBlockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.userId = userId;
+        this.accessedBlockIds = accessedBlockIds;
+        this.unlockedBlockIds = unlockedBlockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("userBlockReport", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        userBlockReport_args args = new userBlockReport_args();
+        args.setUserId(userId);
+        args.setAccessedBlockIds(accessedBlockIds);
+        args.setUnlockedBlockIds(unlockedBlockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_userBlockReport();
+      }
+    }
+
     public void userHeartbeat(long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       userHeartbeat_call method_call = new userHeartbeat_call(userId, resultHandler, this, ___protocolFactory, ___transport);
@@ -931,10 +1075,12 @@ public class WorkerService {
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("getUserUfsTempFolder", new getUserUfsTempFolder());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("userBlockReport", new userBlockReport());
       processMap.put("userHeartbeat", new userHeartbeat());
       return processMap;
     }
@@ -1104,6 +1250,26 @@ public class WorkerService {
       }
     }
 
+    public static class lockBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, lockBlocks_args> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public lockBlocks_result getResult(I iface, lockBlocks_args args) throws org.apache.thrift.TException {
+        lockBlocks_result result = new lockBlocks_result();
+        result.success = iface.lockBlocks(args.userId, args.blockIds);
+        return result;
+      }
+    }
+
     public static class promoteBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, promoteBlock_args> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1197,6 +1363,26 @@ public class WorkerService {
       }
     }
 
+    public static class userBlockReport<I extends Iface> extends org.apache.thrift.ProcessFunction<I, userBlockReport_args> {
+      public userBlockReport() {
+        super("userBlockReport");
+      }
+
+      public userBlockReport_args getEmptyArgsInstance() {
+        return new userBlockReport_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public userBlockReport_result getResult(I iface, userBlockReport_args args) throws org.apache.thrift.TException {
+        userBlockReport_result result = new userBlockReport_result();
+        iface.userBlockReport(args.userId, args.accessedBlockIds, args.unlockedBlockIds);
+        return result;
+      }
+    }
+
     public static class userHeartbeat<I extends Iface> extends org.apache.thrift.ProcessFunction<I, userHeartbeat_args> {
       public userHeartbeat() {
         super("userHeartbeat");
@@ -1237,10 +1423,12 @@ public class WorkerService {
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("getUserUfsTempFolder", new getUserUfsTempFolder());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("userBlockReport", new userBlockReport());
       processMap.put("userHeartbeat", new userHeartbeat());
       return processMap;
     }
@@ -1643,6 +1831,57 @@ public class WorkerService {
       }
     }
 
+    public static class lockBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lockBlocks_args, List<String>> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            lockBlocks_result result = new lockBlocks_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            lockBlocks_result result = new lockBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, lockBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.lockBlocks(args.userId, args.blockIds,resultHandler);
+      }
+    }
+
     public static class promoteBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, promoteBlock_args, Boolean> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1867,6 +2106,56 @@ public class WorkerService {
       }
     }
 
+    public static class userBlockReport<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, userBlockReport_args, Void> {
+      public userBlockReport() {
+        super("userBlockReport");
+      }
+
+      public userBlockReport_args getEmptyArgsInstance() {
+        return new userBlockReport_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            userBlockReport_result result = new userBlockReport_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            userBlockReport_result result = new userBlockReport_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, userBlockReport_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.userBlockReport(args.userId, args.accessedBlockIds, args.unlockedBlockIds,resultHandler);
+      }
+    }
+
     public static class userHeartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, userHeartbeat_args, Void> {
       public userHeartbeat() {
         super("userHeartbeat");
@@ -7637,22 +7926,25 @@ public class WorkerService {
 
   }
 
-  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
+  public static class lockBlocks_args implements org.apache.thrift.TBase<lockBlocks_args, lockBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_argsTupleSchemeFactory());
     }
 
-    public long blockId; // required
+    public long userId; // required
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId");
+      USER_ID((short)1, "userId"),
+      BLOCK_IDS((short)2, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7667,8 +7959,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -7709,76 +8003,133 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_args.class, metaDataMap);
     }
 
-    public promoteBlock_args() {
+    public lockBlocks_args() {
     }
 
-    public promoteBlock_args(
-      long blockId)
+    public lockBlocks_args(
+      long userId,
+      List<Long> blockIds)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_args(promoteBlock_args other) {
+    public lockBlocks_args(lockBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
+      this.userId = other.userId;
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
     }
 
-    public promoteBlock_args deepCopy() {
-      return new promoteBlock_args(this);
+    public lockBlocks_args deepCopy() {
+      return new lockBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
+      setUserIdIsSet(false);
+      this.userId = 0;
+      this.blockIds = null;
     }
 
-    public long getBlockId() {
-      return this.blockId;
+    public long getUserId() {
+      return this.userId;
     }
 
-    public promoteBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public lockBlocks_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
-    public void setFieldValue(_Fields field, Object value) {
-      switch (field) {
-      case BLOCK_ID:
-        if (value == null) {
-          unsetBlockId();
-        } else {
-          setBlockId((Long)value);
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
+    }
+
+    public List<Long> getBlockIds() {
+      return this.blockIds;
+    }
+
+    public lockBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
+      return this;
+    }
+
+    public void unsetBlockIds() {
+      this.blockIds = null;
+    }
+
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
+    }
+
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((Long)value);
+        }
+        break;
+
+      case BLOCK_IDS:
+        if (value == null) {
+          unsetBlockIds();
+        } else {
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -7787,8 +8138,11 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
+      case BLOCK_IDS:
+        return getBlockIds();
 
       }
       throw new IllegalStateException();
@@ -7801,8 +8155,10 @@ public class WorkerService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
+      case USER_ID:
+        return isSetUserId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -7811,21 +8167,30 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_args)
-        return this.equals((promoteBlock_args)that);
+      if (that instanceof lockBlocks_args)
+        return this.equals((lockBlocks_args)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_args that) {
+    public boolean equals(lockBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (this.blockId != that.blockId)
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
+          return false;
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -7838,19 +8203,29 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(promoteBlock_args other) {
+    public int compareTo(lockBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7872,11 +8247,19 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_args(");
+      StringBuilder sb = new StringBuilder("lockBlocks_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7905,15 +8288,15 @@ public class WorkerService {
       }
     }
 
-    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsStandardScheme getScheme() {
-        return new promoteBlock_argsStandardScheme();
+    private static class lockBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsStandardScheme getScheme() {
+        return new lockBlocks_argsStandardScheme();
       }
     }
 
-    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
+    private static class lockBlocks_argsStandardScheme extends StandardScheme<lockBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7923,10 +8306,28 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list16.size);
+                  for (int _i17 = 0; _i17 < _list16.size; ++_i17)
+                  {
+                    long _elem18;
+                    _elem18 = iprot.readI64();
+                    struct.blockIds.add(_elem18);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7942,65 +8343,102 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter19 : struct.blockIds)
+            {
+              oprot.writeI64(_iter19);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsTupleScheme getScheme() {
-        return new promoteBlock_argsTupleScheme();
+    private static class lockBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsTupleScheme getScheme() {
+        return new lockBlocks_argsTupleScheme();
       }
     }
 
-    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
+    private static class lockBlocks_argsTupleScheme extends TupleScheme<lockBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetUserId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetBlockIds()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter20 : struct.blockIds)
+            {
+              oprot.writeI64(_iter20);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list21.size);
+            for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+            {
+              long _elem23;
+              _elem23 = iprot.readI64();
+              struct.blockIds.add(_elem23);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
+  public static class lockBlocks_result implements org.apache.thrift.TBase<lockBlocks_result, lockBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public List<String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8061,67 +8499,82 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_result.class, metaDataMap);
     }
 
-    public promoteBlock_result() {
+    public lockBlocks_result() {
     }
 
-    public promoteBlock_result(
-      boolean success)
+    public lockBlocks_result(
+      List<String> success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_result(promoteBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public lockBlocks_result(lockBlocks_result other) {
+      if (other.isSetSuccess()) {
+        List<String> __this__success = new ArrayList<String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public promoteBlock_result deepCopy() {
-      return new promoteBlock_result(this);
+    public lockBlocks_result deepCopy() {
+      return new lockBlocks_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
     }
 
-    public boolean isSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(String elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<String>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<String> getSuccess() {
       return this.success;
     }
 
-    public promoteBlock_result setSuccess(boolean success) {
+    public lockBlocks_result setSuccess(List<String> success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8130,7 +8583,7 @@ public class WorkerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((List<String>)value);
         }
         break;
 
@@ -8140,7 +8593,7 @@ public class WorkerService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -8163,21 +8616,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_result)
-        return this.equals((promoteBlock_result)that);
+      if (that instanceof lockBlocks_result)
+        return this.equals((lockBlocks_result)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_result that) {
+    public boolean equals(lockBlocks_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -8190,7 +8643,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(promoteBlock_result other) {
+    public int compareTo(lockBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8224,11 +8677,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_result(");
+      StringBuilder sb = new StringBuilder("lockBlocks_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8249,23 +8706,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultStandardScheme getScheme() {
-        return new promoteBlock_resultStandardScheme();
+    private static class lockBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultStandardScheme getScheme() {
+        return new lockBlocks_resultStandardScheme();
       }
     }
 
-    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
+    private static class lockBlocks_resultStandardScheme extends StandardScheme<lockBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8276,8 +8731,18 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list24.size);
+                  for (int _i25 = 0; _i25 < _list24.size; ++_i25)
+                  {
+                    String _elem26;
+                    _elem26 = iprot.readString();
+                    struct.success.add(_elem26);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -8294,13 +8759,20 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (String _iter27 : struct.success)
+            {
+              oprot.writeString(_iter27);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8309,16 +8781,16 @@ public class WorkerService {
 
     }
 
-    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultTupleScheme getScheme() {
-        return new promoteBlock_resultTupleScheme();
+    private static class lockBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultTupleScheme getScheme() {
+        return new lockBlocks_resultTupleScheme();
       }
     }
 
-    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
+    private static class lockBlocks_resultTupleScheme extends TupleScheme<lockBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8326,16 +8798,31 @@ public class WorkerService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (String _iter28 : struct.success)
+            {
+              oprot.writeString(_iter28);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list29.size);
+            for (int _i30 = 0; _i30 < _list29.size; ++_i30)
+            {
+              String _elem31;
+              _elem31 = iprot.readString();
+              struct.success.add(_elem31);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -8343,28 +8830,22 @@ public class WorkerService {
 
   }
 
-  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
+  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
     }
 
-    public long userId; // required
     public long blockId; // required
-    public long initialBytes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      BLOCK_ID((short)2, "blockId"),
-      INITIAL_BYTES((short)3, "initialBytes");
+      BLOCK_ID((short)1, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8379,12 +8860,8 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
-          case 2: // BLOCK_ID
+          case 1: // BLOCK_ID
             return BLOCK_ID;
-          case 3: // INITIAL_BYTES
-            return INITIAL_BYTES;
           default:
             return null;
         }
@@ -8425,9 +8902,1823 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
+    }
+
+    public promoteBlock_args() {
+    }
+
+    public promoteBlock_args(
+      long blockId)
+    {
+      this();
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public promoteBlock_args(promoteBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.blockId = other.blockId;
+    }
+
+    public promoteBlock_args deepCopy() {
+      return new promoteBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+    }
+
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    public promoteBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BLOCK_ID:
+        return isSetBlockId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof promoteBlock_args)
+        return this.equals((promoteBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(promoteBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(promoteBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("promoteBlock_args(");
+      boolean first = true;
+
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsStandardScheme getScheme() {
+        return new promoteBlock_argsStandardScheme();
+      }
+    }
+
+    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsTupleScheme getScheme() {
+        return new promoteBlock_argsTupleScheme();
+      }
+    }
+
+    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBlockId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
+    }
+
+    public promoteBlock_result() {
+    }
+
+    public promoteBlock_result(
+      boolean success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public promoteBlock_result(promoteBlock_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public promoteBlock_result deepCopy() {
+      return new promoteBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public promoteBlock_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof promoteBlock_result)
+        return this.equals((promoteBlock_result)that);
+      return false;
+    }
+
+    public boolean equals(promoteBlock_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(promoteBlock_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("promoteBlock_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultStandardScheme getScheme() {
+        return new promoteBlock_resultStandardScheme();
+      }
+    }
+
+    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultTupleScheme getScheme() {
+        return new promoteBlock_resultTupleScheme();
+      }
+    }
+
+    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
+    }
+
+    public long userId; // required
+    public long blockId; // required
+    public long initialBytes; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId"),
+      BLOCK_ID((short)2, "blockId"),
+      INITIAL_BYTES((short)3, "initialBytes");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
+          case 3: // INITIAL_BYTES
+            return INITIAL_BYTES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private static final int __INITIALBYTES_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
+    }
+
+    public requestBlockLocation_args() {
+    }
+
+    public requestBlockLocation_args(
+      long userId,
+      long blockId,
+      long initialBytes)
+    {
+      this();
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public requestBlockLocation_args(requestBlockLocation_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
+      this.blockId = other.blockId;
+      this.initialBytes = other.initialBytes;
+    }
+
+    public requestBlockLocation_args deepCopy() {
+      return new requestBlockLocation_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+      setInitialBytesIsSet(false);
+      this.initialBytes = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public requestBlockLocation_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    public requestBlockLocation_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public long getInitialBytes() {
+      return this.initialBytes;
+    }
+
+    public requestBlockLocation_args setInitialBytes(long initialBytes) {
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
+      return this;
+    }
+
+    public void unsetInitialBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetInitialBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    public void setInitialBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((Long)value);
+        }
+        break;
+
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      case INITIAL_BYTES:
+        if (value == null) {
+          unsetInitialBytes();
+        } else {
+          setInitialBytes((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      case INITIAL_BYTES:
+        return Long.valueOf(getInitialBytes());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER_ID:
+        return isSetUserId();
+      case BLOCK_ID:
+        return isSetBlockId();
+      case INITIAL_BYTES:
+        return isSetInitialBytes();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof requestBlockLocation_args)
+        return this.equals((requestBlockLocation_args)that);
+      return false;
+    }
+
+    public boolean equals(requestBlockLocation_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      boolean this_present_initialBytes = true;
+      boolean that_present_initialBytes = true;
+      if (this_present_initialBytes || that_present_initialBytes) {
+        if (!(this_present_initialBytes && that_present_initialBytes))
+          return false;
+        if (this.initialBytes != that.initialBytes)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(requestBlockLocation_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInitialBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
+      boolean first = true;
+
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("initialBytes:");
+      sb.append(this.initialBytes);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsStandardScheme getScheme() {
+        return new requestBlockLocation_argsStandardScheme();
+      }
+    }
+
+    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // INITIAL_BYTES
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.initialBytes = iprot.readI64();
+                struct.setInitialBytesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsTupleScheme getScheme() {
+        return new requestBlockLocation_argsTupleScheme();
+      }
+    }
+
+    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUserId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetInitialBytes()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+        if (struct.isSetInitialBytes()) {
+          oprot.writeI64(struct.initialBytes);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.initialBytes = iprot.readI64();
+          struct.setInitialBytesIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+    public OutOfSpaceException eP; // required
+    public FileAlreadyExistException eS; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E_P((short)1, "eP"),
+      E_S((short)2, "eS");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E_P
+            return E_P;
+          case 2: // E_S
+            return E_S;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
+    }
+
+    public requestBlockLocation_result() {
+    }
+
+    public requestBlockLocation_result(
+      String success,
+      OutOfSpaceException eP,
+      FileAlreadyExistException eS)
+    {
+      this();
+      this.success = success;
+      this.eP = eP;
+      this.eS = eS;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public requestBlockLocation_result(requestBlockLocation_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEP()) {
+        this.eP = new OutOfSpaceException(other.eP);
+      }
+      if (other.isSetES()) {
+        this.eS = new FileAlreadyExistException(other.eS);
+      }
+    }
+
+    public requestBlockLocation_result deepCopy() {
+      return new requestBlockLocation_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.eP = null;
+      this.eS = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public requestBlockLocation_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public OutOfSpaceException getEP() {
+      return this.eP;
+    }
+
+    public requestBlockLocation_result setEP(OutOfSpaceException eP) {
+      this.eP = eP;
+      return this;
+    }
+
+    public void unsetEP() {
+      this.eP = null;
+    }
+
+    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
+    public boolean isSetEP() {
+      return this.eP != null;
+    }
+
+    public void setEPIsSet(boolean value) {
+      if (!value) {
+        this.eP = null;
+      }
+    }
+
+    public FileAlreadyExistException getES() {
+      return this.eS;
+    }
+
+    public requestBlockLocation_result setES(FileAlreadyExistException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      case E_P:
+        if (value == null) {
+          unsetEP();
+        } else {
+          setEP((OutOfSpaceException)value);
+        }
+        break;
+
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((FileAlreadyExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E_P:
+        return getEP();
+
+      case E_S:
+        return getES();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E_P:
+        return isSetEP();
+      case E_S:
+        return isSetES();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof requestBlockLocation_result)
+        return this.equals((requestBlockLocation_result)that);
+      return false;
+    }
+
+    public boolean equals(requestBlockLocation_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eP = true && this.isSetEP();
+      boolean that_present_eP = true && that.isSetEP();
+      if (this_present_eP || that_present_eP) {
+        if (!(this_present_eP && that_present_eP))
+          return false;
+        if (!this.eP.equals(that.eP))
+          return false;
+      }
+
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(requestBlockLocation_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEP()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eP:");
+      if (this.eP == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eP);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultStandardScheme getScheme() {
+        return new requestBlockLocation_resultStandardScheme();
+      }
+    }
+
+    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E_P
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eP = new OutOfSpaceException();
+                struct.eP.read(iprot);
+                struct.setEPIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new FileAlreadyExistException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eP != null) {
+          oprot.writeFieldBegin(E_P_FIELD_DESC);
+          struct.eP.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultTupleScheme getScheme() {
+        return new requestBlockLocation_resultTupleScheme();
+      }
+    }
+
+    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEP()) {
+          optionals.set(1);
+        }
+        if (struct.isSetES()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEP()) {
+          struct.eP.write(oprot);
+        }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eP = new OutOfSpaceException();
+          struct.eP.read(iprot);
+          struct.setEPIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eS = new FileAlreadyExistException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
+    }
+
+    public long userId; // required
+    public long blockId; // required
+    public long requestBytes; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId"),
+      BLOCK_ID((short)2, "blockId"),
+      REQUEST_BYTES((short)3, "requestBytes");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
+          case 3: // REQUEST_BYTES
+            return REQUEST_BYTES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
     private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __INITIALBYTES_ISSET_ID = 2;
+    private static final int __REQUESTBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -8436,41 +10727,41 @@ public class WorkerService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
     }
 
-    public requestBlockLocation_args() {
+    public requestSpace_args() {
     }
 
-    public requestBlockLocation_args(
+    public requestSpace_args(
       long userId,
       long blockId,
-      long initialBytes)
+      long requestBytes)
     {
       this();
       this.userId = userId;
       setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_args(requestBlockLocation_args other) {
+    public requestSpace_args(requestSpace_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.userId = other.userId;
       this.blockId = other.blockId;
-      this.initialBytes = other.initialBytes;
+      this.requestBytes = other.requestBytes;
     }
 
-    public requestBlockLocation_args deepCopy() {
-      return new requestBlockLocation_args(this);
+    public requestSpace_args deepCopy() {
+      return new requestSpace_args(this);
     }
 
     @Override
@@ -8479,15 +10770,15 @@ public class WorkerService {
       this.userId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setInitialBytesIsSet(false);
-      this.initialBytes = 0;
+      setRequestBytesIsSet(false);
+      this.requestBytes = 0;
     }
 
     public long getUserId() {
       return this.userId;
     }
 
-    public requestBlockLocation_args setUserId(long userId) {
+    public requestSpace_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -8510,7 +10801,7 @@ public class WorkerService {
       return this.blockId;
     }
 
-    public requestBlockLocation_args setBlockId(long blockId) {
+    public requestSpace_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -8529,27 +10820,27 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    public long getInitialBytes() {
-      return this.initialBytes;
+    public long getRequestBytes() {
+      return this.requestBytes;
     }
 
-    public requestBlockLocation_args setInitialBytes(long initialBytes) {
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+    public requestSpace_args setRequestBytes(long requestBytes) {
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
       return this;
     }
 
-    public void unsetInitialBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    public void unsetRequestBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetInitialBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    public void setInitialBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    public void setRequestBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8570,11 +10861,11 @@ public class WorkerService {
         }
         break;
 
-      case INITIAL_BYTES:
+      case REQUEST_BYTES:
         if (value == null) {
-          unsetInitialBytes();
+          unsetRequestBytes();
         } else {
-          setInitialBytes((Long)value);
+          setRequestBytes((Long)value);
         }
         break;
 
@@ -8589,8 +10880,8 @@ public class WorkerService {
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case INITIAL_BYTES:
-        return Long.valueOf(getInitialBytes());
+      case REQUEST_BYTES:
+        return Long.valueOf(getRequestBytes());
 
       }
       throw new IllegalStateException();
@@ -8607,8 +10898,8 @@ public class WorkerService {
         return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
-      case INITIAL_BYTES:
-        return isSetInitialBytes();
+      case REQUEST_BYTES:
+        return isSetRequestBytes();
       }
       throw new IllegalStateException();
     }
@@ -8617,12 +10908,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_args)
-        return this.equals((requestBlockLocation_args)that);
+      if (that instanceof requestSpace_args)
+        return this.equals((requestSpace_args)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_args that) {
+    public boolean equals(requestSpace_args that) {
       if (that == null)
         return false;
 
@@ -8644,12 +10935,12 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_initialBytes = true;
-      boolean that_present_initialBytes = true;
-      if (this_present_initialBytes || that_present_initialBytes) {
-        if (!(this_present_initialBytes && that_present_initialBytes))
+      boolean this_present_requestBytes = true;
+      boolean that_present_requestBytes = true;
+      if (this_present_requestBytes || that_present_requestBytes) {
+        if (!(this_present_requestBytes && that_present_requestBytes))
           return false;
-        if (this.initialBytes != that.initialBytes)
+        if (this.requestBytes != that.requestBytes)
           return false;
       }
 
@@ -8662,7 +10953,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestBlockLocation_args other) {
+    public int compareTo(requestSpace_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8689,12 +10980,12 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInitialBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+      if (isSetRequestBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8716,7 +11007,7 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
+      StringBuilder sb = new StringBuilder("requestSpace_args(");
       boolean first = true;
 
       sb.append("userId:");
@@ -8727,8 +11018,8 @@ public class WorkerService {
       sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("initialBytes:");
-      sb.append(this.initialBytes);
+      sb.append("requestBytes:");
+      sb.append(this.requestBytes);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8757,15 +11048,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsStandardScheme getScheme() {
-        return new requestBlockLocation_argsStandardScheme();
+    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_argsStandardScheme getScheme() {
+        return new requestSpace_argsStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8791,10 +11082,10 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // INITIAL_BYTES
+            case 3: // REQUEST_BYTES
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.initialBytes = iprot.readI64();
-                struct.setInitialBytesIsSet(true);
+                struct.requestBytes = iprot.readI64();
+                struct.setRequestBytesIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8810,7 +11101,7 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8820,8 +11111,8 @@ public class WorkerService {
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.requestBytes);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -8829,16 +11120,16 @@ public class WorkerService {
 
     }
 
-    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsTupleScheme getScheme() {
-        return new requestBlockLocation_argsTupleScheme();
+    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_argsTupleScheme getScheme() {
+        return new requestSpace_argsTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetUserId()) {
@@ -8847,7 +11138,7 @@ public class WorkerService {
         if (struct.isSetBlockId()) {
           optionals.set(1);
         }
-        if (struct.isSetInitialBytes()) {
+        if (struct.isSetRequestBytes()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
@@ -8857,13 +11148,13 @@ public class WorkerService {
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetInitialBytes()) {
-          oprot.writeI64(struct.initialBytes);
+        if (struct.isSetRequestBytes()) {
+          oprot.writeI64(struct.requestBytes);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -8875,36 +11166,33 @@ public class WorkerService {
           struct.setBlockIdIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.initialBytes = iprot.readI64();
-          struct.setInitialBytesIsSet(true);
+          struct.requestBytes = iprot.readI64();
+          struct.setRequestBytesIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
+  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
     }
 
-    public String success; // required
-    public OutOfSpaceException eP; // required
-    public FileAlreadyExistException eS; // required
+    public boolean success; // required
+    public FileDoesNotExistException eP; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_P((short)1, "eP"),
-      E_S((short)2, "eS");
+      E_P((short)1, "eP");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8923,8 +11211,6 @@ public class WorkerService {
             return SUCCESS;
           case 1: // E_P
             return E_P;
-          case 2: // E_S
-            return E_S;
           default:
             return null;
         }
@@ -8965,88 +11251,82 @@ public class WorkerService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
     }
 
-    public requestBlockLocation_result() {
+    public requestSpace_result() {
     }
 
-    public requestBlockLocation_result(
-      String success,
-      OutOfSpaceException eP,
-      FileAlreadyExistException eS)
+    public requestSpace_result(
+      boolean success,
+      FileDoesNotExistException eP)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.eP = eP;
-      this.eS = eS;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_result(requestBlockLocation_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public requestSpace_result(requestSpace_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEP()) {
-        this.eP = new OutOfSpaceException(other.eP);
-      }
-      if (other.isSetES()) {
-        this.eS = new FileAlreadyExistException(other.eS);
+        this.eP = new FileDoesNotExistException(other.eP);
       }
     }
 
-    public requestBlockLocation_result deepCopy() {
-      return new requestBlockLocation_result(this);
+    public requestSpace_result deepCopy() {
+      return new requestSpace_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.eP = null;
-      this.eS = null;
     }
 
-    public String getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public requestBlockLocation_result setSuccess(String success) {
+    public requestSpace_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public OutOfSpaceException getEP() {
+    public FileDoesNotExistException getEP() {
       return this.eP;
     }
 
-    public requestBlockLocation_result setEP(OutOfSpaceException eP) {
+    public requestSpace_result setEP(FileDoesNotExistException eP) {
       this.eP = eP;
       return this;
     }
@@ -9066,37 +11346,13 @@ public class WorkerService {
       }
     }
 
-    public FileAlreadyExistException getES() {
-      return this.eS;
-    }
-
-    public requestBlockLocation_result setES(FileAlreadyExistException eS) {
-      this.eS = eS;
-      return this;
-    }
-
-    public void unsetES() {
-      this.eS = null;
-    }
-
-    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
-    public boolean isSetES() {
-      return this.eS != null;
-    }
-
-    public void setESIsSet(boolean value) {
-      if (!value) {
-        this.eS = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -9104,15 +11360,7 @@ public class WorkerService {
         if (value == null) {
           unsetEP();
         } else {
-          setEP((OutOfSpaceException)value);
-        }
-        break;
-
-      case E_S:
-        if (value == null) {
-          unsetES();
-        } else {
-          setES((FileAlreadyExistException)value);
+          setEP((FileDoesNotExistException)value);
         }
         break;
 
@@ -9122,14 +11370,11 @@ public class WorkerService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case E_P:
         return getEP();
 
-      case E_S:
-        return getES();
-
       }
       throw new IllegalStateException();
     }
@@ -9145,8 +11390,6 @@ public class WorkerService {
         return isSetSuccess();
       case E_P:
         return isSetEP();
-      case E_S:
-        return isSetES();
       }
       throw new IllegalStateException();
     }
@@ -9155,21 +11398,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_result)
-        return this.equals((requestBlockLocation_result)that);
+      if (that instanceof requestSpace_result)
+        return this.equals((requestSpace_result)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_result that) {
+    public boolean equals(requestSpace_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -9182,15 +11425,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_eS = true && this.isSetES();
-      boolean that_present_eS = true && that.isSetES();
-      if (this_present_eS || that_present_eS) {
-        if (!(this_present_eS && that_present_eS))
-          return false;
-        if (!this.eS.equals(that.eS))
-          return false;
-      }
-
       return true;
     }
 
@@ -9200,7 +11434,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestBlockLocation_result other) {
+    public int compareTo(requestSpace_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9227,16 +11461,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetES()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9254,15 +11478,11 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
+      StringBuilder sb = new StringBuilder("requestSpace_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("eP:");
@@ -9272,14 +11492,6 @@ public class WorkerService {
         sb.append(this.eP);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("eS:");
-      if (this.eS == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eS);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9299,21 +11511,23 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultStandardScheme getScheme() {
-        return new requestBlockLocation_resultStandardScheme();
+    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_resultStandardScheme getScheme() {
+        return new requestSpace_resultStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9324,8 +11538,8 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -9333,22 +11547,13 @@ public class WorkerService {
               break;
             case 1: // E_P
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new OutOfSpaceException();
+                struct.eP = new FileDoesNotExistException();
                 struct.eP.read(iprot);
                 struct.setEPIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_S
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eS = new FileAlreadyExistException();
-                struct.eS.read(iprot);
-                struct.setESIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9360,13 +11565,13 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.eP != null) {
@@ -9374,27 +11579,22 @@ public class WorkerService {
           struct.eP.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eS != null) {
-          oprot.writeFieldBegin(E_S_FIELD_DESC);
-          struct.eS.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultTupleScheme getScheme() {
-        return new requestBlockLocation_resultTupleScheme();
+    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_resultTupleScheme getScheme() {
+        return new requestSpace_resultTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9403,66 +11603,52 @@ public class WorkerService {
         if (struct.isSetEP()) {
           optionals.set(1);
         }
-        if (struct.isSetES()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetEP()) {
           struct.eP.write(oprot);
         }
-        if (struct.isSetES()) {
-          struct.eS.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eP = new OutOfSpaceException();
+          struct.eP = new FileDoesNotExistException();
           struct.eP.read(iprot);
           struct.setEPIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.eS = new FileAlreadyExistException();
-          struct.eS.read(iprot);
-          struct.setESIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
+  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
     }
 
-    public long userId; // required
     public long blockId; // required
-    public long requestBytes; // required
+    public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      BLOCK_ID((short)2, "blockId"),
-      REQUEST_BYTES((short)3, "requestBytes");
+      BLOCK_ID((short)1, "blockId"),
+      USER_ID((short)2, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9477,12 +11663,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
-          case 2: // BLOCK_ID
+          case 1: // BLOCK_ID
             return BLOCK_ID;
-          case 3: // REQUEST_BYTES
-            return REQUEST_BYTES;
+          case 2: // USER_ID
+            return USER_ID;
           default:
             return null;
         }
@@ -9523,92 +11707,60 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __REQUESTBYTES_ISSET_ID = 2;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
     }
 
-    public requestSpace_args() {
+    public unlockBlock_args() {
     }
 
-    public requestSpace_args(
-      long userId,
+    public unlockBlock_args(
       long blockId,
-      long requestBytes)
+      long userId)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+      this.userId = userId;
+      setUserIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_args(requestSpace_args other) {
+    public unlockBlock_args(unlockBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
       this.blockId = other.blockId;
-      this.requestBytes = other.requestBytes;
-    }
-
-    public requestSpace_args deepCopy() {
-      return new requestSpace_args(this);
-    }
-
-    @Override
-    public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
-      setBlockIdIsSet(false);
-      this.blockId = 0;
-      setRequestBytesIsSet(false);
-      this.requestBytes = 0;
-    }
-
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public requestSpace_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
-    }
-
-    public void unsetUserId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+      this.userId = other.userId;
     }
 
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    public unlockBlock_args deepCopy() {
+      return new unlockBlock_args(this);
     }
 
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    @Override
+    public void clear() {
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+      setUserIdIsSet(false);
+      this.userId = 0;
     }
 
     public long getBlockId() {
       return this.blockId;
     }
 
-    public requestSpace_args setBlockId(long blockId) {
+    public unlockBlock_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -9627,39 +11779,31 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    public long getRequestBytes() {
-      return this.requestBytes;
+    public long getUserId() {
+      return this.userId;
     }
 
-    public requestSpace_args setRequestBytes(long requestBytes) {
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+    public unlockBlock_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
       return this;
     }
 
-    public void unsetRequestBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetRequestBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    public void setRequestBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case USER_ID:
-        if (value == null) {
-          unsetUserId();
-        } else {
-          setUserId((Long)value);
-        }
-        break;
-
       case BLOCK_ID:
         if (value == null) {
           unsetBlockId();
@@ -9668,11 +11812,11 @@ public class WorkerService {
         }
         break;
 
-      case REQUEST_BYTES:
+      case USER_ID:
         if (value == null) {
-          unsetRequestBytes();
+          unsetUserId();
         } else {
-          setRequestBytes((Long)value);
+          setUserId((Long)value);
         }
         break;
 
@@ -9681,14 +11825,11 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return Long.valueOf(getUserId());
-
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case REQUEST_BYTES:
-        return Long.valueOf(getRequestBytes());
+      case USER_ID:
+        return Long.valueOf(getUserId());
 
       }
       throw new IllegalStateException();
@@ -9701,12 +11842,10 @@ public class WorkerService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
-      case REQUEST_BYTES:
-        return isSetRequestBytes();
+      case USER_ID:
+        return isSetUserId();
       }
       throw new IllegalStateException();
     }
@@ -9715,24 +11854,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_args)
-        return this.equals((requestSpace_args)that);
+      if (that instanceof unlockBlock_args)
+        return this.equals((unlockBlock_args)that);
       return false;
     }
 
-    public boolean equals(requestSpace_args that) {
+    public boolean equals(unlockBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
@@ -9742,12 +11872,12 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_requestBytes = true;
-      boolean that_present_requestBytes = true;
-      if (this_present_requestBytes || that_present_requestBytes) {
-        if (!(this_present_requestBytes && that_present_requestBytes))
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (this.requestBytes != that.requestBytes)
+        if (this.userId != that.userId)
           return false;
       }
 
@@ -9760,23 +11890,13 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestSpace_args other) {
+    public int compareTo(unlockBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
@@ -9787,12 +11907,12 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRequestBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9814,19 +11934,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_args(");
+      StringBuilder sb = new StringBuilder("unlockBlock_args(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("requestBytes:");
-      sb.append(this.requestBytes);
+      sb.append("userId:");
+      sb.append(this.userId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9855,15 +11971,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_argsStandardScheme getScheme() {
-        return new requestSpace_argsStandardScheme();
+    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsStandardScheme getScheme() {
+        return new unlockBlock_argsStandardScheme();
       }
     }
 
-    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
+    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9873,15 +11989,7 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // BLOCK_ID
+            case 1: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
                 struct.blockId = iprot.readI64();
                 struct.setBlockIdIsSet(true);
@@ -9889,10 +11997,10 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // REQUEST_BYTES
+            case 2: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.requestBytes = iprot.readI64();
-                struct.setRequestBytesIsSet(true);
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9908,18 +12016,15 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.requestBytes);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -9927,79 +12032,66 @@ public class WorkerService {
 
     }
 
-    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_argsTupleScheme getScheme() {
-        return new requestSpace_argsTupleScheme();
+    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsTupleScheme getScheme() {
+        return new unlockBlock_argsTupleScheme();
       }
     }
 
-    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
+    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUserId()) {
-          optionals.set(0);
-        }
         if (struct.isSetBlockId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetRequestBytes()) {
-          optionals.set(2);
+          optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 3);
         if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
+          optionals.set(1);
         }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetRequestBytes()) {
-          oprot.writeI64(struct.requestBytes);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.requestBytes = iprot.readI64();
-          struct.setRequestBytesIsSet(true);
+        if (incoming.get(1)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
+  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
     }
 
     public boolean success; // required
-    public FileDoesNotExistException eP; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E_P((short)1, "eP");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10016,8 +12108,6 @@ public class WorkerService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_P
-            return E_P;
           default:
             return null;
         }
@@ -10065,52 +12155,44 @@ public class WorkerService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
     }
 
-    public requestSpace_result() {
+    public unlockBlock_result() {
     }
 
-    public requestSpace_result(
-      boolean success,
-      FileDoesNotExistException eP)
+    public unlockBlock_result(
+      boolean success)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
-      this.eP = eP;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_result(requestSpace_result other) {
+    public unlockBlock_result(unlockBlock_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
-      if (other.isSetEP()) {
-        this.eP = new FileDoesNotExistException(other.eP);
-      }
     }
 
-    public requestSpace_result deepCopy() {
-      return new requestSpace_result(this);
+    public unlockBlock_result deepCopy() {
+      return new unlockBlock_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
       this.success = false;
-      this.eP = null;
     }
 
     public boolean isSuccess() {
       return this.success;
     }
 
-    public requestSpace_result setSuccess(boolean success) {
+    public unlockBlock_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -10120,37 +12202,13 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public FileDoesNotExistException getEP() {
-      return this.eP;
-    }
-
-    public requestSpace_result setEP(FileDoesNotExistException eP) {
-      this.eP = eP;
-      return this;
-    }
-
-    public void unsetEP() {
-      this.eP = null;
-    }
-
-    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
-    public boolean isSetEP() {
-      return this.eP != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
-    public void setEPIsSet(boolean value) {
-      if (!value) {
-        this.eP = null;
-      }
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -10163,14 +12221,6 @@ public class WorkerService {
         }
         break;
 
-      case E_P:
-        if (value == null) {
-          unsetEP();
-        } else {
-          setEP((FileDoesNotExistException)value);
-        }
-        break;
-
       }
     }
 
@@ -10179,9 +12229,6 @@ public class WorkerService {
       case SUCCESS:
         return Boolean.valueOf(isSuccess());
 
-      case E_P:
-        return getEP();
-
       }
       throw new IllegalStateException();
     }
@@ -10195,8 +12242,6 @@ public class WorkerService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_P:
-        return isSetEP();
       }
       throw new IllegalStateException();
     }
@@ -10205,12 +12250,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_result)
-        return this.equals((requestSpace_result)that);
+      if (that instanceof unlockBlock_result)
+        return this.equals((unlockBlock_result)that);
       return false;
     }
 
-    public boolean equals(requestSpace_result that) {
+    public boolean equals(unlockBlock_result that) {
       if (that == null)
         return false;
 
@@ -10223,15 +12268,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_eP = true && this.isSetEP();
-      boolean that_present_eP = true && that.isSetEP();
-      if (this_present_eP || that_present_eP) {
-        if (!(this_present_eP && that_present_eP))
-          return false;
-        if (!this.eP.equals(that.eP))
-          return false;
-      }
-
       return true;
     }
 
@@ -10241,7 +12277,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestSpace_result other) {
+    public int compareTo(unlockBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10258,16 +12294,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEP()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -10285,20 +12311,12 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_result(");
+      StringBuilder sb = new StringBuilder("unlockBlock_result(");
       boolean first = true;
 
       sb.append("success:");
       sb.append(this.success);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("eP:");
-      if (this.eP == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eP);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10326,15 +12344,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_resultStandardScheme getScheme() {
-        return new requestSpace_resultStandardScheme();
+    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultStandardScheme getScheme() {
+        return new unlockBlock_resultStandardScheme();
       }
     }
 
-    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
+    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10352,15 +12370,6 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_P
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new FileDoesNotExistException();
-                struct.eP.read(iprot);
-                struct.setEPIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10372,7 +12381,7 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10381,81 +12390,68 @@ public class WorkerService {
           oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
-        if (struct.eP != null) {
-          oprot.writeFieldBegin(E_P_FIELD_DESC);
-          struct.eP.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_resultTupleScheme getScheme() {
-        return new requestSpace_resultTupleScheme();
+    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultTupleScheme getScheme() {
+        return new unlockBlock_resultTupleScheme();
       }
     }
 
-    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
+    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEP()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
           oprot.writeBool(struct.success);
         }
-        if (struct.isSetEP()) {
-          struct.eP.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.eP = new FileDoesNotExistException();
-          struct.eP.read(iprot);
-          struct.setEPIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
+  public static class userBlockReport_args implements org.apache.thrift.TBase<userBlockReport_args, userBlockReport_args._Fields>, java.io.Serializable, Cloneable, Comparable<userBlockReport_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("userBlockReport_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField ACCESSED_BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("accessedBlockIds", org.apache.thrift.protocol.TType.LIST, (short)2);
+    private static final org.apache.thrift.protocol.TField UNLOCKED_BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("unlockedBlockIds", org.apache.thrift.protocol.TType.LIST, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new userBlockReport_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new userBlockReport_argsTupleSchemeFactory());
     }
 
-    public long blockId; // required
     public long userId; // required
+    public List<Long> accessedBlockIds; // required
+    public List<Long> unlockedBlockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId"),
-      USER_ID((short)2, "userId");
+      USER_ID((short)1, "userId"),
+      ACCESSED_BLOCK_IDS((short)2, "accessedBlockIds"),
+      UNLOCKED_BLOCK_IDS((short)3, "unlockedBlockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10470,10 +12466,12 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
-          case 2: // USER_ID
+          case 1: // USER_ID
             return USER_ID;
+          case 2: // ACCESSED_BLOCK_IDS
+            return ACCESSED_BLOCK_IDS;
+          case 3: // UNLOCKED_BLOCK_IDS
+            return UNLOCKED_BLOCK_IDS;
           default:
             return null;
         }
@@ -10514,83 +12512,71 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
-    private static final int __USERID_ISSET_ID = 1;
+    private static final int __USERID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.ACCESSED_BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("accessedBlockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      tmpMap.put(_Fields.UNLOCKED_BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("unlockedBlockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(userBlockReport_args.class, metaDataMap);
     }
 
-    public unlockBlock_args() {
+    public userBlockReport_args() {
     }
 
-    public unlockBlock_args(
-      long blockId,
-      long userId)
+    public userBlockReport_args(
+      long userId,
+      List<Long> accessedBlockIds,
+      List<Long> unlockedBlockIds)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
       this.userId = userId;
       setUserIdIsSet(true);
+      this.accessedBlockIds = accessedBlockIds;
+      this.unlockedBlockIds = unlockedBlockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_args(unlockBlock_args other) {
+    public userBlockReport_args(userBlockReport_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
       this.userId = other.userId;
+      if (other.isSetAccessedBlockIds()) {
+        List<Long> __this__accessedBlockIds = new ArrayList<Long>(other.accessedBlockIds);
+        this.accessedBlockIds = __this__accessedBlockIds;
+      }
+      if (other.isSetUnlockedBlockIds()) {
+        List<Long> __this__unlockedBlockIds = new ArrayList<Long>(other.unlockedBlockIds);
+        this.unlockedBlockIds = __this__unlockedBlockIds;
+      }
     }
 
-    public unlockBlock_args deepCopy() {
-      return new unlockBlock_args(this);
+    public userBlockReport_args deepCopy() {
+      return new userBlockReport_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
       setUserIdIsSet(false);
       this.userId = 0;
-    }
-
-    public long getBlockId() {
-      return this.blockId;
-    }
-
-    public unlockBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
-      return this;
-    }
-
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
-    }
-
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
-    }
-
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+      this.accessedBlockIds = null;
+      this.unlockedBlockIds = null;
     }
 
     public long getUserId() {
       return this.userId;
     }
 
-    public unlockBlock_args setUserId(long userId) {
+    public userBlockReport_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -10609,21 +12595,107 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
+    public int getAccessedBlockIdsSize() {
+      return (this.accessedBlockIds == null) ? 0 : this.accessedBlockIds.size();
+    }
+
+    public java.util.Iterator<Long> getAccessedBlockIdsIterator() {
+      return (this.accessedBlockIds == null) ? null : this.accessedBlockIds.iterator();
+    }
+
+    public void addToAccessedBlockIds(long elem) {
+      if (this.accessedBlockIds == null) {
+        this.accessedBlockIds = new ArrayList<Long>();
+      }
+      this.accessedBlockIds.add(elem);
+    }
+
+    public List<Long> getAccessedBlockIds() {
+      return this.accessedBlockIds;
+    }
+
+    public userBlockReport_args setAccessedBlockIds(List<Long> accessedBlockIds) {
+      this.accessedBlockIds = accessedBlockIds;
+      return this;
+    }
+
+    public void unsetAccessedBlockIds() {
+      this.accessedBlockIds = null;
+    }
+
+    /** Returns true if field accessedBlockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetAccessedBlockIds() {
+      return this.accessedBlockIds != null;
+    }
+
+    public void setAccessedBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.accessedBlockIds = null;
+      }
+    }
+
+    public int getUnlockedBlockIdsSize() {
+      return (this.unlockedBlockIds == null) ? 0 : this.unlockedBlockIds.size();
+    }
+
+    public java.util.Iterator<Long> getUnlockedBlockIdsIterator() {
+      return (this.unlockedBlockIds == null) ? null : this.unlockedBlockIds.iterator();
+    }
+
+    public void addToUnlockedBlockIds(long elem) {
+      if (this.unlockedBlockIds == null) {
+        this.unlockedBlockIds = new ArrayList<Long>();
+      }
+      this.unlockedBlockIds.add(elem);
+    }
+
+    public List<Long> getUnlockedBlockIds() {
+      return this.unlockedBlockIds;
+    }
+
+    public userBlockReport_args setUnlockedBlockIds(List<Long> unlockedBlockIds) {
+      this.unlockedBlockIds = unlockedBlockIds;
+      return this;
+    }
+
+    public void unsetUnlockedBlockIds() {
+      this.unlockedBlockIds = null;
+    }
+
+    /** Returns true if field unlockedBlockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetUnlockedBlockIds() {
+      return this.unlockedBlockIds != null;
+    }
+
+    public void setUnlockedBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.unlockedBlockIds = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case BLOCK_ID:
+      case USER_ID:
         if (value == null) {
-          unsetBlockId();
+          unsetUserId();
         } else {
-          setBlockId((Long)value);
+          setUserId((Long)value);
         }
         break;
 
-      case USER_ID:
+      case ACCESSED_BLOCK_IDS:
         if (value == null) {
-          unsetUserId();
+          unsetAccessedBlockIds();
         } else {
-          setUserId((Long)value);
+          setAccessedBlockIds((List<Long>)value);
+        }
+        break;
+
+      case UNLOCKED_BLOCK_IDS:
+        if (value == null) {
+          unsetUnlockedBlockIds();
+        } else {
+          setUnlockedBlockIds((List<Long>)value);
         }
         break;
 
@@ -10632,12 +12704,15 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
-
       case USER_ID:
         return Long.valueOf(getUserId());
 
+      case ACCESSED_BLOCK_IDS:
+        return getAccessedBlockIds();
+
+      case UNLOCKED_BLOCK_IDS:
+        return getUnlockedBlockIds();
+
       }
       throw new IllegalStateException();
     }
@@ -10649,35 +12724,28 @@ public class WorkerService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
       case USER_ID:
         return isSetUserId();
+      case ACCESSED_BLOCK_IDS:
+        return isSetAccessedBlockIds();
+      case UNLOCKED_BLOCK_IDS:
+        return isSetUnlockedBlockIds();
       }
       throw new IllegalStateException();
     }
 
     @Override
-    public boolean equals(Object that) {
-      if (that == null)
-        return false;
-      if (that instanceof unlockBlock_args)
-        return this.equals((unlockBlock_args)that);
-      return false;
-    }
-
-    public boolean equals(unlockBlock_args that) {
-      if (that == null)
-        return false;
-
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
-          return false;
-        if (this.blockId != that.blockId)
-          return false;
-      }
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof userBlockReport_args)
+        return this.equals((userBlockReport_args)that);
+      return false;
+    }
+
+    public boolean equals(userBlockReport_args that) {
+      if (that == null)
+        return false;
 
       boolean this_present_userId = true;
       boolean that_present_userId = true;
@@ -10688,6 +12756,24 @@ public class WorkerService {
           return false;
       }
 
+      boolean this_present_accessedBlockIds = true && this.isSetAccessedBlockIds();
+      boolean that_present_accessedBlockIds = true && that.isSetAccessedBlockIds();
+      if (this_present_accessedBlockIds || that_present_accessedBlockIds) {
+        if (!(this_present_accessedBlockIds && that_present_accessedBlockIds))
+          return false;
+        if (!this.accessedBlockIds.equals(that.accessedBlockIds))
+          return false;
+      }
+
+      boolean this_present_unlockedBlockIds = true && this.isSetUnlockedBlockIds();
+      boolean that_present_unlockedBlockIds = true && that.isSetUnlockedBlockIds();
+      if (this_present_unlockedBlockIds || that_present_unlockedBlockIds) {
+        if (!(this_present_unlockedBlockIds && that_present_unlockedBlockIds))
+          return false;
+        if (!this.unlockedBlockIds.equals(that.unlockedBlockIds))
+          return false;
+      }
+
       return true;
     }
 
@@ -10697,29 +12783,39 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(unlockBlock_args other) {
+    public int compareTo(userBlockReport_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      lastComparison = Boolean.valueOf(isSetAccessedBlockIds()).compareTo(other.isSetAccessedBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+      if (isSetAccessedBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.accessedBlockIds, other.accessedBlockIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetUnlockedBlockIds()).compareTo(other.isSetUnlockedBlockIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUnlockedBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.unlockedBlockIds, other.unlockedBlockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10741,16 +12837,28 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_args(");
+      StringBuilder sb = new StringBuilder("userBlockReport_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("userId:");
       sb.append(this.userId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("accessedBlockIds:");
+      if (this.accessedBlockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.accessedBlockIds);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("unlockedBlockIds:");
+      if (this.unlockedBlockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.unlockedBlockIds);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10778,15 +12886,15 @@ public class WorkerService {
       }
     }
 
-    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsStandardScheme getScheme() {
-        return new unlockBlock_argsStandardScheme();
+    private static class userBlockReport_argsStandardSchemeFactory implements SchemeFactory {
+      public userBlockReport_argsStandardScheme getScheme() {
+        return new userBlockReport_argsStandardScheme();
       }
     }
 
-    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
+    private static class userBlockReport_argsStandardScheme extends StandardScheme<userBlockReport_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, userBlockReport_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10796,18 +12904,46 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
+            case 2: // ACCESSED_BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.accessedBlockIds = new ArrayList<Long>(_list0.size);
+                  for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+                  {
+                    long _elem2;
+                    _elem2 = iprot.readI64();
+                    struct.accessedBlockIds.add(_elem2);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setAccessedBlockIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // UNLOCKED_BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list3 = iprot.readListBegin();
+                  struct.unlockedBlockIds = new ArrayList<Long>(_list3.size);
+                  for (int _i4 = 0; _i4 < _list3.size; ++_i4)
+                  {
+                    long _elem5;
+                    _elem5 = iprot.readI64();
+                    struct.unlockedBlockIds.add(_elem5);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setUnlockedBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10823,82 +12959,141 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, userBlockReport_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(USER_ID_FIELD_DESC);
         oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
+        if (struct.accessedBlockIds != null) {
+          oprot.writeFieldBegin(ACCESSED_BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.accessedBlockIds.size()));
+            for (long _iter6 : struct.accessedBlockIds)
+            {
+              oprot.writeI64(_iter6);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.unlockedBlockIds != null) {
+          oprot.writeFieldBegin(UNLOCKED_BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.unlockedBlockIds.size()));
+            for (long _iter7 : struct.unlockedBlockIds)
+            {
+              oprot.writeI64(_iter7);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsTupleScheme getScheme() {
-        return new unlockBlock_argsTupleScheme();
+    private static class userBlockReport_argsTupleSchemeFactory implements SchemeFactory {
+      public userBlockReport_argsTupleScheme getScheme() {
+        return new userBlockReport_argsTupleScheme();
       }
     }
 
-    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
+    private static class userBlockReport_argsTupleScheme extends TupleScheme<userBlockReport_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, userBlockReport_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetUserId()) {
           optionals.set(0);
         }
-        if (struct.isSetUserId()) {
+        if (struct.isSetAccessedBlockIds()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetUnlockedBlockIds()) {
+          optionals.set(2);
         }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetUserId()) {
           oprot.writeI64(struct.userId);
         }
+        if (struct.isSetAccessedBlockIds()) {
+          {
+            oprot.writeI32(struct.accessedBlockIds.size());
+            for (long _iter8 : struct.accessedBlockIds)
+            {
+              oprot.writeI64(_iter8);
+            }
+          }
+        }
+        if (struct.isSetUnlockedBlockIds()) {
+          {
+            oprot.writeI32(struct.unlockedBlockIds.size());
+            for (long _iter9 : struct.unlockedBlockIds)
+            {
+              oprot.writeI64(_iter9);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, userBlockReport_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.userId = iprot.readI64();
           struct.setUserIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list10 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.accessedBlockIds = new ArrayList<Long>(_list10.size);
+            for (int _i11 = 0; _i11 < _list10.size; ++_i11)
+            {
+              long _elem12;
+              _elem12 = iprot.readI64();
+              struct.accessedBlockIds.add(_elem12);
+            }
+          }
+          struct.setAccessedBlockIdsIsSet(true);
+        }
+        if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.unlockedBlockIds = new ArrayList<Long>(_list13.size);
+            for (int _i14 = 0; _i14 < _list13.size; ++_i14)
+            {
+              long _elem15;
+              _elem15 = iprot.readI64();
+              struct.unlockedBlockIds.add(_elem15);
+            }
+          }
+          struct.setUnlockedBlockIdsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
+  public static class userBlockReport_result implements org.apache.thrift.TBase<userBlockReport_result, userBlockReport_result._Fields>, java.io.Serializable, Cloneable, Comparable<userBlockReport_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("userBlockReport_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new userBlockReport_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new userBlockReport_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10913,8 +13108,6 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -10953,89 +13146,37 @@ public class WorkerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(userBlockReport_result.class, metaDataMap);
     }
 
-    public unlockBlock_result() {
-    }
-
-    public unlockBlock_result(
-      boolean success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public userBlockReport_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_result(unlockBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public userBlockReport_result(userBlockReport_result other) {
     }
 
-    public unlockBlock_result deepCopy() {
-      return new unlockBlock_result(this);
+    public userBlockReport_result deepCopy() {
+      return new userBlockReport_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public unlockBlock_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
       }
       throw new IllegalStateException();
     }
@@ -11047,8 +13188,6 @@ public class WorkerService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -11057,24 +13196,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof unlockBlock_result)
-        return this.equals((unlockBlock_result)that);
+      if (that instanceof userBlockReport_result)
+        return this.equals((userBlockReport_result)that);
       return false;
     }
 
-    public boolean equals(unlockBlock_result that) {
+    public boolean equals(userBlockReport_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       return true;
     }
 
@@ -11084,23 +13214,13 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(unlockBlock_result other) {
+    public int compareTo(userBlockReport_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -11118,12 +13238,9 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_result(");
+      StringBuilder sb = new StringBuilder("userBlockReport_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11143,23 +13260,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultStandardScheme getScheme() {
-        return new unlockBlock_resultStandardScheme();
+    private static class userBlockReport_resultStandardSchemeFactory implements SchemeFactory {
+      public userBlockReport_resultStandardScheme getScheme() {
+        return new userBlockReport_resultStandardScheme();
       }
     }
 
-    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
+    private static class userBlockReport_resultStandardScheme extends StandardScheme<userBlockReport_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, userBlockReport_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11169,14 +13284,6 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11188,55 +13295,38 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, userBlockReport_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultTupleScheme getScheme() {
-        return new unlockBlock_resultTupleScheme();
+    private static class userBlockReport_resultTupleSchemeFactory implements SchemeFactory {
+      public userBlockReport_resultTupleScheme getScheme() {
+        return new userBlockReport_resultTupleScheme();
       }
     }
 
-    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
+    private static class userBlockReport_resultTupleScheme extends TupleScheme<userBlockReport_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, userBlockReport_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, userBlockReport_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
   }
 
+
   public static class userHeartbeat_args implements org.apache.thrift.TBase<userHeartbeat_args, userHeartbeat_args._Fields>, java.io.Serializable, Cloneable, Comparable<userHeartbeat_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("userHeartbeat_args");
 
@@ -25,7 +25,9 @@ import java.net.ServerSocket;
 import java.net.UnknownHostException;
 import java.util.Enumeration;
 
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -146,24 +148,25 @@ public final class NetworkUtils {
 
   /**
    * Gets the port for the underline socket. This function calls
-   * {@link #getSocket(org.apache.thrift.transport.TServerSocket)}, so reflection will be
+   * {@link #getSocket(org.apache.thrift.transport.TServerTransport)}, so reflection will be
    * used to get the port.
    * 
-   * @see #getSocket(org.apache.thrift.transport.TServerSocket)
+   * @see #getSocket(org.apache.thrift.transport.TServerTransport)
    */
-  public static int getPort(TServerSocket thriftSocket) {
+  public static int getPort(TServerTransport thriftSocket) {
     return getSocket(thriftSocket).getLocalPort();
   }
 
   /**
-   * Extracts the port from the thrift socket. As of thrift 0.9, the internal socket used is not
-   * exposed in the API, so this function will use reflection to get access to it.
+   * Extracts the socket from the thrift server transport, a {@link TServerSocket} or a
+   * {@link TNonblockingServerSocket}. As of thrift 0.9, the internal socket used is not exposed in
+   * the API, so this function will use reflection to get access to it.
    * 
    * @throws java.lang.RuntimeException if reflection calls fail
    */
-  public static ServerSocket getSocket(final TServerSocket thriftSocket) {
+  public static ServerSocket getSocket(final TServerTransport thriftSocket) {
     try {
-      Field field = TServerSocket.class.getDeclaredField("serverSocket_");
+      Field field = thriftSocket.getClass().getDeclaredField("serverSocket_");
       field.setAccessible(true);
       return (ServerSocket) field.get(thriftSocket);
     } catch (NoSuchFieldException e) {
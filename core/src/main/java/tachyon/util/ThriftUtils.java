@@ -0,0 +1,98 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TProcessorFactory;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+import tachyon.RpcServerType;
+
+/**
+ * Builds the thrift servers of the master and the worker.
+ */
+public final class ThriftUtils {
+  /** Seconds an idle handler thread of a selector server waits for work before exiting */
+  private static final long HANDLER_KEEP_ALIVE_SEC = 60;
+
+  private ThriftUtils() {}
+
+  /**
+   * Creates the server transport listening on the address.
+   *
+   * @param type the type of the server which will use the transport
+   * @param address the address to listen on, port 0 picks any free port
+   * @return a {@link TNonblockingServerSocket} for the selector server, a {@link TServerSocket}
+   *         otherwise
+   * @throws TTransportException
+   */
+  public static TServerTransport createServerTransport(RpcServerType type,
+      InetSocketAddress address) throws TTransportException {
+    if (type == RpcServerType.SELECTOR) {
+      return new TNonblockingServerSocket(address);
+    }
+    return new TServerSocket(address);
+  }
+
+  /**
+   * Creates the server. A thread pool server runs between minThreads and maxThreads threads, one
+   * per connection. A selector server serves all the connections from selectorThreads threads and
+   * runs the requests on at most maxThreads handler threads, which exit when idle. The selector
+   * server cannot run the SASL handshake, so it only serves NOSASL clients.
+   *
+   * @param type the type of the server
+   * @param serverTransport the transport from {@link #createServerTransport}
+   * @param processorFactory the processor of the service
+   * @param transportFactory the transport of the thread pool server, the selector server always
+   *        reads framed messages
+   * @param minThreads the min number of threads of the thread pool server
+   * @param maxThreads the max number of threads serving requests
+   * @param selectorThreads the number of selector threads of the selector server
+   * @param threadName name pattern of the handler threads of the selector server
+   * @return the server, not serving yet
+   */
+  public static TServer createServer(RpcServerType type, TServerTransport serverTransport,
+      TProcessorFactory processorFactory, TTransportFactory transportFactory, int minThreads,
+      int maxThreads, int selectorThreads, String threadName) {
+    if (type == RpcServerType.SELECTOR) {
+      ThreadPoolExecutor handlers =
+          new ThreadPoolExecutor(maxThreads, maxThreads, HANDLER_KEEP_ALIVE_SEC, TimeUnit.SECONDS,
+              new LinkedBlockingQueue<Runnable>(), ThreadFactoryUtils.build(threadName));
+      handlers.allowCoreThreadTimeOut(true);
+      return new TThreadedSelectorServer(new TThreadedSelectorServer.Args(
+          (TNonblockingServerTransport) serverTransport).selectorThreads(selectorThreads)
+          .executorService(handlers).processorFactory(processorFactory)
+          .protocolFactory(new TBinaryProtocol.Factory(true, true)));
+    }
+    return new TThreadPoolServer(new TThreadPoolServer.Args(serverTransport)
+        .minWorkerThreads(minThreads).maxWorkerThreads(maxThreads)
+        .processorFactory(processorFactory).transportFactory(transportFactory)
+        .protocolFactory(new TBinaryProtocol.Factory(true, true)));
+  }
+}
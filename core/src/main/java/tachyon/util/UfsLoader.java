@@ -0,0 +1,421 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.PrefixList;
+import tachyon.TachyonURI;
+import tachyon.UnderFileSystem;
+import tachyon.client.TachyonFS;
+import tachyon.conf.TachyonConf;
+import tachyon.thrift.ClientFileInfo;
+
+/**
+ * Loads the metadata of an under file system tree into Tachyon. The directories are listed by a
+ * pool of threads, and the files of a directory are created in batches with one RPC per batch.
+ *
+ * When a progress file is given, the loader appends the under file system path of every directory
+ * whose whole subtree has been loaded to it. A later load with the same progress file skips these
+ * directories, so an interrupted load resumes where it stopped.
+ */
+public final class UfsLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  private static final long REPORT_INTERVAL_MS = 10 * Constants.SECOND_MS;
+
+  /**
+   * The outcome of a load.
+   */
+  public static final class Report {
+    private final long mLoadedFiles;
+    private final long mExistingFiles;
+    private final long mDirectories;
+    private final long mSkippedDirectories;
+    private final long mElapsedMs;
+
+    private Report(long loadedFiles, long existingFiles, long directories,
+        long skippedDirectories, long elapsedMs) {
+      mLoadedFiles = loadedFiles;
+      mExistingFiles = existingFiles;
+      mDirectories = directories;
+      mSkippedDirectories = skippedDirectories;
+      mElapsedMs = elapsedMs;
+    }
+
+    /**
+     * @return the number of files created in Tachyon
+     */
+    public long getLoadedFiles() {
+      return mLoadedFiles;
+    }
+
+    /**
+     * @return the number of files which already existed in Tachyon
+     */
+    public long getExistingFiles() {
+      return mExistingFiles;
+    }
+
+    /**
+     * @return the number of directories listed
+     */
+    public long getDirectories() {
+      return mDirectories;
+    }
+
+    /**
+     * @return the number of directories skipped because the progress file has them
+     */
+    public long getSkippedDirectories() {
+      return mSkippedDirectories;
+    }
+
+    /**
+     * @return the duration of the load in milliseconds
+     */
+    public long getElapsedMs() {
+      return mElapsedMs;
+    }
+
+    /**
+     * @return the number of files created per second
+     */
+    public double getFilesPerSec() {
+      return mLoadedFiles * 1000.0 / Math.max(1, mElapsedMs);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Loaded %d files (%d already existed) from %d directories (%d skipped) "
+          + "in %d ms, %.1f files/sec", mLoadedFiles, mExistingFiles, mDirectories,
+          mSkippedDirectories, mElapsedMs, getFilesPerSec());
+    }
+  }
+
+  /**
+   * A directory being loaded. It is done when its files and all its subdirectories are.
+   */
+  private final class Directory {
+    private final TachyonURI mUfsPath;
+    private final Directory mParent;
+    /** The directory itself plus its subdirectories which are not done */
+    private final AtomicInteger mPending = new AtomicInteger(1);
+
+    private Directory(TachyonURI ufsPath, Directory parent) {
+      mUfsPath = ufsPath;
+      mParent = parent;
+    }
+  }
+
+  private final TachyonFS mTfs;
+  private final UnderFileSystem mUfs;
+  private final TachyonURI mTachyonPath;
+  private final TachyonURI mUfsAddrRootPath;
+  private final PrefixList mExcludePathPrefix;
+  private final int mThreads;
+  private final int mBatchSize;
+  private final String mProgressFile;
+
+  private final Set<String> mDoneDirectories = new HashSet<String>();
+  private Writer mProgressWriter = null;
+  private ExecutorService mListers;
+  /** Number of submitted directories which are not processed yet */
+  private final AtomicInteger mQueuedDirectories = new AtomicInteger(0);
+  private final CountDownLatch mIdle = new CountDownLatch(1);
+  private final AtomicReference<IOException> mFailure = new AtomicReference<IOException>();
+
+  private final AtomicLong mLoadedFiles = new AtomicLong(0);
+  private final AtomicLong mExistingFiles = new AtomicLong(0);
+  private final AtomicLong mDirectories = new AtomicLong(0);
+  private final AtomicLong mSkippedDirectories = new AtomicLong(0);
+
+  /**
+   * @param tfs the Tachyon client
+   * @param ufs the under file system holding ufsAddrRootPath
+   * @param tachyonPath the destination of the load in Tachyon, which must exist
+   * @param ufsAddrRootPath the address and root path of the under FS, like "hdfs://host:port/dir"
+   * @param excludePathPrefix paths relative to ufsAddrRootPath which are not loaded
+   * @param progressFile the local file recording the progress of the load, null not to record it
+   * @param tachyonConf the configuration of the load
+   */
+  public UfsLoader(TachyonFS tfs, UnderFileSystem ufs, TachyonURI tachyonPath,
+      TachyonURI ufsAddrRootPath, PrefixList excludePathPrefix, String progressFile,
+      TachyonConf tachyonConf) {
+    mTfs = tfs;
+    mUfs = ufs;
+    mTachyonPath = tachyonPath;
+    mUfsAddrRootPath = ufsAddrRootPath;
+    mExcludePathPrefix = excludePathPrefix;
+    mProgressFile = progressFile;
+    mThreads = Math.max(1, tachyonConf.getInt(Constants.USER_UFS_LOAD_THREADS, 8));
+    mBatchSize = Math.max(1, tachyonConf.getInt(Constants.USER_UFS_LOAD_BATCH_SIZE, 1000));
+  }
+
+  /**
+   * Loads the tree, and waits for it to be loaded.
+   *
+   * @return the report of the load
+   * @throws IOException if listing the under file system or creating the files fails
+   */
+  public Report load() throws IOException {
+    long startMs = System.currentTimeMillis();
+    openProgress();
+    mListers = Executors.newFixedThreadPool(mThreads, ThreadFactoryUtils.daemon("ufs-load-%d"));
+    try {
+      if (mUfs.isFile(mUfsAddrRootPath.toString())) {
+        List<TachyonURI> file = new ArrayList<TachyonURI>(1);
+        file.add(mUfsAddrRootPath);
+        createFiles(file);
+      } else {
+        submit(new Directory(mUfsAddrRootPath, null));
+        waitForDirectories(startMs);
+      }
+    } finally {
+      mListers.shutdownNow();
+      closeProgress();
+    }
+    if (mFailure.get() != null) {
+      throw mFailure.get();
+    }
+    Report report = report(startMs);
+    LOG.info(report.toString());
+    return report;
+  }
+
+  private void waitForDirectories(long startMs) throws IOException {
+    try {
+      while (!mIdle.await(REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+        LOG.info(report(startMs) + ", " + mQueuedDirectories.get() + " directories queued");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while loading " + mUfsAddrRootPath, e);
+    }
+  }
+
+  private Report report(long startMs) {
+    return new Report(mLoadedFiles.get(), mExistingFiles.get(), mDirectories.get(),
+        mSkippedDirectories.get(), System.currentTimeMillis() - startMs);
+  }
+
+  private void submit(final Directory dir) {
+    mQueuedDirectories.incrementAndGet();
+    mListers.submit(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          if (mFailure.get() == null) {
+            loadDirectory(dir);
+          }
+        } catch (IOException e) {
+          LOG.error("Failed to load " + dir.mUfsPath, e);
+          mFailure.compareAndSet(null, e);
+        } finally {
+          if (mQueuedDirectories.decrementAndGet() == 0) {
+            mIdle.countDown();
+          }
+        }
+      }
+    });
+  }
+
+  /**
+   * Lists a directory, queues its subdirectories and creates its files.
+   */
+  private void loadDirectory(Directory dir) throws IOException {
+    String ufsPath = dir.mUfsPath.toString();
+    if (isDone(ufsPath)) {
+      LOG.info("Skipping " + ufsPath + " which was loaded before");
+      mSkippedDirectories.incrementAndGet();
+      finish(dir, false);
+      return;
+    }
+
+    LOG.info("Loading: " + ufsPath);
+    mDirectories.incrementAndGet();
+    List<TachyonURI> files = new ArrayList<TachyonURI>();
+    // ufs.list() returns relative paths
+    String[] children = mUfs.list(ufsPath);
+    if (children != null) {
+      for (String child : children) {
+        String aPath = CommonUtils.concat(dir.mUfsPath, child);
+        String checkPath = aPath.substring(mUfsAddrRootPath.toString().length());
+        if (checkPath.startsWith(TachyonURI.SEPARATOR)) {
+          checkPath = checkPath.substring(TachyonURI.SEPARATOR.length());
+        }
+        if (mExcludePathPrefix.inList(checkPath)) {
+          LOG.info("excluded: " + checkPath);
+        } else if (mUfs.isFile(aPath)) {
+          files.add(new TachyonURI(aPath));
+        } else {
+          dir.mPending.incrementAndGet();
+          submit(new Directory(new TachyonURI(aPath), dir));
+        }
+      }
+    }
+
+    if (files.isEmpty()) {
+      // Files create their parent folders, only a folder without files has to be created
+      mTfs.mkdir(getTachyonDirectoryPath(dir.mUfsPath));
+    }
+    for (int start = 0; start < files.size(); start += mBatchSize) {
+      createFiles(files.subList(start, Math.min(files.size(), start + mBatchSize)));
+    }
+    finish(dir, true);
+  }
+
+  /**
+   * Marks a directory itself done, and records the directories whose whole subtree is done.
+   */
+  private void finish(Directory dir, boolean record) throws IOException {
+    while (dir != null && dir.mPending.decrementAndGet() == 0) {
+      if (record) {
+        recordDone(dir.mUfsPath.toString());
+      }
+      // The parent has to be recorded even if this subtree was skipped
+      record = true;
+      dir = dir.mParent;
+    }
+  }
+
+  /**
+   * Creates the files of the given under file system paths which are not in Tachyon yet, with one
+   * RPC to check them and one RPC to create them.
+   */
+  private void createFiles(List<TachyonURI> ufsPaths) throws IOException {
+    List<TachyonURI> tfsPaths = new ArrayList<TachyonURI>(ufsPaths.size());
+    for (TachyonURI ufsPath : ufsPaths) {
+      tfsPaths.add(UfsUtils.buildTFSPath(mTachyonPath, mUfsAddrRootPath, ufsPath));
+    }
+    List<ClientFileInfo> infos = mTfs.getFileStatus(tfsPaths);
+
+    List<TachyonURI> newTfsPaths = new ArrayList<TachyonURI>();
+    List<TachyonURI> newUfsPaths = new ArrayList<TachyonURI>();
+    List<Long> lengths = new ArrayList<Long>();
+    List<Long> blockSizeBytes = new ArrayList<Long>();
+    for (int k = 0; k < tfsPaths.size(); k ++) {
+      if (infos.get(k) != null) {
+        LOG.info("File " + tfsPaths.get(k) + " already exists in Tachyon.");
+        mExistingFiles.incrementAndGet();
+        continue;
+      }
+      String ufsPath = ufsPaths.get(k).toString();
+      newTfsPaths.add(tfsPaths.get(k));
+      newUfsPaths.add(ufsPaths.get(k));
+      lengths.add(mUfs.getFileSize(ufsPath));
+      blockSizeBytes.add(mUfs.getBlockSizeByte(ufsPath));
+    }
+    if (newTfsPaths.isEmpty()) {
+      return;
+    }
+
+    try {
+      mTfs.createCheckpointedFiles(newTfsPaths, newUfsPaths, lengths, blockSizeBytes, true);
+      mLoadedFiles.addAndGet(newTfsPaths.size());
+    } catch (IOException e) {
+      // Another client may have created some of the files meanwhile, retry them one by one
+      LOG.warn("Failed to create " + newTfsPaths.size() + " files in one batch: " + e.getMessage());
+      for (int k = 0; k < newTfsPaths.size(); k ++) {
+        createFile(newTfsPaths.get(k), newUfsPaths.get(k));
+      }
+    }
+  }
+
+  private void createFile(TachyonURI tfsPath, TachyonURI ufsPath) throws IOException {
+    if (mTfs.exist(tfsPath)) {
+      LOG.info("File " + tfsPath + " already exists in Tachyon.");
+      mExistingFiles.incrementAndGet();
+      return;
+    }
+    int fileId = mTfs.createFile(tfsPath, ufsPath);
+    if (fileId == -1) {
+      LOG.info("Failed to create tachyon file: " + tfsPath);
+    } else {
+      mLoadedFiles.incrementAndGet();
+      LOG.info("Create tachyon file " + tfsPath + " with file id " + fileId + " and "
+          + "checkpoint location " + ufsPath);
+    }
+  }
+
+  private TachyonURI getTachyonDirectoryPath(TachyonURI ufsPath) {
+    // ufsPath is a directory, so only concat the tfsRoot with the relative path
+    return new TachyonURI(CommonUtils.concat(mTachyonPath,
+        ufsPath.getPath().substring(mUfsAddrRootPath.getPath().length())));
+  }
+
+  private void openProgress() throws IOException {
+    if (mProgressFile == null) {
+      return;
+    }
+    File file = new File(mProgressFile);
+    if (file.exists()) {
+      BufferedReader reader = new BufferedReader(new FileReader(file));
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isEmpty()) {
+            mDoneDirectories.add(line);
+          }
+        }
+      } finally {
+        reader.close();
+      }
+      LOG.info("Resuming the load with " + mDoneDirectories.size() + " directories loaded in "
+          + mProgressFile);
+    }
+    mProgressWriter = new BufferedWriter(new FileWriter(file, true));
+  }
+
+  private synchronized boolean isDone(String ufsPath) {
+    return mDoneDirectories.contains(ufsPath);
+  }
+
+  private synchronized void recordDone(String ufsPath) throws IOException {
+    if (mProgressWriter != null && mDoneDirectories.add(ufsPath)) {
+      mProgressWriter.write(ufsPath);
+      mProgressWriter.write('\n');
+      mProgressWriter.flush();
+    }
+  }
+
+  private synchronized void closeProgress() throws IOException {
+    if (mProgressWriter != null) {
+      mProgressWriter.close();
+      mProgressWriter = null;
+    }
+  }
+}
@@ -17,8 +17,6 @@ package tachyon.util;
 
 import java.io.IOException;
 import java.net.UnknownHostException;
-import java.util.LinkedList;
-import java.util.Queue;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +44,7 @@ public class UfsUtils {
    * @param path the path in the under FS be loaded, path.startsWith(ufsRootPath) must be true
    * @return the new path relative to tfsRootPath.
    */
-  private static TachyonURI buildTFSPath(
+  static TachyonURI buildTFSPath(
       TachyonURI tfsRootPath, TachyonURI ufsRootPath, TachyonURI path) {
     String filePath = path.getPath().substring(ufsRootPath.getPath().length());
     if (filePath.isEmpty()) {
@@ -70,11 +68,31 @@ public class UfsUtils {
    */
   public static void loadUfs(TachyonURI tfsAddrRootPath, TachyonURI ufsAddrRootPath,
       String excludePaths, TachyonConf tachyonConf) throws IOException {
+    loadUfs(tfsAddrRootPath, ufsAddrRootPath, excludePaths, null, tachyonConf);
+  }
+
+  /**
+   * Load files under path "ufsAddrRootPath" (excluding excludePathPrefix relative to the path) to
+   * the given tfs under a given destination path, recording the progress of the load.
+   * 
+   * @param tfsAddrRootPath the mTachyonFS address and path to load the src files, like
+   *        "tachyon://host:port/dest".
+   * @param ufsAddrRootPath the address and root path of the under FS, like "hdfs://host:port/src".
+   * @param excludePaths paths to exclude from ufsRootPath, which will not be loaded in mTachyonFS.
+   * @param progressFile local file recording the loaded directories, a load with the same file
+   *        resumes after them. null not to record the progress.
+   * @param tachyonConf the instance of {@link tachyon.conf.TachyonConf} to be used.
+   * @return the report of the load
+   * @throws IOException
+   */
+  public static UfsLoader.Report loadUfs(TachyonURI tfsAddrRootPath, TachyonURI ufsAddrRootPath,
+      String excludePaths, String progressFile, TachyonConf tachyonConf) throws IOException {
     TachyonFS tfs = TachyonFS.get(tfsAddrRootPath, tachyonConf);
 
     PrefixList excludePathPrefix = new PrefixList(excludePaths, ";");
 
-    loadUnderFs(tfs, tfsAddrRootPath, ufsAddrRootPath, excludePathPrefix, tachyonConf);
+    return loadUnderFs(tfs, tfsAddrRootPath, ufsAddrRootPath, excludePathPrefix, progressFile,
+        tachyonConf);
   }
 
   /**
@@ -91,6 +109,27 @@ public class UfsUtils {
    */
   public static void loadUnderFs(TachyonFS tfs, TachyonURI tachyonPath, TachyonURI ufsAddrRootPath,
       PrefixList excludePathPrefix, TachyonConf tachyonConf) throws IOException {
+    loadUnderFs(tfs, tachyonPath, ufsAddrRootPath, excludePathPrefix, null, tachyonConf);
+  }
+
+  /**
+   * Load files under path "ufsAddress/ufsRootPath" (excluding excludePathPrefix) to the given tfs
+   * under the given tfsRootPath directory, with a {@link UfsLoader}.
+   * 
+   * @param tfs the mTachyonFS handler created out of address like "tachyon://host:port"
+   * @param tachyonPath the destination point in mTachyonFS to load the under FS path onto
+   * @param ufsAddrRootPath the address and root path of the under FS, like "hdfs://host:port/dir".
+   * @param excludePathPrefix paths to exclude from ufsRootPath, which will not be registered in
+   *        mTachyonFS.
+   * @param progressFile local file recording the loaded directories, a load with the same file
+   *        resumes after them. null not to record the progress.
+   * @param tachyonConf instance of TachyonConf
+   * @return the report of the load, null if the root path is excluded
+   * @throws IOException
+   */
+  public static UfsLoader.Report loadUnderFs(TachyonFS tfs, TachyonURI tachyonPath,
+      TachyonURI ufsAddrRootPath, PrefixList excludePathPrefix, String progressFile,
+      TachyonConf tachyonConf) throws IOException {
     LOG.info("Loading to " + tachyonPath + " " + ufsAddrRootPath + " " + excludePathPrefix);
     try {
       // resolve and replace hostname embedded in the given ufsAddress/tachyonAddress
@@ -118,71 +157,29 @@ public class UfsUtils {
     // create the under FS handler (e.g. hdfs, local FS, s3 etc.)
     UnderFileSystem ufs = UnderFileSystem.get(ufsAddress, tachyonConf);
 
-    Queue<TachyonURI> ufsPathQueue = new LinkedList<TachyonURI>();
-    if (excludePathPrefix.outList(ufsRootPath)) {
-      ufsPathQueue.add(ufsAddrRootPath);
-    }
-
-    while (!ufsPathQueue.isEmpty()) {
-      TachyonURI ufsPath = ufsPathQueue.poll(); // this is the absolute path
-      LOG.info("Loading: " + ufsPath);
-      if (ufs.isFile(ufsPath.toString())) {
-        TachyonURI tfsPath = buildTFSPath(tachyonPath, ufsAddrRootPath, ufsPath);
-        if (tfs.exist(tfsPath)) {
-          LOG.info("File " + tfsPath + " already exists in Tachyon.");
-          continue;
-        }
-        int fileId = tfs.createFile(tfsPath, ufsPath);
-        if (fileId == -1) {
-          LOG.info("Failed to create tachyon file: " + tfsPath);
-        } else {
-          LOG.info("Create tachyon file " + tfsPath + " with file id " + fileId + " and "
-              + "checkpoint location " + ufsPath);
-        }
-      } else { // ufsPath is a directory
-        String[] files = ufs.list(ufsPath.toString()); // ufs.list() returns relative path
-        if (files != null) {
-          for (String filePath : files) {
-            LOG.info("Get: " + filePath);
-            String aPath = CommonUtils.concat(ufsPath, filePath);
-            String checkPath = aPath.substring(ufsAddrRootPath.toString().length());
-            if (checkPath.startsWith(TachyonURI.SEPARATOR)) {
-              checkPath = checkPath.substring(TachyonURI.SEPARATOR.length());
-            }
-            if (excludePathPrefix.inList(checkPath)) {
-              LOG.info("excluded: " + checkPath);
-            } else {
-              ufsPathQueue.add(new TachyonURI(aPath));
-            }
-          }
-        }
-        // ufsPath is a directory, so only concat the tfsRoot with the relative path
-        TachyonURI tfsPath = new TachyonURI(CommonUtils.concat(
-            tachyonPath, ufsPath.getPath().substring(ufsAddrRootPath.getPath().length())));
-        if (!tfs.exist(tfsPath)) {
-          tfs.mkdir(tfsPath);
-          // TODO Add the following.
-          // if (tfs.mkdir(tfsPath)) {
-          // LOG.info("Created mTachyonFS folder " + tfsPath + " with checkpoint location " +
-          // ufsPath);
-          // } else {
-          // LOG.info("Failed to create tachyon folder: " + tfsPath);
-          // }
-        }
-      }
+    if (!excludePathPrefix.outList(ufsRootPath)) {
+      LOG.info("excluded: " + ufsRootPath);
+      return null;
     }
+    return new UfsLoader(tfs, ufs, tachyonPath, ufsAddrRootPath, excludePathPrefix, progressFile,
+        tachyonConf).load();
   }
 
   public static void main(String[] args) {
-    if (!(args.length == 2 || args.length == 3)) {
+    if (args.length < 2 || args.length > 4) {
       printUsage();
       System.exit(-1);
     }
 
-    String exList = (args.length == 3) ? args[2] : "";
+    String exList = (args.length >= 3) ? args[2] : "";
+    String progressFile = (args.length == 4) ? args[3] : null;
 
     try {
-      loadUfs(new TachyonURI(args[0]), new TachyonURI(args[1]), exList, new TachyonConf());
+      UfsLoader.Report report = loadUfs(new TachyonURI(args[0]), new TachyonURI(args[1]), exList,
+          progressFile, new TachyonConf());
+      if (report != null) {
+        System.out.println(report);
+      }
     } catch (Exception e) {
       e.printStackTrace();
       printUsage();
@@ -198,11 +195,14 @@ public class UfsUtils {
             + "tachyon.util.UfsUtils ";
 
     System.out.println("Usage: " + cmd + "<TachyonPath> <UfsPath> "
-        + "[<Optional ExcludePathPrefix, separated by ;>]");
+        + "[<Optional ExcludePathPrefix, separated by ;> [<Optional ProgressFile>]]");
     System.out.println("Example: " + cmd + "tachyon://127.0.0.1:19998/a hdfs://localhost:9000/b c");
     System.out.println("Example: " + cmd + "tachyon://127.0.0.1:19998/a file:///b c");
     System.out.println("Example: " + cmd + "tachyon://127.0.0.1:19998/a /b c");
     System.out.print("In the TFS, all files under local FS /b will be registered under /a, ");
     System.out.println("except for those with prefix c");
+    System.out.println("Example: " + cmd + "tachyon://127.0.0.1:19998/a /b \"\" /tmp/b.progress");
+    System.out.println("Loads /b recording the loaded directories in /tmp/b.progress. Running it "
+        + "again resumes the load.");
   }
 }
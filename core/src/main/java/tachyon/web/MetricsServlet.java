@@ -0,0 +1,59 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.web;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import tachyon.metrics.MetricsRegistry;
+
+/**
+ * Servlet that returns the current values of the metrics as a JSON object, from metric names to
+ * values.
+ */
+public final class MetricsServlet extends HttpServlet {
+  private static final long serialVersionUID = -1497240155392478390L;
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final transient MetricsRegistry mMetrics;
+
+  public MetricsServlet(MetricsRegistry metrics) {
+    mMetrics = metrics;
+  }
+
+  /**
+   * Writes the metrics to the response.
+   *
+   * @param request The HttpServletRequest object
+   * @param response The HttpServletReponse object
+   * @throws ServletException
+   * @throws IOException
+   */
+  @Override
+  public void doGet(HttpServletRequest request, HttpServletResponse response)
+      throws ServletException, IOException {
+    response.setContentType("application/json");
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader("Cache-Control", "no-cache");
+    OBJECT_MAPPER.writeValue(response.getOutputStream(), mMetrics.getValues());
+  }
+}
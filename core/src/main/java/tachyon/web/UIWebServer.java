@@ -104,6 +104,8 @@ public class UIWebServer {
         "/dependency");
     webappcontext.addServlet(new ServletHolder(new WebInterfaceDownloadServlet(masterInfo)),
         "/download");
+    webappcontext.addServlet(new ServletHolder(new MetricsServlet(masterInfo.getMetrics())),
+        "/metrics/json");
 
     HandlerList handlers = new HandlerList();
     handlers.setHandlers(new Handler[] {webappcontext, new DefaultHandler()});
@@ -43,6 +43,15 @@ public class BlocksLocker {
     mWorkerStorage = workerStorage;
   }
 
+  /**
+   * Get the WorkerStorage whose blocks are locked, the data server also writes blocks through it.
+   *
+   * @return the WorkerStorage
+   */
+  public WorkerStorage getWorkerStorage() {
+    return mWorkerStorage;
+  }
+
   /**
    * Lock a block with specified lock id.
    * 
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The queue of the files waiting to be checkpointed by the worker, shared by its checkpoint
+ * threads. The files of the priority dependencies sent by the master come first, in the order of
+ * the dependencies, then the files of the other dependencies. Among files of the same rank,
+ * smaller files come first so that more lineage becomes durable sooner, then older files.
+ */
+final class CheckpointScheduler {
+  private static final class Entry {
+    private final int mFileId;
+    private final int mDependencyId;
+    private final long mSizeBytes;
+    /** The order in which the files were added */
+    private final long mSequence;
+    /** The position of the dependency in the priority dependencies, lower is more urgent */
+    private int mRank;
+
+    private Entry(int fileId, int dependencyId, long sizeBytes, long sequence, int rank) {
+      mFileId = fileId;
+      mDependencyId = dependencyId;
+      mSizeBytes = sizeBytes;
+      mSequence = sequence;
+      mRank = rank;
+    }
+  }
+
+  private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+    @Override
+    public int compare(Entry e1, Entry e2) {
+      if (e1.mRank != e2.mRank) {
+        return e1.mRank < e2.mRank ? -1 : 1;
+      }
+      if (e1.mSizeBytes != e2.mSizeBytes) {
+        return e1.mSizeBytes < e2.mSizeBytes ? -1 : 1;
+      }
+      if (e1.mSequence != e2.mSequence) {
+        return e1.mSequence < e2.mSequence ? -1 : 1;
+      }
+      return 0;
+    }
+  };
+
+  private static final int INITIAL_CAPACITY = 11;
+
+  private PriorityQueue<Entry> mQueue = new PriorityQueue<Entry>(INITIAL_CAPACITY, ORDER);
+  /** The files in the queue, to ignore the ones added twice */
+  private final Map<Integer, Entry> mFiles = new HashMap<Integer, Entry>();
+  /** From the priority dependency ids to their rank */
+  private final Map<Integer, Integer> mRanks = new HashMap<Integer, Integer>();
+  private List<Integer> mPriorityDependencies = new ArrayList<Integer>();
+  private long mNextSequence = 0;
+
+  /**
+   * Adds a file to checkpoint, and wakes up a thread waiting for one.
+   *
+   * @param fileId the id of the file
+   * @param dependencyId the id of the dependency which created the file
+   * @param sizeBytes the size of the file in bytes
+   * @return true if the file was added, false if it was already waiting
+   */
+  synchronized boolean add(int fileId, int dependencyId, long sizeBytes) {
+    if (mFiles.containsKey(fileId)) {
+      return false;
+    }
+    Entry entry = new Entry(fileId, dependencyId, sizeBytes, mNextSequence ++,
+        getRank(dependencyId));
+    mFiles.put(fileId, entry);
+    mQueue.add(entry);
+    notify();
+    return true;
+  }
+
+  private int getRank(int dependencyId) {
+    Integer rank = mRanks.get(dependencyId);
+    return rank == null ? Integer.MAX_VALUE : rank;
+  }
+
+  /**
+   * @return the ids of the priority dependencies, highest priority first
+   */
+  synchronized List<Integer> getPriorityDependencies() {
+    return new ArrayList<Integer>(mPriorityDependencies);
+  }
+
+  /**
+   * Replaces the priority dependencies, and reorders the waiting files accordingly.
+   *
+   * @param priorityDependencies the ids of the priority dependencies, highest priority first
+   */
+  synchronized void setPriorityDependencies(List<Integer> priorityDependencies) {
+    if (mPriorityDependencies.equals(priorityDependencies)) {
+      return;
+    }
+    mPriorityDependencies = new ArrayList<Integer>(priorityDependencies);
+    mRanks.clear();
+    for (int k = 0; k < mPriorityDependencies.size(); k ++) {
+      if (!mRanks.containsKey(mPriorityDependencies.get(k))) {
+        mRanks.put(mPriorityDependencies.get(k), k);
+      }
+    }
+    PriorityQueue<Entry> queue =
+        new PriorityQueue<Entry>(Math.max(INITIAL_CAPACITY, mQueue.size()), ORDER);
+    for (Entry entry : mQueue) {
+      entry.mRank = getRank(entry.mDependencyId);
+      queue.add(entry);
+    }
+    mQueue = queue;
+  }
+
+  /**
+   * @return the number of files waiting to be checkpointed
+   */
+  synchronized int size() {
+    return mQueue.size();
+  }
+
+  /**
+   * Removes the most urgent file to checkpoint, waiting until there is one.
+   *
+   * @return the id of the file
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  synchronized int take() throws InterruptedException {
+    while (mQueue.isEmpty()) {
+      wait();
+    }
+    Entry entry = mQueue.poll();
+    mFiles.remove(entry.mFileId);
+    return entry.mFileId;
+  }
+}
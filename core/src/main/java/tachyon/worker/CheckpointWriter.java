@@ -0,0 +1,189 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import tachyon.util.CommonUtils;
+import tachyon.worker.hierarchy.StorageDir;
+
+/**
+ * Copies the blocks of a file to its checkpoint. When both the block files and the checkpoint are
+ * local files, the blocks are transferred with {@link FileChannel#transferTo} without passing
+ * through the worker's memory. Otherwise the next block is read ahead while the current one is
+ * written. The copy is throttled in chunks by the given rate limiters.
+ */
+final class CheckpointWriter {
+  private final int mChunkSize;
+  private final ExecutorService mReadAheadExecutor;
+  private final RateLimiter[] mRateLimiters;
+
+  /**
+   * @param chunkSize the number of bytes copied between two throttling points
+   * @param readAheadExecutor runs the read ahead of the blocks
+   * @param rateLimiters the limiters of the checkpoint bandwidth, in bytes per second
+   */
+  CheckpointWriter(int chunkSize, ExecutorService readAheadExecutor,
+      RateLimiter... rateLimiters) {
+    mChunkSize = chunkSize;
+    mReadAheadExecutor = readAheadExecutor;
+    mRateLimiters = rateLimiters;
+  }
+
+  /**
+   * Writes the blocks to the stream. The blocks must be locked by the caller.
+   *
+   * @param storageDirs the StorageDir of each block
+   * @param blockIds the ids of the blocks, in the order of the file
+   * @param os the stream of the checkpoint, not closed by this method
+   * @return the number of bytes written
+   * @throws IOException
+   */
+  long write(StorageDir[] storageDirs, List<Long> blockIds, OutputStream os) throws IOException {
+    if (os instanceof FileOutputStream) {
+      FileChannel dst = ((FileOutputStream) os).getChannel();
+      long written = 0;
+      for (int k = 0; k < blockIds.size(); k ++) {
+        BlockHandler handler = storageDirs[k].getBlockHandler(blockIds.get(k));
+        try {
+          if (handler.getChannel() instanceof FileChannel) {
+            long size = transfer((FileChannel) handler.getChannel(), dst);
+            storageDirs[k].addReadBytes(size);
+            storageDirs[k].accessBlock(blockIds.get(k));
+            written += size;
+            continue;
+          }
+        } finally {
+          handler.close();
+        }
+        // The block is not in a local file
+        return written + writeStreamed(storageDirs, blockIds, k, os);
+      }
+      return written;
+    }
+    return writeStreamed(storageDirs, blockIds, 0, os);
+  }
+
+  private long transfer(FileChannel src, FileChannel dst) throws IOException {
+    long size = src.size();
+    long position = 0;
+    while (position < size) {
+      long count = Math.min(mChunkSize, size - position);
+      throttle((int) count);
+      position += src.transferTo(position, count, dst);
+    }
+    return size;
+  }
+
+  /**
+   * Writes the blocks from the given index on through a buffer, reading the next block while the
+   * current one is written.
+   */
+  private long writeStreamed(final StorageDir[] storageDirs, final List<Long> blockIds, int start,
+      OutputStream os) throws IOException {
+    if (start >= blockIds.size()) {
+      return 0;
+    }
+    byte[] buf = new byte[mChunkSize];
+    long written = 0;
+    Future<ByteBuffer> next = readAhead(storageDirs[start], blockIds.get(start));
+    try {
+      for (int k = start; k < blockIds.size(); k ++) {
+        ByteBuffer data = getReadAhead(next);
+        next = null;
+        try {
+          if (k + 1 < blockIds.size()) {
+            next = readAhead(storageDirs[k + 1], blockIds.get(k + 1));
+          }
+          while (data.remaining() > 0) {
+            int len = Math.min(buf.length, data.remaining());
+            throttle(len);
+            data.get(buf, 0, len);
+            os.write(buf, 0, len);
+            written += len;
+          }
+        } finally {
+          CommonUtils.cleanDirectBuffer(data);
+        }
+      }
+    } finally {
+      if (next != null) {
+        discardReadAhead(next);
+      }
+    }
+    return written;
+  }
+
+  /**
+   * Waits for a block read ahead which will not be written, and releases its buffer.
+   */
+  private void discardReadAhead(Future<ByteBuffer> future) {
+    try {
+      CommonUtils.cleanDirectBuffer(Uninterruptibles.getUninterruptibly(future));
+    } catch (ExecutionException e) {
+      // The read failed, so there is no buffer to release
+    }
+  }
+
+  private Future<ByteBuffer> readAhead(final StorageDir storageDir, final long blockId) {
+    return mReadAheadExecutor.submit(new Callable<ByteBuffer>() {
+      @Override
+      public ByteBuffer call() throws IOException {
+        ByteBuffer data = storageDir.getBlockData(blockId, 0, -1);
+        if (data instanceof MappedByteBuffer) {
+          // Faults the pages of the block in before the writer gets to them
+          ((MappedByteBuffer) data).load();
+        }
+        return data;
+      }
+    });
+  }
+
+  private ByteBuffer getReadAhead(Future<ByteBuffer> future) throws IOException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+  }
+
+  private void throttle(int bytes) {
+    if (bytes > 0) {
+      for (RateLimiter rateLimiter : mRateLimiters) {
+        rateLimiter.acquire(bytes);
+      }
+    }
+  }
+}
@@ -21,11 +21,10 @@ import java.net.UnknownHostException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.TProcessorFactory;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
 import org.apache.thrift.transport.TFramedTransport;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,17 +32,21 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Throwables;
 
 import tachyon.Constants;
+import tachyon.RpcServerType;
 import tachyon.UnderFileSystem;
 import tachyon.UnderFileSystemHdfs;
 import tachyon.Users;
 import tachyon.Version;
 import tachyon.conf.TachyonConf;
+import tachyon.metrics.InstrumentedProcessorFactory;
+import tachyon.metrics.JmxReporter;
 import tachyon.thrift.Command;
 import tachyon.thrift.NetAddress;
 import tachyon.thrift.WorkerService;
 import tachyon.util.CommonUtils;
 import tachyon.util.NetworkUtils;
 import tachyon.util.ThreadFactoryUtils;
+import tachyon.util.ThriftUtils;
 
 /**
  * Entry point for a worker daemon.
@@ -57,8 +60,8 @@ public class TachyonWorker implements Runnable {
    * @param masterAddress The TachyonMaster's address
    * @param workerAddress This TachyonWorker's address
    * @param dataPort This TachyonWorker's data server's port
-   * @param minWorkerThreads The min number of worker threads used in TThreadPoolServer
-   * @param maxWorkerThreads The max number of worker threads used in TThreadPoolServer
+   * @param minWorkerThreads The min number of threads used by the RPC server
+   * @param maxWorkerThreads The max number of threads used by the RPC server
    * @param tachyonConf The instance of {@link tachyon.conf.TachyonConf} to used by Worker.
    * @return The new TachyonWorker
    */
@@ -75,8 +78,8 @@ public class TachyonWorker implements Runnable {
    * @param masterAddress The TachyonMaster's address. e.g., localhost:19998
    * @param workerAddress This TachyonWorker's address. e.g., localhost:29998
    * @param dataPort This TachyonWorker's data server's port
-   * @param minWorkerThreads The min number of worker threads used in TThreadPoolServer
-   * @param maxWorkerThreads The max number of worker threads used in TThreadPoolServer
+   * @param minWorkerThreads The min number of threads used by the RPC server
+   * @param maxWorkerThreads The max number of threads used by the RPC server
    * @param tachyonConf The instance of {@link tachyon.conf.TachyonConf} to used by Worker.
    * @return The new TachyonWorker
    */
@@ -162,11 +165,14 @@ public class TachyonWorker implements Runnable {
   private final NetAddress mWorkerAddress;
   private TServer mServer;
 
-  private TServerSocket mServerTServerSocket;
+  private TServerTransport mServerTServerSocket;
   private final WorkerStorage mWorkerStorage;
 
   private final WorkerServiceHandler mWorkerServiceHandler;
 
+  /** Exports the metrics of the worker over JMX */
+  private final JmxReporter mJmxReporter;
+
   private final DataServer mDataServer;
 
   private final Thread mHeartbeatThread;
@@ -183,8 +189,8 @@ public class TachyonWorker implements Runnable {
    * @param masterAddress The TachyonMaster's address.
    * @param workerAddress This TachyonWorker's address.
    * @param dataPort This TachyonWorker's data server's port
-   * @param minWorkerThreads The min number of worker threads used in TThreadPoolServer
-   * @param maxWorkerThreads The max number of worker threads used in TThreadPoolServer
+   * @param minWorkerThreads The min number of threads used by the RPC server
+   * @param maxWorkerThreads The max number of threads used by the RPC server
    * @param tachyonConf The {@link TachyonConf} instance for configuration properties
    */
   private TachyonWorker(InetSocketAddress masterAddress, InetSocketAddress workerAddress,
@@ -217,15 +223,19 @@ public class TachyonWorker implements Runnable {
       WorkerService.Processor<WorkerServiceHandler> processor =
           new WorkerService.Processor<WorkerServiceHandler>(mWorkerServiceHandler);
 
-      mServerTServerSocket = new TServerSocket(workerAddress);
+      RpcServerType serverType =
+          mTachyonConf.getEnum(Constants.WORKER_RPC_SERVER_TYPE, RpcServerType.THREAD_POOL);
+      mServerTServerSocket = ThriftUtils.createServerTransport(serverType, workerAddress);
       mPort = NetworkUtils.getPort(mServerTServerSocket);
 
       // TODO: auth worker server???
+      int selectorThreads = mTachyonConf.getInt(Constants.WORKER_RPC_SELECTOR_THREADS, 2);
       mServer =
-          new TThreadPoolServer(new TThreadPoolServer.Args(mServerTServerSocket)
-              .minWorkerThreads(minWorkerThreads).maxWorkerThreads(maxWorkerThreads)
-              .processor(processor).transportFactory(new TFramedTransport.Factory())
-              .protocolFactory(new TBinaryProtocol.Factory(true, true)));
+          ThriftUtils.createServer(serverType, mServerTServerSocket,
+              new InstrumentedProcessorFactory(new TProcessorFactory(processor), processor
+                  .getProcessMapView().keySet(), mWorkerStorage.getMetrics()),
+              new TFramedTransport.Factory(), minWorkerThreads,
+              maxWorkerThreads, selectorThreads, "worker-rpc-%d");
     } catch (TTransportException e) {
       LOG.error(e.getMessage(), e);
       throw Throwables.propagate(e);
@@ -233,6 +243,8 @@ public class TachyonWorker implements Runnable {
     mWorkerAddress =
         new NetAddress(workerAddress.getAddress().getCanonicalHostName(), mPort, mDataPort);
     mWorkerStorage.initialize(mWorkerAddress);
+    mJmxReporter = new JmxReporter(mWorkerStorage.getMetrics(), "Worker",
+        mWorkerAddress.getMHost() + ":" + mPort);
   }
 
   /**
@@ -332,6 +344,10 @@ public class TachyonWorker implements Runnable {
           case Delete:
             LOG.info("Delete command: " + cmd);
             break;
+          case Checkpoint:
+            LOG.debug("Checkpoint command: {}", cmd);
+            mWorkerStorage.updatePriorityDependencies(cmd.mData);
+            break;
           default:
             throw new RuntimeException("Un-recognized command from master " + cmd.toString());
         }
@@ -348,6 +364,7 @@ public class TachyonWorker implements Runnable {
     login();
 
     mHeartbeatThread.start();
+    mJmxReporter.start();
 
     LOG.info("The worker server started @ " + mWorkerAddress);
     mServer.serve();
@@ -362,6 +379,7 @@ public class TachyonWorker implements Runnable {
    */
   public void stop() throws IOException, InterruptedException {
     mStop = true;
+    mJmxReporter.stop();
     mWorkerStorage.stop();
     mDataServer.close();
     mServer.stop();
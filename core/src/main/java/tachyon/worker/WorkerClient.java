@@ -19,6 +19,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -34,6 +42,8 @@ import org.slf4j.LoggerFactory;
 import tachyon.Constants;
 import tachyon.HeartbeatExecutor;
 import tachyon.HeartbeatThread;
+import tachyon.Pair;
+import tachyon.ThriftClientPool;
 import tachyon.conf.TachyonConf;
 import tachyon.master.MasterClient;
 import tachyon.thrift.BlockInfoException;
@@ -51,22 +61,42 @@ import tachyon.util.NetworkUtils;
 /**
  * The client talks to a worker server. It keeps sending keep alive message to the worker server.
  * 
- * Since WorkerService.Client is not thread safe, this class has to guarantee thread safe.
+ * Since WorkerService.Client is not thread safe, each RPC takes a client from a bounded pool of
+ * connections to the worker, so that the threads sharing a WorkerClient issue RPCs concurrently.
+ * 
+ * If a local read lease is configured, a block unlocked by the user stays locked on the worker
+ * for the lease time, so that reading it again does not need any RPC. The block accesses, and the
+ * unlocks of the blocks whose lease ended, are then reported in one RPC by the next heartbeat
+ * instead of one RPC each. The worker releases the locks of a user whose heartbeats stop, which
+ * bounds the leases of a crashed client.
  */
 public class WorkerClient implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final MasterClient mMasterClient;
   private static final int CONNECTION_RETRY_TIMES = 5;
 
-  private WorkerService.Client mClient;
-  private TProtocol mProtocol;
-  private InetSocketAddress mWorkerAddress;
-  private boolean mConnected = false;
-  private boolean mIsLocal = false;
+  private final ThriftClientPool<WorkerService.Client> mClientPool;
+  private volatile InetSocketAddress mWorkerAddress;
+  private volatile InetSocketAddress mDataServerAddress;
+  private volatile boolean mConnected = false;
+  private volatile boolean mIsLocal = false;
   private final ExecutorService mExecutorService;
   private Future<?> mHeartbeat;
 
   private final TachyonConf mTachyonConf;
+  /** How long an unlocked block stays locked on the worker, 0 to unlock it right away */
+  private final long mLockLeaseMs;
+  /** The blocks locked on the worker but unused, with their path and the end of their lease */
+  private final Map<Long, Pair<String, Long>> mLeasedBlocks =
+      new LinkedHashMap<Long, Pair<String, Long>>();
+  /** The paths of the blocks locked by the user, when leases are used */
+  private final Map<Long, String> mLockedBlockPaths = new HashMap<Long, String>();
+  /** The paths of the blocks whose lease ended, still locked on the worker until reported */
+  private final Map<Long, String> mUnlockedBlockPaths = new LinkedHashMap<Long, String>();
+  /** The paths of the blocks whose unlock is being reported to the worker */
+  private final Map<Long, String> mReportedBlockPaths = new HashMap<Long, String>();
+  /** The blocks accessed since the last heartbeat, when leases are used */
+  private final Set<Long> mAccessedBlockIds = new HashSet<Long>();
 
   /**
    * Create a WorkerClient, with a given MasterClient.
@@ -80,6 +110,24 @@ public class WorkerClient implements Closeable {
     mMasterClient = masterClient;
     mExecutorService = executorService;
     mTachyonConf = conf;
+    mLockLeaseMs = conf.getLong(Constants.USER_LOCAL_READ_LEASE_MS, 0);
+    mClientPool =
+        new ThriftClientPool<WorkerService.Client>(conf.getInt(
+            Constants.USER_WORKER_CLIENT_POOL_SIZE, 8)) {
+          @Override
+          protected WorkerService.Client createClient() throws IOException {
+            // TODO: auth connection ???
+            TProtocol protocol =
+                new TBinaryProtocol(new TFramedTransport(new TSocket(
+                    mWorkerAddress.getHostName(), mWorkerAddress.getPort())));
+            try {
+              protocol.getTransport().open();
+            } catch (TTransportException e) {
+              throw new IOException("Failed to connect to worker " + mWorkerAddress, e);
+            }
+            return new WorkerService.Client(protocol);
+          }
+        };
   }
 
   /**
@@ -88,29 +136,49 @@ public class WorkerClient implements Closeable {
    * @param blockId The id of the block
    * @throws IOException
    */
-  public synchronized void accessBlock(long blockId) throws IOException {
-    mustConnect();
+  public void accessBlock(long blockId) throws IOException {
+    if (mLockLeaseMs > 0) {
+      synchronized (this) {
+        mAccessedBlockIds.add(blockId);
+      }
+      return;
+    }
+    WorkerService.Client client = acquireClient();
 
     try {
-      mClient.accessBlock(blockId);
+      client.accessBlock(blockId);
     } catch (TException e) {
       LOG.error("TachyonClient accessLocalBlock(" + blockId + ") failed");
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
+  /**
+   * Take a client connected to the worker from the pool, connecting to a worker first if needed.
+   * The client must be returned with {@link ThriftClientPool#release}.
+   *
+   * @return the client
+   * @throws IOException
+   */
+  private WorkerService.Client acquireClient() throws IOException {
+    mustConnect();
+    return mClientPool.acquire();
+  }
   /**
    * Notify the worker that the checkpoint file of the file has been added.
    * 
    * @param fileId The id of the checkpointed file
    * @throws IOException
    */
-  public synchronized void addCheckpoint(int fileId) throws IOException {
-    mustConnect();
+  public void addCheckpoint(int fileId) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      mClient.addCheckpoint(mMasterClient.getUserId(), fileId);
+      client.addCheckpoint(mMasterClient.getUserId(), fileId);
     } catch (FileDoesNotExistException e) {
       throw new IOException(e);
     } catch (SuspectedFileSizeException e) {
@@ -121,7 +189,10 @@ public class WorkerClient implements Closeable {
       throw new IOException(e);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -132,16 +203,19 @@ public class WorkerClient implements Closeable {
    * @return true if success, false otherwise
    * @throws IOException
    */
-  public synchronized boolean asyncCheckpoint(int fid) throws IOException {
-    mustConnect();
+  public boolean asyncCheckpoint(int fid) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.asyncCheckpoint(fid);
+      return client.asyncCheckpoint(fid);
     } catch (TachyonException e) {
       throw new IOException(e);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -151,18 +225,21 @@ public class WorkerClient implements Closeable {
    * @param blockId The id of the block
    * @throws IOException
    */
-  public synchronized void cacheBlock(long blockId) throws IOException {
-    mustConnect();
+  public void cacheBlock(long blockId) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      mClient.cacheBlock(mMasterClient.getUserId(), blockId);
+      client.cacheBlock(mMasterClient.getUserId(), blockId);
     } catch (FileDoesNotExistException e) {
       throw new IOException(e);
     } catch (BlockInfoException e) {
       throw new IOException(e);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -172,14 +249,17 @@ public class WorkerClient implements Closeable {
    * @param blockId The Id of the block to be cancelled
    * @throws IOException
    */
-  public synchronized void cancelBlock(long blockId) throws IOException {
-    mustConnect();
+  public void cancelBlock(long blockId) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      mClient.cancelBlock(mMasterClient.getUserId(), blockId);
+      client.cancelBlock(mMasterClient.getUserId(), blockId);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -189,15 +269,24 @@ public class WorkerClient implements Closeable {
   @Override
   public synchronized void close() {
     if (mConnected) {
-      try {
-        mProtocol.getTransport().close();
-      } finally {
-        if (mHeartbeat != null) {
-          mHeartbeat.cancel(true);
+      if (mLockLeaseMs > 0) {
+        try {
+          // End all the leases
+          reportBlocks(mMasterClient.getUserId(), Long.MAX_VALUE);
+        } catch (IOException e) {
+          LOG.warn("Failed to unlock the unused blocks, the worker will when the user times out",
+              e);
         }
       }
       mConnected = false;
     }
+    try {
+      mClientPool.clear();
+    } finally {
+      if (mHeartbeat != null) {
+        mHeartbeat.cancel(true);
+      }
+    }
   }
 
   /**
@@ -208,6 +297,9 @@ public class WorkerClient implements Closeable {
    */
   private synchronized boolean connect() throws IOException {
     if (!mConnected) {
+      // Connections to a previous worker are not used anymore
+      mClientPool.clear();
+
       NetAddress workerNetAddress = null;
       try {
         String localHostName = NetworkUtils.getLocalHostName();
@@ -227,7 +319,6 @@ public class WorkerClient implements Closeable {
           workerNetAddress = mMasterClient.user_getWorker(true, "");
         } catch (NoWorkerException e) {
           LOG.info("No worker running in the system: " + e.getMessage());
-          mClient = null;
           return false;
         }
       }
@@ -235,11 +326,15 @@ public class WorkerClient implements Closeable {
       String host = NetworkUtils.getFqdnHost(workerNetAddress);
       int port = workerNetAddress.mPort;
       mWorkerAddress = new InetSocketAddress(host, port);
+      mDataServerAddress = new InetSocketAddress(host, workerNetAddress.mSecondaryPort);
       LOG.info("Connecting " + (mIsLocal ? "local" : "remote") + " worker @ " + mWorkerAddress);
 
-      // TODO: auth connection ???
-      mProtocol = new TBinaryProtocol(new TFramedTransport(new TSocket(host, port)));
-      mClient = new WorkerService.Client(mProtocol);
+      try {
+        mClientPool.release(mClientPool.acquire());
+      } catch (IOException e) {
+        LOG.error(e.getMessage(), e);
+        return false;
+      }
 
       HeartbeatExecutor heartBeater =
           new WorkerClientHeartbeatExecutor(this, mMasterClient.getUserId());
@@ -248,13 +343,6 @@ public class WorkerClient implements Closeable {
           Constants.SECOND_MS);
       mHeartbeat =
           mExecutorService.submit(new HeartbeatThread(threadName, heartBeater, interval));
-
-      try {
-        mProtocol.getTransport().open();
-      } catch (TTransportException e) {
-        LOG.error(e.getMessage(), e);
-        return false;
-      }
       mConnected = true;
     }
 
@@ -264,38 +352,48 @@ public class WorkerClient implements Closeable {
   /**
    * @return the address of the worker.
    */
-  public synchronized InetSocketAddress getAddress() {
+  public InetSocketAddress getAddress() {
     return mWorkerAddress;
   }
 
+  /**
+   * @return the address of the worker's data server.
+   */
+  public InetSocketAddress getDataServerAddress() {
+    return mDataServerAddress;
+  }
+
   /**
    * Get the user temporary folder in the under file system of the specified user.
    * 
    * @return The user temporary folder in the under file system
    * @throws IOException
    */
-  public synchronized String getUserUfsTempFolder() throws IOException {
-    mustConnect();
+  public String getUserUfsTempFolder() throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.getUserUfsTempFolder(mMasterClient.getUserId());
+      return client.getUserUfsTempFolder(mMasterClient.getUserId());
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
   /**
    * @return true if it's connected to the worker, false otherwise.
    */
-  public synchronized boolean isConnected() {
+  public boolean isConnected() {
     return mConnected;
   }
 
   /**
    * @return true if the worker is local, false otherwise.
    */
-  public synchronized boolean isLocal() {
+  public boolean isLocal() {
     if (!isConnected()) {
       try {
         connect();
@@ -315,17 +413,136 @@ public class WorkerClient implements Closeable {
    * @return the path of the block file locked
    * @throws IOException
    */
-  public synchronized String lockBlock(long blockId) throws IOException {
-    mustConnect();
+  public String lockBlock(long blockId) throws IOException {
+    if (mLockLeaseMs > 0) {
+      synchronized (this) {
+        // The worker would not count a lock taken before the unlock being reported
+        while (mReportedBlockPaths.containsKey(blockId)) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+          }
+        }
+        String blockPath = mUnlockedBlockPaths.remove(blockId);
+        Pair<String, Long> lease = mLeasedBlocks.remove(blockId);
+        if (lease != null) {
+          blockPath = lease.getFirst();
+        }
+        if (blockPath != null) {
+          // The block is still locked on the worker
+          mLockedBlockPaths.put(blockId, blockPath);
+          return blockPath;
+        }
+      }
+    }
+    WorkerService.Client client = acquireClient();
 
+    String blockPath;
     try {
-      return mClient.lockBlock(blockId, mMasterClient.getUserId());
+      blockPath = client.lockBlock(blockId, mMasterClient.getUserId());
     } catch (FileDoesNotExistException e) {
       return null;
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
+      throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
+    }
+    if (mLockLeaseMs > 0 && blockPath != null) {
+      synchronized (this) {
+        mLockedBlockPaths.put(blockId, blockPath);
+      }
+    }
+    return blockPath;
+  }
+
+  /**
+   * Lock several blocks with one RPC, like {@link #lockBlock(long)} for each of them. With local
+   * read leases, the leased blocks are taken from their lease and only the others are locked on the
+   * worker.
+   * 
+   * @param blockIds The ids of the blocks
+   * @return the path of each block file locked, null for a block which is not on the worker
+   * @throws IOException
+   */
+  public List<String> lockBlocks(List<Long> blockIds) throws IOException {
+    List<String> blockPaths = new ArrayList<String>(blockIds.size());
+    List<Long> workerBlockIds = new ArrayList<Long>(blockIds.size());
+    for (long blockId : blockIds) {
+      blockPaths.add(null);
+    }
+    if (mLockLeaseMs > 0) {
+      synchronized (this) {
+        // The worker would not count a lock taken before the unlock being reported
+        boolean reported = true;
+        while (reported) {
+          reported = false;
+          for (long blockId : blockIds) {
+            reported |= mReportedBlockPaths.containsKey(blockId);
+          }
+          if (reported) {
+            try {
+              wait();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              throw new IOException(e);
+            }
+          }
+        }
+        for (int k = 0; k < blockIds.size(); k ++) {
+          long blockId = blockIds.get(k);
+          String blockPath = mUnlockedBlockPaths.remove(blockId);
+          Pair<String, Long> lease = mLeasedBlocks.remove(blockId);
+          if (lease != null) {
+            blockPath = lease.getFirst();
+          }
+          if (blockPath != null) {
+            // The block is still locked on the worker
+            mLockedBlockPaths.put(blockId, blockPath);
+            blockPaths.set(k, blockPath);
+          } else {
+            workerBlockIds.add(blockId);
+          }
+        }
+      }
+    } else {
+      workerBlockIds.addAll(blockIds);
+    }
+    if (workerBlockIds.isEmpty()) {
+      return blockPaths;
+    }
+    WorkerService.Client client = acquireClient();
+
+    List<String> workerBlockPaths;
+    try {
+      workerBlockPaths = client.lockBlocks(mMasterClient.getUserId(), workerBlockIds);
+    } catch (TException e) {
+      mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
+    synchronized (this) {
+      int next = 0;
+      for (int k = 0; k < blockIds.size(); k ++) {
+        if (blockPaths.get(k) != null) {
+          continue;
+        }
+        String blockPath = workerBlockPaths.get(next ++);
+        if (blockPath.isEmpty()) {
+          continue;
+        }
+        blockPaths.set(k, blockPath);
+        if (mLockLeaseMs > 0) {
+          mLockedBlockPaths.put(blockIds.get(k), blockPath);
+        }
+      }
+    }
+    return blockPaths;
   }
 
   /**
@@ -333,7 +550,10 @@ public class WorkerClient implements Closeable {
    * 
    * @throws IOException
    */
-  public synchronized void mustConnect() throws IOException {
+  public void mustConnect() throws IOException {
+    if (mConnected) {
+      return;
+    }
     int tries = 0;
     while (tries ++ <= CONNECTION_RETRY_TIMES) {
       if (connect()) {
@@ -350,14 +570,17 @@ public class WorkerClient implements Closeable {
    * @return true if succeed, false otherwise
    * @throws IOException
    */
-  public synchronized boolean promoteBlock(long blockId) throws IOException {
-    mustConnect();
+  public boolean promoteBlock(long blockId) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.promoteBlock(blockId);
+      return client.promoteBlock(blockId);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -369,19 +592,22 @@ public class WorkerClient implements Closeable {
    * @return the temporary path of the block
    * @throws IOException
    */
-  public synchronized String requestBlockLocation(long blockId, long initialBytes)
+  public String requestBlockLocation(long blockId, long initialBytes)
       throws IOException {
-    mustConnect();
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.requestBlockLocation(mMasterClient.getUserId(), blockId, initialBytes);
+      return client.requestBlockLocation(mMasterClient.getUserId(), blockId, initialBytes);
     } catch (OutOfSpaceException e) {
       throw new IOException(e);
     } catch (FileAlreadyExistException e) {
       throw new IOException(e);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
@@ -393,18 +619,80 @@ public class WorkerClient implements Closeable {
    * @return true if success, false otherwise
    * @throws IOException
    */
-  public synchronized boolean requestSpace(long blockId, long requestBytes) throws IOException {
-    mustConnect();
+  public boolean requestSpace(long blockId, long requestBytes) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.requestSpace(mMasterClient.getUserId(), blockId, requestBytes);
+      return client.requestSpace(mMasterClient.getUserId(), blockId, requestBytes);
     } catch (OutOfSpaceException e) {
       return false;
     } catch (FileDoesNotExistException e) {
       throw new IOException(e);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
+    }
+  }
+
+  /**
+   * Report the block accesses, and the unlocks of the leased blocks whose lease ends before the
+   * given time, to the worker in one RPC. The accesses and unlocks are reported again by the next
+   * heartbeat if the report fails.
+   *
+   * @param userId The id of the user
+   * @param timeMs the time in milliseconds, Long.MAX_VALUE to unlock all the leased blocks
+   * @throws IOException
+   */
+  private void reportBlocks(long userId, long timeMs) throws IOException {
+    List<Long> accessedBlockIds;
+    List<Long> unlockedBlockIds;
+    synchronized (this) {
+      Iterator<Map.Entry<Long, Pair<String, Long>>> it = mLeasedBlocks.entrySet().iterator();
+      while (it.hasNext()) {
+        Map.Entry<Long, Pair<String, Long>> entry = it.next();
+        // Leases are in the order they were granted, so they end in that order too
+        if (entry.getValue().getSecond() > timeMs) {
+          break;
+        }
+        it.remove();
+        mUnlockedBlockPaths.put(entry.getKey(), entry.getValue().getFirst());
+      }
+      accessedBlockIds = new ArrayList<Long>(mAccessedBlockIds);
+      mAccessedBlockIds.clear();
+      unlockedBlockIds = new ArrayList<Long>(mUnlockedBlockPaths.keySet());
+      mReportedBlockPaths.putAll(mUnlockedBlockPaths);
+      mUnlockedBlockPaths.clear();
+    }
+    boolean reported = false;
+    try {
+      WorkerService.Client client = acquireClient();
+
+      try {
+        client.userBlockReport(userId, accessedBlockIds, unlockedBlockIds);
+        reported = true;
+      } catch (TException e) {
+        mConnected = false;
+        mClientPool.invalidate(client);
+        throw new IOException(e);
+      } finally {
+        mClientPool.release(client);
+      }
+    } finally {
+      synchronized (this) {
+        for (long blockId : unlockedBlockIds) {
+          String blockPath = mReportedBlockPaths.remove(blockId);
+          if (!reported) {
+            mUnlockedBlockPaths.put(blockId, blockPath);
+          }
+        }
+        if (!reported) {
+          mAccessedBlockIds.addAll(accessedBlockIds);
+        }
+        notifyAll();
+      }
     }
   }
 
@@ -415,31 +703,55 @@ public class WorkerClient implements Closeable {
    * @return true if success, false otherwise
    * @throws IOException
    */
-  public synchronized boolean unlockBlock(long blockId) throws IOException {
-    mustConnect();
+  public boolean unlockBlock(long blockId) throws IOException {
+    synchronized (this) {
+      String blockPath = mLockedBlockPaths.remove(blockId);
+      if (blockPath != null) {
+        // Unlocked on the worker by the first heartbeat after the lease ends
+        mLeasedBlocks.put(blockId, new Pair<String, Long>(blockPath,
+            System.currentTimeMillis() + mLockLeaseMs));
+        return true;
+      }
+    }
+    return unlockBlockOnWorker(blockId);
+  }
+
+  private boolean unlockBlockOnWorker(long blockId) throws IOException {
+    WorkerService.Client client = acquireClient();
 
     try {
-      return mClient.unlockBlock(blockId, mMasterClient.getUserId());
+      return client.unlockBlock(blockId, mMasterClient.getUserId());
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 
   /**
-   * Users' heartbeat to the Worker.
+   * Users' heartbeat to the Worker. With local read leases, it also reports the block accesses
+   * since the last heartbeat and unlocks the blocks whose lease ended.
    * 
    * @param userId The id of the user
    * @throws IOException
    */
-  public synchronized void userHeartbeat(long userId) throws IOException {
-    mustConnect();
+  public void userHeartbeat(long userId) throws IOException {
+    if (mLockLeaseMs > 0) {
+      reportBlocks(userId, System.currentTimeMillis());
+      return;
+    }
+    WorkerService.Client client = acquireClient();
 
     try {
-      mClient.userHeartbeat(userId);
+      client.userHeartbeat(userId);
     } catch (TException e) {
       mConnected = false;
+      mClientPool.invalidate(client);
       throw new IOException(e);
+    } finally {
+      mClientPool.release(client);
     }
   }
 }
@@ -16,6 +16,8 @@
 package tachyon.worker;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.thrift.TException;
 
@@ -93,6 +95,16 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     }
   }
 
+  @Override
+  public List<String> lockBlocks(long userId, List<Long> blockIds) throws TException {
+    List<String> blockPaths = new ArrayList<String>(blockIds.size());
+    for (long blockId : blockIds) {
+      StorageDir storageDir = mWorkerStorage.lockBlock(blockId, userId);
+      blockPaths.add(storageDir == null ? "" : storageDir.getBlockFilePath(blockId));
+    }
+    return blockPaths;
+  }
+
   @Override
   public boolean promoteBlock(long blockId) throws TException {
     return mWorkerStorage.promoteBlock(blockId);
@@ -115,6 +127,12 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     return mWorkerStorage.unlockBlock(blockId, userId);
   }
 
+  @Override
+  public void userBlockReport(long userId, List<Long> accessedBlockIds,
+      List<Long> unlockedBlockIds) throws TException {
+    mWorkerStorage.userBlockReport(userId, accessedBlockIds, unlockedBlockIds);
+  }
+
   @Override
   public void userHeartbeat(long userId) throws TException {
     mWorkerStorage.userHeartbeat(userId);
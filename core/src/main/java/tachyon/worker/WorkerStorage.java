@@ -20,7 +20,6 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,28 +27,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Throwables;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.RateLimiter;
 
 import tachyon.Constants;
-import tachyon.Pair;
 import tachyon.StorageDirId;
 import tachyon.StorageLevelAlias;
 import tachyon.UnderFileSystem;
 import tachyon.Users;
 import tachyon.conf.TachyonConf;
+import tachyon.master.BlockReport;
 import tachyon.master.MasterClient;
+import tachyon.metrics.Gauge;
+import tachyon.metrics.MetricsRegistry;
 import tachyon.thrift.BlockInfoException;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.Command;
@@ -61,8 +63,10 @@ import tachyon.thrift.OutOfSpaceException;
 import tachyon.thrift.SuspectedFileSizeException;
 import tachyon.util.CommonUtils;
 import tachyon.util.ThreadFactoryUtils;
+import tachyon.worker.hierarchy.BlockLocationIndex;
 import tachyon.worker.hierarchy.StorageDir;
 import tachyon.worker.hierarchy.StorageTier;
+import tachyon.worker.hierarchy.UserBlockTable;
 
 /**
  * The structure to store a worker's information in worker node.
@@ -73,116 +77,33 @@ public class WorkerStorage {
    */
   public class CheckpointThread implements Runnable {
     private final int mId;
+    private final CheckpointWriter mWriter;
     private UnderFileSystem mCheckpointUfs = null;
 
     public CheckpointThread(int id) {
       mId = id;
-    }
-
-    // This method assumes the mDependencyLock has been acquired.
-    private int getFileIdBasedOnPriorityDependency() {
-      if (mPriorityDependencies.isEmpty()) {
-        return -1;
-      }
-      for (int depId : mPriorityDependencies) {
-        int fileId = getFileIdFromOneDependency(depId);
-        if (fileId != -1) {
-          return fileId;
-        }
-      }
-      return -1;
-    }
-
-    // This method assumes the mDependencyLock has been acquired.
-    private int getFileIdFromOneDependency(int depId) {
-      Set<Integer> fileIds = mDepIdToFiles.get(depId);
-      if (fileIds != null && !fileIds.isEmpty()) {
-        int fileId = fileIds.iterator().next();
-        fileIds.remove(fileId);
-        mUncheckpointFiles.remove(fileId);
-        if (fileIds.isEmpty()) {
-          mDepIdToFiles.remove(depId);
-        }
-        return fileId;
-      }
-      return -1;
-    }
-
-    // This method assumes the mDependencyLock has been acquired.
-    private int getRandomUncheckpointedFile() {
-      if (mUncheckpointFiles.isEmpty()) {
-        return -1;
-      }
-      for (int depId : mDepIdToFiles.keySet()) {
-        int fileId = getFileIdFromOneDependency(depId);
-        if (fileId != -1) {
-          return fileId;
-        }
-      }
-      return -1;
-    }
-
-    private List<Integer> getSortedPriorityDependencyList() throws IOException {
-      List<Integer> ret = mMasterClient.worker_getPriorityDependencyList();
-      for (int i = 0; i < ret.size(); i ++) {
-        for (int j = i + 1; j < ret.size(); j ++) {
-          if (ret.get(i) < ret.get(j)) {
-            int k = ret.get(i);
-            ret.set(i, ret.get(j));
-            ret.set(j, k);
-          }
-        }
+      int capMbSec = mTachyonConf.getInt(Constants.WORKER_PER_THREAD_CHECKPOINT_CAP_MB_SEC,
+          Constants.SECOND_MS);
+      RateLimiter threadRateLimiter = RateLimiter.create((double) capMbSec * Constants.MB);
+      int chunkSize = (int) mTachyonConf.getBytes(Constants.WORKER_CHECKPOINT_CHUNK_SIZE_BYTE,
+          Constants.MB);
+      if (mCheckpointRateLimiter == null) {
+        mWriter = new CheckpointWriter(chunkSize, mCheckpointReadAheadExecutor, threadRateLimiter);
+      } else {
+        mWriter = new CheckpointWriter(chunkSize, mCheckpointReadAheadExecutor, threadRateLimiter,
+            mCheckpointRateLimiter);
       }
-      return ret;
     }
 
     @Override
     public void run() {
       while (!Thread.currentThread().isInterrupted()) {
         try {
-          int fileId = -1;
-          synchronized (mDependencyLock) {
-            fileId = getFileIdBasedOnPriorityDependency();
-
-            if (fileId == -1) {
-              if (mPriorityDependencies.size() == 0) {
-                mPriorityDependencies = getSortedPriorityDependencyList();
-                if (!mPriorityDependencies.isEmpty()) {
-                  LOG.info("Get new mPriorityDependencies "
-                      + CommonUtils.listToString(mPriorityDependencies));
-                }
-              } else {
-                List<Integer> tList = getSortedPriorityDependencyList();
-                boolean equal = true;
-                if (mPriorityDependencies.size() != tList.size()) {
-                  equal = false;
-                }
-                if (equal) {
-                  for (int k = 0; k < tList.size(); k ++) {
-                    if (tList.get(k) != mPriorityDependencies.get(k)) {
-                      equal = false;
-                      break;
-                    }
-                  }
-                }
-
-                if (!equal) {
-                  mPriorityDependencies = tList;
-                }
-              }
-
-              fileId = getFileIdBasedOnPriorityDependency();
-            }
-
-            if (fileId == -1) {
-              fileId = getRandomUncheckpointedFile();
-            }
-          }
-
-          if (fileId == -1) {
-            LOG.debug("Thread {} has nothing to checkpoint. Sleep for 1 sec.", mId);
-            CommonUtils.sleepMs(LOG, Constants.SECOND_MS, true);
-            continue;
+          int fileId;
+          try {
+            fileId = mCheckpointScheduler.take();
+          } catch (InterruptedException e) {
+            break;
           }
 
           // TODO checkpoint process. In future, move from midPath to dstPath should be done by
@@ -216,21 +137,7 @@ public class WorkerStorage {
               }
             }
             os = mCheckpointUfs.create(midPath, (int) fileInfo.getBlockSizeByte());
-            for (int k = 0; k < fileInfo.blockIds.size(); k ++) {
-              ByteBuffer byteBuffer = storageDirs[k].getBlockData(fileInfo.blockIds.get(k), 0, -1);
-              byte[] buf = new byte[16 * Constants.KB];
-              int writeLen;
-              while (byteBuffer.remaining() > 0) {
-                if (byteBuffer.remaining() >= buf.length) {
-                  writeLen = buf.length;
-                } else {
-                  writeLen = byteBuffer.remaining();
-                }
-                byteBuffer.get(buf, 0, writeLen);
-                os.write(buf, 0, writeLen);
-              }
-              CommonUtils.cleanDirectBuffer(byteBuffer);
-            }
+            fileSizeByte = mWriter.write(storageDirs, fileInfo.blockIds, os);
           } finally {
             for (int k = 0; k < fileInfo.blockIds.size(); k ++) {
               if (storageDirs[k] != null) {
@@ -245,20 +152,61 @@ public class WorkerStorage {
             LOG.error("Failed to rename from " + midPath + " to " + dstPath);
           }
           mMasterClient.addCheckpoint(mWorkerId, fileId, fileSizeByte, dstPath);
-          int capMbSec =
-              mTachyonConf.getInt(Constants.WORKER_PER_THREAD_CHECKPOINT_CAP_MB_SEC,
-                  Constants.SECOND_MS);
-          long shouldTakeMs = (long) (1000.0 * fileSizeByte / Constants.MB / capMbSec);
-          long currentTimeMs = System.currentTimeMillis();
-          if (startCopyTimeMs + shouldTakeMs > currentTimeMs) {
-            long shouldSleepMs = startCopyTimeMs + shouldTakeMs - currentTimeMs;
-            LOG.info("Checkpointed last file " + fileId + " took "
-                + (currentTimeMs - startCopyTimeMs) + " ms. Need to sleep " + shouldSleepMs
-                + " ms.");
-            CommonUtils.sleepMs(LOG, shouldSleepMs, true);
+          mCheckpointedBytes.addAndGet(fileSizeByte);
+          mCheckpointedFiles.incrementAndGet();
+          LOG.info("Thread " + mId + " checkpointed file " + fileId + " of " + fileSizeByte
+              + " bytes in " + (System.currentTimeMillis() - startCopyTimeMs) + " ms.");
+        } catch (IOException e) {
+          LOG.error(e.getMessage(), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * The EvictorThread, used to evict blocks of a StorageTier in the background, before space
+   * requests run out of free space.
+   */
+  public class EvictorThread implements Runnable {
+    private final StorageTier mStorageTier;
+
+    public EvictorThread(StorageTier storageTier) {
+      mStorageTier = storageTier;
+    }
+
+    @Override
+    public void run() {
+      long intervalMs = mTachyonConf.getLong(Constants.WORKER_EVICTOR_INTERVAL_MS,
+          Constants.SECOND_MS);
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          mStorageTier.awaitEvictionNeeded(intervalMs);
+          if (!mStorageTier.isAboveHighWatermark()) {
+            continue;
           }
+          Set<Integer> pinList = mMasterClient.worker_getPinIdList();
+          List<Long> removedBlockIds = new ArrayList<Long>();
+          try {
+            long evictedBytes = mStorageTier.evictToLowWatermark(pinList, removedBlockIds);
+            LOG.debug("Evicted {} bytes from {}", evictedBytes, mStorageTier);
+          } finally {
+            if (removedBlockIds.size() > 0) {
+              mRemovedBlockIdList.addAll(removedBlockIds);
+            }
+          }
+          LOG.debug("{} evicted {} bytes in total, {} bytes moved to the next tier, {} inline "
+              + "evictions, eviction lag {} ms", mStorageTier, mStorageTier.getEvictedBytes(),
+              mStorageTier.getMovedBytes(), mStorageTier.getInlineEvictions(),
+              mStorageTier.getEvictionLagMs());
+        } catch (InterruptedException e) {
+          break;
         } catch (IOException e) {
           LOG.error(e.getMessage(), e);
+          CommonUtils.sleepMs(LOG, intervalMs, true);
+        } catch (RuntimeException e) {
+          // The thread keeps running, or the tier would only be evicted inline from then on
+          LOG.error("Failed to evict blocks from " + mStorageTier, e);
+          CommonUtils.sleepMs(LOG, intervalMs, true);
         }
       }
     }
@@ -281,29 +229,41 @@ public class WorkerStorage {
   private UnderFileSystem mUfs;
 
   private Users mUsers;
-  // Dependency related lock
-  private final Object mDependencyLock = new Object();
-  private final Set<Integer> mUncheckpointFiles = new HashSet<Integer>();
-  // From dependencyId to files in that set.
-  private final Map<Integer, Set<Integer>> mDepIdToFiles = new HashMap<Integer, Set<Integer>>();
-
-  private List<Integer> mPriorityDependencies = new ArrayList<Integer>();
+  /** The files of lineage dependencies waiting to be checkpointed */
+  private final CheckpointScheduler mCheckpointScheduler = new CheckpointScheduler();
 
   private final ExecutorService mCheckpointExecutor;
+  /** Reads the next blocks of the files being checkpointed */
+  private final ExecutorService mCheckpointReadAheadExecutor;
+  /** Bandwidth shared by all the checkpoint threads in bytes per second, null if not capped */
+  private final RateLimiter mCheckpointRateLimiter;
+  private final AtomicLong mCheckpointedBytes = new AtomicLong(0);
+  private final AtomicLong mCheckpointedFiles = new AtomicLong(0);
+  private long mLastCheckpointRateMs = System.currentTimeMillis();
+  private long mLastCheckpointedBytes = 0;
+  private volatile double mCheckpointBytesPerSec = 0;
+  private final ExecutorService mEvictorExecutor;
 
   private final ExecutorService mExecutorService;
   private long mCapacityBytes;
   private ArrayList<StorageTier> mStorageTiers;
-  private final BlockingQueue<Long> mRemovedBlockIdList = new ArrayBlockingQueue<Long>(
-      Constants.WORKER_BLOCKS_QUEUE_SIZE);
-  /** Mapping from temporary block Information to StorageDir in which the block is */
-  private final Map<Pair<Long, Long>, StorageDir> mTempBlockLocation = Collections
-      .synchronizedMap(new HashMap<Pair<Long, Long>, StorageDir>());
-  /** Mapping from user id to id list of temporary blocks which are being written by the user */
-  private final Multimap<Long, Long> mUserIdToTempBlockIds = Multimaps
-      .synchronizedMultimap(HashMultimap.<Long, Long>create());
+  /** StorageDirs holding the blocks, shared by the StorageDirs of all the tiers */
+  private final BlockLocationIndex mBlockLocations = new BlockLocationIndex();
+  private final BlockingQueue<Long> mRemovedBlockIdList = new LinkedBlockingQueue<Long>();
+  /** Time of the previous report of all the blocks to the master in ms */
+  private long mLastFullBlockReportMs = System.currentTimeMillis();
+  /**
+   * Held for write while all the blocks are listed and reported, and for read while a block is
+   * cached and reported. A block reported as cached after the full list was taken would otherwise
+   * reach the master first, and be removed from it by the full report.
+   */
+  private final ReadWriteLock mFullBlockReportLock = new ReentrantReadWriteLock();
+  /** Id of the StorageDir of the temporary blocks, by user id and temporary block id */
+  private final UserBlockTable mTempBlockLocation = new UserBlockTable();
 
   private final TachyonConf mTachyonConf;
+  /** The metrics of the worker */
+  private final MetricsRegistry mMetrics = new MetricsRegistry();
 
   /**
    * Main logic behind the worker process.
@@ -330,6 +290,16 @@ public class WorkerStorage {
     int checkpointThreads = mTachyonConf.getInt(Constants.WORKER_CHECKPOINT_THREADS, 1);
     mCheckpointExecutor =
         Executors.newFixedThreadPool(checkpointThreads, ThreadFactoryUtils.build("checkpoint-%d"));
+    mCheckpointReadAheadExecutor = Executors.newFixedThreadPool(checkpointThreads,
+        ThreadFactoryUtils.daemon("checkpoint-read-%d"));
+    int checkpointCapMbSec = mTachyonConf.getInt(Constants.WORKER_CHECKPOINT_CAP_MB_SEC, 0);
+    if (checkpointCapMbSec > 0) {
+      mCheckpointRateLimiter = RateLimiter.create((double) checkpointCapMbSec * Constants.MB);
+    } else {
+      mCheckpointRateLimiter = null;
+    }
+    mEvictorExecutor = Executors.newCachedThreadPool(ThreadFactoryUtils.build("evictor-%d"));
+    registerCheckpointMetrics();
   }
 
   public void initialize(final NetAddress address) {
@@ -357,6 +327,12 @@ public class WorkerStorage {
       mCheckpointExecutor.submit(new CheckpointThread(k));
     }
 
+    if (mTachyonConf.getBoolean(Constants.WORKER_EVICTOR_ASYNC_ENABLED, false)) {
+      for (StorageTier storageTier : mStorageTiers) {
+        mEvictorExecutor.submit(new EvictorThread(storageTier));
+      }
+    }
+
     try {
       addFoundBlocks();
     } catch (IOException e) {
@@ -458,13 +434,7 @@ public class WorkerStorage {
     ClientFileInfo fileInfo = mMasterClient.getFileStatus(fileId, "");
 
     if (fileInfo.getDependencyId() != -1) {
-      synchronized (mDependencyLock) {
-        mUncheckpointFiles.add(fileId);
-        if (!mDepIdToFiles.containsKey(fileInfo.getDependencyId())) {
-          mDepIdToFiles.put(fileInfo.getDependencyId(), new HashSet<Integer>());
-        }
-        mDepIdToFiles.get(fileInfo.getDependencyId()).add(fileId);
-      }
+      mCheckpointScheduler.add(fileId, fileInfo.getDependencyId(), fileInfo.getLength());
       return true;
     }
 
@@ -492,24 +462,28 @@ public class WorkerStorage {
    */
   public void cacheBlock(long userId, long blockId) throws FileDoesNotExistException,
       BlockInfoException, IOException {
-    StorageDir storageDir = mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
+    StorageDir storageDir = getStorageDirById(mTempBlockLocation.remove(userId, blockId));
     if (storageDir == null) {
       throw new FileDoesNotExistException("Block doesn't exist! blockId:" + blockId);
     }
-    mUserIdToTempBlockIds.remove(userId, blockId);
     boolean result = false;
+    mFullBlockReportLock.readLock().lock();
     try {
-      result = storageDir.cacheBlock(userId, blockId);
-    } catch (IOException e) {
-      throw new FileDoesNotExistException("Failed to cache block! blockId:" + blockId);
-    }
-    if (result) {
-      long blockSize = storageDir.getBlockSize(blockId);
-      mMasterClient.worker_cacheBlock(
-          mWorkerId,
-          getUsedBytesOnTiers().get(
-              StorageDirId.getStorageLevelAliasValue(storageDir.getStorageDirId()) - 1),
-          storageDir.getStorageDirId(), blockId, blockSize);
+      try {
+        result = storageDir.cacheBlock(userId, blockId);
+      } catch (IOException e) {
+        throw new FileDoesNotExistException("Failed to cache block! blockId:" + blockId);
+      }
+      if (result) {
+        long blockSize = storageDir.getBlockSize(blockId);
+        mMasterClient.worker_cacheBlock(
+            mWorkerId,
+            getUsedBytesOnTiers().get(
+                StorageDirId.getStorageLevelAliasValue(storageDir.getStorageDirId()) - 1),
+            storageDir.getStorageDirId(), blockId, blockSize);
+      }
+    } finally {
+      mFullBlockReportLock.readLock().unlock();
     }
   }
 
@@ -520,10 +494,9 @@ public class WorkerStorage {
    * @param blockId The id of the block that is cancelled
    */
   public void cancelBlock(long userId, long blockId) {
-    StorageDir storageDir = mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
+    StorageDir storageDir = getStorageDirById(mTempBlockLocation.remove(userId, blockId));
 
     if (storageDir != null) {
-      mUserIdToTempBlockIds.remove(userId, blockId);
       try {
         storageDir.cancelBlock(userId, blockId);
       } catch (IOException e) {
@@ -538,37 +511,95 @@ public class WorkerStorage {
    * It finds the timeout users and cleans them up.
    */
   public void checkStatus() {
+    updateCheckpointRate();
     List<Long> removedUsers = mUsers.checkStatus();
 
     for (long userId : removedUsers) {
-      Collection<Long> tempBlockIdList = mUserIdToTempBlockIds.removeAll(userId);
-      for (Long blockId : tempBlockIdList) {
-        mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
-      }
+      mTempBlockLocation.removeUser(userId);
       for (StorageTier storageTier : mStorageTiers) {
         for (StorageDir storageDir : storageTier.getStorageDirs()) {
-          storageDir.cleanUserResources(userId, tempBlockIdList);
+          storageDir.cleanUserResources(userId);
         }
       }
       mUsers.removeUser(userId);
     }
   }
 
+  /**
+   * Updates the checkpoint throughput with the bytes checkpointed since the previous update.
+   */
+  private synchronized void updateCheckpointRate() {
+    long nowMs = System.currentTimeMillis();
+    long bytes = mCheckpointedBytes.get();
+    if (nowMs > mLastCheckpointRateMs) {
+      mCheckpointBytesPerSec =
+          (bytes - mLastCheckpointedBytes) * 1000.0 / (nowMs - mLastCheckpointRateMs);
+      mLastCheckpointRateMs = nowMs;
+      mLastCheckpointedBytes = bytes;
+    }
+    long backlog = getCheckpointBacklog();
+    if (backlog > 0 || mCheckpointBytesPerSec > 0) {
+      LOG.debug("Checkpointing {} bytes/sec, {} files waiting", mCheckpointBytesPerSec, backlog);
+    }
+  }
+
+  /**
+   * Get the number of files of lineage dependencies waiting to be checkpointed by this worker.
+   *
+   * @return the checkpoint backlog in files
+   */
+  public long getCheckpointBacklog() {
+    return mCheckpointScheduler.size();
+  }
+
+  /**
+   * Get the checkpoint throughput of this worker, measured between the two last status checks.
+   *
+   * @return the number of bytes checkpointed per second
+   */
+  public double getCheckpointBytesPerSec() {
+    return mCheckpointBytesPerSec;
+  }
+
+  /**
+   * Get the number of bytes checkpointed by this worker since it started.
+   *
+   * @return the number of bytes checkpointed
+   */
+  public long getCheckpointedBytes() {
+    return mCheckpointedBytes.get();
+  }
+
+  /**
+   * Get the number of files checkpointed by this worker since it started.
+   *
+   * @return the number of files checkpointed
+   */
+  public long getCheckpointedFiles() {
+    return mCheckpointedFiles.get();
+  }
+
+  /**
+   * Get the metrics of the worker.
+   *
+   * @return the metrics registry of the worker
+   */
+  public MetricsRegistry getMetrics() {
+    return mMetrics;
+  }
+
   /**
    * Remove a block from Tachyon cache space.
    *
    * @param blockId The block to be removed.
    */
   private void freeBlock(long blockId) {
-    for (StorageTier storageTier : mStorageTiers) {
-      for (StorageDir storageDir : storageTier.getStorageDirs()) {
-        if (storageDir.containsBlock(blockId)) {
-          try {
-            storageDir.deleteBlock(blockId);
-          } catch (IOException e) {
-            LOG.error("Failed to delete block file! blockId:{}", blockId);
-          }
-        }
+    StorageDir storageDir = mBlockLocations.get(blockId);
+    if (storageDir != null) {
+      try {
+        storageDir.deleteBlock(blockId);
+      } catch (IOException e) {
+        LOG.error("Failed to delete block file! blockId:{}", blockId);
       }
     }
     mRemovedBlockIdList.add(blockId);
@@ -595,14 +626,21 @@ public class WorkerStorage {
    * @return StorageDir which contains the block
    */
   public StorageDir getStorageDirByBlockId(long blockId) {
-    StorageDir storageDir = null;
-    for (StorageTier storageTier : mStorageTiers) {
-      storageDir = storageTier.getStorageDirByBlockId(blockId);
-      if (storageDir != null) {
-        return storageDir;
-      }
+    return mBlockLocations.get(blockId);
+  }
+
+  /**
+   * Get StorageDir by its id
+   *
+   * @param storageDirId the id of the StorageDir, -1 for none
+   * @return the StorageDir, or null if the id is -1
+   */
+  private StorageDir getStorageDirById(long storageDirId) {
+    if (storageDirId == -1) {
+      return null;
     }
-    return null;
+    return mStorageTiers.get(StorageDirId.getStorageLevel(storageDirId)).getStorageDirByIndex(
+        StorageDirId.getStorageDirIndex(storageDirId));
   }
 
   /**
@@ -654,18 +692,45 @@ public class WorkerStorage {
    * @throws IOException
    */
   public Command heartbeat() throws IOException {
-    List<Long> removedBlockIds = new ArrayList<Long>();
-    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>();
+    // Once in a while all the blocks are reported, so that the master recovers the locations of
+    // blocks whose report was lost, and drops the locations of blocks whose removal was lost.
+    long fullReportIntervalMs =
+        mTachyonConf.getLong(Constants.WORKER_BLOCK_REPORT_FULL_INTERVAL_MS,
+            10 * Constants.MINUTE_MS);
+    long nowMs = System.currentTimeMillis();
+    boolean fullReport =
+        fullReportIntervalMs > 0 && nowMs - mLastFullBlockReportMs >= fullReportIntervalMs;
+    if (!fullReport) {
+      return mMasterClient.worker_heartbeat(mWorkerId, getUsedBytesOnTiers(), takeBlockReport());
+    }
 
-    mRemovedBlockIdList.drainTo(removedBlockIds);
+    mLastFullBlockReportMs = nowMs;
+    mFullBlockReportLock.writeLock().lock();
+    try {
+      BlockReport report = takeBlockReport();
+      // Blocks added after the changes were taken are either listed, or reported next time
+      report = new BlockReport(true, report.getRemovedBlockIds(), mBlockLocations.getBlockIds());
+      return mMasterClient.worker_heartbeat(mWorkerId, getUsedBytesOnTiers(), report);
+    } finally {
+      mFullBlockReportLock.writeLock().unlock();
+    }
+  }
 
+  /**
+   * Takes the blocks removed and added since the previous heartbeat.
+   *
+   * @return the block changes to report to the master
+   */
+  private BlockReport takeBlockReport() {
+    List<Long> removedBlockIds = new ArrayList<Long>();
+    mRemovedBlockIdList.drainTo(removedBlockIds);
+    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>();
     for (StorageTier storageTier : mStorageTiers) {
       for (StorageDir storageDir : storageTier.getStorageDirs()) {
         addedBlockIds.put(storageDir.getStorageDirId(), storageDir.getAddedBlockIdList());
       }
     }
-    return mMasterClient.worker_heartbeat(mWorkerId, getUsedBytesOnTiers(), removedBlockIds,
-        addedBlockIds);
+    return new BlockReport(false, removedBlockIds, addedBlockIds);
   }
 
   /**
@@ -715,8 +780,10 @@ public class WorkerStorage {
       }
       StorageTier curTier =
           new StorageTier(level, storageLevelAlias, dirPaths, dirCapacities, mDataFolder,
-              mUserFolder, nextStorageTier, null, mTachyonConf); // TODO add conf for UFS
+              mUserFolder, nextStorageTier, null, mTachyonConf, // TODO add conf for UFS
+              mBlockLocations);
       curTier.initialize();
+      registerTierMetrics(curTier);
       mCapacityBytes += curTier.getCapacityBytes();
       mStorageTiers.set(level, curTier);
       nextStorageTier = curTier;
@@ -737,12 +804,17 @@ public class WorkerStorage {
    * @return the StorageDir in which the block is locked
    */
   public StorageDir lockBlock(long blockId, long userId) {
-    for (StorageTier tier : mStorageTiers) {
-      for (StorageDir dir : tier.getStorageDirs()) {
-        if (dir.lockBlock(blockId, userId)) {
-          return dir;
-        }
+    StorageDir dir = mBlockLocations.get(blockId);
+    while (dir != null) {
+      if (dir.lockBlock(blockId, userId)) {
+        return dir;
       }
+      // The block may have moved to another StorageDir meanwhile
+      StorageDir newDir = mBlockLocations.get(blockId);
+      if (newDir == dir) {
+        break;
+      }
+      dir = newDir;
     }
     LOG.warn("Failed to lock block! blockId:{}", blockId);
     return null;
@@ -789,6 +861,85 @@ public class WorkerStorage {
     }
   }
 
+  private void registerCheckpointMetrics() {
+    mMetrics.register("checkpoint.backlog.files", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getCheckpointBacklog();
+      }
+    });
+    mMetrics.register("checkpoint.throughput.bytes.sec", new Gauge<Double>() {
+      @Override
+      public Double getValue() {
+        return getCheckpointBytesPerSec();
+      }
+    });
+    mMetrics.register("checkpoint.written.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getCheckpointedBytes();
+      }
+    });
+    mMetrics.register("checkpoint.written.files", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getCheckpointedFiles();
+      }
+    });
+  }
+
+  private void registerTierMetrics(final StorageTier tier) {
+    String prefix = "tier." + tier.getAlias().name().toLowerCase() + ".";
+    mMetrics.register(prefix + "used.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getUsedBytes();
+      }
+    });
+    mMetrics.register(prefix + "read.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getReadBytes();
+      }
+    });
+    mMetrics.register(prefix + "written.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getWrittenBytes();
+      }
+    });
+    mMetrics.register(prefix + "evicted.blocks", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getEvictedBlocks();
+      }
+    });
+    mMetrics.register(prefix + "evicted.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getEvictedBytes();
+      }
+    });
+    mMetrics.register(prefix + "moved.bytes", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getMovedBytes();
+      }
+    });
+    mMetrics.register(prefix + "inline.evictions", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getInlineEvictions();
+      }
+    });
+    mMetrics.register(prefix + "eviction.lag.ms", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return tier.getEvictionLagMs();
+      }
+    });
+  }
+
   /**
    * Register this TachyonWorker to the TachyonMaster
    */
@@ -837,7 +988,7 @@ public class WorkerStorage {
    */
   public String requestBlockLocation(long userId, long blockId, long initialBytes)
       throws OutOfSpaceException, FileAlreadyExistException {
-    if (mTempBlockLocation.containsKey(new Pair<Long, Long>(userId, blockId))) {
+    if (mTempBlockLocation.contains(userId, blockId)) {
       throw new FileAlreadyExistException(String.format("Block file is being written! userId(%d)"
           + " blockId(%d)", userId, blockId));
     }
@@ -847,8 +998,7 @@ public class WorkerStorage {
       throw new OutOfSpaceException(String.format("Failed to allocate space for block! blockId(%d)"
           + " sizeBytes(%d)", blockId, initialBytes));
     }
-    mTempBlockLocation.put(new Pair<Long, Long>(userId, blockId), storageDir);
-    mUserIdToTempBlockIds.put(userId, blockId);
+    mTempBlockLocation.putIfAbsent(userId, blockId, storageDir.getStorageDirId());
     storageDir.updateTempBlockAllocatedBytes(userId, blockId, initialBytes);
 
     return storageDir.getUserTempFilePath(userId, blockId);
@@ -908,7 +1058,7 @@ public class WorkerStorage {
    */
   public boolean requestSpace(long userId, long blockId, long requestBytes)
       throws FileDoesNotExistException {
-    StorageDir storageDir = mTempBlockLocation.get(new Pair<Long, Long>(userId, blockId));
+    StorageDir storageDir = getStorageDirById(mTempBlockLocation.get(userId, blockId));
     if (storageDir == null) {
       throw new FileDoesNotExistException("Temporary block file doesn't exist! blockId:" + blockId);
     }
@@ -937,8 +1087,11 @@ public class WorkerStorage {
     // this will make sure that we don't move on till checkpoint threads are cleaned up
     // needed or tests can get resource issues
     mCheckpointExecutor.shutdownNow();
+    mCheckpointReadAheadExecutor.shutdownNow();
+    mEvictorExecutor.shutdownNow();
     try {
       mCheckpointExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      mEvictorExecutor.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       // didn't stop in time, this is a bug!
       throw Throwables.propagate(e);
@@ -981,9 +1134,14 @@ public class WorkerStorage {
    * @return true if success, false otherwise
    */
   public boolean unlockBlock(long blockId, long userId) {
+    StorageDir indexedDir = mBlockLocations.get(blockId);
+    if (indexedDir != null && indexedDir.unlockBlock(blockId, userId)) {
+      return true;
+    }
+    // The user may hold the lock on the StorageDir the block moved from, or was removed from
     for (StorageTier tier : mStorageTiers) {
       for (StorageDir dir : tier.getStorageDirs()) {
-        if (dir.unlockBlock(blockId, userId)) {
+        if (dir != indexedDir && dir.unlockBlock(blockId, userId)) {
           return true;
         }
       }
@@ -992,6 +1150,42 @@ public class WorkerStorage {
     return false;
   }
 
+  /**
+   * Update the lineage dependencies whose files are checkpointed first.
+   *
+   * This is triggered when the worker heartbeats to the master, which sends a
+   * {@link tachyon.thrift.Command} with type {@link tachyon.thrift.CommandType#Checkpoint} when
+   * the priority dependencies change.
+   *
+   * @param depIds The ids of the priority dependencies, highest priority first
+   */
+  public void updatePriorityDependencies(List<Long> depIds) {
+    List<Integer> priorityDependencies = new ArrayList<Integer>(depIds.size());
+    for (long depId : depIds) {
+      priorityDependencies.add((int) depId);
+    }
+    mCheckpointScheduler.setPriorityDependencies(priorityDependencies);
+    LOG.info("Priority dependencies: " + CommonUtils.listToString(priorityDependencies));
+  }
+
+  /**
+   * Handle the heartbeat of a user reporting its block accesses and unlocks since its last report.
+   * 
+   * @param userId The id of the user
+   * @param accessedBlockIds The ids of the blocks the user accessed
+   * @param unlockedBlockIds The ids of the blocks the user unlocks
+   */
+  public void userBlockReport(long userId, List<Long> accessedBlockIds,
+      List<Long> unlockedBlockIds) {
+    mUsers.userHeartbeat(userId);
+    for (long blockId : accessedBlockIds) {
+      accessBlock(blockId);
+    }
+    for (long blockId : unlockedBlockIds) {
+      unlockBlock(blockId, userId);
+    }
+  }
+
   /**
    * Handle the user's heartbeat.
    * 
@@ -1000,4 +1194,46 @@ public class WorkerStorage {
   public void userHeartbeat(long userId) {
     mUsers.userHeartbeat(userId);
   }
+
+  /**
+   * Append data sent by a remote user to a block it is writing. The first write of the block
+   * allocates its temporary file, every write requests the space for its data first. The space is
+   * returned if the data cannot be appended, e.g. if it does not follow the data written so far.
+   *
+   * @param userId The id of the user writing the block
+   * @param blockId The id of the block
+   * @param offset The offset of the data in the block
+   * @param data The data to append
+   * @throws IOException
+   */
+  public void writeTempBlock(long userId, long blockId, long offset, ByteBuffer data)
+      throws IOException {
+    long length = data.remaining();
+    StorageDir storageDir = getStorageDirById(mTempBlockLocation.get(userId, blockId));
+    try {
+      if (storageDir == null) {
+        requestBlockLocation(userId, blockId, length);
+        storageDir = getStorageDirById(mTempBlockLocation.get(userId, blockId));
+      } else if (!requestSpace(userId, blockId, length)) {
+        throw new IOException(String.format("Failed to allocate space for block! blockId(%d)"
+            + " sizeBytes(%d)", blockId, length));
+      }
+    } catch (OutOfSpaceException e) {
+      throw new IOException(e);
+    } catch (FileAlreadyExistException e) {
+      throw new IOException(e);
+    } catch (FileDoesNotExistException e) {
+      throw new IOException(e);
+    }
+    boolean written = false;
+    try {
+      storageDir.writeTempBlock(userId, blockId, offset, data);
+      written = true;
+    } finally {
+      if (!written) {
+        storageDir.updateTempBlockAllocatedBytes(userId, blockId, -length);
+        storageDir.returnSpace(userId, length);
+      }
+    }
+  }
 }
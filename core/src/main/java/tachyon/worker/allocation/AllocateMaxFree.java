@@ -24,9 +24,10 @@ public class AllocateMaxFree extends AllocateStrategyBase {
 
   @Override
   public StorageDir getStorageDir(StorageDir[] storageDirs, long userId, long requestSizeBytes) {
-    StorageDir availableDir = null;
-    long maxFree = 0;
     while (true) {
+      // Space may be taken concurrently between the scan and the request, so rescan on failure.
+      StorageDir availableDir = null;
+      long maxFree = 0;
       for (StorageDir dir : storageDirs) {
         if (dir.getAvailableBytes() >= maxFree && dir.getAvailableBytes() >= requestSizeBytes) {
           maxFree = dir.getAvailableBytes();
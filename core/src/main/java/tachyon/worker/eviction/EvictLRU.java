@@ -17,6 +17,7 @@ package tachyon.worker.eviction;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,11 +25,13 @@ import java.util.Set;
 import com.google.common.collect.HashMultimap;
 
 import tachyon.Pair;
+import tachyon.worker.hierarchy.BlockAccessIndex;
 import tachyon.worker.hierarchy.BlockInfo;
 import tachyon.worker.hierarchy.StorageDir;
 
 /**
- * Used to evict old blocks among several StorageDirs by LRU strategy.
+ * Used to evict old blocks among several StorageDirs by LRU strategy. The same selection is used
+ * for LFU and LRU_K, with the blocks ordered by the {@link BlockAccessIndex} of each StorageDir.
  */
 public final class EvictLRU extends EvictLRUBase {
 
@@ -42,6 +45,8 @@ public final class EvictLRU extends EvictLRUBase {
     List<BlockInfo> blockInfoList = new ArrayList<BlockInfo>();
     Map<StorageDir, Pair<Long, Long>> dir2LRUBlocks = new HashMap<StorageDir, Pair<Long, Long>>();
     HashMultimap<StorageDir, Long> dir2BlocksToEvict = HashMultimap.create();
+    Map<StorageDir, Iterator<BlockAccessIndex.Entry>> dir2Candidates =
+        new HashMap<StorageDir, Iterator<BlockAccessIndex.Entry>>();
     Map<StorageDir, Long> sizeToEvict = new HashMap<StorageDir, Long>();
     // If no StorageDir has enough space for the request size, continue; if no block can be evicted,
     // return null; and if eviction size plus free space of some StorageDir is larger than request
@@ -49,7 +54,8 @@ public final class EvictLRU extends EvictLRUBase {
     while (true) {
       // Get oldest block in StorageDir candidates
       Pair<StorageDir, Long> candidate =
-          getLRUBlockCandidate(storageDirs, dir2LRUBlocks, dir2BlocksToEvict, pinList);
+          getLRUBlockCandidate(storageDirs, dir2LRUBlocks, dir2BlocksToEvict, dir2Candidates,
+              pinList);
       StorageDir dir = candidate.getFirst();
       if (dir == null) {
         return null;
@@ -80,12 +86,14 @@ public final class EvictLRU extends EvictLRUBase {
    * @param storageDirs StorageDir candidates that the space will be allocated in
    * @param dir2LRUBlocks the oldest access information of each StorageDir
    * @param dir2BlocksToEvict Ids of blocks that have been selected to be evicted
+   * @param dir2Candidates position of the selection in the index of each StorageDir
    * @param pinList list of pinned files
    * @return pair of StorageDir that contains the block to be evicted and Id of the block
    */
   private Pair<StorageDir, Long> getLRUBlockCandidate(StorageDir[] storageDirs,
       Map<StorageDir, Pair<Long, Long>> dir2LRUBlocks,
-      HashMultimap<StorageDir, Long> dir2BlocksToEvict, Set<Integer> pinList) {
+      HashMultimap<StorageDir, Long> dir2BlocksToEvict,
+      Map<StorageDir, Iterator<BlockAccessIndex.Entry>> dir2Candidates, Set<Integer> pinList) {
     StorageDir dirCandidate = null;
     long blockId = -1;
     long oldestTime = Long.MAX_VALUE;
@@ -93,7 +101,12 @@ public final class EvictLRU extends EvictLRUBase {
       Pair<Long, Long> lruBlock;
       if (!dir2LRUBlocks.containsKey(dir)) {
         Set<Long> blocksToEvict = dir2BlocksToEvict.get(dir);
-        lruBlock = getLRUBlock(dir, blocksToEvict, pinList);
+        Iterator<BlockAccessIndex.Entry> candidates = dir2Candidates.get(dir);
+        if (candidates == null) {
+          candidates = dir.getBlockAccessIndex().iterator();
+          dir2Candidates.put(dir, candidates);
+        }
+        lruBlock = getLRUBlock(dir, candidates, blocksToEvict, pinList);
         if (lruBlock.getFirst() != -1) {
           dir2LRUBlocks.put(dir, lruBlock);
         } else {
@@ -16,15 +16,17 @@
 package tachyon.worker.eviction;
 
 import java.util.Collection;
-import java.util.Map.Entry;
+import java.util.Iterator;
 import java.util.Set;
 
 import tachyon.Pair;
 import tachyon.master.BlockInfo;
+import tachyon.worker.hierarchy.BlockAccessIndex;
 import tachyon.worker.hierarchy.StorageDir;
 
 /**
- * Base class for evicting blocks by LRU strategy.
+ * Base class for evicting blocks in the order of the {@link BlockAccessIndex} of each StorageDir,
+ * which is LRU unless another order is configured by {@link EvictStrategyType}.
  */
 public abstract class EvictLRUBase implements EvictStrategy {
   private final boolean mLastTier;
@@ -45,31 +47,30 @@ public abstract class EvictLRUBase implements EvictStrategy {
   }
 
   /**
-   * Get the oldest access information of certain StorageDir
+   * Get the next block to evict of certain StorageDir. The candidates iterator is advanced past
+   * the returned block, so that selecting k blocks of a StorageDir only walks its index once.
    * 
    * @param curDir current StorageDir
+   * @param candidates iterator over the index of current StorageDir
    * @param toEvictBlockIds the Ids of blocks that have been selected to be evicted
    * @param pinList list of pinned files
-   * @return the oldest access information of current StorageDir
+   * @return pair of the Id and the eviction priority of the block, the Id is -1 if no block of
+   *         current StorageDir can be evicted
    */
-  protected Pair<Long, Long> getLRUBlock(StorageDir curDir, Collection<Long> toEvictBlockIds,
+  protected Pair<Long, Long> getLRUBlock(StorageDir curDir,
+      Iterator<BlockAccessIndex.Entry> candidates, Collection<Long> toEvictBlockIds,
       Set<Integer> pinList) {
-    long blockId = -1;
-    long oldestTime = Long.MAX_VALUE;
-    Set<Entry<Long, Long>> accessTimes = curDir.getLastBlockAccessTimeMs();
-
-    for (Entry<Long, Long> accessTime : accessTimes) {
-      if (toEvictBlockIds.contains(accessTime.getKey())) {
+    while (candidates.hasNext()) {
+      BlockAccessIndex.Entry entry = candidates.next();
+      long blockId = entry.getBlockId();
+      // A block accessed during the iteration may be returned again by the iterator
+      if (toEvictBlockIds.contains(blockId) || curDir.isBlockLocked(blockId)) {
         continue;
       }
-      if (accessTime.getValue() < oldestTime && !curDir.isBlockLocked(accessTime.getKey())) {
-        if (blockEvictable(accessTime.getKey(), pinList)) {
-          oldestTime = accessTime.getValue();
-          blockId = accessTime.getKey();
-        }
+      if (blockEvictable(blockId, pinList)) {
+        return new Pair<Long, Long>(blockId, entry.getPriority());
       }
     }
-
-    return new Pair<Long, Long>(blockId, oldestTime);
+    return new Pair<Long, Long>(-1L, Long.MAX_VALUE);
   }
 }
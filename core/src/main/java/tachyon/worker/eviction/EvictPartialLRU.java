@@ -17,10 +17,12 @@ package tachyon.worker.eviction;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import tachyon.Pair;
+import tachyon.worker.hierarchy.BlockAccessIndex;
 import tachyon.worker.hierarchy.BlockInfo;
 import tachyon.worker.hierarchy.StorageDir;
 
@@ -41,9 +43,11 @@ public final class EvictPartialLRU extends EvictLRUBase {
     StorageDir dirSelected = getDirWithMaxFreeSpace(requestBytes, storageDirs, ignoredDirs);
     while (dirSelected != null) {
       Set<Long> blockIdSet = new HashSet<Long>();
+      Iterator<BlockAccessIndex.Entry> candidates = dirSelected.getBlockAccessIndex().iterator();
       long sizeToEvict = 0;
       while (sizeToEvict + dirSelected.getAvailableBytes() < requestBytes) {
-        Pair<Long, Long> oldestAccess = getLRUBlock(dirSelected, blockIdSet, pinList);
+        Pair<Long, Long> oldestAccess =
+            getLRUBlock(dirSelected, candidates, blockIdSet, pinList);
         if (oldestAccess.getFirst() != -1) {
           long blockSize = dirSelected.getBlockSize(oldestAccess.getFirst());
           sizeToEvict += blockSize;
@@ -33,6 +33,7 @@ public class EvictStrategies {
       case PARTIAL_LRU:
         return new EvictPartialLRU(isLastTier);
       default:
+        // The order of LFU and LRU_K is kept by the BlockAccessIndex of each StorageDir
         return new EvictLRU(isLastTier);
     }
   }
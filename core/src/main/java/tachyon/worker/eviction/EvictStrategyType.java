@@ -16,7 +16,8 @@
 package tachyon.worker.eviction;
 
 /**
- * Different types of EvictionStrategy, currently LRU based strategies are implemented
+ * Different types of EvictionStrategy, they decide the order of the
+ * {@link tachyon.worker.hierarchy.BlockAccessIndex} of each StorageDir
  */
 public enum EvictStrategyType {
   /**
@@ -26,5 +27,15 @@ public enum EvictStrategyType {
   /**
    * Evict old blocks in certain StorageDir by LRU.
    */
-  PARTIAL_LRU;
+  PARTIAL_LRU,
+  /**
+   * Evict least frequently accessed blocks among several StorageDirs, least recently accessed
+   * first among blocks accessed as often.
+   */
+  LFU,
+  /**
+   * Evict blocks with the oldest K-th most recent access among several StorageDirs, blocks
+   * accessed fewer than K times first.
+   */
+  LRU_K;
 }
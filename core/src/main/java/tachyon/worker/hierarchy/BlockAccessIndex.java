@@ -0,0 +1,390 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tachyon.worker.eviction.EvictStrategyType;
+
+/**
+ * Keeps the blocks of a StorageDir ordered by eviction priority, so that evictors get the next
+ * block to evict in O(log n) instead of scanning every block. The priority depends on the
+ * {@link EvictStrategyType}: the last access time for LRU, the number of accesses for LFU, and the
+ * K-th most recent access time for LRU_K, blocks accessed fewer than K times coming first. Ties are
+ * broken by the order of the last accesses.
+ * <p>
+ * The accesses of a block are kept in a {@link LongSlotTable}, and the order in a binary heap of
+ * primitive longs which the slot of each block points into, so an indexed block costs no object.
+ */
+public final class BlockAccessIndex {
+  /**
+   * An indexed block, as returned by the iterator of the index.
+   */
+  public static final class Entry {
+    private final long mBlockId;
+    private final long mPriority;
+
+    private Entry(long blockId, long priority) {
+      mBlockId = blockId;
+      mPriority = priority;
+    }
+
+    /**
+     * Get Id of the block
+     *
+     * @return Id of the block
+     */
+    public long getBlockId() {
+      return mBlockId;
+    }
+
+    /**
+     * Get the eviction priority of the block, blocks with a lower priority are evicted first.
+     * Priorities of StorageDirs using the same EvictStrategyType are comparable.
+     *
+     * @return the eviction priority of the block
+     */
+    public long getPriority() {
+      return mPriority;
+    }
+  }
+
+  /**
+   * A binary min heap of blocks, by priority then access sequence, in parallel arrays of longs.
+   * The slot of each block in mBlocks keeps its position.
+   */
+  private final class Heap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] mBlockIds;
+    private long[] mPriorities;
+    private long[] mSequences;
+    private int mSize;
+    /** Incremented whenever a block is put at a position, so that iterators see the changes */
+    private long mModCount = 0;
+
+    Heap() {
+      mBlockIds = new long[INITIAL_CAPACITY];
+      mPriorities = new long[INITIAL_CAPACITY];
+      mSequences = new long[INITIAL_CAPACITY];
+      mSize = 0;
+    }
+
+    /** Add a block at the end of the heap, it must then be moved to its place by fix */
+    int append(long blockId, long priority, long sequence) {
+      if (mSize == mBlockIds.length) {
+        mBlockIds = Arrays.copyOf(mBlockIds, mSize * 2);
+        mPriorities = Arrays.copyOf(mPriorities, mSize * 2);
+        mSequences = Arrays.copyOf(mSequences, mSize * 2);
+      }
+      set(mSize, blockId, priority, sequence);
+      return mSize ++;
+    }
+
+    /** Move the block at a position up or down to its place */
+    void fix(int pos) {
+      while (pos > 0 && less(pos, (pos - 1) / 2)) {
+        swap(pos, (pos - 1) / 2);
+        pos = (pos - 1) / 2;
+      }
+      while (true) {
+        int child = 2 * pos + 1;
+        if (child >= mSize) {
+          break;
+        }
+        if (child + 1 < mSize && less(child + 1, child)) {
+          child ++;
+        }
+        if (!less(child, pos)) {
+          break;
+        }
+        swap(pos, child);
+        pos = child;
+      }
+    }
+
+    /** Whether the block at a position comes after the given priority and sequence */
+    private boolean after(int pos, long priority, long sequence) {
+      if (mPriorities[pos] != priority) {
+        return mPriorities[pos] > priority;
+      }
+      return mSequences[pos] > sequence;
+    }
+
+    private boolean less(int i, int j) {
+      if (mPriorities[i] != mPriorities[j]) {
+        return mPriorities[i] < mPriorities[j];
+      }
+      return mSequences[i] < mSequences[j];
+    }
+
+    /** Remove the block at a position */
+    void remove(int pos) {
+      mSize --;
+      if (pos != mSize) {
+        set(pos, mBlockIds[mSize], mPriorities[mSize], mSequences[mSize]);
+        fix(pos);
+      }
+    }
+
+    void set(int pos, long blockId, long priority, long sequence) {
+      mBlockIds[pos] = blockId;
+      mPriorities[pos] = priority;
+      mSequences[pos] = sequence;
+      mBlocks.set(mBlocks.find(blockId), LongSlotTable.STATE, LongSlotTable.OCCUPIED | pos);
+      mModCount ++;
+    }
+
+    private void swap(int i, int j) {
+      long blockId = mBlockIds[i];
+      long priority = mPriorities[i];
+      long sequence = mSequences[i];
+      set(i, mBlockIds[j], mPriorities[j], mSequences[j]);
+      set(j, blockId, priority, sequence);
+    }
+  }
+
+  /**
+   * Walks the heap in order without copying it: the frontier holds the positions of the heads of
+   * the subtrees left to walk, itself ordered as a heap, and the next block is the least head. When
+   * the heap changed since the frontier was built, it is built again from the subtrees of the
+   * blocks after the last one returned, which only visits the blocks already walked past.
+   */
+  private final class OrderIterator implements Iterator<Entry> {
+    private int[] mFrontier = new int[16];
+    private int mFrontierSize = 0;
+    /** The modification count of the heap the frontier was built for, -1 before the first */
+    private long mModCount = -1;
+    private long mLastPriority = Long.MIN_VALUE;
+    private long mLastSequence = Long.MIN_VALUE;
+
+    /** Build the frontier again from the heads of the subtrees after the last block returned */
+    private void rebuildFrontier() {
+      mFrontierSize = 0;
+      int[] pending = new int[16];
+      int pendingSize = 0;
+      if (mOrder.mSize > 0) {
+        pending[pendingSize ++] = 0;
+      }
+      while (pendingSize > 0) {
+        int pos = pending[-- pendingSize];
+        if (mOrder.after(pos, mLastPriority, mLastSequence)) {
+          pushFrontier(pos);
+          continue;
+        }
+        for (int child = 2 * pos + 1; child <= 2 * pos + 2 && child < mOrder.mSize; child ++) {
+          if (pendingSize == pending.length) {
+            pending = Arrays.copyOf(pending, pendingSize * 2);
+          }
+          pending[pendingSize ++] = child;
+        }
+      }
+      mModCount = mOrder.mModCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      synchronized (BlockAccessIndex.this) {
+        if (mModCount != mOrder.mModCount) {
+          rebuildFrontier();
+        }
+        return mFrontierSize > 0;
+      }
+    }
+
+    @Override
+    public Entry next() {
+      synchronized (BlockAccessIndex.this) {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int pos = mFrontier[0];
+        mFrontier[0] = mFrontier[-- mFrontierSize];
+        siftDownFrontier();
+        for (int child = 2 * pos + 1; child <= 2 * pos + 2 && child < mOrder.mSize; child ++) {
+          pushFrontier(child);
+        }
+        mLastPriority = mOrder.mPriorities[pos];
+        mLastSequence = mOrder.mSequences[pos];
+        return new Entry(mOrder.mBlockIds[pos], mLastPriority);
+      }
+    }
+
+    private void pushFrontier(int pos) {
+      if (mFrontierSize == mFrontier.length) {
+        mFrontier = Arrays.copyOf(mFrontier, mFrontierSize * 2);
+      }
+      int k = mFrontierSize ++;
+      while (k > 0 && mOrder.less(pos, mFrontier[(k - 1) / 2])) {
+        mFrontier[k] = mFrontier[(k - 1) / 2];
+        k = (k - 1) / 2;
+      }
+      mFrontier[k] = pos;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove is not supported");
+    }
+
+    private void siftDownFrontier() {
+      int k = 0;
+      while (true) {
+        int child = 2 * k + 1;
+        if (child >= mFrontierSize) {
+          break;
+        }
+        if (child + 1 < mFrontierSize && mOrder.less(mFrontier[child + 1], mFrontier[child])) {
+          child ++;
+        }
+        if (!mOrder.less(mFrontier[child], mFrontier[k])) {
+          break;
+        }
+        int tmp = mFrontier[k];
+        mFrontier[k] = mFrontier[child];
+        mFrontier[child] = tmp;
+        k = child;
+      }
+    }
+  }
+
+  /** Logical clock ordering the accesses of all StorageDirs */
+  private static final AtomicLong ACCESS_SEQUENCE = new AtomicLong(0);
+
+  /** The position of the block in the heap is kept in the low 32 bits of its state */
+  private static final long POSITION_MASK = 0xFFFFFFFFL;
+  private static final int PRIORITY = 2;
+  private static final int SEQUENCE = 3;
+  private static final int ACCESS_COUNT = 4;
+  /** The most recent access times in milliseconds, the latest first, only kept for LRU_K */
+  private static final int HISTORY = 5;
+
+  private final EvictStrategyType mStrategyType;
+  /** Number of access times kept per block for LRU_K */
+  private final int mK;
+  /** The accesses of the blocks and their position in mOrder, by block Id */
+  private final LongSlotTable mBlocks;
+  private final Heap mOrder = new Heap();
+
+  /**
+   * Create a new BlockAccessIndex.
+   *
+   * @param strategyType the eviction strategy the order is computed for
+   * @param k number of access times used by LRU_K, ignored by other strategies
+   */
+  public BlockAccessIndex(EvictStrategyType strategyType, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("LRU-K needs K >= 1, but K is " + k);
+    }
+    mStrategyType = strategyType;
+    mK = k;
+    mBlocks = new LongSlotTable(HISTORY + (strategyType == EvictStrategyType.LRU_K ? k : 0),
+        false);
+  }
+
+  /**
+   * Record an access of the block, adding the block to the index if it is not indexed yet.
+   *
+   * @param blockId Id of the block
+   * @param accessTimeMs access time of the block in milliseconds
+   */
+  public synchronized void access(long blockId, long accessTimeMs) {
+    int slot = mBlocks.find(blockId);
+    int pos = -1;
+    if (slot < 0) {
+      slot = mBlocks.add(blockId);
+    } else {
+      pos = (int) (mBlocks.get(slot, LongSlotTable.STATE) & POSITION_MASK);
+    }
+    long accessCount = mBlocks.get(slot, ACCESS_COUNT) + 1;
+    mBlocks.set(slot, ACCESS_COUNT, accessCount);
+    if (mStrategyType == EvictStrategyType.LRU_K) {
+      for (int k = mK - 1; k > 0; k --) {
+        mBlocks.set(slot, HISTORY + k, mBlocks.get(slot, HISTORY + k - 1));
+      }
+      mBlocks.set(slot, HISTORY, accessTimeMs);
+    }
+    long priority = getPriority(slot, accessTimeMs, accessCount);
+    long sequence = ACCESS_SEQUENCE.incrementAndGet();
+    mBlocks.set(slot, PRIORITY, priority);
+    mBlocks.set(slot, SEQUENCE, sequence);
+    if (pos < 0) {
+      pos = mOrder.append(blockId, priority, sequence);
+    } else {
+      mOrder.set(pos, blockId, priority, sequence);
+    }
+    mOrder.fix(pos);
+  }
+
+  /**
+   * Check whether the block is indexed
+   *
+   * @param blockId Id of the block
+   * @return true if the block is indexed, false otherwise
+   */
+  public synchronized boolean contains(long blockId) {
+    return mBlocks.find(blockId) >= 0;
+  }
+
+  private long getPriority(int slot, long accessTimeMs, long accessCount) {
+    switch (mStrategyType) {
+      case LFU:
+        return accessCount;
+      case LRU_K:
+        // Blocks without K accesses have an infinite backward K-distance, evict them first.
+        return accessCount < mK ? 0 : mBlocks.get(slot, HISTORY + mK - 1);
+      default:
+        return accessTimeMs;
+    }
+  }
+
+  /**
+   * Get the indexed blocks in eviction order, lowest priority first. The iterator walks the index
+   * itself, one block per step: it does not fail on concurrent accesses, it returns the blocks
+   * after the last one it returned, so a block accessed while iterating may be returned twice.
+   *
+   * @return iterator over the entries of the blocks
+   */
+  public Iterator<Entry> iterator() {
+    return new OrderIterator();
+  }
+
+  /**
+   * Remove the block from the index
+   *
+   * @param blockId Id of the block
+   */
+  public synchronized void remove(long blockId) {
+    int slot = mBlocks.find(blockId);
+    if (slot >= 0) {
+      int pos = (int) (mBlocks.get(slot, LongSlotTable.STATE) & POSITION_MASK);
+      mBlocks.remove(slot);
+      mOrder.remove(pos);
+    }
+  }
+
+  /**
+   * Get the number of indexed blocks
+   *
+   * @return the number of blocks
+   */
+  public synchronized int size() {
+    return mBlocks.size();
+  }
+}
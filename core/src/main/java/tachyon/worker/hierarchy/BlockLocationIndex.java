@@ -0,0 +1,183 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps each block to the StorageDir holding it, for all the StorageDirs of a worker, so that a
+ * block is found without asking every StorageDir of every tier. The StorageDirs keep it up to date
+ * under the lock of their blocks: a block added to a StorageDir, including the copy of a block
+ * being moved, points to its new StorageDir before the old one removes it, so a moved block is
+ * always found in one of them.
+ * <p>
+ * Each StorageDir is numbered once, and a block is mapped to the number of its StorageDir in
+ * {@link LongSlotTable}s split into segments with their own lock, like {@link BlockMetadataTable},
+ * so a block costs no object.
+ */
+public final class BlockLocationIndex {
+  /** The number of the StorageDir of a block is kept in the low 32 bits of its state */
+  private static final long DIR_MASK = 0xFFFFFFFFL;
+
+  private static final class Segment {
+    private final LongSlotTable mTable = new LongSlotTable(2, false);
+
+    /** Copy the blocks to the lists of their StorageDirs, by StorageDir number */
+    synchronized void copyTo(Map<Integer, List<Long>> blockIds) {
+      for (int slot = 0; slot < mTable.capacity(); slot ++) {
+        if (mTable.isOccupied(slot)) {
+          int dir = getDir(slot);
+          List<Long> dirBlockIds = blockIds.get(dir);
+          if (dirBlockIds == null) {
+            dirBlockIds = new ArrayList<Long>();
+            blockIds.put(dir, dirBlockIds);
+          }
+          dirBlockIds.add(mTable.get(slot, LongSlotTable.KEY));
+        }
+      }
+    }
+
+    synchronized int get(long blockId) {
+      int slot = mTable.find(blockId);
+      return slot < 0 ? -1 : getDir(slot);
+    }
+
+    private int getDir(int slot) {
+      return (int) (mTable.get(slot, LongSlotTable.STATE) & DIR_MASK);
+    }
+
+    synchronized void put(long blockId, int dir) {
+      int slot = mTable.find(blockId);
+      if (slot < 0) {
+        slot = mTable.add(blockId);
+      }
+      mTable.set(slot, LongSlotTable.STATE, LongSlotTable.OCCUPIED | dir);
+    }
+
+    synchronized void remove(long blockId, int dir) {
+      int slot = mTable.find(blockId);
+      if (slot >= 0 && getDir(slot) == dir) {
+        mTable.remove(slot);
+      }
+    }
+
+    synchronized int size() {
+      return mTable.size();
+    }
+  }
+
+  private final Segment[] mSegments = new Segment[LongSlotTable.SEGMENTS];
+  /** The StorageDirs by number, only appended to */
+  private volatile StorageDir[] mDirs = new StorageDir[0];
+
+  public BlockLocationIndex() {
+    for (int k = 0; k < LongSlotTable.SEGMENTS; k ++) {
+      mSegments[k] = new Segment();
+    }
+  }
+
+  /**
+   * Records that a StorageDir holds a block, replacing its previous StorageDir.
+   *
+   * @param blockId the id of the block
+   * @param dir the StorageDir holding the block
+   */
+  void add(long blockId, StorageDir dir) {
+    segment(blockId).put(blockId, getDirNumber(dir));
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return the StorageDir holding the block, or null if no StorageDir holds it
+   */
+  public StorageDir get(long blockId) {
+    int dir = segment(blockId).get(blockId);
+    return dir < 0 ? null : mDirs[dir];
+  }
+
+  /**
+   * Lists the blocks of each StorageDir. A block moving between StorageDirs while the blocks are
+   * listed is listed once, in one of them.
+   *
+   * @return mapping from StorageDir id to the ids of the blocks in the StorageDir
+   */
+  public Map<Long, List<Long>> getBlockIds() {
+    Map<Integer, List<Long>> blockIdsByNumber = new HashMap<Integer, List<Long>>();
+    for (Segment segment : mSegments) {
+      segment.copyTo(blockIdsByNumber);
+    }
+    StorageDir[] dirs = mDirs;
+    Map<Long, List<Long>> blockIds = new HashMap<Long, List<Long>>();
+    for (Map.Entry<Integer, List<Long>> entry : blockIdsByNumber.entrySet()) {
+      blockIds.put(dirs[entry.getKey()].getStorageDirId(), entry.getValue());
+    }
+    return blockIds;
+  }
+
+  /**
+   * @return the number of the StorageDir, numbering it if it has no number yet
+   */
+  private int getDirNumber(StorageDir dir) {
+    StorageDir[] dirs = mDirs;
+    for (int k = 0; k < dirs.length; k ++) {
+      if (dirs[k] == dir) {
+        return k;
+      }
+    }
+    synchronized (this) {
+      dirs = mDirs;
+      for (int k = 0; k < dirs.length; k ++) {
+        if (dirs[k] == dir) {
+          return k;
+        }
+      }
+      dirs = Arrays.copyOf(dirs, dirs.length + 1);
+      dirs[dirs.length - 1] = dir;
+      mDirs = dirs;
+      return dirs.length - 1;
+    }
+  }
+
+  /**
+   * Records that a StorageDir does not hold a block anymore. The location is kept if the block
+   * already moved to another StorageDir.
+   *
+   * @param blockId the id of the block
+   * @param dir the StorageDir removing the block
+   */
+  void remove(long blockId, StorageDir dir) {
+    segment(blockId).remove(blockId, getDirNumber(dir));
+  }
+
+  private Segment segment(long blockId) {
+    return mSegments[LongSlotTable.segment(blockId)];
+  }
+
+  /**
+   * @return the number of blocks indexed
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : mSegments) {
+      size += segment.size();
+    }
+    return size;
+  }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The metadata of the blocks of a StorageDir: size, last access time, lock count and state, in one
+ * slot of four longs per block. The slots are kept in {@link LongSlotTable}s, on the heap or in
+ * direct memory, so the metadata of a block costs no object and the garbage collector has nothing
+ * to trace in it however many blocks the worker holds. The eviction order of the blocks is kept
+ * apart, by {@link BlockAccessIndex}.
+ * <p>
+ * The table is split into segments with their own lock, each operation on a block is atomic.
+ * <p>
+ * A block being removed stays in the table, with its size, until the last user unlocks it. It is
+ * not contained anymore, and cannot be accessed or locked again.
+ */
+final class BlockMetadataTable {
+  private static final int SLOT_LONGS = 4;
+  private static final int ID = LongSlotTable.KEY;
+  /** Flags, and the number of users locking the block in the low 32 bits */
+  private static final int STATE = LongSlotTable.STATE;
+  private static final int SIZE = 2;
+  private static final int ACCESS_TIME = 3;
+
+  private static final long REMOVING = 1L << 61;
+  /** The block was added and is not reported yet */
+  private static final long ADDED = 1L << 60;
+  private static final long LOCK_COUNT_MASK = 0xFFFFFFFFL;
+
+  private static final class Segment {
+    private final LongSlotTable mTable;
+    private long mLockedBytes = 0;
+
+    Segment(boolean offHeap) {
+      mTable = new LongSlotTable(SLOT_LONGS, offHeap);
+    }
+
+    private long get(int slot, int field) {
+      return mTable.get(slot, field);
+    }
+
+    private void set(int slot, int field, long value) {
+      mTable.set(slot, field, value);
+    }
+
+    private int find(long blockId) {
+      return mTable.find(blockId);
+    }
+
+    /** @return the slot of the block if it is contained, -1 otherwise */
+    private int findContained(long blockId) {
+      int slot = find(blockId);
+      return slot >= 0 && (get(slot, STATE) & REMOVING) == 0 ? slot : -1;
+    }
+
+    synchronized boolean access(long blockId, long accessTimeMs) {
+      int slot = findContained(blockId);
+      if (slot < 0) {
+        return false;
+      }
+      set(slot, ACCESS_TIME, accessTimeMs);
+      return true;
+    }
+
+    synchronized boolean clearAdded(long blockId) {
+      int slot = find(blockId);
+      if (slot < 0 || (get(slot, STATE) & ADDED) == 0) {
+        return false;
+      }
+      set(slot, STATE, get(slot, STATE) & ~ADDED);
+      return true;
+    }
+
+    synchronized boolean contains(long blockId) {
+      return findContained(blockId) >= 0;
+    }
+
+    /** Copy a field of the blocks to the map, by block Id */
+    synchronized void copyTo(Map<Long, Long> values, int field, boolean includeRemoving) {
+      for (int slot = 0; slot < mTable.capacity(); slot ++) {
+        if (mTable.isOccupied(slot) && (includeRemoving || (get(slot, STATE) & REMOVING) == 0)) {
+          values.put(get(slot, ID), get(slot, field));
+        }
+      }
+    }
+
+    synchronized long getAccessTimeMs(long blockId) {
+      int slot = find(blockId);
+      return slot < 0 ? -1 : get(slot, ACCESS_TIME);
+    }
+
+    synchronized int getLockCount(long blockId) {
+      int slot = find(blockId);
+      return slot < 0 ? 0 : (int) (get(slot, STATE) & LOCK_COUNT_MASK);
+    }
+
+    synchronized long getLockedBytes() {
+      return mLockedBytes;
+    }
+
+    synchronized long getSize(long blockId) {
+      int slot = find(blockId);
+      return slot < 0 ? -1 : get(slot, SIZE);
+    }
+
+    synchronized boolean isRemoving(long blockId) {
+      int slot = find(blockId);
+      return slot >= 0 && (get(slot, STATE) & REMOVING) != 0;
+    }
+
+    synchronized boolean lock(long blockId) {
+      int slot = findContained(blockId);
+      if (slot < 0) {
+        return false;
+      }
+      long state = get(slot, STATE);
+      if ((state & LOCK_COUNT_MASK) == 0) {
+        mLockedBytes += get(slot, SIZE);
+      }
+      set(slot, STATE, state + 1);
+      return true;
+    }
+
+    synchronized boolean markAdded(long blockId) {
+      int slot = find(blockId);
+      if (slot < 0 || (get(slot, STATE) & ADDED) != 0) {
+        return false;
+      }
+      set(slot, STATE, get(slot, STATE) | ADDED);
+      return true;
+    }
+
+    synchronized boolean markRemoving(long blockId) {
+      int slot = findContained(blockId);
+      if (slot < 0) {
+        return false;
+      }
+      set(slot, STATE, get(slot, STATE) | REMOVING);
+      return true;
+    }
+
+    synchronized long put(long blockId, long sizeBytes, long accessTimeMs) {
+      int slot = find(blockId);
+      if (slot >= 0) {
+        long oldSize = get(slot, SIZE);
+        long state = get(slot, STATE);
+        if ((state & LOCK_COUNT_MASK) != 0) {
+          mLockedBytes += sizeBytes - oldSize;
+        }
+        set(slot, SIZE, sizeBytes);
+        set(slot, ACCESS_TIME, accessTimeMs);
+        set(slot, STATE, state & ~REMOVING);
+        return oldSize;
+      }
+      slot = mTable.add(blockId);
+      set(slot, SIZE, sizeBytes);
+      set(slot, ACCESS_TIME, accessTimeMs);
+      return -1;
+    }
+
+    synchronized long remove(long blockId) {
+      int slot = find(blockId);
+      if (slot < 0) {
+        return -1;
+      }
+      long sizeBytes = get(slot, SIZE);
+      if ((get(slot, STATE) & LOCK_COUNT_MASK) != 0) {
+        mLockedBytes -= sizeBytes;
+      }
+      mTable.remove(slot);
+      return sizeBytes;
+    }
+
+    synchronized int size() {
+      return mTable.size();
+    }
+
+    synchronized int unlock(long blockId) {
+      int slot = find(blockId);
+      if (slot < 0) {
+        return -1;
+      }
+      long state = get(slot, STATE);
+      if ((state & LOCK_COUNT_MASK) == 0) {
+        return -1;
+      }
+      state --;
+      set(slot, STATE, state);
+      if ((state & LOCK_COUNT_MASK) == 0) {
+        mLockedBytes -= get(slot, SIZE);
+      }
+      return (int) (state & LOCK_COUNT_MASK);
+    }
+  }
+
+  private final Segment[] mSegments = new Segment[LongSlotTable.SEGMENTS];
+
+  /**
+   * @param offHeap whether to keep the slots in direct memory rather than on the heap
+   */
+  BlockMetadataTable(boolean offHeap) {
+    for (int k = 0; k < LongSlotTable.SEGMENTS; k ++) {
+      mSegments[k] = new Segment(offHeap);
+    }
+  }
+
+  /**
+   * Update the last access time of a contained block
+   *
+   * @param blockId Id of the block
+   * @param accessTimeMs access time of the block in milliseconds
+   * @return true if the block is contained, false otherwise
+   */
+  boolean access(long blockId, long accessTimeMs) {
+    return segment(blockId).access(blockId, accessTimeMs);
+  }
+
+  /**
+   * Clear the mark of a block added and not reported yet
+   *
+   * @param blockId Id of the block
+   * @return true if the block was marked, false otherwise
+   */
+  boolean clearAdded(long blockId) {
+    return segment(blockId).clearAdded(blockId);
+  }
+
+  /**
+   * @param blockId Id of the block
+   * @return true if the block is in the table and not being removed, false otherwise
+   */
+  boolean contains(long blockId) {
+    return segment(blockId).contains(blockId);
+  }
+
+  /**
+   * @param blockId Id of the block
+   * @return the last access time of the block in milliseconds, -1 if it is not in the table
+   */
+  long getAccessTimeMs(long blockId) {
+    return segment(blockId).getAccessTimeMs(blockId);
+  }
+
+  /**
+   * @return a snapshot of the last access times of the contained blocks, by block Id
+   */
+  Map<Long, Long> getAccessTimesMs() {
+    Map<Long, Long> accessTimes = new HashMap<Long, Long>();
+    for (Segment segment : mSegments) {
+      segment.copyTo(accessTimes, ACCESS_TIME, false);
+    }
+    return accessTimes;
+  }
+
+  /**
+   * @param blockId Id of the block
+   * @return the number of users locking the block
+   */
+  int getLockCount(long blockId) {
+    return segment(blockId).getLockCount(blockId);
+  }
+
+  /**
+   * @return the total size of the locked blocks in bytes
+   */
+  long getLockedBytes() {
+    long lockedBytes = 0;
+    for (Segment segment : mSegments) {
+      lockedBytes += segment.getLockedBytes();
+    }
+    return lockedBytes;
+  }
+
+  /**
+   * @param blockId Id of the block
+   * @return the size of the block in bytes, -1 if it is not in the table
+   */
+  long getSize(long blockId) {
+    return segment(blockId).getSize(blockId);
+  }
+
+  /**
+   * @return a snapshot of the sizes of all the blocks in the table, including the blocks being
+   *         removed, by block Id
+   */
+  Map<Long, Long> getSizes() {
+    Map<Long, Long> sizes = new HashMap<Long, Long>();
+    for (Segment segment : mSegments) {
+      segment.copyTo(sizes, SIZE, true);
+    }
+    return sizes;
+  }
+
+  /**
+   * @param blockId Id of the block
+   * @return true if the block is being removed, false otherwise
+   */
+  boolean isRemoving(long blockId) {
+    return segment(blockId).isRemoving(blockId);
+  }
+
+  /**
+   * Add a lock of a contained block
+   *
+   * @param blockId Id of the block
+   * @return true if the block is contained, false otherwise
+   */
+  boolean lock(long blockId) {
+    return segment(blockId).lock(blockId);
+  }
+
+  /**
+   * Mark a block as added and not reported yet, until it is removed from the table or the mark is
+   * cleared
+   *
+   * @param blockId Id of the block
+   * @return true if the block is in the table and was not marked yet, false otherwise
+   */
+  boolean markAdded(long blockId) {
+    return segment(blockId).markAdded(blockId);
+  }
+
+  /**
+   * Mark a contained block as being removed
+   *
+   * @param blockId Id of the block
+   * @return true if the block was contained, false otherwise
+   */
+  boolean markRemoving(long blockId) {
+    return segment(blockId).markRemoving(blockId);
+  }
+
+  /**
+   * Add a block, or update the size and access time of a block already in the table, which is
+   * contained again if it was being removed. Its locks are kept.
+   *
+   * @param blockId Id of the block
+   * @param sizeBytes size of the block in bytes
+   * @param accessTimeMs access time of the block in milliseconds
+   * @return the previous size of the block, -1 if it was not in the table
+   */
+  long put(long blockId, long sizeBytes, long accessTimeMs) {
+    return segment(blockId).put(blockId, sizeBytes, accessTimeMs);
+  }
+
+  /**
+   * Remove a block from the table, whether it is locked or not
+   *
+   * @param blockId Id of the block
+   * @return the size of the block in bytes, -1 if it was not in the table
+   */
+  long remove(long blockId) {
+    return segment(blockId).remove(blockId);
+  }
+
+  private Segment segment(long blockId) {
+    return mSegments[LongSlotTable.segment(blockId)];
+  }
+
+  /**
+   * @return the number of blocks in the table, including the blocks being removed
+   */
+  int size() {
+    int size = 0;
+    for (Segment segment : mSegments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * Remove a lock of a block
+   *
+   * @param blockId Id of the block
+   * @return the number of locks left, -1 if the block was not locked
+   */
+  int unlock(long blockId) {
+    return segment(blockId).unlock(blockId);
+  }
+}
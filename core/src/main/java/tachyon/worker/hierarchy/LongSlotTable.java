@@ -0,0 +1,192 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import tachyon.util.CommonUtils;
+
+/**
+ * An open addressing table with linear probing, keyed by long, whose entries are slots of a fixed
+ * number of primitive longs, on the heap or in direct memory. The first long of a slot is its key
+ * and the second one its state, whose {@link #OCCUPIED} bit is owned by the table; the other bits
+ * and longs are the caller's. The load factor is kept under 3/4, and removals shift the following
+ * entries back rather than leaving tombstones, so the slot of an entry changes when another one is
+ * added or removed.
+ * <p>
+ * The table is not thread safe. The tables of a worker are split into {@link #SEGMENTS} segments
+ * with their own lock, by {@link #segment(long)}.
+ */
+final class LongSlotTable {
+  static final int SEGMENTS = 16;
+  private static final int SEGMENT_SHIFT = 60;
+  private static final int INITIAL_SLOTS = 16;
+
+  static final int KEY = 0;
+  static final int STATE = 1;
+  static final long OCCUPIED = 1L << 62;
+
+  private final int mSlotLongs;
+  private final boolean mOffHeap;
+  /** The direct memory of the slots if off heap, to free it on resize */
+  private ByteBuffer mMemory = null;
+  private LongBuffer mSlots;
+  private int mMask;
+  private int mSize = 0;
+
+  /**
+   * @param slotLongs the number of longs of a slot, at least 2 for the key and the state
+   * @param offHeap whether to keep the slots in direct memory rather than on the heap
+   */
+  LongSlotTable(int slotLongs, boolean offHeap) {
+    mSlotLongs = slotLongs;
+    mOffHeap = offHeap;
+    allocate(INITIAL_SLOTS);
+  }
+
+  /** The finalizer of MurmurHash3, which spreads the sequential ids of blocks over the bits */
+  static long hash(long key) {
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * @return the segment of a key, between 0 and {@link #SEGMENTS} - 1
+   */
+  static int segment(long key) {
+    return (int) (hash(key) >>> SEGMENT_SHIFT);
+  }
+
+  /**
+   * Add a key which is not in the table, with only the {@link #OCCUPIED} bit in its state and its
+   * other longs at 0.
+   *
+   * @return the slot of the key
+   */
+  int add(long key) {
+    if ((mSize + 1) * 4L > (mMask + 1) * 3L) {
+      resize();
+    }
+    int slot = -(find(key) + 1);
+    set(slot, KEY, key);
+    set(slot, STATE, OCCUPIED);
+    mSize ++;
+    return slot;
+  }
+
+  private void allocate(int slots) {
+    if (mOffHeap) {
+      mMemory = ByteBuffer.allocateDirect(slots * mSlotLongs * 8).order(ByteOrder.nativeOrder());
+      mSlots = mMemory.asLongBuffer();
+    } else {
+      mSlots = LongBuffer.wrap(new long[slots * mSlotLongs]);
+    }
+    mMask = slots - 1;
+  }
+
+  /**
+   * @return the number of slots of the table
+   */
+  int capacity() {
+    return mMask + 1;
+  }
+
+  /**
+   * @return the slot of the key, or -(slot + 1) of the empty slot where to add it
+   */
+  int find(long key) {
+    int slot = (int) hash(key) & mMask;
+    while (isOccupied(slot)) {
+      if (get(slot, KEY) == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return -(slot + 1);
+  }
+
+  long get(int slot, int field) {
+    return mSlots.get(slot * mSlotLongs + field);
+  }
+
+  boolean isOccupied(int slot) {
+    return (get(slot, STATE) & OCCUPIED) != 0;
+  }
+
+  /**
+   * Remove the entry of a slot. The following entries which could not be found past an empty slot
+   * anymore are moved back.
+   */
+  void remove(int slot) {
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mMask;
+      if (!isOccupied(next)) {
+        break;
+      }
+      int home = (int) hash(get(next, KEY)) & mMask;
+      boolean stays = hole < next ? (home > hole && home <= next) : (home > hole || home <= next);
+      if (!stays) {
+        for (int field = 0; field < mSlotLongs; field ++) {
+          set(hole, field, get(next, field));
+        }
+        hole = next;
+      }
+    }
+    for (int field = 0; field < mSlotLongs; field ++) {
+      set(hole, field, 0);
+    }
+    mSize --;
+  }
+
+  private void resize() {
+    LongBuffer oldSlots = mSlots;
+    ByteBuffer oldMemory = mMemory;
+    int oldCapacity = mMask + 1;
+    allocate(oldCapacity * 2);
+    for (int slot = 0; slot < oldCapacity; slot ++) {
+      int base = slot * mSlotLongs;
+      if ((oldSlots.get(base + STATE) & OCCUPIED) != 0) {
+        int newSlot = -(find(oldSlots.get(base + KEY)) + 1);
+        for (int field = 0; field < mSlotLongs; field ++) {
+          set(newSlot, field, oldSlots.get(base + field));
+        }
+      }
+    }
+    if (oldMemory != null) {
+      CommonUtils.cleanDirectBuffer(oldMemory);
+    }
+  }
+
+  void set(int slot, int field, long value) {
+    mSlots.put(slot * mSlotLongs + field, value);
+  }
+
+  /**
+   * @return the number of keys in the table
+   */
+  int size() {
+    return mSize;
+  }
+}
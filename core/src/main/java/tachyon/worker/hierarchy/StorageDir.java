@@ -18,23 +18,17 @@ package tachyon.worker.hierarchy;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import com.google.common.io.Closer;
 
 import tachyon.Constants;
@@ -43,25 +37,28 @@ import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
 import tachyon.conf.TachyonConf;
 import tachyon.Users;
+import tachyon.metrics.Counter;
 import tachyon.util.CommonUtils;
 import tachyon.worker.BlockHandler;
 import tachyon.worker.SpaceCounter;
+import tachyon.worker.eviction.EvictStrategyType;
 
 /**
  * Stores and manages block files in storage's directory in different storage systems.
  */
 public final class StorageDir {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
-  /** Mapping from blockId to blockSize in bytes */
-  private final ConcurrentMap<Long, Long> mBlockSizes = new ConcurrentHashMap<Long, Long>();
-  /** Mapping from blockId to its last access time in milliseconds */
-  private final ConcurrentMap<Long, Long> mLastBlockAccessTimeMs =
-      new ConcurrentHashMap<Long, Long>();
-  /** List of added block Ids to be reported */
-  private final BlockingQueue<Long> mAddedBlockIdList = new ArrayBlockingQueue<Long>(
-      Constants.WORKER_BLOCKS_QUEUE_SIZE);
-  /** List of to be removed block Ids */
-  private final Set<Long> mToRemoveBlockIdSet = Collections.synchronizedSet(new HashSet<Long>());
+  private static final int INITIAL_ADDED_BLOCK_IDS = 16;
+  /** Size, last access time and locks of the blocks, its monitor guards compound updates */
+  private final BlockMetadataTable mBlockTable;
+  /** Blocks ordered by eviction priority, updated along with mBlockTable */
+  private final BlockAccessIndex mBlockAccessIndex;
+  /** StorageDirs of the blocks of the worker, updated along with mBlockTable */
+  private final BlockLocationIndex mBlockLocations;
+  /** Ids of the added blocks to be reported, mBlockTable marks the blocks still to report */
+  private long[] mAddedBlockIds = new long[INITIAL_ADDED_BLOCK_IDS];
+  /** Number of Ids in mAddedBlockIds, guarded by the monitor of mBlockTable */
+  private int mAddedBlockCount = 0;
   /** Space counter of the StorageDir */
   private final SpaceCounter mSpaceCounter;
   /** Id of StorageDir */
@@ -78,17 +75,19 @@ public final class StorageDir {
   private final Object mConf;
   /** Mapping from user Id to space size bytes owned by the user */
   private final ConcurrentMap<Long, Long> mOwnBytesPerUser = new ConcurrentHashMap<Long, Long>();
-  /** Mapping from temporary block id to the size bytes allocated to it */
-  private final ConcurrentMap<Pair<Long, Long>, Long> mTempBlockAllocatedBytes =
-      new ConcurrentHashMap<Pair<Long, Long>, Long>();
-  /** Mapping from user Id to list of blocks locked by the user */
-  private final Multimap<Long, Long> mLockedBlocksPerUser = Multimaps
-      .synchronizedMultimap(HashMultimap.<Long, Long>create());
-  /** Mapping from block Id to list of users that lock the block */
-  private final Multimap<Long, Long> mUserPerLockedBlock = Multimaps
-      .synchronizedMultimap(HashMultimap.<Long, Long>create());
+  /** Size bytes allocated to the temporary blocks, by user Id and temporary block Id */
+  private final UserBlockTable mTempBlockAllocatedBytes = new UserBlockTable();
+  /** Blocks locked by each user, mBlockTable counts their locks */
+  private final UserBlockTable mLockedBlocksPerUser = new UserBlockTable();
+  /** Open files of the temporary blocks written through the data server, by user and block Id */
+  private final ConcurrentMap<Pair<Long, Long>, TempBlockFile> mTempBlockFiles =
+      new ConcurrentHashMap<Pair<Long, Long>, TempBlockFile>();
   /** TachyonConf for this StorageDir **/
   private final TachyonConf mTachyonConf;
+  /** Bytes read from the blocks of the StorageDir */
+  private final Counter mReadBytes = new Counter();
+  /** Bytes of the blocks cached in the StorageDir by users */
+  private final Counter mWrittenBytes = new Counter();
 
   /**
    * Create a new StorageDir.
@@ -103,6 +102,27 @@ public final class StorageDir {
    */
   StorageDir(long storageDirId, String dirPath, long capacityBytes, String dataFolder,
       String userTempFolder, Object conf, TachyonConf tachyonConf) {
+    this(storageDirId, dirPath, capacityBytes, dataFolder, userTempFolder, conf, tachyonConf,
+        new BlockLocationIndex());
+  }
+
+  /**
+   * Create a new StorageDir which records the locations of its blocks in an index shared with
+   * other StorageDirs.
+   *
+   * @param storageDirId id of StorageDir
+   * @param dirPath root path of StorageDir
+   * @param capacityBytes capacity of StorageDir in bytes
+   * @param dataFolder data folder in current StorageDir
+   * @param userTempFolder temporary folder for users in current StorageDir
+   * @param conf configuration of under file system
+   * @param tachyonConf the TachyonConf instance of the under file system
+   * @param blockLocations index of the StorageDirs holding the blocks
+   */
+  StorageDir(long storageDirId, String dirPath, long capacityBytes, String dataFolder,
+      String userTempFolder, Object conf, TachyonConf tachyonConf,
+      BlockLocationIndex blockLocations) {
+    mBlockLocations = blockLocations;
     mTachyonConf = tachyonConf;
     mStorageDirId = storageDirId;
     mDirPath = new TachyonURI(dirPath);
@@ -111,6 +131,11 @@ public final class StorageDir {
     mUserTempPath = mDirPath.join(userTempFolder);
     mConf = conf;
     mFs = UnderFileSystem.get(dirPath, conf, mTachyonConf);
+    mBlockTable = new BlockMetadataTable(
+        mTachyonConf.getBoolean(Constants.WORKER_BLOCK_TABLE_OFFHEAP, false));
+    mBlockAccessIndex = new BlockAccessIndex(mTachyonConf.getEnum(
+        Constants.WORKER_EVICT_STRATEGY_TYPE, EvictStrategyType.LRU), mTachyonConf.getInt(
+        Constants.WORKER_EVICT_LRUK_K, 2));
   }
 
   /**
@@ -119,13 +144,24 @@ public final class StorageDir {
    * @param blockId Id of the block
    */
   public void accessBlock(long blockId) {
-    synchronized (mLastBlockAccessTimeMs) {
-      if (containsBlock(blockId)) {
-        mLastBlockAccessTimeMs.put(blockId, System.currentTimeMillis());
+    synchronized (mBlockTable) {
+      long accessTimeMs = System.currentTimeMillis();
+      if (mBlockTable.access(blockId, accessTimeMs)) {
+        mBlockAccessIndex.access(blockId, accessTimeMs);
       }
     }
   }
 
+  /**
+   * Count bytes read from a block without {@link #getBlockData}, such as the blocks sent by the
+   * data server.
+   *
+   * @param bytes the number of bytes read
+   */
+  public void addReadBytes(long bytes) {
+    mReadBytes.inc(bytes);
+  }
+
   /**
    * Adds a block into the dir.
    * 
@@ -146,14 +182,18 @@ public final class StorageDir {
    * @param report whether need to be reported During heart beat with master
    */
   private void addBlockId(long blockId, long sizeBytes, long accessTimeMs, boolean report) {
-    synchronized (mLastBlockAccessTimeMs) {
-      mLastBlockAccessTimeMs.put(blockId, accessTimeMs);
-      if (mBlockSizes.containsKey(blockId)) {
-        mSpaceCounter.returnUsedBytes(mBlockSizes.remove(blockId));
+    synchronized (mBlockTable) {
+      long oldSizeBytes = mBlockTable.put(blockId, sizeBytes, accessTimeMs);
+      mBlockAccessIndex.access(blockId, accessTimeMs);
+      mBlockLocations.add(blockId, this);
+      if (oldSizeBytes != -1) {
+        mSpaceCounter.returnUsedBytes(oldSizeBytes);
       }
-      mBlockSizes.put(blockId, sizeBytes);
-      if (report) {
-        mAddedBlockIdList.add(blockId);
+      if (report && mBlockTable.markAdded(blockId)) {
+        if (mAddedBlockCount == mAddedBlockIds.length) {
+          mAddedBlockIds = Arrays.copyOf(mAddedBlockIds, mAddedBlockCount * 2);
+        }
+        mAddedBlockIds[mAddedBlockCount ++] = blockId;
       }
     }
   }
@@ -167,11 +207,11 @@ public final class StorageDir {
    * @throws IOException
    */
   public boolean cacheBlock(long userId, long blockId) throws IOException {
+    closeTempBlockFile(userId, blockId);
     String srcPath = getUserTempFilePath(userId, blockId);
     String dstPath = getBlockFilePath(blockId);
-    Pair<Long, Long> blockInfo = new Pair<Long, Long>(userId, blockId);
 
-    if (!(mFs.exists(srcPath) && mTempBlockAllocatedBytes.containsKey(blockInfo))) {
+    if (!(mFs.exists(srcPath) && mTempBlockAllocatedBytes.contains(userId, blockId))) {
       cancelBlock(userId, blockId);
       throw new IOException("Block file doesn't exist! blockId:" + blockId + " " + srcPath);
     }
@@ -180,11 +220,12 @@ public final class StorageDir {
       cancelBlock(userId, blockId);
       throw new IOException("Negative block size! blockId:" + blockId);
     }
-    Long allocatedBytes = mTempBlockAllocatedBytes.remove(blockInfo);
+    long allocatedBytes = mTempBlockAllocatedBytes.remove(userId, blockId);
     returnSpace(userId, allocatedBytes - blockSize);
     if (mFs.rename(srcPath, dstPath)) {
       addBlockId(blockId, blockSize, false);
       updateUserOwnBytes(userId, -blockSize);
+      mWrittenBytes.inc(blockSize);
       return true;
     } else {
       return false;
@@ -200,10 +241,11 @@ public final class StorageDir {
    * @throws IOException
    */
   public boolean cancelBlock(long userId, long blockId) throws IOException {  
+    closeTempBlockFile(userId, blockId);
     String filePath = getUserTempFilePath(userId, blockId);
-    Long allocatedBytes = mTempBlockAllocatedBytes.remove(new Pair<Long, Long>(userId, blockId));
-    if (allocatedBytes == null) {
-      allocatedBytes = 0L;
+    long allocatedBytes = mTempBlockAllocatedBytes.remove(userId, blockId);
+    if (allocatedBytes == -1) {
+      allocatedBytes = 0;
     }
     returnSpace(userId, allocatedBytes);
     if (!mFs.exists(filePath)) {
@@ -217,15 +259,20 @@ public final class StorageDir {
    * Clean resources related to the removed user
    * 
    * @param userId id of the removed user
-   * @param tempBlockIdList list of block ids that are being written by the user
    */
-  public void cleanUserResources(long userId, Collection<Long> tempBlockIdList) {
-    Collection<Long> blockIds = mLockedBlocksPerUser.removeAll(userId);
-    for (long blockId : blockIds) {
-      mUserPerLockedBlock.remove(blockId, userId);
+  public void cleanUserResources(long userId) {
+    for (long blockId : mLockedBlocksPerUser.removeUser(userId)) {
+      releaseLock(blockId);
     }
-    for (Long tempBlockId : tempBlockIdList) {
-      mTempBlockAllocatedBytes.remove(new Pair<Long, Long>(userId, tempBlockId));
+    mTempBlockAllocatedBytes.removeUser(userId);
+    for (Pair<Long, Long> key : mTempBlockFiles.keySet()) {
+      if (key.getFirst() == userId) {
+        try {
+          closeTempBlockFile(userId, key.getSecond());
+        } catch (IOException e) {
+          LOG.error(e.getMessage(), e);
+        }
+      }
     }
     try {
       mFs.delete(getUserTempPath(userId), true);
@@ -242,7 +289,7 @@ public final class StorageDir {
    * @return true if StorageDir contains the block, false otherwise
    */
   public boolean containsBlock(long blockId) {
-    return mLastBlockAccessTimeMs.containsKey(blockId);
+    return mBlockTable.contains(blockId);
   }
 
   /**
@@ -273,7 +320,7 @@ public final class StorageDir {
       CommonUtils.cleanDirectBuffer(buffer);
     }
     if (copySuccess) {
-      dstDir.addBlockId(blockId, size, mLastBlockAccessTimeMs.get(blockId), true);
+      dstDir.addBlockId(blockId, size, mBlockTable.getAccessTimeMs(blockId), true);
     }
     return copySuccess;
   }
@@ -287,21 +334,25 @@ public final class StorageDir {
    * @throws IOException
    */
   public boolean deleteBlock(long blockId) throws IOException {
-    Long accessTimeMs = mLastBlockAccessTimeMs.remove(blockId);
-    if (accessTimeMs == null) {
-      LOG.warn("Block does not exist in current StorageDir! blockId:{}", blockId);
-      return false;
+    boolean locked;
+    synchronized (mBlockTable) {
+      if (!mBlockTable.markRemoving(blockId)) {
+        LOG.warn("Block does not exist in current StorageDir! blockId:{}", blockId);
+        return false;
+      }
+      mBlockAccessIndex.remove(blockId);
+      mBlockLocations.remove(blockId, this);
+      locked = isBlockLocked(blockId);
     }
     String blockfile = getBlockFilePath(blockId);
-    // Should check lock status here 
-    if (!isBlockLocked(blockId)) {
+    if (!locked) {
       if (!mFs.delete(blockfile, false)) {
         LOG.error("Failed to delete block file! filename:{}", blockfile);
         return false;
       }
       deleteBlockId(blockId);
     } else {
-      mToRemoveBlockIdSet.add(blockId);
+      // The last user unlocking the block deletes it
       LOG.debug("Add block file {} to remove list!", blockfile);
     }
     return true;
@@ -313,23 +364,34 @@ public final class StorageDir {
    * @param blockId Id of the block
    */
   private void deleteBlockId(long blockId) {
-    synchronized (mLastBlockAccessTimeMs) {
-      mLastBlockAccessTimeMs.remove(blockId);
-      mSpaceCounter.returnUsedBytes(mBlockSizes.remove(blockId));
-      if (mAddedBlockIdList.contains(blockId)) {
-        mAddedBlockIdList.remove(blockId);
+    synchronized (mBlockTable) {
+      long sizeBytes = mBlockTable.remove(blockId);
+      mBlockAccessIndex.remove(blockId);
+      mBlockLocations.remove(blockId, this);
+      if (sizeBytes != -1) {
+        mSpaceCounter.returnUsedBytes(sizeBytes);
       }
     }
   }
 
   /**
-   * Get Ids of newly added blocks
+   * Get Ids of the blocks added since the previous call, each reported once
    * 
-   * @return list of added block Ids
+   * @return sorted list of added block Ids
    */
   public List<Long> getAddedBlockIdList() {
     List<Long> addedBlockIdList = new ArrayList<Long>();
-    mAddedBlockIdList.drainTo(addedBlockIdList);
+    synchronized (mBlockTable) {
+      // Blocks removed since they were added are not marked anymore, nor reported
+      for (int k = 0; k < mAddedBlockCount; k ++) {
+        if (mBlockTable.clearAdded(mAddedBlockIds[k])) {
+          addedBlockIdList.add(mAddedBlockIds[k]);
+        }
+      }
+      mAddedBlockIds = new long[INITIAL_ADDED_BLOCK_IDS];
+      mAddedBlockCount = 0;
+    }
+    Collections.sort(addedBlockIdList);
     return addedBlockIdList;
   }
 
@@ -355,7 +417,9 @@ public final class StorageDir {
   public ByteBuffer getBlockData(long blockId, long offset, int length) throws IOException {
     BlockHandler bh = getBlockHandler(blockId);
     try {
-      return bh.read(offset, length);
+      ByteBuffer data = bh.read(offset, length);
+      mReadBytes.inc(data.remaining());
+      return data;
     } finally {
       bh.close();
       accessBlock(blockId);
@@ -391,10 +455,19 @@ public final class StorageDir {
   /**
    * Get Ids of the blocks in current StorageDir
    * 
-   * @return Ids of the blocks in current StorageDir
+   * @return snapshot of the Ids of the blocks in current StorageDir
    */
   public Set<Long> getBlockIds() {
-    return mLastBlockAccessTimeMs.keySet();
+    return mBlockTable.getAccessTimesMs().keySet();
+  }
+
+  /**
+   * Get the index ordering the blocks in current StorageDir by eviction priority
+   * 
+   * @return the BlockAccessIndex of current StorageDir
+   */
+  public BlockAccessIndex getBlockAccessIndex() {
+    return mBlockAccessIndex;
   }
 
   /**
@@ -404,21 +477,16 @@ public final class StorageDir {
    * @return size of the block, -1 if block doesn't exist
    */
   public long getBlockSize(long blockId) {
-    Long size = mBlockSizes.get(blockId);
-    if (size == null) {
-      return -1;
-    } else {
-      return size;
-    }
+    return mBlockTable.getSize(blockId);
   }
 
   /**
    * Get sizes of the blocks in bytes in current StorageDir
    * 
-   * @return set of map entry mapping from block Id to the block size in current StorageDir
+   * @return snapshot of the map entries from block Id to the block size in current StorageDir
    */
   public Set<Entry<Long, Long>> getBlockSizes() {
-    return mBlockSizes.entrySet();
+    return mBlockTable.getSizes().entrySet();
   }
 
   /**
@@ -451,10 +519,11 @@ public final class StorageDir {
   /**
    * Get last access time of blocks in current StorageDir
    * 
-   * @return set of map entry mapping from block Id to its last access time in current StorageDir
+   * @return snapshot of the map entries from block Id to its last access time in current
+   *         StorageDir
    */
   public Set<Entry<Long, Long>> getLastBlockAccessTimeMs() {
-    return mLastBlockAccessTimeMs.entrySet();
+    return mBlockTable.getAccessTimesMs().entrySet();
   }
 
   /**
@@ -463,14 +532,16 @@ public final class StorageDir {
    * @return size of locked blocks in bytes in current StorageDir
    */
   public long getLockedSizeBytes() {
-    long lockedBytes = 0;
-    for (long blockId : mUserPerLockedBlock.keySet()) {
-      Long blockSize = mBlockSizes.get(blockId);
-      if (blockSize != null) {
-        lockedBytes += blockSize;
-      }
-    }
-    return lockedBytes;
+    return mBlockTable.getLockedBytes();
+  }
+
+  /**
+   * Get the number of bytes read from the blocks of the StorageDir since the worker started
+   *
+   * @return the number of bytes read
+   */
+  public long getReadBytes() {
+    return mReadBytes.getCount();
   }
 
   /**
@@ -552,6 +623,16 @@ public final class StorageDir {
     return mUserTempPath.join("" + userId).toString();
   }
 
+  /**
+   * Get the number of bytes of the blocks cached in the StorageDir by users since the worker
+   * started
+   *
+   * @return the number of bytes written
+   */
+  public long getWrittenBytes() {
+    return mWrittenBytes.getCount();
+  }
+
   /**
    * Initialize current StorageDir
    * 
@@ -605,7 +686,7 @@ public final class StorageDir {
    * @return true if block is locked, false otherwise
    */
   public boolean isBlockLocked(long blockId) {
-    return mUserPerLockedBlock.containsKey(blockId);
+    return mBlockTable.getLockCount(blockId) > 0;
   }
 
   /**
@@ -616,12 +697,13 @@ public final class StorageDir {
    * @return true if success, false otherwise
    */
   public boolean lockBlock(long blockId, long userId) {
-    synchronized (mLastBlockAccessTimeMs) {
+    synchronized (mBlockTable) {
       if (!containsBlock(blockId)) {
         return false;
       }
-      mUserPerLockedBlock.put(blockId, userId);
-      mLockedBlocksPerUser.put(userId, blockId);
+      if (mLockedBlocksPerUser.putIfAbsent(userId, blockId, 0)) {
+        mBlockTable.lock(blockId);
+      }
       return true;
     }
   }
@@ -649,6 +731,31 @@ public final class StorageDir {
     return false;
   }
 
+  /**
+   * Release a lock of a block, deleting the block if it was removed while locked and this was its
+   * last lock
+   * 
+   * @param blockId Id of the block
+   * @return false if the block file could not be deleted, true otherwise
+   */
+  private boolean releaseLock(long blockId) {
+    synchronized (mBlockTable) {
+      if (mBlockTable.unlock(blockId) != 0 || !mBlockTable.isRemoving(blockId)) {
+        return true;
+      }
+    }
+    try {
+      if (!mFs.delete(getBlockFilePath(blockId), false)) {
+        return false;
+      }
+      deleteBlockId(blockId);
+    } catch (IOException e) {
+      LOG.error(e.getMessage(), e);
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Request space from current StorageDir by some user
    * 
@@ -684,7 +791,9 @@ public final class StorageDir {
    */
   public void returnSpace(long userId, long size) {
     mSpaceCounter.returnUsedBytes(size);
-    updateUserOwnBytes(userId, -size);
+    if (userId != Users.MIGRATE_DATA_USER_ID) {
+      updateUserOwnBytes(userId, -size);
+    }
   }
 
   /**
@@ -695,21 +804,8 @@ public final class StorageDir {
    * @return true if success, false otherwise
    */
   public boolean unlockBlock(long blockId, long userId) {
-    if (mUserPerLockedBlock.remove(blockId, userId)) {
-      mLockedBlocksPerUser.remove(userId, blockId);
-      if (!isBlockLocked(blockId) && mToRemoveBlockIdSet.contains(blockId)) {
-        try {
-          if (!mFs.delete(getBlockFilePath(blockId), false)) {
-            return false;
-          }
-          mToRemoveBlockIdSet.remove(blockId);
-          deleteBlockId(blockId);
-        } catch (IOException e) {
-          LOG.error(e.getMessage(), e);
-          return false;
-        }
-      }
-      return true;
+    if (mLockedBlocksPerUser.remove(userId, blockId) != -1) {
+      return releaseLock(blockId);
     }
     return false;
   }
@@ -722,17 +818,7 @@ public final class StorageDir {
    * @param sizeBytes updated space size in bytes
    */
   public void updateTempBlockAllocatedBytes(long userId, long blockId, long sizeBytes) {
-    Pair<Long, Long> blockInfo = new Pair<Long, Long>(userId, blockId);
-    Long oldSize = mTempBlockAllocatedBytes.putIfAbsent(blockInfo, sizeBytes);
-    if (oldSize != null) {
-      while (!mTempBlockAllocatedBytes.replace(blockInfo, oldSize, oldSize + sizeBytes)) {
-        oldSize = mTempBlockAllocatedBytes.get(blockInfo);
-        if (oldSize == null) {
-          LOG.error("Temporary block doesn't exist! blockId:{}", blockId);
-          break;
-        }
-      }
-    }
+    mTempBlockAllocatedBytes.add(userId, blockId, sizeBytes);
   }
 
   /**
@@ -753,4 +839,72 @@ public final class StorageDir {
       }
     }
   }
+
+  /**
+   * Close the temporary file of a block written by some user through the data server, if it is open
+   * 
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @throws IOException
+   */
+  private void closeTempBlockFile(long userId, long blockId) throws IOException {
+    TempBlockFile file = mTempBlockFiles.remove(new Pair<Long, Long>(userId, blockId));
+    if (file != null) {
+      synchronized (file) {
+        file.mHandler.close();
+      }
+    }
+  }
+
+  /**
+   * Append data to the temporary file of a block written by some user through the data server. The
+   * space must be allocated to the block beforehand. The first write of the block creates the file,
+   * which stays open until the block is cached or cancelled.
+   * 
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @param offset offset of the data in the block, which must be the size written so far
+   * @param data the data to append
+   * @return the size of data that was written
+   * @throws IOException
+   */
+  public int writeTempBlock(long userId, long blockId, long offset, ByteBuffer data)
+      throws IOException {
+    Pair<Long, Long> key = new Pair<Long, Long>(userId, blockId);
+    TempBlockFile file = mTempBlockFiles.get(key);
+    if (file == null) {
+      String userTempPath = getUserTempPath(userId);
+      if (!mFs.exists(userTempPath)) {
+        mFs.mkdirs(userTempPath, true);
+      }
+      file = new TempBlockFile(BlockHandler.get(getUserTempFilePath(userId, blockId)));
+      TempBlockFile existingFile = mTempBlockFiles.putIfAbsent(key, file);
+      if (existingFile != null) {
+        file.mHandler.close();
+        file = existingFile;
+      }
+    }
+    synchronized (file) {
+      if (offset != file.mWrittenBytes) {
+        throw new IOException(String.format("Block writes must be sequential! blockId(%d) "
+            + "offset(%d) writtenBytes(%d)", blockId, offset, file.mWrittenBytes));
+      }
+      int writtenBytes = file.mHandler.append(offset, data);
+      file.mWrittenBytes += writtenBytes;
+      return writtenBytes;
+    }
+  }
+
+  /**
+   * Temporary file of a block written through the data server, with the size written so far. Its
+   * monitor orders the writes and the close of the file.
+   */
+  private static final class TempBlockFile {
+    private final BlockHandler mHandler;
+    private long mWrittenBytes = 0;
+
+    private TempBlockFile(BlockHandler handler) {
+      mHandler = handler;
+    }
+  }
 }
@@ -18,6 +18,7 @@ package tachyon.worker.hierarchy;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +41,11 @@ import tachyon.worker.eviction.EvictStrategyType;
  * its successor StorageTier to get enough space requested. Each StorageTier contains several
  * StorageDirs. It is recommended to configure multiple StorageDirs in each StorageTier, to spread
  * out the I/O for better performance.
+ *
+ * Space requests first try to reserve free space without any tier wide lock. Only when that fails
+ * the requester evicts blocks itself, under the tier lock. When asynchronous eviction is enabled, a
+ * background evictor (see {@link #evictToLowWatermark}) keeps the used space of every StorageDir
+ * under the high watermark, so that requests rarely have to evict inline.
  */
 public class StorageTier {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -59,6 +65,25 @@ public class StorageTier {
   private final long mCapacityBytes;
   /** The TachyonConf configuration properties */
   private final TachyonConf mTachyonConf;
+  /** Fraction of a StorageDir's capacity above which the background evictor starts evicting */
+  private final double mHighWatermark;
+  /** Fraction of a StorageDir's capacity the background evictor evicts down to */
+  private final double mLowWatermark;
+  /** Whether a background evictor runs for the tier, otherwise eviction is only inline */
+  private final boolean mAsyncEviction;
+  /** Guards mEvictionNeeded, the background evictor waits on it */
+  private final Object mEvictionSignal = new Object();
+  private boolean mEvictionNeeded = false;
+  /** Time since some StorageDir has been above the high watermark, 0 if none is */
+  private volatile long mAboveHighWatermarkSinceMs = 0;
+  /** Blocks evicted from this tier, either moved to the next tier or deleted */
+  private final AtomicLong mEvictedBlocks = new AtomicLong(0);
+  /** Bytes evicted from this tier, either moved to the next tier or deleted */
+  private final AtomicLong mEvictedBytes = new AtomicLong(0);
+  /** Bytes moved from this tier to the next tier by eviction */
+  private final AtomicLong mMovedBytes = new AtomicLong(0);
+  /** Number of space requests that had to evict blocks inline */
+  private final AtomicLong mInlineEvictions = new AtomicLong(0);
 
   /**
    * Creates a new StorageTier
@@ -76,6 +101,30 @@ public class StorageTier {
   public StorageTier(int storageLevel, StorageLevelAlias storageLevelAlias, String[] dirPaths,
       long[] dirCapacityBytes, String dataFolder, String userTempFolder, StorageTier nextTier,
       Object conf, TachyonConf tachyonConf) throws IOException {
+    this(storageLevel, storageLevelAlias, dirPaths, dirCapacityBytes, dataFolder, userTempFolder,
+        nextTier, conf, tachyonConf, new BlockLocationIndex());
+  }
+
+  /**
+   * Creates a new StorageTier whose StorageDirs record the locations of their blocks in an index
+   * shared with the other tiers of the worker
+   * 
+   * @param storageLevel the level of the StorageTier
+   * @param storageLevelAlias the alias of the StorageTier's storage level
+   * @param dirPaths paths of StorageDirs in the StorageTier
+   * @param dirCapacityBytes capacities of StorageDirs in the StorageTier
+   * @param dataFolder data folder in the StorageDir
+   * @param userTempFolder user temporary folder in the StorageDir
+   * @param nextTier the successor StorageTier
+   * @param conf configuration of StorageDir
+   * @param tachyonConf the TachyonConf instance of the worker
+   * @param blockLocations index of the StorageDirs holding the blocks of the worker
+   * @throws IOException
+   */
+  public StorageTier(int storageLevel, StorageLevelAlias storageLevelAlias, String[] dirPaths,
+      long[] dirCapacityBytes, String dataFolder, String userTempFolder, StorageTier nextTier,
+      Object conf, TachyonConf tachyonConf, BlockLocationIndex blockLocations)
+      throws IOException {
     mTachyonConf = tachyonConf;
     mLevel = storageLevel;
     int storageDirNum = dirPaths.length;
@@ -87,7 +136,7 @@ public class StorageTier {
       long storageDirId = StorageDirId.getStorageDirId(storageLevel, mAlias.getValue(), i);
       mDirs[i] =
           new StorageDir(storageDirId, dirPaths[i], dirCapacityBytes[i], dataFolder,
-              userTempFolder, conf, mTachyonConf);
+              userTempFolder, conf, mTachyonConf, blockLocations);
       quotaBytes += dirCapacityBytes[i];
     }
     mCapacityBytes = quotaBytes;
@@ -96,6 +145,28 @@ public class StorageTier {
         Constants.WORKER_ALLOCATE_STRATEGY_TYPE, AllocateStrategyType.MAX_FREE));
     mBlockEvictor = EvictStrategies.getEvictStrategy(mTachyonConf.getEnum(
         Constants.WORKER_EVICT_STRATEGY_TYPE, EvictStrategyType.LRU), isLastTier());
+    mHighWatermark = mTachyonConf.getDouble(Constants.WORKER_EVICTOR_HIGH_WATERMARK, 0.95);
+    mLowWatermark = mTachyonConf.getDouble(Constants.WORKER_EVICTOR_LOW_WATERMARK, 0.85);
+    mAsyncEviction = mTachyonConf.getBoolean(Constants.WORKER_EVICTOR_ASYNC_ENABLED, false);
+    if (mLowWatermark < 0 || mLowWatermark > mHighWatermark || mHighWatermark > 1) {
+      throw new IllegalArgumentException("Invalid evictor watermarks, low " + mLowWatermark
+          + " high " + mHighWatermark);
+    }
+  }
+
+  /**
+   * Wait until some StorageDir of the tier goes above the high watermark, or the timeout expires.
+   *
+   * @param timeoutMs the maximum time to wait in milliseconds
+   * @throws InterruptedException
+   */
+  public void awaitEvictionNeeded(long timeoutMs) throws InterruptedException {
+    synchronized (mEvictionSignal) {
+      if (!mEvictionNeeded) {
+        mEvictionSignal.wait(timeoutMs);
+      }
+      mEvictionNeeded = false;
+    }
   }
 
   /**
@@ -108,6 +179,166 @@ public class StorageTier {
     return getStorageDirByBlockId(blockId) != null;
   }
 
+  /**
+   * Evict blocks from every StorageDir above the high watermark, until its used space is at or
+   * below the low watermark. Blocks are moved to the next tier, or deleted if this is the last
+   * tier. This is run by the background evictor; it takes the tier lock once per StorageDir, so
+   * space requests that cannot be served from free space wait for at most one StorageDir.
+   *
+   * @param pinList list of pinned files
+   * @param removedBlockIds list to add the ids of the blocks removed from Tachyon to
+   * @return the number of bytes evicted
+   * @throws IOException
+   */
+  public long evictToLowWatermark(Set<Integer> pinList, List<Long> removedBlockIds)
+      throws IOException {
+    long evictedBytes = 0;
+    boolean aboveHighWatermark = false;
+    for (StorageDir dir : mDirs) {
+      if (dir.getUsedBytes() <= getHighWatermarkBytes(dir)) {
+        continue;
+      }
+      synchronized (this) {
+        long toFreeBytes = dir.getCapacityBytes() - (long) (dir.getCapacityBytes() * mLowWatermark);
+        Pair<StorageDir, List<BlockInfo>> evictInfo =
+            mBlockEvictor.getDirCandidate(new StorageDir[] {dir}, pinList, toFreeBytes);
+        if (evictInfo != null) {
+          evictedBytes += evictBlocks(evictInfo.getSecond(), pinList, removedBlockIds);
+        }
+      }
+      if (dir.getUsedBytes() > getHighWatermarkBytes(dir)) {
+        // Blocks are locked or pinned, or the next tier is full, retry in the next round.
+        aboveHighWatermark = true;
+      }
+    }
+    if (!aboveHighWatermark) {
+      mAboveHighWatermarkSinceMs = 0;
+    }
+    return evictedBytes;
+  }
+
+  /**
+   * Evict the given blocks, skipping the ones that are locked.
+   *
+   * @param blocks the blocks to evict
+   * @param pinList list of pinned files
+   * @param removedBlockIds list to add the ids of the blocks removed from Tachyon to
+   * @return the number of bytes evicted
+   * @throws IOException
+   */
+  private long evictBlocks(List<BlockInfo> blocks, Set<Integer> pinList,
+      List<Long> removedBlockIds) throws IOException {
+    long evictedBytes = 0;
+    for (BlockInfo blockInfo : blocks) {
+      StorageDir dir = blockInfo.getStorageDir();
+      long blockId = blockInfo.getBlockId();
+      if (dir.isBlockLocked(blockId)) { // pinList is not updated
+        continue;
+      }
+      if (isLastTier()) {
+        if (!dir.deleteBlock(blockId)) {
+          continue;
+        }
+        removedBlockIds.add(blockId);
+      } else {
+        StorageDir dstDir =
+            mNextTier.requestSpace(Users.MIGRATE_DATA_USER_ID, blockInfo.getSize(), pinList,
+                removedBlockIds);
+        if (dstDir == null) {
+          LOG.warn("No space in the next tier to evict block {} from {}", blockId, this);
+          continue;
+        }
+        boolean moved = false;
+        try {
+          moved = dir.moveBlock(blockId, dstDir);
+        } finally {
+          // The space stays used if the block was copied but could not be deleted from this tier
+          if (!moved && !dstDir.containsBlock(blockId)) {
+            dstDir.returnSpace(Users.MIGRATE_DATA_USER_ID, blockInfo.getSize());
+          }
+        }
+        if (!moved) {
+          continue;
+        }
+        mMovedBytes.addAndGet(blockInfo.getSize());
+      }
+      evictedBytes += blockInfo.getSize();
+      mEvictedBlocks.incrementAndGet();
+      LOG.debug("Evicted block Id:{}", blockId);
+    }
+    mEvictedBytes.addAndGet(evictedBytes);
+    return evictedBytes;
+  }
+
+  /**
+   * Get the number of blocks evicted from the StorageTier, either moved to the next tier or
+   * deleted, since the worker started.
+   *
+   * @return the number of blocks evicted
+   */
+  public long getEvictedBlocks() {
+    return mEvictedBlocks.get();
+  }
+
+  /**
+   * Get the number of bytes evicted from the StorageTier, either moved to the next tier or
+   * deleted, since the worker started.
+   *
+   * @return the number of bytes evicted
+   */
+  public long getEvictedBytes() {
+    return mEvictedBytes.get();
+  }
+
+  /**
+   * Get how long some StorageDir of the tier has been above the high watermark without the
+   * background evictor bringing it back under it, i.e. how far the evictor is behind.
+   *
+   * @return the eviction lag in milliseconds, 0 if every StorageDir is under the high watermark
+   *         or there is no background evictor
+   */
+  public long getEvictionLagMs() {
+    long sinceMs = mAboveHighWatermarkSinceMs;
+    return sinceMs == 0 ? 0 : System.currentTimeMillis() - sinceMs;
+  }
+
+  /**
+   * Get the number of space requests which could not be served from free space and had to evict
+   * blocks themselves.
+   *
+   * @return the number of inline evictions
+   */
+  public long getInlineEvictions() {
+    return mInlineEvictions.get();
+  }
+
+  /**
+   * Get the number of bytes moved from the StorageTier to the next StorageTier by eviction.
+   *
+   * @return the number of bytes moved
+   */
+  public long getMovedBytes() {
+    return mMovedBytes.get();
+  }
+
+  /**
+   * Check whether the used space of any StorageDir of the tier is above the high watermark.
+   *
+   * @return true if the background evictor has blocks to evict, false otherwise
+   */
+  public boolean isAboveHighWatermark() {
+    for (StorageDir dir : mDirs) {
+      if (dir.getUsedBytes() > getHighWatermarkBytes(dir)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private long getHighWatermarkBytes(StorageDir dir) {
+    return (long) (dir.getCapacityBytes() * mHighWatermark);
+  }
+
   /**
    * Get capacity of current StorageTier in bytes
    * 
@@ -182,6 +413,19 @@ public class StorageTier {
     return mAlias;
   }
 
+  /**
+   * Get the number of bytes read from the blocks of the StorageTier since the worker started
+   *
+   * @return the number of bytes read
+   */
+  public long getReadBytes() {
+    long read = 0;
+    for (StorageDir dir : mDirs) {
+      read += dir.getReadBytes();
+    }
+    return read;
+  }
+
   /**
    * Get used space in the StorageTier
    * 
@@ -195,6 +439,20 @@ public class StorageTier {
     return used;
   }
 
+  /**
+   * Get the number of bytes of the blocks cached in the StorageTier by users since the worker
+   * started
+   *
+   * @return the number of bytes written
+   */
+  public long getWrittenBytes() {
+    long written = 0;
+    for (StorageDir dir : mDirs) {
+      written += dir.getWrittenBytes();
+    }
+    return written;
+  }
+
   /**
    * Initialize StorageDirs in current StorageTier
    * 
@@ -262,15 +520,41 @@ public class StorageTier {
    * @return the StorageDir assigned.
    * @throws IOException
    */
-  // TODO make block eviction asynchronous, then no need to be synchronized
-  private synchronized StorageDir requestSpace(StorageDir[] dirs, long userId,
+  private StorageDir requestSpace(StorageDir[] dirs, long userId, long requestSizeBytes,
+      Set<Integer> pinList, List<Long> removedBlockIds) throws IOException {
+    StorageDir dirSelected = mSpaceAllocator.getStorageDir(dirs, userId, requestSizeBytes);
+    if (dirSelected != null) {
+      if (dirSelected.getUsedBytes() > getHighWatermarkBytes(dirSelected)) {
+        signalEvictionNeeded();
+      }
+      return dirSelected;
+    }
+    signalEvictionNeeded();
+    return evictAndRequestSpace(dirs, userId, requestSizeBytes, pinList, removedBlockIds);
+  }
+
+  /**
+   * Request space by evicting blocks from the StorageDir candidates. Only called when the request
+   * cannot be served from free space.
+   *
+   * @param dirs candidates of StorageDirs to allocate space
+   * @param userId id of the user
+   * @param requestSizeBytes size to request in bytes
+   * @param pinList list of pinned files
+   * @param removedBlockIds list of blocks which are removed from Tachyon
+   * @return the StorageDir assigned.
+   * @throws IOException
+   */
+  private synchronized StorageDir evictAndRequestSpace(StorageDir[] dirs, long userId,
       long requestSizeBytes, Set<Integer> pinList, List<Long> removedBlockIds) throws IOException {
+    // Space may have been freed while waiting for the tier lock, e.g. by the background evictor.
     StorageDir dirSelected = mSpaceAllocator.getStorageDir(dirs, userId, requestSizeBytes);
     if (dirSelected != null) {
       return dirSelected;
     }
 
     if (mSpaceAllocator.fitInPossible(dirs, requestSizeBytes)) {
+      mInlineEvictions.incrementAndGet();
 
       // Max retry times when requesting space from current StorageTier
       int failedSpaceRequestsLimit =
@@ -282,23 +566,7 @@ public class StorageTier {
           return null;
         }
         dirSelected = evictInfo.getFirst();
-        List<BlockInfo> blocksInfoList = evictInfo.getSecond();
-        for (BlockInfo blockInfo : blocksInfoList) {
-          StorageDir dir = blockInfo.getStorageDir();
-          if (!dir.isBlockLocked(blockInfo.getBlockId())) { // pinList is not updated
-            long blockId = blockInfo.getBlockId();
-            if (isLastTier()) {
-              dir.deleteBlock(blockId);
-              removedBlockIds.add(blockId);
-            } else {
-              StorageDir dstDir =
-                  mNextTier.requestSpace(Users.MIGRATE_DATA_USER_ID, blockInfo.getSize(), pinList,
-                      removedBlockIds);
-              dir.moveBlock(blockId, dstDir);
-            }
-            LOG.debug("Evicted block Id:{}" + blockId);
-          }
-        }
+        evictBlocks(evictInfo.getSecond(), pinList, removedBlockIds);
         if (dirSelected.requestSpace(userId, requestSizeBytes)) {
           return dirSelected;
         } else {
@@ -311,6 +579,20 @@ public class StorageTier {
     return null;
   }
 
+  /**
+   * Wake up the background evictor, and start counting the eviction lag if not already. Without a
+   * background evictor, nothing would stop the count, so there is no lag.
+   */
+  private void signalEvictionNeeded() {
+    if (mAsyncEviction && mAboveHighWatermarkSinceMs == 0) {
+      mAboveHighWatermarkSinceMs = System.currentTimeMillis();
+    }
+    synchronized (mEvictionSignal) {
+      mEvictionNeeded = true;
+      mEvictionSignal.notifyAll();
+    }
+  }
+
   @Override
   public String toString() {
     return mLevel + "_" + mAlias;
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.Arrays;
+
+/**
+ * A non negative value per pair of user and block, such as the blocks locked by each user or the
+ * space allocated to the temporary blocks of each user. The pairs are kept in an open addressing
+ * table of primitive longs with linear probing, so a pair costs no object. All the operations are
+ * atomic.
+ */
+public final class UserBlockTable {
+  private static final int INITIAL_SLOTS = 16;
+
+  private long[] mUserIds;
+  private long[] mBlockIds;
+  private long[] mValues;
+  private boolean[] mOccupied;
+  private int mMask;
+  private int mSize = 0;
+
+  public UserBlockTable() {
+    allocate(INITIAL_SLOTS);
+  }
+
+  /**
+   * Add to the value of a pair, adding the pair with the delta as value if it is not in the table.
+   *
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @param delta the value to add
+   * @return the new value of the pair
+   */
+  public synchronized long add(long userId, long blockId, long delta) {
+    int slot = find(userId, blockId);
+    if (slot >= 0) {
+      mValues[slot] += delta;
+      return mValues[slot];
+    }
+    insert(-(slot + 1), userId, blockId, delta);
+    return delta;
+  }
+
+  private void allocate(int slots) {
+    mUserIds = new long[slots];
+    mBlockIds = new long[slots];
+    mValues = new long[slots];
+    mOccupied = new boolean[slots];
+    mMask = slots - 1;
+  }
+
+  /**
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @return true if the pair is in the table, false otherwise
+   */
+  public synchronized boolean contains(long userId, long blockId) {
+    return find(userId, blockId) >= 0;
+  }
+
+  /**
+   * @return the slot of the pair, or -(slot + 1) of the empty slot where to add it
+   */
+  private int find(long userId, long blockId) {
+    int slot = home(userId, blockId);
+    while (mOccupied[slot]) {
+      if (mUserIds[slot] == userId && mBlockIds[slot] == blockId) {
+        return slot;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return -(slot + 1);
+  }
+
+  /**
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @return the value of the pair, -1 if it is not in the table
+   */
+  public synchronized long get(long userId, long blockId) {
+    int slot = find(userId, blockId);
+    return slot < 0 ? -1 : mValues[slot];
+  }
+
+  private int home(long userId, long blockId) {
+    return (int) LongSlotTable.hash(userId * 31 + blockId) & mMask;
+  }
+
+  private void insert(int slot, long userId, long blockId, long value) {
+    mUserIds[slot] = userId;
+    mBlockIds[slot] = blockId;
+    mValues[slot] = value;
+    mOccupied[slot] = true;
+    mSize ++;
+    if (mSize * 4L > (mMask + 1) * 3L) {
+      resize();
+    }
+  }
+
+  /**
+   * Add a pair if it is not in the table.
+   *
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @param value the value of the pair
+   * @return true if the pair was added, false if it was already in the table
+   */
+  public synchronized boolean putIfAbsent(long userId, long blockId, long value) {
+    int slot = find(userId, blockId);
+    if (slot >= 0) {
+      return false;
+    }
+    insert(-(slot + 1), userId, blockId, value);
+    return true;
+  }
+
+  /**
+   * Remove a pair from the table.
+   *
+   * @param userId Id of the user
+   * @param blockId Id of the block
+   * @return the value of the pair, -1 if it was not in the table
+   */
+  public synchronized long remove(long userId, long blockId) {
+    int slot = find(userId, blockId);
+    if (slot < 0) {
+      return -1;
+    }
+    long value = mValues[slot];
+    // Backward shift deletion, as in BlockMetadataTable
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mMask;
+      if (!mOccupied[next]) {
+        break;
+      }
+      int home = home(mUserIds[next], mBlockIds[next]);
+      boolean stays = hole < next ? (home > hole && home <= next) : (home > hole || home <= next);
+      if (!stays) {
+        mUserIds[hole] = mUserIds[next];
+        mBlockIds[hole] = mBlockIds[next];
+        mValues[hole] = mValues[next];
+        hole = next;
+      }
+    }
+    mOccupied[hole] = false;
+    mSize --;
+    return value;
+  }
+
+  /**
+   * Remove all the pairs of a user from the table.
+   *
+   * @param userId Id of the user
+   * @return the Ids of the blocks of the user
+   */
+  public synchronized long[] removeUser(long userId) {
+    long[] blockIds = new long[mSize];
+    int count = 0;
+    for (int slot = 0; slot <= mMask; slot ++) {
+      if (mOccupied[slot] && mUserIds[slot] == userId) {
+        blockIds[count ++] = mBlockIds[slot];
+      }
+    }
+    blockIds = Arrays.copyOf(blockIds, count);
+    for (long blockId : blockIds) {
+      remove(userId, blockId);
+    }
+    return blockIds;
+  }
+
+  private void resize() {
+    long[] oldUserIds = mUserIds;
+    long[] oldBlockIds = mBlockIds;
+    long[] oldValues = mValues;
+    boolean[] oldOccupied = mOccupied;
+    allocate(oldOccupied.length * 2);
+    for (int slot = 0; slot < oldOccupied.length; slot ++) {
+      if (oldOccupied[slot]) {
+        int newSlot = -(find(oldUserIds[slot], oldBlockIds[slot]) + 1);
+        mUserIds[newSlot] = oldUserIds[slot];
+        mBlockIds[newSlot] = oldBlockIds[slot];
+        mValues[newSlot] = oldValues[slot];
+        mOccupied[newSlot] = true;
+      }
+    }
+  }
+
+  /**
+   * @return the number of pairs in the table
+   */
+  public synchronized int size() {
+    return mSize;
+  }
+}
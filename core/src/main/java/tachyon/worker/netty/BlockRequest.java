@@ -24,43 +24,120 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 import com.google.common.primitives.Longs;
 import com.google.common.primitives.Shorts;
 
+import tachyon.Constants;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.nio.DataServerMessage;
+
 /**
  * Request from the client for a given block. To go from netty to this object,
  * {@link tachyon.worker.netty.BlockRequest.Decoder} is used.
+ * <p />
+ * A one-shot request is the only request of its connection. A pipelined request carries a request
+ * id and more requests may follow it on the same connection.
  */
 public final class BlockRequest {
   /**
-   * Creates a new {@link tachyon.worker.netty.BlockRequest} from the user's request.
+   * Creates a new {@link tachyon.worker.netty.BlockRequest} from the user's request, or a
+   * {@link tachyon.worker.netty.BlockWriteRequest} once its data is fully received.
    */
   public static final class Decoder extends ByteToMessageDecoder {
     private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 3;
+    private static final int PIPELINED_MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
+    private static final int WRITE_MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
+
+    /** The data of a write request is held in memory until fully received, so it is bounded */
+    private final long mMaxWriteLength;
+
+    public Decoder(TachyonConf tachyonConf) {
+      mMaxWriteLength = Math.min(Integer.MAX_VALUE - WRITE_MESSAGE_LENGTH, tachyonConf.getBytes(
+          Constants.WORKER_NETTY_WRITE_MAX_FRAME_BYTES, 8 * Constants.MB));
+    }
 
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out)
         throws Exception {
-      if (in.readableBytes() < MESSAGE_LENGTH) {
+      if (in.readableBytes() < Shorts.BYTES) {
+        return;
+      }
+      short type = in.getShort(in.readerIndex());
+      if (type == DataServerMessage.DATA_SERVER_WRITE_REQUEST_MESSAGE) {
+        decodeWrite(in, out);
+        return;
+      }
+      boolean pipelined;
+      if (type == DataServerMessage.DATA_SERVER_REQUEST_MESSAGE) {
+        pipelined = false;
+      } else if (type == DataServerMessage.DATA_SERVER_PIPELINED_REQUEST_MESSAGE) {
+        pipelined = true;
+      } else {
+        throw new IllegalArgumentException("Unknown block request type " + type);
+      }
+      if (in.readableBytes() < (pipelined ? PIPELINED_MESSAGE_LENGTH : MESSAGE_LENGTH)) {
         return;
       }
 
-      // read the type and ignore it. Currently only one type exists
-      in.readShort(); // == DataServerMessage.DATA_SERVER_REQUEST_MESSAGE;
+      in.readShort();
+      long requestId = pipelined ? in.readLong() : -1;
       long blockId = in.readLong();
       long offset = in.readLong();
       long length = in.readLong();
 
-      out.add(new BlockRequest(blockId, offset, length));
+      if (pipelined) {
+        out.add(new BlockRequest(requestId, blockId, offset, length));
+      } else {
+        out.add(new BlockRequest(blockId, offset, length));
+        // remove this from the pipeline so it won't be called again for this connection
+        ctx.channel().pipeline().remove(this);
+      }
+    }
+
+    private void decodeWrite(final ByteBuf in, final List<Object> out) {
+      if (in.readableBytes() < WRITE_MESSAGE_LENGTH) {
+        return;
+      }
+      long length = in.getLong(in.readerIndex() + WRITE_MESSAGE_LENGTH - Longs.BYTES);
+      if (length < 0 || length > mMaxWriteLength) {
+        throw new IllegalArgumentException("Invalid block write length " + length + ", the maximum"
+            + " is " + mMaxWriteLength);
+      }
+      if (in.readableBytes() < WRITE_MESSAGE_LENGTH + length) {
+        return;
+      }
 
-      // remove this from the pipeline so it won't be called again for this connection
-      ctx.channel().pipeline().remove(this);
+      in.readShort();
+      long userId = in.readLong();
+      long blockId = in.readLong();
+      long offset = in.readLong();
+      in.readLong();
+      ByteBuf data = in.readSlice((int) length).retain();
+      out.add(new BlockWriteRequest(userId, blockId, offset, data));
     }
   }
 
+  private final boolean mPipelined;
+  private final long mRequestId;
   private final long mBlockId;
   private final long mOffset;
 
   private final long mLength;
 
+  /**
+   * Creates a one-shot request.
+   */
   public BlockRequest(long blockId, long offset, long length) {
+    mPipelined = false;
+    mRequestId = -1;
+    mBlockId = blockId;
+    mOffset = offset;
+    mLength = length;
+  }
+
+  /**
+   * Creates a pipelined request.
+   */
+  public BlockRequest(long requestId, long blockId, long offset, long length) {
+    mPipelined = true;
+    mRequestId = requestId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
@@ -77,4 +154,15 @@ public final class BlockRequest {
   public long getOffset() {
     return mOffset;
   }
+
+  /**
+   * Gets the id of a pipelined request, -1 for a one-shot request.
+   */
+  public long getRequestId() {
+    return mRequestId;
+  }
+
+  public boolean isPipelined() {
+    return mPipelined;
+  }
 }
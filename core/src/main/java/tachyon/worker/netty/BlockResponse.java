@@ -44,6 +44,7 @@ public final class BlockResponse {
    */
   public static final class Encoder extends MessageToMessageEncoder<BlockResponse> {
     private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 3;
+    private static final int PIPELINED_MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
 
     private final TachyonConf mTachyonConf;
 
@@ -54,8 +55,15 @@ public final class BlockResponse {
     }
 
     private ByteBuf createHeader(final ChannelHandlerContext ctx, final BlockResponse msg) {
-      ByteBuf header = ctx.alloc().buffer(MESSAGE_LENGTH);
-      header.writeShort(DataServerMessage.DATA_SERVER_RESPONSE_MESSAGE);
+      ByteBuf header;
+      if (msg.isPipelined()) {
+        header = ctx.alloc().buffer(PIPELINED_MESSAGE_LENGTH);
+        header.writeShort(DataServerMessage.DATA_SERVER_PIPELINED_RESPONSE_MESSAGE);
+        header.writeLong(msg.getRequestId());
+      } else {
+        header = ctx.alloc().buffer(MESSAGE_LENGTH);
+        header.writeShort(DataServerMessage.DATA_SERVER_RESPONSE_MESSAGE);
+      }
       header.writeLong(msg.getBlockId());
       header.writeLong(msg.getOffset());
       header.writeLong(msg.getLength());
@@ -101,6 +109,33 @@ public final class BlockResponse {
     return new BlockResponse(-blockId, 0, 0, null);
   }
 
+  /**
+   * Creates a {@link tachyon.worker.netty.BlockResponse} that represents a error case for the given
+   * request, pipelined if the request is.
+   */
+  public static BlockResponse createErrorResponse(final BlockRequest req) {
+    return createResponse(req, -req.getBlockId(), 0, 0, null);
+  }
+
+  /**
+   * Creates the {@link tachyon.worker.netty.BlockResponse} of the given request, pipelined if the
+   * request is.
+   */
+  public static BlockResponse createResponse(final BlockRequest req, final long length,
+      final BlockHandler handler) {
+    return createResponse(req, req.getBlockId(), req.getOffset(), length, handler);
+  }
+
+  private static BlockResponse createResponse(BlockRequest req, long blockId, long offset,
+      long length, BlockHandler handler) {
+    if (req.isPipelined()) {
+      return new BlockResponse(req.getRequestId(), blockId, offset, length, handler);
+    }
+    return new BlockResponse(blockId, offset, length, handler);
+  }
+
+  private final boolean mPipelined;
+  private final long mRequestId;
   private final long mBlockId;
   private final long mOffset;
 
@@ -109,6 +144,18 @@ public final class BlockResponse {
   private final BlockHandler mHandler;
 
   public BlockResponse(long blockId, long offset, long length, BlockHandler handler) {
+    mPipelined = false;
+    mRequestId = -1;
+    mBlockId = blockId;
+    mOffset = offset;
+    mLength = length;
+    mHandler = handler;
+  }
+
+  public BlockResponse(long requestId, long blockId, long offset, long length,
+      BlockHandler handler) {
+    mPipelined = true;
+    mRequestId = requestId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
@@ -130,4 +177,15 @@ public final class BlockResponse {
   public long getOffset() {
     return mOffset;
   }
+
+  /**
+   * Gets the id of the request of a pipelined response, -1 for a one-shot response.
+   */
+  public long getRequestId() {
+    return mRequestId;
+  }
+
+  public boolean isPipelined() {
+    return mPipelined;
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.metrics.Histogram;
+import tachyon.worker.WorkerStorage;
+
+/**
+ * Stores the data of {@link tachyon.worker.netty.BlockWriteRequest} messages and returns
+ * {@link tachyon.worker.netty.BlockWriteResponse} messages. Storing data writes to disk and may
+ * evict blocks, so this handler is added to the pipeline with its own executor group rather than
+ * running on the event loop of the connection. The group runs the requests of a connection in
+ * order, one at a time.
+ */
+@ChannelHandler.Sharable
+public final class BlockWriteHandler extends ChannelInboundHandlerAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final WorkerStorage mWorkerStorage;
+  /** Time from a write request to the response */
+  private final Histogram mWriteLatency;
+
+  public BlockWriteHandler(WorkerStorage workerStorage) {
+    mWorkerStorage = workerStorage;
+    mWriteLatency = mWorkerStorage.getMetrics().histogram("dataserver.write.latency.us");
+  }
+
+  @Override
+  public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+    // pipeline will make sure this is true
+    BlockWriteRequest req = (BlockWriteRequest) msg;
+    long startNs = System.nanoTime();
+    BlockWriteResponse resp;
+    try {
+      mWorkerStorage.writeTempBlock(req.getUserId(), req.getBlockId(), req.getOffset(),
+          req.getData().nioBuffer());
+      resp = BlockWriteResponse.createResponse(req);
+    } catch (Exception e) {
+      LOG.error("Failed to write block " + req.getBlockId() + " of user " + req.getUserId()
+          + " at offset " + req.getOffset() + " : " + e.getMessage(), e);
+      resp = BlockWriteResponse.createErrorResponse(req);
+    } finally {
+      req.getData().release();
+    }
+    ctx.writeAndFlush(resp);
+    mWriteLatency.update((System.nanoTime() - startNs) / 1000);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+    LOG.warn("Exception thrown while processing write request", cause);
+    ctx.close();
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Request from the client to append data to a block it is writing. It is decoded by
+ * {@link tachyon.worker.netty.BlockRequest.Decoder}, and answered by a
+ * {@link tachyon.worker.netty.BlockWriteResponse}.
+ */
+public final class BlockWriteRequest {
+  private final long mUserId;
+  private final long mBlockId;
+  private final long mOffset;
+  private final ByteBuf mData;
+
+  /**
+   * @param userId the id of the user writing the block
+   * @param blockId the id of the block
+   * @param offset the offset of the data in the block
+   * @param data the data, released by whoever consumes the request
+   */
+  public BlockWriteRequest(long userId, long blockId, long offset, ByteBuf data) {
+    mUserId = userId;
+    mBlockId = blockId;
+    mOffset = offset;
+    mData = data;
+  }
+
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  public ByteBuf getData() {
+    return mData;
+  }
+
+  public long getLength() {
+    return mData.readableBytes();
+  }
+
+  public long getOffset() {
+    return mOffset;
+  }
+
+  public long getUserId() {
+    return mUserId;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import tachyon.worker.nio.DataServerMessage;
+
+/**
+ * When a user sends a {@link tachyon.worker.netty.BlockWriteRequest}, the response back is of this
+ * type. It acknowledges the written range, or carries the negated block id if the write failed.
+ * <p />
+ * To serialize the response to network, {@link tachyon.worker.netty.BlockWriteResponse.Encoder} is
+ * used.
+ */
+public final class BlockWriteResponse {
+  /**
+   * Encodes a {@link tachyon.worker.netty.BlockWriteResponse} to network.
+   */
+  public static final class Encoder extends MessageToByteEncoder<BlockWriteResponse> {
+    @Override
+    protected void encode(final ChannelHandlerContext ctx, final BlockWriteResponse msg,
+        final ByteBuf out) throws Exception {
+      out.writeShort(DataServerMessage.DATA_SERVER_WRITE_RESPONSE_MESSAGE);
+      out.writeLong(msg.getBlockId());
+      out.writeLong(msg.getOffset());
+      out.writeLong(msg.getLength());
+    }
+  }
+
+  /**
+   * Creates a {@link tachyon.worker.netty.BlockWriteResponse} that represents a error case for the
+   * given request.
+   */
+  public static BlockWriteResponse createErrorResponse(final BlockWriteRequest req) {
+    return new BlockWriteResponse(-req.getBlockId(), req.getOffset(), 0);
+  }
+
+  /**
+   * Creates the {@link tachyon.worker.netty.BlockWriteResponse} acknowledging the given request.
+   */
+  public static BlockWriteResponse createResponse(final BlockWriteRequest req) {
+    return new BlockWriteResponse(req.getBlockId(), req.getOffset(), req.getLength());
+  }
+
+  private final long mBlockId;
+  private final long mOffset;
+  private final long mLength;
+
+  public BlockWriteResponse(long blockId, long offset, long length) {
+    mBlockId = blockId;
+    mOffset = offset;
+    mLength = length;
+  }
+
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  public long getLength() {
+    return mLength;
+  }
+
+  public long getOffset() {
+    return mOffset;
+  }
+}
@@ -26,6 +26,9 @@ import org.slf4j.LoggerFactory;
 
 import tachyon.Constants;
 import tachyon.conf.TachyonConf;
+import tachyon.metrics.Counter;
+import tachyon.metrics.Histogram;
+import tachyon.metrics.MetricsRegistry;
 import tachyon.worker.BlockHandler;
 import tachyon.worker.BlocksLocker;
 import tachyon.worker.hierarchy.StorageDir;
@@ -33,6 +36,8 @@ import tachyon.worker.hierarchy.StorageDir;
 /**
  * Main logic for the read path. This class consumes {@link tachyon.worker.netty.BlockRequest}
  * messages and returns {@link tachyon.worker.netty.BlockResponse} messages.
+ * {@link tachyon.worker.netty.BlockWriteRequest} messages are passed on to the
+ * {@link tachyon.worker.netty.BlockWriteHandler}.
  */
 @ChannelHandler.Sharable
 public final class DataServerHandler extends ChannelInboundHandlerAdapter {
@@ -40,14 +45,25 @@ public final class DataServerHandler extends ChannelInboundHandlerAdapter {
 
   private final BlocksLocker mLocker;
   private final TachyonConf mTachyonConf;
+  /** Time from a read request to the end of the transfer of its data */
+  private final Histogram mReadLatency;
+  private final Counter mReadBytes;
 
   public DataServerHandler(BlocksLocker locker, TachyonConf tachyonConf) {
     mLocker = locker;
     mTachyonConf = tachyonConf;
+    MetricsRegistry metrics = mLocker.getWorkerStorage().getMetrics();
+    mReadLatency = metrics.histogram("dataserver.read.latency.us");
+    mReadBytes = metrics.counter("dataserver.read.bytes");
   }
 
   @Override
   public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+    if (msg instanceof BlockWriteRequest) {
+      ctx.fireChannelRead(msg);
+      return;
+    }
+    final long startNs = System.nanoTime();
     // pipeline will make sure this is true
     final BlockRequest req = (BlockRequest) msg;
 
@@ -66,18 +82,30 @@ public final class DataServerHandler extends ChannelInboundHandlerAdapter {
       validateBounds(req, fileLength);
       final long readLength = returnLength(offset, len, fileLength);
       ChannelFuture future =
-          ctx.writeAndFlush(new BlockResponse(blockId, offset, readLength, handler));
-      future.addListener(ChannelFutureListener.CLOSE);
+          ctx.writeAndFlush(BlockResponse.createResponse(req, readLength, handler));
+      if (!req.isPipelined()) {
+        future.addListener(ChannelFutureListener.CLOSE);
+      }
       future.addListener(new ClosableResourceChannelListener(handler));
+      future.addListener(new ChannelFutureListener() {
+        @Override
+        public void operationComplete(ChannelFuture f) {
+          mReadLatency.update((System.nanoTime() - startNs) / 1000);
+        }
+      });
       storageDir.accessBlock(blockId);
+      storageDir.addReadBytes(readLength);
+      mReadBytes.inc(readLength);
       LOG.info("Response remote request by reading from {}, preparation done.",
           storageDir.getBlockFilePath(blockId));
     } catch (Exception e) {
       // TODO This is a trick for now. The data may have been removed before remote retrieving.
       LOG.error("The file is not here : " + e.getMessage(), e);
-      BlockResponse resp = BlockResponse.createErrorResponse(blockId);
+      BlockResponse resp = BlockResponse.createErrorResponse(req);
       ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
+      if (!req.isPipelined()) {
+        future.addListener(ChannelFutureListener.CLOSE);
+      }
       if (handler != null) {
         handler.close();
       }
@@ -28,6 +28,8 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 import com.google.common.base.Throwables;
 
@@ -45,11 +47,16 @@ public final class NettyDataServer implements DataServer {
 
   private final ChannelFuture mChannelFuture;
   private final TachyonConf mTachyonConf;
+  /** Stores written blocks, so that disk writes do not block the event loops */
+  private final EventExecutorGroup mWriteGroup;
 
   public NettyDataServer(final InetSocketAddress address, final BlocksLocker locker,
       final TachyonConf tachyonConf) {
     mTachyonConf = tachyonConf;
-    mBootstrap = createBootstrap().childHandler(new PipelineHandler(locker, mTachyonConf));
+    mWriteGroup = new DefaultEventExecutorGroup(mTachyonConf.getInt(
+        Constants.WORKER_NETTY_WRITE_THREADS, 8), ThreadFactoryUtils.build("data-server-write-%d"));
+    mBootstrap = createBootstrap().childHandler(new PipelineHandler(locker, mTachyonConf,
+        mWriteGroup));
 
     try {
       mChannelFuture = mBootstrap.bind(address).sync();
@@ -63,6 +70,7 @@ public final class NettyDataServer implements DataServer {
     mChannelFuture.channel().close().awaitUninterruptibly();
     mBootstrap.group().shutdownGracefully();
     mBootstrap.childGroup().shutdownGracefully();
+    mWriteGroup.shutdownGracefully();
   }
 
   private ServerBootstrap createBootstrap() {
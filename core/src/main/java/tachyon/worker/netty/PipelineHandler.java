@@ -19,6 +19,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 import tachyon.conf.TachyonConf;
 import tachyon.worker.BlocksLocker;
@@ -29,18 +30,30 @@ import tachyon.worker.BlocksLocker;
 public final class PipelineHandler extends ChannelInitializer<SocketChannel> {
   private final BlocksLocker mLocker;
   private final TachyonConf mTachyonConf;
+  private final EventExecutorGroup mWriteGroup;
+  private final BlockWriteHandler mBlockWriteHandler;
 
-  public PipelineHandler(BlocksLocker locker, TachyonConf tachyonConf) {
+  /**
+   * @param locker the locker of the worker's blocks
+   * @param tachyonConf the TachyonConf of the worker
+   * @param writeGroup the executor group storing written blocks, off the event loops
+   */
+  public PipelineHandler(BlocksLocker locker, TachyonConf tachyonConf,
+      EventExecutorGroup writeGroup) {
     mLocker = locker;
     mTachyonConf = tachyonConf;
+    mWriteGroup = writeGroup;
+    mBlockWriteHandler = new BlockWriteHandler(locker.getWorkerStorage());
   }
 
   @Override
   protected void initChannel(SocketChannel ch) throws Exception {
     ChannelPipeline pipeline = ch.pipeline();
     pipeline.addLast("nioChunkedWriter", new ChunkedWriteHandler());
-    pipeline.addLast("blockRequestDecoder", new BlockRequest.Decoder());
+    pipeline.addLast("blockRequestDecoder", new BlockRequest.Decoder(mTachyonConf));
     pipeline.addLast("blockResponseEncoder", new BlockResponse.Encoder(mTachyonConf));
+    pipeline.addLast("blockWriteResponseEncoder", new BlockWriteResponse.Encoder());
     pipeline.addLast("dataServerHandler", new DataServerHandler(mLocker, mTachyonConf));
+    pipeline.addLast(mWriteGroup, "blockWriteHandler", mBlockWriteHandler);
   }
 }
@@ -29,24 +29,39 @@ import tachyon.client.TachyonByteBuffer;
 
 /**
  * The message type used to send data request and response for remote data.
+ * <p />
+ * A one-shot request is answered by a one-shot response, then the data server closes the
+ * connection. A pipelined request carries a request id, echoed by its pipelined response, and the
+ * connection stays open for further requests. Several pipelined requests can be sent before
+ * reading their responses, which come back in request order.
+ * <p />
+ * A write request carries the data to append to a block being written by a user, and is answered
+ * by a write response once the data is stored in the worker. Like pipelined requests, several
+ * writes can be sent on the same connection. Only the netty data server accepts writes.
  */
 public class DataServerMessage {
   public static final short DATA_SERVER_REQUEST_MESSAGE = 1;
   public static final short DATA_SERVER_RESPONSE_MESSAGE = 2;
+  public static final short DATA_SERVER_PIPELINED_REQUEST_MESSAGE = 3;
+  public static final short DATA_SERVER_PIPELINED_RESPONSE_MESSAGE = 4;
+  public static final short DATA_SERVER_WRITE_REQUEST_MESSAGE = 5;
+  public static final short DATA_SERVER_WRITE_RESPONSE_MESSAGE = 6;
 
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  private static final int MESSAGE_TYPE_LENGTH = 2;
   private static final int HEADER_LENGTH = 26;
+  private static final int PIPELINED_HEADER_LENGTH = 34;
 
   /**
    * Create a default block request message, just allocate the message header, and no attribute is
-   * set. The message is not ready to be sent.
+   * set. The message is not ready to be sent. It receives either a one-shot or a pipelined request.
    * 
    * @return the created block request message
    */
   public static DataServerMessage createBlockRequestMessage() {
     DataServerMessage ret = new DataServerMessage(false, DATA_SERVER_REQUEST_MESSAGE);
-    ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
+    ret.allocateRecvHeader();
     return ret;
   }
 
@@ -86,6 +101,34 @@ public class DataServerMessage {
     return ret;
   }
 
+  /**
+   * Create a pipelined block request message specified by the request's id, the block's id, the
+   * offset and the length. The message is ready to be sent. If <code>len</code> is -1, it means
+   * request the data from offset to the block's end.
+   *
+   * @param requestId The id of the request, echoed by the response
+   * @param blockId The id of the block
+   * @param offset The requested data's offset in the block
+   * @param len The length of the requested data. If it's -1, it means request the data from offset
+   *        to the block's end.
+   * @return The created block request message
+   */
+  public static DataServerMessage createPipelinedBlockRequestMessage(long requestId, long blockId,
+      long offset, long len) {
+    DataServerMessage ret = new DataServerMessage(true, DATA_SERVER_PIPELINED_REQUEST_MESSAGE);
+
+    ret.mHeader = ByteBuffer.allocate(PIPELINED_HEADER_LENGTH);
+    ret.mRequestId = requestId;
+    ret.mBlockId = blockId;
+    ret.mOffset = offset;
+    ret.mLength = len;
+    ret.generateHeader();
+    ret.mData = ByteBuffer.allocate(0);
+    ret.mIsMessageReady = true;
+
+    return ret;
+  }
+
   /**
    * Create a block response message specified by the block's id. If <code>toSend</code> is true, it
    * will prepare the data to be sent, otherwise the message is used to receive data.
@@ -116,11 +159,35 @@ public class DataServerMessage {
    */
   public static DataServerMessage createBlockResponseMessage(boolean toSend, long blockId,
       long offset, long len, ByteBuffer data) {
-    DataServerMessage ret = new DataServerMessage(toSend, DATA_SERVER_RESPONSE_MESSAGE);
+    return createBlockResponseMessage(toSend, DATA_SERVER_RESPONSE_MESSAGE, -1, blockId, offset,
+        len, data);
+  }
+
+  /**
+   * Create a response message to send for the given request message, pipelined if the request is.
+   *
+   * @param request The request message being answered
+   * @param len The length of the responded data
+   * @param data The data of the message, null if the block could not be read
+   * @return The created block response message
+   */
+  public static DataServerMessage createBlockResponseMessage(DataServerMessage request, long len,
+      ByteBuffer data) {
+    short msgType =
+        request.isPipelined() ? DATA_SERVER_PIPELINED_RESPONSE_MESSAGE
+            : DATA_SERVER_RESPONSE_MESSAGE;
+    return createBlockResponseMessage(true, msgType, request.mRequestId, request.getBlockId(),
+        request.getOffset(), len, data);
+  }
+
+  private static DataServerMessage createBlockResponseMessage(boolean toSend, short msgType,
+      long requestId, long blockId, long offset, long len, ByteBuffer data) {
+    DataServerMessage ret = new DataServerMessage(toSend, msgType);
 
     if (toSend) {
+      ret.mRequestId = requestId;
       if (data != null) {
-        ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
+        ret.mHeader = ByteBuffer.allocate(getHeaderLength(msgType));
         ret.mBlockId = blockId;
         ret.mOffset = offset;
         ret.mLength = len;
@@ -132,25 +199,52 @@ public class DataServerMessage {
         // TODO This is a trick for now. The data may have been removed before remote retrieving.
         ret.mBlockId = -blockId;
         ret.mLength = 0;
-        ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
+        ret.mHeader = ByteBuffer.allocate(getHeaderLength(msgType));
         ret.mData = ByteBuffer.allocate(0);
         ret.mIsMessageReady = true;
         ret.generateHeader();
         LOG.error("The file is not here! blockId:{}", blockId);
       }
     } else {
-      ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
+      ret.allocateRecvHeader();
       ret.mData = null;
     }
 
     return ret;
   }
 
+  /**
+   * Create a message to receive the header of a block response only, one-shot or pipelined. The
+   * message is ready once the header is received, and the data is left in the socket channel for
+   * the caller to stream.
+   *
+   * @return The created block response message
+   */
+  public static DataServerMessage createBlockResponseHeaderMessage() {
+    DataServerMessage ret = new DataServerMessage(false, DATA_SERVER_RESPONSE_MESSAGE);
+    ret.allocateRecvHeader();
+    ret.mHeaderOnly = true;
+    return ret;
+  }
+
+  private static int getHeaderLength(short msgType) {
+    if (msgType == DATA_SERVER_PIPELINED_REQUEST_MESSAGE
+        || msgType == DATA_SERVER_PIPELINED_RESPONSE_MESSAGE) {
+      return PIPELINED_HEADER_LENGTH;
+    }
+    return HEADER_LENGTH;
+  }
+
   private final boolean mToSendData;
-  private final short mMessageType;
+  /** The message type, of a recv message it is only known once the header is received */
+  private short mMessageType;
   private boolean mIsMessageReady;
 
   private ByteBuffer mHeader;
+  /** If true, the message is ready once the header is received */
+  private boolean mHeaderOnly = false;
+
+  private long mRequestId = -1;
 
   private long mBlockId;
 
@@ -187,7 +281,7 @@ public class DataServerMessage {
    * Close the message.
    */
   public void close() {
-    if (mMessageType == DATA_SERVER_RESPONSE_MESSAGE) {
+    if (isResponse()) {
       try {
         if (mTachyonData != null) {
           mTachyonData.close();
@@ -210,9 +304,18 @@ public class DataServerMessage {
     return mHeader.remaining() == 0 && mData.remaining() == 0;
   }
 
+  private void allocateRecvHeader() {
+    // Read the message type first, it decides the length of the rest of the header
+    mHeader = ByteBuffer.allocate(PIPELINED_HEADER_LENGTH);
+    mHeader.limit(MESSAGE_TYPE_LENGTH);
+  }
+
   private void generateHeader() {
     mHeader.clear();
     mHeader.putShort(mMessageType);
+    if (isPipelined()) {
+      mHeader.putLong(mRequestId);
+    }
     mHeader.putLong(mBlockId);
     mHeader.putLong(mOffset);
     mHeader.putLong(mLength);
@@ -229,6 +332,17 @@ public class DataServerMessage {
     return mBlockId;
   }
 
+  /**
+   * Get the id of the request of a pipelined message. Make sure the message is ready before calling
+   * this method.
+   *
+   * @return The id of the request, -1 if the message is not pipelined
+   */
+  public long getRequestId() {
+    checkReady();
+    return mRequestId;
+  }
+
   /**
    * Get the length of the message's requested or responded data. Make sure the message is ready
    * before calling this method.
@@ -262,7 +376,7 @@ public class DataServerMessage {
 
   /**
    * Get the read only buffer of the message's data. Make sure the message is ready before calling
-   * this method.
+   * this method, and that it is not a header only message.
    * 
    * @return The read only buffer of the message's data
    */
@@ -273,6 +387,19 @@ public class DataServerMessage {
     return ret;
   }
 
+  /**
+   * @return true if the message is a pipelined request or response, false otherwise
+   */
+  public boolean isPipelined() {
+    return mMessageType == DATA_SERVER_PIPELINED_REQUEST_MESSAGE
+        || mMessageType == DATA_SERVER_PIPELINED_RESPONSE_MESSAGE;
+  }
+
+  private boolean isResponse() {
+    return mMessageType == DATA_SERVER_RESPONSE_MESSAGE
+        || mMessageType == DATA_SERVER_PIPELINED_RESPONSE_MESSAGE;
+  }
+
   /**
    * @return true if the message is ready, false otherwise
    */
@@ -304,16 +431,37 @@ public class DataServerMessage {
     int numRead = 0;
     if (mHeader.remaining() > 0) {
       numRead = socketChannel.read(mHeader);
+      if (mHeader.remaining() == 0 && mHeader.limit() == MESSAGE_TYPE_LENGTH) {
+        short msgType = mHeader.getShort(0);
+        boolean expectResponse = isResponse();
+        if (msgType == DATA_SERVER_REQUEST_MESSAGE
+            || msgType == DATA_SERVER_PIPELINED_REQUEST_MESSAGE) {
+          if (expectResponse) {
+            throw new IOException("Received a request while expecting a response");
+          }
+        } else if (msgType == DATA_SERVER_RESPONSE_MESSAGE
+            || msgType == DATA_SERVER_PIPELINED_RESPONSE_MESSAGE) {
+          if (!expectResponse) {
+            throw new IOException("Received a response while expecting a request");
+          }
+        } else {
+          throw new IOException("Unknown data server message type " + msgType);
+        }
+        mMessageType = msgType;
+        mHeader.limit(getHeaderLength(msgType));
+      }
       if (mHeader.remaining() == 0) {
         mHeader.flip();
-        short msgType = mHeader.getShort();
-        assert (mMessageType == msgType);
+        mHeader.getShort();
+        if (isPipelined()) {
+          mRequestId = mHeader.getLong();
+        }
         mBlockId = mHeader.getLong();
         mOffset = mHeader.getLong();
         mLength = mHeader.getLong();
         // TODO make this better to truncate the file.
         assert mLength < Integer.MAX_VALUE;
-        if (mMessageType == DATA_SERVER_RESPONSE_MESSAGE) {
+        if (isResponse() && !mHeaderOnly) {
           if (mLength == -1) {
             mData = ByteBuffer.allocate(0);
           } else {
@@ -321,7 +469,7 @@ public class DataServerMessage {
           }
         }
         LOG.info("data {}, blockId:{} offset:{} dataLength:{}", mData, mBlockId, mOffset, mLength);
-        if (mMessageType == DATA_SERVER_REQUEST_MESSAGE || mLength <= 0) {
+        if (!isResponse() || mLength <= 0 || mHeaderOnly) {
           mIsMessageReady = true;
         }
       }
@@ -230,8 +230,7 @@ public class NIODataServer implements Runnable, DataServer {
         data = null;
       }
       DataServerMessage tResponseMessage =
-          DataServerMessage.createBlockResponseMessage(true, blockId, tMessage.getOffset(),
-              dataLen, data);
+          DataServerMessage.createBlockResponseMessage(tMessage, dataLen, data);
       tResponseMessage.setLockId(lockId);
       mSendingData.put(socketChannel, tResponseMessage);
     }
@@ -292,12 +291,17 @@ public class NIODataServer implements Runnable, DataServer {
     }
 
     if (sendMessage.finishSending() || closeChannel) {
-      try {
-        key.channel().close();
-      } catch (IOException e) {
-        LOG.error(e.getMessage());
+      if (sendMessage.isPipelined() && !closeChannel) {
+        // Keep the connection open and wait for the next request
+        key.interestOps(SelectionKey.OP_READ);
+      } else {
+        try {
+          key.channel().close();
+        } catch (IOException e) {
+          LOG.error(e.getMessage());
+        }
+        key.cancel();
       }
-      key.cancel();
       mReceivingData.remove(socketChannel);
       mSendingData.remove(socketChannel);
       sendMessage.close();
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.thrift.MasterService;
+
+public class ThriftClientPoolTest {
+  /** A transport which is open until closed, it cannot transfer any data */
+  private static class TestTransport extends TTransport {
+    private boolean mOpen = true;
+
+    @Override
+    public void close() {
+      mOpen = false;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return mOpen;
+    }
+
+    @Override
+    public void open() {
+      mOpen = true;
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class TestPool extends ThriftClientPool<MasterService.Client> {
+    private int mCreatedClients = 0;
+
+    TestPool(int maxClients) {
+      super(maxClients);
+    }
+
+    @Override
+    protected synchronized MasterService.Client createClient() throws IOException {
+      mCreatedClients ++;
+      return new MasterService.Client(new TBinaryProtocol(new TestTransport()));
+    }
+  }
+
+  private static boolean isOpen(MasterService.Client client) {
+    return client.getInputProtocol().getTransport().isOpen();
+  }
+
+  @Test
+  public void boundTest() throws Exception {
+    final TestPool pool = new TestPool(1);
+    MasterService.Client client = pool.acquire();
+    final CountDownLatch acquired = new CountDownLatch(1);
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          pool.release(pool.acquire());
+          acquired.countDown();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+    thread.start();
+    Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    pool.release(client);
+    Assert.assertTrue(acquired.await(10, TimeUnit.SECONDS));
+    thread.join();
+    Assert.assertEquals(1, pool.mCreatedClients);
+  }
+
+  @Test
+  public void clearTest() throws Exception {
+    TestPool pool = new TestPool(2);
+    MasterService.Client idle = pool.acquire();
+    MasterService.Client inUse = pool.acquire();
+    pool.release(idle);
+    pool.clear();
+    Assert.assertFalse(isOpen(idle));
+    Assert.assertTrue(isOpen(inUse));
+    pool.release(inUse);
+    Assert.assertFalse(isOpen(inUse));
+    Assert.assertNotSame(inUse, pool.acquire());
+    Assert.assertEquals(3, pool.mCreatedClients);
+  }
+
+  @Test
+  public void invalidateTest() throws Exception {
+    TestPool pool = new TestPool(1);
+    MasterService.Client client = pool.acquire();
+    pool.invalidate(client);
+    pool.release(client);
+    Assert.assertNotSame(client, pool.acquire());
+    Assert.assertEquals(2, pool.mCreatedClients);
+  }
+
+  @Test
+  public void reuseTest() throws Exception {
+    TestPool pool = new TestPool(2);
+    MasterService.Client client = pool.acquire();
+    pool.release(client);
+    Assert.assertSame(client, pool.acquire());
+    Assert.assertEquals(1, pool.mCreatedClients);
+  }
+}
@@ -23,7 +23,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import tachyon.Constants;
 import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
 import tachyon.master.LocalTachyonCluster;
 
 /**
@@ -186,6 +188,45 @@ public class FileInStreamTest {
     }
   }
 
+  /**
+   * Test reading a file sequentially with the next blocks opened ahead, and seeking around which
+   * drops the blocks opened ahead.
+   */
+  @Test
+  public void readAheadTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    int len = BLOCK_SIZE * 8 + 5;
+    for (int readAheadBlocks : new int[] {0, 1, 3}) {
+      TachyonConf conf = new TachyonConf(sLocalTachyonCluster.getMasterTachyonConf());
+      conf.set(Constants.USER_FILE_READ_AHEAD_BLOCKS, Integer.toString(readAheadBlocks));
+      for (WriteType op : WriteType.values()) {
+        int fileId = TestUtils.createByteFile(sTfs,
+            uniqPath + "/file_" + readAheadBlocks + "_" + op, op, len);
+        TachyonFile file = sTfs.getFile(fileId);
+
+        InStream is = new FileInStream(file, ReadType.NO_CACHE, conf);
+        byte[] ret = new byte[len];
+        int read = 0;
+        while (read < len) {
+          read += is.read(ret, read, Math.min(7, len - read));
+        }
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray(len, ret));
+        Assert.assertEquals(-1, is.read());
+        is.close();
+
+        is = new FileInStream(file, ReadType.NO_CACHE, conf);
+        Assert.assertEquals(0, is.read());
+        is.seek(BLOCK_SIZE * 5 + 1);
+        Assert.assertEquals(BLOCK_SIZE * 5 + 1, is.read());
+        is.seek(BLOCK_SIZE * 2);
+        Assert.assertEquals(BLOCK_SIZE * 2, is.read());
+        Assert.assertEquals(BLOCK_SIZE * 3 - 1, is.skip(BLOCK_SIZE * 3 - 1));
+        Assert.assertEquals(BLOCK_SIZE * 5, is.read());
+        is.close();
+      }
+    }
+  }
+
   /**
    * Test <code>void seek(long pos)</code>. Validate the expected exception for seeking a negative
    * position.
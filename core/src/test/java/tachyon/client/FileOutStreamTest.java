@@ -170,6 +170,36 @@ public class FileOutStreamTest {
     checkWrite(filePath, op, len, len / 2 * 2);
   }
 
+  /**
+   * Test that the full blocks are committed while the file is still being written, and that
+   * canceling the stream leaves the file incomplete.
+   */
+  @Test
+  public void commitFullBlocksTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    int blockSize = 128;
+    int blocks = 20;
+    // The default window of 2 commits may still be pending once a block starts
+    int window = 2;
+    for (boolean cancel : new boolean[] {false, true}) {
+      TachyonURI filePath = new TachyonURI(uniqPath + "/file_" + cancel);
+      int fileId = sTfs.createFile(filePath, blockSize);
+      OutStream os = sTfs.getFile(fileId).getOutStream(WriteType.MUST_CACHE);
+      for (int k = 0; k < blocks; k ++) {
+        os.write(TestUtils.getIncreasingByteArray(k * blockSize, blockSize));
+        Assert.assertTrue(sTfs.getFileBlocks(fileId).size() >= k - window);
+      }
+      if (cancel) {
+        os.cancel();
+        Assert.assertFalse(sTfs.getFile(fileId, false).isComplete());
+      } else {
+        os.close();
+        Assert.assertEquals(blocks, sTfs.getFileBlocks(fileId).size());
+        checkWrite(filePath, WriteType.MUST_CACHE, blocks * blockSize, blocks * blockSize);
+      }
+    }
+  }
+
   /**
    * Test writing to a file for longer than HEARTBEAT_INTERVAL_MS to make sure the userId doesn't
    * change. Tracks [TACHYON-171].
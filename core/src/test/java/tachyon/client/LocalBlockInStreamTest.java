@@ -15,8 +15,18 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -27,7 +37,9 @@ import org.junit.rules.ExpectedException;
 
 import tachyon.Constants;
 import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.util.CommonUtils;
 
 /**
  * Unit tests for <code>tachyon.client.LocalBlockInStream</code>.
@@ -60,6 +72,136 @@ public class LocalBlockInStreamTest {
     sWriteCacheType.add(WriteType.CACHE_THROUGH);
   }
 
+  /**
+   * Returns the number of calls of a worker RPC, once it reaches the expected number. The count is
+   * updated right after the response is sent.
+   */
+  private static long getRpcCount(String methodName, long expected) throws Exception {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName worker =
+        server.queryNames(new ObjectName("tachyon:type=Worker,*"), null).iterator().next();
+    String name = "rpc." + methodName + ".latency.us.count";
+    long count = (Long) server.getAttribute(worker, name);
+    for (int k = 0; k < 100 && count < expected; k ++) {
+      CommonUtils.sleepMs(null, 10);
+      count = (Long) server.getAttribute(worker, name);
+    }
+    return count;
+  }
+
+  /**
+   * Test that concurrent locks of a block lock it on the worker at most once at a time, and that
+   * the block is unlocked on the worker once all of them are released.
+   */
+  @Test
+  public void concurrentLockTest() throws Exception {
+    String uniqPath = TestUtils.uniqPath();
+    int fileId = TestUtils.createByteFile(sTfs, uniqPath + "/locked", WriteType.MUST_CACHE, 6000);
+    final long blockId = sTfs.getBlockId(fileId, 0);
+    long locks = getRpcCount("lockBlock", 0);
+    long unlocks = getRpcCount("unlockBlock", 0);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int i = 0; i < 8; i ++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            for (int k = 0; k < 50; k ++) {
+              int lockId = sTfs.getBlockLockId();
+              Assert.assertNotNull(sTfs.lockBlock(blockId, lockId));
+              Assert.assertTrue(sTfs.unlockBlock(blockId, lockId));
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    long lockDelta = getRpcCount("lockBlock", 0) - locks;
+    Assert.assertTrue(lockDelta > 0);
+    Assert.assertEquals(unlocks + lockDelta, getRpcCount("unlockBlock", unlocks + lockDelta));
+    // The block is not locked on the worker anymore and can be evicted
+    TestUtils.createByteFile(sTfs, uniqPath + "/evicting", WriteType.MUST_CACHE, 6000);
+  }
+
+  /**
+   * Test that a block read with a local read lease is read again without any RPC, and stays locked
+   * on the worker until the lease ends. The heartbeats report the accesses in one RPC.
+   */
+  @Test
+  public void leaseTest() throws Exception {
+    TachyonConf conf = new TachyonConf(sLocalTachyonCluster.getMasterTachyonConf());
+    conf.set(Constants.USER_LOCAL_READ_LEASE_MS, String.valueOf(Constants.HOUR_MS));
+    // Only the first heartbeat is sent by the client, the test sends the next one
+    conf.set(Constants.USER_HEARTBEAT_INTERVAL_MS, String.valueOf(Constants.HOUR_MS));
+    TachyonFS tfs = TachyonFS.get(conf);
+    String uniqPath = TestUtils.uniqPath();
+    int fileId = TestUtils.createByteFile(sTfs, uniqPath + "/leased", WriteType.MUST_CACHE, 6000);
+    long reports = getRpcCount("userBlockReport", 0);
+    long locks = getRpcCount("lockBlock", 0);
+    long unlocks = getRpcCount("unlockBlock", 0);
+    long accesses = getRpcCount("accessBlock", 0);
+    Assert.assertTrue(tfs.hasLocalWorker());
+    Assert.assertEquals(reports + 1, getRpcCount("userBlockReport", reports + 1));
+
+    for (int i = 0; i < 2; i ++) {
+      InStream is = tfs.getFile(fileId).getInStream(ReadType.NO_CACHE);
+      Assert.assertTrue(is instanceof LocalBlockInStream);
+      byte[] ret = new byte[6000];
+      Assert.assertEquals(6000, is.read(ret));
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(6000, ret));
+      is.close();
+    }
+    // The second read reuses the lock of the first one
+    Assert.assertEquals(locks + 1, getRpcCount("lockBlock", locks + 1));
+
+    // The leased block cannot be evicted, even after a heartbeat
+    tfs.getWorkerClient().userHeartbeat(tfs.getUserId());
+    Assert.assertEquals(reports + 2, getRpcCount("userBlockReport", reports + 2));
+    try {
+      TestUtils.createByteFile(sTfs, uniqPath + "/evicting", WriteType.MUST_CACHE, 6000);
+      Assert.fail("The leased block should not be evicted");
+    } catch (IOException e) {
+      // expected
+    }
+
+    // Closing the client ends the lease, the block is unlocked and can be evicted
+    tfs.close();
+    Assert.assertEquals(reports + 3, getRpcCount("userBlockReport", reports + 3));
+    Assert.assertEquals(locks + 1, getRpcCount("lockBlock", 0));
+    Assert.assertEquals(unlocks, getRpcCount("unlockBlock", 0));
+    Assert.assertEquals(accesses, getRpcCount("accessBlock", 0));
+    TestUtils.createByteFile(sTfs, uniqPath + "/evicting2", WriteType.MUST_CACHE, 6000);
+  }
+
+  /**
+   * Test that a positional read over several local blocks locks them with one RPC.
+   */
+  @Test
+  public void lockBlocksTest() throws Exception {
+    String uniqPath = TestUtils.uniqPath();
+    int fileId =
+        TestUtils.createByteFile(sTfs, uniqPath + "/blocks", WriteType.MUST_CACHE, 400, 100);
+    long batchLocks = getRpcCount("lockBlocks", 0);
+    long locks = getRpcCount("lockBlock", 0);
+    long unlocks = getRpcCount("unlockBlock", 0);
+
+    byte[] ret = new byte[300];
+    Assert.assertEquals(300, sTfs.getFile(fileId).read(50, ret, 0, 300));
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(50, 300, ret));
+
+    Assert.assertEquals(batchLocks + 1, getRpcCount("lockBlocks", batchLocks + 1));
+    Assert.assertEquals(locks, getRpcCount("lockBlock", 0));
+    Assert.assertEquals(unlocks + 4, getRpcCount("unlockBlock", unlocks + 4));
+  }
+
   /**
    * Test <code>void read()</code>.
    */
@@ -72,6 +72,8 @@ public class RemoteBlockInStreamTest {
   @After
   public final void after() throws Exception {
     mLocalTachyonCluster.stop();
+    System.clearProperty(Constants.WORKER_DATA_SEVRER);
+    System.clearProperty(Constants.USER_REMOTE_BLOCK_READER);
   }
 
   @Before
@@ -564,6 +566,39 @@ public class RemoteBlockInStreamTest {
     Assert.assertTrue(file.isInMemory());
   }
 
+  /**
+   * Tests that the bytes fetched ahead by prefetch are read first, and dropped on a seek.
+   */
+  @Test
+  public void prefetchTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    int fileId = TestUtils.createByteFile(mTfs, uniqPath, WriteType.MUST_CACHE, 200);
+    TachyonFile file = mTfs.getFile(fileId);
+    TachyonConf conf = new TachyonConf(mMasterTachyonConf);
+    conf.set(Constants.USER_REMOTE_READ_BUFFER_SIZE_BYTE, "100");
+    conf.set(Constants.USER_REMOTE_READ_CHUNK_SIZE_BYTE, "16");
+
+    RemoteBlockInStream is = new RemoteBlockInStream(file, ReadType.NO_CACHE, 0, conf);
+    is.prefetch();
+    byte[] ret = new byte[200];
+    int read = 0;
+    while (read < ret.length) {
+      read += is.read(ret, read, Math.min(7, ret.length - read));
+    }
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(200, ret));
+    Assert.assertEquals(-1, is.read());
+    is.close();
+
+    is = new RemoteBlockInStream(file, ReadType.NO_CACHE, 0, conf);
+    is.prefetch();
+    Assert.assertEquals(0, is.read());
+    is.seek(150);
+    Assert.assertEquals(150, is.read());
+    is.seek(1);
+    Assert.assertEquals(1, is.read());
+    is.close();
+  }
+
   /**
    * Tests that seeking around a file cached locally works.
    */
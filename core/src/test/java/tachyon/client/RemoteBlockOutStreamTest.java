@@ -0,0 +1,146 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
+import tachyon.master.LocalTachyonCluster;
+
+/**
+ * Unit tests for <code>tachyon.client.RemoteBlockOutStream</code>.
+ */
+public class RemoteBlockOutStreamTest {
+  private static final int WORKER_CAPACITY_BYTES = 10000;
+  private static final int BUFFER_BYTES = 16;
+
+  private static LocalTachyonCluster sLocalTachyonCluster = null;
+  private static TachyonFS sTfs = null;
+
+  private TachyonConf mTachyonConf;
+
+  @Before
+  public final void before() throws IOException {
+    mTachyonConf = new TachyonConf(sLocalTachyonCluster.getMasterTachyonConf());
+    mTachyonConf.set(Constants.USER_FILE_BUFFER_BYTES, Integer.toString(BUFFER_BYTES));
+  }
+
+  @AfterClass
+  public static final void afterClass() throws Exception {
+    sLocalTachyonCluster.stop();
+  }
+
+  @BeforeClass
+  public static final void beforeClass() throws IOException {
+    sLocalTachyonCluster = new LocalTachyonCluster(WORKER_CAPACITY_BYTES, 128, Constants.GB);
+    sLocalTachyonCluster.start();
+    sTfs = sLocalTachyonCluster.getClient();
+  }
+
+  private void assertCached(int fileId, int len) throws IOException {
+    TachyonFile file = sTfs.getFile(fileId);
+    Assert.assertTrue(file.isInMemory());
+    Assert.assertEquals(len, file.length());
+    InStream is = file.getInStream(ReadType.NO_CACHE);
+    byte[] res = new byte[len];
+    Assert.assertEquals(len, is.read(res));
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(len, res));
+    is.close();
+  }
+
+  @Test
+  public void cancelTest() throws IOException {
+    int fileId = sTfs.createFile(new TachyonURI(TestUtils.uniqPath()));
+    TachyonFile file = sTfs.getFile(fileId);
+    RemoteBlockOutStream os = new RemoteBlockOutStream(file, WriteType.MUST_CACHE, 0,
+        mTachyonConf);
+    os.write(TestUtils.getIncreasingByteArray(100));
+    os.cancel();
+    Assert.assertFalse(os.canWrite());
+
+    // The canceled block releases its space and can be written again
+    os = new RemoteBlockOutStream(file, WriteType.MUST_CACHE, 0, mTachyonConf);
+    os.write(TestUtils.getIncreasingByteArray(WORKER_CAPACITY_BYTES));
+    os.close();
+    sTfs.completeFile(fileId);
+    assertCached(fileId, WORKER_CAPACITY_BYTES);
+    sTfs.delete(fileId, false);
+  }
+
+  @Test
+  public void outOfSpaceTest() throws IOException {
+    int fileId = sTfs.createFile(new TachyonURI(TestUtils.uniqPath()));
+    RemoteBlockOutStream os = new RemoteBlockOutStream(sTfs.getFile(fileId),
+        WriteType.MUST_CACHE, 0, mTachyonConf);
+    try {
+      // Writes are streamed, the failure may only be known when all the data is acknowledged
+      os.write(TestUtils.getIncreasingByteArray(WORKER_CAPACITY_BYTES + 1));
+      os.close();
+      Assert.fail("Writing more than the capacity of the worker should fail");
+    } catch (IOException e) {
+      Assert.assertFalse(os.canWrite());
+    }
+    os.cancel();
+  }
+
+  @Test
+  public void frameTooLongTest() throws IOException {
+    // The data server rejects write requests longer than its maximum
+    mTachyonConf.set(Constants.USER_FILE_BUFFER_BYTES, Integer.toString(16 * Constants.MB));
+    int fileId = sTfs.createFile(new TachyonURI(TestUtils.uniqPath()));
+    RemoteBlockOutStream os = new RemoteBlockOutStream(sTfs.getFile(fileId),
+        WriteType.MUST_CACHE, 0, mTachyonConf);
+    try {
+      os.write(new byte[16 * Constants.MB]);
+      os.close();
+      Assert.fail("Writing a request longer than the maximum of the data server should fail");
+    } catch (IOException e) {
+      Assert.assertFalse(os.canWrite());
+    }
+    os.cancel();
+  }
+
+  @Test
+  public void writeTest() throws IOException {
+    int len = 1000;
+    byte[] data = TestUtils.getIncreasingByteArray(len);
+    int fileId = sTfs.createFile(new TachyonURI(TestUtils.uniqPath()));
+    RemoteBlockOutStream os = new RemoteBlockOutStream(sTfs.getFile(fileId),
+        WriteType.MUST_CACHE, 0, mTachyonConf);
+    // Mix single bytes, writes smaller than the buffer and writes larger than the buffer
+    int pos = 0;
+    while (pos < len) {
+      os.write(data[pos ++]);
+      int chunk = Math.min(len - pos, (pos % 3 == 0) ? BUFFER_BYTES * 2 : BUFFER_BYTES / 2);
+      os.write(data, pos, chunk);
+      pos += chunk;
+    }
+    Assert.assertEquals(Constants.GB - len, os.getRemainingSpaceByte());
+    os.close();
+    sTfs.completeFile(fileId);
+    assertCached(fileId, len);
+    sTfs.delete(fileId, false);
+  }
+}
@@ -16,7 +16,12 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -30,6 +35,7 @@ import tachyon.TestUtils;
 import tachyon.client.table.RawTable;
 import tachyon.conf.TachyonConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.ClientWorkerInfo;
 import tachyon.util.CommonUtils;
@@ -88,6 +94,33 @@ public class TachyonFSTest {
     }
   }
 
+  @Test
+  public void batchTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    List<TachyonURI> uris = new ArrayList<TachyonURI>();
+    for (int k = 0; k < 4; k ++) {
+      uris.add(new TachyonURI(uniqPath + k));
+    }
+    List<Integer> fileIds = sTfs.createFiles(uris, Constants.KB, true);
+    List<ClientFileInfo> infos = sTfs.getFileStatus(uris);
+    for (int k = 0; k < uris.size(); k ++) {
+      Assert.assertEquals((int) fileIds.get(k), infos.get(k).getId());
+      Assert.assertEquals(uris.get(k).getPath(), infos.get(k).getPath());
+    }
+
+    List<List<ClientBlockInfo>> blocks = sTfs.getFileBlocks(fileIds);
+    Assert.assertEquals(uris.size(), blocks.size());
+    for (int k = 0; k < uris.size(); k ++) {
+      Assert.assertEquals(sTfs.getFileBlocks(fileIds.get(k)), blocks.get(k));
+    }
+
+    List<Boolean> deleted = sTfs.delete(uris, false);
+    for (int k = 0; k < uris.size(); k ++) {
+      Assert.assertTrue(deleted.get(k));
+      Assert.assertNull(sTfs.getFileStatus(uris.subList(k, k + 1)).get(0));
+    }
+  }
+
   @Test(expected = IOException.class)
   public void createFileWithFileAlreadyExistExceptionTest() throws IOException {
     TachyonURI uri = new TachyonURI(TestUtils.uniqPath());
@@ -226,6 +259,37 @@ public class TachyonFSTest {
     Assert.assertTrue(fileInfo.getPath().equals(uniqPath));
   }
 
+  @Test
+  public void getFileStatusConcurrentTest() throws Exception {
+    final String uniqPath = TestUtils.uniqPath();
+    final int files = 10;
+    for (int k = 0; k < files; k ++) {
+      sTfs.createFile(new TachyonURI(uniqPath + k));
+    }
+
+    // Threads sharing the client issue their RPCs over several connections
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Void>> results = new ArrayList<Future<Void>>();
+    for (int t = 0; t < threads; t ++) {
+      results.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          for (int k = 0; k < files; k ++) {
+            TachyonURI uri = new TachyonURI(uniqPath + k);
+            Assert.assertEquals(uri.getPath(), sTfs.getFileStatus(-1, uri).getPath());
+            Assert.assertNotNull(sTfs.getFile(uri));
+          }
+          return null;
+        }
+      }));
+    }
+    for (Future<Void> result : results) {
+      result.get();
+    }
+    executor.shutdown();
+  }
+
   @Test
   public void getFileStatusCacheTest() throws IOException {
     String uniqPath = TestUtils.uniqPath();
@@ -16,6 +16,14 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -200,6 +208,85 @@ public class TachyonFileTest {
     }
   }
 
+  /**
+   * Test <code>int read(long position, byte[] b, int off, int len)</code> from several threads at
+   * once, with ranges spanning several blocks.
+   */
+  @Test
+  public void readPositionTest() throws Exception {
+    final int blockSize = 30;
+    final int len = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (WriteType op : new WriteType[] {WriteType.MUST_CACHE, WriteType.THROUGH}) {
+        final TachyonFile file = mTfs.getFile(
+            TestUtils.createByteFile(mTfs, "/root/testFile_" + op, op, len, blockSize));
+        List<Future<Void>> reads = new ArrayList<Future<Void>>();
+        for (int k = 0; k < 4; k ++) {
+          final Random random = new Random(k);
+          reads.add(executor.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws IOException {
+              for (int i = 0; i < 20; i ++) {
+                int position = random.nextInt(len);
+                int readLen = random.nextInt(len) + 1;
+                byte[] buf = new byte[readLen];
+                int expected = Math.min(readLen, len - position);
+                Assert.assertEquals(expected, file.read(position, buf, 0, readLen));
+                Assert.assertTrue(TestUtils.equalIncreasingByteArray(position, expected, buf));
+              }
+              return null;
+            }
+          }));
+        }
+        for (Future<Void> read : reads) {
+          read.get();
+        }
+        Assert.assertEquals(-1, file.read(len, new byte[1], 0, 1));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Test <code>List&lt;ByteBuffer&gt; readRanges(long[] offsets, int[] lengths)</code> on cached
+   * blocks, read locally and from the data server, and on blocks only in the under file system.
+   */
+  @Test
+  public void readRangesTest() throws IOException {
+    int blockSize = 30;
+    int len = 200;
+    // Unsorted, overlapping and empty ranges, within a block and across blocks
+    long[] offsets = new long[] {150, 0, 5, 25, 100, 70, 199, 40};
+    int[] lengths = new int[] {50, 10, 3, 40, 0, 20, 1, 2};
+    for (WriteType op : new WriteType[] {WriteType.MUST_CACHE, WriteType.THROUGH}) {
+      TachyonFile file = mTfs.getFile(
+          TestUtils.createByteFile(mTfs, "/root/testFile_" + op, op, len, blockSize));
+      for (int mergeGap : new int[] {0, blockSize}) {
+        TachyonConf conf = new TachyonConf(mLocalTachyonCluster.getMasterTachyonConf());
+        conf.set(Constants.USER_FILE_READ_RANGES_MERGE_GAP_BYTE, Integer.toString(mergeGap));
+        for (boolean readLocal : new boolean[] {true, false}) {
+          List<ByteBuffer> buffers =
+              new FileRangesReader(file, conf, readLocal).read(offsets, lengths);
+          Assert.assertEquals(offsets.length, buffers.size());
+          for (int k = 0; k < offsets.length; k ++) {
+            Assert.assertEquals(lengths[k], buffers.get(k).remaining());
+            Assert.assertTrue(TestUtils.equalIncreasingByteArray((int) offsets[k], lengths[k],
+                buffers.get(k).array()));
+          }
+        }
+      }
+      Assert.assertEquals(3, file.readRanges(new long[] {1}, new int[] {3}).get(0).remaining());
+      try {
+        file.readRanges(new long[] {len - 1}, new int[] {2});
+        Assert.fail("Reading past the end of the file should fail");
+      } catch (IOException e) {
+        // Expected
+      }
+    }
+  }
+
   @Test
   public void readRemoteTest() throws IOException {
     int fileId =
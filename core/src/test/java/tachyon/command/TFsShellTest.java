@@ -719,4 +719,19 @@ public class TFsShellTest {
     Assert.assertNotNull(tFile);
     Assert.assertEquals(tFile.getGroup(), "group1");
   }
+
+  @Test
+  public void loadufsTest() throws IOException {
+    File testDir = new File(mLocalTachyonCluster.getTachyonHome() + "/ufsDir");
+    testDir.mkdir();
+    File testFile = generateFileContent("/ufsDir/testFile", TestUtils.getIncreasingByteArray(10));
+    Assert.assertEquals(0,
+        mFsShell.loadufs(new String[] {"loadufs", "/loaded", testDir.getAbsolutePath()}));
+    Assert.assertTrue(mOutput.toString().startsWith("Loaded 1 files"));
+    TachyonFile tFile = mTfs.getFile(new TachyonURI("/loaded/testFile"));
+    Assert.assertNotNull(tFile);
+    Assert.assertEquals(10, tFile.length());
+    Assert.assertEquals(testFile.getAbsolutePath(),
+        mTfs.getFileStatus(-1, new TachyonURI("/loaded/testFile")).getUfsPath());
+  }
 }
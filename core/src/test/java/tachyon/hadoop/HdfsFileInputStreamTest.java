@@ -14,6 +14,7 @@
  */
 package tachyon.hadoop;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.Arrays;
 
@@ -163,6 +164,32 @@ public class HdfsFileInputStreamTest {
     Assert.assertEquals(-1, length);
   }
 
+  /**
+   * Test <code>void readFully(long position, byte[] buffer, int offset, int length)</code>.
+   */
+  @Test
+  public void readFullyTest() throws IOException {
+    for (HdfsFileInputStream is : new HdfsFileInputStream[] {mInMemInputStream, mUfsInputStream}) {
+      byte[] buf = new byte[FILE_LEN];
+      is.readFully(10, buf, 5, FILE_LEN - 10);
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(10, FILE_LEN - 10,
+          Arrays.copyOfRange(buf, 5, FILE_LEN - 5)));
+      Assert.assertEquals(0, is.getPos());
+
+      buf = new byte[20];
+      is.readFully(FILE_LEN - 20, buf);
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(FILE_LEN - 20, 20, buf));
+
+      EOFException exception = null;
+      try {
+        is.readFully(FILE_LEN - 10, buf);
+      } catch (EOFException e) {
+        exception = e;
+      }
+      Assert.assertNotNull(exception);
+    }
+  }
+
   @Test
   public void seekTest() throws IOException {
     mInMemInputStream.seek(0);
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Unit tests for tachyon.master.BlockReport.
+ */
+public class BlockReportTest {
+  private static final long MEM_DIR_ID = 1;
+  private static final long SSD_DIR_ID = 1L << 20;
+
+  private static List<Long> fileBlockIds(int fileId, int blocks) {
+    List<Long> blockIds = new ArrayList<Long>(blocks);
+    for (int k = blocks - 1; k >= 0; k --) {
+      blockIds.add(BlockInfo.computeBlockId(fileId, k));
+    }
+    return blockIds;
+  }
+
+  @Test
+  public void encodeTest() throws IOException {
+    List<Long> removedBlockIds = fileBlockIds(7, 100);
+    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>();
+    addedBlockIds.put(MEM_DIR_ID, fileBlockIds(3, 1000));
+    addedBlockIds.put(SSD_DIR_ID, fileBlockIds(Integer.MAX_VALUE, 10));
+    addedBlockIds.put(SSD_DIR_ID + 1, new ArrayList<Long>());
+    BlockReport report = new BlockReport(true, removedBlockIds, addedBlockIds);
+
+    ByteBuffer encoded = report.encode();
+    BlockReport decoded = BlockReport.decode(encoded);
+    Assert.assertTrue(decoded.isFull());
+    Assert.assertEquals(report.getRemovedBlockIds(), decoded.getRemovedBlockIds());
+    Assert.assertEquals(report.getAddedBlockIds(), decoded.getAddedBlockIds());
+    Assert.assertEquals(2, decoded.getAddedBlockIds().size());
+    Assert.assertEquals(BlockInfo.computeBlockId(3, 0),
+        (long) decoded.getAddedBlockIds().get(MEM_DIR_ID).get(0));
+    // The blocks of a file take one byte each instead of eight
+    Assert.assertTrue(encoded.remaining() < 2 * 1110);
+
+    BlockReport empty =
+        BlockReport.decode(new BlockReport(false, new ArrayList<Long>(),
+            new HashMap<Long, List<Long>>()).encode());
+    Assert.assertFalse(empty.isFull());
+    Assert.assertTrue(empty.isEmpty());
+  }
+
+  @Test
+  public void malformedTest() {
+    byte[] encoded = new BlockReport(false, fileBlockIds(1, 10),
+        new HashMap<Long, List<Long>>()).encode().array();
+    for (int length = 0; length < encoded.length; length ++) {
+      try {
+        BlockReport.decode(ByteBuffer.wrap(encoded, 0, length));
+        Assert.fail("Decoded a report truncated to " + length + " bytes");
+      } catch (IOException e) {
+        // expected
+      }
+    }
+    byte[] tooLong = new byte[encoded.length + 1];
+    System.arraycopy(encoded, 0, tooLong, 0, encoded.length);
+    try {
+      BlockReport.decode(ByteBuffer.wrap(tooLong));
+      Assert.fail("Decoded a report followed by extra bytes");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void removedBlockIdsTest() {
+    long kept = BlockInfo.computeBlockId(1, 0);
+    long removed = BlockInfo.computeBlockId(1, 1);
+    long stale = BlockInfo.computeBlockId(2, 0);
+    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>();
+    addedBlockIds.put(MEM_DIR_ID, Lists.newArrayList(kept));
+
+    BlockReport delta = new BlockReport(false, Lists.newArrayList(removed), addedBlockIds);
+    Assert.assertEquals(Lists.newArrayList(removed),
+        delta.getRemovedBlockIds(Sets.newHashSet(kept, removed, stale)));
+
+    BlockReport full = new BlockReport(true, Lists.newArrayList(removed), addedBlockIds);
+    Assert.assertEquals(Lists.newArrayList(removed, stale),
+        full.getRemovedBlockIds(Sets.newHashSet(kept, removed, stale)));
+  }
+}
@@ -24,7 +24,6 @@ import java.util.List;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -73,7 +72,6 @@ public class DependencyTest {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     DataOutputStream dos = new DataOutputStream(os);
     ObjectMapper mapper = JsonObject.createObjectMapper();
-    ObjectWriter writer = mapper.writer();
 
     String cmd = "java test.jar $master:$port";
     List<Integer> parents = new ArrayList<Integer>();
@@ -85,7 +83,7 @@ public class DependencyTest {
             DependencyType.Narrow, parentDependencies, 0L, mMasterTachyonConf);
 
     // write the image
-    dep.writeImage(writer, dos);
+    dep.writeImage(JournalFormat.JSON, dos);
 
     // decode the written bytes
     ImageElement decoded = mapper.readValue(os.toByteArray(), ImageElement.class);
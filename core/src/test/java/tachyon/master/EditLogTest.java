@@ -0,0 +1,154 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.conf.TachyonConf;
+import tachyon.master.permission.Acl;
+import tachyon.master.permission.AclUtil;
+
+/**
+ * Unit tests for EditLog, in particular the group commit mode.
+ */
+public class EditLogTest {
+  private static final int THREADS = 8;
+  private static final int OPS_PER_THREAD = 200;
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonObject.createObjectMapper();
+
+  private String mEditLogPath;
+  private Acl mAcl;
+
+  @Before
+  public final void before() throws IOException {
+    String folder =
+        File.createTempFile("Tachyon", "").getAbsoluteFile() + "U" + System.currentTimeMillis();
+    new File(folder).mkdirs();
+    mEditLogPath = folder + "/log.data";
+    mAcl = AclUtil.getAcl("user", "group", (short) 0644);
+  }
+
+  private EditLog createEditLog(boolean groupCommit, int maxBatchSize, int maxWaitMs)
+      throws IOException {
+    TachyonConf tachyonConf = new TachyonConf();
+    tachyonConf.set(Constants.MASTER_JOURNAL_GROUP_COMMIT_ENABLED, Boolean.toString(groupCommit));
+    tachyonConf.set(Constants.MASTER_JOURNAL_GROUP_COMMIT_MAX_BATCH_SIZE,
+        Integer.toString(maxBatchSize));
+    tachyonConf.set(Constants.MASTER_JOURNAL_GROUP_COMMIT_MAX_WAIT_MS,
+        Integer.toString(maxWaitMs));
+    return new EditLog(mEditLogPath, false, 0, tachyonConf);
+  }
+
+  private List<EditLogOperation> readOperations() throws IOException {
+    List<EditLogOperation> ret = new ArrayList<EditLogOperation>();
+    BufferedReader reader = new BufferedReader(new FileReader(mEditLogPath));
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        ret.add(OBJECT_MAPPER.readValue(line, EditLogOperation.class));
+      }
+    } finally {
+      reader.close();
+    }
+    return ret;
+  }
+
+  private void logConcurrently(final EditLog editLog) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>(THREADS);
+      for (int i = 0; i < THREADS; i ++) {
+        final int threadId = i;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            for (int k = 0; k < OPS_PER_THREAD; k ++) {
+              TachyonURI path = new TachyonURI("/thread" + threadId + "/file" + k);
+              long transactionId = editLog.createFile(true, path, false, 64, k, mAcl,
+                  Lists.newArrayList(k + 1));
+              editLog.flush(transactionId);
+              Assert.assertTrue(editLog.getTransactionIds().getSecond() >= transactionId);
+            }
+            return null;
+          }
+        }));
+      }
+      // Rethrows the assertion errors of the workers
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void groupCommitTest() throws Exception {
+    EditLog editLog = createEditLog(true, 16, 1);
+    logConcurrently(editLog);
+    Assert.assertEquals(THREADS * OPS_PER_THREAD, editLog.getTransactionIds().getFirst()
+        .longValue());
+    Assert.assertEquals(THREADS * OPS_PER_THREAD, editLog.getTransactionIds().getSecond()
+        .longValue());
+    editLog.close();
+
+    List<EditLogOperation> ops = readOperations();
+    Assert.assertEquals(THREADS * OPS_PER_THREAD, ops.size());
+    for (int k = 0; k < ops.size(); k ++) {
+      Assert.assertEquals(EditLogOperationType.CREATE_FILE, ops.get(k).mType);
+      Assert.assertEquals(k + 1, ops.get(k).mTransId);
+    }
+  }
+
+  @Test
+  public void groupCommitCloseSyncsPendingBatchTest() throws Exception {
+    EditLog editLog = createEditLog(true, Integer.MAX_VALUE, 60 * Constants.SECOND_MS);
+    for (int k = 0; k < 10; k ++) {
+      editLog.delete(k, false, k);
+    }
+    // Nobody waited for these operations, closing must still make them durable.
+    editLog.close();
+    Assert.assertEquals(10, readOperations().size());
+  }
+
+  @Test
+  public void withoutGroupCommitTest() throws Exception {
+    EditLog editLog = createEditLog(false, 16, 1);
+    logConcurrently(editLog);
+    editLog.flush();
+    editLog.close();
+    Assert.assertEquals(THREADS * OPS_PER_THREAD, readOperations().size());
+  }
+}
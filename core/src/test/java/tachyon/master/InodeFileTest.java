@@ -21,12 +21,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.junit.Assert;
-import org.junit.Before;
 import org.junit.Test;
 
-import tachyon.conf.TachyonConf;
 import tachyon.StorageDirId;
 import tachyon.StorageLevelAlias;
 import tachyon.master.permission.Acl;
@@ -39,13 +36,6 @@ import tachyon.thrift.SuspectedFileSizeException;
  * Unit tests for tachyon.InodeFile
  */
 public class InodeFileTest {
-  private TachyonConf mTachyonConf;
-
-  @Before
-  public void before() {
-    mTachyonConf = new TachyonConf();
-  }
-
   // Tests for Inode methods
   @Test
   public void comparableTest() {
@@ -80,12 +70,12 @@ public class InodeFileTest {
     testAddresses.add(new NetAddress("testhost3", 3000, 3001));
     inodeFile.addBlock(new BlockInfo(inodeFile, 0, 5));
     inodeFile.addLocation(0, 1, testAddresses.get(0), storageDirId);
-    Assert.assertEquals(1, inodeFile.getBlockLocations(0, mTachyonConf).size());
+    Assert.assertEquals(1, inodeFile.getBlockLocations(0).size());
     inodeFile.addLocation(0, 2, testAddresses.get(1), storageDirId);
-    Assert.assertEquals(2, inodeFile.getBlockLocations(0, mTachyonConf).size());
+    Assert.assertEquals(2, inodeFile.getBlockLocations(0).size());
     inodeFile.addLocation(0, 3, testAddresses.get(2), storageDirId);
-    Assert.assertEquals(3, inodeFile.getBlockLocations(0, mTachyonConf).size());
-    Assert.assertEquals(testAddresses, inodeFile.getBlockLocations(0, mTachyonConf));
+    Assert.assertEquals(3, inodeFile.getBlockLocations(0).size());
+    Assert.assertEquals(testAddresses, inodeFile.getBlockLocations(0));
   }
 
   @Test(expected = BlockInfoException.class)
@@ -240,7 +230,7 @@ public class InodeFileTest {
     InodeFile inode1 = new InodeFile("test1", 1, 0, 1000, System.currentTimeMillis());
     Assert.assertEquals(0, inode1.getBlockIds().size());
     // cant get a block that is missing
-    inode1.getClientBlockInfo(0, mTachyonConf);
+    inode1.getClientBlockInfo(0);
   }
 
   @Test(expected = BlockInfoException.class)
@@ -248,14 +238,14 @@ public class InodeFileTest {
     InodeFile inode1 = new InodeFile("test1", 1, 0, 1000, System.currentTimeMillis());
     Assert.assertEquals(0, inode1.getBlockIds().size());
     // cant get a block that is missing
-    inode1.getClientBlockInfo(1, mTachyonConf);
+    inode1.getClientBlockInfo(1);
   }
 
   @Test(expected = BlockInfoException.class)
   public void negativeBlockGetBlock() throws BlockInfoException {
     InodeFile inode1 = new InodeFile("test1", 1, 0, 1000, System.currentTimeMillis());
     // cant get a block that is missing
-    inode1.getClientBlockInfo(-1, mTachyonConf);
+    inode1.getClientBlockInfo(-1);
   }
 
   @Test
@@ -266,10 +256,9 @@ public class InodeFileTest {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     DataOutputStream dos = new DataOutputStream(os);
     ObjectMapper mapper = JsonObject.createObjectMapper();
-    ObjectWriter writer = mapper.writer();
 
     // write the image
-    inode1.writeImage(writer, dos);
+    inode1.writeImage(JournalFormat.JSON, dos);
 
     // decode the element
     ImageElement decoded = null;
@@ -28,7 +28,6 @@ import tachyon.master.permission.AclUtil;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * Unit tests for tachyon.InodeFolder
@@ -165,10 +164,9 @@ public class InodeFolderTest {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     DataOutputStream dos = new DataOutputStream(os);
     ObjectMapper mapper = JsonObject.createObjectMapper();
-    ObjectWriter writer = mapper.writer();
 
     // write the image
-    inode1.writeImage(writer, dos);
+    inode1.writeImage(JournalFormat.JSON, dos);
 
     // decode the written bytes
     ImageElement decoded = mapper.readValue(os.toByteArray(), ImageElement.class);
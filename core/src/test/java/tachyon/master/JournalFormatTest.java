@@ -0,0 +1,214 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.io.Files;
+
+import tachyon.conf.TachyonConf;
+import tachyon.io.Utils;
+
+/**
+ * Unit tests for the journal formats and {@link JournalReader}.
+ */
+public class JournalFormatTest {
+  private static final long BIG_TIME_MS = 1409349750338L;
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  private EditLogOperation createOperation(long transId) {
+    return new EditLogOperation(EditLogOperationType.CREATE_FILE, transId)
+        .withParameter("recursive", true).withParameter("path", "/a/bé")
+        .withParameter("directory", false).withParameter("blockSizeByte", 64L * 1024 * 1024 * 1024)
+        .withParameter("creationTimeMs", BIG_TIME_MS).withParameter("owner", null)
+        .withParameter("permission", (short) 0755).withParameter("inodeIds", Arrays.asList(2, 3));
+  }
+
+  private void checkOperation(long transId, EditLogOperation op) {
+    Assert.assertEquals(EditLogOperationType.CREATE_FILE, op.mType);
+    Assert.assertEquals(transId, op.mTransId);
+    Assert.assertTrue(op.getBoolean("recursive"));
+    Assert.assertEquals("/a/bé", op.getString("path"));
+    Assert.assertFalse(op.getBoolean("directory"));
+    Assert.assertEquals(64L * 1024 * 1024 * 1024, op.getLong("blockSizeByte").longValue());
+    Assert.assertEquals(BIG_TIME_MS, op.getLong("creationTimeMs").longValue());
+    Assert.assertNull(op.getString("owner"));
+    Assert.assertEquals((short) 0755, op.getShort("permission").shortValue());
+    Assert.assertEquals(Arrays.asList(2, 3),
+        op.get("inodeIds", new TypeReference<List<Integer>>() {}));
+  }
+
+  private byte[] writeOperations(JournalFormat format, int count) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(os);
+    format.writeHeader(dos);
+    for (int k = 1; k <= count; k ++) {
+      format.writeOperation(dos, createOperation(k));
+    }
+    dos.flush();
+    return os.toByteArray();
+  }
+
+  private int readOperations(byte[] bytes, JournalFormat expectedFormat) throws IOException {
+    JournalReader reader = JournalReader.create(new ByteArrayInputStream(bytes));
+    Assert.assertEquals(expectedFormat, reader.getFormat());
+    int count = 0;
+    EditLogOperation op;
+    while ((op = reader.readOperation()) != null) {
+      count ++;
+      checkOperation(count, op);
+    }
+    reader.close();
+    return count;
+  }
+
+  @Test
+  public void operationRoundTripTest() throws IOException {
+    for (JournalFormat format : JournalFormat.values()) {
+      Assert.assertEquals(10, readOperations(writeOperations(format, 10), format));
+    }
+  }
+
+  @Test
+  public void binaryIsSmallerTest() throws IOException {
+    Assert.assertTrue(writeOperations(JournalFormat.BINARY, 100).length * 2 < writeOperations(
+        JournalFormat.JSON, 100).length);
+  }
+
+  @Test
+  public void elementRoundTripTest() throws IOException {
+    for (JournalFormat format : JournalFormat.values()) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      DataOutputStream dos = new DataOutputStream(os);
+      format.writeHeader(dos);
+      new InodeFolder("folder", 5, 1, BIG_TIME_MS).writeImage(format, dos);
+      new InodeFile("file", 6, 5, 1000, BIG_TIME_MS).writeImage(format, dos);
+      dos.flush();
+
+      JournalReader reader = JournalReader.create(new ByteArrayInputStream(os.toByteArray()));
+      ImageElement folder = reader.readElement();
+      Assert.assertEquals(ImageElementType.InodeFolder, folder.mType);
+      Assert.assertEquals("folder", folder.getString("name"));
+      Assert.assertEquals(5, folder.getInt("id").intValue());
+      Assert.assertEquals(BIG_TIME_MS, folder.getLong("creationTimeMs").longValue());
+      ImageElement file = reader.readElement();
+      Assert.assertEquals(ImageElementType.InodeFile, file.mType);
+      Assert.assertEquals(1000, file.getLong("blockSizeByte").longValue());
+      Assert.assertEquals(5, file.getInt("parentId").intValue());
+      Assert.assertNull(reader.readElement());
+      reader.close();
+    }
+  }
+
+  @Test
+  public void binaryDataTest() throws IOException {
+    ByteBuffer metadata = ByteBuffer.wrap(new byte[] {0, 1, -1, 42});
+    EditLogOperation op = new EditLogOperation(EditLogOperationType.CREATE_RAW_TABLE, 1)
+        .withParameter("tableId", 7).withParameter("columns", 3)
+        .withParameter("metadata", Utils.byteBufferToBase64(metadata));
+    // Binary to binary, then binary to JSON, as the converter does
+    byte[] bytes = writeOperation(JournalFormat.BINARY, op);
+    bytes = writeOperation(JournalFormat.BINARY, readOperation(bytes));
+    bytes = writeOperation(JournalFormat.JSON, readOperation(bytes));
+
+    EditLogOperation read = readOperation(bytes);
+    Assert.assertEquals(EditLogOperationType.CREATE_RAW_TABLE, read.mType);
+    Assert.assertEquals(7, read.getInt("tableId").intValue());
+    Assert.assertEquals(3, read.getInt("columns").intValue());
+    Assert.assertEquals(metadata, read.getByteBuffer("metadata"));
+  }
+
+  private byte[] writeOperation(JournalFormat format, EditLogOperation op) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    DataOutputStream dos = new DataOutputStream(os);
+    format.writeHeader(dos);
+    format.writeOperation(dos, op);
+    dos.flush();
+    return os.toByteArray();
+  }
+
+  private EditLogOperation readOperation(byte[] bytes) throws IOException {
+    JournalReader reader = JournalReader.create(new ByteArrayInputStream(bytes));
+    EditLogOperation op = reader.readOperation();
+    Assert.assertNull(reader.readOperation());
+    reader.close();
+    return op;
+  }
+
+  @Test(expected = IOException.class)
+  public void missingParameterTest() throws IOException {
+    writeOperation(JournalFormat.BINARY, new EditLogOperation(EditLogOperationType.DELETE, 1)
+        .withParameter("fileId", 1).withParameter("opTimeMs", BIG_TIME_MS));
+  }
+
+  @Test
+  public void emptyFileTest() throws IOException {
+    for (JournalFormat format : JournalFormat.values()) {
+      Assert.assertEquals(0, readOperations(writeOperations(format, 0), format));
+    }
+  }
+
+  @Test
+  public void tornTailTest() throws IOException {
+    byte[] bytes = writeOperations(JournalFormat.BINARY, 3);
+    // Drop the last bytes of the last record, as if the master died while writing it.
+    Assert.assertEquals(2, readOperations(Arrays.copyOf(bytes, bytes.length - 3),
+        JournalFormat.BINARY));
+  }
+
+  @Test(expected = IOException.class)
+  public void corruptedRecordTest() throws IOException {
+    byte[] bytes = writeOperations(JournalFormat.BINARY, 3);
+    bytes[bytes.length - 10] ^= 0x5A;
+    readOperations(bytes, JournalFormat.BINARY);
+  }
+
+  @Test
+  public void convertTest() throws IOException {
+    File src = mFolder.newFolder("src");
+    File dst = mFolder.newFolder("dst");
+    FileOutputStream os = new FileOutputStream(new File(src, "log.data"));
+    os.write(writeOperations(JournalFormat.JSON, 5));
+    os.close();
+    new File(src, "completed").mkdir();
+    os = new FileOutputStream(new File(src, "completed/0.editLog"));
+    os.write(writeOperations(JournalFormat.JSON, 7));
+    os.close();
+
+    Assert.assertEquals(2, JournalConverter.convert(src.getAbsolutePath(),
+        dst.getAbsolutePath(), JournalFormat.BINARY, new TachyonConf()));
+    Assert.assertEquals(5, readOperations(Files.toByteArray(new File(dst, "log.data")),
+        JournalFormat.BINARY));
+    Assert.assertEquals(7, readOperations(Files.toByteArray(new File(dst, "completed/0.editLog")),
+        JournalFormat.BINARY));
+  }
+}
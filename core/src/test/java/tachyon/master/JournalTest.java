@@ -17,6 +17,7 @@ package tachyon.master;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -472,7 +473,7 @@ public class JournalTest {
     log.setMaxLogSize(100);
     for (int i = 0; i < 124; i ++) {
       log.createFile(false, new TachyonURI("/sth" + i), false, Constants.DEFAULT_BLOCK_SIZE_BYTE,
-          System.currentTimeMillis(), AclUtil.getAcl(InodeType.FILE));
+          System.currentTimeMillis(), AclUtil.getAcl(InodeType.FILE), new ArrayList<Integer>());
       log.flush();
     }
     log.close();
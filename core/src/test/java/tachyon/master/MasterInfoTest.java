@@ -21,7 +21,12 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -29,7 +34,7 @@ import java.util.concurrent.Future;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.collect.Lists;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -37,6 +42,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import tachyon.Constants;
+import tachyon.StorageDirId;
+import tachyon.StorageLevelAlias;
 import tachyon.TachyonURI;
 import tachyon.conf.TachyonConf;
 import tachyon.master.Inode.InodeType;
@@ -44,13 +51,19 @@ import tachyon.master.permission.AclUtil;
 import tachyon.security.UserGroup;
 import tachyon.thrift.AccessControlException;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientFileInfo;
+import tachyon.thrift.Command;
+import tachyon.thrift.CommandType;
 import tachyon.thrift.FileAlreadyExistException;
 import tachyon.thrift.FileDoesNotExistException;
 import tachyon.thrift.InvalidPathException;
+import tachyon.thrift.NetAddress;
 import tachyon.thrift.SuspectedFileSizeException;
 import tachyon.thrift.TableColumnException;
 import tachyon.thrift.TachyonException;
+import tachyon.util.CommonUtils;
+import tachyon.util.NetworkUtils;
 
 /**
  * Unit tests for tachyon.MasterInfo
@@ -284,6 +297,202 @@ public class MasterInfoTest {
     mloginUser = UserGroup.getTachyonLoginUser();
   }
 
+  @Test
+  public void batchCreateAndDeleteTest() throws Exception {
+    List<TachyonURI> paths = new ArrayList<TachyonURI>();
+    for (int k = 0; k < 5; k ++) {
+      paths.add(new TachyonURI("/batch/file" + k));
+    }
+    List<Integer> fileIds = mMasterInfo.createFiles(paths, Constants.KB, true);
+    Assert.assertEquals(paths.size(), fileIds.size());
+    for (int k = 0; k < paths.size(); k ++) {
+      Assert.assertEquals((int) fileIds.get(k), mMasterInfo.getFileId(paths.get(k)));
+    }
+
+    // The batch is journaled like single creations
+    String masterJournal = mMasterTachyonConf.get(Constants.MASTER_JOURNAL_FOLDER,
+        Constants.DEFAULT_JOURNAL_FOLDER);
+    Journal journal = new Journal(masterJournal, "image.data", "log.data", mMasterTachyonConf);
+    MasterInfo info = new MasterInfo(new InetSocketAddress(9999), journal, mExecutorService,
+        mMasterTachyonConf);
+    info.init();
+    for (int k = 0; k < paths.size(); k ++) {
+      Assert.assertEquals((int) fileIds.get(k), info.getFileId(paths.get(k)));
+    }
+
+    List<TachyonURI> toDelete = new ArrayList<TachyonURI>(paths.subList(0, 3));
+    toDelete.add(new TachyonURI("/batch/missing"));
+    Assert.assertEquals(Arrays.asList(true, true, true, true),
+        mMasterInfo.delete(toDelete, false));
+    for (int k = 0; k < paths.size(); k ++) {
+      Assert.assertEquals(k < 3, mMasterInfo.getFileId(paths.get(k)) == -1);
+    }
+  }
+
+  @Test
+  public void batchCreateCheckpointedTest() throws Exception {
+    List<TachyonURI> paths = Arrays.asList(new TachyonURI("/ufs/file0"),
+        new TachyonURI("/ufs/file1"));
+    List<TachyonURI> ufsPaths = Arrays.asList(new TachyonURI("/underfs/file0"),
+        new TachyonURI("/underfs/file1"));
+    List<Integer> fileIds = mMasterInfo.createCheckpointedFiles(paths, ufsPaths,
+        Arrays.asList(3L * Constants.KB, 0L), Arrays.asList(2L * Constants.KB, 1L * Constants.KB),
+        true);
+
+    String masterJournal = mMasterTachyonConf.get(Constants.MASTER_JOURNAL_FOLDER,
+        Constants.DEFAULT_JOURNAL_FOLDER);
+    Journal journal = new Journal(masterJournal, "image.data", "log.data", mMasterTachyonConf);
+    MasterInfo info = new MasterInfo(new InetSocketAddress(9999), journal, mExecutorService,
+        mMasterTachyonConf);
+    info.init();
+    for (MasterInfo master : Arrays.asList(mMasterInfo, info)) {
+      ClientFileInfo file0 = master.getClientFileInfo(fileIds.get(0));
+      Assert.assertEquals("/underfs/file0", file0.getUfsPath());
+      Assert.assertEquals(3 * Constants.KB, file0.getLength());
+      Assert.assertEquals(2 * Constants.KB, file0.getBlockSizeByte());
+      Assert.assertTrue(file0.isIsComplete());
+      Assert.assertEquals(2, master.getFileBlocks(fileIds.get(0)).size());
+      ClientFileInfo file1 = master.getClientFileInfo(paths.get(1));
+      Assert.assertEquals("/underfs/file1", file1.getUfsPath());
+      Assert.assertTrue(file1.isIsComplete());
+    }
+  }
+
+  @Test(expected = FileAlreadyExistException.class)
+  public void batchCreateStopsAtFailureTest() throws Exception {
+    mMasterInfo.createFile(new TachyonURI("/file1"), Constants.KB);
+    List<TachyonURI> paths = Arrays.asList(new TachyonURI("/file0"), new TachyonURI("/file1"),
+        new TachyonURI("/file2"));
+    try {
+      mMasterInfo.createFiles(paths, Constants.KB, true);
+    } finally {
+      Assert.assertTrue(mMasterInfo.getFileId(new TachyonURI("/file0")) != -1);
+      Assert.assertEquals(-1, mMasterInfo.getFileId(new TachyonURI("/file2")));
+    }
+  }
+
+  @Test
+  public void batchGetInfoTest() throws Exception {
+    int fileId = mMasterInfo.createFile(new TachyonURI("/testFile"), Constants.KB);
+    mMasterInfo.mkdirs(new TachyonURI("/testFolder"), true);
+    List<ClientFileInfo> infos = mMasterInfo.getClientFileInfos(Arrays.asList(
+        new TachyonURI("/testFile"), new TachyonURI("/missing"), new TachyonURI("/testFolder")));
+    Assert.assertEquals(3, infos.size());
+    Assert.assertEquals(fileId, infos.get(0).getId());
+    Assert.assertEquals(-1, infos.get(1).getId());
+    Assert.assertTrue(infos.get(2).isIsFolder());
+
+    int fileId2 = mMasterInfo.createFile(new TachyonURI("/testFile2"), Constants.KB);
+    mMasterInfo.createNewBlock(fileId2);
+    List<List<ClientBlockInfo>> blocks = mMasterInfo.getFileBlocks(Arrays.asList(fileId, fileId2));
+    Assert.assertEquals(mMasterInfo.getFileBlocks(fileId), blocks.get(0));
+    Assert.assertEquals(mMasterInfo.getFileBlocks(fileId2), blocks.get(1));
+  }
+
+  @Test
+  public void ufsBlockLocationsTest() throws Exception {
+    int fileId = mMasterInfo.createFile(new TachyonURI("/testFile"), Constants.KB);
+    String ufsPath = mLocalTachyonCluster.getTachyonHome() + "/testFile";
+    mMasterInfo.addCheckpoint(-1, fileId, 2 * Constants.KB, new TachyonURI(ufsPath));
+
+    // The blocks no worker has get the locations of the checkpoint
+    String host = NetworkUtils.resolveHostName(NetworkUtils.getLocalHostName());
+    List<ClientBlockInfo> blocks = mMasterInfo.getFileBlocks(fileId);
+    Assert.assertEquals(2, blocks.size());
+    for (ClientBlockInfo block : blocks) {
+      Assert.assertEquals(1, block.getLocationsSize());
+      Assert.assertEquals(host, block.getLocations().get(0).getMHost());
+      Assert.assertEquals(-1, block.getLocations().get(0).getMPort());
+    }
+    long blockId = blocks.get(1).getBlockId();
+    Assert.assertEquals(blocks.get(1), mMasterInfo.getClientBlockInfo(blockId));
+    Assert.assertEquals(blocks,
+        mMasterInfo.getFileBlocks(Arrays.asList(fileId, fileId)).get(1));
+
+    // The locations of a worker replace the ones of the checkpoint
+    long workerId = mMasterInfo.getWorkersInfo().get(0).getId();
+    long storageDirId = StorageDirId.getStorageDirId(0, StorageLevelAlias.MEM.getValue(), 0);
+    mMasterInfo.cacheBlock(workerId, 0, storageDirId, blockId, Constants.KB);
+    ClientBlockInfo cached = mMasterInfo.getClientBlockInfo(blockId);
+    Assert.assertEquals(1, cached.getLocationsSize());
+    Assert.assertTrue(cached.getLocations().get(0).getMPort() > 0);
+  }
+
+  @Test
+  public void blockReportTest() throws Exception {
+    long storageDirId = StorageDirId.getStorageDirId(0, StorageLevelAlias.MEM.getValue(), 0);
+    List<Long> usedBytesOnTiers =
+        new ArrayList<Long>(Collections.nCopies(StorageLevelAlias.SIZE, 0L));
+    // A worker reported only by the test, so the full reports of the cluster worker do not count
+    long workerId = mMasterInfo.registerWorker(new NetAddress("testhost", 1000, 1001),
+        Collections.nCopies(StorageLevelAlias.SIZE, (long) Constants.GB), usedBytesOnTiers,
+        new HashMap<Long, List<Long>>());
+    int fileId = mMasterInfo.createFile(new TachyonURI("/testFile"), Constants.KB);
+    long blockId = mMasterInfo.createNewBlock(fileId);
+    mMasterInfo.cacheBlock(workerId, 0, storageDirId, blockId, Constants.KB);
+    Assert.assertEquals(1, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+
+    // A block removed in a heartbeat and cached again right after keeps its location.
+    mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, new BlockReport(false,
+        Lists.newArrayList(blockId), new HashMap<Long, List<Long>>()));
+    mMasterInfo.cacheBlock(workerId, 0, storageDirId, blockId, Constants.KB);
+    Assert.assertEquals(1, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+
+    mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, new BlockReport(false,
+        Lists.newArrayList(blockId), new HashMap<Long, List<Long>>()));
+    CommonUtils.sleepMs(null, 100);
+    Assert.assertEquals(0, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+
+    Map<Long, List<Long>> addedBlockIds = new HashMap<Long, List<Long>>();
+    addedBlockIds.put(storageDirId, Lists.newArrayList(blockId));
+    mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers,
+        new BlockReport(false, new ArrayList<Long>(), addedBlockIds));
+    CommonUtils.sleepMs(null, 100);
+    Assert.assertEquals(1, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+
+    // A full report drops the locations of the blocks it does not list, even if their removal
+    // was never reported.
+    long otherBlockId = mMasterInfo.createNewBlock(fileId);
+    mMasterInfo.cacheBlock(workerId, 0, storageDirId, otherBlockId, Constants.KB);
+    Assert.assertEquals(1, mMasterInfo.getClientBlockInfo(otherBlockId).getLocationsSize());
+    mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers,
+        new BlockReport(true, new ArrayList<Long>(), addedBlockIds));
+    CommonUtils.sleepMs(null, 100);
+    Assert.assertEquals(1, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+    Assert.assertEquals(0, mMasterInfo.getClientBlockInfo(otherBlockId).getLocationsSize());
+
+    // An empty full report drops all the locations of the worker
+    mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers,
+        new BlockReport(true, new ArrayList<Long>(), new HashMap<Long, List<Long>>()));
+    CommonUtils.sleepMs(null, 100);
+    Assert.assertEquals(0, mMasterInfo.getClientBlockInfo(blockId).getLocationsSize());
+  }
+
+  @Test
+  public void checkpointCommandTest() throws Exception {
+    long workerId = mMasterInfo.getWorkersInfo().get(0).getId();
+    List<Long> usedBytesOnTiers =
+        new ArrayList<Long>(Collections.nCopies(StorageLevelAlias.SIZE, 0L));
+    int fileId = mMasterInfo.createFile(new TachyonURI("/child"), Constants.KB);
+    int depId = mMasterInfo.createDependency(new ArrayList<TachyonURI>(),
+        Lists.newArrayList(new TachyonURI("/child")), "fake command", new ArrayList<ByteBuffer>(),
+        "", "", "", DependencyType.Narrow);
+
+    // The priority dependencies are sent once, then again when they change
+    BlockReport emptyReport =
+        new BlockReport(false, new ArrayList<Long>(), new HashMap<Long, List<Long>>());
+    Command command = mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, emptyReport);
+    Assert.assertEquals(CommandType.Checkpoint, command.getMCommandType());
+    Assert.assertEquals(Lists.newArrayList((long) depId), command.getMData());
+    command = mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, emptyReport);
+    Assert.assertEquals(CommandType.Nothing, command.getMCommandType());
+
+    mMasterInfo.addCheckpoint(-1, fileId, 1, new TachyonURI("/testPath"));
+    command = mMasterInfo.workerHeartbeat(workerId, usedBytesOnTiers, emptyReport);
+    Assert.assertEquals(CommandType.Checkpoint, command.getMCommandType());
+    Assert.assertEquals(0, command.getMDataSize());
+  }
+
   @Test
   public void clientFileInfoDirectoryTest() throws InvalidPathException, FileDoesNotExistException,
       FileAlreadyExistException, AccessControlException, TachyonException {
@@ -373,6 +582,53 @@ public class MasterInfoTest {
     Assert.assertEquals(numFiles, mMasterInfo.ls(ROOT_PATH2, true).size());
   }
 
+  @Test
+  public void concurrentCreateAndGetInfoTest() throws Exception {
+    // Creators race to fill in the same missing directories, while readers list the parent folder
+    final int threads = 8;
+    final int filesPerThread = 50;
+    final TachyonURI folder = ROOT_PATH.join("a").join("b");
+    ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+    ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>();
+    for (int i = 0; i < threads; i ++) {
+      final int threadId = i;
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          mLocalTachyonCluster.setAuthenticationUser(mloginUser);
+          for (int k = 0; k < filesPerThread; k ++) {
+            TachyonURI path = folder.join("file_" + threadId + "_" + k);
+            int fileId =
+                mMasterInfo.createFile(true, path, false, Constants.DEFAULT_BLOCK_SIZE_BYTE);
+            Assert.assertEquals(fileId, mMasterInfo.getClientFileInfo(path).getId());
+          }
+          return null;
+        }
+      }));
+      futures.add(executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          mLocalTachyonCluster.setAuthenticationUser(mloginUser);
+          for (int k = 0; k < filesPerThread; k ++) {
+            if (mMasterInfo.getClientFileInfo(folder).getId() != -1) {
+              for (ClientFileInfo info : mMasterInfo.getFilesInfo(folder)) {
+                Assert.assertFalse(info.isFolder);
+              }
+            }
+          }
+          return null;
+        }
+      }));
+    }
+    for (Future<Void> f : futures) {
+      f.get();
+    }
+    executor.shutdown();
+
+    Assert.assertEquals(threads * filesPerThread, mMasterInfo.getFilesInfo(folder).size());
+    Assert.assertEquals(threads * filesPerThread, mMasterInfo.listFiles(ROOT_PATH, true).size());
+  }
+
   @Test(expected = FileAlreadyExistException.class)
   public void createAlreadyExistFileTest() throws InvalidPathException, FileAlreadyExistException,
       BlockInfoException, AccessControlException, TachyonException {
@@ -575,7 +831,8 @@ public class MasterInfoTest {
     Assert.assertTrue(mMasterInfo.mkdirs(new TachyonURI("/testFolder"), true));
     long opTimeMs = System.currentTimeMillis();
     mMasterInfo._createFile(false, new TachyonURI("/testFolder/testFile"), false,
-        Constants.DEFAULT_BLOCK_SIZE_BYTE, opTimeMs, AclUtil.getAcl(InodeType.FILE));
+        Constants.DEFAULT_BLOCK_SIZE_BYTE, opTimeMs, AclUtil.getAcl(InodeType.FILE),
+        new ArrayList<Integer>());
     ClientFileInfo folderInfo = mMasterInfo.getClientFileInfo(new TachyonURI("/testFolder"));
     Assert.assertEquals(opTimeMs, folderInfo.lastModificationTimeMs);
   }
@@ -797,12 +1054,11 @@ public class MasterInfoTest {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     DataOutputStream dos = new DataOutputStream(os);
     ObjectMapper mapper = JsonObject.createObjectMapper();
-    ObjectWriter writer = mapper.writer();
     ImageElement version = null;
     ImageElement checkpoint = null;
 
     // write the image
-    info.writeImage(writer, dos);
+    info.writeImage(JournalFormat.JSON, dos);
 
     // parse the written bytes and look for the Checkpoint and Version ImageElements
     String[] splits = new String(os.toByteArray()).split("\n");
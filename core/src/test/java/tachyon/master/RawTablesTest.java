@@ -23,7 +23,6 @@ import java.util.List;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -45,7 +44,6 @@ public class RawTablesTest {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     DataOutputStream dos = new DataOutputStream(os);
     ObjectMapper mapper = JsonObject.createObjectMapper();
-    ObjectWriter writer = mapper.writer();
 
     // add elements to the RawTables
     rt.addRawTable(0, 1, bb1);
@@ -53,7 +51,7 @@ public class RawTablesTest {
     rt.addRawTable(2, 1, bb3);
 
     // write the image
-    rt.writeImage(writer, dos);
+    rt.writeImage(JournalFormat.JSON, dos);
 
     List<Integer> ids = Arrays.asList(0, 1, 2);
     List<Integer> columns = Arrays.asList(1, 1, 1);
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.RpcServerType;
+import tachyon.TachyonURI;
+import tachyon.TestUtils;
+import tachyon.client.TachyonFS;
+import tachyon.client.TachyonFile;
+import tachyon.client.TachyonByteBuffer;
+import tachyon.client.WriteType;
+import tachyon.security.UserGroup;
+import tachyon.security.authentication.AuthenticationFactory;
+
+/**
+ * Runs the master and the worker on the selector based thrift servers, which only serve NOSASL
+ * clients.
+ */
+public class SelectorRpcServerTest {
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private TachyonFS mTfs = null;
+
+  @After
+  public final void after() throws Exception {
+    if (mLocalTachyonCluster != null) {
+      mLocalTachyonCluster.stop();
+    }
+    System.clearProperty(Constants.MASTER_RPC_SERVER_TYPE);
+    System.clearProperty(Constants.WORKER_RPC_SERVER_TYPE);
+    System.clearProperty(Constants.TACHYON_SECURITY_AUTHENTICATION);
+    System.clearProperty(Constants.TACHYON_SECURITY_NOSASL_USER);
+  }
+
+  @Before
+  public final void before() {
+    System.setProperty(Constants.MASTER_RPC_SERVER_TYPE, RpcServerType.SELECTOR.toString());
+    System.setProperty(Constants.WORKER_RPC_SERVER_TYPE, RpcServerType.SELECTOR.toString());
+    System.setProperty(Constants.TACHYON_SECURITY_AUTHENTICATION,
+        AuthenticationFactory.AuthTypes.NOSASL.getAuthName());
+  }
+
+  private void startCluster(String noSaslUser) throws IOException {
+    if (noSaslUser != null) {
+      System.setProperty(Constants.TACHYON_SECURITY_NOSASL_USER, noSaslUser);
+    }
+    mLocalTachyonCluster = new LocalTachyonCluster(10000, 1000, Constants.GB);
+    mLocalTachyonCluster.start();
+    mTfs = mLocalTachyonCluster.getClient();
+  }
+
+  @Test
+  public void noSaslUserTest() throws IOException {
+    // Unauthenticated requests act as the configured user, not as the owner of the file system
+    startCluster("nosasl-test-user");
+    int fileId = mTfs.createFile(new TachyonURI("/file"));
+    Assert.assertEquals("nosasl-test-user", mTfs.getFileStatus(fileId, false).owner);
+  }
+
+  @Test
+  public void saslTest() throws IOException {
+    // The selector server cannot run the SASL handshake, the master uses the thread pool server
+    System.setProperty(Constants.TACHYON_SECURITY_AUTHENTICATION,
+        AuthenticationFactory.AuthTypes.SIMPLE.getAuthName());
+    startCluster("nosasl-test-user");
+    int fileId = mTfs.createFile(new TachyonURI("/file"));
+    Assert.assertEquals(UserGroup.getTachyonLoginUser().getShortUserName(),
+        mTfs.getFileStatus(fileId, false).owner);
+  }
+
+  @Test
+  public void unauthenticatedTest() throws IOException {
+    // Without a configured user, unauthenticated requests act as the owner of the file system
+    startCluster(null);
+    int fileId = mTfs.createFile(new TachyonURI("/file"));
+    Assert.assertEquals(UserGroup.getTachyonLoginUser().getShortUserName(),
+        mTfs.getFileStatus(fileId, false).owner);
+  }
+
+  @Test
+  public void writeAndReadTest() throws IOException {
+    String user = UserGroup.getTachyonLoginUser().getShortUserName();
+    startCluster(user);
+    int fileId = TestUtils.createByteFile(mTfs, "/file", WriteType.MUST_CACHE, 100);
+    TachyonFile file = mTfs.getFile(new TachyonURI("/file"));
+    Assert.assertEquals(fileId, mTfs.getFileId(new TachyonURI("/file")));
+    Assert.assertTrue(file.isInMemory());
+    Assert.assertEquals(user, mTfs.getFileStatus(fileId, false).owner);
+
+    TachyonByteBuffer buf = file.readByteBuffer(0);
+    try {
+      ByteBuffer data = buf.mData;
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(100), data);
+    } finally {
+      buf.close();
+    }
+    Assert.assertEquals(1, mTfs.listStatus(new TachyonURI("/")).size());
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.Arrays;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.TProcessorFactory;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.Constants;
+
+public class InstrumentedProcessorFactoryTest {
+  private static final int IDLE_MS = 200;
+
+  /** Waits before reading the request, like a persistent connection waiting for the next call */
+  private static final class IdleProtocol extends TProtocolDecorator {
+    IdleProtocol(TProtocol protocol) {
+      super(protocol);
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+      try {
+        Thread.sleep(IDLE_MS);
+      } catch (InterruptedException e) {
+        throw new TException(e);
+      }
+      return super.readMessageBegin();
+    }
+  }
+
+  private MetricsRegistry mRegistry;
+  private TProcessor mProcessor;
+
+  @Before
+  public final void before() {
+    mRegistry = new MetricsRegistry();
+    TProcessor processor = new TProcessor() {
+      @Override
+      public boolean process(TProtocol in, TProtocol out) throws TException {
+        in.readMessageBegin();
+        return true;
+      }
+    };
+    mProcessor = new InstrumentedProcessorFactory(new TProcessorFactory(processor),
+        Arrays.asList("known"), mRegistry).getProcessor(null);
+  }
+
+  private void call(String methodName) throws TException {
+    TMemoryBuffer buffer = new TMemoryBuffer(64);
+    new TBinaryProtocol(buffer).writeMessageBegin(new TMessage(methodName, TMessageType.CALL, 1));
+    mProcessor.process(new IdleProtocol(new TBinaryProtocol(buffer)), null);
+  }
+
+  @Test
+  public void idleTimeTest() throws TException {
+    call("known");
+    Histogram.Snapshot latency = mRegistry.histogram("rpc.known.latency.us").getSnapshot();
+    Assert.assertEquals(1, latency.getCount());
+    // The wait for the request is not part of the call
+    Assert.assertTrue(latency.getMax() < IDLE_MS * Constants.SECOND_MS);
+  }
+
+  @Test
+  public void unknownMethodTest() throws TException {
+    for (int k = 0; k < 10; k ++) {
+      call("unknown" + k);
+    }
+    Assert.assertEquals(10, mRegistry.histogram("rpc.unknown.latency.us").getSnapshot()
+        .getCount());
+    for (String name : mRegistry.getValues().keySet()) {
+      Assert.assertTrue(name, name.startsWith("rpc.known.") || name.startsWith("rpc.unknown."));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.TestUtils;
+import tachyon.client.TachyonFS;
+import tachyon.client.WriteType;
+import tachyon.master.LocalTachyonCluster;
+
+public class JmxReporterTest {
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private TachyonFS mTfs = null;
+
+  @After
+  public final void after() throws Exception {
+    mLocalTachyonCluster.stop();
+  }
+
+  @Before
+  public final void before() throws IOException {
+    mLocalTachyonCluster = new LocalTachyonCluster(Constants.MB, 1000, Constants.GB);
+    mLocalTachyonCluster.start();
+    mTfs = mLocalTachyonCluster.getClient();
+  }
+
+  @Test
+  public void masterRpcLatencyTest() throws IOException {
+    TestUtils.createByteFile(mTfs, "/file", WriteType.MUST_CACHE, 100);
+    MetricsRegistry metrics = mLocalTachyonCluster.getMasterInfo().getMetrics();
+    Number calls = metrics.getValues().get("rpc.user_createFile.latency.us.count");
+    Assert.assertNotNull(calls);
+    Assert.assertEquals(1L, calls.longValue());
+    Assert.assertEquals(1, metrics.getValues().get("workers").intValue());
+  }
+
+  @Test
+  public void startStopTest() throws Exception {
+    MetricsRegistry metrics = new MetricsRegistry();
+    metrics.counter("test.counter").inc(5);
+    JmxReporter reporter = new JmxReporter(metrics, "Test", "localhost:1");
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    reporter.start();
+    try {
+      Assert.assertEquals(5L, server.getAttribute(reporter.getName(), "test.counter"));
+    } finally {
+      reporter.stop();
+    }
+    Assert.assertFalse(server.isRegistered(reporter.getName()));
+  }
+
+  @Test
+  public void workerMetricsTest() throws Exception {
+    TestUtils.createByteFile(mTfs, "/file", WriteType.MUST_CACHE, 100);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    Set<ObjectName> names = server.queryNames(new ObjectName("tachyon:type=Worker,*"), null);
+    Assert.assertEquals(1, names.size());
+    ObjectName worker = names.iterator().next();
+    Assert.assertEquals(100L, server.getAttribute(worker, "tier.mem.written.bytes"));
+    Assert.assertEquals(1L, server.getAttribute(worker, "rpc.cacheBlock.latency.us.count"));
+  }
+}
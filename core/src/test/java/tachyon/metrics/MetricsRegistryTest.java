@@ -0,0 +1,107 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+  private MetricsRegistry mRegistry;
+
+  @Before
+  public final void before() {
+    mRegistry = new MetricsRegistry();
+  }
+
+  @Test
+  public void concurrentCounterTest() throws Exception {
+    final int threads = 8;
+    final int increments = 10000;
+    final Counter counter = mRegistry.counter("test.counter");
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int k = 0; k < threads; k ++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            for (int i = 0; i < increments; i ++) {
+              counter.inc();
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(threads * increments, counter.getCount());
+    Assert.assertSame(counter, mRegistry.counter("test.counter"));
+  }
+
+  @Test
+  public void histogramTest() {
+    Histogram histogram = mRegistry.histogram("test.latency.us");
+    for (int k = 1; k <= 1000; k ++) {
+      histogram.update(k);
+    }
+    histogram.update(-1);
+
+    Histogram.Snapshot snapshot = histogram.getSnapshot();
+    Assert.assertEquals(1001, snapshot.getCount());
+    Assert.assertEquals(1000, snapshot.getMax());
+    Assert.assertEquals(500500.0 / 1001, snapshot.getMean(), 0.001);
+    // Percentiles are exact up to the width of their power of two bucket
+    Assert.assertEquals(500, snapshot.getPercentile(0.5), 256);
+    Assert.assertEquals(990, snapshot.getPercentile(0.99), 512);
+    Assert.assertTrue(snapshot.getPercentile(0.99) <= 1000);
+    Assert.assertEquals(0, snapshot.getPercentile(0));
+    Assert.assertEquals(0, new Histogram().getSnapshot().getPercentile(0.5));
+  }
+
+  @Test
+  public void valuesTest() {
+    mRegistry.counter("a.counter").inc(3);
+    mRegistry.histogram("b.histogram").update(10);
+    mRegistry.register("c.gauge", new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return 7L;
+      }
+    });
+
+    Map<String, Number> values = mRegistry.getValues();
+    Assert.assertEquals(3L, values.get("a.counter"));
+    Assert.assertEquals(1L, values.get("b.histogram.count"));
+    Assert.assertEquals(10L, values.get("b.histogram.max"));
+    Assert.assertTrue(values.containsKey("b.histogram.p50"));
+    Assert.assertTrue(values.containsKey("b.histogram.p99"));
+    Assert.assertEquals(7L, values.get("c.gauge"));
+    Assert.assertEquals("a.counter", values.keySet().iterator().next());
+  }
+}
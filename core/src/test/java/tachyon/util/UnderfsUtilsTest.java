@@ -16,6 +16,9 @@ package tachyon.util;
 
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
 
@@ -33,6 +36,7 @@ import tachyon.UnderFileSystemCluster;
 import tachyon.client.TachyonFS;
 import tachyon.conf.TachyonConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.thrift.ClientFileInfo;
 
 /**
  * To test the utilities related to under filesystem, including loadufs and etc.
@@ -102,4 +106,83 @@ public class UnderfsUtilsTest {
       Assert.assertNotNull(paths);
     }
   }
+
+  @Test
+  public void loadLocalTreeTest() throws IOException {
+    String ufsRoot = createLocalTree();
+    TachyonConf conf = mLocalTachyonCluster.getMasterTachyonConf();
+    conf.set(Constants.USER_UFS_LOAD_BATCH_SIZE, "2");
+
+    UfsLoader.Report report = UfsUtils.loadUnderFs(mTfs, new TachyonURI("/loaded"),
+        new TachyonURI(ufsRoot), new PrefixList("excluded", ";"), null, conf);
+    Assert.assertEquals(4, report.getLoadedFiles());
+    Assert.assertEquals(0, report.getExistingFiles());
+    // The root, a, b, b/c and empty
+    Assert.assertEquals(5, report.getDirectories());
+
+    for (int k = 1; k <= 3; k ++) {
+      checkLoadedFile("/loaded/a/" + k, ufsRoot + "/a/" + k, k * 10);
+    }
+    checkLoadedFile("/loaded/b/c/4", ufsRoot + "/b/c/4", 40);
+    Assert.assertTrue(mTfs.getFileStatus(-1, new TachyonURI("/loaded/empty")).isIsFolder());
+    Assert.assertFalse(mTfs.exist(new TachyonURI("/loaded/excluded")));
+
+    // Loading again only finds existing files
+    report = UfsUtils.loadUnderFs(mTfs, new TachyonURI("/loaded"), new TachyonURI(ufsRoot),
+        new PrefixList("excluded", ";"), null, conf);
+    Assert.assertEquals(0, report.getLoadedFiles());
+    Assert.assertEquals(4, report.getExistingFiles());
+  }
+
+  @Test
+  public void resumeLoadTest() throws IOException {
+    String ufsRoot = createLocalTree();
+    TachyonConf conf = mLocalTachyonCluster.getMasterTachyonConf();
+
+    // A load interrupted after loading the directory a
+    String progressFile = mLocalTachyonCluster.getTachyonHome() + "/ufsload.progress";
+    FileWriter writer = new FileWriter(progressFile);
+    writer.write(ufsRoot + "/a\n");
+    writer.close();
+
+    UfsLoader.Report report = UfsUtils.loadUnderFs(mTfs, new TachyonURI("/loaded"),
+        new TachyonURI(ufsRoot), new PrefixList("excluded", ";"), progressFile, conf);
+    Assert.assertEquals(1, report.getSkippedDirectories());
+    Assert.assertEquals(1, report.getLoadedFiles());
+    Assert.assertFalse(mTfs.exist(new TachyonURI("/loaded/a/1")));
+    checkLoadedFile("/loaded/b/c/4", ufsRoot + "/b/c/4", 40);
+
+    // The whole tree is recorded as loaded now
+    report = UfsUtils.loadUnderFs(mTfs, new TachyonURI("/loaded"), new TachyonURI(ufsRoot),
+        new PrefixList("excluded", ";"), progressFile, conf);
+    Assert.assertEquals(1, report.getSkippedDirectories());
+    Assert.assertEquals(0, report.getDirectories());
+    Assert.assertEquals(0, report.getLoadedFiles());
+  }
+
+  private void checkLoadedFile(String path, String ufsPath, long length) throws IOException {
+    ClientFileInfo info = mTfs.getFileStatus(-1, new TachyonURI(path));
+    Assert.assertNotNull(path, info);
+    Assert.assertEquals(length, info.getLength());
+    Assert.assertEquals(ufsPath, info.getUfsPath());
+    Assert.assertTrue(info.isIsComplete());
+  }
+
+  /**
+   * Creates a local tree with the files a/1, a/2, a/3, b/c/4 and excluded/5, and the empty
+   * directory empty. The file a/k has 10 * k bytes.
+   */
+  private String createLocalTree() throws IOException {
+    String root = mLocalTachyonCluster.getTachyonHome() + "/ufsload";
+    String[] files = {"a/1", "a/2", "a/3", "b/c/4", "excluded/5"};
+    for (String name : files) {
+      File file = new File(root, name);
+      file.getParentFile().mkdirs();
+      FileOutputStream out = new FileOutputStream(file);
+      out.write(new byte[Integer.parseInt(file.getName()) * 10]);
+      out.close();
+    }
+    new File(root, "empty").mkdirs();
+    return root;
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.util.CommonUtils;
+
+public class CheckpointSchedulerTest {
+  private CheckpointScheduler mScheduler;
+
+  @Before
+  public final void before() {
+    mScheduler = new CheckpointScheduler();
+  }
+
+  @Test
+  public void orderTest() throws Exception {
+    mScheduler.setPriorityDependencies(Arrays.asList(2, 1));
+    mScheduler.add(10, 3, 100);
+    mScheduler.add(11, 1, 100);
+    mScheduler.add(12, 2, 500);
+    mScheduler.add(13, 2, 100);
+    mScheduler.add(14, 2, 100);
+    Assert.assertFalse(mScheduler.add(14, 2, 100));
+    Assert.assertEquals(5, mScheduler.size());
+
+    // Priority dependencies in order, then smaller files, then older files
+    Assert.assertEquals(13, mScheduler.take());
+    Assert.assertEquals(14, mScheduler.take());
+    Assert.assertEquals(12, mScheduler.take());
+    Assert.assertEquals(11, mScheduler.take());
+    Assert.assertEquals(10, mScheduler.take());
+    Assert.assertEquals(0, mScheduler.size());
+  }
+
+  @Test
+  public void reprioritizeTest() throws Exception {
+    mScheduler.add(10, 1, 100);
+    mScheduler.add(11, 2, 200);
+    mScheduler.add(12, 3, 300);
+
+    mScheduler.setPriorityDependencies(Arrays.asList(3));
+    Assert.assertEquals(Arrays.asList(3), mScheduler.getPriorityDependencies());
+    Assert.assertEquals(12, mScheduler.take());
+
+    mScheduler.setPriorityDependencies(Arrays.asList(2, 1));
+    Assert.assertEquals(11, mScheduler.take());
+    Assert.assertEquals(10, mScheduler.take());
+  }
+
+  @Test
+  public void takeWaitsTest() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> fileId = executor.submit(new Callable<Integer>() {
+        @Override
+        public Integer call() throws InterruptedException {
+          return mScheduler.take();
+        }
+      });
+      CommonUtils.sleepMs(null, 100);
+      Assert.assertFalse(fileId.isDone());
+
+      mScheduler.add(10, 1, 100);
+      Assert.assertEquals(10, fileId.get(5, TimeUnit.SECONDS).intValue());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+import tachyon.Constants;
+import tachyon.StorageLevelAlias;
+import tachyon.TestUtils;
+import tachyon.conf.TachyonConf;
+import tachyon.worker.hierarchy.StorageDir;
+import tachyon.worker.hierarchy.StorageTier;
+
+public class CheckpointWriterTest {
+  private static final long USER_ID = 1;
+  private static final int[] BLOCK_SIZES = {500, 300, 200};
+
+  private String mTachyonHome;
+  private StorageDir mDir;
+  private StorageDir[] mDirs;
+  private List<Long> mBlockIds;
+  private byte[] mExpected;
+  private ExecutorService mReadAheadExecutor;
+  private CheckpointWriter mWriter;
+
+  @After
+  public final void after() {
+    mReadAheadExecutor.shutdownNow();
+  }
+
+  @Before
+  public final void before() throws IOException {
+    mTachyonHome =
+        File.createTempFile("Tachyon", "").getAbsoluteFile() + "U" + System.currentTimeMillis();
+    StorageTier tier = new StorageTier(0, StorageLevelAlias.MEM,
+        new String[] {mTachyonHome + "/ramdisk"}, new long[] {Constants.MB}, "/data", "/user",
+        null, null, new TachyonConf());
+    tier.initialize();
+    mDir = tier.getStorageDirs()[0];
+    mDir.getUfs().mkdirs(mDir.getUserTempPath(USER_ID), true);
+
+    mDirs = new StorageDir[BLOCK_SIZES.length];
+    mBlockIds = Arrays.asList(100L, 101L, 102L);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    for (int k = 0; k < BLOCK_SIZES.length; k ++) {
+      byte[] data = TestUtils.getIncreasingByteArray(k, BLOCK_SIZES[k]);
+      createBlockFile(mBlockIds.get(k), data);
+      expected.write(data);
+      mDirs[k] = mDir;
+    }
+    mExpected = expected.toByteArray();
+
+    mReadAheadExecutor = Executors.newSingleThreadExecutor();
+    // Chunks smaller than the blocks, throttled at a rate which doesn't slow the test down
+    mWriter = new CheckpointWriter(128, mReadAheadExecutor, RateLimiter.create(Constants.GB));
+  }
+
+  private void createBlockFile(long blockId, byte[] data) throws IOException {
+    BlockHandler handler = BlockHandler.get(mDir.getUserTempFilePath(USER_ID, blockId));
+    mDir.requestSpace(USER_ID, data.length);
+    mDir.updateTempBlockAllocatedBytes(USER_ID, blockId, data.length);
+    try {
+      handler.append(0, ByteBuffer.wrap(data));
+    } finally {
+      handler.close();
+    }
+    mDir.cacheBlock(USER_ID, blockId);
+  }
+
+  @Test
+  public void streamedWriteTest() throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    Assert.assertEquals(mExpected.length, mWriter.write(mDirs, mBlockIds, os));
+    Assert.assertArrayEquals(mExpected, os.toByteArray());
+  }
+
+  @Test
+  public void transferWriteTest() throws IOException {
+    File checkpoint = new File(mTachyonHome, "checkpoint");
+    FileOutputStream os = new FileOutputStream(checkpoint);
+    try {
+      Assert.assertEquals(mExpected.length, mWriter.write(mDirs, mBlockIds, os));
+    } finally {
+      os.close();
+    }
+
+    byte[] data = new byte[(int) checkpoint.length()];
+    FileInputStream is = new FileInputStream(checkpoint);
+    try {
+      Assert.assertEquals(data.length, is.read(data));
+    } finally {
+      is.close();
+    }
+    Assert.assertArrayEquals(mExpected, data);
+  }
+
+  @Test
+  public void emptyFileTest() throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    Assert.assertEquals(0, mWriter.write(new StorageDir[0], Arrays.<Long>asList(), os));
+    Assert.assertEquals(0, os.size());
+  }
+}
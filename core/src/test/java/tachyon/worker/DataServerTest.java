@@ -32,7 +32,9 @@ import org.junit.runners.Parameterized;
 import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.TestUtils;
+import tachyon.client.RemoteBlockReader;
 import tachyon.client.TachyonFS;
+import tachyon.client.tcp.TCPRemoteBlockReader;
 import tachyon.client.WriteType;
 import tachyon.conf.TachyonConf;
 import tachyon.master.LocalTachyonCluster;
@@ -160,6 +162,97 @@ public class DataServerTest {
     Assert.assertEquals(0, fileInfo.inMemoryPercentage);
   }
 
+  @Test
+  public void pipelinedReadTest() throws IOException {
+    final int length = 20;
+    int fileId = TestUtils.createByteFile(mTFS, "/pipelinedReadTest", WriteType.MUST_CACHE, length);
+    ClientBlockInfo block = mTFS.getFileBlocks(fileId).get(0);
+    SocketChannel socketChannel =
+        SocketChannel.open(new InetSocketAddress(block.getLocations().get(0).mHost, block
+            .getLocations().get(0).mSecondaryPort));
+    try {
+      // Send all the requests before reading any response, the last one fails
+      long[][] requests = { {0, -1}, {2, 6}, {0, length * 2} };
+      for (int k = 0; k < requests.length; k ++) {
+        DataServerMessage sendMsg =
+            DataServerMessage.createPipelinedBlockRequestMessage(k + 10, block.blockId,
+                requests[k][0], requests[k][1]);
+        while (!sendMsg.finishSending()) {
+          sendMsg.send(socketChannel);
+        }
+      }
+      DataServerMessage recvMsg = receive(socketChannel, block);
+      Assert.assertEquals(10, recvMsg.getRequestId());
+      assertValid(recvMsg, length, block.getBlockId(), 0, length);
+      recvMsg = receive(socketChannel, block);
+      Assert.assertEquals(11, recvMsg.getRequestId());
+      assertValid(recvMsg, TestUtils.getIncreasingByteBuffer(2, 6), block.getBlockId(), 2, 6);
+      recvMsg = receive(socketChannel, block);
+      Assert.assertEquals(12, recvMsg.getRequestId());
+      assertError(recvMsg, block.blockId);
+
+      // The connection is still open after an error
+      DataServerMessage sendMsg =
+          DataServerMessage.createPipelinedBlockRequestMessage(13, block.blockId, 0, -1);
+      while (!sendMsg.finishSending()) {
+        sendMsg.send(socketChannel);
+      }
+      recvMsg = receive(socketChannel, block);
+      Assert.assertTrue(recvMsg.isPipelined());
+      Assert.assertEquals(13, recvMsg.getRequestId());
+      assertValid(recvMsg, length, block.getBlockId(), 0, length);
+    } finally {
+      socketChannel.close();
+    }
+  }
+
+  @Test
+  public void readRemoteBlocksTest() throws IOException {
+    final int length = 20;
+    int fileId = TestUtils.createByteFile(mTFS, "/readRemoteBlocksTest", WriteType.MUST_CACHE,
+        length);
+    ClientBlockInfo block = mTFS.getFileBlocks(fileId).get(0);
+    String host = block.getLocations().get(0).mHost;
+    int port = block.getLocations().get(0).mSecondaryPort;
+    TCPRemoteBlockReader reader = new TCPRemoteBlockReader(mWorkerTachyonConf);
+    for (int i = 0; i < 3; i ++) {
+      List<ByteBuffer> data = reader.readRemoteBlocks(host, port,
+          new long[] {block.blockId, block.blockId, block.blockId}, new long[] {0, 5, 0},
+          new long[] {-1, 10, length * 2});
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(length), data.get(0));
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(5, 10), data.get(1));
+      Assert.assertNull(data.get(2));
+    }
+    Assert.assertEquals(TestUtils.getIncreasingByteBuffer(3, 4),
+        reader.readRemoteBlock(host, port, block.blockId, 3, 4));
+  }
+
+  @Test
+  public void openRemoteBlockTest() throws IOException {
+    final int length = 20;
+    int fileId = TestUtils.createByteFile(mTFS, "/openRemoteBlockTest", WriteType.MUST_CACHE,
+        length);
+    ClientBlockInfo block = mTFS.getFileBlocks(fileId).get(0);
+    String host = block.getLocations().get(0).mHost;
+    int port = block.getLocations().get(0).mSecondaryPort;
+    mWorkerTachyonConf.set(Constants.USER_REMOTE_READ_CHUNK_SIZE_BYTE, "3");
+    TCPRemoteBlockReader reader = new TCPRemoteBlockReader(mWorkerTachyonConf);
+    for (int i = 0; i < 2; i ++) {
+      RemoteBlockReader.Stream stream = reader.openRemoteBlock(host, port, block.blockId, 2, 15);
+      byte[] data = new byte[15];
+      int pos = 0;
+      int bytesRead;
+      while ((bytesRead = stream.read(data, pos, data.length - pos)) != -1) {
+        // Each read returns at most one chunk
+        Assert.assertTrue(bytesRead > 0 && bytesRead <= 3);
+        pos += bytesRead;
+      }
+      stream.close();
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(2, 15), ByteBuffer.wrap(data));
+    }
+    Assert.assertNull(reader.openRemoteBlock(host, port, block.blockId, 0, length * 2));
+  }
+
   @Test
   public void readPartialTest1() throws InvalidPathException, FileAlreadyExistException,
       IOException {
@@ -237,6 +330,21 @@ public class DataServerTest {
     }
   }
 
+  /**
+   * Receive a block response from the given connection.
+   */
+  private DataServerMessage receive(final SocketChannel socketChannel, final ClientBlockInfo block)
+      throws IOException {
+    DataServerMessage recvMsg =
+        DataServerMessage.createBlockResponseMessage(false, block.blockId, null);
+    while (!recvMsg.isMessageReady()) {
+      if (recvMsg.recv(socketChannel) == -1) {
+        throw new IOException("Connection closed");
+      }
+    }
+    return recvMsg;
+  }
+
   @Test
   public void tooLargeOffset() throws IOException {
     final int length = 10;
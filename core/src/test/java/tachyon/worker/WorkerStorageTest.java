@@ -17,6 +17,7 @@ package tachyon.worker;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -127,6 +128,40 @@ public class WorkerStorageTest {
     Assert.assertEquals(fileLen, usedBytes);
   }
 
+  private long usedBytes(WorkerStorage ws) {
+    return ws.getMetrics().getValues().get("tier.mem.used.bytes").longValue();
+  }
+
+  /**
+   * To test that writes of remote users return the space they reserved when they fail.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void writeTempBlockTest() throws Exception {
+    mLocalTachyonCluster.stopWorker();
+    WorkerStorage ws = new WorkerStorage(mMasterAddress, mExecutorService,
+        mLocalTachyonCluster.getWorker().getTachyonConf());
+    try {
+      ws.initialize(mWorkerAddress);
+      long userId = 1;
+      long blockId = 2;
+      ws.writeTempBlock(userId, blockId, 0, ByteBuffer.wrap(TestUtils.getIncreasingByteArray(10)));
+      Assert.assertEquals(10, usedBytes(ws));
+      try {
+        ws.writeTempBlock(userId, blockId, 5,
+            ByteBuffer.wrap(TestUtils.getIncreasingByteArray(10)));
+        Assert.fail("A write which does not follow the written data should fail");
+      } catch (IOException e) {
+        Assert.assertEquals(10, usedBytes(ws));
+      }
+      ws.cancelBlock(userId, blockId);
+      Assert.assertEquals(0, usedBytes(ws));
+    } finally {
+      ws.stop();
+    }
+  }
+
   /**
    * To test swapout the small file which is bigger than 64K
    * 
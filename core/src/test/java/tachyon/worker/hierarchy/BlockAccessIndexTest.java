@@ -0,0 +1,173 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.worker.eviction.EvictStrategyType;
+
+public class BlockAccessIndexTest {
+
+  private List<Long> getOrder(BlockAccessIndex index) {
+    List<Long> order = new ArrayList<Long>();
+    Iterator<BlockAccessIndex.Entry> it = index.iterator();
+    while (it.hasNext()) {
+      order.add(it.next().getBlockId());
+    }
+    return order;
+  }
+
+  @Test
+  public void lruTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LRU, 2);
+    index.access(1, 100);
+    index.access(2, 100);
+    index.access(3, 50);
+    Assert.assertEquals(Arrays.asList(3L, 1L, 2L), getOrder(index));
+    index.access(1, 200);
+    Assert.assertEquals(Arrays.asList(3L, 2L, 1L), getOrder(index));
+    Assert.assertEquals(3, index.size());
+
+    index.remove(2);
+    index.remove(4);
+    Assert.assertFalse(index.contains(2));
+    Assert.assertEquals(Arrays.asList(3L, 1L), getOrder(index));
+  }
+
+  @Test
+  public void lfuTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LFU, 2);
+    index.access(1, 100);
+    index.access(1, 110);
+    index.access(1, 120);
+    index.access(2, 130);
+    index.access(3, 140);
+    index.access(2, 150);
+    Assert.assertEquals(Arrays.asList(3L, 2L, 1L), getOrder(index));
+    Assert.assertEquals(1, index.iterator().next().getPriority());
+  }
+
+  @Test
+  public void lruKTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LRU_K, 2);
+    index.access(1, 100);
+    index.access(1, 300);
+    index.access(2, 200);
+    index.access(2, 210);
+    index.access(3, 400);
+    // Block 3 has a single access, then block 1's second most recent access is the oldest
+    Assert.assertEquals(Arrays.asList(3L, 1L, 2L), getOrder(index));
+    index.access(3, 500);
+    Assert.assertEquals(Arrays.asList(1L, 2L, 3L), getOrder(index));
+  }
+
+  @Test
+  public void iteratorTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LRU, 2);
+    index.access(1, 100);
+    index.access(2, 200);
+    index.access(3, 300);
+    Iterator<BlockAccessIndex.Entry> it = index.iterator();
+    Assert.assertEquals(1, it.next().getBlockId());
+    // The iterator goes on after the last block it returned: a block accessed meanwhile comes again
+    // at its new place, and removed blocks or blocks now before the last one are not returned
+    index.access(1, 400);
+    index.remove(2);
+    index.access(4, 50);
+    Assert.assertEquals(3, it.next().getBlockId());
+    Assert.assertEquals(1, it.next().getBlockId());
+    Assert.assertFalse(it.hasNext());
+    Assert.assertEquals(Arrays.asList(4L, 3L, 1L), getOrder(index));
+  }
+
+  @Test
+  public void iteratorWhileAccessingTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LRU, 2);
+    for (long blockId = 0; blockId < 1000; blockId ++) {
+      index.access(blockId, blockId * 10);
+    }
+    Set<Long> untouched = new HashSet<Long>();
+    for (long blockId = 0; blockId < 1000; blockId ++) {
+      untouched.add(blockId);
+    }
+    Random random = new Random(0);
+    Iterator<BlockAccessIndex.Entry> it = index.iterator();
+    long lastPriority = Long.MIN_VALUE;
+    int step = 0;
+    while (it.hasNext()) {
+      BlockAccessIndex.Entry entry = it.next();
+      Assert.assertTrue(entry.getPriority() >= lastPriority);
+      lastPriority = entry.getPriority();
+      untouched.remove(entry.getBlockId());
+      long blockId = random.nextInt(1000);
+      untouched.remove(blockId);
+      if (random.nextBoolean()) {
+        index.remove(blockId);
+      } else {
+        index.access(blockId, 100000 + step);
+      }
+      step ++;
+    }
+    // Every block neither accessed nor removed during the iteration was returned
+    Assert.assertTrue(untouched.isEmpty());
+  }
+
+  @Test
+  public void randomOrderTest() {
+    BlockAccessIndex index = new BlockAccessIndex(EvictStrategyType.LRU, 2);
+    final Map<Long, Long> accessTimes = new HashMap<Long, Long>();
+    Random random = new Random(0);
+    for (int k = 0; k < 20000; k ++) {
+      long blockId = random.nextInt(500);
+      if (random.nextInt(4) == 0) {
+        index.remove(blockId);
+        accessTimes.remove(blockId);
+      } else {
+        // Distinct access times, so that the order does not depend on the ties
+        long accessTimeMs = random.nextInt(1000000) * 20000L + k;
+        index.access(blockId, accessTimeMs);
+        accessTimes.put(blockId, accessTimeMs);
+      }
+    }
+    List<Long> expected = new ArrayList<Long>(accessTimes.keySet());
+    Collections.sort(expected, new Comparator<Long>() {
+      @Override
+      public int compare(Long a, Long b) {
+        return accessTimes.get(a).compareTo(accessTimes.get(b));
+      }
+    });
+    Assert.assertEquals(accessTimes.size(), index.size());
+    Assert.assertEquals(expected, getOrder(index));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidKTest() {
+    new BlockAccessIndex(EvictStrategyType.LRU_K, 0);
+  }
+}
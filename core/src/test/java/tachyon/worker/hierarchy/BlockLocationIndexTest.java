@@ -0,0 +1,71 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.conf.TachyonConf;
+
+public class BlockLocationIndexTest {
+  @Test
+  public void locationTest() throws IOException {
+    String dirPath = File.createTempFile("Tachyon", "").getAbsolutePath() + "U";
+    TachyonConf tachyonConf = new TachyonConf();
+    BlockLocationIndex index = new BlockLocationIndex();
+    StorageDir[] dirs = new StorageDir[3];
+    for (int k = 0; k < dirs.length; k ++) {
+      dirs[k] = new StorageDir(k, dirPath + k, 1000, "/data", "/user", null, tachyonConf, index);
+    }
+
+    Map<Long, StorageDir> expected = new HashMap<Long, StorageDir>();
+    Random random = new Random(0);
+    for (int k = 0; k < 100000; k ++) {
+      long blockId = random.nextInt(5000);
+      StorageDir dir = dirs[random.nextInt(dirs.length)];
+      if (random.nextInt(3) == 0) {
+        // Removing from another StorageDir than the one holding the block keeps it
+        if (expected.get(blockId) == dir) {
+          expected.remove(blockId);
+        }
+        index.remove(blockId, dir);
+      } else {
+        expected.put(blockId, dir);
+        index.add(blockId, dir);
+      }
+    }
+    Assert.assertEquals(expected.size(), index.size());
+    for (long blockId = 0; blockId < 5000; blockId ++) {
+      Assert.assertSame(expected.get(blockId), index.get(blockId));
+    }
+    Map<Long, List<Long>> blockIds = index.getBlockIds();
+    int listed = 0;
+    for (Map.Entry<Long, List<Long>> entry : blockIds.entrySet()) {
+      for (long blockId : entry.getValue()) {
+        Assert.assertEquals(entry.getKey().longValue(), expected.get(blockId).getStorageDirId());
+        listed ++;
+      }
+    }
+    Assert.assertEquals(expected.size(), listed);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.master.BlockInfo;
+
+public class BlockMetadataTableTest {
+  private void checkAgainstMap(BlockMetadataTable table) {
+    Map<Long, Long> expected = new HashMap<Long, Long>();
+    Random random = new Random(0);
+    for (int k = 0; k < 100000; k ++) {
+      // Few files with many blocks collide a lot, which exercises probing and removals
+      long blockId = BlockInfo.computeBlockId(random.nextInt(500), random.nextInt(40));
+      if (random.nextInt(3) == 0) {
+        Long size = expected.remove(blockId);
+        Assert.assertEquals(size == null ? -1 : size, table.remove(blockId));
+      } else {
+        long size = random.nextInt(1000);
+        Long oldSize = expected.put(blockId, size);
+        Assert.assertEquals(oldSize == null ? -1 : oldSize, table.put(blockId, size, k));
+      }
+    }
+    Assert.assertEquals(expected.size(), table.size());
+    Assert.assertEquals(expected, table.getSizes());
+    for (int fileId = 0; fileId < 500; fileId ++) {
+      for (int index = 0; index < 40; index ++) {
+        long blockId = BlockInfo.computeBlockId(fileId, index);
+        Long size = expected.get(blockId);
+        Assert.assertEquals(size != null, table.contains(blockId));
+        Assert.assertEquals(size == null ? -1 : size, table.getSize(blockId));
+      }
+    }
+  }
+
+  @Test
+  public void addedTest() {
+    BlockMetadataTable table = new BlockMetadataTable(false);
+    Assert.assertFalse(table.markAdded(1));
+    table.put(1, 100, 0);
+    Assert.assertTrue(table.markAdded(1));
+    Assert.assertFalse(table.markAdded(1));
+    // Updating the block keeps the mark
+    table.put(1, 200, 1);
+    Assert.assertTrue(table.clearAdded(1));
+    Assert.assertFalse(table.clearAdded(1));
+
+    // Removing the block drops the mark
+    Assert.assertTrue(table.markAdded(1));
+    table.remove(1);
+    table.put(1, 100, 2);
+    Assert.assertFalse(table.clearAdded(1));
+  }
+
+  @Test
+  public void lockTest() {
+    BlockMetadataTable table = new BlockMetadataTable(false);
+    Assert.assertFalse(table.lock(1));
+    table.put(1, 100, 0);
+    table.put(2, 10, 0);
+    Assert.assertTrue(table.lock(1));
+    Assert.assertTrue(table.lock(1));
+    Assert.assertTrue(table.lock(2));
+    Assert.assertEquals(2, table.getLockCount(1));
+    Assert.assertEquals(110, table.getLockedBytes());
+
+    // Resizing a locked block updates the locked bytes
+    Assert.assertEquals(100, table.put(1, 200, 1));
+    Assert.assertEquals(210, table.getLockedBytes());
+
+    Assert.assertEquals(1, table.unlock(1));
+    Assert.assertEquals(210, table.getLockedBytes());
+    Assert.assertEquals(0, table.unlock(1));
+    Assert.assertEquals(-1, table.unlock(1));
+    Assert.assertEquals(10, table.getLockedBytes());
+    Assert.assertEquals(10, table.remove(2));
+    Assert.assertEquals(0, table.getLockedBytes());
+  }
+
+  @Test
+  public void offHeapTest() {
+    checkAgainstMap(new BlockMetadataTable(true));
+  }
+
+  @Test
+  public void onHeapTest() {
+    checkAgainstMap(new BlockMetadataTable(false));
+  }
+
+  @Test
+  public void removingTest() {
+    BlockMetadataTable table = new BlockMetadataTable(false);
+    table.put(1, 100, 5);
+    Assert.assertTrue(table.lock(1));
+    Assert.assertTrue(table.markRemoving(1));
+    Assert.assertFalse(table.markRemoving(1));
+
+    // A block being removed keeps its size and locks, but is not contained anymore
+    Assert.assertTrue(table.isRemoving(1));
+    Assert.assertFalse(table.contains(1));
+    Assert.assertFalse(table.access(1, 6));
+    Assert.assertFalse(table.lock(1));
+    Assert.assertEquals(100, table.getSize(1));
+    Assert.assertEquals(100, table.getLockedBytes());
+    Assert.assertTrue(table.getAccessTimesMs().isEmpty());
+    Assert.assertEquals(1, table.getSizes().size());
+
+    // Adding the block again cancels the removal
+    Assert.assertEquals(100, table.put(1, 100, 7));
+    Assert.assertTrue(table.contains(1));
+    Assert.assertEquals(Long.valueOf(7), table.getAccessTimesMs().get(1L));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package tachyon.worker.hierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongSlotTableTest {
+  private void randomOperations(LongSlotTable table) {
+    Map<Long, Long> expected = new HashMap<Long, Long>();
+    Random random = new Random(0);
+    for (int k = 0; k < 100000; k ++) {
+      long key = random.nextInt(5000) - 1000;
+      int slot = table.find(key);
+      if (random.nextInt(3) == 0) {
+        if (slot >= 0) {
+          table.remove(slot);
+        }
+        expected.remove(key);
+      } else {
+        if (slot < 0) {
+          slot = table.add(key);
+          Assert.assertEquals(LongSlotTable.OCCUPIED, table.get(slot, LongSlotTable.STATE));
+          Assert.assertEquals(0, table.get(slot, 2));
+        }
+        table.set(slot, 2, k);
+        expected.put(key, (long) k);
+      }
+    }
+    Assert.assertEquals(expected.size(), table.size());
+    Assert.assertTrue(table.size() * 4L <= table.capacity() * 3L);
+    for (long key = -1000; key < 4000; key ++) {
+      int slot = table.find(key);
+      if (expected.containsKey(key)) {
+        Assert.assertTrue(slot >= 0);
+        Assert.assertEquals(key, table.get(slot, LongSlotTable.KEY));
+        Assert.assertEquals(expected.get(key).longValue(), table.get(slot, 2));
+      } else {
+        Assert.assertTrue(slot < 0);
+        Assert.assertFalse(table.isOccupied(-(slot + 1)));
+      }
+    }
+  }
+
+  @Test
+  public void onHeapTest() {
+    randomOperations(new LongSlotTable(3, false));
+  }
+
+  @Test
+  public void offHeapTest() {
+    randomOperations(new LongSlotTable(3, true));
+  }
+
+  @Test
+  public void segmentTest() {
+    for (long key = -100; key < 100; key ++) {
+      int segment = LongSlotTable.segment(key);
+      Assert.assertTrue(segment >= 0 && segment < LongSlotTable.SEGMENTS);
+    }
+  }
+}
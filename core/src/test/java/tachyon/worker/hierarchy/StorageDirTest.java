@@ -17,6 +17,10 @@ package tachyon.worker.hierarchy;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -32,6 +36,7 @@ import tachyon.worker.BlockHandler;
 public class StorageDirTest {
   private StorageDir mSrcDir;
   private StorageDir mDstDir;
+  private BlockLocationIndex mBlockLocations;
   private static final long USER_ID = 1;
   private static final long CAPACITY = 1000;
 
@@ -41,15 +46,58 @@ public class StorageDirTest {
         File.createTempFile("Tachyon", "").getAbsoluteFile() + "U" + System.currentTimeMillis();
     String workerDirFolder = tachyonHome + "/ramdisk";
     TachyonConf tachyonConf = new TachyonConf();
+    mBlockLocations = new BlockLocationIndex();
     mSrcDir = new StorageDir(1, workerDirFolder + "/src", CAPACITY, "/data", "/user", null,
-        tachyonConf);
+        tachyonConf, mBlockLocations);
     mDstDir = new StorageDir(2, workerDirFolder + "/dst", CAPACITY, "/data", "/user", null,
-        tachyonConf);
+        tachyonConf, mBlockLocations);
 
     initializeStorageDir(mSrcDir, USER_ID);
     initializeStorageDir(mDstDir, USER_ID);
   }
 
+  @Test
+  public void blockLocationTest() throws Exception {
+    final long blockId = 100;
+    final int blockSize = 500;
+
+    createBlockFile(mSrcDir, blockId, blockSize);
+    Assert.assertSame(mSrcDir, mBlockLocations.get(blockId));
+
+    // Moving the block back and forth never hides it from the index
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Void> mover = executor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          for (int k = 0; k < 100; k ++) {
+            StorageDir src = (k % 2 == 0) ? mSrcDir : mDstDir;
+            StorageDir dst = (k % 2 == 0) ? mDstDir : mSrcDir;
+            Assert.assertTrue(dst.requestSpace(USER_ID, blockSize));
+            Assert.assertTrue(src.moveBlock(blockId, dst));
+            Assert.assertSame(dst, mBlockLocations.get(blockId));
+          }
+          return null;
+        }
+      });
+      while (!mover.isDone()) {
+        Assert.assertNotNull(mBlockLocations.get(blockId));
+      }
+      mover.get();
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertSame(mSrcDir, mBlockLocations.get(blockId));
+    Assert.assertEquals(1, mBlockLocations.size());
+
+    // A removed block leaves the index even while it is still locked
+    mSrcDir.lockBlock(blockId, USER_ID);
+    mSrcDir.deleteBlock(blockId);
+    Assert.assertNull(mBlockLocations.get(blockId));
+    mSrcDir.unlockBlock(blockId, USER_ID);
+    Assert.assertEquals(0, mBlockLocations.size());
+  }
+
   @Test
   public void cacheBlockCancelTest() throws  IOException {
     long blockId = 100;
@@ -114,6 +114,42 @@ public class StorageTierTest {
     dir.cacheBlock(USER_ID, blockId);
   }
 
+  @Test
+  public void evictToLowWatermarkTest() throws IOException, InterruptedException {
+    List<Long> removedBlockIds = new ArrayList<Long>();
+    StorageDir dir = mStorageTiers[0].getStorageDirs()[0];
+    for (long blockId = 1; blockId <= 4; blockId ++) {
+      createBlockFile(dir, blockId, 230);
+    }
+    Assert.assertFalse(mStorageTiers[0].isAboveHighWatermark());
+    Assert.assertEquals(0, mStorageTiers[0].getEvictionLagMs());
+
+    // Going above the high watermark wakes up the evictor without evicting inline.
+    Assert.assertEquals(dir, mStorageTiers[0].requestSpace(USER_ID, 40, new HashSet<Integer>(),
+        removedBlockIds));
+    Assert.assertTrue(mStorageTiers[0].isAboveHighWatermark());
+    // The async evictor is not enabled here, so no eviction lag is counted.
+    Assert.assertEquals(0, mStorageTiers[0].getEvictionLagMs());
+    long startMs = System.currentTimeMillis();
+    mStorageTiers[0].awaitEvictionNeeded(10 * Constants.SECOND_MS);
+    Assert.assertTrue(System.currentTimeMillis() - startMs < 10 * Constants.SECOND_MS);
+    Assert.assertEquals(0, mStorageTiers[0].getInlineEvictions());
+
+    Assert.assertEquals(230, mStorageTiers[0].evictToLowWatermark(new HashSet<Integer>(),
+        removedBlockIds));
+    Assert.assertFalse(mStorageTiers[0].isAboveHighWatermark());
+    Assert.assertEquals(0, mStorageTiers[0].getEvictionLagMs());
+    Assert.assertEquals(730, dir.getUsedBytes());
+    Assert.assertEquals(230, mStorageTiers[0].getEvictedBytes());
+    Assert.assertEquals(230, mStorageTiers[0].getMovedBytes());
+    Assert.assertEquals(230, mStorageTiers[1].getUsedBytes());
+    Assert.assertTrue(removedBlockIds.isEmpty());
+
+    // Nothing to evict under the high watermark.
+    Assert.assertEquals(0, mStorageTiers[0].evictToLowWatermark(new HashSet<Integer>(),
+        removedBlockIds));
+  }
+
   @Test
   public void getStorageDirTest() throws IOException {
     long blockId = 1;
@@ -169,5 +205,7 @@ public class StorageTierTest {
     request = mStorageTiers[0].requestSpace(dir, USER_ID, 500, new HashSet<Integer>(),
         removedBlockIds);
     Assert.assertEquals(false, request);
+    Assert.assertEquals(3, mStorageTiers[0].getInlineEvictions());
+    Assert.assertEquals(500, mStorageTiers[0].getMovedBytes());
   }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.hierarchy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.Pair;
+
+public class UserBlockTableTest {
+  @Test
+  public void addTest() {
+    UserBlockTable table = new UserBlockTable();
+    Assert.assertEquals(10, table.add(1, 2, 10));
+    Assert.assertEquals(15, table.add(1, 2, 5));
+    Assert.assertEquals(15, table.get(1, 2));
+    Assert.assertEquals(-1, table.get(2, 1));
+    Assert.assertFalse(table.putIfAbsent(1, 2, 0));
+    Assert.assertTrue(table.putIfAbsent(2, 1, 0));
+    Assert.assertEquals(2, table.size());
+  }
+
+  @Test
+  public void randomTest() {
+    UserBlockTable table = new UserBlockTable();
+    Map<Pair<Long, Long>, Long> expected = new HashMap<Pair<Long, Long>, Long>();
+    Random random = new Random(0);
+    for (int k = 0; k < 100000; k ++) {
+      long userId = random.nextInt(20);
+      long blockId = random.nextInt(500);
+      Pair<Long, Long> pair = new Pair<Long, Long>(userId, blockId);
+      if (random.nextInt(3) == 0) {
+        Long value = expected.remove(pair);
+        Assert.assertEquals(value == null ? -1 : value, table.remove(userId, blockId));
+      } else {
+        Long value = expected.get(pair);
+        long newValue = (value == null ? 0 : value) + k;
+        expected.put(pair, newValue);
+        Assert.assertEquals(newValue, table.add(userId, blockId, k));
+      }
+    }
+    Assert.assertEquals(expected.size(), table.size());
+    for (long userId = 0; userId < 20; userId ++) {
+      for (long blockId = 0; blockId < 500; blockId ++) {
+        Long value = expected.get(new Pair<Long, Long>(userId, blockId));
+        Assert.assertEquals(value != null, table.contains(userId, blockId));
+        Assert.assertEquals(value == null ? -1 : value, table.get(userId, blockId));
+      }
+    }
+  }
+
+  @Test
+  public void removeUserTest() {
+    UserBlockTable table = new UserBlockTable();
+    for (long blockId = 0; blockId < 100; blockId ++) {
+      table.putIfAbsent(1, blockId, 0);
+      table.putIfAbsent(2, blockId, 0);
+    }
+    long[] blockIds = table.removeUser(1);
+    Assert.assertEquals(100, blockIds.length);
+    Assert.assertEquals(100, table.size());
+    Assert.assertEquals(0, table.removeUser(1).length);
+    for (long blockId = 0; blockId < 100; blockId ++) {
+      Assert.assertFalse(table.contains(1, blockId));
+      Assert.assertTrue(table.contains(2, blockId));
+    }
+  }
+}
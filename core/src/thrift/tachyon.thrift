@@ -69,6 +69,7 @@ enum CommandType {
   Register = 2,   	// Ask the worker to re-register.
   Free = 3,		// Ask the worker to free files.
   Delete = 4,		// Ask the worker to delete files.
+  Checkpoint = 5,	// Tell the worker the dependencies to checkpoint first.
 }
 
 struct Command {
@@ -153,11 +154,10 @@ service MasterService {
   /**
    * Heart beat between worker and master, worker update used Tachyon space in bytes, removed
    * blocks and added blocks in each storage directory by eviction and promotion to master, and
-   * return the command from master to worker. addedBlockIds maps from id of storage directory
-   * to the blocks added in it.
+   * return the command from master to worker. blockReport is a tachyon.master.BlockReport
+   * encoded with varint deltas of the sorted block ids.
    */
-  Command worker_heartbeat(1: i64 workerId, 2: list<i64> usedBytesOnTiers, 3: list<i64> removedBlockIds,
-      4: map<i64, list<i64>> addedBlockIds)
+  Command worker_heartbeat(1: i64 workerId, 2: list<i64> usedBytesOnTiers, 3: binary blockReport)
     throws (1: BlockInfoException e)
 
   /**
@@ -231,6 +231,44 @@ service MasterService {
   bool user_delete(1: i32 fileId, 2: string path, 3: bool recursive)
     throws (1: TachyonException e, 2: AccessControlException eAC)
 
+  /**
+   * Get the status of several files under one namespace lock. The i-th element describes the
+   * i-th path, with id -1 if that path does not exist.
+   */
+  list<ClientFileInfo> getFileStatusBatch(1: list<string> paths)
+    throws (1: InvalidPathException eI, 2: AccessControlException eA)
+
+  /**
+   * Get the blocks of several files under one namespace lock, in the order of fileIds.
+   */
+  list<list<ClientBlockInfo>> user_getFileBlocksBatch(1: list<i32> fileIds)
+    throws (1: FileDoesNotExistException eF, 2: InvalidPathException eI)
+
+  /**
+   * Create several files under one namespace lock and one journal flush. Stops at the first
+   * failure, the files created before it are kept.
+   */
+  list<i32> user_createFileBatch(1: list<string> paths, 2: i64 blockSizeByte, 3: bool recursive)
+    throws (1: FileAlreadyExistException eR, 2: InvalidPathException eI, 3: BlockInfoException eB,
+      4: SuspectedFileSizeException eS, 5: TachyonException eT, 6: AccessControlException eAC)
+
+  /**
+   * Create several files which are already checkpointed in the under file system, under one
+   * namespace lock and one journal flush. The i-th file has the i-th ufs path, length and block
+   * size. Stops at the first failure, the files created before it are kept.
+   */
+  list<i32> user_createCheckpointedFileBatch(1: list<string> paths, 2: list<string> ufsPaths,
+      3: list<i64> lengths, 4: list<i64> blockSizeBytes, 5: bool recursive)
+    throws (1: FileAlreadyExistException eR, 2: InvalidPathException eI, 3: BlockInfoException eB,
+      4: SuspectedFileSizeException eS, 5: TachyonException eT, 6: AccessControlException eAC)
+
+  /**
+   * Delete several files with one journal flush. The i-th element tells whether the i-th path
+   * was deleted.
+   */
+  list<bool> user_deleteBatch(1: list<string> paths, 2: bool recursive)
+    throws (1: TachyonException e, 2: AccessControlException eAC)
+
   bool user_rename(1: i32 fileId, 2: string srcPath, 3: string dstPath)
     throws (1:FileAlreadyExistException eA, 2: FileDoesNotExistException eF,
       3: InvalidPathException eI, 4: AccessControlException eAC)
@@ -320,6 +358,13 @@ service WorkerService {
   string lockBlock(1: i64 blockId, 2: i64 userId)
     throws (1: FileDoesNotExistException eP)
 
+  /**
+   * Lock several blocks in one call, like lockBlock for each of them. The path of each block file
+   * locked is returned in the order of the blocks, with an empty string for a block whose file is
+   * not found.
+   */
+  list<string> lockBlocks(1: i64 userId, 2: list<i64> blockIds)
+
   /**
    * Used to promote block on under storage layer to top storage layer when there are more than one
    * storage layers in Tachyon's space. return true if the block is successfully promoted, false
@@ -352,6 +397,13 @@ service WorkerService {
    */
   bool unlockBlock(1: i64 blockId, 2: i64 userId)
 
+  /**
+   * Heartbeat of a user which reports its block accesses and unlocks in one call: updates the
+   * access time of the accessed blocks, unlocks the unlocked blocks for the user, and keeps the
+   * user's temporary folder like userHeartbeat.
+   */
+  void userBlockReport(1: i64 userId, 2: list<i64> accessedBlockIds, 3: list<i64> unlockedBlockIds)
+
   /**
    * Local user send heartbeat to local worker to keep its temporary folder.
    */